@@ -16,8 +16,6 @@
 
 package org.pipelineframework.csv.service;
 
-import java.io.Reader;
-import java.util.Iterator;
 import jakarta.enterprise.context.ApplicationScoped;
 
 import com.opencsv.bean.CsvToBeanBuilder;
@@ -27,7 +25,9 @@ import org.pipelineframework.blocking.CloseableIterator;
 import org.pipelineframework.csv.common.domain.CsvPaymentsStableIdSupport;
 import org.pipelineframework.csv.common.domain.FilePathAwareMappingStrategy;
 import org.pipelineframework.csv.domain.CsvPaymentsInputFile;
+import org.pipelineframework.opencsv.CsvSplitPlan;
 import org.pipelineframework.opencsv.OpenCsvInputBoundary;
+import org.pipelineframework.opencsv.ParallelCsvIterator;
 
 @ApplicationScoped
 public class ProcessCsvPaymentsInputService
@@ -35,28 +35,33 @@ public class ProcessCsvPaymentsInputService
 
   private static final Logger LOG = Logger.getLogger(ProcessCsvPaymentsInputService.class);
 
+  private static final long SPLIT_BYTES = 64L * 1024 * 1024;
+  private static final int SPLIT_BUFFER_ROWS = 1024;
+  private static final int PARSER_THREADS = Math.max(1, Runtime.getRuntime().availableProcessors());
+
   /**
    * Open a blocking iterator over the CSV records without materializing the full file in memory.
+   * Large files are parsed in record-aligned splits on parallel parser threads; rows keep file order.
    */
   @Override
   public CloseableIterator<org.pipelineframework.csv.common.domain.PaymentRecord> iterateBlocking(CsvPaymentsInputFile input) {
     try {
-        Reader reader = java.nio.file.Files.newBufferedReader(input.filepath(), java.nio.charset.StandardCharsets.UTF_8);
-        try {
-            Iterator<org.pipelineframework.csv.common.domain.PaymentRecord> delegate =
-                new CsvToBeanBuilder<org.pipelineframework.csv.common.domain.PaymentRecord>(reader)
-                    .withType(org.pipelineframework.csv.common.domain.PaymentRecord.class)
-                    .withMappingStrategy(mappingStrategy(input.filepath()))
-                    .withSeparator(',')
-                    .withIgnoreLeadingWhiteSpace(true)
-                    .withIgnoreEmptyLine(true)
-                    .build()
-                    .iterator();
-        return new OpenCsvPaymentRecordIterator(reader, delegate, input);
-        } catch (Exception e) {
-            reader.close();
-            throw e;
-        }
+        CsvSplitPlan plan = CsvSplitPlan.plan(
+            input.filepath(), java.nio.charset.StandardCharsets.UTF_8, SPLIT_BYTES, true, '"');
+        CloseableIterator<org.pipelineframework.csv.common.domain.PaymentRecord> delegate = new ParallelCsvIterator<>(
+            plan,
+            PARSER_THREADS,
+            SPLIT_BUFFER_ROWS,
+            ParallelCsvIterator.preservesOrder(getClass()),
+            (split, reader) -> new CsvToBeanBuilder<org.pipelineframework.csv.common.domain.PaymentRecord>(reader)
+                .withType(org.pipelineframework.csv.common.domain.PaymentRecord.class)
+                .withMappingStrategy(mappingStrategy(input.filepath()))
+                .withSeparator(',')
+                .withIgnoreLeadingWhiteSpace(true)
+                .withIgnoreEmptyLine(true)
+                .build()
+                .iterator());
+        return new OpenCsvPaymentRecordIterator(delegate, input);
     } catch (Exception e) {
         LOG.errorf(e, "CSV processing failed for file: %s", input.filepath());
         throw new RuntimeException("CSV processing error: " + e.getMessage(), e);
@@ -71,18 +76,15 @@ public class ProcessCsvPaymentsInputService
   }
 
   private static final class OpenCsvPaymentRecordIterator implements CloseableIterator<org.pipelineframework.csv.common.domain.PaymentRecord> {
-    private final Reader reader;
-    private final Iterator<org.pipelineframework.csv.common.domain.PaymentRecord> delegate;
+    private final CloseableIterator<org.pipelineframework.csv.common.domain.PaymentRecord> delegate;
     private final CsvPaymentsInputFile input;
     private long emitted;
     private boolean closed;
 
     private OpenCsvPaymentRecordIterator(
-        Reader reader,
-        Iterator<org.pipelineframework.csv.common.domain.PaymentRecord> delegate,
+        CloseableIterator<org.pipelineframework.csv.common.domain.PaymentRecord> delegate,
         CsvPaymentsInputFile input
     ) {
-        this.reader = reader;
         this.delegate = delegate;
         this.input = input;
     }
@@ -118,7 +120,7 @@ public class ProcessCsvPaymentsInputService
             return;
         }
         closed = true;
-        reader.close();
+        delegate.close();
         LOG.infof(
             "Closed CSV reader for: %s (iterated %d records)",
             input.filepath(),
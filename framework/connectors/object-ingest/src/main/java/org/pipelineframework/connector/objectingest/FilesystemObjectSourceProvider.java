@@ -3,24 +3,36 @@ package org.pipelineframework.connector.objectingest;
 import java.io.IOException;
 import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.LinkOption;
 import java.nio.file.Path;
 import java.nio.file.PathMatcher;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.PriorityQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ForkJoinPool;
-import java.util.stream.Stream;
 
 import org.pipelineframework.config.boundary.PipelineObjectSourceConfig;
 import org.pipelineframework.connector.MaterializedPayload;
@@ -33,7 +45,12 @@ import org.pipelineframework.repository.PayloadReference;
  */
 public class FilesystemObjectSourceProvider implements ObjectSourceProvider {
     private static final String LOCATOR_DIGEST_METADATA = "tpf.filesystem.locator.sha256";
+    private static final Duration DEFAULT_WATERMARK_GRACE = Duration.ofMinutes(1);
+    private static final Comparator<ListedFile> KEY_ORDER = Comparator.comparing(ListedFile::key);
+    private static final Comparator<ListedFile> WATERMARK_ORDER =
+        Comparator.comparingLong(ListedFile::lastModified).thenComparing(ListedFile::key);
     private final Executor executor;
+    private final ConcurrentMap<String, Watermark> watermarks = new ConcurrentHashMap<>();
 
     public FilesystemObjectSourceProvider() {
         this(ForkJoinPool.commonPool());
@@ -59,20 +76,97 @@ public class FilesystemObjectSourceProvider implements ObjectSourceProvider {
         if (!Files.isDirectory(listRoot)) {
             return List.of();
         }
-        try (Stream<Path> paths = Files.walk(listRoot)) {
-            return paths
-                .filter(Files::isRegularFile)
-                .map(root::relativize)
-                .map(Path::normalize)
-                .map(path -> path.toString().replace('\\', '/'))
-                .filter(key -> matches(source, key))
-                .sorted()
-                .limit(limit)
-                .map(key -> item(source, root, key))
-                .toList();
+        boolean incremental = incremental(source);
+        Optional<Watermark> watermark = incremental ? watermark(source) : Optional.empty();
+        long graceMs = incremental ? watermarkGrace(source).toMillis() : 0L;
+        Comparator<ListedFile> order = incremental ? WATERMARK_ORDER : KEY_ORDER;
+        KeyFilter filter = new KeyFilter(source);
+        PriorityQueue<ListedFile> selected = new PriorityQueue<>(order.reversed());
+        try {
+            Files.walkFileTree(listRoot, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                    if (!attributes.isRegularFile() && !(attributes.isSymbolicLink() && Files.isRegularFile(file))) {
+                        return FileVisitResult.CONTINUE;
+                    }
+                    ListedFile listed = new ListedFile(
+                        root.relativize(file).normalize().toString().replace('\\', '/'),
+                        attributes.lastModifiedTime().toMillis());
+                    if (watermark.isPresent() && !watermark.get().admits(listed, graceMs)) {
+                        return FileVisitResult.CONTINUE;
+                    }
+                    if (selected.size() == limit && order.compare(listed, selected.peek()) >= 0) {
+                        return FileVisitResult.CONTINUE;
+                    }
+                    if (!filter.matches(listed.key())) {
+                        return FileVisitResult.CONTINUE;
+                    }
+                    selected.add(listed);
+                    if (selected.size() > limit) {
+                        selected.poll();
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+            });
         } catch (IOException e) {
             throw new IllegalStateException("Failed listing filesystem object source: " + source.name(), e);
         }
+        return selected.stream()
+            .sorted(order)
+            .map(listed -> item(source, root, listed.key()))
+            .toList();
+    }
+
+    /**
+     * Advances the incremental listing watermark past admitted items.
+     *
+     * <p>Only sources with {@code location.incremental: true} keep a watermark. The watermark is the
+     * greatest {@code lastModified} among the acknowledged items, together with the keys acknowledged
+     * within {@code location.watermarkGrace} of it. Listing skips files older than the grace window and
+     * files already acknowledged with the same {@code lastModified}, so a file that lands late with an
+     * older timestamp is still picked up while it is inside the window. When
+     * {@code location.watermarkFile} is configured the watermark is also written there so restarts
+     * resume from the same position. Items listed but never acknowledged are listed again on the next
+     * poll.</p>
+     *
+     * @param source source configuration
+     * @param items listed items whose admission completed
+     */
+    @Override
+    public void acknowledge(PipelineObjectSourceConfig source, List<ObjectSourceItem> items) {
+        if (!incremental(source) || items == null || items.isEmpty()) {
+            return;
+        }
+        long graceMs = watermarkGrace(source).toMillis();
+        Optional<Path> file = watermarkFile(source);
+        watermark(source);
+        watermarks.compute(source.name(), (ignored, current) -> {
+            Watermark advanced = (current == null ? Watermark.EMPTY : current).acknowledge(items, graceMs);
+            file.ifPresent(path -> persist(source, path, advanced));
+            return advanced;
+        });
+    }
+
+    /**
+     * Wakes the runner when files appear under the listed directory, when {@code location.watch: true}.
+     *
+     * <p>The watch covers the listed directory and every directory created under it. It only brings
+     * polls forward; listing still decides what is admitted, so events lost by the platform watch
+     * service are picked up by the next regular poll.</p>
+     */
+    @Override
+    public AutoCloseable watch(PipelineObjectSourceConfig source, Runnable changed) {
+        Object watch = source.location().get("watch");
+        if (watch == null || !Boolean.parseBoolean(watch.toString().trim())) {
+            return ObjectSourceProvider.super.watch(source, changed);
+        }
+        Path root = root(source);
+        Path listRoot = requireUnderRoot(root, root.resolve(prefix(source)).normalize());
+        try {
+            return FilesystemSourceWatch.start(source.name(), listRoot, changed);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed watching filesystem object source: " + source.name(), e);
+        }
     }
 
     @Override
@@ -92,27 +186,18 @@ public class FilesystemObjectSourceProvider implements ObjectSourceProvider {
         return CompletableFuture.supplyAsync(() -> materializeBlocking(reference, maxBytes), executor);
     }
 
+    /**
+     * Copies the payload file into {@code target} through channel transfer, so the payload never lands on the
+     * heap, and verifies its checksum over the copy.
+     */
+    @Override
+    public CompletionStage<Long> materializeTo(PayloadReference reference, long maxBytes, Path target) {
+        return CompletableFuture.supplyAsync(() -> materializeToBlocking(reference, maxBytes, target), executor);
+    }
+
     private MaterializedPayload materializeBlocking(PayloadReference reference, long maxBytes) {
         try {
-            if (reference == null) {
-                throw new IllegalArgumentException("payload reference must not be null");
-            }
-            if (maxBytes < 1) {
-                throw new IllegalArgumentException("maxBytes must be positive");
-            }
-            if (!providerName().equalsIgnoreCase(reference.provider())) {
-                throw new IllegalArgumentException("filesystem operation cannot materialize provider=" + reference.provider());
-            }
-            if (reference.container() == null || reference.container().isBlank()) {
-                throw new IllegalArgumentException("filesystem payload reference container must not be blank");
-            }
-            if (reference.sizeBytes() > maxBytes) {
-                throw new IllegalStateException("Object exceeds configured maxBytes: " + reference.key());
-            }
-            Path root = canonicalReferenceRoot(reference);
-            String key = canonicalReferenceKey(reference.key());
-            Path path = requireCanonicalUnderRoot(root, root.resolve(key), reference.key());
-            verifyLocatorProvenance(reference, root, key, path);
+            Path path = payloadPath(reference, maxBytes);
             byte[] bytes = readBounded(path, maxBytes, reference.key());
             String checksum = sha256(bytes);
             if (reference.checksum() != null && !reference.checksum().equalsIgnoreCase(checksum)) {
@@ -124,6 +209,62 @@ public class FilesystemObjectSourceProvider implements ObjectSourceProvider {
         }
     }
 
+    private long materializeToBlocking(PayloadReference reference, long maxBytes, Path target) {
+        try {
+            Objects.requireNonNull(target, "materialization target must not be null");
+            Path path = payloadPath(reference, maxBytes);
+            long copied;
+            try (FileChannel source = FileChannel.open(path, StandardOpenOption.READ, LinkOption.NOFOLLOW_LINKS);
+                    FileChannel copy = FileChannel.open(target, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                copied = 0;
+                long transferred;
+                while ((transferred = source.transferTo(copied, maxBytes + 1 - copied, copy)) > 0) {
+                    copied += transferred;
+                    if (copied > maxBytes) {
+                        break;
+                    }
+                }
+            }
+            try {
+                if (copied > maxBytes) {
+                    throw new IllegalStateException("Object exceeds configured maxBytes: " + reference.key());
+                }
+                if (reference.checksum() != null && !reference.checksum().equalsIgnoreCase(sha256(target))) {
+                    throw new IllegalStateException("Filesystem payload checksum mismatch: " + reference.key());
+                }
+            } catch (RuntimeException failure) {
+                Files.deleteIfExists(target);
+                throw failure;
+            }
+            return copied;
+        } catch (IOException failure) {
+            throw new CompletionException(failure);
+        }
+    }
+
+    private Path payloadPath(PayloadReference reference, long maxBytes) throws IOException {
+        if (reference == null) {
+            throw new IllegalArgumentException("payload reference must not be null");
+        }
+        if (maxBytes < 1) {
+            throw new IllegalArgumentException("maxBytes must be positive");
+        }
+        if (!providerName().equalsIgnoreCase(reference.provider())) {
+            throw new IllegalArgumentException("filesystem operation cannot materialize provider=" + reference.provider());
+        }
+        if (reference.container() == null || reference.container().isBlank()) {
+            throw new IllegalArgumentException("filesystem payload reference container must not be blank");
+        }
+        if (reference.sizeBytes() > maxBytes) {
+            throw new IllegalStateException("Object exceeds configured maxBytes: " + reference.key());
+        }
+        Path root = canonicalReferenceRoot(reference);
+        String key = canonicalReferenceKey(reference.key());
+        Path path = requireCanonicalUnderRoot(root, root.resolve(key), reference.key());
+        verifyLocatorProvenance(reference, root, key, path);
+        return path;
+    }
+
     private byte[] readBounded(Path path, long maxBytes, String key) throws IOException {
         try (InputStream input = Files.newInputStream(path, LinkOption.NOFOLLOW_LINKS);
                 ByteArrayOutputStream output = new ByteArrayOutputStream()) {
@@ -176,15 +317,86 @@ public class FilesystemObjectSourceProvider implements ObjectSourceProvider {
         }
     }
 
-    private boolean matches(PipelineObjectSourceConfig source, String key) {
-        boolean included = source.filter().include().isEmpty()
-            || source.filter().include().stream().anyMatch(pattern -> glob(pattern).matches(Path.of(key)));
-        boolean excluded = source.filter().exclude().stream().anyMatch(pattern -> glob(pattern).matches(Path.of(key)));
-        return included && !excluded;
+    private boolean incremental(PipelineObjectSourceConfig source) {
+        Object incremental = source.location().get("incremental");
+        return incremental != null && Boolean.parseBoolean(incremental.toString().trim());
+    }
+
+    private Duration watermarkGrace(PipelineObjectSourceConfig source) {
+        Object grace = source.location().get("watermarkGrace");
+        if (grace == null || grace.toString().isBlank()) {
+            return DEFAULT_WATERMARK_GRACE;
+        }
+        try {
+            Duration parsed = Duration.parse(grace.toString().trim());
+            if (parsed.isNegative()) {
+                throw new IllegalArgumentException(
+                    "filesystem source '" + source.name() + "' location.watermarkGrace must not be negative");
+            }
+            return parsed;
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(
+                "filesystem source '" + source.name() + "' location.watermarkGrace must be an ISO-8601 duration", e);
+        }
+    }
+
+    private Optional<Watermark> watermark(PipelineObjectSourceConfig source) {
+        Watermark current = watermarks.get(source.name());
+        if (current != null) {
+            return Optional.of(current);
+        }
+        Optional<Watermark> persisted = watermarkFile(source).flatMap(file -> load(source, file));
+        persisted.ifPresent(loaded -> watermarks.putIfAbsent(source.name(), loaded));
+        return Optional.ofNullable(watermarks.get(source.name()));
+    }
+
+    private Optional<Path> watermarkFile(PipelineObjectSourceConfig source) {
+        Object watermarkFile = source.location().get("watermarkFile");
+        return watermarkFile == null || watermarkFile.toString().isBlank()
+            ? Optional.empty()
+            : Optional.of(Path.of(watermarkFile.toString()).toAbsolutePath().normalize());
     }
 
-    private PathMatcher glob(String pattern) {
-        return FileSystems.getDefault().getPathMatcher("glob:" + pattern);
+    private Optional<Watermark> load(PipelineObjectSourceConfig source, Path file) {
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        try {
+            Map<String, Long> acknowledged = new HashMap<>();
+            long lastModified = Long.MIN_VALUE;
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                int separator = line.indexOf('\t');
+                if (separator <= 0) {
+                    throw new IllegalStateException(
+                        "Malformed filesystem source watermark for '" + source.name() + "': " + file);
+                }
+                long modified = Long.parseLong(line.substring(0, separator));
+                acknowledged.put(line.substring(separator + 1), modified);
+                lastModified = Math.max(lastModified, modified);
+            }
+            return acknowledged.isEmpty()
+                ? Optional.empty()
+                : Optional.of(new Watermark(lastModified, Map.copyOf(acknowledged)));
+        } catch (IOException | NumberFormatException e) {
+            throw new IllegalStateException("Failed reading filesystem source watermark for '" + source.name() + "'", e);
+        }
+    }
+
+    private void persist(PipelineObjectSourceConfig source, Path file, Watermark watermark) {
+        try {
+            Path parent = file.getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Path staged = file.resolveSibling(file.getFileName() + ".tmp");
+            Files.write(staged, watermark.lines(), StandardCharsets.UTF_8);
+            Files.move(staged, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed writing filesystem source watermark for '" + source.name() + "'", e);
+        }
     }
 
     private Path root(PipelineObjectSourceConfig source) {
@@ -303,4 +515,55 @@ public class FilesystemObjectSourceProvider implements ObjectSourceProvider {
             throw new IllegalStateException("SHA-256 digest is not available", e);
         }
     }
+
+    private record ListedFile(String key, long lastModified) {
+    }
+
+    /**
+     * Incremental listing position: the newest acknowledged {@code lastModified} and the keys acknowledged
+     * within the grace window below it, with the {@code lastModified} each was acknowledged at.
+     */
+    private record Watermark(long lastModified, Map<String, Long> acknowledged) {
+        static final Watermark EMPTY = new Watermark(Long.MIN_VALUE, Map.of());
+
+        boolean admits(ListedFile listed, long graceMs) {
+            return listed.lastModified() >= lastModified - graceMs
+                && !Long.valueOf(listed.lastModified()).equals(acknowledged.get(listed.key()));
+        }
+
+        Watermark acknowledge(List<ObjectSourceItem> items, long graceMs) {
+            Map<String, Long> merged = new HashMap<>(acknowledged);
+            items.forEach(item -> merged.merge(item.key(), item.lastModifiedEpochMs(), Math::max));
+            long advanced = Math.max(lastModified, merged.values().stream().mapToLong(Long::longValue).max().orElseThrow());
+            merged.values().removeIf(modified -> modified < advanced - graceMs);
+            return new Watermark(advanced, Map.copyOf(merged));
+        }
+
+        List<String> lines() {
+            return acknowledged.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().thenComparing(Map.Entry.comparingByKey()))
+                .map(entry -> entry.getValue() + "\t" + entry.getKey())
+                .toList();
+        }
+    }
+
+    private static final class KeyFilter {
+        private final List<PathMatcher> include;
+        private final List<PathMatcher> exclude;
+
+        KeyFilter(PipelineObjectSourceConfig source) {
+            this.include = source.filter().include().stream().map(KeyFilter::glob).toList();
+            this.exclude = source.filter().exclude().stream().map(KeyFilter::glob).toList();
+        }
+
+        boolean matches(String key) {
+            Path path = Path.of(key);
+            boolean included = include.isEmpty() || include.stream().anyMatch(matcher -> matcher.matches(path));
+            return included && exclude.stream().noneMatch(matcher -> matcher.matches(path));
+        }
+
+        private static PathMatcher glob(String pattern) {
+            return FileSystems.getDefault().getPathMatcher("glob:" + pattern);
+        }
+    }
 }
@@ -0,0 +1,96 @@
+package org.pipelineframework.connector.objectingest;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Recursive {@link WatchService} over a filesystem source directory that reports changes to a callback.
+ *
+ * <p>Directories created under the watched tree are registered as they appear. The callback runs on the
+ * watch thread once per batch of events, so it should only schedule work.</p>
+ */
+final class FilesystemSourceWatch implements AutoCloseable {
+    private final WatchService watchService;
+    private final Runnable changed;
+    private final Map<WatchKey, Path> directories = new ConcurrentHashMap<>();
+    private final Thread thread;
+
+    private FilesystemSourceWatch(String sourceName, Path root, Runnable changed) throws IOException {
+        this.watchService = root.getFileSystem().newWatchService();
+        this.changed = Objects.requireNonNull(changed, "changed callback must not be null");
+        try {
+            registerTree(root);
+        } catch (IOException | RuntimeException e) {
+            watchService.close();
+            throw e;
+        }
+        this.thread = new Thread(this::run, "tpf-object-watch-" + sourceName);
+        this.thread.setDaemon(true);
+    }
+
+    static FilesystemSourceWatch start(String sourceName, Path root, Runnable changed) throws IOException {
+        FilesystemSourceWatch watch = new FilesystemSourceWatch(sourceName, root, changed);
+        watch.thread.start();
+        return watch;
+    }
+
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+        thread.interrupt();
+    }
+
+    private void run() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                Path directory = directories.get(key);
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (directory != null && event.kind() == StandardWatchEventKinds.ENTRY_CREATE
+                            && event.context() instanceof Path created) {
+                        Path child = directory.resolve(created);
+                        if (Files.isDirectory(child)) {
+                            try {
+                                registerTree(child);
+                            } catch (IOException ignored) {
+                                // The next regular poll still lists the directory.
+                            }
+                        }
+                    }
+                }
+                if (!key.reset()) {
+                    directories.remove(key);
+                }
+                changed.run();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException ignored) {
+            // Closed by close().
+        }
+    }
+
+    private void registerTree(Path start) throws IOException {
+        Files.walkFileTree(start, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path directory, BasicFileAttributes attributes) throws IOException {
+                WatchKey key = directory.register(watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+                directories.put(key, directory);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+}
@@ -3,11 +3,15 @@ package org.pipelineframework.connector.objectingest;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -63,6 +67,146 @@ class FilesystemObjectSourceProviderTest {
         assertThrows(SecurityException.class, () -> provider.readText(source, item("../outside.csv"), 0L));
     }
 
+    @Test
+    void incrementalListingSkipsAcknowledgedFilesAndResumesFromPersistedWatermark() throws Exception {
+        Path incoming = Files.createDirectories(tempDir.resolve("incoming"));
+        Path watermarkFile = tempDir.resolve("state").resolve("documents.watermark");
+        writeWithModifiedTime(incoming.resolve("b.csv"), 1_000L);
+        writeWithModifiedTime(incoming.resolve("a.csv"), 2_000L);
+        writeWithModifiedTime(incoming.resolve("c.csv"), 2_000L);
+        PipelineObjectSourceConfig source = new PipelineObjectSourceConfig(
+            "documents",
+            "object",
+            "filesystem",
+            Map.of("root", incoming.toString(), "incremental", "true", "watermarkFile", watermarkFile.toString()),
+            null,
+            null,
+            null,
+            null);
+        FilesystemObjectSourceProvider provider = new FilesystemObjectSourceProvider();
+
+        List<ObjectSourceItem> first = provider.list(source, 2);
+        assertEquals(List.of("b.csv", "a.csv"), first.stream().map(ObjectSourceItem::key).toList());
+        assertEquals(List.of("b.csv", "a.csv"), provider.list(source, 2).stream().map(ObjectSourceItem::key).toList());
+
+        provider.acknowledge(source, first);
+        writeWithModifiedTime(incoming.resolve("d.csv"), 3_000L);
+
+        assertEquals(List.of("c.csv", "d.csv"),
+            provider.list(source, 10).stream().map(ObjectSourceItem::key).toList());
+        assertEquals(List.of("c.csv", "d.csv"),
+            new FilesystemObjectSourceProvider().list(source, 10).stream().map(ObjectSourceItem::key).toList());
+    }
+
+    @Test
+    void incrementalListingPicksUpLateFilesInsideTheGraceWindow() throws Exception {
+        Path incoming = Files.createDirectories(tempDir.resolve("incoming"));
+        Path watermarkFile = tempDir.resolve("documents.watermark");
+        writeWithModifiedTime(incoming.resolve("a.csv"), 100_000L);
+        writeWithModifiedTime(incoming.resolve("b.csv"), 160_000L);
+        PipelineObjectSourceConfig source = new PipelineObjectSourceConfig(
+            "documents",
+            "object",
+            "filesystem",
+            Map.of("root", incoming.toString(), "incremental", "true", "watermarkGrace", "PT30S",
+                "watermarkFile", watermarkFile.toString()),
+            null,
+            null,
+            null,
+            null);
+        FilesystemObjectSourceProvider provider = new FilesystemObjectSourceProvider();
+        provider.acknowledge(source, provider.list(source, 10));
+
+        writeWithModifiedTime(incoming.resolve("late.csv"), 150_000L);
+        writeWithModifiedTime(incoming.resolve("stale.csv"), 120_000L);
+
+        List<ObjectSourceItem> late = provider.list(source, 10);
+        assertEquals(List.of("late.csv"), late.stream().map(ObjectSourceItem::key).toList());
+        provider.acknowledge(source, late);
+        assertEquals(List.of(), provider.list(source, 10));
+        assertEquals(List.of(), new FilesystemObjectSourceProvider().list(source, 10));
+
+        writeWithModifiedTime(incoming.resolve("b.csv"), 170_000L);
+        assertEquals(List.of("b.csv"), provider.list(source, 10).stream().map(ObjectSourceItem::key).toList());
+    }
+
+    @Test
+    void incrementalPollOverALargeAcknowledgedTreeReturnsOnlyNewFiles() throws Exception {
+        Path incoming = Files.createDirectories(tempDir.resolve("incoming"));
+        for (int i = 0; i < 2_000; i++) {
+            Path day = Files.createDirectories(incoming.resolve("day-" + (i % 20)));
+            writeWithModifiedTime(day.resolve("file-" + i + ".csv"), 1_000_000L + i);
+        }
+        PipelineObjectSourceConfig source = new PipelineObjectSourceConfig(
+            "documents",
+            "object",
+            "filesystem",
+            Map.of("root", incoming.toString(), "incremental", "true", "watermarkGrace", "PT0S"),
+            null,
+            null,
+            null,
+            null);
+        FilesystemObjectSourceProvider provider = new FilesystemObjectSourceProvider();
+        for (List<ObjectSourceItem> batch = provider.list(source, 500); !batch.isEmpty(); batch = provider.list(source, 500)) {
+            provider.acknowledge(source, batch);
+        }
+
+        writeWithModifiedTime(incoming.resolve("day-3").resolve("new-b.csv"), 3_000_000L);
+        writeWithModifiedTime(incoming.resolve("new-a.csv"), 2_000_000L);
+
+        assertEquals(List.of("new-a.csv", "day-3/new-b.csv"),
+            provider.list(source, 500).stream().map(ObjectSourceItem::key).toList());
+    }
+
+    @Test
+    void watchReportsFilesCreatedInNewSubdirectories() throws Exception {
+        Path incoming = Files.createDirectories(tempDir.resolve("incoming"));
+        PipelineObjectSourceConfig source = new PipelineObjectSourceConfig(
+            "documents",
+            "object",
+            "filesystem",
+            Map.of("root", incoming.toString(), "watch", "true"),
+            null,
+            null,
+            null,
+            null);
+        CountDownLatch changes = new CountDownLatch(2);
+
+        try (AutoCloseable ignored = new FilesystemObjectSourceProvider().watch(source, changes::countDown)) {
+            Path nested = Files.createDirectories(incoming.resolve("2026"));
+            Thread.sleep(200L);
+            Files.writeString(nested.resolve("payments.csv"), "id\n");
+
+            assertTrue(changes.await(10, TimeUnit.SECONDS), "expected watch wake-ups for the nested file");
+        }
+    }
+
+    @Test
+    void fullListingIgnoresAcknowledgementsAndKeepsKeyOrder() throws Exception {
+        writeWithModifiedTime(tempDir.resolve("b.csv"), 1_000L);
+        writeWithModifiedTime(tempDir.resolve("a.csv"), 2_000L);
+        PipelineObjectSourceConfig source = new PipelineObjectSourceConfig(
+            "documents",
+            "object",
+            "filesystem",
+            Map.of("root", tempDir.toString()),
+            null,
+            null,
+            null,
+            null);
+        FilesystemObjectSourceProvider provider = new FilesystemObjectSourceProvider();
+
+        provider.acknowledge(source, provider.list(source, 10));
+
+        assertEquals(List.of("a.csv"), provider.list(source, 1).stream().map(ObjectSourceItem::key).toList());
+        assertEquals(List.of("a.csv", "b.csv"), provider.list(source, 10).stream().map(ObjectSourceItem::key).toList());
+    }
+
+    private static void writeWithModifiedTime(Path path, long epochMs) throws Exception {
+        Files.writeString(path, path.getFileName().toString());
+        Files.setLastModifiedTime(path, FileTime.fromMillis(epochMs));
+    }
+
     private ObjectSourceItem item(String key) {
         return new ObjectSourceItem(
             "filesystem",
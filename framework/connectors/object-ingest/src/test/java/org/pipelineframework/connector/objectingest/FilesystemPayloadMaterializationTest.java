@@ -82,6 +82,26 @@ class FilesystemPayloadMaterializationTest {
         assertEquals("Object exceeds configured maxBytes: large.txt", failure.getCause().getMessage());
     }
 
+    @Test
+    void transfersFilesystemPayloadIntoLocalFileAndVerifiesChecksum() throws Exception {
+        byte[] expected = "portable payload".getBytes(StandardCharsets.UTF_8);
+        Files.write(tempDir.resolve("document.txt"), expected);
+        FilesystemObjectSourceProvider provider = new FilesystemObjectSourceProvider();
+        PayloadReference reference = provider.list(source(), 1).getFirst().contentRef();
+        Path staged = Files.createDirectory(tempDir.resolve("staged"));
+
+        long size = provider.materializeTo(reference, 1024, staged.resolve("copy.txt")).toCompletableFuture().join();
+
+        assertEquals(expected.length, size);
+        assertArrayEquals(expected, Files.readAllBytes(staged.resolve("copy.txt")));
+
+        Files.writeString(tempDir.resolve("document.txt"), "changed");
+        CompletionException failure = assertThrows(CompletionException.class, () ->
+            provider.materializeTo(reference, 1024, staged.resolve("changed.txt")).toCompletableFuture().join());
+        assertEquals("Filesystem payload checksum mismatch: document.txt", failure.getCause().getMessage());
+        assertFalse(Files.exists(staged.resolve("changed.txt")));
+    }
+
     @Test
     void rejectsModifiedFilesystemLocatorProvenance() throws Exception {
         byte[] expected = "portable payload".getBytes(StandardCharsets.UTF_8);
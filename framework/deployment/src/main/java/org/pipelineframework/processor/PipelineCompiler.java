@@ -39,6 +39,7 @@ import org.pipelineframework.annotation.PipelineStep;
     "pipeline.platform", // Optional: target deployment platform (COMPUTE|FUNCTION; legacy: STANDARD|LAMBDA)
     "pipeline.transport", // Optional: transport mode (GRPC|REST|LOCAL)
     "pipeline.rest.naming.strategy", // Optional: REST naming strategy (LEGACY|RESOURCEFUL)
+    "pipeline.rest.stream.format", // Optional: REST streaming wire format (NDJSON|PROTOBUF)
     "pipeline.mapper.fallback.enabled", // Optional: enables delegated mapper fallback engine
     "pipeline.parallelism", // Optional: parallelism mode (PARALLEL|SEQUENTIAL|AUTO)
     "pipeline.codegen.rendererProfile" // Optional: renderer profile selection (quarkus|spring)
@@ -5,20 +5,33 @@ package org.pipelineframework.processor.ir;
  *
  * @param model Reference to the semantic model this binding is based on
  * @param restPathOverride Optional REST path override from configuration
+ * @param restStreamFormatOverride Optional streaming wire format override from configuration
  */
 public record RestBinding(
         PipelineStepModel model,
-        String restPathOverride
+        String restPathOverride,
+        String restStreamFormatOverride
 ) implements PipelineBinding {
     /**
      * Creates a new RestBinding instance.
      *
      * @param model the semantic model this binding is based on
      * @param restPathOverride the REST path override (optional)
+     * @param restStreamFormatOverride the streaming wire format override (optional)
      */
     public RestBinding {
         if (model == null) {
             throw new IllegalArgumentException("model cannot be null");
         }
     }
+
+    /**
+     * Creates a new RestBinding instance that uses the build-wide streaming wire format.
+     *
+     * @param model the semantic model this binding is based on
+     * @param restPathOverride the REST path override (optional)
+     */
+    public RestBinding(PipelineStepModel model, String restPathOverride) {
+        this(model, restPathOverride, null);
+    }
 }
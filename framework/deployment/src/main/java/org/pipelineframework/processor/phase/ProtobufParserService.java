@@ -20,7 +20,9 @@ import com.google.protobuf.Descriptors;
 import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.JavaFile;
 import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeSpec;
+import com.squareup.javapoet.WildcardTypeName;
 import org.jboss.logging.Logger;
 import org.pipelineframework.processor.PipelineCompilationContext;
 import org.pipelineframework.processor.ir.DeploymentRole;
@@ -157,6 +159,20 @@ public class ProtobufParserService {
                 """, messageType, invalidProto)
             .build();
 
+        MethodSpec messageClassMethod = MethodSpec.methodBuilder("messageClass")
+            .addAnnotation(Override.class)
+            .addModifiers(javax.lang.model.element.Modifier.PUBLIC)
+            .returns(ParameterizedTypeName.get(ClassName.get(Class.class), WildcardTypeName.subtypeOf(messageBase)))
+            .addStatement("return $T.class", messageType)
+            .build();
+
+        MethodSpec newBuilderMethod = MethodSpec.methodBuilder("newBuilder")
+            .addAnnotation(Override.class)
+            .addModifiers(javax.lang.model.element.Modifier.PUBLIC)
+            .returns(messageBase.nestedClass("Builder"))
+            .addStatement("return $T.newBuilder()", messageType)
+            .build();
+
         return TypeSpec.classBuilder(parserName)
             .addModifiers(javax.lang.model.element.Modifier.PUBLIC)
             .addAnnotation(ClassName.get("jakarta.enterprise.context", "ApplicationScoped"))
@@ -164,6 +180,8 @@ public class ProtobufParserService {
             .addSuperinterface(parserInterface)
             .addMethod(typeMethod)
             .addMethod(parseMethod)
+            .addMethod(messageClassMethod)
+            .addMethod(newBuilderMethod)
             .build();
     }
 
@@ -117,6 +117,6 @@ class StepBindingBuilder {
         if (binding == null) {
             return new RestBinding(model, null);
         }
-        return new RestBinding(model, binding.restPathOverride());
+        return new RestBinding(model, binding.restPathOverride(), binding.restStreamFormatOverride());
     }
 }
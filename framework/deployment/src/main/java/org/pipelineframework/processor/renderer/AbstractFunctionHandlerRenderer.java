@@ -89,6 +89,8 @@ public abstract class AbstractFunctionHandlerRenderer implements PipelineRendere
         ClassName.get("org.pipelineframework.transport.function", "LocalOneToManyFunctionInvokeAdapter");
     protected static final ClassName LOCAL_MANY_TO_ONE_INVOKE_ADAPTER =
         ClassName.get("org.pipelineframework.transport.function", "LocalManyToOneFunctionInvokeAdapter");
+    protected static final ClassName MANY_TO_ONE_AGGREGATION_MODE =
+        ClassName.get("org.pipelineframework.transport.function", "ManyToOneAggregationMode");
     protected static final ClassName LOCAL_MANY_TO_MANY_INVOKE_ADAPTER =
         ClassName.get("org.pipelineframework.transport.function", "LocalManyToManyFunctionInvokeAdapter");
     protected static final ClassName INVOCATION_MODE_ROUTING_INVOKE_ADAPTER =
@@ -305,17 +307,8 @@ public abstract class AbstractFunctionHandlerRenderer implements PipelineRendere
                 streamingInput ? MULTI_SOURCE_ADAPTER : DEFAULT_UNARY_SOURCE_ADAPTER,
                 baseName + ".input",
                 API_VERSION)
-            .addStatement("$T<$T, $T> invokeLocal = new $T<$T, $T>($L, $S, $S)",
-                FUNCTION_INVOKE_ADAPTER, inputDto, outputDto,
-                selectInvokeAdapterForShape(shape,
-                    LOCAL_UNARY_INVOKE_ADAPTER,
-                    LOCAL_ONE_TO_MANY_INVOKE_ADAPTER,
-                    LOCAL_MANY_TO_ONE_INVOKE_ADAPTER,
-                    LOCAL_MANY_TO_MANY_INVOKE_ADAPTER),
-                inputDto, outputDto,
-                localInvokeDelegate,
-                baseName + ".output",
-                API_VERSION)
+            .addStatement(localInvokeAdapterStatement(
+                baseName, inputDto, outputDto, localInvokeDelegate, shape))
             .addStatement("$T<$T, $T> invokeRemote = new $T<>()",
                 FUNCTION_INVOKE_ADAPTER, inputDto, outputDto,
                 HTTP_REMOTE_INVOKE_ADAPTER)
@@ -404,16 +397,8 @@ public abstract class AbstractFunctionHandlerRenderer implements PipelineRendere
                 FUNCTION_SOURCE_ADAPTER, inputEventType, inputDto,
                 streamingInput ? MULTI_SOURCE_ADAPTER : DEFAULT_UNARY_SOURCE_ADAPTER,
                 baseName + ".input", API_VERSION)
-            .addStatement("$T<$T, $T> invokeLocal = new $T<$T, $T>($L, $S, $S)",
-                FUNCTION_INVOKE_ADAPTER, inputDto, outputDto,
-                selectInvokeAdapterForShape(shape,
-                    LOCAL_UNARY_INVOKE_ADAPTER,
-                    LOCAL_ONE_TO_MANY_INVOKE_ADAPTER,
-                    LOCAL_MANY_TO_ONE_INVOKE_ADAPTER,
-                    LOCAL_MANY_TO_MANY_INVOKE_ADAPTER),
-                inputDto, outputDto,
-                localInvokeDelegate,
-                baseName + ".output", API_VERSION)
+            .addStatement(localInvokeAdapterStatement(
+                baseName, inputDto, outputDto, localInvokeDelegate, shape))
             .addStatement("$T<$T, $T> invokeRemote = new $T<>()",
                 FUNCTION_INVOKE_ADAPTER, inputDto, outputDto, HTTP_REMOTE_INVOKE_ADAPTER)
             .addStatement("$T<$T, $T> invoke = new $T<>(invokeLocal, invokeRemote)",
@@ -620,6 +605,47 @@ public abstract class AbstractFunctionHandlerRenderer implements PipelineRendere
         };
     }
 
+    /**
+     * Builds the {@code invokeLocal} declaration for the given streaming shape. N->1 handlers resolve their
+     * aggregation mode from configuration by handler class name, see
+     * {@code ManyToOneAggregationMode.configured(String)}.
+     *
+     * @param baseName base name used for the output payload model and handler class name
+     * @param inputDto the DTO type for handler input
+     * @param outputDto the DTO type for handler output
+     * @param localInvokeDelegate expression delegating local invocation
+     * @param shape the streaming shape of the function invocation
+     * @return the {@code invokeLocal} statement
+     */
+    private CodeBlock localInvokeAdapterStatement(
+            String baseName,
+            TypeName inputDto,
+            TypeName outputDto,
+            String localInvokeDelegate,
+            StreamingShape shape) {
+        ClassName adapter = selectInvokeAdapterForShape(shape,
+            LOCAL_UNARY_INVOKE_ADAPTER,
+            LOCAL_ONE_TO_MANY_INVOKE_ADAPTER,
+            LOCAL_MANY_TO_ONE_INVOKE_ADAPTER,
+            LOCAL_MANY_TO_MANY_INVOKE_ADAPTER);
+        if (shape == StreamingShape.STREAMING_UNARY) {
+            return CodeBlock.of("$T<$T, $T> invokeLocal = new $T<$T, $T>($L, $S, $S, $T.configured($S))",
+                FUNCTION_INVOKE_ADAPTER, inputDto, outputDto,
+                adapter, inputDto, outputDto,
+                localInvokeDelegate,
+                baseName + ".output",
+                API_VERSION,
+                MANY_TO_ONE_AGGREGATION_MODE,
+                baseName + getHandlerSuffix());
+        }
+        return CodeBlock.of("$T<$T, $T> invokeLocal = new $T<$T, $T>($L, $S, $S)",
+            FUNCTION_INVOKE_ADAPTER, inputDto, outputDto,
+            adapter, inputDto, outputDto,
+            localInvokeDelegate,
+            baseName + ".output",
+            API_VERSION);
+    }
+
     /**
      * Selects the transport bridge invocation format string that matches the given streaming shape.
      *
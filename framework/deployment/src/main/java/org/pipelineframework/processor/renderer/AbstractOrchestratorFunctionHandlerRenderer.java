@@ -68,6 +68,7 @@ public abstract class AbstractOrchestratorFunctionHandlerRenderer implements Pip
     protected static final ClassName LOCAL_UNARY_INVOKE_ADAPTER = ClassName.get("org.pipelineframework.transport.function", "LocalUnaryFunctionInvokeAdapter");
     protected static final ClassName LOCAL_ONE_TO_MANY_INVOKE_ADAPTER = ClassName.get("org.pipelineframework.transport.function", "LocalOneToManyFunctionInvokeAdapter");
     protected static final ClassName LOCAL_MANY_TO_ONE_INVOKE_ADAPTER = ClassName.get("org.pipelineframework.transport.function", "LocalManyToOneFunctionInvokeAdapter");
+    protected static final ClassName MANY_TO_ONE_AGGREGATION_MODE = ClassName.get("org.pipelineframework.transport.function", "ManyToOneAggregationMode");
     protected static final ClassName LOCAL_MANY_TO_MANY_INVOKE_ADAPTER = ClassName.get("org.pipelineframework.transport.function", "LocalManyToManyFunctionInvokeAdapter");
     protected static final ClassName INVOCATION_MODE_ROUTING_INVOKE_ADAPTER = ClassName.get("org.pipelineframework.transport.function", "InvocationModeRoutingFunctionInvokeAdapter");
     protected static final ClassName HTTP_REMOTE_INVOKE_ADAPTER = ClassName.get("org.pipelineframework.transport.function", "HttpRemoteFunctionInvokeAdapter");
@@ -301,7 +302,11 @@ protected AbstractOrchestratorFunctionHandlerRenderer() {}
             FUNCTION_TRANSPORT_CONTEXT, ClassName.get(System.class), "tpf.transport.retry-attempt", "0",
             FUNCTION_TRANSPORT_CONTEXT, ClassName.get(Long.class), ClassName.get(System.class));
         methodBuilder.addStatement("$T<$T, $T> source = new $T<>($S, $S)", FUNCTION_SOURCE_ADAPTER, inputEventType, inputDto, selectSourceAdapter(streamingInput, DEFAULT_UNARY_SOURCE_ADAPTER, MULTI_SOURCE_ADAPTER), ORCHESTRATOR_PREFIX + inputTypeName, API_VERSION);
-        methodBuilder.addStatement("$T<$T, $T> invokeLocal = new $T<$T, $T>($L, $S, $S)", FUNCTION_INVOKE_ADAPTER, inputDto, outputDto, selectInvokeAdapter(streamingInput, streamingOutput, LOCAL_UNARY_INVOKE_ADAPTER, LOCAL_ONE_TO_MANY_INVOKE_ADAPTER, LOCAL_MANY_TO_ONE_INVOKE_ADAPTER, LOCAL_MANY_TO_MANY_INVOKE_ADAPTER), inputDto, outputDto, localInvokeDelegate, ORCHESTRATOR_PREFIX + outputTypeName, API_VERSION);
+        if (streamingInput && !streamingOutput) {
+            methodBuilder.addStatement("$T<$T, $T> invokeLocal = new $T<$T, $T>($L, $S, $S, $T.configured($S))", FUNCTION_INVOKE_ADAPTER, inputDto, outputDto, LOCAL_MANY_TO_ONE_INVOKE_ADAPTER, inputDto, outputDto, localInvokeDelegate, ORCHESTRATOR_PREFIX + outputTypeName, API_VERSION, MANY_TO_ONE_AGGREGATION_MODE, HANDLER_CLASS);
+        } else {
+            methodBuilder.addStatement("$T<$T, $T> invokeLocal = new $T<$T, $T>($L, $S, $S)", FUNCTION_INVOKE_ADAPTER, inputDto, outputDto, selectInvokeAdapter(streamingInput, streamingOutput, LOCAL_UNARY_INVOKE_ADAPTER, LOCAL_ONE_TO_MANY_INVOKE_ADAPTER, LOCAL_MANY_TO_ONE_INVOKE_ADAPTER, LOCAL_MANY_TO_MANY_INVOKE_ADAPTER), inputDto, outputDto, localInvokeDelegate, ORCHESTRATOR_PREFIX + outputTypeName, API_VERSION);
+        }
         methodBuilder.addStatement("$T<$T, $T> invokeRemote = new $T<>()", FUNCTION_INVOKE_ADAPTER, inputDto, outputDto, HTTP_REMOTE_INVOKE_ADAPTER);
         methodBuilder.addStatement("$T<$T, $T> invoke = new $T<>(invokeLocal, invokeRemote)", FUNCTION_INVOKE_ADAPTER, inputDto, outputDto, INVOCATION_MODE_ROUTING_INVOKE_ADAPTER);
         methodBuilder.addStatement("$T<$T, $T> sink = new $T<>()", FUNCTION_SINK_ADAPTER, outputDto, handlerOutputType, selectSinkAdapter(streamingOutput, DEFAULT_UNARY_SINK_ADAPTER, COLLECT_LIST_SINK_ADAPTER));
@@ -98,6 +98,7 @@ public class BlockingReactiveBridgeRenderer {
         TypeName outputType,
         boolean useVirtualThreads
     ) {
+        String stepKey = model.serviceClassName().reflectionName();
         if (model.serviceApiKind() == ServiceApiKind.BLOCKING_ITERATOR) {
             return MethodSpec.methodBuilder("process")
                 .addAnnotation(Override.class)
@@ -105,8 +106,8 @@ public class BlockingReactiveBridgeRenderer {
                 .returns(ParameterizedTypeName.get(ClassName.get(Multi.class), outputType))
                 .addParameter(inputType, "processableObj")
                 .addStatement(
-                    "return blockingExecutionSupport.emitIterator($L, () -> blockingService.iterateBlocking(processableObj))",
-                    useVirtualThreads)
+                    "return blockingExecutionSupport.emitIterator($L, $S, () -> blockingService.iterateBlocking(processableObj))",
+                    useVirtualThreads, stepKey)
                 .build();
         }
         return switch (model.streamingShape()) {
@@ -116,8 +117,8 @@ public class BlockingReactiveBridgeRenderer {
                 .returns(ParameterizedTypeName.get(ClassName.get(Multi.class), outputType))
                 .addParameter(inputType, "processableObj")
                 .addStatement(
-                    "return blockingExecutionSupport.emitList($L, () -> blockingService.processBlocking(processableObj))",
-                    useVirtualThreads)
+                    "return blockingExecutionSupport.emitList($L, $S, () -> blockingService.processBlocking(processableObj))",
+                    useVirtualThreads, stepKey)
                 .build();
             case STREAMING_UNARY -> MethodSpec.methodBuilder("process")
                 .addAnnotation(Override.class)
@@ -126,8 +127,8 @@ public class BlockingReactiveBridgeRenderer {
                 .addParameter(ParameterizedTypeName.get(ClassName.get(Multi.class), inputType), "processableObj")
                 .addStatement(
                     "return processableObj.collect().asList()"
-                        + ".onItem().transformToUni(items -> blockingExecutionSupport.supply($L, () -> blockingService.processBlocking(items)))",
-                    useVirtualThreads)
+                        + ".onItem().transformToUni(items -> blockingExecutionSupport.supply($L, $S, () -> blockingService.processBlocking(items)))",
+                    useVirtualThreads, stepKey)
                 .build();
             case STREAMING_STREAMING -> MethodSpec.methodBuilder("process")
                 .addAnnotation(Override.class)
@@ -136,8 +137,8 @@ public class BlockingReactiveBridgeRenderer {
                 .addParameter(ParameterizedTypeName.get(ClassName.get(Multi.class), inputType), "processableObj")
                 .addStatement(
                     "return processableObj.collect().asList()"
-                        + ".onItem().transformToMulti(items -> blockingExecutionSupport.emitList($L, () -> blockingService.processBlocking(items)))",
-                    useVirtualThreads)
+                        + ".onItem().transformToMulti(items -> blockingExecutionSupport.emitList($L, $S, () -> blockingService.processBlocking(items)))",
+                    useVirtualThreads, stepKey)
                 .build();
             default -> MethodSpec.methodBuilder("process")
                 .addAnnotation(Override.class)
@@ -145,8 +146,8 @@ public class BlockingReactiveBridgeRenderer {
                 .returns(ParameterizedTypeName.get(ClassName.get(Uni.class), outputType))
                 .addParameter(inputType, "processableObj")
                 .addStatement(
-                    "return blockingExecutionSupport.supply($L, () -> blockingService.processBlocking(processableObj))",
-                    useVirtualThreads)
+                    "return blockingExecutionSupport.supply($L, $S, () -> blockingService.processBlocking(processableObj))",
+                    useVirtualThreads, stepKey)
                 .build();
         };
     }
@@ -246,6 +246,13 @@ public record ClientStepRenderer(GenerationTarget target) implements PipelineRen
                     break;
                 case UNARY_UNARY:
                 default:
+                    // Multiplex unary calls over long-lived streams when the service exposes the stream companion
+                    GrpcJavaTypeResolver.StreamEnvelopeTypes envelopes = grpcTypeResolver.resolveStreamEnvelope(binding);
+                    String unaryCall = "this.grpcClient.remoteProcess";
+                    if (envelopes != null) {
+                        addStreamMultiplexer(clientStepBuilder, inputGrpcType, outputGrpcType, envelopes);
+                        unaryCall = "this.grpcStreams.call";
+                    }
                     // Default to OneToOne: Input -> Uni<Output> (StepOneToOne interface has applyOneToOne(Input in) method)
                     MethodSpec.Builder applyOneToOneMethod = MethodSpec.methodBuilder("applyOneToOne")
                             .addAnnotation(Override.class)
@@ -258,6 +265,7 @@ public record ClientStepRenderer(GenerationTarget target) implements PipelineRen
                         grpcClientTracing,
                         rpcServiceName,
                         rpcMethodName,
+                        unaryCall,
                         CodeBlock.of("input")));
                     clientStepBuilder.addMethod(applyOneToOneMethod.build());
                     break;
@@ -272,17 +280,49 @@ public record ClientStepRenderer(GenerationTarget target) implements PipelineRen
         ClassName grpcClientTracing,
         String rpcServiceName,
         String rpcMethodName,
+        String unaryCall,
         CodeBlock input
     ) {
         CodeBlock invocation = CodeBlock.of(
-            "this.invocationRuntime.invokeTransportUni(this, () -> $T.traceUnary($S, $S, this.grpcClient.remoteProcess($L)))",
+            "this.invocationRuntime.invokeTransportUni(this, () -> $T.traceUnary($S, $S, $L($L)))",
             grpcClientTracing,
             rpcServiceName,
             rpcMethodName,
+            unaryCall,
             transportInput(boundary, input));
         return transportOutputUni(boundary, invocation);
     }
 
+    /**
+     * Adds the {@code grpcStreams} multiplexer that carries {@code applyOneToOne} calls over a few long-lived
+     * {@code remoteProcessStream} streams, falling back to unary calls when the server lacks the endpoint.
+     */
+    private static void addStreamMultiplexer(
+        TypeSpec.Builder clientStepBuilder,
+        TypeName inputGrpcType,
+        TypeName outputGrpcType,
+        GrpcJavaTypeResolver.StreamEnvelopeTypes envelopes
+    ) {
+        clientStepBuilder.addField(FieldSpec.builder(
+                GrpcStreamEnvelopeSpec.multiplexerType(inputGrpcType, outputGrpcType, envelopes),
+                "grpcStreams",
+                Modifier.PRIVATE)
+            .build());
+        clientStepBuilder.addMethod(MethodSpec.methodBuilder("openGrpcStreams")
+            .addAnnotation(ClassName.get("jakarta.annotation", "PostConstruct"))
+            .addStatement("this.grpcStreams = $T.fromConfig($L, this.grpcClient::remoteProcessStream, "
+                    + "this.grpcClient::remoteProcess)",
+                GrpcStreamEnvelopeSpec.MULTIPLEXER,
+                GrpcStreamEnvelopeSpec.inlineEnvelope(inputGrpcType, outputGrpcType, envelopes))
+            .build());
+        clientStepBuilder.addMethod(MethodSpec.methodBuilder("closeGrpcStreams")
+            .addAnnotation(ClassName.get("jakarta.annotation", "PreDestroy"))
+            .beginControlFlow("if (this.grpcStreams != null)")
+            .addStatement("this.grpcStreams.close()")
+            .endControlFlow()
+            .build());
+    }
+
     private static CodeBlock transportMultiInvocation(
         V3GeneratedDomainBinding.RepresentationBoundary boundary,
         ClassName grpcClientTracing,
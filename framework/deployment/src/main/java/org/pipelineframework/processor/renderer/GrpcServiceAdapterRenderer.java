@@ -231,6 +231,39 @@ public record GrpcServiceAdapterRenderer(GenerationTarget target) implements Pip
         }
 
         builder.addMethod(remoteProcessMethodBuilder.build());
+        addUnaryStreamCompanionMethod(builder, binding, grpcTypes);
+    }
+
+    /**
+     * Adds the correlated `remoteProcessStream` endpoint that serves each sequence-id envelope through the unary
+     * `remoteProcess` method, so per-item telemetry and error mapping stay the same as for unary calls.
+     *
+     * <p>Nothing is added when the proto has no stream companion, or when the step runs on virtual threads: the
+     * per-item calls would bypass the `@RunOnVirtualThread` dispatch of `remoteProcess`. Clients then receive
+     * `UNIMPLEMENTED` and keep unary calls.</p>
+     *
+     * @param builder the JavaPoet TypeSpec.Builder for the class being generated
+     * @param binding supplies the PipelineStepModel and service descriptor
+     * @param grpcTypes the resolved unary request and response types
+     */
+    private void addUnaryStreamCompanionMethod(
+            TypeSpec.Builder builder,
+            GrpcBinding binding,
+            GrpcJavaTypeResolver.GrpcJavaTypes grpcTypes) {
+        GrpcJavaTypeResolver.StreamEnvelopeTypes envelopes = GRPC_TYPE_RESOLVER.resolveStreamEnvelope(binding);
+        if (envelopes == null
+                || binding.model().executionMode() == org.pipelineframework.processor.ir.ExecutionMode.VIRTUAL_THREADS) {
+            return;
+        }
+        builder.addMethod(MethodSpec.methodBuilder(GrpcJavaTypeResolver.STREAM_METHOD_NAME)
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(ParameterizedTypeName.get(ClassName.get(Multi.class), envelopes.response()))
+                .addParameter(ParameterizedTypeName.get(ClassName.get(Multi.class), envelopes.request()), "request")
+                .addStatement("return $L.serve(request, this::remoteProcess)",
+                        GrpcStreamEnvelopeSpec.inlineEnvelope(
+                                grpcTypes.grpcParameterType(), grpcTypes.grpcReturnType(), envelopes))
+                .build());
     }
 
     /**
@@ -0,0 +1,116 @@
+package org.pipelineframework.processor.renderer;
+
+import java.util.Map;
+import javax.lang.model.element.Modifier;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import org.pipelineframework.processor.util.GrpcJavaTypeResolver;
+
+/**
+ * Builds the inline {@code GrpcStreamEnvelope} shared by generated client steps and service adapters.
+ *
+ * <p>The envelope messages are the {@code Process<Step>StreamRequest}/{@code StreamResponse} pair emitted next to
+ * one-to-one services, so the accessors are the standard protobuf Java ones for their fields.</p>
+ */
+final class GrpcStreamEnvelopeSpec {
+
+    static final ClassName ENVELOPE = ClassName.get("org.pipelineframework.grpc", "GrpcStreamEnvelope");
+    static final ClassName MULTIPLEXER = ClassName.get("org.pipelineframework.grpc", "GrpcStreamMultiplexer");
+    private static final TypeName CONTEXT = ParameterizedTypeName.get(
+        ClassName.get(Map.class), ClassName.get(String.class), ClassName.get(String.class));
+
+    private GrpcStreamEnvelopeSpec() {
+    }
+
+    static TypeName envelopeType(
+            TypeName grpcIn,
+            TypeName grpcOut,
+            GrpcJavaTypeResolver.StreamEnvelopeTypes envelopes) {
+        return ParameterizedTypeName.get(ENVELOPE, grpcIn, grpcOut, envelopes.request(), envelopes.response());
+    }
+
+    static TypeName multiplexerType(
+            TypeName grpcIn,
+            TypeName grpcOut,
+            GrpcJavaTypeResolver.StreamEnvelopeTypes envelopes) {
+        return ParameterizedTypeName.get(MULTIPLEXER, grpcIn, grpcOut, envelopes.request(), envelopes.response());
+    }
+
+    static TypeSpec inlineEnvelope(
+            TypeName grpcIn,
+            TypeName grpcOut,
+            GrpcJavaTypeResolver.StreamEnvelopeTypes envelopes) {
+        ClassName request = envelopes.request();
+        ClassName response = envelopes.response();
+        return TypeSpec.anonymousClassBuilder("")
+            .superclass(envelopeType(grpcIn, grpcOut, envelopes))
+            .addMethod(override("wrapRequest", request)
+                .addParameter(TypeName.LONG, "sequence")
+                .addParameter(grpcIn, "request")
+                .addParameter(CONTEXT, "context")
+                .addStatement(
+                    "return $T.newBuilder().setSequence(sequence).setItem(request).putAllContext(context).build()",
+                    request)
+                .build())
+            .addMethod(override("requestContext", CONTEXT)
+                .addParameter(request, "envelope")
+                .addStatement("return envelope.getContextMap()")
+                .build())
+            .addMethod(override("requestSequence", TypeName.LONG)
+                .addParameter(request, "envelope")
+                .addStatement("return envelope.getSequence()")
+                .build())
+            .addMethod(override("unwrapRequest", grpcIn)
+                .addParameter(request, "envelope")
+                .addStatement("return envelope.getItem()")
+                .build())
+            .addMethod(override("wrapResponse", response)
+                .addParameter(TypeName.LONG, "sequence")
+                .addParameter(grpcOut, "response")
+                .addParameter(CONTEXT, "context")
+                .addStatement(
+                    "return $T.newBuilder().setSequence(sequence).setItem(response).putAllContext(context).build()",
+                    response)
+                .build())
+            .addMethod(override("responseContext", CONTEXT)
+                .addParameter(response, "envelope")
+                .addStatement("return envelope.getContextMap()")
+                .build())
+            .addMethod(override("wrapFailure", response)
+                .addParameter(TypeName.LONG, "sequence")
+                .addParameter(TypeName.INT, "code")
+                .addParameter(String.class, "message")
+                .addStatement(
+                    "return $T.newBuilder().setSequence(sequence).setErrorCode(code).setErrorMessage(message).build()",
+                    response)
+                .build())
+            .addMethod(override("responseSequence", TypeName.LONG)
+                .addParameter(response, "envelope")
+                .addStatement("return envelope.getSequence()")
+                .build())
+            .addMethod(override("unwrapResponse", grpcOut)
+                .addParameter(response, "envelope")
+                .addStatement("return envelope.getItem()")
+                .build())
+            .addMethod(override("responseErrorCode", TypeName.INT)
+                .addParameter(response, "envelope")
+                .addStatement("return envelope.getErrorCode()")
+                .build())
+            .addMethod(override("responseErrorMessage", ClassName.get(String.class))
+                .addParameter(response, "envelope")
+                .addStatement("return envelope.getErrorMessage()")
+                .build())
+            .build();
+    }
+
+    private static MethodSpec.Builder override(String name, TypeName returns) {
+        return MethodSpec.methodBuilder(name)
+            .addAnnotation(Override.class)
+            .addModifiers(Modifier.PROTECTED)
+            .returns(returns);
+    }
+}
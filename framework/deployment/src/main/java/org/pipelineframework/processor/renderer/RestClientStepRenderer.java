@@ -109,12 +109,14 @@ public class RestClientStepRenderer implements PipelineRenderer<RestBinding> {
                 .addMember("value", "$S", basePath)
                 .build());
 
-        MethodSpec processMethod = switch (model.streamingShape()) {
-            case UNARY_STREAMING -> buildUnaryStreamingMethod(inputDto, outputDto, operationPath);
-            case STREAMING_UNARY -> buildStreamingUnaryMethod(inputDto, outputDto, operationPath);
-            case STREAMING_STREAMING -> buildStreamingStreamingMethod(inputDto, outputDto, operationPath);
-            default -> buildUnaryUnaryMethod(inputDto, outputDto, operationPath);
-        };
+        MethodSpec processMethod = RestProtobufStreamSpec.enabled(binding, ctx)
+            ? buildProtobufStreamMethod(operationPath)
+            : switch (model.streamingShape()) {
+                case UNARY_STREAMING -> buildUnaryStreamingMethod(inputDto, outputDto, operationPath);
+                case STREAMING_UNARY -> buildStreamingUnaryMethod(inputDto, outputDto, operationPath);
+                case STREAMING_STREAMING -> buildStreamingStreamingMethod(inputDto, outputDto, operationPath);
+                default -> buildUnaryUnaryMethod(inputDto, outputDto, operationPath);
+            };
 
         interfaceBuilder.addMethod(processMethod);
         return interfaceBuilder.build();
@@ -195,6 +197,15 @@ public class RestClientStepRenderer implements PipelineRenderer<RestBinding> {
 
         clientStepBuilder.addField(restClientField);
         clientStepBuilder.addField(invocationRuntimeField);
+        boolean protobufStreams = RestProtobufStreamSpec.enabled(binding, ctx);
+        if (protobufStreams) {
+            clientStepBuilder.addField(FieldSpec.builder(RestProtobufStreamSpec.inputMapper(model), "inputMapper")
+                .addAnnotation(ClassName.get("jakarta.inject", "Inject"))
+                .build());
+            clientStepBuilder.addField(FieldSpec.builder(RestProtobufStreamSpec.outputMapper(model), "outputMapper")
+                .addAnnotation(ClassName.get("jakarta.inject", "Inject"))
+                .build());
+        }
         MethodSpec constructor = MethodSpec.constructorBuilder()
             .addModifiers(Modifier.PUBLIC)
             .build();
@@ -250,10 +261,14 @@ public class RestClientStepRenderer implements PipelineRenderer<RestBinding> {
                     .addStatement("String replayMode = context != null ? context.replayMode() : null")
                     .addStatement("String cachePolicy = $L", resolveOutboundCachePolicyExpression(cachePluginSideEffect))
                     .addStatement(
-                        "return this.invocationRuntime.invokeTransportMulti(this, () -> $T.instrumentClient($S, $S, this.restClient.process(versionTag, replayMode, cachePolicy, input)))",
+                        "return this.invocationRuntime.invokeTransportMulti(this, () -> $T.instrumentClient($S, $S, $L))",
                         ClassName.get("org.pipelineframework.telemetry", "HttpMetrics"),
                         model.serviceName(),
-                        "process")
+                        "process",
+                        protobufStreams
+                            ? protobufStreamCall(model, ctx, CodeBlock.of(
+                                "$T.createFrom().item(this.inputMapper.toGrpc(input))", ClassName.get(Multi.class)))
+                            : CodeBlock.of("this.restClient.process(versionTag, replayMode, cachePolicy, input)"))
                     .build();
                 clientStepBuilder.addMethod(applyOneToManyMethod);
             }
@@ -272,10 +287,15 @@ public class RestClientStepRenderer implements PipelineRenderer<RestBinding> {
                     .addStatement("String replayMode = context != null ? context.replayMode() : null")
                     .addStatement("String cachePolicy = $L", resolveOutboundCachePolicyExpression(cachePluginSideEffect))
                     .addStatement(
-                        "return inputs.collect().asList().onItem().transformToUni(inputDtos -> this.invocationRuntime.invokeTransportUni(this, () -> $T.instrumentClient($S, $S, this.restClient.process(versionTag, replayMode, cachePolicy, inputDtos))))",
+                        "return inputs.collect().asList().onItem().transformToUni(inputDtos -> this.invocationRuntime.invokeTransportUni(this, () -> $T.instrumentClient($S, $S, $L)))",
                         ClassName.get("org.pipelineframework.telemetry", "HttpMetrics"),
                         model.serviceName(),
-                        "process")
+                        "process",
+                        protobufStreams
+                            ? CodeBlock.of("$L.toUni()", protobufStreamCall(model, ctx, CodeBlock.of(
+                                "$T.createFrom().iterable(inputDtos).map(item -> this.inputMapper.toGrpc(item))",
+                                ClassName.get(Multi.class))))
+                            : CodeBlock.of("this.restClient.process(versionTag, replayMode, cachePolicy, inputDtos)"))
                     .build();
                 clientStepBuilder.addMethod(applyBatchMultiMethod);
             }
@@ -294,10 +314,13 @@ public class RestClientStepRenderer implements PipelineRenderer<RestBinding> {
                     .addStatement("String replayMode = context != null ? context.replayMode() : null")
                     .addStatement("String cachePolicy = $L", resolveOutboundCachePolicyExpression(cachePluginSideEffect))
                     .addStatement(
-                        "return this.invocationRuntime.invokeTransportMulti(this, () -> $T.instrumentClient($S, $S, this.restClient.process(versionTag, replayMode, cachePolicy, inputs)))",
+                        "return this.invocationRuntime.invokeTransportMulti(this, () -> $T.instrumentClient($S, $S, $L))",
                         ClassName.get("org.pipelineframework.telemetry", "HttpMetrics"),
                         model.serviceName(),
-                        "process")
+                        "process",
+                        protobufStreams
+                            ? protobufStreamCall(model, ctx, CodeBlock.of("inputs.map(item -> this.inputMapper.toGrpc(item))"))
+                            : CodeBlock.of("this.restClient.process(versionTag, replayMode, cachePolicy, inputs)"))
                     .build();
                 clientStepBuilder.addMethod(applyTransformMethod);
             }
@@ -306,6 +329,26 @@ public class RestClientStepRenderer implements PipelineRenderer<RestBinding> {
         return clientStepBuilder.build();
     }
 
+    /**
+     * Builds the REST call of a protobuf-stream step: encodes the given messages, sends them, and decodes the response
+     * frames back into output DTOs.
+     *
+     * @param model the streaming pipeline step model
+     * @param ctx the generation context providing the pipeline base package
+     * @param messages expression of the {@code Multi} of input protobuf messages
+     * @return a {@code Multi} expression of output DTOs
+     */
+    private CodeBlock protobufStreamCall(PipelineStepModel model, GenerationContext ctx, CodeBlock messages) {
+        ClassName streams = RestProtobufStreamSpec.STREAMS;
+        return CodeBlock.of(
+            "$T.decode(this.restClient.process(versionTag, replayMode, cachePolicy, $T.encode($L)), $T.parser())"
+                + ".map(item -> this.outputMapper.fromGrpc(item))",
+            streams,
+            streams,
+            messages,
+            RestProtobufStreamSpec.outputMessage(model, ctx.pipelineBasePackage()));
+    }
+
     private MethodSpec transportBoundaryMethod(String protocol, String target) {
         return MethodSpec.methodBuilder("transportBoundary")
             .addAnnotation(Override.class)
@@ -450,6 +493,37 @@ public class RestClientStepRenderer implements PipelineRenderer<RestBinding> {
         return methodBuilder.build();
     }
 
+    /**
+     * Declares the REST client's process operation for steps whose streaming bodies are
+     * {@code application/x-protobuf-stream}; both directions carry encoded frames.
+     *
+     * @param operationPath the REST sub-path for the operation endpoint
+     * @return a MethodSpec for a public abstract `process` method sending and receiving `Multi<byte[]>` frames
+     */
+    private MethodSpec buildProtobufStreamMethod(String operationPath) {
+        TypeName frames = ParameterizedTypeName.get(ClassName.get(Multi.class), TypeName.get(byte[].class));
+        MethodSpec.Builder methodBuilder = MethodSpec.methodBuilder("process")
+            .addAnnotation(AnnotationSpec.builder(ClassName.get("jakarta.ws.rs", "POST")).build())
+            .addAnnotation(AnnotationSpec.builder(ClassName.get("jakarta.ws.rs", "Path"))
+                .addMember("value", "$S", operationPath)
+                .build())
+            .addAnnotation(AnnotationSpec.builder(ClassName.get("jakarta.ws.rs", "Consumes"))
+                .addMember("value", "$T.$L",
+                    RestProtobufStreamSpec.CONTENT_TYPES, RestProtobufStreamSpec.CONTENT_TYPE_CONSTANT)
+                .build())
+            .addAnnotation(AnnotationSpec.builder(ClassName.get("jakarta.ws.rs", "Produces"))
+                .addMember("value", "$T.$L",
+                    RestProtobufStreamSpec.CONTENT_TYPES, RestProtobufStreamSpec.CONTENT_TYPE_CONSTANT)
+                .build())
+            .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+            .returns(frames)
+            .addParameter(headerParam("versionTag"))
+            .addParameter(headerParam("replayMode"))
+            .addParameter(headerParam("cachePolicy"))
+            .addParameter(frames, "frames");
+        return methodBuilder.build();
+    }
+
     /**
      * Builds a ParameterSpec for a `String` parameter annotated with `@HeaderParam` that references
      * the appropriate `PipelineContextHeaders` constant for the given logical header name.
@@ -0,0 +1,94 @@
+package org.pipelineframework.processor.renderer;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.TypeName;
+import org.pipelineframework.processor.ir.PipelineStepModel;
+import org.pipelineframework.processor.ir.RestBinding;
+import org.pipelineframework.processor.ir.StreamingShape;
+import org.pipelineframework.processor.ir.TypeMapping;
+import org.pipelineframework.processor.util.RestStreamFormat;
+
+/**
+ * Types shared by REST resources and REST client steps whose streaming endpoints use
+ * {@code application/x-protobuf-stream}.
+ *
+ * <p>Items cross the wire as the pipeline's {@code PipelineTypes} messages. Both sides convert through the step's
+ * mappers, which follow the {@code toGrpc(dto)}/{@code fromGrpc(message)} convention of the generated common module.</p>
+ */
+final class RestProtobufStreamSpec {
+
+    static final ClassName STREAMS = ClassName.get("org.pipelineframework.transport.http", "ProtobufHttpStreams");
+    static final ClassName CONTENT_TYPES =
+        ClassName.get("org.pipelineframework.transport.http", "ProtobufHttpContentTypes");
+    static final String CONTENT_TYPE_CONSTANT = "APPLICATION_X_PROTOBUF_STREAM";
+
+    private RestProtobufStreamSpec() {
+    }
+
+    static boolean isStreaming(PipelineStepModel model) {
+        return model.streamingShape() != null && model.streamingShape() != StreamingShape.UNARY_UNARY;
+    }
+
+    /**
+     * Whether a step's streaming endpoint uses protobuf streams, from its own format override or the build-wide
+     * format.
+     *
+     * @param binding the step's REST binding
+     * @param ctx the generation context
+     * @return true for streaming steps whose format is {@link RestStreamFormat#PROTOBUF}
+     */
+    static boolean enabled(RestBinding binding, GenerationContext ctx) {
+        return isStreaming(binding.model())
+            && RestStreamFormat.resolve(binding.restStreamFormatOverride(), ctx.processingEnv())
+                == RestStreamFormat.PROTOBUF;
+    }
+
+    static TypeName inputMapper(PipelineStepModel model) {
+        return mapper(model, model.inputMapping(), "input");
+    }
+
+    static TypeName outputMapper(PipelineStepModel model) {
+        return mapper(model, model.outputMapping(), "output");
+    }
+
+    static ClassName inputMessage(PipelineStepModel model, String pipelineBasePackage) {
+        return message(model, model.inboundDomainType(), pipelineBasePackage);
+    }
+
+    static ClassName outputMessage(PipelineStepModel model, String pipelineBasePackage) {
+        return message(model, model.outboundDomainType(), pipelineBasePackage);
+    }
+
+    private static TypeName mapper(PipelineStepModel model, TypeMapping mapping, String direction) {
+        if (mapping == null || mapping.mapperType().isEmpty()) {
+            throw new IllegalStateException(String.format(
+                "REST protobuf streams for '%s' require an %s mapper with toGrpc/fromGrpc methods",
+                model.serviceName(), direction));
+        }
+        return mapping.mapperType().get();
+    }
+
+    private static ClassName message(PipelineStepModel model, TypeName domainType, String pipelineBasePackage) {
+        if (!(domainType instanceof ClassName className)) {
+            throw new IllegalStateException(String.format(
+                "REST protobuf streams for '%s' require class domain types, got '%s'",
+                model.serviceName(), domainType));
+        }
+        return ClassName.get(basePackage(className, pipelineBasePackage) + ".grpc", "PipelineTypes",
+            className.simpleName());
+    }
+
+    private static String basePackage(ClassName className, String pipelineBasePackage) {
+        if (pipelineBasePackage != null && !pipelineBasePackage.isBlank()) {
+            return pipelineBasePackage;
+        }
+        String packageName = className.packageName();
+        if (packageName.endsWith(".common.domain")) {
+            return packageName.substring(0, packageName.length() - ".common.domain".length());
+        }
+        if (packageName.endsWith(".domain")) {
+            return packageName.substring(0, packageName.length() - ".domain".length());
+        }
+        return packageName;
+    }
+}
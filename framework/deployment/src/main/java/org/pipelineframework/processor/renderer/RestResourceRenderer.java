@@ -122,20 +122,26 @@ public class RestResourceRenderer implements PipelineRenderer<RestBinding> {
             ? outputDtoClassName
             : (model.outboundDomainType() != null ? model.outboundDomainType() : ClassName.OBJECT);
 
-        // Use generic Mapper interfaces so AP generation does not depend on concrete mapper resolution.
+        // Use generic Mapper interfaces so AP generation does not depend on concrete mapper resolution,
+        // except for protobuf streams, which need the mappers' protobuf conversions.
+        boolean protobufStreams = RestProtobufStreamSpec.enabled(binding, ctx);
         String inboundMapperFieldName = "inboundMapper";
         String outboundMapperFieldName = "outboundMapper";
         if (!cacheSideEffect) {
-            TypeName inboundMapperType = ParameterizedTypeName.get(
-                ClassName.get("org.pipelineframework.mapper", "Mapper"),
-                domainInputType,
-                inputDtoClassName
-            );
-            TypeName outboundMapperType = ParameterizedTypeName.get(
-                ClassName.get("org.pipelineframework.mapper", "Mapper"),
-                domainOutputType,
-                outputDtoClassName
-            );
+            TypeName inboundMapperType = protobufStreams
+                ? RestProtobufStreamSpec.inputMapper(model)
+                : ParameterizedTypeName.get(
+                    ClassName.get("org.pipelineframework.mapper", "Mapper"),
+                    domainInputType,
+                    inputDtoClassName
+                );
+            TypeName outboundMapperType = protobufStreams
+                ? RestProtobufStreamSpec.outputMapper(model)
+                : ParameterizedTypeName.get(
+                    ClassName.get("org.pipelineframework.mapper", "Mapper"),
+                    domainOutputType,
+                    outputDtoClassName
+                );
             resourceBuilder.addField(FieldSpec.builder(inboundMapperType, inboundMapperFieldName)
                 .addAnnotation(AnnotationSpec.builder(ClassName.get("jakarta.inject", "Inject")).build())
                 .build());
@@ -160,20 +166,24 @@ public class RestResourceRenderer implements PipelineRenderer<RestBinding> {
         String operationPath = RestPathResolver.resolveOperationPath(ctx.processingEnv());
 
         // Create the process method based on service type (determined from streaming shape)
-        MethodSpec processMethod = switch (model.streamingShape()) {
-            case UNARY_STREAMING -> createReactiveStreamingServiceProcessMethod(
-                    inputDtoClassName, outputDtoClassName, model, inboundMapperFieldName, outboundMapperFieldName,
-                    cachePluginSideEffect, operationPath);
-            case STREAMING_UNARY -> createReactiveStreamingClientServiceProcessMethod(
-                    inputDtoClassName, outputDtoClassName, model, inboundMapperFieldName, outboundMapperFieldName,
-                    cachePluginSideEffect, operationPath);
-            case STREAMING_STREAMING -> createReactiveBidirectionalStreamingServiceProcessMethod(
-                    inputDtoClassName, outputDtoClassName, model, inboundMapperFieldName, outboundMapperFieldName,
-                    cachePluginSideEffect, operationPath);
-            default -> createReactiveServiceProcessMethod(
-                    inputDtoClassName, outputDtoClassName, model, inboundMapperFieldName,
-                    outboundMapperFieldName, cacheSideEffect, operationPath);
-        };
+        MethodSpec processMethod = protobufStreams
+            ? createProtobufStreamProcessMethod(
+                model, inboundMapperFieldName, outboundMapperFieldName, cachePluginSideEffect, operationPath,
+                ctx.pipelineBasePackage())
+            : switch (model.streamingShape()) {
+                case UNARY_STREAMING -> createReactiveStreamingServiceProcessMethod(
+                        inputDtoClassName, outputDtoClassName, model, inboundMapperFieldName, outboundMapperFieldName,
+                        cachePluginSideEffect, operationPath);
+                case STREAMING_UNARY -> createReactiveStreamingClientServiceProcessMethod(
+                        inputDtoClassName, outputDtoClassName, model, inboundMapperFieldName, outboundMapperFieldName,
+                        cachePluginSideEffect, operationPath);
+                case STREAMING_STREAMING -> createReactiveBidirectionalStreamingServiceProcessMethod(
+                        inputDtoClassName, outputDtoClassName, model, inboundMapperFieldName, outboundMapperFieldName,
+                        cachePluginSideEffect, operationPath);
+                default -> createReactiveServiceProcessMethod(
+                        inputDtoClassName, outputDtoClassName, model, inboundMapperFieldName,
+                        outboundMapperFieldName, cacheSideEffect, operationPath);
+            };
 
         resourceBuilder.addMethod(processMethod);
 
@@ -400,6 +410,64 @@ public class RestResourceRenderer implements PipelineRenderer<RestBinding> {
         return methodBuilder.build();
     }
 
+    /**
+     * Builds the POST "process" endpoint of a streaming step whose bodies are {@code application/x-protobuf-stream}.
+     *
+     * <p>The endpoint delegates to the adapter's {@code remoteProcessFrames}, which decodes the request frame by frame
+     * as the service demands items and records the same server telemetry as {@code remoteProcess}. Items are converted
+     * between the pipeline protobuf messages and DTOs through the injected mappers.</p>
+     *
+     * @param model                   the streaming pipeline step model
+     * @param inboundMapperFieldName  name of the injected input mapper field
+     * @param outboundMapperFieldName name of the injected output mapper field
+     * @param skipValidation          if true, skips calling validateRestMappings(model)
+     * @param operationPath           the JAX-RS subpath of the process operation
+     * @param pipelineBasePackage     the pipeline base package, or null to derive it from the domain types
+     * @return a `Multi` of encoded frames
+     */
+    private MethodSpec createProtobufStreamProcessMethod(
+            PipelineStepModel model,
+            String inboundMapperFieldName,
+            String outboundMapperFieldName,
+            boolean skipValidation,
+            String operationPath,
+            String pipelineBasePackage) {
+        if (!skipValidation) {
+            validateRestMappings(model);
+        }
+
+        MethodSpec.Builder methodBuilder = MethodSpec.methodBuilder("process")
+            .addAnnotation(AnnotationSpec.builder(ClassName.get("jakarta.ws.rs", "POST"))
+                .build())
+            .addAnnotation(AnnotationSpec.builder(ClassName.get("jakarta.ws.rs", "Path"))
+                .addMember("value", "$S", operationPath)
+                .build())
+            .addAnnotation(AnnotationSpec.builder(ClassName.get("jakarta.ws.rs", "Consumes"))
+                .addMember("value", "$T.$L",
+                    RestProtobufStreamSpec.CONTENT_TYPES, RestProtobufStreamSpec.CONTENT_TYPE_CONSTANT)
+                .build())
+            .addAnnotation(AnnotationSpec.builder(ClassName.get("jakarta.ws.rs", "Produces"))
+                .addMember("value", "$T.$L",
+                    RestProtobufStreamSpec.CONTENT_TYPES, RestProtobufStreamSpec.CONTENT_TYPE_CONSTANT)
+                .build())
+            .addModifiers(Modifier.PUBLIC)
+            .returns(ParameterizedTypeName.get(ClassName.get(Multi.class), TypeName.get(byte[].class)))
+            .addParameter(ClassName.get(java.io.InputStream.class), "body");
+
+        methodBuilder.addStatement("return remoteProcessFrames(body, $T.parser(), item -> $L.fromGrpc(item), "
+                + "output -> $L.toGrpc(output))",
+            RestProtobufStreamSpec.inputMessage(model, pipelineBasePackage),
+            inboundMapperFieldName,
+            outboundMapperFieldName);
+
+        // Add @RunOnVirtualThread annotation if the property is enabled
+        if (model.executionMode() == org.pipelineframework.processor.ir.ExecutionMode.VIRTUAL_THREADS) {
+            methodBuilder.addAnnotation(ClassName.get("io.smallrye.common.annotation", "RunOnVirtualThread"));
+        }
+
+        return methodBuilder.build();
+    }
+
     /**
      * Selects the REST reactive adapter class corresponding to the model's streaming shape.
      *
@@ -1110,6 +1110,14 @@ public final class PipelineTemplateSchemaExporter {
         "batchSize": {
           "type": "integer",
           "minimum": 1
+        },
+        "admissionConcurrency": {
+          "type": "integer",
+          "minimum": 1
+        },
+        "maxAdmissionAttempts": {
+          "type": "integer",
+          "minimum": 1
         }
       },
       "additionalProperties": false
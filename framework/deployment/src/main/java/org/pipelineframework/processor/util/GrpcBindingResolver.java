@@ -226,8 +226,8 @@ public class GrpcBindingResolver {
      *
      * Searches the service for a single method called "remoteProcess" and returns its descriptor.
      * If more than one method with that name exists, or if no such method is found, an
-     * IllegalStateException is thrown. If the service contains other RPCs, a warning is emitted
-     * indicating only "remoteProcess" will be bound.
+     * IllegalStateException is thrown. If the service contains other RPCs besides the generated
+     * "remoteProcessStream" companion, a warning is emitted indicating only "remoteProcess" will be bound.
      *
      * @param serviceDescriptor the service descriptor to search
      * @param stepModel         pipeline step model used to provide contextual information for errors
@@ -256,7 +256,10 @@ public class GrpcBindingResolver {
         }
 
         // Check if there are other methods and emit warning if so
-        if (serviceDescriptor.getMethods().size() > 1) {
+        boolean hasUnexpected = serviceDescriptor.getMethods().stream()
+            .anyMatch(method -> !method.getName().equals(expectedMethodName)
+                && !method.getName().equals(GrpcJavaTypeResolver.STREAM_METHOD_NAME));
+        if (hasUnexpected) {
             System.out.printf("Warning for step '%s': Service '%s' contains multiple RPC methods. Only '%s' will be bound.%n",
                 stepModel.serviceName(), serviceDescriptor.getName(), expectedMethodName);
         }
@@ -27,6 +27,11 @@ import org.pipelineframework.processor.ir.GrpcBinding;
  */
 public class GrpcJavaTypeResolver {
 
+    /**
+     * Name of the correlated bidirectional-stream companion of a one-to-one {@code remoteProcess} RPC.
+     */
+    public static final String STREAM_METHOD_NAME = "remoteProcessStream";
+
     /**
      * Creates a new GrpcJavaTypeResolver.
      */
@@ -121,6 +126,69 @@ public class GrpcJavaTypeResolver {
         }
     }
 
+    /**
+     * Resolve the envelope types of the {@code remoteProcessStream} companion of a one-to-one binding.
+     *
+     * <p>The companion is only used when it is a bidirectional stream whose request envelope holds an int64
+     * {@code sequence} and the unary request as {@code item}, and whose response envelope holds {@code sequence},
+     * the unary response as {@code item}, an int32 {@code error_code} and a string {@code error_message}. Both
+     * envelopes also need a {@code map<string, string> context} for the per-item headers. Services without such a
+     * companion, such as hand-written protos, keep unary calls.</p>
+     *
+     * @param binding the pipeline step binding containing the service and method descriptors
+     * @return the envelope types, or {@code null} when the service has no usable stream companion
+     */
+    public StreamEnvelopeTypes resolveStreamEnvelope(GrpcBinding binding) {
+        if (!(binding.serviceDescriptor() instanceof Descriptors.ServiceDescriptor serviceDescriptor)
+            || !(binding.methodDescriptor() instanceof Descriptors.MethodDescriptor unaryMethod)
+            || unaryMethod.isClientStreaming()
+            || unaryMethod.isServerStreaming()) {
+            return null;
+        }
+        Descriptors.MethodDescriptor streamMethod = serviceDescriptor.findMethodByName(STREAM_METHOD_NAME);
+        if (streamMethod == null || !streamMethod.isClientStreaming() || !streamMethod.isServerStreaming()) {
+            return null;
+        }
+        if (!isStreamEnvelope(streamMethod.getInputType(), unaryMethod.getInputType(), false)
+            || !isStreamEnvelope(streamMethod.getOutputType(), unaryMethod.getOutputType(), true)) {
+            return null;
+        }
+        return new StreamEnvelopeTypes(
+            convertProtoFqnToJavaClassName(streamMethod.getInputType().getFullName(), streamMethod),
+            convertProtoFqnToJavaClassName(streamMethod.getOutputType().getFullName(), streamMethod));
+    }
+
+    private static boolean isStreamEnvelope(
+        Descriptors.Descriptor envelope,
+        Descriptors.Descriptor item,
+        boolean response
+    ) {
+        Descriptors.FieldDescriptor sequence = envelope.findFieldByName("sequence");
+        Descriptors.FieldDescriptor itemField = envelope.findFieldByName("item");
+        if (!isSingular(sequence, Descriptors.FieldDescriptor.Type.INT64)
+            || !isSingular(itemField, Descriptors.FieldDescriptor.Type.MESSAGE)
+            || !itemField.getMessageType().getFullName().equals(item.getFullName())
+            || !isStringMap(envelope.findFieldByName("context"))) {
+            return false;
+        }
+        return !response
+            || (isSingular(envelope.findFieldByName("error_code"), Descriptors.FieldDescriptor.Type.INT32)
+                && isSingular(envelope.findFieldByName("error_message"), Descriptors.FieldDescriptor.Type.STRING));
+    }
+
+    private static boolean isSingular(Descriptors.FieldDescriptor field, Descriptors.FieldDescriptor.Type type) {
+        return field != null && !field.isRepeated() && field.getType() == type;
+    }
+
+    private static boolean isStringMap(Descriptors.FieldDescriptor field) {
+        if (field == null || !field.isMapField()) {
+            return false;
+        }
+        Descriptors.Descriptor entry = field.getMessageType();
+        return isSingular(entry.findFieldByName("key"), Descriptors.FieldDescriptor.Type.STRING)
+            && isSingular(entry.findFieldByName("value"), Descriptors.FieldDescriptor.Type.STRING);
+    }
+
     /**
      * Resolve a protobuf message fully-qualified name to the corresponding JavaPoet ClassName,
      * honouring `java_package`, `java_outer_classname` and `java_multiple_files` file options.
@@ -297,6 +365,15 @@ public class GrpcJavaTypeResolver {
         return grpcOuterClass + "$" + mutinyStubName;
     }
 
+    /**
+     * Java types of the sequence-id envelopes exchanged on {@code remoteProcessStream}.
+     *
+     * @param request the request envelope message class
+     * @param response the response envelope message class
+     */
+    public record StreamEnvelopeTypes(ClassName request, ClassName response) {
+    }
+
     /**
      * Value class holding the resolved gRPC Java types.
      */
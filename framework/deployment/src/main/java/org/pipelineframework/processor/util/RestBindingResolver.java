@@ -20,6 +20,8 @@ import org.pipelineframework.processor.ir.RestBinding;
  * <ul>
  *   <li>{@code pipeline.rest.path.<ServiceName>}</li>
  *   <li>{@code pipeline.rest.path.<fully.qualified.ServiceClass>}</li>
+ *   <li>{@code pipeline.rest.stream.format.<ServiceName>}</li>
+ *   <li>{@code pipeline.rest.stream.format.<fully.qualified.ServiceClass>}</li>
  * </ul>
  */
 public class RestBindingResolver {
@@ -30,44 +32,49 @@ public class RestBindingResolver {
     public RestBindingResolver() {
     }
     private static final String REST_PATH_PREFIX = "pipeline.rest.path.";
+    private static final String REST_STREAM_FORMAT_PREFIX = RestStreamFormat.REST_STREAM_FORMAT_OPTION + ".";
     private static final String APPLICATION_PROPERTIES_PATH = "src/main/resources/application.properties";
 
     /**
-     * Resolve the REST binding for a pipeline step, applying an override from application.properties when present.
+     * Resolve the REST binding for a pipeline step, applying overrides from application.properties when present.
      *
      * @param stepModel the pipeline step model whose REST binding should be resolved
      * @param processingEnv the annotation processing environment
-     * @return a RestBinding whose path is overridden if an applicable property is defined, `null` override otherwise
+     * @return a RestBinding whose path and stream format are overridden if applicable properties are defined,
+     *     `null` overrides otherwise
      */
     public RestBinding resolve(PipelineStepModel stepModel, ProcessingEnvironment processingEnv) {
-        String override = null;
+        String pathOverride = null;
+        String streamFormatOverride = null;
         try {
             Properties properties = loadApplicationProperties(processingEnv);
             if (!properties.isEmpty()) {
-                override = resolveOverride(properties, stepModel);
+                pathOverride = resolveOverride(properties, REST_PATH_PREFIX, stepModel);
+                streamFormatOverride = resolveOverride(properties, REST_STREAM_FORMAT_PREFIX, stepModel);
             }
         } catch (IOException e) {
             processingEnv.getMessager().printMessage(javax.tools.Diagnostic.Kind.WARNING,
-                "Failed to read application.properties for REST path overrides: " + e.getMessage());
+                "Failed to read application.properties for REST overrides: " + e.getMessage());
         }
-        return new RestBinding(stepModel, override);
+        return new RestBinding(stepModel, pathOverride, streamFormatOverride);
     }
 
     /**
-     * Determine an override REST path for the given pipeline step by checking properties for
-     * keys "pipeline.rest.path.{ServiceName}" then "pipeline.rest.path.{fully.qualified.ServiceClass}".
+     * Determine an override for the given pipeline step by checking properties for
+     * keys "{prefix}{ServiceName}" then "{prefix}{fully.qualified.ServiceClass}".
      *
      * @param properties properties to search for override entries
+     * @param prefix the override key prefix, ending with a dot
      * @param stepModel model describing the pipeline step whose service name and class are used as keys
-     * @return the normalized override path if a matching property is present, otherwise null
+     * @return the normalized override value if a matching property is present, otherwise null
      */
-    private String resolveOverride(Properties properties, PipelineStepModel stepModel) {
-        String serviceNameKey = REST_PATH_PREFIX + stepModel.serviceName();
+    private String resolveOverride(Properties properties, String prefix, PipelineStepModel stepModel) {
+        String serviceNameKey = prefix + stepModel.serviceName();
         if (properties.containsKey(serviceNameKey)) {
             return normalizeOverride(properties.getProperty(serviceNameKey));
         }
 
-        String serviceClassKey = REST_PATH_PREFIX + stepModel.serviceClassName().canonicalName();
+        String serviceClassKey = prefix + stepModel.serviceClassName().canonicalName();
         if (properties.containsKey(serviceClassKey)) {
             return normalizeOverride(properties.getProperty(serviceClassKey));
         }
@@ -0,0 +1,87 @@
+package org.pipelineframework.processor.util;
+
+import java.util.Locale;
+import java.util.Map;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.tools.Diagnostic;
+
+/**
+ * Wire format of generated REST streaming endpoints (one-to-many, many-to-one and many-to-many).
+ *
+ * <p>The build-wide format comes from {@value #REST_STREAM_FORMAT_OPTION}. A step can override it with
+ * {@code pipeline.rest.stream.format.<ServiceName>} in {@code application.properties}, resolved into
+ * {@code RestBinding#restStreamFormatOverride()}.</p>
+ */
+public enum RestStreamFormat {
+    /**
+     * One JSON document per line ({@code application/x-ndjson}); many-to-one requests are a JSON array.
+     */
+    NDJSON,
+    /**
+     * Varint length-delimited protobuf messages ({@code application/x-protobuf-stream}) in both directions.
+     */
+    PROTOBUF;
+
+    public static final String REST_STREAM_FORMAT_OPTION = "pipeline.rest.stream.format";
+    private static final String REST_STREAM_FORMAT_ENV = "PIPELINE_REST_STREAM_FORMAT";
+
+    /**
+     * Resolve the stream format from processor options, then system properties, then the environment.
+     *
+     * @param processingEnv processing environment used to read processor options
+     * @return the configured format, {@link #NDJSON} when unset or unknown
+     */
+    public static RestStreamFormat resolve(ProcessingEnvironment processingEnv) {
+        return parse(configured(processingEnv), processingEnv);
+    }
+
+    /**
+     * Resolve the stream format of one step: its override when set, otherwise the build-wide format.
+     *
+     * @param override the step's format override, or null
+     * @param processingEnv processing environment used to read processor options
+     * @return the step's format
+     */
+    public static RestStreamFormat resolve(String override, ProcessingEnvironment processingEnv) {
+        if (override == null || override.isBlank()) {
+            return resolve(processingEnv);
+        }
+        return parse(override, processingEnv);
+    }
+
+    private static String configured(ProcessingEnvironment processingEnv) {
+        String raw = null;
+        if (processingEnv != null) {
+            Map<String, String> options = processingEnv.getOptions();
+            if (options != null) {
+                raw = options.get(REST_STREAM_FORMAT_OPTION);
+            }
+        }
+        if (raw == null || raw.isBlank()) {
+            raw = System.getProperty(REST_STREAM_FORMAT_OPTION);
+        }
+        if (raw == null || raw.isBlank()) {
+            raw = System.getenv(REST_STREAM_FORMAT_ENV);
+        }
+        return raw;
+    }
+
+    private static RestStreamFormat parse(String raw, ProcessingEnvironment processingEnv) {
+        if (raw == null || raw.isBlank()) {
+            return NDJSON;
+        }
+        String trimmed = raw.trim();
+        for (RestStreamFormat format : values()) {
+            if (format.name().equals(trimmed.toUpperCase(Locale.ROOT))) {
+                return format;
+            }
+        }
+        String warning = "Unknown REST stream format '" + trimmed + "'; defaulting to NDJSON.";
+        if (processingEnv != null && processingEnv.getMessager() != null) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, warning);
+        } else {
+            System.err.println(warning);
+        }
+        return NDJSON;
+    }
+}
@@ -37,6 +37,8 @@ class ProtobufParserServiceTest {
         String source = Files.readString(generated);
         assertTrue(source.contains("return \"checkout.v1.OrderPlaced\";"));
         assertFalse(source.contains("legacyTypeAliases"));
+        assertTrue(source.contains("public Class<? extends Message> messageClass()"));
+        assertTrue(source.contains("return OrderPlaced.newBuilder();"));
     }
 
     private static DescriptorProtos.FileDescriptorSet descriptorSet() {
@@ -67,6 +67,9 @@ class AwsLambdaOrchestratorRendererTest {
         assertTrue(
             source.contains("inputStream -> inputStream.collect().asList().onItem().transformToUni(resource::run)"),
             () -> "expected streaming-input lambda bridge missing. source:\n" + source);
+        assertTrue(
+            source.contains("ManyToOneAggregationMode.configured(\"PipelineRunFunctionHandler\"))"),
+            () -> "expected configured many-to-one aggregation mode missing. source:\n" + source);
         assertTrue(
             source.contains("return FunctionTransportBridge.invokeManyToOne(input, transportContext, source, invoke, sink)"),
             () -> "expected FunctionTransportBridge.invokeManyToOne invocation missing. source:\n" + source);
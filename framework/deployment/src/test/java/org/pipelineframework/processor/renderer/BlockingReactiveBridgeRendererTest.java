@@ -64,7 +64,7 @@ class BlockingReactiveBridgeRendererTest {
             "org/pipelineframework/csv/service/pipeline/ProcessCsvPaymentsInputBlockingReactiveBridge.java"));
 
         assertTrue(source.contains("implements ReactiveStreamingService<CsvPaymentsInputFile, PaymentRecord>"));
-        assertTrue(source.contains("emitIterator(false, () -> blockingService.iterateBlocking(processableObj))"));
+        assertTrue(source.contains("emitIterator(false, \"org.pipelineframework.csv.service.ProcessCsvPaymentsInputService\", () -> blockingService.iterateBlocking(processableObj))"));
     }
 
     @Test
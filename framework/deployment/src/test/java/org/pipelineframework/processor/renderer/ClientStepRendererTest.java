@@ -12,6 +12,7 @@ import org.junit.jupiter.api.io.TempDir;
 import org.pipelineframework.processor.ir.*;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -57,6 +58,8 @@ class ClientStepRendererTest {
         assertTrue(source.contains("PipelineInvocationRuntime invocationRuntime;"));
         assertTrue(source.contains("this.invocationRuntime.invokeTransportUni"));
         assertTrue(source.contains("new TransportBoundaryDescriptor(\"grpc\", \"TestService.remoteProcess\")"));
+        assertTrue(source.contains("this.grpcClient.remoteProcess(input)"));
+        assertTrue(!source.contains("GrpcStreamMultiplexer"));
     }
 
     @Test
@@ -151,6 +154,55 @@ class ClientStepRendererTest {
         }
     }
 
+    @Test
+    void multiplexesOneToOneCallsWhenServiceHasStreamCompanion() throws Exception {
+        GrpcBinding binding = streamCompanionBinding(true);
+
+        renderer.render(binding, clientContext());
+
+        String source = java.nio.file.Files.readString(tempDir.resolve("com/example/pipeline/TestGrpcClientStep.java"));
+        assertTrue(source.contains(
+            "GrpcStreamMultiplexer<PipelineTypes.InputType, PipelineTypes.OutputType, "
+                + "PipelineTypes.ProcessTestStreamRequest, PipelineTypes.ProcessTestStreamResponse> grpcStreams;"));
+        assertTrue(source.contains("@PostConstruct"));
+        assertTrue(source.contains("this.grpcStreams = GrpcStreamMultiplexer.fromConfig(new GrpcStreamEnvelope<"));
+        assertTrue(source.contains("this.grpcClient::remoteProcessStream, this.grpcClient::remoteProcess)"));
+        assertTrue(source.contains(
+            "PipelineTypes.ProcessTestStreamRequest.newBuilder().setSequence(sequence).setItem(request)"
+                + ".putAllContext(context).build()"));
+        assertTrue(source.contains("protected Map<String, String> responseContext("));
+        assertTrue(source.contains("return envelope.getErrorCode();"));
+        assertTrue(source.contains("@PreDestroy"));
+        assertTrue(source.contains("this.grpcStreams.close();"));
+        assertTrue(source.contains("GrpcClientTracing.traceUnary(\"TestService\", \"remoteProcess\", this.grpcStreams.call(input))"));
+        assertFalse(source.contains("this.grpcClient.remoteProcess(input)"));
+    }
+
+    @Test
+    void keepsUnaryCallsWhenStreamCompanionDoesNotMatchEnvelopeShape() throws Exception {
+        GrpcBinding binding = streamCompanionBinding(false);
+
+        renderer.render(binding, clientContext());
+
+        String source = java.nio.file.Files.readString(tempDir.resolve("com/example/pipeline/TestGrpcClientStep.java"));
+        assertTrue(source.contains("this.grpcClient.remoteProcess(input)"));
+        assertFalse(source.contains("grpcStreams"));
+    }
+
+    private GrpcBinding streamCompanionBinding(boolean withErrorFields) {
+        Descriptors.ServiceDescriptor service = buildStreamCompanionDescriptor("PipelineTypes", withErrorFields)
+            .findServiceByName("TestService");
+        return new GrpcBinding(
+            createModel(StreamingShape.UNARY_UNARY, false), service, service.findMethodByName("remoteProcess"));
+    }
+
+    private GenerationContext clientContext() {
+        ProcessingEnvironment processingEnv = mock(ProcessingEnvironment.class);
+        when(processingEnv.getMessager()).thenReturn(null);
+        return new GenerationContext(processingEnv, tempDir, DeploymentRole.ORCHESTRATOR_CLIENT,
+            java.util.Set.of(), null, null);
+    }
+
     private static String v3StepContract(StreamingShape shape) {
         return switch (shape) {
             case UNARY_UNARY -> "StepOneToOne<InputType, OutputType>";
@@ -215,4 +267,87 @@ class ClientStepRendererTest {
         }
     }
 
+    private Descriptors.FileDescriptor buildStreamCompanionDescriptor(String outerClassName, boolean withErrorFields) {
+        DescriptorProtos.DescriptorProto.Builder response = DescriptorProtos.DescriptorProto.newBuilder()
+            .setName("ProcessTestStreamResponse")
+            .addField(field("sequence", 1, DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT64, null))
+            .addField(field("item", 2, DescriptorProtos.FieldDescriptorProto.Type.TYPE_MESSAGE,
+                ".com.example.grpc.OutputType"));
+        withContextMap(response, 5);
+        if (withErrorFields) {
+            response
+                .addField(field("error_code", 3, DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT32, null))
+                .addField(field("error_message", 4, DescriptorProtos.FieldDescriptorProto.Type.TYPE_STRING, null));
+        }
+        DescriptorProtos.FileDescriptorProto proto = DescriptorProtos.FileDescriptorProto.newBuilder()
+            .setName("test_service.proto")
+            .setPackage("com.example.grpc")
+            .setOptions(DescriptorProtos.FileOptions.newBuilder()
+                .setJavaPackage("com.example.grpc")
+                .setJavaOuterClassname(outerClassName)
+                .build())
+            .addMessageType(DescriptorProtos.DescriptorProto.newBuilder()
+                .setName("InputType"))
+            .addMessageType(DescriptorProtos.DescriptorProto.newBuilder()
+                .setName("OutputType"))
+            .addMessageType(withContextMap(DescriptorProtos.DescriptorProto.newBuilder()
+                .setName("ProcessTestStreamRequest")
+                .addField(field("sequence", 1, DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT64, null))
+                .addField(field("item", 2, DescriptorProtos.FieldDescriptorProto.Type.TYPE_MESSAGE,
+                    ".com.example.grpc.InputType")), 3))
+            .addMessageType(response)
+            .addService(DescriptorProtos.ServiceDescriptorProto.newBuilder()
+                .setName("TestService")
+                .addMethod(DescriptorProtos.MethodDescriptorProto.newBuilder()
+                    .setName("remoteProcess")
+                    .setInputType(".com.example.grpc.InputType")
+                    .setOutputType(".com.example.grpc.OutputType"))
+                .addMethod(DescriptorProtos.MethodDescriptorProto.newBuilder()
+                    .setName("remoteProcessStream")
+                    .setInputType(".com.example.grpc.ProcessTestStreamRequest")
+                    .setOutputType(".com.example.grpc.ProcessTestStreamResponse")
+                    .setClientStreaming(true)
+                    .setServerStreaming(true)))
+            .build();
+
+        try {
+            return Descriptors.FileDescriptor.buildFrom(proto, new Descriptors.FileDescriptor[] {});
+        } catch (Descriptors.DescriptorValidationException e) {
+            throw new IllegalStateException("Failed to build test descriptor", e);
+        }
+    }
+
+    private static DescriptorProtos.DescriptorProto.Builder withContextMap(
+        DescriptorProtos.DescriptorProto.Builder message,
+        int number
+    ) {
+        return message
+            .addNestedType(DescriptorProtos.DescriptorProto.newBuilder()
+                .setName("ContextEntry")
+                .setOptions(DescriptorProtos.MessageOptions.newBuilder().setMapEntry(true))
+                .addField(field("key", 1, DescriptorProtos.FieldDescriptorProto.Type.TYPE_STRING, null))
+                .addField(field("value", 2, DescriptorProtos.FieldDescriptorProto.Type.TYPE_STRING, null)))
+            .addField(field("context", number, DescriptorProtos.FieldDescriptorProto.Type.TYPE_MESSAGE,
+                ".com.example.grpc." + message.getName() + ".ContextEntry")
+                .toBuilder()
+                .setLabel(DescriptorProtos.FieldDescriptorProto.Label.LABEL_REPEATED)
+                .build());
+    }
+
+    private static DescriptorProtos.FieldDescriptorProto field(
+        String name,
+        int number,
+        DescriptorProtos.FieldDescriptorProto.Type type,
+        String typeName
+    ) {
+        DescriptorProtos.FieldDescriptorProto.Builder field = DescriptorProtos.FieldDescriptorProto.newBuilder()
+            .setName(name)
+            .setNumber(number)
+            .setLabel(DescriptorProtos.FieldDescriptorProto.Label.LABEL_OPTIONAL)
+            .setType(type);
+        if (typeName != null) {
+            field.setTypeName(typeName);
+        }
+        return field.build();
+    }
 }
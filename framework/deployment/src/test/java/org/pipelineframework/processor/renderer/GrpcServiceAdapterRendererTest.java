@@ -58,6 +58,7 @@ class GrpcServiceAdapterRendererTest {
             "Expected onTermination handler for gRPC server metrics");
         assertTrue(source.contains("Status.CANCELLED"),
             "Expected cancellation handling for gRPC server metrics");
+        assertFalse(source.contains("remoteProcessStream"));
     }
     
     @Test
@@ -328,6 +329,55 @@ class GrpcServiceAdapterRendererTest {
         assertTrue(source.contains("@RunOnVirtualThread"));
     }
 
+    @Test
+    void rendersStreamCompanionThroughUnaryRemoteProcess() throws IOException {
+        renderer.render(streamCompanionBinding(ExecutionMode.DEFAULT), serverContext());
+        String source = readGeneratedService("TestService");
+
+        assertTrue(source.contains("public Multi<TestServiceOuterClass.ProcessTestStreamResponse> remoteProcessStream("));
+        assertTrue(source.contains("Multi<TestServiceOuterClass.ProcessTestStreamRequest> request)"));
+        assertTrue(source.contains(".serve(request, this::remoteProcess);"));
+        assertTrue(source.contains(
+            "TestServiceOuterClass.ProcessTestStreamResponse.newBuilder().setSequence(sequence).setErrorCode(code)"
+                + ".setErrorMessage(message).build()"));
+        assertTrue(source.contains(
+            "TestServiceOuterClass.ProcessTestStreamResponse.newBuilder().setSequence(sequence).setItem(response)"
+                + ".putAllContext(context).build()"));
+        assertTrue(source.contains("protected Map<String, String> requestContext("));
+    }
+
+    @Test
+    void leavesStreamCompanionUnimplementedOnVirtualThreads() throws IOException {
+        renderer.render(streamCompanionBinding(ExecutionMode.VIRTUAL_THREADS), serverContext());
+        String source = readGeneratedService("TestService");
+
+        assertTrue(source.contains("@RunOnVirtualThread"));
+        assertFalse(source.contains("remoteProcessStream"));
+    }
+
+    private GrpcBinding streamCompanionBinding(ExecutionMode executionMode) {
+        PipelineStepModel model = new PipelineStepModel.Builder()
+            .serviceName("TestService")
+            .servicePackage("com.example")
+            .serviceClassName(ClassName.get("com.example", "TestService"))
+            .inputMapping(createTypeMapping("InputType"))
+            .outputMapping(createTypeMapping("OutputType"))
+            .streamingShape(StreamingShape.UNARY_UNARY)
+            .executionMode(executionMode)
+            .enabledTargets(java.util.Set.of(GenerationTarget.GRPC_SERVICE))
+            .build();
+        Descriptors.ServiceDescriptor service = buildStreamCompanionDescriptor("TestServiceOuterClass", true)
+            .findServiceByName("TestService");
+        return new GrpcBinding(model, service, service.findMethodByName("remoteProcess"));
+    }
+
+    private GenerationContext serverContext() {
+        ProcessingEnvironment processingEnv = mock(ProcessingEnvironment.class);
+        when(processingEnv.getMessager()).thenReturn(null);
+        return new GenerationContext(processingEnv, tempDir, DeploymentRole.PIPELINE_SERVER,
+            java.util.Set.of(), null, null);
+    }
+
     @Test
     void testRenderCacheSideEffectWithoutMappers() throws IOException {
         PipelineStepModel model = new PipelineStepModel.Builder()
@@ -520,4 +570,87 @@ class GrpcServiceAdapterRendererTest {
         assertTrue(source.contains("long startTime = System.nanoTime()"));
     }
 
+    private Descriptors.FileDescriptor buildStreamCompanionDescriptor(String outerClassName, boolean withErrorFields) {
+        DescriptorProtos.DescriptorProto.Builder response = DescriptorProtos.DescriptorProto.newBuilder()
+            .setName("ProcessTestStreamResponse")
+            .addField(field("sequence", 1, DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT64, null))
+            .addField(field("item", 2, DescriptorProtos.FieldDescriptorProto.Type.TYPE_MESSAGE,
+                ".com.example.grpc.OutputType"));
+        withContextMap(response, 5);
+        if (withErrorFields) {
+            response
+                .addField(field("error_code", 3, DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT32, null))
+                .addField(field("error_message", 4, DescriptorProtos.FieldDescriptorProto.Type.TYPE_STRING, null));
+        }
+        DescriptorProtos.FileDescriptorProto proto = DescriptorProtos.FileDescriptorProto.newBuilder()
+            .setName("test_service.proto")
+            .setPackage("com.example.grpc")
+            .setOptions(DescriptorProtos.FileOptions.newBuilder()
+                .setJavaPackage("com.example.grpc")
+                .setJavaOuterClassname(outerClassName)
+                .build())
+            .addMessageType(DescriptorProtos.DescriptorProto.newBuilder()
+                .setName("InputType"))
+            .addMessageType(DescriptorProtos.DescriptorProto.newBuilder()
+                .setName("OutputType"))
+            .addMessageType(withContextMap(DescriptorProtos.DescriptorProto.newBuilder()
+                .setName("ProcessTestStreamRequest")
+                .addField(field("sequence", 1, DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT64, null))
+                .addField(field("item", 2, DescriptorProtos.FieldDescriptorProto.Type.TYPE_MESSAGE,
+                    ".com.example.grpc.InputType")), 3))
+            .addMessageType(response)
+            .addService(DescriptorProtos.ServiceDescriptorProto.newBuilder()
+                .setName("TestService")
+                .addMethod(DescriptorProtos.MethodDescriptorProto.newBuilder()
+                    .setName("remoteProcess")
+                    .setInputType(".com.example.grpc.InputType")
+                    .setOutputType(".com.example.grpc.OutputType"))
+                .addMethod(DescriptorProtos.MethodDescriptorProto.newBuilder()
+                    .setName("remoteProcessStream")
+                    .setInputType(".com.example.grpc.ProcessTestStreamRequest")
+                    .setOutputType(".com.example.grpc.ProcessTestStreamResponse")
+                    .setClientStreaming(true)
+                    .setServerStreaming(true)))
+            .build();
+
+        try {
+            return Descriptors.FileDescriptor.buildFrom(proto, new Descriptors.FileDescriptor[] {});
+        } catch (Descriptors.DescriptorValidationException e) {
+            throw new IllegalStateException("Failed to build test descriptor", e);
+        }
+    }
+
+    private static DescriptorProtos.DescriptorProto.Builder withContextMap(
+        DescriptorProtos.DescriptorProto.Builder message,
+        int number
+    ) {
+        return message
+            .addNestedType(DescriptorProtos.DescriptorProto.newBuilder()
+                .setName("ContextEntry")
+                .setOptions(DescriptorProtos.MessageOptions.newBuilder().setMapEntry(true))
+                .addField(field("key", 1, DescriptorProtos.FieldDescriptorProto.Type.TYPE_STRING, null))
+                .addField(field("value", 2, DescriptorProtos.FieldDescriptorProto.Type.TYPE_STRING, null)))
+            .addField(field("context", number, DescriptorProtos.FieldDescriptorProto.Type.TYPE_MESSAGE,
+                ".com.example.grpc." + message.getName() + ".ContextEntry")
+                .toBuilder()
+                .setLabel(DescriptorProtos.FieldDescriptorProto.Label.LABEL_REPEATED)
+                .build());
+    }
+
+    private static DescriptorProtos.FieldDescriptorProto field(
+        String name,
+        int number,
+        DescriptorProtos.FieldDescriptorProto.Type type,
+        String typeName
+    ) {
+        DescriptorProtos.FieldDescriptorProto.Builder field = DescriptorProtos.FieldDescriptorProto.newBuilder()
+            .setName(name)
+            .setNumber(number)
+            .setLabel(DescriptorProtos.FieldDescriptorProto.Label.LABEL_OPTIONAL)
+            .setType(type);
+        if (typeName != null) {
+            field.setTypeName(typeName);
+        }
+        return field.build();
+    }
 }
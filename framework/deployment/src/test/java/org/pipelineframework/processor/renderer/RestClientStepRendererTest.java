@@ -390,4 +390,127 @@ class RestClientStepRendererTest {
         IllegalStateException exception = assertThrows(IllegalStateException.class, () -> renderer.render(binding, context));
         assertTrue(exception.getMessage().contains("Cache side-effect naming requires CacheService binding"));
     }
+
+    @Test
+    void rendersProtobufStreamClientStepsWhenFormatIsProtobuf() throws IOException {
+        TypeMapping records = new TypeMapping(
+            ClassName.get("org.pipelineframework.csv.common.domain", "PaymentRecord"),
+            ClassName.get("org.pipelineframework.csv.common.mapper", "PaymentRecordMapper"),
+            true);
+        TypeMapping outputs = new TypeMapping(
+            ClassName.get("org.pipelineframework.csv.common.domain", "PaymentOutput"),
+            ClassName.get("org.pipelineframework.csv.common.mapper", "PaymentOutputMapper"),
+            true);
+        ProcessingEnvironment processingEnv = mock(ProcessingEnvironment.class);
+        when(processingEnv.getOptions()).thenReturn(Map.of("pipeline.rest.stream.format", "PROTOBUF"));
+        GenerationContext context = new GenerationContext(
+            processingEnv,
+            tempDir.resolve("protobuf-stream"),
+            DeploymentRole.ORCHESTRATOR_CLIENT,
+            java.util.Set.of(),
+            null,
+            null);
+        RestClientStepRenderer renderer = new RestClientStepRenderer();
+
+        renderer.render(new RestBinding(streamingModel("TransformPaymentsService", StreamingShape.STREAMING_STREAMING,
+            records, outputs), null), context);
+        renderer.render(new RestBinding(streamingModel("ExpandPaymentsService", StreamingShape.UNARY_STREAMING,
+            records, outputs), null), context);
+        renderer.render(new RestBinding(streamingModel("AggregatePaymentsService", StreamingShape.STREAMING_UNARY,
+            records, outputs), null), context);
+
+        Path generated = tempDir.resolve("protobuf-stream/org/pipelineframework/csv/service/pipeline");
+        String interfaceSource = Files.readString(generated.resolve("TransformPaymentsRestClient.java"));
+        String transform = Files.readString(generated.resolve("TransformPaymentsRestClientStep.java"));
+        String expand = Files.readString(generated.resolve("ExpandPaymentsRestClientStep.java"));
+        String aggregate = Files.readString(generated.resolve("AggregatePaymentsRestClientStep.java"));
+
+        assertTrue(interfaceSource.contains("@Consumes(ProtobufHttpContentTypes.APPLICATION_X_PROTOBUF_STREAM)"));
+        assertTrue(interfaceSource.contains("@Produces(ProtobufHttpContentTypes.APPLICATION_X_PROTOBUF_STREAM)"));
+        assertTrue(interfaceSource.contains("Multi<byte[]> process("));
+        assertTrue(interfaceSource.contains("Multi<byte[]> frames);"));
+        assertFalse(interfaceSource.contains("RestStreamElementType"));
+
+        assertTrue(transform.contains("PaymentRecordMapper inputMapper;"));
+        assertTrue(transform.contains("PaymentOutputMapper outputMapper;"));
+        assertTrue(transform.contains("public Multi<PaymentOutputDto> applyTransform(Multi<PaymentRecordDto> inputs)"));
+        assertTrue(transform.contains("ProtobufHttpStreams.decode(this.restClient.process(versionTag, replayMode, cachePolicy, "
+            + "ProtobufHttpStreams.encode(inputs.map(item -> this.inputMapper.toGrpc(item)))), "
+            + "PipelineTypes.PaymentOutput.parser()).map(item -> this.outputMapper.fromGrpc(item))"));
+        assertTrue(transform.contains("import org.pipelineframework.csv.grpc.PipelineTypes;"));
+        assertTrue(expand.contains("Multi.createFrom().item(this.inputMapper.toGrpc(input))"));
+        assertTrue(aggregate.contains("inputs.collect().asList()"));
+        assertTrue(aggregate.contains("Multi.createFrom().iterable(inputDtos).map(item -> this.inputMapper.toGrpc(item))"));
+        assertTrue(aggregate.contains(".map(item -> this.outputMapper.fromGrpc(item)).toUni()"));
+    }
+
+    @Test
+    void rendersProtobufStreamClientStepFromStepFormatOverride() throws IOException {
+        TypeMapping records = new TypeMapping(
+            ClassName.get("org.pipelineframework.csv.common.domain", "PaymentRecord"),
+            ClassName.get("org.pipelineframework.csv.common.mapper", "PaymentRecordMapper"),
+            true);
+        TypeMapping outputs = new TypeMapping(
+            ClassName.get("org.pipelineframework.csv.common.domain", "PaymentOutput"),
+            ClassName.get("org.pipelineframework.csv.common.mapper", "PaymentOutputMapper"),
+            true);
+        ProcessingEnvironment processingEnv = mock(ProcessingEnvironment.class);
+        when(processingEnv.getOptions()).thenReturn(Map.of());
+        GenerationContext context = new GenerationContext(
+            processingEnv,
+            tempDir.resolve("protobuf-stream-override"),
+            DeploymentRole.ORCHESTRATOR_CLIENT,
+            java.util.Set.of(),
+            null,
+            null);
+        RestClientStepRenderer renderer = new RestClientStepRenderer();
+
+        renderer.render(new RestBinding(streamingModel("TransformPaymentsService", StreamingShape.STREAMING_STREAMING,
+            records, outputs), null, "protobuf"), context);
+        renderer.render(new RestBinding(streamingModel("ExpandPaymentsService", StreamingShape.UNARY_STREAMING,
+            records, outputs), null), context);
+
+        Path generated = tempDir.resolve("protobuf-stream-override/org/pipelineframework/csv/service/pipeline");
+        assertTrue(Files.readString(generated.resolve("TransformPaymentsRestClient.java"))
+            .contains("Multi<byte[]> frames);"));
+        assertFalse(Files.readString(generated.resolve("ExpandPaymentsRestClient.java"))
+            .contains("ProtobufHttpContentTypes"));
+    }
+
+    @Test
+    void protobufStreamClientStepsRequireMappers() {
+        PipelineStepModel model = streamingModel("TransformPaymentsService", StreamingShape.STREAMING_STREAMING,
+            new TypeMapping(ClassName.get("org.pipelineframework.csv.common.domain", "PaymentRecord"), null, false),
+            new TypeMapping(ClassName.get("org.pipelineframework.csv.common.domain", "PaymentOutput"), null, false));
+        ProcessingEnvironment processingEnv = mock(ProcessingEnvironment.class);
+        when(processingEnv.getOptions()).thenReturn(Map.of("pipeline.rest.stream.format", "PROTOBUF"));
+        GenerationContext context = new GenerationContext(
+            processingEnv,
+            tempDir.resolve("protobuf-stream-no-mapper"),
+            DeploymentRole.ORCHESTRATOR_CLIENT,
+            java.util.Set.of(),
+            null,
+            null);
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+            () -> new RestClientStepRenderer().render(new RestBinding(model, null), context));
+        assertTrue(exception.getMessage().contains("require an input mapper"));
+    }
+
+    private PipelineStepModel streamingModel(
+            String serviceName,
+            StreamingShape shape,
+            TypeMapping inputMapping,
+            TypeMapping outputMapping) {
+        return new PipelineStepModel.Builder()
+            .serviceName(serviceName)
+            .servicePackage("org.pipelineframework.csv.service")
+            .serviceClassName(ClassName.get("org.pipelineframework.csv.service", serviceName))
+            .streamingShape(shape)
+            .executionMode(ExecutionMode.DEFAULT)
+            .inputMapping(inputMapping)
+            .outputMapping(outputMapping)
+            .enabledTargets(java.util.Set.of(GenerationTarget.REST_CLIENT_STEP))
+            .build();
+    }
 }
@@ -102,6 +102,8 @@ class RestFunctionHandlerRendererTest {
         assertTrue(source.contains("FunctionSourceAdapter<Multi<ParsedDocumentDto>, ParsedDocumentDto> source"));
         assertTrue(source.contains("FunctionInvokeAdapter<ParsedDocumentDto, IndexAckDto> invoke"));
         assertTrue(source.contains("inputStream -> inputStream.collect().asList().onItem().transformToUni(resource::process)"));
+        assertTrue(source.contains(", \"ParsedDocument.output\", \"v1\", "
+            + "ManyToOneAggregationMode.configured(\"ParsedDocumentFunctionHandler\"))"));
         assertTrue(source.contains("FunctionInvokeAdapter<ParsedDocumentDto, IndexAckDto> invokeRemote = new HttpRemoteFunctionInvokeAdapter<>()"));
         assertTrue(source.contains("FunctionSinkAdapter<IndexAckDto, IndexAckDto> sink"));
         assertTrue(source.contains("return FunctionTransportBridge.invokeManyToOne(input, transportContext, source, invoke, sink)"));
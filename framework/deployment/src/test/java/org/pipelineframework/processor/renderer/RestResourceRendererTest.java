@@ -3,6 +3,7 @@ package org.pipelineframework.processor.renderer;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.Set;
 import javax.annotation.processing.ProcessingEnvironment;
 
@@ -13,8 +14,10 @@ import org.pipelineframework.processor.ir.*;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 class RestResourceRendererTest {
 
@@ -243,6 +246,126 @@ class RestResourceRendererTest {
         assertTrue(source.contains("RestReactiveBidirectionalStreamingServiceAdapter"));
     }
 
+    @Test
+    void rendersStreamingStreamingResourceWithProtobufStreams() throws IOException {
+        PipelineStepModel model = baseModelBuilder("TransformPaymentsService", StreamingShape.STREAMING_STREAMING)
+            .inputMapping(new TypeMapping(
+                ClassName.get("org.example.domain", "RawPayment"),
+                ClassName.get("org.example.mapper", "RawPaymentMapper"),
+                true))
+            .outputMapping(new TypeMapping(
+                ClassName.get("org.example.domain", "ProcessedPayment"),
+                ClassName.get("org.example.mapper", "ProcessedPaymentMapper"),
+                true))
+            .build();
+
+        String source = renderWithProtobufStreams(
+            new RestBinding(model, null),
+            "org/pipelineframework/csv/service/pipeline/TransformPaymentsResource.java");
+
+        assertTrue(source.contains("@Consumes(ProtobufHttpContentTypes.APPLICATION_X_PROTOBUF_STREAM)"));
+        assertTrue(source.contains("@Produces(ProtobufHttpContentTypes.APPLICATION_X_PROTOBUF_STREAM)"));
+        assertTrue(source.contains("public Multi<byte[]> process(InputStream body)"));
+        assertTrue(source.contains("RawPaymentMapper inboundMapper;"));
+        assertTrue(source.contains("ProcessedPaymentMapper outboundMapper;"));
+        assertTrue(source.contains("import org.example.grpc.PipelineTypes;"));
+        assertTrue(source.contains("return remoteProcessFrames(body, PipelineTypes.RawPayment.parser(), "
+            + "item -> inboundMapper.fromGrpc(item), output -> outboundMapper.toGrpc(output));"));
+        assertFalse(source.contains("application/x-ndjson"));
+        assertTrue(source.contains("RestReactiveBidirectionalStreamingServiceAdapter"));
+    }
+
+    @Test
+    void rendersSingleSidesAsOneFrameStreamsWithProtobufStreams() throws IOException {
+        PipelineStepModel oneToMany = baseModelBuilder("ExpandPaymentsService", StreamingShape.UNARY_STREAMING)
+            .inputMapping(new TypeMapping(
+                ClassName.get("org.example.common.domain", "Batch"),
+                ClassName.get("org.example.common.mapper", "BatchMapper"),
+                true))
+            .outputMapping(new TypeMapping(
+                ClassName.get("org.example.common.domain", "Payment"),
+                ClassName.get("org.example.common.mapper", "PaymentMapper"),
+                true))
+            .build();
+        PipelineStepModel manyToOne = baseModelBuilder("AggregatePaymentsService", StreamingShape.STREAMING_UNARY)
+            .inputMapping(oneToMany.outputMapping())
+            .outputMapping(oneToMany.inputMapping())
+            .build();
+
+        String expand = renderWithProtobufStreams(
+            new RestBinding(oneToMany, null),
+            "org/pipelineframework/csv/service/pipeline/ExpandPaymentsResource.java");
+        String aggregate = renderWithProtobufStreams(
+            new RestBinding(manyToOne, null),
+            "org/pipelineframework/csv/service/pipeline/AggregatePaymentsResource.java");
+
+        assertTrue(expand.contains("return remoteProcessFrames(body, PipelineTypes.Batch.parser(),"));
+        assertTrue(expand.contains("RestReactiveStreamingServiceAdapter"));
+        assertTrue(expand.contains("import org.example.grpc.PipelineTypes;"));
+        assertTrue(aggregate.contains("public Multi<byte[]> process(InputStream body)"));
+        assertTrue(aggregate.contains("return remoteProcessFrames(body, PipelineTypes.Payment.parser(),"));
+        assertTrue(aggregate.contains("RestReactiveStreamingClientServiceAdapter"));
+    }
+
+    @Test
+    void keepsUnaryResourcesOnJsonWithProtobufStreams() throws IOException {
+        PipelineStepModel model = baseModelBuilder("ProcessPaymentService", StreamingShape.UNARY_UNARY)
+            .inputMapping(new TypeMapping(
+                ClassName.get("org.example.domain", "Payment"),
+                ClassName.get("org.example.mapper", "PaymentMapper"),
+                true))
+            .outputMapping(new TypeMapping(
+                ClassName.get("org.example.domain", "Receipt"),
+                ClassName.get("org.example.mapper", "ReceiptMapper"),
+                true))
+            .build();
+
+        String source = renderWithProtobufStreams(
+            new RestBinding(model, null),
+            "org/pipelineframework/csv/service/pipeline/ProcessPaymentResource.java");
+
+        assertTrue(source.contains("public Uni<ReceiptDto> process(PaymentDto inputDto)"));
+        assertTrue(source.contains("Mapper<Payment, PaymentDto> inboundMapper;"));
+        assertFalse(source.contains("ProtobufHttpStreams"));
+    }
+
+    @Test
+    void stepFormatOverrideTakesPrecedenceOverTheBuildFormat() throws IOException {
+        PipelineStepModel model = baseModelBuilder("TransformPaymentsService", StreamingShape.STREAMING_STREAMING)
+            .inputMapping(new TypeMapping(
+                ClassName.get("org.example.domain", "RawPayment"),
+                ClassName.get("org.example.mapper", "RawPaymentMapper"),
+                true))
+            .outputMapping(new TypeMapping(
+                ClassName.get("org.example.domain", "ProcessedPayment"),
+                ClassName.get("org.example.mapper", "ProcessedPaymentMapper"),
+                true))
+            .build();
+        String resourceFile = "org/pipelineframework/csv/service/pipeline/TransformPaymentsResource.java";
+
+        String onlyThisStep = render(new RestBinding(model, null, "PROTOBUF"), resourceFile, Map.of());
+        assertTrue(onlyThisStep.contains("return remoteProcessFrames(body, PipelineTypes.RawPayment.parser(),"));
+
+        String optedOut = render(new RestBinding(model, null, "ndjson"), resourceFile,
+            Map.of("pipeline.rest.stream.format", "protobuf"));
+        assertTrue(optedOut.contains("@Produces(\"application/x-ndjson\")"));
+        assertFalse(optedOut.contains("remoteProcessFrames"));
+    }
+
+    private String renderWithProtobufStreams(RestBinding binding, String resourceFileName) throws IOException {
+        return render(binding, resourceFileName, Map.of("pipeline.rest.stream.format", "protobuf"));
+    }
+
+    private String render(RestBinding binding, String resourceFileName, Map<String, String> options)
+            throws IOException {
+        ProcessingEnvironment processingEnv = mock(ProcessingEnvironment.class);
+        when(processingEnv.getOptions()).thenReturn(options);
+        new RestResourceRenderer().render(
+            binding,
+            new GenerationContext(processingEnv, tempDir, DeploymentRole.REST_SERVER, Set.of(), null, null));
+        return Files.readString(tempDir.resolve(resourceFileName));
+    }
+
     @Test
     void rendersResourceWithVirtualThreads() throws IOException {
         PipelineStepModel model = new PipelineStepModel.Builder()
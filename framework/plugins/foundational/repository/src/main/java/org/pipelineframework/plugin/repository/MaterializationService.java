@@ -130,7 +130,7 @@ public class MaterializationService {
             return result.payload();
         }
         if ("string".equals(codec)) {
-            return new String(result.payload(), java.nio.charset.StandardCharsets.UTF_8);
+            return java.nio.charset.StandardCharsets.UTF_8.decode(result.payloadBuffer()).toString();
         }
         throw new IllegalArgumentException("Unsupported materialized payload codec '" + codec
             + "' for reference " + result.reference());
@@ -138,7 +138,7 @@ public class MaterializationService {
 
     private EncodedField encode(Object value, String fieldName) {
         if (value instanceof byte[] bytes) {
-            return new EncodedField(bytes.clone(), "application/octet-stream", "bytes");
+            return new EncodedField(bytes, "application/octet-stream", "bytes");
         }
         if (value instanceof String text) {
             return new EncodedField(text.getBytes(java.nio.charset.StandardCharsets.UTF_8), "text/plain; charset=utf-8", "string");
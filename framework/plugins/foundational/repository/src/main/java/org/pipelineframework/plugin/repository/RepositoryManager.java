@@ -16,9 +16,15 @@
 
 package org.pipelineframework.plugin.repository;
 
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.channels.WritableByteChannel;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import jakarta.annotation.PostConstruct;
@@ -45,8 +51,12 @@ import org.pipelineframework.repository.RepositoryWriteRequest;
 public class RepositoryManager implements PayloadMaterializer {
 
     private static final Logger LOG = Logger.getLogger(RepositoryManager.class);
+    static final String CONTENT_ADDRESSED_METADATA = "tpf-content-addressed";
+    static final String CONTENT_REFERENCE_METADATA = "tpf-content-ref";
+    private static final String CONTENT_KEY_PREFIX = "sha256/";
+    private static final String REFERENCE_KEY_PREFIX = "sha256-refs/";
 
-    private List<RepositoryProvider> providers = List.of();
+    List<RepositoryProvider> providers = List.of();
 
     @Inject
     Instance<RepositoryProvider> providerInstance;
@@ -60,6 +70,9 @@ public class RepositoryManager implements PayloadMaterializer {
     @ConfigProperty(name = "pipeline.repository.provider.class")
     Optional<String> providerClassName;
 
+    @ConfigProperty(name = "pipeline.repository.content-addressed", defaultValue = "false")
+    boolean contentAddressed;
+
     @PostConstruct
     void init() {
         providers = providerInstance == null ? List.of() : providerInstance.stream().toList();
@@ -68,7 +81,17 @@ public class RepositoryManager implements PayloadMaterializer {
 
     public Uni<PayloadReference> store(RepositoryWriteRequest request) {
         RepositoryProvider provider = resolveProvider(null);
-        return provider.store(request);
+        if (!contentAddressed) {
+            return provider.store(request);
+        }
+        RepositoryWriteRequest addressed = contentAddressedRequest(request);
+        // The marker goes first, so a concurrent delete of the last other reference sees it and keeps the payload.
+        return provider.store(referenceMarker(request, addressed)).onItem().transformToUni(marker -> provider
+            .existing(addressed)
+            .onItem().transformToUni(existing -> existing
+                .map(reference -> Uni.createFrom().item(reference))
+                .orElseGet(() -> provider.store(addressed)))
+            .map(reference -> withReferenceMarker(reference, marker.key())));
     }
 
     public Uni<RepositoryReadResult> load(PayloadReference reference) {
@@ -76,6 +99,16 @@ public class RepositoryManager implements PayloadMaterializer {
         return provider.load(reference);
     }
 
+    public Uni<PayloadReference> storeFrom(PayloadReference target, ReadableByteChannel source) {
+        RepositoryProvider provider = resolveProvider(null);
+        return provider.storeFrom(target, source);
+    }
+
+    public Uni<Long> transferTo(PayloadReference reference, WritableByteChannel target) {
+        RepositoryProvider provider = resolveProvider(reference);
+        return provider.transferTo(reference, target);
+    }
+
     @Override
     public CompletionStage<MaterializedPayload> materialize(PayloadReference reference, long maxBytes) {
         Objects.requireNonNull(reference, "payload reference must not be null");
@@ -97,25 +130,54 @@ public class RepositoryManager implements PayloadMaterializer {
             if (!reference.equals(result.reference())) {
                 throw new IllegalStateException("repository materialized a different payload reference");
             }
-            byte[] bytes = result.payload();
-            if (bytes.length > maxBytes) {
+            if (result.payloadSize() > maxBytes) {
                 throw new IllegalStateException(
-                    "materialized payload exceeds maxBytes: " + bytes.length + " > " + maxBytes);
+                    "materialized payload exceeds maxBytes: " + result.payloadSize() + " > " + maxBytes);
             }
             String expectedChecksum = result.reference().checksum();
             if (expectedChecksum != null
-                && !expectedChecksum.equalsIgnoreCase(RepositoryChecksums.sha256Hex(bytes))) {
+                && !expectedChecksum.equalsIgnoreCase(RepositoryChecksums.sha256Hex(result.payloadBuffer()))) {
                 throw new IllegalStateException(
                     "materialized repository payload checksum mismatch for " + result.reference().key());
             }
             return new MaterializedPayload(
-                result.reference(), bytes, result.contentType(), result.codec(), result.checksum());
+                result.reference(), result.payload(), result.contentType(), result.codec(), result.checksum());
         }).subscribeAsCompletionStage();
     }
 
+    /**
+     * Deletes a stored payload.
+     *
+     * <p>A content-addressed reference releases its reference marker, and the shared payload is only
+     * deleted once no marker for its digest is left. References stored before markers existed, and
+     * providers that cannot list, leave the payload in place.</p>
+     *
+     * @param reference the reference returned by {@link #store(RepositoryWriteRequest)}
+     * @return whether the payload itself was deleted
+     */
     public Uni<Boolean> delete(PayloadReference reference) {
         RepositoryProvider provider = resolveProvider(reference);
-        return provider.delete(reference);
+        if (!reference.metadata().containsKey(CONTENT_ADDRESSED_METADATA)) {
+            return provider.delete(reference);
+        }
+        String marker = reference.metadata().get(CONTENT_REFERENCE_METADATA);
+        if (marker == null || reference.checksum() == null) {
+            LOG.debugf("Skipping delete of unmarked content-addressed payload %s", reference.key());
+            return Uni.createFrom().item(false);
+        }
+        return provider.delete(markerReference(reference, marker))
+            .onItem().transformToUni(ignored -> provider.list(reference.container(), referencePrefix(reference.checksum())))
+            .onItem().transformToUni(remaining -> {
+                if (!remaining.isEmpty()) {
+                    LOG.debugf("Keeping content-addressed payload %s with %d references", reference.key(), remaining.size());
+                    return Uni.createFrom().item(false);
+                }
+                return provider.delete(reference);
+            })
+            .onFailure(UnsupportedOperationException.class).recoverWithUni(failure -> {
+                LOG.debugf("Keeping content-addressed payload %s: %s", reference.key(), failure.getMessage());
+                return Uni.createFrom().item(false);
+            });
     }
 
     public Uni<Boolean> exists(PayloadReference reference) {
@@ -123,6 +185,83 @@ public class RepositoryManager implements PayloadMaterializer {
         return provider.exists(reference);
     }
 
+    /**
+     * Rewrites a write request to the content-addressed layout: the key becomes
+     * {@code sha256/<first two digest chars>/<digest>} and the digest becomes the checksum, so equal
+     * payloads share one stored object regardless of the caller's key.
+     */
+    private static RepositoryWriteRequest contentAddressedRequest(RepositoryWriteRequest request) {
+        String digest = RepositoryChecksums.sha256Hex(request.payloadBuffer());
+        if (request.checksum() != null && !request.checksum().equalsIgnoreCase(digest)) {
+            throw new IllegalArgumentException(
+                "repository write checksum does not match payload digest for key " + request.key());
+        }
+        Map<String, String> metadata = new LinkedHashMap<>(request.metadata());
+        metadata.put(CONTENT_ADDRESSED_METADATA, "sha256");
+        return new RepositoryWriteRequest(
+            request.container(),
+            CONTENT_KEY_PREFIX + digest.substring(0, 2) + "/" + digest,
+            request.payload(),
+            request.contentType(),
+            request.codec(),
+            digest,
+            request.version(),
+            metadata);
+    }
+
+    /**
+     * Builds the reference marker of one content-addressed store: an object under
+     * {@code sha256-refs/<digest>/} with a random name, so every store holds its own reference even when
+     * callers reuse a key, and each delete releases exactly one of them.
+     */
+    private static RepositoryWriteRequest referenceMarker(RepositoryWriteRequest request, RepositoryWriteRequest addressed) {
+        byte[] owner = ((request.container() == null ? "" : request.container()) + "/" + request.key())
+            .getBytes(StandardCharsets.UTF_8);
+        return new RepositoryWriteRequest(
+            request.container(),
+            referencePrefix(addressed.checksum()) + UUID.randomUUID(),
+            owner,
+            "text/plain; charset=utf-8",
+            null,
+            null,
+            null,
+            Map.of());
+    }
+
+    private static String referencePrefix(String digest) {
+        return REFERENCE_KEY_PREFIX + digest + "/";
+    }
+
+    private static PayloadReference withReferenceMarker(PayloadReference reference, String markerKey) {
+        Map<String, String> metadata = new LinkedHashMap<>(reference.metadata());
+        metadata.put(CONTENT_REFERENCE_METADATA, markerKey);
+        return new PayloadReference(
+            reference.provider(),
+            reference.container(),
+            reference.key(),
+            reference.contentType(),
+            reference.codec(),
+            reference.checksum(),
+            reference.sizeBytes(),
+            reference.version(),
+            metadata,
+            reference.connectorOrigin());
+    }
+
+    private static PayloadReference markerReference(PayloadReference reference, String markerKey) {
+        return new PayloadReference(
+            reference.provider(),
+            reference.container(),
+            markerKey,
+            null,
+            null,
+            null,
+            0L,
+            null,
+            Map.of(),
+            Optional.empty());
+    }
+
     RepositoryProvider resolveProvider(PayloadReference reference) {
         if (providers == null || providers.isEmpty()) {
             throw new IllegalStateException("No repository providers available");
@@ -16,6 +16,7 @@
 
 package org.pipelineframework.plugin.repository.codec;
 
+import java.nio.ByteBuffer;
 import jakarta.enterprise.context.ApplicationScoped;
 
 import org.pipelineframework.repository.PayloadCodec;
@@ -46,4 +47,15 @@ public class BytesPayloadCodec implements PayloadCodec<byte[]> {
     public byte[] decode(byte[] payload, Class<byte[]> type) {
         return payload == null ? new byte[0] : payload.clone();
     }
+
+    @Override
+    public byte[] decode(ByteBuffer payload, Class<byte[]> type) {
+        if (payload == null) {
+            return new byte[0];
+        }
+        ByteBuffer slice = payload.duplicate();
+        byte[] bytes = new byte[slice.remaining()];
+        slice.get(bytes);
+        return bytes;
+    }
 }
@@ -16,6 +16,7 @@
 
 package org.pipelineframework.plugin.repository.codec;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import jakarta.enterprise.context.ApplicationScoped;
 
@@ -47,4 +48,9 @@ public class StringPayloadCodec implements PayloadCodec<String> {
     public String decode(byte[] payload, Class<String> type) {
         return new String(payload == null ? new byte[0] : payload, StandardCharsets.UTF_8);
     }
+
+    @Override
+    public String decode(ByteBuffer payload, Class<String> type) {
+        return payload == null ? "" : StandardCharsets.UTF_8.decode(payload.duplicate()).toString();
+    }
 }
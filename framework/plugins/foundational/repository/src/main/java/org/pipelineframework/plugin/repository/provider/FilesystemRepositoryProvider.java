@@ -17,11 +17,24 @@
 package org.pipelineframework.plugin.repository.provider;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
@@ -38,7 +51,6 @@ import org.pipelineframework.parallelism.OrderingRequirement;
 import org.pipelineframework.parallelism.ThreadSafety;
 import org.pipelineframework.repository.PayloadReference;
 import org.pipelineframework.repository.PayloadNotFoundException;
-import org.pipelineframework.repository.RepositoryChecksums;
 import org.pipelineframework.repository.RepositoryProvider;
 import org.pipelineframework.repository.RepositoryReadResult;
 import org.pipelineframework.repository.RepositoryWriteRequest;
@@ -51,6 +63,9 @@ public class FilesystemRepositoryProvider implements RepositoryProvider {
     private static final Logger LOG = Logger.getLogger(FilesystemRepositoryProvider.class);
     private static final long CLEANUP_WARNING_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
     private static final AtomicLong LAST_CLEANUP_WARNING_NANOS = new AtomicLong();
+    private static final long TRANSFER_CHUNK_BYTES = 8L * 1024 * 1024;
+    private static final long MAPPED_REGION_BYTES = 256L * 1024 * 1024;
+    private static final long MAX_LOAD_BYTES = Integer.MAX_VALUE - 8;
 
     @ConfigProperty(name = "pipeline.repository.filesystem.root", defaultValue = "target/tpf-repository")
     String root;
@@ -67,26 +82,12 @@ public class FilesystemRepositoryProvider implements RepositoryProvider {
     public Uni<PayloadReference> store(RepositoryWriteRequest request) {
         return Uni.createFrom().item(() -> {
             Path path = pathFor(request.container(), request.key());
-            Path temporary = null;
-            try {
-                Files.createDirectories(path.getParent());
-                temporary = Files.createTempFile(path.getParent(), path.getFileName().toString(), ".tmp");
-                Files.write(temporary, request.payload());
-                Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
-            } catch (AtomicMoveNotSupportedException e) {
-                throw new IllegalStateException(
-                    "Filesystem repository requires atomic replacement support for " + path.getParent(), e);
-            } catch (IOException e) {
-                throw new IllegalStateException("Failed writing repository payload " + path, e);
-            } finally {
-                if (temporary != null) {
-                    try {
-                        Files.deleteIfExists(temporary);
-                    } catch (IOException cleanupFailure) {
-                        logCleanupFailure(temporary, cleanupFailure);
-                    }
+            writeAtomically(path, channel -> {
+                ByteBuffer payload = request.payloadBuffer();
+                while (payload.hasRemaining()) {
+                    channel.write(payload);
                 }
-            }
+            });
             return new PayloadReference(
                 providerName(),
                 request.container(),
@@ -94,35 +95,174 @@ public class FilesystemRepositoryProvider implements RepositoryProvider {
                 request.contentType(),
                 request.codec(),
                 request.checksum(),
-                request.payload().length,
+                request.payloadSize(),
                 request.version(),
                 request.metadata(),
                 Optional.empty());
         }).runSubscriptionOn(Infrastructure.getDefaultWorkerPool());
     }
 
+    @Override
+    public Uni<PayloadReference> storeFrom(PayloadReference target, ReadableByteChannel source) {
+        return Uni.createFrom().item(() -> {
+            Path path = pathFor(target.container(), target.key());
+            long size = writeAtomically(path, channel -> {
+                long position = 0L;
+                long transferred;
+                while ((transferred = channel.transferFrom(source, position, TRANSFER_CHUNK_BYTES)) > 0) {
+                    position += transferred;
+                }
+                if (verifyChecksum && target.checksum() != null) {
+                    verifyChecksum(target, channel, position);
+                }
+            });
+            return new PayloadReference(
+                providerName(),
+                target.container(),
+                target.key(),
+                target.contentType(),
+                target.codec(),
+                target.checksum(),
+                size,
+                target.version(),
+                target.metadata(),
+                Optional.empty());
+        }).runSubscriptionOn(Infrastructure.getDefaultWorkerPool());
+    }
+
+    /**
+     * Reads a stored payload through a {@link FileChannel} into an array sized from the file, digesting each chunk as
+     * it arrives when checksum verification applies, so the payload is read once and never regrown.
+     */
     @Override
     public Uni<RepositoryReadResult> load(PayloadReference reference) {
         return Uni.createFrom().item(() -> {
             Path path = pathFor(reference.container(), reference.key());
+            MessageDigest digest = verifyChecksum && reference.checksum() != null ? sha256() : null;
             byte[] bytes;
-            try {
-                bytes = Files.readAllBytes(path);
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                long size = channel.size();
+                if (size > MAX_LOAD_BYTES) {
+                    throw new IllegalStateException("Repository payload " + path + " is too large to load ("
+                        + size + " bytes); use transferTo instead");
+                }
+                bytes = new byte[(int) size];
+                ByteBuffer buffer = ByteBuffer.wrap(bytes);
+                while (buffer.hasRemaining()) {
+                    int start = buffer.position();
+                    buffer.limit((int) Math.min(bytes.length, start + TRANSFER_CHUNK_BYTES));
+                    if (channel.read(buffer) < 0) {
+                        throw new IOException("Repository payload " + path + " shrank while it was read");
+                    }
+                    if (digest != null) {
+                        digest.update(bytes, start, buffer.position() - start);
+                    }
+                    buffer.limit(bytes.length);
+                }
             } catch (NoSuchFileException e) {
                 throw new PayloadNotFoundException(reference, e);
             } catch (IOException e) {
                 throw new IllegalStateException("Failed reading repository payload " + path, e);
             }
-            if (verifyChecksum && reference.checksum() != null) {
-                String actual = RepositoryChecksums.sha256Hex(bytes);
-                if (!reference.checksum().equalsIgnoreCase(actual)) {
-                    throw new IllegalStateException("Repository payload checksum mismatch for " + reference.key());
-                }
+            if (digest != null) {
+                checkDigest(reference, digest);
             }
             return new RepositoryReadResult(reference, bytes, reference.contentType(), reference.codec(), reference.checksum());
         }).runSubscriptionOn(Infrastructure.getDefaultWorkerPool());
     }
 
+    /**
+     * Streams a stored payload with {@link FileChannel#transferTo}, so the bytes do not pass through
+     * the heap. When checksum verification applies, the file is digested through memory-mapped
+     * regions before the transfer starts.
+     */
+    @Override
+    public Uni<Long> transferTo(PayloadReference reference, WritableByteChannel target) {
+        return Uni.createFrom().item(() -> {
+            Path path = pathFor(reference.container(), reference.key());
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                long size = channel.size();
+                if (verifyChecksum && reference.checksum() != null) {
+                    verifyChecksum(reference, channel, size);
+                }
+                long position = 0L;
+                while (position < size) {
+                    position += channel.transferTo(position, size - position, target);
+                }
+                return size;
+            } catch (NoSuchFileException e) {
+                throw new PayloadNotFoundException(reference, e);
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed streaming repository payload " + path, e);
+            }
+        }).runSubscriptionOn(Infrastructure.getDefaultWorkerPool());
+    }
+
+    /**
+     * Refreshes the modification time of an existing payload so retention-based cleanup of
+     * content-addressed payloads measures time since last reuse rather than since first write.
+     */
+    @Override
+    public Uni<Optional<PayloadReference>> existing(RepositoryWriteRequest request) {
+        return Uni.createFrom().item(() -> {
+            Path path = pathFor(request.container(), request.key());
+            try {
+                Files.setLastModifiedTime(path, FileTime.fromMillis(System.currentTimeMillis()));
+            } catch (NoSuchFileException e) {
+                return Optional.<PayloadReference>empty();
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed refreshing repository payload " + path, e);
+            }
+            return Optional.of(new PayloadReference(
+                providerName(),
+                request.container(),
+                request.key(),
+                request.contentType(),
+                request.codec(),
+                request.checksum(),
+                request.payloadSize(),
+                request.version(),
+                request.metadata(),
+                Optional.empty()));
+        }).runSubscriptionOn(Infrastructure.getDefaultWorkerPool());
+    }
+
+    @Override
+    public Uni<List<PayloadReference>> list(String container, String keyPrefix) {
+        return Uni.createFrom().item(() -> {
+            int slash = keyPrefix.lastIndexOf('/');
+            String directoryKey = slash < 0 ? "" : keyPrefix.substring(0, slash);
+            String namePrefix = keyPrefix.substring(slash + 1);
+            Path directory = pathFor(container, directoryKey.isEmpty() ? "." : directoryKey);
+            List<PayloadReference> references = new ArrayList<>();
+            try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory)) {
+                for (Path entry : entries) {
+                    String name = entry.getFileName().toString();
+                    // In-progress writes are temporary files next to their target.
+                    if (!name.startsWith(namePrefix) || name.endsWith(".tmp") || !Files.isRegularFile(entry)) {
+                        continue;
+                    }
+                    references.add(new PayloadReference(
+                        providerName(),
+                        container,
+                        directoryKey.isEmpty() ? name : directoryKey + "/" + name,
+                        null,
+                        null,
+                        null,
+                        sizeOf(entry),
+                        null,
+                        Map.of(),
+                        Optional.empty()));
+                }
+            } catch (NoSuchFileException e) {
+                return List.<PayloadReference>of();
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed listing repository payloads under " + directory, e);
+            }
+            return references;
+        }).runSubscriptionOn(Infrastructure.getDefaultWorkerPool());
+    }
+
     @Override
     public Uni<Boolean> exists(PayloadReference reference) {
         return Uni.createFrom().item(() -> Files.exists(pathFor(reference.container(), reference.key())))
@@ -140,6 +280,65 @@ public class FilesystemRepositoryProvider implements RepositoryProvider {
         }).runSubscriptionOn(Infrastructure.getDefaultWorkerPool());
     }
 
+    private long writeAtomically(Path path, PayloadWriter writer) {
+        Path temporary = null;
+        try {
+            Files.createDirectories(path.getParent());
+            temporary = Files.createTempFile(path.getParent(), path.getFileName().toString(), ".tmp");
+            long size;
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE, StandardOpenOption.READ)) {
+                writer.write(channel);
+                size = channel.size();
+            }
+            Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            return size;
+        } catch (AtomicMoveNotSupportedException e) {
+            throw new IllegalStateException(
+                "Filesystem repository requires atomic replacement support for " + path.getParent(), e);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed writing repository payload " + path, e);
+        } finally {
+            if (temporary != null) {
+                try {
+                    Files.deleteIfExists(temporary);
+                } catch (IOException cleanupFailure) {
+                    logCleanupFailure(temporary, cleanupFailure);
+                }
+            }
+        }
+    }
+
+    private static void verifyChecksum(PayloadReference reference, FileChannel channel, long size) throws IOException {
+        MessageDigest digest = sha256();
+        for (long position = 0L; position < size; position += MAPPED_REGION_BYTES) {
+            digest.update(channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(MAPPED_REGION_BYTES, size - position)));
+        }
+        checkDigest(reference, digest);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 digest is not available", e);
+        }
+    }
+
+    private static void checkDigest(PayloadReference reference, MessageDigest digest) {
+        if (!reference.checksum().equalsIgnoreCase(HexFormat.of().formatHex(digest.digest()))) {
+            throw new IllegalStateException("Repository payload checksum mismatch for " + reference.key());
+        }
+    }
+
+    private static long sizeOf(Path path) {
+        try {
+            return Files.size(path);
+        } catch (IOException e) {
+            // Removed while listing; it still counted as present when the directory was read.
+            return 0L;
+        }
+    }
+
     private Path pathFor(String container, String key) {
         Path base = Path.of(root).toAbsolutePath().normalize();
         Path resolved = (container == null ? base : base.resolve(container)).resolve(key).normalize();
@@ -157,4 +356,9 @@ public class FilesystemRepositoryProvider implements RepositoryProvider {
             LOG.warnf(cleanupFailure, "Failed to remove repository temporary payload %s", temporary);
         }
     }
+
+    @FunctionalInterface
+    private interface PayloadWriter {
+        void write(FileChannel channel) throws IOException;
+    }
 }
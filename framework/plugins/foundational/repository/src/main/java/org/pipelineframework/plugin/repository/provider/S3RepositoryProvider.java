@@ -17,6 +17,9 @@
 package org.pipelineframework.plugin.repository.provider;
 
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
@@ -40,9 +43,14 @@ import software.amazon.awssdk.core.ResponseBytes;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.MetadataDirective;
 import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.S3Exception;
@@ -71,7 +79,7 @@ public class S3RepositoryProvider implements RepositoryProvider {
     @ConfigProperty(name = "pipeline.repository.verify-checksum", defaultValue = "true")
     boolean verifyChecksum;
 
-    private S3Client client;
+    S3Client client;
 
     @PostConstruct
     void init() {
@@ -150,6 +158,82 @@ public class S3RepositoryProvider implements RepositoryProvider {
         }).runSubscriptionOn(Infrastructure.getDefaultWorkerPool());
     }
 
+    /**
+     * Copies an existing object onto itself before reusing it. The copy resets its last-modified
+     * time, which lifecycle expiration measures age from, so a reused payload is not expired while
+     * recent runs still reference it.
+     */
+    @Override
+    public Uni<Optional<PayloadReference>> existing(RepositoryWriteRequest request) {
+        return Uni.createFrom().item(() -> {
+            String targetBucket = request.container() == null || request.container().isBlank() ? bucket : request.container();
+            String key = s3Key(request.key());
+            HeadObjectResponse head;
+            try {
+                head = client.headObject(HeadObjectRequest.builder()
+                    .bucket(targetBucket)
+                    .key(key)
+                    .build());
+            } catch (NoSuchKeyException e) {
+                return Optional.<PayloadReference>empty();
+            } catch (S3Exception e) {
+                if (isMissingObject(e)) {
+                    return Optional.<PayloadReference>empty();
+                }
+                throw e;
+            }
+            client.copyObject(CopyObjectRequest.builder()
+                .sourceBucket(targetBucket)
+                .sourceKey(key)
+                .destinationBucket(targetBucket)
+                .destinationKey(key)
+                .metadataDirective(MetadataDirective.REPLACE)
+                .metadata(head.metadata())
+                .contentType(head.contentType())
+                .build());
+            return Optional.of(new PayloadReference(
+                providerName(),
+                targetBucket,
+                key,
+                request.contentType(),
+                request.codec(),
+                request.checksum(),
+                request.payloadSize(),
+                request.version(),
+                request.metadata(),
+                Optional.empty()));
+        }).runSubscriptionOn(Infrastructure.getDefaultWorkerPool());
+    }
+
+    @Override
+    public Uni<List<PayloadReference>> list(String container, String keyPrefix) {
+        return Uni.createFrom().item(() -> {
+            String targetBucket = container == null || container.isBlank() ? bucket : container;
+            List<PayloadReference> references = new ArrayList<>();
+            String continuationToken = null;
+            do {
+                ListObjectsV2Response page = client.listObjectsV2(ListObjectsV2Request.builder()
+                    .bucket(targetBucket)
+                    .prefix(s3Key(keyPrefix))
+                    .continuationToken(continuationToken)
+                    .build());
+                page.contents().forEach(object -> references.add(new PayloadReference(
+                    providerName(),
+                    targetBucket,
+                    object.key(),
+                    null,
+                    null,
+                    null,
+                    object.size() == null ? 0L : object.size(),
+                    null,
+                    Map.of(),
+                    Optional.empty())));
+                continuationToken = Boolean.TRUE.equals(page.isTruncated()) ? page.nextContinuationToken() : null;
+            } while (continuationToken != null);
+            return references;
+        }).runSubscriptionOn(Infrastructure.getDefaultWorkerPool());
+    }
+
     @Override
     public Uni<Boolean> exists(PayloadReference reference) {
         return Uni.createFrom().item(() -> {
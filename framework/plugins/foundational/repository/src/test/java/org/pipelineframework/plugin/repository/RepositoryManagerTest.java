@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2023-2025 Mariano Barcia
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.pipelineframework.plugin.repository;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import io.smallrye.mutiny.Uni;
+import org.junit.jupiter.api.Test;
+import org.pipelineframework.repository.PayloadNotFoundException;
+import org.pipelineframework.repository.PayloadReference;
+import org.pipelineframework.repository.RepositoryChecksums;
+import org.pipelineframework.repository.RepositoryProvider;
+import org.pipelineframework.repository.RepositoryReadResult;
+import org.pipelineframework.repository.RepositoryWriteRequest;
+
+class RepositoryManagerTest {
+
+    @Test
+    void contentAddressedStoreWritesIdenticalPayloadsOnce() {
+        InMemoryProvider provider = provider();
+        RepositoryManager manager = manager(provider, true);
+        byte[] payload = "crawled page".getBytes(StandardCharsets.UTF_8);
+        String digest = RepositoryChecksums.sha256Hex(payload);
+
+        PayloadReference first = manager.store(request("run-1/page", payload)).await().indefinitely();
+        PayloadReference second = manager.store(request("run-2/page", payload)).await().indefinitely();
+
+        assertEquals(1, provider.writesUnder("sha256/"));
+        assertEquals(2, provider.writesUnder("sha256-refs/" + digest + "/"));
+        assertEquals("sha256/" + digest.substring(0, 2) + "/" + digest, first.key());
+        assertEquals(first.key(), second.key());
+        assertEquals(digest, second.checksum());
+        assertArrayEquals(payload, manager.load(second).await().indefinitely().payload());
+    }
+
+    @Test
+    void contentAddressedDeleteKeepsPayloadsUntilTheLastReferenceIsDeleted() {
+        InMemoryProvider provider = provider();
+        RepositoryManager manager = manager(provider, true);
+        byte[] payload = "shared".getBytes(StandardCharsets.UTF_8);
+        PayloadReference first = manager.store(request("run-1/page", payload)).await().indefinitely();
+        PayloadReference second = manager.store(request("run-2/page", payload)).await().indefinitely();
+
+        assertFalse(manager.delete(first).await().indefinitely());
+        assertTrue(manager.exists(second).await().indefinitely());
+
+        assertTrue(manager.delete(second).await().indefinitely());
+        assertFalse(manager.exists(second).await().indefinitely());
+        assertTrue(provider.payloads.isEmpty());
+    }
+
+    @Test
+    void contentAddressedStoresOfTheSameKeyHoldSeparateReferences() {
+        InMemoryProvider provider = provider();
+        RepositoryManager manager = manager(provider, true);
+        byte[] payload = "materialized".getBytes(StandardCharsets.UTF_8);
+        String digest = RepositoryChecksums.sha256Hex(payload);
+        String key = digest.substring(0, 2) + "/" + digest;
+        PayloadReference first = manager.store(request(key, payload)).await().indefinitely();
+        PayloadReference second = manager.store(request(key, payload)).await().indefinitely();
+
+        assertFalse(manager.delete(first).await().indefinitely());
+        assertArrayEquals(payload, manager.load(second).await().indefinitely().payload());
+
+        assertTrue(manager.delete(second).await().indefinitely());
+        assertTrue(provider.payloads.isEmpty());
+    }
+
+    @Test
+    void contentAddressedDeleteKeepsPayloadsWithoutReferenceMarkers() {
+        InMemoryProvider provider = provider();
+        RepositoryManager manager = manager(provider, true);
+        PayloadReference stored = manager.store(request("page", "legacy".getBytes(StandardCharsets.UTF_8)))
+            .await().indefinitely();
+        PayloadReference legacy = new PayloadReference(
+            stored.provider(), stored.container(), stored.key(), stored.contentType(), stored.codec(), stored.checksum(),
+            stored.sizeBytes(), stored.version(), Map.of(RepositoryManager.CONTENT_ADDRESSED_METADATA, "sha256"),
+            Optional.empty());
+
+        assertFalse(manager.delete(legacy).await().indefinitely());
+        assertTrue(manager.exists(stored).await().indefinitely());
+    }
+
+    @Test
+    void contentAddressedDeleteKeepsPayloadsWhenTheProviderCannotList() {
+        InMemoryProvider provider = new InMemoryProvider(false);
+        RepositoryManager manager = manager(provider, true);
+        PayloadReference reference = manager.store(request("page", "unlisted".getBytes(StandardCharsets.UTF_8)))
+            .await().indefinitely();
+
+        assertFalse(manager.delete(reference).await().indefinitely());
+        assertTrue(manager.exists(reference).await().indefinitely());
+    }
+
+    @Test
+    void contentAddressedStoreRejectsMismatchedChecksum() {
+        RepositoryManager manager = manager(provider(), true);
+        RepositoryWriteRequest request = new RepositoryWriteRequest(
+            null, "page", "payload".getBytes(StandardCharsets.UTF_8), "text/plain", "string", "bad-checksum", null,
+            Map.of());
+
+        assertThrows(IllegalArgumentException.class, () -> manager.store(request).await().indefinitely());
+    }
+
+    @Test
+    void keyedStoreWritesEveryRequest() {
+        InMemoryProvider provider = provider();
+        RepositoryManager manager = manager(provider, false);
+        byte[] payload = "crawled page".getBytes(StandardCharsets.UTF_8);
+
+        manager.store(request("run-1/page", payload)).await().indefinitely();
+        PayloadReference second = manager.store(request("run-2/page", payload)).await().indefinitely();
+
+        assertEquals(2, provider.writes.get());
+        assertEquals("run-2/page", second.key());
+    }
+
+    private static InMemoryProvider provider() {
+        return new InMemoryProvider(true);
+    }
+
+    private static RepositoryManager manager(InMemoryProvider provider, boolean contentAddressed) {
+        RepositoryManager manager = new RepositoryManager();
+        manager.providers = List.of(provider);
+        manager.providerName = Optional.empty();
+        manager.providerClassName = Optional.empty();
+        manager.contentAddressed = contentAddressed;
+        return manager;
+    }
+
+    private static RepositoryWriteRequest request(String key, byte[] payload) {
+        return new RepositoryWriteRequest(
+            "documents", key, payload, "text/plain; charset=utf-8", "string", null, null, Map.of("field", "text"));
+    }
+
+    private static final class InMemoryProvider implements RepositoryProvider {
+        private final Map<String, byte[]> payloads = new ConcurrentHashMap<>();
+        private final List<String> writtenKeys = new CopyOnWriteArrayList<>();
+        private final AtomicInteger writes = new AtomicInteger();
+        private final boolean listable;
+
+        private InMemoryProvider(boolean listable) {
+            this.listable = listable;
+        }
+
+        private long writesUnder(String prefix) {
+            return writtenKeys.stream().filter(key -> key.startsWith(prefix)).count();
+        }
+
+        @Override
+        public String providerName() {
+            return "memory";
+        }
+
+        @Override
+        public Uni<PayloadReference> store(RepositoryWriteRequest request) {
+            writes.incrementAndGet();
+            writtenKeys.add(request.key());
+            payloads.put(request.key(), request.payload());
+            return Uni.createFrom().item(new PayloadReference(
+                providerName(), request.container(), request.key(), request.contentType(), request.codec(),
+                request.checksum(), request.payloadSize(), request.version(), request.metadata(), Optional.empty()));
+        }
+
+        @Override
+        public Uni<RepositoryReadResult> load(PayloadReference reference) {
+            byte[] payload = payloads.get(reference.key());
+            if (payload == null) {
+                return Uni.createFrom().failure(new PayloadNotFoundException(reference, null));
+            }
+            return Uni.createFrom().item(new RepositoryReadResult(
+                reference, payload, reference.contentType(), reference.codec(), reference.checksum()));
+        }
+
+        @Override
+        public Uni<List<PayloadReference>> list(String container, String keyPrefix) {
+            if (!listable) {
+                return RepositoryProvider.super.list(container, keyPrefix);
+            }
+            return Uni.createFrom().item(payloads.keySet().stream()
+                .filter(key -> key.startsWith(keyPrefix))
+                .map(key -> new PayloadReference(
+                    providerName(), container, key, null, null, null, 0L, null, Map.of(), Optional.empty()))
+                .toList());
+        }
+
+        @Override
+        public Uni<Boolean> delete(PayloadReference reference) {
+            return Uni.createFrom().item(payloads.remove(reference.key()) != null);
+        }
+    }
+}
@@ -22,11 +22,18 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import org.pipelineframework.repository.PayloadNotFoundException;
 import org.pipelineframework.repository.PayloadReference;
 import org.pipelineframework.repository.RepositoryChecksums;
 import org.pipelineframework.repository.RepositoryWriteRequest;
@@ -125,6 +132,75 @@ class FilesystemRepositoryProviderTest {
         assertTrue(exception.getMessage().contains("checksum mismatch"));
     }
 
+    @Test
+    void reportsMissingPayloadOnLoad() {
+        FilesystemRepositoryProvider provider = new FilesystemRepositoryProvider();
+        provider.root = tempDir.toString();
+        provider.verifyChecksum = true;
+        PayloadReference missing = new PayloadReference(
+            "filesystem", "documents", "missing", "text/plain", "string", "abc", 0L, null, Map.of(), Optional.empty());
+
+        assertThrows(PayloadNotFoundException.class, () -> provider.load(missing).await().indefinitely());
+    }
+
+    @Test
+    void streamsPayloadsThroughChannelsWithChecksumVerification() {
+        FilesystemRepositoryProvider provider = new FilesystemRepositoryProvider();
+        provider.root = tempDir.toString();
+        provider.verifyChecksum = true;
+        byte[] payload = "streamed payload".repeat(1024).getBytes(StandardCharsets.UTF_8);
+        String checksum = RepositoryChecksums.sha256Hex(payload);
+        PayloadReference target = new PayloadReference(
+            "filesystem", "documents", "streamed", "text/plain", "string", checksum, 0L, null, Map.of(), Optional.empty());
+
+        PayloadReference stored = provider.storeFrom(target, Channels.newChannel(new ByteArrayInputStream(payload)))
+            .await().indefinitely();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        long transferred = provider.transferTo(stored, Channels.newChannel(output)).await().indefinitely();
+
+        assertEquals(payload.length, stored.sizeBytes());
+        assertEquals(payload.length, transferred);
+        assertArrayEquals(payload, output.toByteArray());
+        assertArrayEquals(payload, provider.load(stored).await().indefinitely().payload());
+    }
+
+    @Test
+    void rejectsStreamedPayloadWithMismatchedChecksum() {
+        FilesystemRepositoryProvider provider = new FilesystemRepositoryProvider();
+        provider.root = tempDir.toString();
+        provider.verifyChecksum = true;
+        PayloadReference target = new PayloadReference(
+            "filesystem", null, "streamed", "text/plain", "string", "bad-checksum", 0L, null, Map.of(), Optional.empty());
+
+        IllegalStateException exception = assertThrows(
+            IllegalStateException.class,
+            () -> provider.storeFrom(target, Channels.newChannel(new ByteArrayInputStream(new byte[] {1, 2, 3})))
+                .await().indefinitely());
+
+        assertTrue(exception.getMessage().contains("checksum mismatch"));
+        assertFalse(provider.exists(target).await().indefinitely());
+    }
+
+    @Test
+    void listsStoredPayloadsUnderAKeyPrefix() throws Exception {
+        FilesystemRepositoryProvider provider = new FilesystemRepositoryProvider();
+        provider.root = tempDir.toString();
+        provider.verifyChecksum = false;
+        for (String key : List.of("refs/abc/one", "refs/abc/two", "refs/abd/three")) {
+            provider.store(new RepositoryWriteRequest(
+                "documents", key, new byte[] {1}, "text/plain", null, null, null, Map.of())).await().indefinitely();
+        }
+        Files.writeString(tempDir.resolve("documents/refs/abc/one123.tmp"), "partial");
+
+        List<String> keys = provider.list("documents", "refs/abc/").await().indefinitely().stream()
+            .map(PayloadReference::key)
+            .sorted()
+            .toList();
+
+        assertEquals(List.of("refs/abc/one", "refs/abc/two"), keys);
+        assertTrue(provider.list("documents", "refs/missing/").await().indefinitely().isEmpty());
+    }
+
     private RepositoryWriteRequest request(String payload) {
         return new RepositoryWriteRequest(
             "documents",
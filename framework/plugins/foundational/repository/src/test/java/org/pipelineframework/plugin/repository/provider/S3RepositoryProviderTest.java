@@ -1,14 +1,35 @@
 package org.pipelineframework.plugin.repository.provider;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
 import org.junit.jupiter.api.Test;
 
+import org.mockito.ArgumentCaptor;
+import org.pipelineframework.repository.PayloadReference;
+import org.pipelineframework.repository.RepositoryWriteRequest;
 import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.MetadataDirective;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.S3Object;
 
 class S3RepositoryProviderTest {
 
@@ -23,6 +44,71 @@ class S3RepositoryProviderTest {
         assertFalse(S3RepositoryProvider.isMissingObject(missingBucket));
     }
 
+    @Test
+    void existingCopiesReusedObjectsInPlaceToRefreshTheirAge() {
+        S3RepositoryProvider provider = provider();
+        when(provider.client.headObject(any(HeadObjectRequest.class))).thenReturn(HeadObjectResponse.builder()
+            .contentType("text/plain")
+            .metadata(Map.of("field", "text"))
+            .build());
+
+        Optional<PayloadReference> existing = provider.existing(request("sha256/ab/abc")).await().indefinitely();
+
+        assertEquals("tpf/sha256/ab/abc", existing.orElseThrow().key());
+        ArgumentCaptor<CopyObjectRequest> copy = ArgumentCaptor.forClass(CopyObjectRequest.class);
+        verify(provider.client).copyObject(copy.capture());
+        assertEquals("tpf/sha256/ab/abc", copy.getValue().sourceKey());
+        assertEquals("tpf/sha256/ab/abc", copy.getValue().destinationKey());
+        assertEquals(MetadataDirective.REPLACE, copy.getValue().metadataDirective());
+        assertEquals(Map.of("field", "text"), copy.getValue().metadata());
+    }
+
+    @Test
+    void existingReturnsEmptyWithoutCopyingMissingObjects() {
+        S3RepositoryProvider provider = provider();
+        when(provider.client.headObject(any(HeadObjectRequest.class)))
+            .thenThrow(NoSuchKeyException.builder().message("missing").build());
+
+        assertTrue(provider.existing(request("sha256/ab/abc")).await().indefinitely().isEmpty());
+        verify(provider.client, never()).copyObject(any(CopyObjectRequest.class));
+    }
+
+    @Test
+    void listsEveryPageUnderThePrefixedKey() {
+        S3RepositoryProvider provider = provider();
+        when(provider.client.listObjectsV2(any(ListObjectsV2Request.class)))
+            .thenReturn(ListObjectsV2Response.builder()
+                .contents(S3Object.builder().key("tpf/refs/abc/one").size(3L).build())
+                .isTruncated(true)
+                .nextContinuationToken("next")
+                .build())
+            .thenReturn(ListObjectsV2Response.builder()
+                .contents(S3Object.builder().key("tpf/refs/abc/two").size(4L).build())
+                .isTruncated(false)
+                .build());
+
+        List<PayloadReference> references = provider.list(null, "refs/abc/").await().indefinitely();
+
+        assertEquals(List.of("tpf/refs/abc/one", "tpf/refs/abc/two"), references.stream().map(PayloadReference::key).toList());
+        assertEquals("bucket", references.get(0).container());
+        ArgumentCaptor<ListObjectsV2Request> listed = ArgumentCaptor.forClass(ListObjectsV2Request.class);
+        verify(provider.client, times(2)).listObjectsV2(listed.capture());
+        assertEquals("tpf/refs/abc/", listed.getAllValues().get(0).prefix());
+        assertEquals("next", listed.getAllValues().get(1).continuationToken());
+    }
+
+    private static S3RepositoryProvider provider() {
+        S3RepositoryProvider provider = new S3RepositoryProvider();
+        provider.bucket = "bucket";
+        provider.prefix = "tpf";
+        provider.client = mock(S3Client.class);
+        return provider;
+    }
+
+    private static RepositoryWriteRequest request(String key) {
+        return new RepositoryWriteRequest(null, key, new byte[] {1}, "text/plain", "string", null, null, Map.of());
+    }
+
     private S3Exception exception(String errorCode) {
         S3Exception exception = mock(S3Exception.class);
         when(exception.statusCode()).thenReturn(404);
@@ -1,9 +1,12 @@
 package org.pipelineframework.file;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.LinkOption;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.HexFormat;
@@ -13,6 +16,9 @@ import java.util.Map;
 import java.util.Collections;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
 import java.util.function.BiFunction;
 import java.util.function.Supplier;
@@ -22,6 +28,7 @@ import jakarta.inject.Inject;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
+import org.eclipse.microprofile.config.ConfigProvider;
 import org.pipelineframework.config.boundary.PipelineObjectPublishConfig;
 import org.pipelineframework.config.pipeline.PipelineYamlConfig;
 import org.pipelineframework.config.pipeline.PipelineYamlConfigLoader;
@@ -32,30 +39,66 @@ import org.pipelineframework.connector.MaterializedPayload;
 import org.pipelineframework.connector.PayloadMaterializer;
 import org.pipelineframework.objectpublish.ObjectTargetProvider;
 import org.pipelineframework.objectpublish.ObjectTargetRegistry;
+import org.pipelineframework.objectpublish.ObjectWriteCloseRequest;
+import org.pipelineframework.objectpublish.ObjectWriteOpenRequest;
 import org.pipelineframework.objectpublish.ObjectWriteRequest;
 import org.pipelineframework.objectpublish.ObjectWriteResult;
+import org.pipelineframework.objectpublish.ObjectWriteSession;
 import org.pipelineframework.repository.PayloadReference;
 
 /** Runtime support for provider-generated {@link Path} facades. */
 @ApplicationScoped
 public final class FileRepresentationRuntime {
+    private static final int MAPPED_WINDOW_BYTES = 4 * 1024 * 1024;
+
     private final Supplier<PayloadMaterializer> materializer;
     private final ConnectorBindingRegistry connectorBindings;
+    private final FileWorkspaceSettings settings;
+    private final FileWorkspacePool workspaces;
     private volatile PipelineYamlConfig config;
     private volatile ObjectTargetRegistry targets;
 
     @Inject
     public FileRepresentationRuntime(ConnectorBindingRegistry connectorBindings) {
         this.connectorBindings = Objects.requireNonNull(connectorBindings, "connectorBindings");
-        this.materializer = () -> connectorBindings::materialize;
+        PayloadMaterializer bindingMaterializer = new PayloadMaterializer() {
+            @Override
+            public CompletionStage<MaterializedPayload> materialize(PayloadReference reference, long maxBytes) {
+                return connectorBindings.materialize(reference, maxBytes);
+            }
+
+            @Override
+            public CompletionStage<Long> materializeTo(PayloadReference reference, long maxBytes, Path target) {
+                return connectorBindings.materializeTo(reference, maxBytes, target);
+            }
+        };
+        this.materializer = () -> bindingMaterializer;
+        this.settings = loadSettings();
+        this.workspaces = new FileWorkspacePool(settings.poolSize());
     }
 
     FileRepresentationRuntime(PayloadMaterializer materializer, ConnectorBindingRegistry connectorBindings,
                               PipelineYamlConfig config, ObjectTargetRegistry targets) {
+        this(materializer, connectorBindings, config, targets, FileWorkspaceSettings.defaults());
+    }
+
+    FileRepresentationRuntime(PayloadMaterializer materializer, ConnectorBindingRegistry connectorBindings,
+                              PipelineYamlConfig config, ObjectTargetRegistry targets, FileWorkspaceSettings settings) {
         this.materializer = () -> Objects.requireNonNull(materializer, "materializer");
         this.connectorBindings = Objects.requireNonNull(connectorBindings, "connectorBindings");
         this.config = Objects.requireNonNull(config, "config");
         this.targets = Objects.requireNonNull(targets, "targets");
+        this.settings = Objects.requireNonNull(settings, "settings");
+        this.workspaces = new FileWorkspacePool(settings.poolSize());
+    }
+
+    private static FileWorkspaceSettings loadSettings() {
+        try {
+            return FileWorkspaceSettings.fromConfig(ConfigProvider.getConfig());
+        } catch (IllegalStateException ignored) {
+            // Callers without a config source keep buffered, unpooled workspaces.
+            return FileWorkspaceSettings.defaults();
+        }
     }
 
     public Uni<PayloadReference> oneToOne(PayloadReference input, long inputMaxBytes,
@@ -103,8 +146,7 @@ public final class FileRepresentationRuntime {
             }
             ordered.put(field, Objects.requireNonNull(reference, "file input reference"));
         });
-        return materialize(List.copyOf(ordered.entrySet()), 0, maxBytes, new LinkedHashMap<>())
-            .chain(materialized -> blocking(() -> stage(materialized, maxBytes)))
+        return stageInputs(List.copyOf(ordered.entrySet()), maxBytes)
             .chain(workspace -> Uni.createFrom().deferred(() ->
                 Objects.requireNonNull(delegate.apply(workspace.inputs()),
                     "file service returned a null Uni"))
@@ -146,10 +188,48 @@ public final class FileRepresentationRuntime {
             }
             ordered.put(field, Objects.requireNonNull(reference, "file input reference"));
         });
-        return materialize(List.copyOf(ordered.entrySet()), 0, maxBytes, new LinkedHashMap<>())
+        return stageInputs(List.copyOf(ordered.entrySet()), maxBytes);
+    }
+
+    private Uni<StructuredWorkspace> stageInputs(List<Map.Entry<String, PayloadReference>> inputs, long maxBytes) {
+        if (settings.mapped()) {
+            return blocking(() -> workspaces.acquire("tpf-files-"))
+                .chain(workspace -> transferInputs(workspace, inputs, 0, maxBytes, new LinkedHashMap<>())
+                    .onFailure().call(() -> cleanup(workspace.root())));
+        }
+        return materialize(inputs, 0, maxBytes, new LinkedHashMap<>())
             .chain(materialized -> blocking(() -> stage(materialized, maxBytes)));
     }
 
+    private Uni<StructuredWorkspace> transferInputs(
+        FileWorkspacePool.FileWorkspace workspace,
+        List<Map.Entry<String, PayloadReference>> inputs,
+        int index,
+        long remainingBytes,
+        LinkedHashMap<String, Path> staged
+    ) {
+        if (index == inputs.size()) {
+            return Uni.createFrom().item(new StructuredWorkspace(workspace.root(), staged));
+        }
+        Map.Entry<String, PayloadReference> input = inputs.get(index);
+        PayloadReference requested = input.getValue();
+        long requestBudget = Math.max(remainingBytes, 1L);
+        return blocking(() -> {
+            Path fieldDirectory = Files.createDirectory(
+                workspace.input().resolve(index + "-" + safeFieldName(input.getKey())));
+            return fieldDirectory.resolve(safeFilename(requested.key())).normalize();
+        }).chain(target -> Uni.createFrom()
+            .completionStage(() -> materializer.get().materializeTo(requested, requestBudget, target))
+            .chain(size -> {
+                if (size > remainingBytes) {
+                    return Uni.createFrom().failure(new IllegalStateException(
+                        "materialized file inputs exceed maxBytes: " + size + " > " + remainingBytes));
+                }
+                staged.put(input.getKey(), target);
+                return transferInputs(workspace, inputs, index + 1, remainingBytes - size, staged);
+            }));
+    }
+
     private <R, O> Uni<O> publishStructured(
         StructuredWorkspace workspace,
         R result,
@@ -247,6 +327,16 @@ public final class FileRepresentationRuntime {
     private Uni<Workspace> prepare(PayloadReference reference, long maxBytes) {
         requirePositive(maxBytes, "input maxBytes");
         Objects.requireNonNull(reference, "input reference");
+        if (settings.mapped()) {
+            return blocking(() -> workspaces.acquire("tpf-file-"))
+                .chain(workspace -> {
+                    Path input = workspace.input().resolve(safeFilename(reference.key())).normalize();
+                    return Uni.createFrom()
+                        .completionStage(() -> materializer.get().materializeTo(reference, maxBytes, input))
+                        .map(size -> new Workspace(workspace.root(), input))
+                        .onFailure().call(() -> cleanup(workspace.root()));
+                });
+        }
         return Uni.createFrom().completionStage(() -> materializer.get().materialize(reference, maxBytes))
             .chain(payload -> blocking(() -> stage(reference, payload, maxBytes)));
     }
@@ -289,13 +379,12 @@ public final class FileRepresentationRuntime {
         });
     }
 
-    private static <T> T withWorkspace(String prefix, String failureMessage, WorkspaceBody<T> body) {
+    private <T> T withWorkspace(String prefix, String failureMessage, WorkspaceBody<T> body) {
         Path root = null;
         try {
-            root = Files.createTempDirectory(prefix).toRealPath();
-            Path input = Files.createDirectory(root.resolve("input"));
-            Path output = Files.createDirectory(root.resolve("output"));
-            return body.apply(new WorkspaceDirectories(root, input, output));
+            FileWorkspacePool.FileWorkspace workspace = workspaces.acquire(prefix);
+            root = workspace.root();
+            return body.apply(workspace);
         } catch (IOException e) {
             cleanupAfterFailure(root, e);
             throw new IllegalStateException(failureMessage, e);
@@ -310,7 +399,7 @@ public final class FileRepresentationRuntime {
             return;
         }
         try {
-            deleteRecursively(root);
+            FileWorkspacePool.delete(root);
         } catch (IOException cleanupFailure) {
             failure.addSuppressed(cleanupFailure);
         }
@@ -321,6 +410,10 @@ public final class FileRepresentationRuntime {
         requirePositive(maxBytes, "output maxBytes");
         Objects.requireNonNull(output, "file service output");
         Objects.requireNonNull(configuredKey, "configuredKey");
+        if (settings.mapped()) {
+            return blocking(() -> checkedOutput(workspace, output, maxBytes, configuredKey))
+                .chain(staged -> publishMapped(staged, targetName));
+        }
         return blocking(() -> readOutput(workspace, output, maxBytes, configuredKey))
             .chain(staged -> {
                 PipelineObjectPublishConfig target = requireTarget(targetName);
@@ -345,12 +438,84 @@ public final class FileRepresentationRuntime {
         return connectorBindings.ownPayloadReference(binding, provider.id(), provider.majorVersion(), reference);
     }
 
-    private StagedOutput readOutput(Workspace workspace, Path output, long maxBytes, Optional<String> configuredKey) {
+    /**
+     * Publishes an output file without copying it onto the heap: the checksum and the object write both read
+     * memory-mapped windows of the file, and the bytes reach the target through a streaming write session.
+     */
+    private Uni<PayloadReference> publishMapped(MappedOutput staged, String targetName) {
+        PipelineObjectPublishConfig target = requireTarget(targetName);
+        ObjectTargetProvider provider = targetRegistry().require(target.provider());
+        return blocking(() -> sha256(staged.path(), staged.size()))
+            .chain(checksum -> {
+                ObjectWriteOpenRequest request = new ObjectWriteOpenRequest(
+                    target.name(), target, staged.objectKey(), target.payload().contentType(),
+                    Map.of("representation", "file"),
+                    "file-representation:" + target.name() + ":" + staged.objectKey() + ":" + checksum);
+                return Uni.createFrom().completionStage(() -> provider.open(request))
+                    .chain(session -> Uni.createFrom().completionStage(() -> writeMapped(session, staged.path(),
+                            staged.size()).thenCompose(ignored -> session.close(new ObjectWriteCloseRequest(
+                                staged.size(), checksum, Map.of("representation", "file")))))
+                        .onFailure().call(failure -> Uni.createFrom().completionStage(() -> session.abort(failure))
+                            .onFailure().recoverWithNull()));
+            })
+            .map(result -> ownedReference(target, provider, result));
+    }
+
+    private static CompletionStage<Void> writeMapped(ObjectWriteSession session, Path path, long size) {
+        final FileChannel channel;
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.READ);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(new IllegalStateException("failed to read file service output", e));
+        }
+        CompletionStage<Void> written = CompletableFuture.completedFuture(null);
+        for (long position = 0; position < size; position += MAPPED_WINDOW_BYTES) {
+            long offset = position;
+            long length = Math.min(MAPPED_WINDOW_BYTES, size - position);
+            written = written.thenCompose(ignored -> {
+                try {
+                    return session.write(channel.map(FileChannel.MapMode.READ_ONLY, offset, length));
+                } catch (IOException e) {
+                    throw new CompletionException(e);
+                }
+            });
+        }
+        return written.whenComplete((ignored, failure) -> {
+            try {
+                channel.close();
+            } catch (IOException closeFailure) {
+                if (failure != null) {
+                    failure.addSuppressed(closeFailure);
+                }
+            }
+        });
+    }
+
+    private MappedOutput checkedOutput(Workspace workspace, Path output, long maxBytes, Optional<String> configuredKey) {
         try {
-            Path real = output.toRealPath();
-            if (!real.startsWith(workspace.root()) || !Files.isRegularFile(real, LinkOption.NOFOLLOW_LINKS)) {
-                throw new IllegalStateException("file service output must be a regular file inside its workspace");
+            Path real = checkedOutputPath(workspace, output);
+            long size = Files.size(real);
+            if (size > maxBytes) {
+                throw new IllegalStateException("file service output exceeds maxBytes: " + size + " > " + maxBytes);
             }
+            String key = configuredKey.filter(value -> !value.isBlank()).orElseGet(() -> real.getFileName().toString());
+            return new MappedOutput(key, real, size);
+        } catch (IOException e) {
+            throw new IllegalStateException("failed to read file service output", e);
+        }
+    }
+
+    private static Path checkedOutputPath(Workspace workspace, Path output) throws IOException {
+        Path real = output.toRealPath();
+        if (!real.startsWith(workspace.root()) || !Files.isRegularFile(real, LinkOption.NOFOLLOW_LINKS)) {
+            throw new IllegalStateException("file service output must be a regular file inside its workspace");
+        }
+        return real;
+    }
+
+    private StagedOutput readOutput(Workspace workspace, Path output, long maxBytes, Optional<String> configuredKey) {
+        try {
+            Path real = checkedOutputPath(workspace, output);
             long size = Files.size(real);
             if (size > maxBytes) {
                 throw new IllegalStateException("file service output exceeds maxBytes: " + size + " > " + maxBytes);
@@ -373,23 +538,21 @@ public final class FileRepresentationRuntime {
         if (maxBytes >= Integer.MAX_VALUE) {
             throw new IllegalArgumentException("output maxBytes must be smaller than " + Integer.MAX_VALUE);
         }
-        int maxRead = Math.toIntExact(maxBytes + 1L);
-        try (var stream = Files.newInputStream(output)) {
-            java.io.ByteArrayOutputStream bytes = new java.io.ByteArrayOutputStream();
-            byte[] buffer = new byte[8192];
-            int remaining = maxRead;
-            while (remaining > 0) {
-                int read = stream.read(buffer, 0, Math.min(buffer.length, remaining));
-                if (read < 0) {
+        try (FileChannel channel = FileChannel.open(output, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > maxBytes) {
+                throw new IllegalStateException("file service output exceeds maxBytes: " + size + " > " + maxBytes);
+            }
+            ByteBuffer bytes = ByteBuffer.allocate(Math.toIntExact(size));
+            while (bytes.hasRemaining()) {
+                if (channel.read(bytes) < 0) {
                     break;
                 }
-                bytes.write(buffer, 0, read);
-                remaining -= read;
             }
-            if (remaining == 0 && stream.read() != -1) {
+            if (channel.read(ByteBuffer.allocate(1)) > 0) {
                 throw new IllegalStateException("file service output exceeds maxBytes: " + (maxBytes + 1) + " > " + maxBytes);
             }
-            return bytes.toByteArray();
+            return bytes.hasRemaining() ? java.util.Arrays.copyOf(bytes.array(), bytes.position()) : bytes.array();
         }
     }
 
@@ -446,28 +609,17 @@ public final class FileRepresentationRuntime {
         }).runSubscriptionOn(Infrastructure.getDefaultWorkerPool());
     }
 
-    private static Uni<Void> cleanup(Workspace workspace) {
+    private Uni<Void> cleanup(Workspace workspace) {
         return cleanup(workspace.root());
     }
 
-    private static Uni<Void> cleanup(Path root) {
+    private Uni<Void> cleanup(Path root) {
         return blocking(() -> {
-            deleteRecursively(root);
+            workspaces.release(root);
             return Boolean.TRUE;
         }).replaceWithVoid();
     }
 
-    private static void deleteRecursively(Path root) throws IOException {
-        if (!Files.exists(root, LinkOption.NOFOLLOW_LINKS)) {
-            return;
-        }
-        try (var paths = Files.walk(root)) {
-            for (Path path : paths.sorted(java.util.Comparator.reverseOrder()).toList()) {
-                Files.deleteIfExists(path);
-            }
-        }
-    }
-
     private static String safeFilename(String key) {
         if (key == null || key.isBlank()) {
             return "payload.bin";
@@ -488,6 +640,19 @@ public final class FileRepresentationRuntime {
         }
     }
 
+    private static String sha256(Path path, long size) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (long position = 0; position < size; position += MAPPED_WINDOW_BYTES) {
+                digest.update(channel.map(FileChannel.MapMode.READ_ONLY, position,
+                    Math.min(MAPPED_WINDOW_BYTES, size - position)));
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is unavailable", e);
+        }
+    }
+
     private static String sha256(byte[] bytes) {
         try {
             return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
@@ -499,12 +664,9 @@ public final class FileRepresentationRuntime {
     private record Workspace(Path root, Path input) {
     }
 
-    private record WorkspaceDirectories(Path root, Path input, Path output) {
-    }
-
     @FunctionalInterface
     private interface WorkspaceBody<T> {
-        T apply(WorkspaceDirectories workspace) throws IOException;
+        T apply(FileWorkspacePool.FileWorkspace workspace) throws IOException;
     }
 
     private record StructuredWorkspace(Path root, Map<String, Path> inputs) {
@@ -513,15 +675,10 @@ public final class FileRepresentationRuntime {
         }
     }
 
+    /** Holds the materializer's own copy of the bytes; it never escapes this class, so no defensive copies. */
     private record MaterializedInput(PayloadReference reference, byte[] bytes) {
         private MaterializedInput {
             Objects.requireNonNull(reference, "reference");
-            bytes = bytes.clone();
-        }
-
-        @Override
-        public byte[] bytes() {
-            return bytes.clone();
         }
 
         private int length() {
@@ -530,13 +687,8 @@ public final class FileRepresentationRuntime {
     }
 
     private record StagedOutput(String objectKey, byte[] bytes) {
-        private StagedOutput {
-            bytes = bytes.clone();
-        }
+    }
 
-        @Override
-        public byte[] bytes() {
-            return bytes.clone();
-        }
+    private record MappedOutput(String objectKey, Path path, long size) {
     }
 }
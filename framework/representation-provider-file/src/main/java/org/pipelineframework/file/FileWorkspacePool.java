@@ -0,0 +1,104 @@
+package org.pipelineframework.file;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+
+/**
+ * Reuses invocation workspace directories. A released workspace is emptied and kept idle up to the pool size, so
+ * steady-state calls skip temp directory creation and deletion; beyond the pool size, or when emptying fails, the
+ * workspace is deleted as before.
+ */
+final class FileWorkspacePool {
+    private final int maxIdle;
+    private final Deque<Path> idle = new ArrayDeque<>();
+
+    FileWorkspacePool(int maxIdle) {
+        if (maxIdle < 0) {
+            throw new IllegalArgumentException("maxIdle must be >= 0");
+        }
+        this.maxIdle = maxIdle;
+    }
+
+    FileWorkspace acquire(String prefix) throws IOException {
+        Path root = poll();
+        if (root == null) {
+            root = Files.createTempDirectory(prefix).toRealPath();
+        }
+        Path input = root.resolve("input");
+        Path output = root.resolve("output");
+        if (!Files.isDirectory(input, LinkOption.NOFOLLOW_LINKS)) {
+            Files.createDirectory(input);
+        }
+        if (!Files.isDirectory(output, LinkOption.NOFOLLOW_LINKS)) {
+            Files.createDirectory(output);
+        }
+        return new FileWorkspace(root, input, output);
+    }
+
+    void release(Path root) throws IOException {
+        if (maxIdle > 0 && Files.isDirectory(root, LinkOption.NOFOLLOW_LINKS)) {
+            try {
+                clear(root);
+            } catch (IOException e) {
+                delete(root);
+                throw e;
+            }
+            synchronized (idle) {
+                if (idle.size() < maxIdle) {
+                    idle.push(root);
+                    return;
+                }
+            }
+        }
+        delete(root);
+    }
+
+    int idle() {
+        synchronized (idle) {
+            return idle.size();
+        }
+    }
+
+    static void delete(Path root) throws IOException {
+        if (!Files.exists(root, LinkOption.NOFOLLOW_LINKS)) {
+            return;
+        }
+        try (var paths = Files.walk(root)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    private Path poll() {
+        synchronized (idle) {
+            return idle.poll();
+        }
+    }
+
+    private static void clear(Path root) throws IOException {
+        try (var paths = Files.walk(root)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                boolean workspaceDirectory = path.equals(root)
+                    || (path.getParent().equals(root) && isWorkspaceDirectoryName(path)
+                        && Files.isDirectory(path, LinkOption.NOFOLLOW_LINKS));
+                if (!workspaceDirectory) {
+                    Files.deleteIfExists(path);
+                }
+            }
+        }
+    }
+
+    private static boolean isWorkspaceDirectoryName(Path path) {
+        String name = path.getFileName().toString();
+        return "input".equals(name) || "output".equals(name);
+    }
+
+    record FileWorkspace(Path root, Path input, Path output) {
+    }
+}
@@ -0,0 +1,44 @@
+package org.pipelineframework.file;
+
+import java.util.Locale;
+
+import org.eclipse.microprofile.config.Config;
+
+/**
+ * Workspace settings for file representation facades, read from {@code pipeline.file.workspace.*}.
+ *
+ * <ul>
+ *   <li>{@code pipeline.file.workspace.mode}: {@code buffered} materializes inputs and reads outputs through heap
+ *       byte arrays; {@code mapped} transfers inputs into the workspace through the payload materializer and publishes
+ *       outputs from memory-mapped regions through a streaming object write session (default {@code buffered})</li>
+ *   <li>{@code pipeline.file.workspace.pool-size}: idle workspace directories kept for reuse, {@code 0} to delete each
+ *       workspace after its call (default {@code 0})</li>
+ * </ul>
+ *
+ * @param mapped whether inputs and outputs bypass heap byte arrays
+ * @param poolSize idle workspace directories kept for reuse
+ */
+record FileWorkspaceSettings(boolean mapped, int poolSize) {
+    static final String PREFIX = "pipeline.file.workspace.";
+
+    FileWorkspaceSettings {
+        if (poolSize < 0) {
+            throw new IllegalArgumentException(PREFIX + "pool-size must be >= 0");
+        }
+    }
+
+    static FileWorkspaceSettings defaults() {
+        return new FileWorkspaceSettings(false, 0);
+    }
+
+    static FileWorkspaceSettings fromConfig(Config config) {
+        String mode = config.getOptionalValue(PREFIX + "mode", String.class).orElse("buffered").trim()
+            .toLowerCase(Locale.ROOT);
+        if (!"buffered".equals(mode) && !"mapped".equals(mode)) {
+            throw new IllegalArgumentException(PREFIX + "mode must be 'buffered' or 'mapped': " + mode);
+        }
+        return new FileWorkspaceSettings(
+            "mapped".equals(mode),
+            config.getOptionalValue(PREFIX + "pool-size", Integer.class).orElse(0));
+    }
+}
@@ -259,6 +259,106 @@ class FileRepresentationRuntimeTest {
         }
     }
 
+    @Test
+    void mappedWorkspaceModeStreamsThroughConnectorsAndReusesPooledWorkspaces() throws Exception {
+        Path inputRoot = Files.createTempDirectory("file-representation-input-");
+        Path outputRoot = Files.createTempDirectory("file-representation-output-");
+        try {
+            Files.writeString(inputRoot.resolve("document.txt"), "portable");
+            PipelineObjectSourceConfig source = new PipelineObjectSourceConfig(
+                "documents", "object", "filesystem", Optional.of("documents"), Map.of("root", inputRoot.toString()),
+                null, null, null, PipelineObjectPayloadConfig.reference());
+            FilesystemObjectSourceProvider sourceProvider = new FilesystemObjectSourceProvider();
+            PayloadReference raw = sourceProvider.list(source, 10).getFirst().contentRef();
+            FilesystemObjectConnector connector = new FilesystemObjectConnector();
+            ConnectorBindingRegistry bindings = ConnectorBindingRegistry.fromProviders(
+                List.of(new ConnectorBindingDefinition(
+                    ConnectorBindingName.of("documents"), connector.id(), 1,
+                    new ConnectorConfigurationDocument(Map.of()))),
+                List.of(connector));
+            bindings.start(ConnectorRuntimeContext.empty()).toCompletableFuture().join();
+            PayloadReference owned = bindings.ownPayloadReference(
+                ConnectorBindingName.of("documents"), sourceProvider.id(), sourceProvider.majorVersion(), raw);
+            PipelineObjectPublishConfig target = new PipelineObjectPublishConfig(
+                "rendered", "object", "filesystem", Optional.of("documents"),
+                Map.of("root", outputRoot.toString()), PipelineObjectNamingConfig.defaults(),
+                PipelineObjectPublishPayloadConfig.defaults(), PipelineObjectPublishGroupingConfig.defaults());
+            PipelineYamlConfig config = new PipelineYamlConfig(
+                "example", "LOCAL", "COMPUTE", List.of(), Map.of(), Map.of(), Map.of("rendered", target),
+                List.of(), null, null, Map.of());
+            AtomicInteger bufferedMaterializations = new AtomicInteger();
+            PayloadMaterializer streaming = new PayloadMaterializer() {
+                @Override
+                public CompletionStage<MaterializedPayload> materialize(PayloadReference reference, long maxBytes) {
+                    bufferedMaterializations.incrementAndGet();
+                    return bindings.materialize(reference, maxBytes);
+                }
+
+                @Override
+                public CompletionStage<Long> materializeTo(PayloadReference reference, long maxBytes, Path target) {
+                    return bindings.materializeTo(reference, maxBytes, target);
+                }
+            };
+            FileRepresentationRuntime runtime = new FileRepresentationRuntime(
+                streaming, bindings, config, new ObjectTargetRegistry(List.of(new FilesystemObjectTargetProvider())),
+                new FileWorkspaceSettings(true, 1));
+            List<Path> workspaces = new ArrayList<>();
+
+            for (String suffix : List.of("one", "two")) {
+                PayloadReference published = runtime.oneToOne(
+                    owned, 1024, "rendered", 1024, Optional.of("rendered-" + suffix + ".txt"), input -> {
+                        try {
+                            workspaces.add(input.getParent().getParent());
+                            Path output = input.getParent().getParent().resolve("output/rendered.txt");
+                            return Uni.createFrom().item(
+                                Files.writeString(output, Files.readString(input).toUpperCase() + "-" + suffix));
+                        } catch (java.io.IOException e) {
+                            return Uni.createFrom().failure(e);
+                        }
+                    }).await().indefinitely();
+
+                MaterializedPayload materialized = bindings.materialize(published, 1024).toCompletableFuture().join();
+                assertArrayEquals(("PORTABLE-" + suffix).getBytes(java.nio.charset.StandardCharsets.UTF_8),
+                    materialized.bytes());
+            }
+
+            assertEquals(0, bufferedMaterializations.get());
+            assertEquals(workspaces.get(0), workspaces.get(1));
+            try (var entries = Files.list(workspaces.get(0))) {
+                assertEquals(List.of("input", "output"),
+                    entries.map(path -> path.getFileName().toString()).sorted().toList());
+            }
+            try (var entries = Files.list(workspaces.get(0).resolve("output"))) {
+                assertEquals(0, entries.count());
+            }
+            deleteTree(workspaces.get(0));
+        } finally {
+            deleteTree(inputRoot);
+            deleteTree(outputRoot);
+        }
+    }
+
+    @Test
+    void pooledWorkspaceIsDeletedWhenPoolIsFull() throws Exception {
+        FileWorkspacePool pool = new FileWorkspacePool(1);
+        FileWorkspacePool.FileWorkspace first = pool.acquire("tpf-file-test-");
+        FileWorkspacePool.FileWorkspace second = pool.acquire("tpf-file-test-");
+        Files.writeString(first.output().resolve("left-over.txt"), "x");
+        Files.createDirectory(first.root().resolve("scratch"));
+
+        pool.release(first.root());
+        pool.release(second.root());
+
+        assertEquals(1, pool.idle());
+        assertTrue(Files.exists(first.root()));
+        assertFalse(Files.exists(first.root().resolve("scratch")));
+        assertFalse(Files.exists(first.output().resolve("left-over.txt")));
+        assertFalse(Files.exists(second.root()));
+        assertEquals(first, pool.acquire("tpf-file-test-"));
+        pool.release(first.root());
+        deleteTree(first.root());
+    }
+
     @Test
     void stagesInvokesPublishesAndCleansWorkspace() throws Exception {
         byte[] inputBytes = "input".getBytes(java.nio.charset.StandardCharsets.UTF_8);
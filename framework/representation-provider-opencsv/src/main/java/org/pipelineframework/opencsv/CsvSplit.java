@@ -0,0 +1,26 @@
+package org.pipelineframework.opencsv;
+
+/**
+ * Byte range of a CSV file that starts and ends on record boundaries.
+ *
+ * @param index position of the split in file order
+ * @param start first byte of the range, inclusive
+ * @param end last byte of the range, exclusive
+ */
+public record CsvSplit(int index, long start, long end) {
+
+    public CsvSplit {
+        if (index < 0 || start < 0 || end < start) {
+            throw new IllegalArgumentException("invalid CSV split [" + index + ": " + start + ", " + end + ")");
+        }
+    }
+
+    /**
+     * Returns the number of bytes in the split.
+     *
+     * @return split length in bytes
+     */
+    public long length() {
+        return end - start;
+    }
+}
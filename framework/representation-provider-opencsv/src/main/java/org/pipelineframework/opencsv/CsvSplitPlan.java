@@ -0,0 +1,330 @@
+package org.pipelineframework.opencsv;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Splits a CSV file into byte ranges aligned to record boundaries so each range can be parsed independently.
+ *
+ * <p>Each boundary is found by a local scan from its target offset rather than by one pass over the whole file. The
+ * scan tracks quote parity from the target offset and resyncs on the nearest quote whose RFC 4180 role is
+ * unambiguous: a quote followed by field text opens a quoted field, and a quote preceded by field text closes one.
+ * That fixes whether the target offset was inside quotes, and the split ends at the first newline outside them. A
+ * malformed quote therefore only affects the boundary whose scan crosses it. When the scan window holds no quote at
+ * all, the offset is taken to be outside quotes.</p>
+ *
+ * <p>The charset must encode {@code '\n'}, the separator and the quote character as single bytes that never occur
+ * inside multi-byte sequences, which holds for UTF-8 and the ISO-8859 family. When the file has a header, every split
+ * reader replays it first so header-based mapping strategies bind each split the same way.</p>
+ */
+public final class CsvSplitPlan {
+    private static final int SCAN_BUFFER_BYTES = 1 << 16;
+    private static final int RESYNC_WINDOW_BYTES = 1 << 16;
+    private static final int READ_BUFFER_CHARS = 1 << 16;
+
+    private final Path file;
+    private final Charset charset;
+    private final byte[] header;
+    private final List<CsvSplit> splits;
+
+    private CsvSplitPlan(Path file, Charset charset, byte[] header, List<CsvSplit> splits) {
+        this.file = file;
+        this.charset = charset;
+        this.header = header;
+        this.splits = List.copyOf(splits);
+    }
+
+    /**
+     * Plans record-aligned splits of roughly {@code targetSplitBytes} each, for comma-separated files.
+     *
+     * @param file CSV file
+     * @param charset file charset
+     * @param targetSplitBytes preferred split size; a split ends at the first record boundary past it
+     * @param hasHeader whether the first record is a header replayed into every split
+     * @param quoteChar field quote character
+     * @return the split plan; empty when the file holds no records
+     * @throws IOException when the file cannot be read
+     */
+    public static CsvSplitPlan plan(Path file, Charset charset, long targetSplitBytes, boolean hasHeader, char quoteChar)
+        throws IOException {
+        return plan(file, charset, targetSplitBytes, hasHeader, quoteChar, ',');
+    }
+
+    /**
+     * Plans record-aligned splits of roughly {@code targetSplitBytes} each.
+     *
+     * @param file CSV file
+     * @param charset file charset
+     * @param targetSplitBytes preferred split size; a split ends at the first record boundary past it
+     * @param hasHeader whether the first record is a header replayed into every split
+     * @param quoteChar field quote character
+     * @param separator field separator
+     * @return the split plan; empty when the file holds no records
+     * @throws IOException when the file cannot be read
+     */
+    public static CsvSplitPlan plan(Path file, Charset charset, long targetSplitBytes, boolean hasHeader, char quoteChar,
+                                    char separator) throws IOException {
+        Objects.requireNonNull(file, "file");
+        Objects.requireNonNull(charset, "charset");
+        if (targetSplitBytes <= 0) {
+            throw new IllegalArgumentException("targetSplitBytes must be positive");
+        }
+        byte quote = singleByte(charset, quoteChar);
+        byte delimiter = singleByte(charset, separator);
+        List<CsvSplit> splits = new ArrayList<>();
+        byte[] header = new byte[0];
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            BoundaryScanner scanner = new BoundaryScanner(channel, quote, delimiter);
+            long size = scanner.size;
+            long start = 0;
+            if (hasHeader) {
+                long headerEnd = scanner.recordEnd(0, true);
+                start = headerEnd < 0 ? size : headerEnd;
+                header = scanner.read(0, start);
+            }
+            while (start < size) {
+                long from = start + targetSplitBytes - 1;
+                long end = from >= size ? -1 : scanner.recordEnd(from, from == start);
+                if (end < 0) {
+                    end = size;
+                }
+                splits.add(new CsvSplit(splits.size(), start, end));
+                start = end;
+            }
+        }
+        return new CsvSplitPlan(file, charset, header, splits);
+    }
+
+    public Path file() {
+        return file;
+    }
+
+    public List<CsvSplit> splits() {
+        return splits;
+    }
+
+    /**
+     * Opens a reader over one split, preceded by the header record when the file has one.
+     *
+     * @param split split of this plan
+     * @return a buffered reader the caller must close
+     * @throws IOException when the file cannot be opened
+     */
+    public Reader open(CsvSplit split) throws IOException {
+        Objects.requireNonNull(split, "split");
+        if (split.index() >= splits.size() || !splits.get(split.index()).equals(split)) {
+            throw new IllegalArgumentException("split " + split + " does not belong to this plan");
+        }
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            InputStream range = new RangeInputStream(channel.position(split.start()), split.length());
+            InputStream records = header.length == 0
+                ? range
+                : new SequenceInputStream(new ByteArrayInputStream(header), range);
+            return new BufferedReader(new InputStreamReader(records, charset), READ_BUFFER_CHARS);
+        } catch (IOException | RuntimeException e) {
+            try {
+                channel.close();
+            } catch (IOException closeFailure) {
+                e.addSuppressed(closeFailure);
+            }
+            throw e;
+        }
+    }
+
+    private static byte singleByte(Charset charset, char character) {
+        byte[] encoded = String.valueOf(character).getBytes(charset);
+        byte[] newline = "\n".getBytes(charset);
+        if (encoded.length != 1 || newline.length != 1 || newline[0] != '\n') {
+            throw new IllegalArgumentException(
+                "CSV splitting requires single-byte quote, separator and newline in " + charset);
+        }
+        return encoded[0];
+    }
+
+    /**
+     * Finds record boundaries with positional reads, so each scan only touches the bytes near its start offset.
+     */
+    private static final class BoundaryScanner {
+        private static final int UNKNOWN = 0;
+        private static final int OUTSIDE = 1;
+        private static final int INSIDE = 2;
+
+        private final FileChannel channel;
+        private final long size;
+        private final byte quote;
+        private final byte separator;
+        private final ByteBuffer buffer;
+
+        private BoundaryScanner(FileChannel channel, byte quote, byte separator) throws IOException {
+            this.channel = channel;
+            this.size = channel.size();
+            this.quote = quote;
+            this.separator = separator;
+            this.buffer = ByteBuffer.allocate((int) Math.min(SCAN_BUFFER_BYTES, Math.max(size, 1)));
+        }
+
+        /**
+         * Returns the offset just past the first newline at or after {@code from} that is outside quotes.
+         *
+         * <p>Both possible quote states at {@code from} are followed at once: a newline ends a record for the state
+         * "outside" when an even number of quotes precede it in the scan, and for "inside" when the number is odd.
+         * The first quote with an unambiguous role decides which state held.</p>
+         *
+         * @param from first byte to scan
+         * @param outsideQuotes whether {@code from} is already known to start a record
+         * @return the record end, or -1 when the file ends first or the state cannot be decided
+         */
+        long recordEnd(long from, boolean outsideQuotes) throws IOException {
+            int state = outsideQuotes ? OUTSIDE : UNKNOWN;
+            long endIfOutside = -1;
+            long endIfInside = -1;
+            boolean odd = false;
+            boolean quoteSeen = false;
+            boolean pendingQuote = false;
+            boolean oddBeforePending = false;
+            byte beforePending = 0;
+            byte previous = from == 0 ? (byte) '\n' : byteAt(from - 1);
+            long position = from;
+            while (position < size) {
+                buffer.clear();
+                int read = channel.read(buffer, position);
+                if (read <= 0) {
+                    break;
+                }
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    byte value = buffer.get();
+                    if (pendingQuote) {
+                        pendingQuote = false;
+                        if (state == UNKNOWN) {
+                            state = stateAtStart(beforePending, value, oddBeforePending);
+                        }
+                    }
+                    if (value == quote) {
+                        pendingQuote = true;
+                        oddBeforePending = odd;
+                        beforePending = previous;
+                        odd = !odd;
+                        quoteSeen = true;
+                    } else if (value == '\n') {
+                        if (!odd && endIfOutside < 0) {
+                            endIfOutside = position + 1;
+                        } else if (odd && endIfInside < 0) {
+                            endIfInside = position + 1;
+                        }
+                    }
+                    previous = value;
+                    position++;
+                    if (state == UNKNOWN && !quoteSeen && position - from >= RESYNC_WINDOW_BYTES) {
+                        state = OUTSIDE;
+                    }
+                    if (state == OUTSIDE && endIfOutside >= 0) {
+                        return endIfOutside;
+                    }
+                    if (state == INSIDE && endIfInside >= 0) {
+                        return endIfInside;
+                    }
+                }
+            }
+            if (pendingQuote && state == UNKNOWN) {
+                state = stateAtStart(beforePending, (byte) '\n', oddBeforePending);
+            }
+            if (state == UNKNOWN && !quoteSeen) {
+                state = OUTSIDE;
+            }
+            return state == OUTSIDE ? endIfOutside : state == INSIDE ? endIfInside : -1;
+        }
+
+        /**
+         * Decides the quote state at the scan start from one quote and its neighbours, or returns {@code UNKNOWN}
+         * when the quote could open or close a field.
+         */
+        private int stateAtStart(byte before, byte after, boolean oddBefore) {
+            boolean textBefore = isFieldText(before);
+            boolean textAfter = isFieldText(after);
+            if (textAfter && !textBefore) {
+                return oddBefore ? INSIDE : OUTSIDE;
+            }
+            if (textBefore && !textAfter) {
+                return oddBefore ? OUTSIDE : INSIDE;
+            }
+            return UNKNOWN;
+        }
+
+        private boolean isFieldText(byte value) {
+            return value != quote && value != separator && value != '\n' && value != '\r';
+        }
+
+        byte[] read(long start, long end) throws IOException {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            long position = start;
+            while (position < end) {
+                buffer.clear();
+                buffer.limit((int) Math.min(buffer.capacity(), end - position));
+                int read = channel.read(buffer, position);
+                if (read <= 0) {
+                    break;
+                }
+                bytes.write(buffer.array(), 0, read);
+                position += read;
+            }
+            return bytes.toByteArray();
+        }
+
+        private byte byteAt(long position) throws IOException {
+            ByteBuffer single = ByteBuffer.allocate(1);
+            if (channel.read(single, position) <= 0) {
+                throw new IOException("Unexpected end of CSV file at byte " + position);
+            }
+            return single.get(0);
+        }
+    }
+
+    private static final class RangeInputStream extends InputStream {
+        private final FileChannel channel;
+        private long remaining;
+
+        private RangeInputStream(FileChannel channel, long length) {
+            this.channel = channel;
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            return read(single, 0, 1) < 0 ? -1 : single[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] target, int offset, int length) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int read = channel.read(ByteBuffer.wrap(target, offset, (int) Math.min(length, remaining)));
+            if (read > 0) {
+                remaining -= read;
+            }
+            return read;
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package org.pipelineframework.opencsv;
+
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.pipelineframework.annotation.ParallelismHint;
+import org.pipelineframework.blocking.CloseableIterator;
+import org.pipelineframework.parallelism.OrderingRequirement;
+
+/**
+ * Parses the splits of a {@link CsvSplitPlan} concurrently and emits their rows as one blocking iterator.
+ *
+ * <p>Up to {@code parallelism} virtual threads each claim the next split in file order and parse it with its own
+ * reader. Each split fills a bounded buffer. In ordered mode the consumer drains split buffers by sequence number, so
+ * the buffers act as the reorder window and rows keep file order. In relaxed mode all splits share one buffer and rows
+ * are emitted as soon as they are parsed. Memory stays bounded by {@code parallelism * bufferPerSplit} rows.</p>
+ *
+ * @param <T> row type
+ */
+public final class ParallelCsvIterator<T> implements CloseableIterator<T> {
+    private static final Object END = new Object();
+
+    private final CsvSplitPlan plan;
+    private final SplitParser<T> parser;
+    private final boolean ordered;
+    private final int bufferPerSplit;
+    private final AtomicReferenceArray<BlockingQueue<Object>> splitBuffers;
+    private final BlockingQueue<Object> sharedBuffer;
+    private final AtomicInteger nextSplit = new AtomicInteger();
+    private final List<Thread> workers = new ArrayList<>();
+    private int currentSplit;
+    private int finishedSplits;
+    private Object pending;
+    private volatile boolean closed;
+
+    /**
+     * Parses one split into rows.
+     *
+     * @param <T> row type
+     */
+    @FunctionalInterface
+    public interface SplitParser<T> {
+        /**
+         * Opens a row iterator over a split reader. The reader is closed by the caller once the split is drained.
+         *
+         * @param split split being parsed
+         * @param reader split reader, starting with the header record when the file has one
+         * @return rows of the split
+         * @throws Exception when the split cannot be parsed
+         */
+        Iterator<T> parse(CsvSplit split, Reader reader) throws Exception;
+    }
+
+    /**
+     * Starts parsing the plan.
+     *
+     * @param plan split plan
+     * @param parallelism maximum splits parsed at once
+     * @param bufferPerSplit rows buffered per split being parsed
+     * @param ordered whether rows are emitted in file order
+     * @param parser per-split row parser
+     */
+    public ParallelCsvIterator(CsvSplitPlan plan, int parallelism, int bufferPerSplit, boolean ordered,
+                               SplitParser<T> parser) {
+        this.plan = Objects.requireNonNull(plan, "plan");
+        this.parser = Objects.requireNonNull(parser, "parser");
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be positive");
+        }
+        if (bufferPerSplit <= 0) {
+            throw new IllegalArgumentException("bufferPerSplit must be positive");
+        }
+        this.ordered = ordered;
+        this.bufferPerSplit = bufferPerSplit;
+        int splits = plan.splits().size();
+        this.splitBuffers = ordered ? new AtomicReferenceArray<>(splits) : null;
+        this.sharedBuffer = ordered ? null : new ArrayBlockingQueue<>(Math.max(1, parallelism * bufferPerSplit));
+        for (int i = 0; i < Math.min(parallelism, splits); i++) {
+            workers.add(Thread.ofVirtual().name("tpf-csv-split-" + i).start(this::parseSplits));
+        }
+    }
+
+    /**
+     * Whether a service requires file order, read from its {@link ParallelismHint}. Services without a hint keep
+     * file order; {@code @ParallelismHint(ordering = RELAXED)} allows rows to be emitted as parsed.
+     *
+     * @param serviceType service class, possibly a generated subclass
+     * @return {@code true} unless the service declares relaxed ordering
+     */
+    public static boolean preservesOrder(Class<?> serviceType) {
+        for (Class<?> type = serviceType; type != null && type != Object.class; type = type.getSuperclass()) {
+            ParallelismHint hint = type.getAnnotation(ParallelismHint.class);
+            if (hint != null) {
+                return hint.ordering() != OrderingRequirement.RELAXED;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (pending == null) {
+            if (closed || finishedSplits == plan.splits().size()) {
+                return false;
+            }
+            Object entry = take();
+            if (entry == END) {
+                finishedSplits++;
+                if (ordered) {
+                    splitBuffers.set(currentSplit++, null);
+                }
+            } else if (entry instanceof SplitFailure failure) {
+                closeQuietly();
+                throw new IllegalStateException("Failed to parse CSV split " + failure.split() + " of "
+                    + plan.file(), failure.cause());
+            } else {
+                pending = entry;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        T row = (T) pending;
+        pending = null;
+        return row;
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        for (Thread worker : workers) {
+            worker.interrupt();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+    }
+
+    private Object take() {
+        BlockingQueue<Object> buffer = ordered ? bufferFor(currentSplit) : sharedBuffer;
+        try {
+            return buffer.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for parsed CSV rows", e);
+        }
+    }
+
+    private BlockingQueue<Object> bufferFor(int split) {
+        BlockingQueue<Object> buffer = splitBuffers.get(split);
+        if (buffer == null) {
+            splitBuffers.compareAndSet(split, null, new ArrayBlockingQueue<>(bufferPerSplit));
+            buffer = splitBuffers.get(split);
+        }
+        return buffer;
+    }
+
+    private void parseSplits() {
+        List<CsvSplit> splits = plan.splits();
+        int index;
+        while (!closed && (index = nextSplit.getAndIncrement()) < splits.size()) {
+            CsvSplit split = splits.get(index);
+            BlockingQueue<Object> buffer = ordered ? bufferFor(index) : sharedBuffer;
+            try {
+                try (Reader reader = plan.open(split)) {
+                    Iterator<T> rows = parser.parse(split, reader);
+                    while (!closed && rows.hasNext()) {
+                        buffer.put(Objects.requireNonNull(rows.next(), "CSV split parser returned a null row"));
+                    }
+                }
+                buffer.put(END);
+            } catch (InterruptedException e) {
+                return;
+            } catch (Throwable failure) {
+                if (closed) {
+                    return;
+                }
+                try {
+                    buffer.put(new SplitFailure(index, failure));
+                } catch (InterruptedException e) {
+                    return;
+                }
+                return;
+            }
+        }
+    }
+
+    private void closeQuietly() {
+        try {
+            close();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record SplitFailure(int split, Throwable cause) {
+    }
+}
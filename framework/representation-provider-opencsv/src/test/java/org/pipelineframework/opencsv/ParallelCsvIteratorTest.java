@@ -0,0 +1,236 @@
+package org.pipelineframework.opencsv;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.pipelineframework.annotation.ParallelismHint;
+import org.pipelineframework.parallelism.OrderingRequirement;
+
+class ParallelCsvIteratorTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void plansSplitsOnRecordBoundariesOutsideQuotes() throws IOException {
+        Path file = write("id,note\n1,\"a\nb\"\n2,plain\n3,\"x\"\"\ny\"\n");
+
+        CsvSplitPlan plan = CsvSplitPlan.plan(file, StandardCharsets.UTF_8, 1, true, '"');
+
+        assertEquals(3, plan.splits().size());
+        assertEquals(List.of("id,note\n1,\"a\nb\"\n", "id,note\n2,plain\n", "id,note\n3,\"x\"\"\ny\"\n"),
+            plan.splits().stream().map(split -> read(plan, split)).toList());
+        assertEquals(Files.size(file), plan.splits().get(2).end());
+    }
+
+    @Test
+    void boundariesLandingInsideMultiLineFieldsResyncToRecordStarts() throws IOException {
+        StringBuilder content = new StringBuilder("id,note\n");
+        List<String> records = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            String record = i + ",\"line a\nline, b \"\"quoted\"\"\nline c\",x\n";
+            records.add(record);
+            content.append(record);
+        }
+        Path file = write(content.toString());
+
+        CsvSplitPlan plan = CsvSplitPlan.plan(file, StandardCharsets.UTF_8, 97, true, '"');
+
+        assertTrue(plan.splits().size() > 50);
+        StringBuilder rejoined = new StringBuilder();
+        for (CsvSplit split : plan.splits()) {
+            String body = read(plan, split).substring("id,note\n".length());
+            assertTrue(body.matches("(\\d+,\"[^\"]*(\"\"[^\"]*)*\",x\n)+"), body);
+            rejoined.append(body);
+        }
+        assertEquals(String.join("", records), rejoined.toString());
+    }
+
+    @Test
+    void strayQuoteDoesNotShiftLaterBoundaries() throws IOException {
+        String clean = quotedWithNote(3, "5' tall");
+        String stray = quotedWithNote(3, "5\" tall");
+        List<Long> cleanEnds = CsvSplitPlan.plan(write(clean), StandardCharsets.UTF_8, 64, true, '"').splits().stream()
+            .map(CsvSplit::end).toList();
+
+        CsvSplitPlan plan = CsvSplitPlan.plan(write(stray), StandardCharsets.UTF_8, 64, true, '"');
+        List<Long> strayEnds = plan.splits().stream().map(CsvSplit::end).toList();
+
+        assertEquals(cleanEnds.size(), strayEnds.size());
+        assertEquals(cleanEnds.subList(2, cleanEnds.size()), strayEnds.subList(2, strayEnds.size()));
+        assertTrue(read(plan, plan.splits().get(plan.splits().size() - 1)).endsWith("199,\"note 199\nmore\"\n"));
+    }
+
+    @Test
+    void headerOnlyFileHasNoSplits() throws IOException {
+        CsvSplitPlan plan = CsvSplitPlan.plan(write("id,note\n"), StandardCharsets.UTF_8, 16, true, '"');
+
+        assertTrue(plan.splits().isEmpty());
+        assertFalse(new ParallelCsvIterator<>(plan, 4, 8, true, ParallelCsvIteratorTest::rows).hasNext());
+    }
+
+    @Test
+    void orderedModeEmitsRowsInFileOrder() throws Exception {
+        CsvSplitPlan plan = CsvSplitPlan.plan(numbered(5_000), StandardCharsets.UTF_8, 1_024, true, '"');
+        assertTrue(plan.splits().size() > 4);
+
+        List<String> rows = drain(new ParallelCsvIterator<>(plan, 4, 16, true, ParallelCsvIteratorTest::rows));
+
+        assertEquals(IntStream.range(0, 5_000).mapToObj(Integer::toString).toList(), rows);
+    }
+
+    @Test
+    void parsesAsManySplitsAtOnceAsTheParallelism() throws Exception {
+        CsvSplitPlan plan = CsvSplitPlan.plan(numbered(20_000), StandardCharsets.UTF_8, 4_096, true, '"');
+        assertTrue(plan.splits().size() > 8);
+        CountDownLatch allParsing = new CountDownLatch(4);
+        AtomicInteger parsing = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+
+        List<String> rows = drain(new ParallelCsvIterator<>(plan, 4, 16, true, (split, reader) -> {
+            peak.accumulateAndGet(parsing.incrementAndGet(), Math::max);
+            try {
+                allParsing.countDown();
+                // The first four splits only finish once all four are being parsed together.
+                if (!allParsing.await(5, TimeUnit.SECONDS)) {
+                    throw new IOException("splits were not parsed concurrently");
+                }
+                return rows(split, reader);
+            } finally {
+                parsing.decrementAndGet();
+            }
+        }));
+
+        assertEquals(4, peak.get());
+        assertEquals(IntStream.range(0, 20_000).mapToObj(Integer::toString).toList(), rows);
+    }
+
+    @Test
+    void relaxedModeEmitsEveryRow() throws Exception {
+        CsvSplitPlan plan = CsvSplitPlan.plan(numbered(5_000), StandardCharsets.UTF_8, 1_024, true, '"');
+
+        List<String> rows = drain(new ParallelCsvIterator<>(plan, 4, 16, false, ParallelCsvIteratorTest::rows));
+
+        assertEquals(IntStream.range(0, 5_000).mapToObj(Integer::toString).sorted().toList(),
+            rows.stream().sorted().toList());
+    }
+
+    @Test
+    void splitFailureIsRethrownToConsumer() throws Exception {
+        CsvSplitPlan plan = CsvSplitPlan.plan(numbered(1_000), StandardCharsets.UTF_8, 512, true, '"');
+        ParallelCsvIterator<String> iterator = new ParallelCsvIterator<>(plan, 2, 8, true, (split, reader) -> {
+            if (split.index() == 1) {
+                throw new IOException("bad split");
+            }
+            return rows(split, reader);
+        });
+
+        IllegalStateException failure = assertThrows(IllegalStateException.class, () -> drain(iterator));
+        assertEquals("bad split", failure.getCause().getMessage());
+    }
+
+    @Test
+    void closeStopsWorkersBlockedOnFullBuffers() throws Exception {
+        CsvSplitPlan plan = CsvSplitPlan.plan(numbered(5_000), StandardCharsets.UTF_8, 1_024, true, '"');
+        ParallelCsvIterator<String> iterator = new ParallelCsvIterator<>(plan, 4, 2, true, ParallelCsvIteratorTest::rows);
+
+        assertEquals("0", iterator.next());
+        iterator.close();
+
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    void ordersUnlessServiceDeclaresRelaxedOrdering() {
+        assertTrue(ParallelCsvIterator.preservesOrder(Object.class));
+        assertTrue(ParallelCsvIterator.preservesOrder(StrictService.class));
+        assertFalse(ParallelCsvIterator.preservesOrder(RelaxedService.class));
+        assertFalse(ParallelCsvIterator.preservesOrder(RelaxedServiceSubclass.class));
+    }
+
+    private Path write(String content) throws IOException {
+        return Files.writeString(directory.resolve("input.csv"), content, StandardCharsets.UTF_8);
+    }
+
+    private Path numbered(int rows) throws IOException {
+        StringBuilder content = new StringBuilder("id,amount\n");
+        for (int i = 0; i < rows; i++) {
+            content.append(i).append(',').append(i * 10).append('\n');
+        }
+        return write(content.toString());
+    }
+
+    private static String quotedWithNote(int plainRow, String plainNote) {
+        StringBuilder content = new StringBuilder("id,note\n");
+        for (int i = 0; i < 200; i++) {
+            if (i == plainRow) {
+                content.append(i).append(',').append(plainNote).append('\n');
+            } else {
+                content.append(i).append(",\"note ").append(i).append("\nmore\"\n");
+            }
+        }
+        return content.toString();
+    }
+
+    private static Iterator<String> rows(CsvSplit split, Reader reader) throws IOException {
+        List<String> ids = new ArrayList<>();
+        BufferedReader lines = new BufferedReader(reader);
+        assertEquals("id,amount", lines.readLine());
+        for (String line = lines.readLine(); line != null; line = lines.readLine()) {
+            ids.add(line.substring(0, line.indexOf(',')));
+        }
+        return ids.iterator();
+    }
+
+    private static String read(CsvSplitPlan plan, CsvSplit split) {
+        try (Reader reader = plan.open(split)) {
+            StringBuilder content = new StringBuilder();
+            char[] buffer = new char[64];
+            for (int read = reader.read(buffer); read >= 0; read = reader.read(buffer)) {
+                content.append(buffer, 0, read);
+            }
+            return content.toString();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static List<String> drain(ParallelCsvIterator<String> iterator) throws Exception {
+        List<String> rows = new ArrayList<>();
+        try (iterator) {
+            while (iterator.hasNext()) {
+                rows.add(iterator.next());
+            }
+        }
+        return rows;
+    }
+
+    @ParallelismHint(ordering = OrderingRequirement.STRICT_ADVISED)
+    private static class StrictService {
+    }
+
+    @ParallelismHint(ordering = OrderingRequirement.RELAXED)
+    private static class RelaxedService {
+    }
+
+    private static final class RelaxedServiceSubclass extends RelaxedService {
+    }
+}
@@ -1,5 +1,6 @@
 package org.pipelineframework.connector;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -361,6 +362,36 @@ public final class ConnectorBindingRegistry {
         });
     }
 
+    /**
+     * Materializes a connector-owned reference into a new local file, letting the owning operation transfer it
+     * without buffering when it can. Completes with the number of bytes written.
+     */
+    public CompletionStage<Long> materializeTo(PayloadReference reference, long maxBytes, Path target) {
+        Objects.requireNonNull(reference, "payload reference must not be null");
+        Objects.requireNonNull(target, "materialization target must not be null");
+        if (maxBytes < 1) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("maxBytes must be positive"));
+        }
+        if (reference.sizeBytes() > maxBytes) {
+            return CompletableFuture.failedFuture(new IllegalStateException(
+                "payload reference exceeds maxBytes: " + reference.sizeBytes() + " > " + maxBytes));
+        }
+        ConnectorPayloadOrigin origin = reference.connectorOrigin().orElseThrow(() ->
+            new IllegalArgumentException("payload reference is not connector-owned"));
+        final ObjectSourceOperation operation;
+        try {
+            operation = requireObjectSourceOperation(origin);
+        } catch (RuntimeException failure) {
+            return CompletableFuture.failedFuture(failure);
+        }
+        return operation.materializeTo(reference, maxBytes, target).thenApply(size -> {
+            if (size > maxBytes) {
+                throw new IllegalStateException("materialized payload exceeds maxBytes: " + size + " > " + maxBytes);
+            }
+            return size;
+        });
+    }
+
     private BindingSlot requireSlot(ConnectorBindingName name) {
         Objects.requireNonNull(name, "connector binding name must not be null");
         BindingSlot binding = bindings.get(name);
@@ -1,5 +1,10 @@
 package org.pipelineframework.connector;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.CompletableFuture;
 import org.pipelineframework.repository.PayloadReference;
@@ -10,4 +15,24 @@ public interface ObjectSourceOperation extends ConnectorOperation {
         return CompletableFuture.failedFuture(new UnsupportedOperationException(
             "object source operation does not support payload materialization: " + id()));
     }
+
+    /**
+     * Materializes at most {@code maxBytes} into a new local file and completes with its size. Operations backed by
+     * local storage override this to transfer the payload without holding it on the heap; the default writes the
+     * bytes returned by {@link #materialize(PayloadReference, long)}.
+     */
+    default CompletionStage<Long> materializeTo(PayloadReference reference, long maxBytes, Path target) {
+        return materialize(reference, maxBytes).thenApply(payload -> {
+            if (!reference.equals(payload.reference())) {
+                throw new IllegalStateException("object source materialized a different payload reference");
+            }
+            byte[] bytes = payload.bytes();
+            try {
+                Files.write(target, bytes, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+            } catch (IOException e) {
+                throw new UncheckedIOException("failed to write materialized payload to " + target, e);
+            }
+            return (long) bytes.length;
+        });
+    }
 }
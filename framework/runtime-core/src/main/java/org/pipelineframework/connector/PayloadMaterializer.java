@@ -1,5 +1,10 @@
 package org.pipelineframework.connector;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.concurrent.CompletionStage;
 import org.pipelineframework.repository.PayloadReference;
 
@@ -11,4 +16,27 @@ public interface PayloadMaterializer {
      * completing the returned stage and must fail when the declared or actual size exceeds the bound.
      */
     CompletionStage<MaterializedPayload> materialize(PayloadReference reference, long maxBytes);
+
+    /**
+     * Materializes at most {@code maxBytes} into a new local file and completes with its size. The same bound and
+     * integrity rules apply; implementations that can transfer without buffering the payload override the default,
+     * which writes the bytes returned by {@link #materialize(PayloadReference, long)}.
+     */
+    default CompletionStage<Long> materializeTo(PayloadReference reference, long maxBytes, Path target) {
+        return materialize(reference, maxBytes).thenApply(payload -> {
+            if (!reference.equals(payload.reference())) {
+                throw new IllegalStateException("materializer returned a different payload reference");
+            }
+            byte[] bytes = payload.bytes();
+            if (bytes.length > maxBytes) {
+                throw new IllegalStateException("materialized payload exceeds maxBytes: " + bytes.length + " > " + maxBytes);
+            }
+            try {
+                Files.write(target, bytes, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+            } catch (IOException e) {
+                throw new UncheckedIOException("failed to write materialized payload to " + target, e);
+            }
+            return (long) bytes.length;
+        });
+    }
 }
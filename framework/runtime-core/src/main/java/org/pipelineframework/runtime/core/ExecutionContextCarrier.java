@@ -16,6 +16,8 @@
 
 package org.pipelineframework.runtime.core;
 
+import java.util.function.Supplier;
+
 /**
  * Neutral abstraction for runtime-local execution metadata propagation.
  */
@@ -50,4 +52,89 @@ public interface ExecutionContextCarrier {
      * Clears all context values managed by this carrier.
      */
     void clear();
+
+    /**
+     * Reads a typed context value by registered key.
+     *
+     * @param key context key
+     * @param <T> value type
+     * @return typed value if present and compatible
+     */
+    default <T> T get(ExecutionContextKey<T> key) {
+        return get(key.name(), key.type());
+    }
+
+    /**
+     * Writes a context value for a registered key; {@code null} clears it.
+     *
+     * @param key context key
+     * @param value value to publish
+     * @param <T> value type
+     */
+    default <T> void put(ExecutionContextKey<T> key, T value) {
+        if (value == null) {
+            clear(key.name());
+        } else {
+            put(key.name(), value);
+        }
+    }
+
+    /**
+     * Clears the context value for a registered key.
+     *
+     * @param key context key
+     */
+    default void clear(ExecutionContextKey<?> key) {
+        clear(key.name());
+    }
+
+    /**
+     * Captures the current values of several keys at once.
+     *
+     * @param keys keys to capture
+     * @return captured values in key order, {@code null} for absent keys
+     */
+    default Object[] capture(ExecutionContextKey<?>[] keys) {
+        Object[] captured = new Object[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            captured[i] = get(keys[i].name(), keys[i].type());
+        }
+        return captured;
+    }
+
+    /**
+     * Publishes values for several keys at once, clearing keys whose value is {@code null}.
+     *
+     * @param keys keys to write
+     * @param values values in key order
+     */
+    default void restore(ExecutionContextKey<?>[] keys, Object[] values) {
+        for (int i = 0; i < keys.length; i++) {
+            if (values[i] == null) {
+                clear(keys[i].name());
+            } else {
+                put(keys[i].name(), values[i]);
+            }
+        }
+    }
+
+    /**
+     * Runs a task with several keys bound to the given values, and puts the previous values back
+     * when it returns.
+     *
+     * @param keys keys to bind
+     * @param values values in key order, {@code null} for keys that must read as absent
+     * @param task task to run
+     * @param <T> task result type
+     * @return the task result
+     */
+    default <T> T callWithin(ExecutionContextKey<?>[] keys, Object[] values, Supplier<T> task) {
+        Object[] previous = capture(keys);
+        restore(keys, values);
+        try {
+            return task.get();
+        } finally {
+            restore(keys, previous);
+        }
+    }
 }
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2023-2026 Mariano Barcia
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.pipelineframework.runtime.core;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Typed execution context key bound to a fixed storage slot.
+ *
+ * <p>Keys are registered once, usually as a {@code static final} field on the owning holder, and
+ * receive a process-wide slot index. Carriers that understand slots store values in an array indexed
+ * by {@link #slot()} instead of hashing the key name on every access; carriers that do not fall back
+ * to the string-keyed {@link ExecutionContextCarrier} methods using {@link #name()}.</p>
+ *
+ * @param <T> value type
+ */
+public final class ExecutionContextKey<T> {
+    private static final ConcurrentMap<String, ExecutionContextKey<?>> REGISTRY = new ConcurrentHashMap<>();
+    private static final AtomicInteger NEXT_SLOT = new AtomicInteger();
+
+    private final String name;
+    private final Class<T> type;
+    private final int slot;
+
+    private ExecutionContextKey(String name, Class<T> type, int slot) {
+        this.name = name;
+        this.type = type;
+        this.slot = slot;
+    }
+
+    /**
+     * Registers a key, or returns the key already registered under the same name.
+     *
+     * @param name context key name
+     * @param type value type
+     * @param <T> value type
+     * @return registered key
+     * @throws IllegalArgumentException when the name is already registered with a different type
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ExecutionContextKey<T> of(String name, Class<T> type) {
+        Objects.requireNonNull(name, "name must not be null");
+        Objects.requireNonNull(type, "type must not be null");
+        ExecutionContextKey<?> key = REGISTRY.computeIfAbsent(
+            name, ignored -> new ExecutionContextKey<>(name, type, NEXT_SLOT.getAndIncrement()));
+        if (!key.type.equals(type)) {
+            throw new IllegalArgumentException("Execution context key '" + name + "' is already registered for "
+                + key.type.getName() + ", not " + type.getName());
+        }
+        return (ExecutionContextKey<T>) key;
+    }
+
+    /**
+     * Returns the key registered under a name.
+     *
+     * @param name context key name
+     * @return registered key, or {@code null} when the name was never registered
+     */
+    public static ExecutionContextKey<?> lookup(String name) {
+        return name == null ? null : REGISTRY.get(name);
+    }
+
+    /**
+     * Returns the number of slots handed out so far.
+     *
+     * @return registered slot count
+     */
+    public static int registeredSlots() {
+        return NEXT_SLOT.get();
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public Class<T> type() {
+        return type;
+    }
+
+    public int slot() {
+        return slot;
+    }
+
+    /**
+     * Casts a stored value to this key's type.
+     *
+     * @param value stored value
+     * @return typed value, or {@code null} when absent or incompatible
+     */
+    public T cast(Object value) {
+        return type.isInstance(value) ? type.cast(value) : null;
+    }
+
+    @Override
+    public String toString() {
+        return "ExecutionContextKey[" + name + "#" + slot + "]";
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2023-2026 Mariano Barcia
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.pipelineframework.runtime.core;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Single-thread storage for execution context values, indexed by {@link ExecutionContextKey#slot()}.
+ *
+ * <p>Values published under a registered key name land in the key's slot, so string-keyed and
+ * typed access observe the same value. Names that were never registered fall back to a lazily
+ * created map. Instances are not thread-safe and are meant to be held in a {@link ThreadLocal}.</p>
+ */
+public final class ExecutionContextSlots {
+    private static final int MIN_SLOTS = 16;
+
+    private Object[] values;
+    private Map<String, Object> unregistered;
+
+    public ExecutionContextSlots() {
+        this.values = new Object[Math.max(MIN_SLOTS, ExecutionContextKey.registeredSlots())];
+    }
+
+    public Object get(ExecutionContextKey<?> key) {
+        int slot = key.slot();
+        return slot < values.length ? values[slot] : null;
+    }
+
+    public Object get(String name) {
+        ExecutionContextKey<?> key = ExecutionContextKey.lookup(name);
+        if (key != null) {
+            return get(key);
+        }
+        return unregistered == null ? null : unregistered.get(name);
+    }
+
+    /**
+     * Stores a value; {@code null} clears the slot.
+     *
+     * @param key context key
+     * @param value value to store
+     */
+    public void put(ExecutionContextKey<?> key, Object value) {
+        int slot = key.slot();
+        if (slot >= values.length) {
+            if (value == null) {
+                return;
+            }
+            values = Arrays.copyOf(values, Math.max(slot + 1, values.length * 2));
+        }
+        values[slot] = value;
+    }
+
+    /**
+     * Stores a value by name; {@code null} clears it.
+     *
+     * @param name context key name
+     * @param value value to store
+     */
+    public void put(String name, Object value) {
+        ExecutionContextKey<?> key = ExecutionContextKey.lookup(name);
+        if (key != null) {
+            put(key, value);
+        } else if (value != null) {
+            if (unregistered == null) {
+                unregistered = new HashMap<>();
+            }
+            unregistered.put(name, value);
+        } else if (unregistered != null) {
+            unregistered.remove(name);
+        }
+    }
+
+    /**
+     * Copies the values of the given keys into a new array, in key order.
+     *
+     * @param keys keys to capture
+     * @return captured values, with {@code null} for absent keys
+     */
+    public Object[] capture(ExecutionContextKey<?>[] keys) {
+        Object[] captured = new Object[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            captured[i] = get(keys[i]);
+        }
+        return captured;
+    }
+
+    /**
+     * Writes previously captured values back, clearing keys whose captured value is {@code null}.
+     *
+     * @param keys keys to restore
+     * @param captured values in key order
+     */
+    public void restore(ExecutionContextKey<?>[] keys, Object[] captured) {
+        for (int i = 0; i < keys.length; i++) {
+            put(keys[i], captured[i]);
+        }
+    }
+}
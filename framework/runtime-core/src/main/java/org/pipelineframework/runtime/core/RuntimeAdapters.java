@@ -21,6 +21,7 @@ import java.util.Optional;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
 
 /**
  * Runtime-agnostic adapter registry.
@@ -70,6 +71,30 @@ public final class RuntimeAdapters {
         executionContextCarrier.clear();
     }
 
+    public static <T> T executionContext(ExecutionContextKey<T> key) {
+        return executionContextCarrier.get(key);
+    }
+
+    public static <T> void setExecutionContext(ExecutionContextKey<T> key, T value) {
+        executionContextCarrier.put(key, value);
+    }
+
+    public static void clearExecutionContext(ExecutionContextKey<?> key) {
+        executionContextCarrier.clear(key);
+    }
+
+    public static Object[] captureExecutionContext(ExecutionContextKey<?>[] keys) {
+        return executionContextCarrier.capture(keys);
+    }
+
+    public static void restoreExecutionContext(ExecutionContextKey<?>[] keys, Object[] values) {
+        executionContextCarrier.restore(keys, values);
+    }
+
+    public static <T> T callWithExecutionContext(ExecutionContextKey<?>[] keys, Object[] values, Supplier<T> task) {
+        return executionContextCarrier.callWithin(keys, values, task);
+    }
+
     public static <T> java.util.concurrent.CompletionStage<T> executeBlocking(
         Callable<T> task,
         boolean offloadToVirtualThread
@@ -215,7 +240,7 @@ public final class RuntimeAdapters {
     }
 
     private static final class ThreadLocalExecutionContextCarrier implements ExecutionContextCarrier {
-        private static final ThreadLocal<java.util.Map<String, Object>> CONTEXT = ThreadLocal.withInitial(java.util.HashMap::new);
+        private static final ThreadLocal<ExecutionContextSlots> CONTEXT = ThreadLocal.withInitial(ExecutionContextSlots::new);
         private static final ThreadLocalExecutionContextCarrier INSTANCE = new ThreadLocalExecutionContextCarrier();
 
         static ThreadLocalExecutionContextCarrier instance() {
@@ -239,11 +264,7 @@ public final class RuntimeAdapters {
             if (key == null) {
                 return;
             }
-            if (value == null) {
-                CONTEXT.get().remove(key);
-            } else {
-                CONTEXT.get().put(key, value);
-            }
+            CONTEXT.get().put(key, value);
         }
 
         @Override
@@ -251,12 +272,37 @@ public final class RuntimeAdapters {
             if (key == null) {
                 return;
             }
-            CONTEXT.get().remove(key);
+            CONTEXT.get().put(key, null);
         }
 
         @Override
         public void clear() {
             CONTEXT.remove();
         }
+
+        @Override
+        public <T> T get(ExecutionContextKey<T> key) {
+            return key.cast(CONTEXT.get().get(key));
+        }
+
+        @Override
+        public <T> void put(ExecutionContextKey<T> key, T value) {
+            CONTEXT.get().put(key, value);
+        }
+
+        @Override
+        public void clear(ExecutionContextKey<?> key) {
+            CONTEXT.get().put(key, null);
+        }
+
+        @Override
+        public Object[] capture(ExecutionContextKey<?>[] keys) {
+            return CONTEXT.get().capture(keys);
+        }
+
+        @Override
+        public void restore(ExecutionContextKey<?>[] keys, Object[] values) {
+            CONTEXT.get().restore(keys, values);
+        }
     }
 }
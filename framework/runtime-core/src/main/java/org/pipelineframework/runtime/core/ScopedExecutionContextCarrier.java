@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2023-2026 Mariano Barcia
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.pipelineframework.runtime.core;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Carrier that binds {@link #callWithin} scopes through a {@link ScopedValue} instead of writing
+ * them into an outer carrier and restoring them afterwards.
+ *
+ * <p>A scope owns only the keys it was opened with. Reads and writes of those keys go to the scope
+ * and disappear when it ends; every other key, and all access outside a scope, goes to the wrapped
+ * carrier. Nested scopes shadow their enclosing scope key by key, so the observable values match the
+ * capture/restore behaviour of the wrapped carrier.</p>
+ *
+ * <p>{@link ScopedValue} is a preview API on Java 21, so this carrier needs {@code --enable-preview}.</p>
+ */
+public final class ScopedExecutionContextCarrier implements ExecutionContextCarrier {
+    private static final ScopedValue<Scope> SCOPE = ScopedValue.newInstance();
+
+    private final ExecutionContextCarrier outer;
+
+    /**
+     * Creates a carrier that keeps values outside scopes in the given carrier.
+     *
+     * @param outer carrier used for keys a scope does not own, and outside any scope
+     */
+    public ScopedExecutionContextCarrier(ExecutionContextCarrier outer) {
+        this.outer = Objects.requireNonNull(outer, "outer must not be null");
+    }
+
+    @Override
+    public <T> T get(String key, Class<T> type) {
+        ExecutionContextKey<?> registered = ExecutionContextKey.lookup(key);
+        Scope scope = registered == null ? null : owner(registered);
+        if (scope == null) {
+            return outer.get(key, type);
+        }
+        Object value = scope.get(registered);
+        if (value == null || type == null || !type.isInstance(value)) {
+            return null;
+        }
+        return type.cast(value);
+    }
+
+    @Override
+    public void put(String key, Object value) {
+        ExecutionContextKey<?> registered = ExecutionContextKey.lookup(key);
+        Scope scope = registered == null ? null : owner(registered);
+        if (scope == null) {
+            outer.put(key, value);
+        } else {
+            scope.put(registered, value);
+        }
+    }
+
+    @Override
+    public void clear(String key) {
+        ExecutionContextKey<?> registered = ExecutionContextKey.lookup(key);
+        Scope scope = registered == null ? null : owner(registered);
+        if (scope == null) {
+            outer.clear(key);
+        } else {
+            scope.put(registered, null);
+        }
+    }
+
+    @Override
+    public void clear() {
+        for (Scope scope = SCOPE.orElse(null); scope != null; scope = scope.parent) {
+            scope.clear();
+        }
+        outer.clear();
+    }
+
+    @Override
+    public <T> T get(ExecutionContextKey<T> key) {
+        Scope scope = owner(key);
+        return scope == null ? outer.get(key) : key.cast(scope.get(key));
+    }
+
+    @Override
+    public <T> void put(ExecutionContextKey<T> key, T value) {
+        Scope scope = owner(key);
+        if (scope == null) {
+            outer.put(key, value);
+        } else {
+            scope.put(key, value);
+        }
+    }
+
+    @Override
+    public void clear(ExecutionContextKey<?> key) {
+        Scope scope = owner(key);
+        if (scope == null) {
+            outer.clear(key);
+        } else {
+            scope.put(key, null);
+        }
+    }
+
+    @Override
+    public <T> T callWithin(ExecutionContextKey<?>[] keys, Object[] values, Supplier<T> task) {
+        if (keys.length != values.length) {
+            throw new IllegalArgumentException("keys and values must have the same length");
+        }
+        Scope scope = new Scope(SCOPE.orElse(null), keys.clone(), values.clone());
+        return ScopedValue.where(SCOPE, scope).get(task);
+    }
+
+    private static Scope owner(ExecutionContextKey<?> key) {
+        for (Scope scope = SCOPE.orElse(null); scope != null; scope = scope.parent) {
+            if (scope.indexOf(key) >= 0) {
+                return scope;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Values of one {@link #callWithin} call. Only the thread running the task sees the binding, so
+     * the values need no synchronization.
+     */
+    private static final class Scope {
+        private final Scope parent;
+        private final ExecutionContextKey<?>[] keys;
+        private final Object[] values;
+
+        private Scope(Scope parent, ExecutionContextKey<?>[] keys, Object[] values) {
+            this.parent = parent;
+            this.keys = keys;
+            this.values = values;
+        }
+
+        private int indexOf(ExecutionContextKey<?> key) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == key) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private Object get(ExecutionContextKey<?> key) {
+            return values[indexOf(key)];
+        }
+
+        private void put(ExecutionContextKey<?> key, Object value) {
+            values[indexOf(key)] = value;
+        }
+
+        private void clear() {
+            Arrays.fill(values, null);
+        }
+    }
+}
@@ -24,9 +24,12 @@ import java.util.concurrent.atomic.AtomicBoolean;
  * Framework-neutral accessors for request-scoped TPF control/cache/replay context.
  */
 public final class TpfExecutionContext {
-    private static final String VERSION_TAG_KEY = TpfExecutionContext.class.getName() + ".versionTag";
-    private static final String REPLAY_MODE_KEY = TpfExecutionContext.class.getName() + ".replayMode";
-    private static final String CACHE_POLICY_KEY = TpfExecutionContext.class.getName() + ".cachePolicy";
+    private static final ExecutionContextKey<String> VERSION_TAG_KEY =
+        ExecutionContextKey.of(TpfExecutionContext.class.getName() + ".versionTag", String.class);
+    private static final ExecutionContextKey<String> REPLAY_MODE_KEY =
+        ExecutionContextKey.of(TpfExecutionContext.class.getName() + ".replayMode", String.class);
+    private static final ExecutionContextKey<String> CACHE_POLICY_KEY =
+        ExecutionContextKey.of(TpfExecutionContext.class.getName() + ".cachePolicy", String.class);
 
     private TpfExecutionContext() {
     }
@@ -95,11 +98,11 @@ public final class TpfExecutionContext {
         put(CACHE_POLICY_KEY, actual.cachePolicy());
     }
 
-    private static Optional<String> value(String key) {
-        return normalize(RuntimeAdapters.executionContext(key, String.class));
+    private static Optional<String> value(ExecutionContextKey<String> key) {
+        return normalize(RuntimeAdapters.executionContext(key));
     }
 
-    private static void put(String key, Optional<String> value) {
+    private static void put(ExecutionContextKey<String> key, Optional<String> value) {
         Optional<String> actual = Objects.requireNonNull(value, "value");
         if (actual.isPresent()) {
             RuntimeAdapters.setExecutionContext(key, actual.get());
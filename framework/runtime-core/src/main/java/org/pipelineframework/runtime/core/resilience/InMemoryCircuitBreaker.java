@@ -2,14 +2,14 @@ package org.pipelineframework.runtime.core.resilience;
 
 import java.time.Clock;
 import java.time.Instant;
-import java.util.ArrayDeque;
-import java.util.Deque;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Process-scoped circuit breaker intended for non-durable invocations.
@@ -17,8 +17,16 @@ import java.util.concurrent.atomic.AtomicBoolean;
  * <p>Every state transition advances a generation. A permit can affect state only while its
  * captured generation remains current, so a late half-open result cannot overwrite a newer
  * reopened or closed generation.</p>
+ *
+ * <p>Each circuit publishes an immutable phase through an atomic reference, and transitions are
+ * compare-and-set swaps of that phase. Admission while closed only reads the current phase, and
+ * closed-state failures are counted in a fixed ring of time buckets, so the hot path takes no lock
+ * and allocates no per-failure bookkeeping. The failure window is therefore approximated to the
+ * bucket width: a failure expires between {@code failureWindow} and one bucket later.</p>
  */
 public final class InMemoryCircuitBreaker implements CircuitBreaker {
+    static final int FAILURE_BUCKETS = 16;
+
     private final Clock clock;
     private final CircuitBreakerListener listener;
     private final ConcurrentMap<CircuitIdentity, CircuitState> circuits = new ConcurrentHashMap<>();
@@ -45,45 +53,55 @@ public final class InMemoryCircuitBreaker implements CircuitBreaker {
                 "InMemoryCircuitBreaker only guarantees " + CircuitScope.LOCAL_PROCESS));
         }
 
-        CircuitStateTransition transition = null;
-        CircuitDecision decision;
-        CircuitState state = circuits.computeIfAbsent(identity, ignored -> new CircuitState());
-        synchronized (state) {
-            Instant now = clock.instant();
-            state.discardFailuresBefore(now.minus(policy.failureWindow()));
-
-            if (state.status == Status.OPEN) {
-                if (now.isBefore(state.openUntil)) {
-                    return CompletableFuture.completedFuture(rejected(identity, policy, state.openUntil));
+        CircuitState state = circuits.get(identity);
+        if (state == null) {
+            state = circuits.computeIfAbsent(identity, ignored -> new CircuitState(policy));
+        }
+        while (true) {
+            Phase phase = state.phase.get();
+            switch (phase.status()) {
+                case CLOSED -> {
+                    return CompletableFuture.completedFuture(permitted(identity, state, policy, phase, false));
                 }
-                state.enterHalfOpen();
-                transition = CircuitStateTransition.OPEN_TO_HALF_OPEN;
-            }
-            if (state.status == Status.HALF_OPEN) {
-                if (state.halfOpenPermitsInFlight >= policy.halfOpenMaxPermits()) {
-                    Instant notBefore = state.nextHalfOpenRejection.isAfter(now)
-                        ? state.nextHalfOpenRejection
+                case OPEN -> {
+                    Instant now = clock.instant();
+                    if (now.isBefore(phase.openUntil())) {
+                        return CompletableFuture.completedFuture(rejected(identity, policy, phase.openUntil()));
+                    }
+                    if (state.phase.compareAndSet(phase, phase.halfOpen())) {
+                        notifyTransition(identity, policy, CircuitStateTransition.OPEN_TO_HALF_OPEN);
+                    }
+                }
+                case HALF_OPEN -> {
+                    if (phase.halfOpenPermitsInFlight() < policy.halfOpenMaxPermits()) {
+                        Phase admitted = phase.withHalfOpenPermits(phase.halfOpenPermitsInFlight() + 1);
+                        if (state.phase.compareAndSet(phase, admitted)) {
+                            return CompletableFuture.completedFuture(permitted(identity, state, policy, admitted, true));
+                        }
+                        continue;
+                    }
+                    Instant now = clock.instant();
+                    Instant notBefore = phase.nextHalfOpenRejection().isAfter(now)
+                        ? phase.nextHalfOpenRejection()
                         : now.plus(policy.halfOpenRetryDelay());
-                    state.nextHalfOpenRejection = notBefore.plus(policy.halfOpenRetryDelay());
-                    return CompletableFuture.completedFuture(rejected(identity, policy, notBefore));
+                    if (state.phase.compareAndSet(
+                        phase,
+                        phase.withNextHalfOpenRejection(notBefore.plus(policy.halfOpenRetryDelay())))) {
+                        return CompletableFuture.completedFuture(rejected(identity, policy, notBefore));
+                    }
                 }
-                state.halfOpenPermitsInFlight++;
-                decision = permitted(identity, state, policy, true);
-            } else {
-                decision = permitted(identity, state, policy, false);
             }
         }
-        notifyTransition(identity, policy, transition);
-        return CompletableFuture.completedFuture(decision);
     }
 
     private CircuitDecision permitted(
         CircuitIdentity identity,
         CircuitState state,
         CircuitPolicy policy,
+        Phase phase,
         boolean halfOpen
     ) {
-        return new CircuitDecision.Permitted(new Permit(identity, state, policy, halfOpen, state.generation));
+        return new CircuitDecision.Permitted(new Permit(identity, state, policy, halfOpen, phase.generation()));
     }
 
     private CircuitDecision rejected(CircuitIdentity identity, CircuitPolicy policy, Instant notBefore) {
@@ -116,45 +134,64 @@ public final class InMemoryCircuitBreaker implements CircuitBreaker {
         public CompletionStage<Void> complete(CircuitOutcome outcome) {
             Objects.requireNonNull(outcome, "outcome must not be null");
             if (completed.compareAndSet(false, true)) {
-                recordOutcome(identity, state, policy, halfOpen, generation, outcome);
+                if (halfOpen) {
+                    recordHalfOpenOutcome(identity, state, policy, generation, outcome);
+                } else if (outcome == CircuitOutcome.HEALTH_FAILURE) {
+                    recordClosedFailure(identity, state, policy, generation);
+                }
             }
             return CompletableFuture.completedFuture(null);
         }
     }
 
-    private void recordOutcome(
+    private void recordClosedFailure(
+        CircuitIdentity identity,
+        CircuitState state,
+        CircuitPolicy policy,
+        long generation
+    ) {
+        Phase phase = state.phase.get();
+        if (phase.generation() != generation || phase.status() != Status.CLOSED) {
+            return;
+        }
+        long now = clock.millis();
+        if (phase.failures().record(now) < policy.failureThreshold()) {
+            return;
+        }
+        Phase opened = phase.open(Instant.ofEpochMilli(now).plus(policy.openDuration()));
+        if (state.phase.compareAndSet(phase, opened)) {
+            notifyTransition(identity, policy, CircuitStateTransition.CLOSED_TO_OPEN);
+        }
+    }
+
+    private void recordHalfOpenOutcome(
         CircuitIdentity identity,
         CircuitState state,
         CircuitPolicy policy,
-        boolean halfOpen,
         long generation,
         CircuitOutcome outcome
     ) {
-        CircuitStateTransition transition = null;
-        synchronized (state) {
-            if (generation != state.generation) {
+        while (true) {
+            Phase phase = state.phase.get();
+            if (phase.generation() != generation) {
                 return;
             }
-            if (halfOpen) {
-                state.releaseHalfOpenPermit();
-                if (outcome == CircuitOutcome.HEALTH_FAILURE) {
-                    state.open(clock.instant().plus(policy.openDuration()));
-                    transition = CircuitStateTransition.HALF_OPEN_TO_OPEN;
-                } else if (outcome == CircuitOutcome.SUCCESS) {
-                    state.close();
-                    transition = CircuitStateTransition.HALF_OPEN_TO_CLOSED;
-                }
-            } else if (outcome == CircuitOutcome.HEALTH_FAILURE && state.status == Status.CLOSED) {
-                Instant now = clock.instant();
-                state.failures.addLast(now);
-                state.discardFailuresBefore(now.minus(policy.failureWindow()));
-                if (state.failures.size() >= policy.failureThreshold()) {
-                    state.open(now.plus(policy.openDuration()));
-                    transition = CircuitStateTransition.CLOSED_TO_OPEN;
-                }
+            Phase next;
+            CircuitStateTransition transition = null;
+            if (outcome == CircuitOutcome.HEALTH_FAILURE) {
+                next = phase.open(clock.instant().plus(policy.openDuration()));
+                transition = CircuitStateTransition.HALF_OPEN_TO_OPEN;
+            } else if (outcome == CircuitOutcome.SUCCESS) {
+                next = Phase.closed(phase.generation() + 1, new FailureRing(policy));
+                transition = CircuitStateTransition.HALF_OPEN_TO_CLOSED;
+            } else {
+                next = phase.withHalfOpenPermits(Math.max(0, phase.halfOpenPermitsInFlight() - 1));
+            }
+            if (state.phase.compareAndSet(phase, next)) {
+                notifyTransition(identity, policy, transition);
+                return;
             }
         }
-        notifyTransition(identity, policy, transition);
     }
 
     private void notifyTransition(
@@ -179,46 +216,94 @@ public final class InMemoryCircuitBreaker implements CircuitBreaker {
     }
 
     private static final class CircuitState {
-        private final Deque<Instant> failures = new ArrayDeque<>();
-        private Status status = Status.CLOSED;
-        private Instant openUntil = Instant.MIN;
-        private int halfOpenPermitsInFlight;
-        private Instant nextHalfOpenRejection = Instant.MIN;
-        private long generation;
-
-        private void discardFailuresBefore(Instant cutoff) {
-            while (!failures.isEmpty() && failures.peekFirst().isBefore(cutoff)) {
-                failures.removeFirst();
-            }
+        private final AtomicReference<Phase> phase;
+
+        private CircuitState(CircuitPolicy policy) {
+            this.phase = new AtomicReference<>(Phase.closed(0, new FailureRing(policy)));
+        }
+    }
+
+    /**
+     * Immutable circuit phase. The failure ring belongs to one closed generation, so closing a
+     * circuit starts from an empty window without clearing shared counters.
+     */
+    private record Phase(
+        Status status,
+        long generation,
+        Instant openUntil,
+        int halfOpenPermitsInFlight,
+        Instant nextHalfOpenRejection,
+        FailureRing failures
+    ) {
+        private static Phase closed(long generation, FailureRing failures) {
+            return new Phase(Status.CLOSED, generation, Instant.MIN, 0, Instant.MIN, failures);
+        }
+
+        private Phase open(Instant until) {
+            return new Phase(Status.OPEN, generation + 1, until, 0, until, failures);
         }
 
-        private void open(Instant until) {
-            status = Status.OPEN;
-            openUntil = until;
-            halfOpenPermitsInFlight = 0;
-            nextHalfOpenRejection = until;
-            generation++;
+        private Phase halfOpen() {
+            return new Phase(Status.HALF_OPEN, generation + 1, openUntil, 0, Instant.MIN, failures);
         }
 
-        private void enterHalfOpen() {
-            status = Status.HALF_OPEN;
-            halfOpenPermitsInFlight = 0;
-            nextHalfOpenRejection = Instant.MIN;
-            generation++;
+        private Phase withHalfOpenPermits(int permits) {
+            return new Phase(status, generation, openUntil, permits, nextHalfOpenRejection, failures);
         }
 
-        private void close() {
-            status = Status.CLOSED;
-            failures.clear();
-            halfOpenPermitsInFlight = 0;
-            nextHalfOpenRejection = Instant.MIN;
-            generation++;
+        private Phase withNextHalfOpenRejection(Instant notBefore) {
+            return new Phase(status, generation, openUntil, halfOpenPermitsInFlight, notBefore, failures);
         }
+    }
+
+    /**
+     * Sliding failure window split into {@link #FAILURE_BUCKETS} time buckets plus the bucket
+     * currently filling. Each slot packs the bucket epoch and its failure count into one long, so a
+     * slot is reused for a newer epoch with a single compare-and-set. The bucket width is fixed from the policy that created the ring.
+     */
+    static final class FailureRing {
+        private static final int COUNT_BITS = 20;
+        private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+        private final long bucketMillis;
+        private final AtomicLongArray slots = new AtomicLongArray(FAILURE_BUCKETS + 1);
 
-        private void releaseHalfOpenPermit() {
-            if (halfOpenPermitsInFlight > 0) {
-                halfOpenPermitsInFlight--;
+        FailureRing(CircuitPolicy policy) {
+            long windowMillis = Math.max(1L, policy.failureWindow().toMillis());
+            this.bucketMillis = Math.max(1L, (windowMillis + FAILURE_BUCKETS - 1) / FAILURE_BUCKETS);
+        }
+
+        /**
+         * Records one failure at {@code nowMillis} and returns the failures currently in the window.
+         */
+        int record(long nowMillis) {
+            long epoch = nowMillis / bucketMillis;
+            int index = (int) Math.floorMod(epoch, (long) slots.length());
+            while (true) {
+                long slot = slots.get(index);
+                long next;
+                if (slot >>> COUNT_BITS == epoch) {
+                    next = (slot & COUNT_MASK) == COUNT_MASK ? slot : slot + 1;
+                } else {
+                    next = (epoch << COUNT_BITS) | 1;
+                }
+                if (slots.compareAndSet(index, slot, next)) {
+                    break;
+                }
+            }
+            return count(epoch);
+        }
+
+        private int count(long currentEpoch) {
+            long total = 0;
+            for (int i = 0; i < slots.length(); i++) {
+                long slot = slots.get(i);
+                long epoch = slot >>> COUNT_BITS;
+                if (epoch <= currentEpoch && epoch >= currentEpoch - FAILURE_BUCKETS) {
+                    total += slot & COUNT_MASK;
+                }
             }
+            return (int) Math.min(Integer.MAX_VALUE, total);
         }
     }
 }
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2023-2026 Mariano Barcia
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.pipelineframework.runtime.core;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ExecutionContextKeyTest {
+    private static final ExecutionContextKey<String> FIRST =
+        ExecutionContextKey.of(ExecutionContextKeyTest.class.getName() + ".first", String.class);
+    private static final ExecutionContextKey<Integer> SECOND =
+        ExecutionContextKey.of(ExecutionContextKeyTest.class.getName() + ".second", Integer.class);
+
+    @AfterEach
+    void resetAdapters() {
+        RuntimeAdapters.resetForTests();
+    }
+
+    @Test
+    void registersEachNameOnce() {
+        assertSame(FIRST, ExecutionContextKey.of(FIRST.name(), String.class));
+        assertSame(FIRST, ExecutionContextKey.lookup(FIRST.name()));
+        assertThrows(IllegalArgumentException.class, () -> ExecutionContextKey.of(FIRST.name(), Integer.class));
+    }
+
+    @Test
+    void typedAndNamedAccessShareTheSlot() {
+        RuntimeAdapters.setExecutionContext(FIRST.name(), "by-name");
+        assertEquals("by-name", RuntimeAdapters.executionContext(FIRST));
+
+        RuntimeAdapters.setExecutionContext(FIRST, "by-key");
+        assertEquals("by-key", RuntimeAdapters.executionContext(FIRST.name(), String.class));
+
+        RuntimeAdapters.clearExecutionContext(FIRST.name());
+        assertNull(RuntimeAdapters.executionContext(FIRST));
+    }
+
+    @Test
+    void restoresCapturedValuesInOneCall() {
+        ExecutionContextKey<?>[] keys = {FIRST, SECOND};
+        RuntimeAdapters.setExecutionContext(FIRST, "outer");
+        Object[] captured = RuntimeAdapters.captureExecutionContext(keys);
+        assertArrayEquals(new Object[] {"outer", null}, captured);
+
+        RuntimeAdapters.restoreExecutionContext(keys, new Object[] {null, 7});
+        assertNull(RuntimeAdapters.executionContext(FIRST));
+        assertEquals(7, RuntimeAdapters.executionContext(SECOND));
+
+        RuntimeAdapters.restoreExecutionContext(keys, captured);
+        assertEquals("outer", RuntimeAdapters.executionContext(FIRST));
+        assertNull(RuntimeAdapters.executionContext(SECOND));
+    }
+
+    @Test
+    void unregisteredNamesStillWork() {
+        String name = ExecutionContextKeyTest.class.getName() + ".unregistered";
+        RuntimeAdapters.setExecutionContext(name, "value");
+        assertEquals("value", RuntimeAdapters.executionContext(name, String.class));
+        RuntimeAdapters.clearExecutionContext(name);
+        assertNull(RuntimeAdapters.executionContext(name, String.class));
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2023-2026 Mariano Barcia
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.pipelineframework.runtime.core;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ScopedExecutionContextCarrierTest {
+    private static final ExecutionContextKey<String> FIRST =
+        ExecutionContextKey.of(ScopedExecutionContextCarrierTest.class.getName() + ".first", String.class);
+    private static final ExecutionContextKey<String> SECOND =
+        ExecutionContextKey.of(ScopedExecutionContextCarrierTest.class.getName() + ".second", String.class);
+    private static final ExecutionContextKey<String> OTHER =
+        ExecutionContextKey.of(ScopedExecutionContextCarrierTest.class.getName() + ".other", String.class);
+    private static final ExecutionContextKey<?>[] KEYS = {FIRST, SECOND};
+
+    @Test
+    void scopedValuesAreVisibleOnlyInsideTheCall() {
+        CountingCarrier outer = new CountingCarrier();
+        outer.put(FIRST, "outer");
+        ScopedExecutionContextCarrier carrier = new ScopedExecutionContextCarrier(outer);
+
+        String seen = carrier.callWithin(KEYS, new Object[] {"inner", null}, () -> {
+            assertNull(carrier.get(SECOND));
+            return carrier.get(FIRST.name(), String.class);
+        });
+
+        assertEquals("inner", seen);
+        assertEquals("outer", carrier.get(FIRST));
+        assertNull(carrier.get(SECOND));
+    }
+
+    @Test
+    void scopedCallsLeaveTheOuterCarrierAlone() {
+        CountingCarrier outer = new CountingCarrier();
+        ScopedExecutionContextCarrier carrier = new ScopedExecutionContextCarrier(outer);
+
+        for (int i = 0; i < 100; i++) {
+            carrier.callWithin(KEYS, new Object[] {"first-" + i, "second-" + i}, () -> carrier.get(FIRST));
+        }
+        assertEquals(0, outer.operations);
+
+        outer.callWithin(KEYS, new Object[] {"first", "second"}, () -> outer.get(FIRST));
+        assertEquals(7, outer.operations, "capture 2 keys, publish 2, read 1, restore 2");
+    }
+
+    @Test
+    void keysOutsideTheScopeGoToTheOuterCarrier() {
+        CountingCarrier outer = new CountingCarrier();
+        ScopedExecutionContextCarrier carrier = new ScopedExecutionContextCarrier(outer);
+
+        carrier.callWithin(KEYS, new Object[] {"inner", null}, () -> {
+            carrier.put(OTHER, "written-inside");
+            carrier.put(FIRST, "replaced-inside");
+            return null;
+        });
+
+        assertEquals("written-inside", outer.get(OTHER));
+        assertNull(outer.get(FIRST));
+    }
+
+    @Test
+    void nestedScopesShadowTheirEnclosingScopeKeyByKey() {
+        ScopedExecutionContextCarrier carrier = new ScopedExecutionContextCarrier(new CountingCarrier());
+
+        carrier.callWithin(KEYS, new Object[] {"outer-first", "outer-second"}, () -> {
+            carrier.callWithin(new ExecutionContextKey<?>[] {FIRST}, new Object[] {"inner-first"}, () -> {
+                assertEquals("inner-first", carrier.get(FIRST));
+                carrier.put(SECOND, "changed-inside");
+                return null;
+            });
+            assertEquals("outer-first", carrier.get(FIRST));
+            assertEquals("changed-inside", carrier.get(SECOND));
+            return null;
+        });
+    }
+
+    @Test
+    void rejectsMismatchedKeysAndValues() {
+        ScopedExecutionContextCarrier carrier = new ScopedExecutionContextCarrier(new CountingCarrier());
+
+        assertThrows(IllegalArgumentException.class, () -> carrier.callWithin(KEYS, new Object[] {"only"}, () -> null));
+    }
+
+    private static final class CountingCarrier implements ExecutionContextCarrier {
+        private final Map<String, Object> values = new HashMap<>();
+        private int operations;
+
+        @Override
+        public <T> T get(String key, Class<T> type) {
+            operations++;
+            Object value = values.get(key);
+            return type.isInstance(value) ? type.cast(value) : null;
+        }
+
+        @Override
+        public void put(String key, Object value) {
+            operations++;
+            values.put(key, value);
+        }
+
+        @Override
+        public void clear(String key) {
+            operations++;
+            values.remove(key);
+        }
+
+        @Override
+        public void clear() {
+            values.clear();
+        }
+    }
+}
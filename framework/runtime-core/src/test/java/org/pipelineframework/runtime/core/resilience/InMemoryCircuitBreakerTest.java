@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
@@ -14,7 +16,11 @@ import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
 
 class InMemoryCircuitBreakerTest {
@@ -163,6 +169,124 @@ class InMemoryCircuitBreakerTest {
         completion.get(2, TimeUnit.SECONDS);
     }
 
+    @Test
+    void failuresOutsideTheWindowDoNotCountTowardsTheThreshold() {
+        MutableClock clock = new MutableClock(Instant.parse("2026-07-19T10:00:00Z"));
+        InMemoryCircuitBreaker breaker = new InMemoryCircuitBreaker(clock);
+        CircuitPolicy policy = new CircuitPolicy(
+            CircuitScope.LOCAL_PROCESS,
+            2,
+            Duration.ofMinutes(1),
+            Duration.ofSeconds(10),
+            1,
+            Duration.ofSeconds(2));
+
+        permit(decision(breaker.acquire(IDENTITY, policy))).healthFailure();
+        clock.advance(Duration.ofMinutes(2));
+        permit(decision(breaker.acquire(IDENTITY, policy))).healthFailure();
+
+        assertInstanceOf(CircuitDecision.Permitted.class, decision(breaker.acquire(IDENTITY, policy)));
+
+        clock.advance(Duration.ofSeconds(30));
+        permit(decision(breaker.acquire(IDENTITY, policy))).healthFailure();
+
+        CircuitOpen open = rejection(decision(breaker.acquire(IDENTITY, policy)));
+        assertEquals(clock.instant().plusSeconds(10), open.notBefore());
+    }
+
+    @Test
+    void concurrentFailuresOpenTheCircuitExactlyOnce() throws Exception {
+        MutableClock clock = new MutableClock(Instant.parse("2026-07-19T10:00:00Z"));
+        AtomicInteger opened = new AtomicInteger();
+        InMemoryCircuitBreaker breaker = new InMemoryCircuitBreaker(clock, (identity, scope, transition) -> {
+            if (transition == CircuitStateTransition.CLOSED_TO_OPEN) {
+                opened.incrementAndGet();
+            }
+        });
+        int threads = 8;
+        int failuresPerThread = 250;
+        CircuitPolicy policy = new CircuitPolicy(
+            CircuitScope.LOCAL_PROCESS,
+            threads * failuresPerThread / 2,
+            Duration.ofMinutes(1),
+            Duration.ofSeconds(10),
+            1,
+            Duration.ofSeconds(2));
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                workers.add(executor.submit(() -> {
+                    start.await();
+                    for (int attempt = 0; attempt < failuresPerThread; attempt++) {
+                        CircuitDecision admitted = decision(breaker.acquire(IDENTITY, policy));
+                        if (admitted instanceof CircuitDecision.Permitted permitted) {
+                            permitted.permit().healthFailure();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> worker : workers) {
+                worker.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, opened.get());
+        assertInstanceOf(CircuitDecision.Rejected.class, decision(breaker.acquire(IDENTITY, policy)));
+    }
+
+    @Test
+    void contendedClosedCircuitAdmissionNeverBlocksOnAMonitor() throws Exception {
+        InMemoryCircuitBreaker breaker = new InMemoryCircuitBreaker();
+        int threads = 8;
+        int cyclesPerThread = 20_000;
+        CircuitPolicy policy = new CircuitPolicy(
+            CircuitScope.LOCAL_PROCESS,
+            threads * cyclesPerThread,
+            Duration.ofMinutes(1),
+            Duration.ofSeconds(10),
+            1,
+            Duration.ofSeconds(2));
+        // Load the permit and window classes first; class loading may block on its own lock.
+        permit(decision(breaker.acquire(IDENTITY, policy))).succeed();
+        permit(decision(breaker.acquire(IDENTITY, policy))).healthFailure();
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Long>> workers = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                workers.add(executor.submit(() -> {
+                    start.await();
+                    long threadId = Thread.currentThread().threadId();
+                    long blockedBefore = threadBean.getThreadInfo(threadId).getBlockedCount();
+                    for (int cycle = 0; cycle < cyclesPerThread; cycle++) {
+                        CircuitPermit permit = permit(decision(breaker.acquire(IDENTITY, policy)));
+                        if (cycle % 10 == 0) {
+                            permit.healthFailure();
+                        } else {
+                            permit.succeed();
+                        }
+                    }
+                    return threadBean.getThreadInfo(threadId).getBlockedCount() - blockedBefore;
+                }));
+            }
+            start.countDown();
+            for (Future<Long> worker : workers) {
+                assertEquals(0L, worker.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertInstanceOf(CircuitDecision.Permitted.class, decision(breaker.acquire(IDENTITY, policy)));
+    }
+
     private static CircuitPolicy policyWithHalfOpenPermits(int permits) {
         return new CircuitPolicy(
             CircuitScope.LOCAL_PROCESS,
@@ -18,8 +18,6 @@ package org.pipelineframework.runtime.spring;
 
 import java.util.ArrayDeque;
 import java.util.Deque;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.Callable;
@@ -34,6 +32,8 @@ import org.pipelineframework.runtime.core.BeanLookup;
 import org.pipelineframework.runtime.core.ConfigProvider;
 import org.pipelineframework.runtime.core.EventBusBridge;
 import org.pipelineframework.runtime.core.ExecutionContextCarrier;
+import org.pipelineframework.runtime.core.ExecutionContextKey;
+import org.pipelineframework.runtime.core.ExecutionContextSlots;
 import org.pipelineframework.runtime.core.ReactiveRuntime;
 import org.pipelineframework.runtime.core.RuntimeAdapters;
 import org.pipelineframework.runtime.core.SchedulerBoundary;
@@ -164,7 +164,8 @@ public class SpringRuntimeAdapterBootstrap implements InitializingBean, Disposab
     }
 
     private static final class SpringExecutionContextCarrier implements ExecutionContextCarrier {
-        private static final ThreadLocal<Map<String, Object>> CONTEXT = ThreadLocal.withInitial(HashMap::new);
+        private static final ThreadLocal<ExecutionContextSlots> CONTEXT =
+            ThreadLocal.withInitial(ExecutionContextSlots::new);
 
         @Override
         public <T> T get(String key, Class<T> type) {
@@ -180,17 +181,13 @@ public class SpringRuntimeAdapterBootstrap implements InitializingBean, Disposab
             if (key == null) {
                 return;
             }
-            if (value == null) {
-                CONTEXT.get().remove(key);
-            } else {
-                CONTEXT.get().put(key, value);
-            }
+            CONTEXT.get().put(key, value);
         }
 
         @Override
         public void clear(String key) {
             if (key != null) {
-                CONTEXT.get().remove(key);
+                CONTEXT.get().put(key, null);
             }
         }
 
@@ -198,6 +195,16 @@ public class SpringRuntimeAdapterBootstrap implements InitializingBean, Disposab
         public void clear() {
             CONTEXT.remove();
         }
+
+        @Override
+        public Object[] capture(ExecutionContextKey<?>[] keys) {
+            return CONTEXT.get().capture(keys);
+        }
+
+        @Override
+        public void restore(ExecutionContextKey<?>[] keys, Object[] values) {
+            CONTEXT.get().restore(keys, values);
+        }
     }
 
     private static final class SpringReactiveRuntime implements ReactiveRuntime {
@@ -27,17 +27,24 @@ class AwaitTimeoutFlow {
         Objects.requireNonNull(segmentBoundaryLedger, "segmentBoundaryLedger must not be null");
   }
 
-  Uni<Void> sweepTimedOut(long nowEpochMs, int limit) {
+  /**
+   * Times out the await interactions whose deadline has passed.
+   *
+   * @param nowEpochMs current time
+   * @param limit most interactions to time out in this pass
+   * @return number of interactions found timed out
+   */
+  Uni<Integer> sweepTimedOut(long nowEpochMs, int limit) {
     return awaitCoordinator.findTimedOut(nowEpochMs, limit)
         .onItem().transform(records -> TimedOutAwaitInteractionsPlan.from(records, limit))
         .onItem().transformToUni(plan -> {
           if (plan.empty()) {
-            return Uni.createFrom().voidItem();
+            return Uni.createFrom().item(0);
           }
           return Multi.createFrom().iterable(plan.interactions())
               .onItem().transformToUniAndConcatenate(record -> admitTimeout(record, nowEpochMs))
               .collect().asList()
-              .replaceWithVoid();
+              .replaceWith(plan.interactions().size());
         });
   }
 
@@ -21,7 +21,7 @@ record DueExecutionDispatchPlan(List<ExecutionWorkItem> workItems) {
             .comparingLong(ExecutionRecord<Object, Object>::nextDueEpochMs)
             .thenComparing(ExecutionRecord::tenantId)
             .thenComparing(ExecutionRecord::executionId))
-        .map(record -> new ExecutionWorkItem(record.tenantId(), record.executionId()))
+        .map(record -> new ExecutionWorkItem(record.tenantId(), record.executionId(), record.priority()))
         .toList());
   }
 
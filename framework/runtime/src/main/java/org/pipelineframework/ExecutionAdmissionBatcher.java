@@ -0,0 +1,101 @@
+package org.pipelineframework;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+import io.smallrye.mutiny.Uni;
+import org.pipelineframework.orchestrator.CreateExecutionResult;
+import org.pipelineframework.orchestrator.ExecutionCreateCommand;
+import org.pipelineframework.orchestrator.ExecutionStateStore;
+
+/**
+ * Coalesces concurrent create-or-get admissions into {@link ExecutionStateStore#createOrGetExecutions} batches.
+ *
+ * <p>Batching is opportunistic: a submission that arrives while fewer than {@code maxConcurrentBatches} admissions
+ * are in flight is written straight away, and submissions that arrive while the store is busy queue up and leave
+ * together in the next batch. A lone submission therefore never waits for a timer.</p>
+ */
+final class ExecutionAdmissionBatcher {
+
+  private final ExecutionStateStore executionStateStore;
+  private final int maxBatchSize;
+  private final int maxConcurrentBatches;
+  private final Object lock = new Object();
+  private final ArrayDeque<PendingAdmission> pending = new ArrayDeque<>();
+  private int inFlightBatches;
+
+  ExecutionAdmissionBatcher(ExecutionStateStore executionStateStore, int maxBatchSize, int maxConcurrentBatches) {
+    this.executionStateStore = Objects.requireNonNull(executionStateStore, "executionStateStore must not be null");
+    this.maxBatchSize = Math.max(1, maxBatchSize);
+    this.maxConcurrentBatches = Math.max(1, maxConcurrentBatches);
+  }
+
+  Uni<CreateExecutionResult> admit(ExecutionCreateCommand command) {
+    if (maxBatchSize == 1) {
+      return executionStateStore.createOrGetExecution(command);
+    }
+    return Uni.createFrom().completionStage(() -> {
+      CompletableFuture<CreateExecutionResult> admitted = new CompletableFuture<>();
+      boolean startBatch;
+      synchronized (lock) {
+        pending.add(new PendingAdmission(command, admitted));
+        startBatch = inFlightBatches < maxConcurrentBatches;
+        if (startBatch) {
+          inFlightBatches++;
+        }
+      }
+      if (startBatch) {
+        flush();
+      }
+      return admitted;
+    });
+  }
+
+  private void flush() {
+    List<PendingAdmission> batch;
+    synchronized (lock) {
+      if (pending.isEmpty()) {
+        inFlightBatches--;
+        return;
+      }
+      batch = new ArrayList<>(Math.min(pending.size(), maxBatchSize));
+      while (!pending.isEmpty() && batch.size() < maxBatchSize) {
+        batch.add(pending.poll());
+      }
+    }
+    Uni<List<CreateExecutionResult>> results;
+    try {
+      results = executionStateStore.createOrGetExecutions(batch.stream().map(PendingAdmission::command).toList());
+    } catch (RuntimeException e) {
+      results = Uni.createFrom().failure(e);
+    }
+    results.subscribe().with(
+        created -> {
+          complete(batch, created);
+          flush();
+        },
+        failure -> {
+          batch.forEach(admission -> admission.result().completeExceptionally(failure));
+          flush();
+        });
+  }
+
+  private static void complete(List<PendingAdmission> batch, List<CreateExecutionResult> created) {
+    if (created == null || created.size() != batch.size()) {
+      IllegalStateException mismatch = new IllegalStateException(
+          "Execution state store returned " + (created == null ? 0 : created.size())
+              + " admission results for " + batch.size() + " commands");
+      batch.forEach(admission -> admission.result().completeExceptionally(mismatch));
+      return;
+    }
+    for (int index = 0; index < batch.size(); index++) {
+      batch.get(index).result().complete(created.get(index));
+    }
+  }
+
+  private record PendingAdmission(ExecutionCreateCommand command, CompletableFuture<CreateExecutionResult> result) {
+  }
+}
@@ -0,0 +1,90 @@
+package org.pipelineframework;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+
+import io.smallrye.mutiny.Uni;
+import org.jboss.logging.Logger;
+import org.pipelineframework.orchestrator.ControlPlaneAdmissionDecision;
+import org.pipelineframework.orchestrator.ExecutionStateStore;
+
+/**
+ * Sheds async submissions while the due execution backlog is at or above a configured depth.
+ *
+ * <p>The backlog is read through {@link ExecutionStateStore#countDueExecutions(long, int)}, which stops counting at
+ * the shedding depth and does not run the sweep's due read. One reading is shared by every submission for
+ * {@code refreshMs}; submissions that find it stale join the same in-flight read instead of issuing their own. A
+ * failed read keeps the previous depth so store trouble does not flip shedding on or off.</p>
+ */
+final class ExecutionBacklogShedder {
+
+  private static final Logger LOG = Logger.getLogger(ExecutionBacklogShedder.class);
+
+  private final ExecutionStateStore executionStateStore;
+  private final int maxQueuedExecutions;
+  private final long refreshMs;
+  private final Duration retryAfter;
+  private final Object lock = new Object();
+  private volatile BacklogSample sample;
+  private BacklogSample refreshReplaces;
+  private Uni<Integer> refresh;
+
+  ExecutionBacklogShedder(
+      ExecutionStateStore executionStateStore,
+      int maxQueuedExecutions,
+      Duration refresh,
+      Duration retryAfter) {
+    this.executionStateStore = Objects.requireNonNull(executionStateStore, "executionStateStore must not be null");
+    this.maxQueuedExecutions = Math.max(0, maxQueuedExecutions);
+    this.refreshMs = refresh == null ? 1000L : Math.max(0L, refresh.toMillis());
+    this.retryAfter = retryAfter == null || retryAfter.isNegative() || retryAfter.isZero()
+        ? Duration.ofSeconds(5)
+        : retryAfter;
+  }
+
+  /**
+   * Checks the backlog for one submission.
+   *
+   * @param nowEpochMs current timestamp
+   * @return a shed decision when the backlog is saturated, otherwise empty
+   */
+  Uni<Optional<ControlPlaneAdmissionDecision>> check(long nowEpochMs) {
+    if (maxQueuedExecutions == 0) {
+      return Uni.createFrom().item(Optional.empty());
+    }
+    return backlogDepth(nowEpochMs)
+        .onItem().transform(depth -> depth < maxQueuedExecutions
+            ? Optional.<ControlPlaneAdmissionDecision>empty()
+            : Optional.of(ControlPlaneAdmissionDecision.shed(
+                ControlPlaneAdmissionDecision.EXECUTION_BACKLOG_SATURATED,
+                "Execution backlog has reached " + maxQueuedExecutions + " due executions",
+                retryAfter)));
+  }
+
+  private Uni<Integer> backlogDepth(long nowEpochMs) {
+    BacklogSample current = sample;
+    if (current != null && nowEpochMs - current.sampledAtEpochMs() < refreshMs) {
+      return Uni.createFrom().item(current.depth());
+    }
+    synchronized (lock) {
+      if (refresh == null || refreshReplaces != current) {
+        refreshReplaces = current;
+        refresh = executionStateStore.countDueExecutions(nowEpochMs, maxQueuedExecutions)
+            .onFailure().recoverWithItem(failure -> {
+              LOG.debug("Failed reading execution backlog; keeping the previous reading.", failure);
+              return current == null ? 0 : current.depth();
+            })
+            .onItem().invoke(depth -> {
+              sample = new BacklogSample(nowEpochMs, depth);
+              SubmissionAdmissionMetrics.recordBacklog(depth);
+            })
+            .memoize().indefinitely();
+      }
+      return refresh;
+    }
+  }
+
+  private record BacklogSample(long sampledAtEpochMs, int depth) {
+  }
+}
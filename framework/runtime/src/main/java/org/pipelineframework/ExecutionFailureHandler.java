@@ -87,7 +87,7 @@ class ExecutionFailureHandler {
             }
             Duration delay = Duration.ofMillis(Math.max(0L, nextDue - System.currentTimeMillis()));
             return workDispatcher.enqueueDelayed(
-                new ExecutionWorkItem(record.tenantId(), record.executionId()),
+                new ExecutionWorkItem(record.tenantId(), record.executionId(), record.priority()),
                 delay);
           });
     }
@@ -162,7 +162,7 @@ class ExecutionFailureHandler {
           if (updated.isEmpty()) {
             return Uni.createFrom().voidItem();
           }
-          return workDispatcher.enqueueDelayed(new ExecutionWorkItem(record.tenantId(), record.executionId()),
+          return workDispatcher.enqueueDelayed(new ExecutionWorkItem(record.tenantId(), record.executionId(), record.priority()),
               Duration.ofMillis(Math.max(0L, nextDue - System.currentTimeMillis())));
         });
   }
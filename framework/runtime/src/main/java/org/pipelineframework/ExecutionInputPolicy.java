@@ -14,6 +14,7 @@ import org.pipelineframework.orchestrator.ExecutionInputShape;
 import org.pipelineframework.orchestrator.ExecutionInputSnapshot;
 import org.pipelineframework.orchestrator.OrchestratorIdempotencyPolicy;
 import org.pipelineframework.orchestrator.PipelineOrchestratorConfig;
+import org.pipelineframework.orchestrator.worker.PipelineWorkerRegistry;
 
 /**
  * Input normalization and idempotency-key policy for queue orchestration paths.
@@ -55,6 +56,10 @@ class ExecutionInputPolicy {
     if (tenantId == null || tenantId.isBlank()) {
       return orchestratorConfig.defaultTenant();
     }
+    if (PipelineWorkerRegistry.isReservedTenant(tenantId)) {
+      throw new IllegalArgumentException(
+          "tenantId must not start with " + PipelineWorkerRegistry.RESERVED_TENANT_PREFIX);
+    }
     return tenantId.trim();
   }
 
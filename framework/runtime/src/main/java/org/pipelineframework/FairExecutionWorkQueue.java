@@ -0,0 +1,124 @@
+package org.pipelineframework;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import io.smallrye.mutiny.Uni;
+import org.jboss.logging.Logger;
+import org.pipelineframework.orchestrator.DeficitRoundRobinQueue;
+import org.pipelineframework.orchestrator.ExecutionWorkItem;
+
+/**
+ * Runs locally dispatched execution work with bounded concurrency, sharing the slots across tenants and priority
+ * classes by deficit round-robin.
+ *
+ * <p>Work items wait in one sub-queue per tenant and priority until a slot frees, so a tenant that dispatches a burst
+ * only queues behind itself. A slot is held until the work item's processing terminates, successfully or not.</p>
+ */
+final class FairExecutionWorkQueue {
+
+  private static final Logger LOG = Logger.getLogger(FairExecutionWorkQueue.class);
+
+  private final Function<ExecutionWorkItem, Uni<Void>> processor;
+  private final int maxInFlight;
+  private final Object lock = new Object();
+  private final DeficitRoundRobinQueue<ExecutionWorkItem> pending = new DeficitRoundRobinQueue<>();
+  private final AtomicInteger drainRequests = new AtomicInteger();
+  private int inFlight;
+
+  FairExecutionWorkQueue(Function<ExecutionWorkItem, Uni<Void>> processor, int maxInFlight) {
+    this.processor = Objects.requireNonNull(processor, "processor must not be null");
+    this.maxInFlight = Math.max(1, maxInFlight);
+  }
+
+  /**
+   * Queues one work item and starts it when a slot is free.
+   *
+   * @param workItem work item to run
+   */
+  void submit(ExecutionWorkItem workItem) {
+    Objects.requireNonNull(workItem, "workItem must not be null");
+    synchronized (lock) {
+      pending.offer(
+          List.of(workItem.tenantId(), workItem.effectivePriority()),
+          workItem.effectivePriority().weight(),
+          workItem);
+    }
+    drain();
+  }
+
+  /**
+   * Number of work items waiting for a slot.
+   *
+   * @return queued work items
+   */
+  int queued() {
+    synchronized (lock) {
+      return pending.size();
+    }
+  }
+
+  /**
+   * Number of work items currently holding a slot.
+   *
+   * @return running work items
+   */
+  int inFlight() {
+    synchronized (lock) {
+      return inFlight;
+    }
+  }
+
+  private void drain() {
+    // Work that completes synchronously releases its slot from inside start(); the counter turns that nested drain
+    // into another pass of the outer loop instead of a recursive call.
+    if (drainRequests.getAndIncrement() != 0) {
+      return;
+    }
+    int missed = 1;
+    do {
+      ExecutionWorkItem next;
+      while ((next = acquireNext()) != null) {
+        start(next);
+      }
+      missed = drainRequests.addAndGet(-missed);
+    } while (missed != 0);
+  }
+
+  private ExecutionWorkItem acquireNext() {
+    synchronized (lock) {
+      if (inFlight >= maxInFlight || pending.isEmpty()) {
+        return null;
+      }
+      inFlight++;
+      return pending.poll();
+    }
+  }
+
+  private void start(ExecutionWorkItem workItem) {
+    Uni<Void> work;
+    try {
+      work = processor.apply(workItem);
+    } catch (RuntimeException failure) {
+      work = Uni.createFrom().failure(failure);
+    }
+    if (work == null) {
+      work = Uni.createFrom().voidItem();
+    }
+    work.onTermination().invoke(this::release)
+        .subscribe()
+        .with(
+            ignored -> {
+            },
+            failure -> LOG.errorf(failure, "Failed processing async execution work item %s", workItem));
+  }
+
+  private void release() {
+    synchronized (lock) {
+      inFlight--;
+    }
+    drain();
+  }
+}
@@ -573,7 +573,8 @@ class ItemizedAwaitContinuationFlow {
             nowEpochMs)
         .chain(() -> workDispatcher.enqueueNow(new ExecutionWorkItem(
             released.tenantId(),
-            released.executionId())))
+            released.executionId(),
+            released.priority())))
         .invoke(() -> {
           claims.clearDispatches(release.unit());
           lifecycleRecorder.accept(new AwaitReplayLifecycleEvent(
@@ -136,6 +136,7 @@ public class PipelineExecutionService implements PipelineTransitionWorker {
 
   private volatile TransitionPayloadCodec fallbackPayloadCodec;
   private volatile PipelineReleaseIdentityResolver fallbackReleaseIdentityResolver;
+  private volatile FairExecutionWorkQueue executionWorkQueue;
 
   private final java.util.concurrent.atomic.AtomicReference<StartupHealthState> startupHealthState =
       new java.util.concurrent.atomic.AtomicReference<>(StartupHealthState.PENDING);
@@ -367,12 +368,24 @@ public class PipelineExecutionService implements PipelineTransitionWorker {
     if (workItem == null) {
       return;
     }
-    processExecutionWorkItem(workItem)
-        .subscribe()
-        .with(
-            ignored -> {
-            },
-            failure -> LOG.errorf(failure, "Failed processing async execution work item %s", workItem));
+    executionWorkQueue().submit(workItem);
+  }
+
+  private FairExecutionWorkQueue executionWorkQueue() {
+    FairExecutionWorkQueue queue = executionWorkQueue;
+    if (queue != null) {
+      return queue;
+    }
+    synchronized (this) {
+      if (executionWorkQueue == null) {
+        PipelineOrchestratorConfig.SchedulingConfig scheduling =
+            orchestratorConfig == null ? null : orchestratorConfig.scheduling();
+        executionWorkQueue = new FairExecutionWorkQueue(
+            this::processExecutionWorkItem,
+            scheduling == null ? 64 : scheduling.maxInFlight());
+      }
+      return executionWorkQueue;
+    }
   }
 
   /**
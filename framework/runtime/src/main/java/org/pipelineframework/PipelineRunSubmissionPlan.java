@@ -1,9 +1,11 @@
 package org.pipelineframework;
 
 import java.util.Objects;
+import java.util.Optional;
 
 import org.pipelineframework.orchestrator.ExecutionCreateCommand;
 import org.pipelineframework.orchestrator.ExecutionInputSnapshot;
+import org.pipelineframework.orchestrator.ExecutionPriority;
 import org.pipelineframework.orchestrator.ExecutionResultShape;
 
 record PipelineRunSubmissionPlan(
@@ -12,12 +14,14 @@ record PipelineRunSubmissionPlan(
     String executionKey,
     ExecutionResultShape resultShape,
     long nowEpochMs,
-    long ttlEpochS) {
+    long ttlEpochS,
+    ExecutionPriority priority) {
 
   PipelineRunSubmissionPlan {
     Objects.requireNonNull(submission, "submission must not be null");
     Objects.requireNonNull(snapshot, "snapshot must not be null");
     Objects.requireNonNull(resultShape, "resultShape must not be null");
+    Objects.requireNonNull(priority, "priority must not be null");
     executionKey = scopedRootExecutionKey(
         submission.pipelineId(),
         submission.releaseVersion(),
@@ -33,8 +37,11 @@ record PipelineRunSubmissionPlan(
         submission.releaseVersion(),
         snapshot,
         resultShape,
+        Optional.empty(),
+        0,
         nowEpochMs,
-        ttlEpochS);
+        ttlEpochS,
+        priority);
   }
 
   private static String scopedRootExecutionKey(String pipelineId, String releaseVersion, String executionKey) {
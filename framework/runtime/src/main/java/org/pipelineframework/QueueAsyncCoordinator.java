@@ -5,9 +5,11 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.OptionalInt;
 import java.util.UUID;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -44,6 +46,7 @@ import org.pipelineframework.orchestrator.OrchestratorIdempotencyPolicy;
 import org.pipelineframework.orchestrator.OrchestratorMode;
 import org.pipelineframework.orchestrator.PipelineOrchestratorConfig;
 import org.pipelineframework.orchestrator.PipelineReleaseIdentityResolver;
+import org.pipelineframework.orchestrator.PipelineReleaseRuntimeBeans;
 import org.pipelineframework.orchestrator.PipelineTransitionWorker;
 import org.pipelineframework.orchestrator.TransitionPayloadCodec;
 import org.pipelineframework.orchestrator.JsonTransitionPayloadCodec;
@@ -51,6 +54,7 @@ import org.pipelineframework.orchestrator.TransitionWorkerExecutor;
 import org.pipelineframework.orchestrator.WorkDispatcher;
 import org.pipelineframework.orchestrator.controlplane.SegmentBoundaryLedger;
 import org.pipelineframework.orchestrator.release.LocalPipelineReleaseActivation;
+import org.pipelineframework.orchestrator.worker.PipelineWorkerRegistry;
 import org.pipelineframework.orchestrator.dto.ExecutionStatusDto;
 import org.pipelineframework.orchestrator.dto.RunAsyncAcceptedDto;
 import org.pipelineframework.objectpublish.ObjectPublishCompletionService;
@@ -77,6 +81,9 @@ class QueueAsyncCoordinator {
   @Inject
   Instance<DeadLetterPublisher> deadLetterPublishers;
 
+  @Inject
+  Instance<PipelineWorkerRegistry> workerRegistries;
+
   @Inject
   ExecutionInputPolicy executionInputPolicy;
 
@@ -137,6 +144,8 @@ class QueueAsyncCoordinator {
       });
 
   private volatile ScheduledFuture<?> queueSweepFuture;
+  private volatile ScheduledFuture<?> shardMembershipFuture;
+  private volatile SweepCadence sweepCadence;
   volatile ExecutionStateStore executionStateStore;
   volatile WorkDispatcher workDispatcher;
   volatile DeadLetterPublisher deadLetterPublisher;
@@ -183,13 +192,11 @@ class QueueAsyncCoordinator {
       throw new IllegalStateException(
           "pipeline.orchestrator.idempotency-policy must be explicitly configured for queue mode when strict startup is enabled.");
     }
-    Duration interval = orchestratorConfig.sweepInterval();
-    long intervalMs = Math.max(1000L, interval == null ? 30000L : interval.toMillis());
-    queueSweepFuture = queueSweepExecutor.scheduleAtFixedRate(
-        this::sweepDueExecutions,
-        intervalMs,
-        intervalMs,
-        TimeUnit.MILLISECONDS);
+    sweepCadence = new SweepCadence(
+        orchestratorConfig.sweepInterval(),
+        orchestratorConfig.sweepIdleInterval().orElse(null));
+    scheduleSafetySweep(sweepCadence.initialDelayMs());
+    scheduleShardMembershipRefresh();
     queueModeInitialized = true;
     LOG.infof("Queue async mode enabled: stateProvider=%s dispatcherProvider=%s dlqProvider=%s",
         executionStateStore.providerName(),
@@ -202,7 +209,18 @@ class QueueAsyncCoordinator {
     if (queueSweepFuture != null) {
       queueSweepFuture.cancel(false);
     }
+    if (shardMembershipFuture != null) {
+      shardMembershipFuture.cancel(false);
+    }
     queueSweepExecutor.shutdownNow();
+    QueueAsyncSweepFlow current = sweepFlow;
+    if (current != null) {
+      current.leave(System.currentTimeMillis())
+          .subscribe().with(
+              ignored -> {
+              },
+              failure -> LOG.debug("Failed leaving sweep shard membership during shutdown.", failure));
+    }
   }
 
   Uni<RunAsyncAcceptedDto> executePipelineAsync(
@@ -294,6 +312,53 @@ class QueueAsyncCoordinator {
     sweepFlow().sweepDueExecutions();
   }
 
+  private void scheduleSafetySweep(long delayMs) {
+    try {
+      queueSweepFuture = queueSweepExecutor.schedule(this::safetySweep, delayMs, TimeUnit.MILLISECONDS);
+    } catch (RejectedExecutionException shutdown) {
+      LOG.debug("Queue sweep executor is shut down; not scheduling another sweep.");
+    }
+  }
+
+  /**
+   * Heartbeats sweep shard membership on its own fixed schedule, so sweep passes never call the worker registry and
+   * may back off to the idle interval without the replica going stale.
+   */
+  private void scheduleShardMembershipRefresh() {
+    Optional<Duration> interval = sweepFlow().shardRefreshInterval();
+    if (interval.isEmpty()) {
+      return;
+    }
+    long intervalMs = interval.get().toMillis();
+    try {
+      shardMembershipFuture = queueSweepExecutor.scheduleAtFixedRate(
+          () -> sweepFlow().refreshShardOwnership(System.currentTimeMillis())
+              .subscribe().with(
+                  ignored -> {
+                  },
+                  failure -> LOG.warn("Failed refreshing sweep shard membership", failure)),
+          intervalMs,
+          intervalMs,
+          TimeUnit.MILLISECONDS);
+    } catch (RejectedExecutionException shutdown) {
+      LOG.debug("Queue sweep executor is shut down; not scheduling shard membership refresh.");
+    }
+  }
+
+  private void safetySweep() {
+    SweepCadence cadence = sweepCadence;
+    if (orchestratorConfig.mode() != OrchestratorMode.QUEUE_ASYNC || executionStateStore == null || workDispatcher == null) {
+      scheduleSafetySweep(cadence.next(false));
+      return;
+    }
+    try {
+      sweepFlow().sweepDueExecutions(busy -> scheduleSafetySweep(cadence.next(busy)));
+    } catch (RuntimeException failure) {
+      LOG.errorf(failure, "Failed starting due async execution sweep");
+      scheduleSafetySweep(cadence.next(true));
+    }
+  }
+
   Uni<AwaitCompletionResult> completeAwait(AwaitCompletionCommand command) {
     return completeAwait(command, NOOP_ITEM_CONTINUATION_HANDLER);
   }
@@ -599,13 +664,30 @@ class QueueAsyncCoordinator {
             orchestratorConfig,
             executionStateStore,
             workDispatcher,
-            new AwaitTimeoutFlow(awaitCoordinator, executionStateStore, this::segmentBoundaryLedger));
+            new AwaitTimeoutFlow(awaitCoordinator, executionStateStore, this::segmentBoundaryLedger),
+            sweepShardOwnership());
         sweepFlow = current;
       }
       return current;
     }
   }
 
+  private SweepShardOwnership sweepShardOwnership() {
+    if (orchestratorConfig.sweepShards() <= 1) {
+      return null;
+    }
+    return new SweepShardOwnership(
+        this::workerRegistry,
+        pipelineId(),
+        queueWorkerId,
+        orchestratorConfig.sweepShards(),
+        PipelineReleaseRuntimeBeans.workerStaleAfter(orchestratorConfig));
+  }
+
+  private PipelineWorkerRegistry workerRegistry() {
+    return workerRegistries == null || !workerRegistries.isResolvable() ? null : workerRegistries.get();
+  }
+
   private AwaitContinuations awaitContinuations() {
     AwaitContinuations current = awaitContinuations;
     if (current != null) {
@@ -106,7 +106,7 @@ class QueueAsyncRedriveFlow {
   private Uni<ExecutionRedriveResult> enqueue(
       ExecutionRedrivePlan plan,
       ExecutionRecord<Object, Object> record) {
-    return workDispatcher.enqueueNow(new ExecutionWorkItem(record.tenantId(), record.executionId()))
+    return workDispatcher.enqueueNow(new ExecutionWorkItem(record.tenantId(), record.executionId(), record.priority()))
         .onFailure().recoverWithUni(failure -> {
           LOG.warnf(
               failure,
@@ -124,6 +124,7 @@ class QueueAsyncSegmentPipeline {
             queueWorkerId,
             now,
             orchestratorConfig.leaseMs())
+        .onItem().invoke(claimed -> QueueSweepMetrics.recordClaim(claimed.isPresent()))
         .onItem().transformToUni(claimed -> claimed
             .map(record -> runClaimed(ClaimedSegment.from(record), worker, itemContinuationHandler, now))
             .orElseGet(() -> Uni.createFrom().voidItem()));
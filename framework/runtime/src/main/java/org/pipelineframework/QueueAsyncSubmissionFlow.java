@@ -15,6 +15,7 @@ import org.pipelineframework.orchestrator.ControlPlaneAdmissionPolicy;
 import org.pipelineframework.orchestrator.CreateExecutionResult;
 import org.pipelineframework.orchestrator.ExecutionCreateCommand;
 import org.pipelineframework.orchestrator.ExecutionInputSnapshot;
+import org.pipelineframework.orchestrator.ExecutionPriority;
 import org.pipelineframework.orchestrator.ExecutionResultShape;
 import org.pipelineframework.orchestrator.ExecutionResultShapeResolver;
 import org.pipelineframework.orchestrator.ExecutionStateStore;
@@ -38,6 +39,8 @@ class QueueAsyncSubmissionFlow {
   private final Supplier<String> releaseVersion;
   private final Supplier<SegmentBoundaryLedger> segmentBoundaryLedger;
   private final Function<PipelineRunSubmission, Uni<Void>> releaseActivation;
+  private final ExecutionAdmissionBatcher admissionBatcher;
+  private final ExecutionBacklogShedder backlogShedder;
 
   QueueAsyncSubmissionFlow(
       PipelineOrchestratorConfig orchestratorConfig,
@@ -89,6 +92,16 @@ class QueueAsyncSubmissionFlow {
     this.segmentBoundaryLedger =
         Objects.requireNonNull(segmentBoundaryLedger, "segmentBoundaryLedger must not be null");
     this.releaseActivation = Objects.requireNonNull(releaseActivation, "releaseActivation must not be null");
+    this.admissionBatcher = new ExecutionAdmissionBatcher(
+        executionStateStore,
+        orchestratorConfig.admissionBatchSize(),
+        orchestratorConfig.admissionBatchConcurrency());
+    PipelineOrchestratorConfig.QuotaConfig quotas = orchestratorConfig.quotas();
+    this.backlogShedder = new ExecutionBacklogShedder(
+        executionStateStore,
+        quotas == null ? 0 : quotas.maxQueuedExecutions(),
+        quotas == null ? null : quotas.backlogRefresh(),
+        quotas == null ? null : quotas.shedRetryAfter());
   }
 
   Uni<RunAsyncAcceptedDto> submit(
@@ -132,17 +145,29 @@ class QueueAsyncSubmissionFlow {
           releaseVersion,
           idempotencyKey,
           outputStreaming);
-      Optional<RuntimeException> admissionFailure = admissionFailure(submission);
-      if (admissionFailure.isPresent()) {
-        return Uni.createFrom().failure(admissionFailure.get());
+      ControlPlaneAdmissionDecision decision = admissionPolicy.admit(submission.admissionRequest());
+      if (!decision.allowed()) {
+        SubmissionAdmissionMetrics.record(decision);
+        return Uni.createFrom().failure(new ControlPlaneAdmissionException(decision));
       }
       long now = System.currentTimeMillis();
       long ttlEpochS = ttlEpochS(now);
-      return releaseActivation.apply(submission)
+      return backlogShedder.check(now)
+          .onItem().transformToUni(shed -> {
+            ControlPlaneAdmissionDecision admitted = shed.orElse(decision);
+            SubmissionAdmissionMetrics.record(admitted);
+            if (!admitted.allowed()) {
+              admissionPolicy.refund(submission.admissionRequest());
+            }
+            return admitted.allowed()
+                ? Uni.createFrom().voidItem()
+                : Uni.createFrom().<Void>failure(new ControlPlaneAdmissionException(admitted));
+          })
+          .chain(() -> releaseActivation.apply(submission))
           .chain(() -> executionInputPolicy.resolveExecutionInputPayload(executionInput))
           .onItem().transformToUni(snapshot -> createPlan(submission, snapshot, now, ttlEpochS))
           .onItem().transform(PipelineRunSubmissionPlan::createCommand)
-          .onItem().transformToUni(command -> executionStateStore.createOrGetExecution(command)
+          .onItem().transformToUni(command -> admissionBatcher.admit(command)
               .onItem().transformToUni(created -> accept(created, command, now)));
     });
   }
@@ -181,7 +206,8 @@ class QueueAsyncSubmissionFlow {
           executionKey,
           resultShape,
           now,
-          ttlEpochS));
+          ttlEpochS,
+          priority(submission.tenantId())));
     } catch (IllegalArgumentException e) {
       return Uni.createFrom().failure(new BadRequestException(e.getMessage()));
     }
@@ -198,17 +224,16 @@ class QueueAsyncSubmissionFlow {
         ? Uni.createFrom().voidItem()
         : workDispatcher.enqueueNow(new ExecutionWorkItem(
             created.record().tenantId(),
-            created.record().executionId()));
+            created.record().executionId(),
+            created.record().priority()));
     return recordSubmitted
         .chain(() -> enqueue)
         .onItem().transform(ignored -> new RunAcceptance(created, now).toDto());
   }
 
-  private Optional<RuntimeException> admissionFailure(PipelineRunSubmission submission) {
-    ControlPlaneAdmissionDecision decision = admissionPolicy.admit(submission.admissionRequest());
-    return decision.allowed()
-        ? Optional.empty()
-        : Optional.of(new ControlPlaneAdmissionException(decision));
+  private ExecutionPriority priority(String tenantId) {
+    PipelineOrchestratorConfig.SchedulingConfig scheduling = orchestratorConfig.scheduling();
+    return scheduling == null ? ExecutionPriority.NORMAL : scheduling.priorityFor(tenantId);
   }
 
   private long ttlEpochS(long nowEpochMs) {
@@ -1,12 +1,16 @@
 package org.pipelineframework;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import org.jboss.logging.Logger;
+import org.pipelineframework.orchestrator.ExecutionRecord;
 import org.pipelineframework.orchestrator.ExecutionStateStore;
 import org.pipelineframework.orchestrator.ExecutionWorkItem;
 import org.pipelineframework.orchestrator.PipelineOrchestratorConfig;
@@ -20,33 +24,173 @@ class QueueAsyncSweepFlow {
   private final ExecutionStateStore executionStateStore;
   private final WorkDispatcher workDispatcher;
   private final AwaitTimeoutFlow awaitTimeoutFlow;
+  private final SweepShardOwnership shardOwnership;
+  private int stealCursor;
 
   QueueAsyncSweepFlow(
       PipelineOrchestratorConfig orchestratorConfig,
       ExecutionStateStore executionStateStore,
       WorkDispatcher workDispatcher,
       AwaitTimeoutFlow awaitTimeoutFlow) {
+    this(orchestratorConfig, executionStateStore, workDispatcher, awaitTimeoutFlow, null);
+  }
+
+  QueueAsyncSweepFlow(
+      PipelineOrchestratorConfig orchestratorConfig,
+      ExecutionStateStore executionStateStore,
+      WorkDispatcher workDispatcher,
+      AwaitTimeoutFlow awaitTimeoutFlow,
+      SweepShardOwnership shardOwnership) {
     this.orchestratorConfig = Objects.requireNonNull(orchestratorConfig, "orchestratorConfig must not be null");
     this.executionStateStore = Objects.requireNonNull(executionStateStore, "executionStateStore must not be null");
     this.workDispatcher = Objects.requireNonNull(workDispatcher, "workDispatcher must not be null");
     this.awaitTimeoutFlow = Objects.requireNonNull(awaitTimeoutFlow, "awaitTimeoutFlow must not be null");
+    this.shardOwnership = shardOwnership;
   }
 
   void sweepDueExecutions() {
-    sweepOnce(System.currentTimeMillis())
+    sweepDueExecutions(busy -> {
+    });
+  }
+
+  /**
+   * Runs one sweep pass in the background. A pass that outlives the pass timeout is cancelled and reported as failed,
+   * so a hung store or dispatcher call cannot stop the sweep schedule.
+   *
+   * @param afterPass told whether the pass timed out awaits, dispatched work or failed, once it has finished
+   */
+  void sweepDueExecutions(Consumer<Boolean> afterPass) {
+    Duration passTimeout = passTimeout();
+    sweep(System.currentTimeMillis())
+        .ifNoItem().after(passTimeout).failWith(() -> new IllegalStateException(
+            "Due async execution sweep did not finish within " + passTimeout))
         .subscribe()
         .with(
-            ignored -> {
-            },
-            failure -> LOG.errorf(failure, "Failed sweeping due async executions"));
+            dispatched -> afterPass.accept(dispatched > 0),
+            failure -> {
+              LOG.errorf(failure, "Failed sweeping due async executions");
+              afterPass.accept(true);
+            });
   }
 
   Uni<Void> sweepOnce(long nowEpochMs) {
+    return sweep(nowEpochMs).replaceWithVoid();
+  }
+
+  /**
+   * Runs one pass and counts the work it found: timed-out awaits plus dispatched executions. Await timeouts are only
+   * found here, so a pass that times some out counts as busy and keeps the sweep at its short interval.
+   */
+  private Uni<Integer> sweep(long nowEpochMs) {
     int limit = orchestratorConfig.sweepLimit();
     return awaitTimeoutFlow.sweepTimedOut(nowEpochMs, limit)
-        .chain(() -> executionStateStore.findDueExecutions(nowEpochMs, limit))
-        .onItem().transform(DueExecutionDispatchPlan::from)
-        .onItem().transformToUni(this::dispatchDueExecutions);
+        .chain(timedOut -> (shardOwnership == null
+            ? executionStateStore.findDueExecutions(nowEpochMs, limit)
+            : shardOwnership.assignment(nowEpochMs)
+                .onItem().transformToUni(assignment -> findDueExecutions(assignment, nowEpochMs, limit)))
+            .onItem().transform(DueExecutionDispatchPlan::from)
+            .onItem().transformToUni(plan -> dispatchDueExecutions(plan)
+                .replaceWith(timedOut + plan.workItems().size())));
+  }
+
+  /**
+   * Refreshes sweep shard membership, on the coordinator's membership schedule rather than per pass.
+   */
+  Uni<Void> refreshShardOwnership(long nowEpochMs) {
+    return shardOwnership == null ? Uni.createFrom().voidItem() : shardOwnership.refresh(nowEpochMs).replaceWithVoid();
+  }
+
+  /**
+   * Interval between shard membership refreshes.
+   *
+   * @return the refresh interval, or empty when sweeps are not sharded
+   */
+  Optional<Duration> shardRefreshInterval() {
+    return shardOwnership == null ? Optional.empty() : Optional.of(shardOwnership.refreshInterval());
+  }
+
+  Uni<Void> leave(long nowEpochMs) {
+    return shardOwnership == null ? Uni.createFrom().voidItem() : shardOwnership.leave(nowEpochMs);
+  }
+
+  private Uni<List<ExecutionRecord<Object, Object>>> findDueExecutions(
+      SweepAssignment assignment,
+      long nowEpochMs,
+      int limit) {
+    if (!assignment.sharded()) {
+      return executionStateStore.findDueExecutions(nowEpochMs, limit);
+    }
+    List<Integer> owned = assignment.ownedShards();
+    int perShardLimit = owned.isEmpty() ? 0 : Math.max(1, (limit + owned.size() - 1) / owned.size());
+    return Multi.createFrom().iterable(owned)
+        .onItem().transformToUniAndConcatenate(shard -> findDueInShard(assignment, shard, nowEpochMs, perShardLimit))
+        .collect().in(ArrayList<ExecutionRecord<Object, Object>>::new, List::addAll)
+        .onItem().transformToUni(due -> due.size() >= limit
+            ? Uni.createFrom().item(due)
+            : stealOverdue(assignment, nowEpochMs, limit - due.size())
+                .onItem().transform(stolen -> {
+                  due.addAll(stolen);
+                  return due;
+                }));
+  }
+
+  private Uni<List<ExecutionRecord<Object, Object>>> findDueInShard(
+      SweepAssignment assignment,
+      int shard,
+      long nowEpochMs,
+      int limit) {
+    return executionStateStore.findDueExecutions(nowEpochMs, limit, assignment.shardCount(), shard)
+        .onItem().invoke(due -> recordLag(shard, false, due, nowEpochMs));
+  }
+
+  /**
+   * Takes executions from one shard owned by another replica, rotating through those shards one per pass, when they
+   * are overdue by more than the steal threshold. That covers replicas that stopped sweeping before the membership
+   * noticed, and owners that cannot keep up.
+   */
+  private Uni<List<ExecutionRecord<Object, Object>>> stealOverdue(
+      SweepAssignment assignment,
+      long nowEpochMs,
+      int budget) {
+    int shardCount = assignment.shardCount();
+    if (assignment.ownedShards().size() >= shardCount) {
+      return Uni.createFrom().item(List.of());
+    }
+    int shard = nextStealShard(assignment);
+    long stealAfterMs = stealAfterMs();
+    return executionStateStore.findDueExecutions(nowEpochMs, budget, shardCount, shard)
+        .onItem().transform(due -> due.stream()
+            .filter(record -> nowEpochMs - record.nextDueEpochMs() >= stealAfterMs)
+            .toList())
+        .onItem().invoke(stolen -> recordLag(shard, true, stolen, nowEpochMs));
+  }
+
+  private synchronized int nextStealShard(SweepAssignment assignment) {
+    int shardCount = assignment.shardCount();
+    for (int i = 0; i < shardCount; i++) {
+      int shard = Math.floorMod(stealCursor++, shardCount);
+      if (!assignment.owns(shard)) {
+        return shard;
+      }
+    }
+    throw new IllegalStateException("No unowned sweep shard to steal from");
+  }
+
+  private Duration passTimeout() {
+    Duration configured = orchestratorConfig.sweepPassTimeout();
+    return configured == null || configured.isZero() || configured.isNegative() ? Duration.ofMinutes(2) : configured;
+  }
+
+  private long stealAfterMs() {
+    Duration stealAfter = orchestratorConfig.sweepStealAfter();
+    return stealAfter == null ? 60_000L : Math.max(0L, stealAfter.toMillis());
+  }
+
+  private static void recordLag(int shard, boolean stolen, List<ExecutionRecord<Object, Object>> due, long nowEpochMs) {
+    due.stream()
+        .mapToLong(ExecutionRecord::nextDueEpochMs)
+        .min()
+        .ifPresent(oldest -> QueueSweepMetrics.recordShardLag(shard, stolen, nowEpochMs - oldest));
   }
 
   private Uni<Void> dispatchDueExecutions(DueExecutionDispatchPlan plan) {
@@ -0,0 +1,59 @@
+package org.pipelineframework;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.Meter;
+import org.pipelineframework.telemetry.TelemetryCompatibilityAccess;
+
+/**
+ * Queue-async sweep metrics: lease claim conflicts, per-shard sweep lag, and shard rebalances.
+ */
+final class QueueSweepMetrics {
+
+  private static final AttributeKey<String> CLAIM_OUTCOME = AttributeKey.stringKey("tpf.claim.outcome");
+  private static final AttributeKey<Long> SHARD = AttributeKey.longKey("tpf.sweep.shard");
+  private static final AttributeKey<Boolean> STOLEN = AttributeKey.booleanKey("tpf.sweep.stolen");
+  private static final Attributes CLAIMED = Attributes.of(CLAIM_OUTCOME, "claimed");
+  private static final Attributes CONFLICT = Attributes.of(CLAIM_OUTCOME, "conflict");
+
+  private QueueSweepMetrics() {
+  }
+
+  /**
+   * Record one lease claim attempt. A conflict means another replica or delivery already holds the
+   * execution, or it is no longer due.
+   */
+  static void recordClaim(boolean claimed) {
+    meter().counterBuilder("tpf.orchestrator.claim.total")
+        .setDescription("Queue-async execution lease claims by outcome")
+        .setUnit("claims")
+        .build()
+        .add(1, claimed ? CLAIMED : CONFLICT);
+  }
+
+  /**
+   * Record how overdue the oldest due execution of a swept shard was.
+   */
+  static void recordShardLag(int shard, boolean stolen, long lagMs) {
+    meter().histogramBuilder("tpf.orchestrator.sweep.shard.lag")
+        .setDescription("Age of the oldest due execution found per swept shard")
+        .setUnit("ms")
+        .build()
+        .record(Math.max(0L, lagMs), Attributes.of(SHARD, (long) shard, STOLEN, stolen));
+  }
+
+  /**
+   * Record a change in the shards owned by this replica.
+   */
+  static void recordRebalance() {
+    meter().counterBuilder("tpf.orchestrator.sweep.rebalance.total")
+        .setDescription("Sweep shard ownership changes observed by this replica")
+        .setUnit("1")
+        .build()
+        .add(1);
+  }
+
+  private static Meter meter() {
+    return TelemetryCompatibilityAccess.metricsRuntime().meter("org.pipelineframework.orchestrator");
+  }
+}
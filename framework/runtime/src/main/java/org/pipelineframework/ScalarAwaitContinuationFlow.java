@@ -161,7 +161,8 @@ class ScalarAwaitContinuationFlow {
             nowEpochMs)
         .chain(() -> workDispatcher.enqueueNow(new ExecutionWorkItem(
             released.tenantId(),
-            released.executionId())))
+            released.executionId(),
+            released.priority())))
         .invoke(() -> {
           LOG.infof(
               "Resuming async execution %s from awaitUnitId=%s at nextStepIndex=%d",
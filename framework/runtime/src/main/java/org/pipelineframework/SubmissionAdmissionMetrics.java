@@ -0,0 +1,51 @@
+package org.pipelineframework;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.Meter;
+import org.pipelineframework.orchestrator.ControlPlaneAdmissionDecision;
+import org.pipelineframework.telemetry.TelemetryCompatibilityAccess;
+
+/**
+ * Queue-async submission admission metrics: admitted, shed and denied submissions, and the due execution backlog
+ * they were admitted against.
+ */
+final class SubmissionAdmissionMetrics {
+
+  private static final AttributeKey<String> OUTCOME = AttributeKey.stringKey("tpf.admission.outcome");
+  private static final AttributeKey<String> REASON = AttributeKey.stringKey("tpf.admission.reason");
+  private static final Attributes ADMITTED = Attributes.of(OUTCOME, "admitted");
+
+  private SubmissionAdmissionMetrics() {
+  }
+
+  /**
+   * Record one submission admission decision. Shed submissions carry a retry-after hint; denied ones do not.
+   */
+  static void record(ControlPlaneAdmissionDecision decision) {
+    Attributes attributes = decision.allowed()
+        ? ADMITTED
+        : Attributes.of(OUTCOME, decision.retryable() ? "shed" : "denied", REASON, decision.errorCode());
+    meter().counterBuilder("tpf.orchestrator.submission.total")
+        .setDescription("Queue-async submissions by admission outcome")
+        .setUnit("submissions")
+        .build()
+        .add(1, attributes);
+  }
+
+  /**
+   * Record one reading of the due execution backlog, capped at the shedding depth.
+   */
+  static void recordBacklog(int depth) {
+    meter().histogramBuilder("tpf.orchestrator.submission.backlog")
+        .setDescription("Due executions queued ahead of new submissions, capped at the shedding depth")
+        .setUnit("executions")
+        .ofLongs()
+        .build()
+        .record(Math.max(0, depth));
+  }
+
+  private static Meter meter() {
+    return TelemetryCompatibilityAccess.metricsRuntime().meter("org.pipelineframework.orchestrator");
+  }
+}
@@ -0,0 +1,33 @@
+package org.pipelineframework;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Sweep shards owned by this coordinator replica.
+ *
+ * @param shardCount total shard count shared by all replicas
+ * @param ownedShards owned shard indexes in ascending order
+ */
+record SweepAssignment(int shardCount, List<Integer> ownedShards) {
+
+  SweepAssignment {
+    if (shardCount <= 0) {
+      throw new IllegalArgumentException("shardCount must be positive");
+    }
+    Objects.requireNonNull(ownedShards, "ownedShards must not be null");
+    ownedShards = List.copyOf(ownedShards);
+  }
+
+  static SweepAssignment unsharded() {
+    return new SweepAssignment(1, List.of(0));
+  }
+
+  boolean sharded() {
+    return shardCount > 1;
+  }
+
+  boolean owns(int shard) {
+    return ownedShards.contains(shard);
+  }
+}
@@ -0,0 +1,46 @@
+package org.pipelineframework;
+
+import java.time.Duration;
+
+/**
+ * Gap between safety-net sweeps of due executions.
+ *
+ * <p>Retries, deferrals and released awaits are dispatched by the work dispatcher when they fall due, so the sweep
+ * only recovers work whose wake-up was lost, such as leases left by a crashed worker. The gap starts at the sweep
+ * interval, doubles after each pass that finds nothing due, up to the idle interval, and drops back to the sweep
+ * interval after a pass that dispatches work or fails.</p>
+ */
+final class SweepCadence {
+
+  private static final long MIN_INTERVAL_MS = 1000L;
+
+  private final long intervalMs;
+  private final long idleIntervalMs;
+  private long currentMs;
+
+  SweepCadence(Duration interval, Duration idleInterval) {
+    this.intervalMs = Math.max(MIN_INTERVAL_MS, interval == null ? 30_000L : interval.toMillis());
+    this.idleIntervalMs = idleInterval == null ? intervalMs : Math.max(intervalMs, idleInterval.toMillis());
+    this.currentMs = intervalMs;
+  }
+
+  /**
+   * Delay before the first sweep.
+   *
+   * @return delay in milliseconds
+   */
+  synchronized long initialDelayMs() {
+    return intervalMs;
+  }
+
+  /**
+   * Delay before the next sweep.
+   *
+   * @param busy whether the pass dispatched work or failed
+   * @return delay in milliseconds
+   */
+  synchronized long next(boolean busy) {
+    currentMs = busy ? intervalMs : Math.min(idleIntervalMs, currentMs * 2);
+    return currentMs;
+  }
+}
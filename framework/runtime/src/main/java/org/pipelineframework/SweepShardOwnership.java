@@ -0,0 +1,163 @@
+package org.pipelineframework;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import io.smallrye.mutiny.Uni;
+import org.jboss.logging.Logger;
+import org.pipelineframework.orchestrator.ExecutionSweepShards;
+import org.pipelineframework.orchestrator.worker.PipelineWorkerRecord;
+import org.pipelineframework.orchestrator.worker.PipelineWorkerRegistration;
+import org.pipelineframework.orchestrator.worker.PipelineWorkerRegistry;
+import org.pipelineframework.orchestrator.worker.PipelineWorkerState;
+
+/**
+ * Leases sweep shards to coordinator replicas through the worker lifecycle registry.
+ *
+ * <p>Each replica registers itself under a tenant in the registry's reserved namespace, so no real tenant shares its
+ * records. Membership is refreshed on its own schedule, every {@link #refreshInterval()}, and sweep passes read the
+ * last assignment without calling the registry. Shards are assigned by rendezvous hashing over the healthy members, so a membership change only moves the shards of the member
+ * that joined or left. Replicas that disagree briefly during a change at worst sweep a shard twice; lease claims keep
+ * that safe. When the registry cannot be read, the last known assignment is kept, and a replica that never saw one
+ * owns every shard.</p>
+ */
+final class SweepShardOwnership {
+
+  static final String MEMBERSHIP_TENANT = PipelineWorkerRegistry.RESERVED_TENANT_PREFIX + "sweep";
+  private static final Duration MIN_REFRESH_INTERVAL = Duration.ofSeconds(1);
+  static final String MEMBERSHIP_PROTOCOL = "sweep";
+
+  private static final Logger LOG = Logger.getLogger(SweepShardOwnership.class);
+
+  private final Supplier<PipelineWorkerRegistry> workerRegistry;
+  private final String pipelineId;
+  private final String memberId;
+  private final int shardCount;
+  private final Duration staleAfter;
+  private volatile SweepAssignment current;
+
+  SweepShardOwnership(
+      Supplier<PipelineWorkerRegistry> workerRegistry,
+      String pipelineId,
+      String memberId,
+      int shardCount,
+      Duration staleAfter) {
+    this.workerRegistry = Objects.requireNonNull(workerRegistry, "workerRegistry must not be null");
+    this.pipelineId = Objects.requireNonNull(pipelineId, "pipelineId must not be null");
+    this.memberId = Objects.requireNonNull(memberId, "memberId must not be null");
+    this.shardCount = Math.max(1, shardCount);
+    this.staleAfter = Objects.requireNonNull(staleAfter, "staleAfter must not be null");
+  }
+
+  /**
+   * Time between membership refreshes: a quarter of the stale-after window, so a replica misses three refreshes
+   * before others drop it.
+   */
+  Duration refreshInterval() {
+    Duration quarter = staleAfter.dividedBy(4);
+    return quarter.compareTo(MIN_REFRESH_INTERVAL) < 0 ? MIN_REFRESH_INTERVAL : quarter;
+  }
+
+  /**
+   * Returns the shards this replica owns as of the last refresh, refreshing only when none has completed yet.
+   */
+  Uni<SweepAssignment> assignment(long nowEpochMs) {
+    SweepAssignment known = current;
+    if (known != null && shardCount > 1 && workerRegistry.get() != null) {
+      return Uni.createFrom().item(known);
+    }
+    return refresh(nowEpochMs);
+  }
+
+  /**
+   * Heartbeats this replica and recomputes its owned shards from the live membership.
+   */
+  Uni<SweepAssignment> refresh(long nowEpochMs) {
+    PipelineWorkerRegistry registry = workerRegistry.get();
+    if (shardCount == 1 || registry == null) {
+      return Uni.createFrom().item(SweepAssignment.unsharded());
+    }
+    return registry.heartbeat(MEMBERSHIP_TENANT, pipelineId, memberId, nowEpochMs, staleAfter)
+        .onItem().transformToUni(heartbeat -> heartbeat.isPresent()
+            ? Uni.createFrom().voidItem()
+            : registry.register(registration(), nowEpochMs).replaceWithVoid())
+        .chain(() -> registry.list(MEMBERSHIP_TENANT, pipelineId, nowEpochMs, staleAfter))
+        .onItem().transform(this::assign)
+        .onFailure().recoverWithItem(failure -> {
+          SweepAssignment fallback = current == null ? allShards() : current;
+          LOG.warnf(failure, "Failed refreshing sweep shard membership; sweeping %s of %s shards",
+              fallback.ownedShards().size(), shardCount);
+          return fallback;
+        });
+  }
+
+  /**
+   * Marks this replica as draining so its shards move to the remaining members on their next pass.
+   */
+  Uni<Void> leave(long nowEpochMs) {
+    PipelineWorkerRegistry registry = workerRegistry.get();
+    if (shardCount == 1 || registry == null) {
+      return Uni.createFrom().voidItem();
+    }
+    return registry.markDraining(MEMBERSHIP_TENANT, pipelineId, memberId, nowEpochMs, staleAfter).replaceWithVoid();
+  }
+
+  static List<Integer> ownedShards(String memberId, List<String> members, int shardCount) {
+    List<Integer> owned = new ArrayList<>();
+    for (int shard = 0; shard < shardCount; shard++) {
+      String owner = null;
+      long ownerWeight = Long.MIN_VALUE;
+      for (String member : members) {
+        long weight = ExecutionSweepShards.mix(((long) member.hashCode() << 32) ^ shard);
+        if (owner == null || weight > ownerWeight || weight == ownerWeight && member.compareTo(owner) < 0) {
+          owner = member;
+          ownerWeight = weight;
+        }
+      }
+      if (memberId.equals(owner)) {
+        owned.add(shard);
+      }
+    }
+    return owned;
+  }
+
+  private SweepAssignment assign(List<PipelineWorkerRecord> records) {
+    List<String> members = new ArrayList<>(records.stream()
+        .filter(record -> record.state() == PipelineWorkerState.HEALTHY)
+        .map(PipelineWorkerRecord::workerId)
+        .distinct()
+        .toList());
+    if (!members.contains(memberId)) {
+      members.add(memberId);
+    }
+    SweepAssignment next = new SweepAssignment(shardCount, ownedShards(memberId, members, shardCount));
+    SweepAssignment previous = current;
+    if (previous == null || !previous.ownedShards().equals(next.ownedShards())) {
+      LOG.infof("Sweep shards rebalanced member=%s members=%d owned=%s", memberId, members.size(), next.ownedShards());
+      QueueSweepMetrics.recordRebalance();
+    }
+    current = next;
+    return next;
+  }
+
+  private SweepAssignment allShards() {
+    return new SweepAssignment(shardCount, IntStream.range(0, shardCount).boxed().toList());
+  }
+
+  private PipelineWorkerRegistration registration() {
+    return new PipelineWorkerRegistration(
+        MEMBERSHIP_TENANT,
+        pipelineId,
+        MEMBERSHIP_PROTOCOL,
+        MEMBERSHIP_PROTOCOL,
+        memberId,
+        MEMBERSHIP_PROTOCOL,
+        "",
+        "",
+        "");
+  }
+}
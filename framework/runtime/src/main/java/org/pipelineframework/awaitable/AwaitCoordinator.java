@@ -1,5 +1,6 @@
 package org.pipelineframework.awaitable;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
@@ -14,6 +15,7 @@ import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import io.smallrye.mutiny.CompositeException;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
@@ -36,6 +38,8 @@ import org.pipelineframework.telemetry.PipelineReplayTelemetry;
 public class AwaitCoordinator {
     private static final Logger LOG = Logger.getLogger(AwaitCoordinator.class);
     private static final String COMPLETION_PROJECTOR_METADATA = "tpf.await.completion.projector";
+    /** How long granted admissions of one itemized batch are gathered before they are dispatched together. */
+    static final Duration ADMISSION_GATHER_WINDOW = Duration.ofMillis(5);
 
     @Inject
     Instance<AwaitInteractionStore> interactionStores;
@@ -167,6 +171,55 @@ public class AwaitCoordinator {
             });
     }
 
+    /**
+     * Creates and dispatches a batch of items in one itemized await unit.
+     *
+     * <p>The descriptor and unit are registered once for the whole batch and admission is acquired per item
+     * concurrently. Items whose leases are granted within {@link #ADMISSION_GATHER_WINDOW} of each other are
+     * written through {@link AwaitInteractionStore#createOrGetAll(List)} and dispatched together right away,
+     * so the batch never holds granted leases while it waits for more: admission capacity is shared with
+     * other executions and replicas, which would otherwise each hold part of it and wait for the rest.</p>
+     *
+     * <p>Items that cannot be admitted, created or dispatched do not stop the others; the first failure is
+     * reported once every admitted item is settled.</p>
+     *
+     * @return the dispatched interactions in item order; items already past {@code WAITING} are not resent
+     */
+    public Uni<List<AwaitInteractionRecord>> createAndDispatchItems(
+        AwaitStepDescriptor descriptor,
+        String tenantId,
+        String executionId,
+        int stepIndex,
+        String unitId,
+        List<ItemRequest> items,
+        String assignee,
+        String group
+    ) {
+        return createAndDispatchItems(descriptor, tenantId, executionId, stepIndex, unitId, items, assignee, group,
+            traceMetadataForCurrentExecution());
+    }
+
+    Uni<List<AwaitInteractionRecord>> createAndDispatchItems(
+        AwaitStepDescriptor descriptor,
+        String tenantId,
+        String executionId,
+        int stepIndex,
+        String unitId,
+        List<ItemRequest> items,
+        String assignee,
+        String group,
+        Map<String, Object> traceMetadata
+    ) {
+        List<ItemRequest> requested = List.copyOf(items);
+        if (requested.isEmpty()) {
+            return Uni.createFrom().item(List.of());
+        }
+        return registerDescriptor(descriptor)
+            .onItem().transformToUni(registered -> createOrGetUnit(registered, tenantId, unitId, executionId, stepIndex)
+                .onItem().transformToUni(unit -> admitAndDispatchItems(
+                    registered, unitId, tenantId, executionId, stepIndex, requested, assignee, group, traceMetadata)));
+    }
+
     /** Creates the durable unit once before a live itemized source begins concurrent dispatch. */
     public Uni<Void> prepareLiveItemizedUnit(
         AwaitStepDescriptor descriptor,
@@ -226,41 +279,152 @@ public class AwaitCoordinator {
     public Uni<AwaitInteractionRecord> dispatch(AwaitStepDescriptor descriptor, AwaitInteractionRecord interaction) {
         AwaitStepDescriptor registered = descriptorFor(interaction);
         AwaitTransportAdapter<Object> adapter = (AwaitTransportAdapter<Object>) adapter(registered.transportType());
-        long nowEpochMs = System.currentTimeMillis();
+        return claimForDispatch(interaction)
+            .onItem().transformToUni(claimedInteraction -> settleDispatch(
+                claimedInteraction,
+                awaitTelemetry.inProviderDispatchSpan(
+                    claimedInteraction,
+                    () -> adapter.dispatch(new AwaitTransportAdapter.AwaitDispatchRequest<>(
+                        registered,
+                        claimedInteraction,
+                        transportRequestPayload(registered, claimedInteraction))))));
+    }
+
+    /**
+     * Dispatches WAITING interactions of one await step through a single
+     * {@link AwaitTransportAdapter#dispatchAll(List)} call. Each interaction is claimed and settled exactly
+     * as {@link #dispatch(AwaitStepDescriptor, AwaitInteractionRecord)} does, and keeps its own provider
+     * dispatch span; a rejected item is failed and releases its admission without affecting the others.
+     *
+     * <p>An interaction whose claim fails, for example because another dispatcher won the OCC race, is
+     * left as it is and the other claimed interactions are still dispatched, so none is stranded in
+     * {@code DISPATCHING}. The first claim or dispatch failure is reported once every claimed item is
+     * settled.</p>
+     *
+     * @return dispatched interactions, in input order
+     */
+    @SuppressWarnings("unchecked")
+    public Uni<List<AwaitInteractionRecord>> dispatchAll(
+        AwaitStepDescriptor descriptor,
+        List<AwaitInteractionRecord> interactions
+    ) {
+        List<AwaitInteractionRecord> requested = List.copyOf(interactions);
+        if (requested.isEmpty()) {
+            return Uni.createFrom().item(List.of());
+        }
+        if (requested.size() == 1) {
+            return dispatch(descriptor, requested.getFirst()).onItem().transform(List::of);
+        }
+        AwaitStepDescriptor registered = descriptorFor(requested.getFirst());
+        AwaitTransportAdapter<Object> adapter = (AwaitTransportAdapter<Object>) adapter(registered.transportType());
+        return Uni.join().all(requested.stream()
+                .map(interaction -> claimForDispatch(interaction)
+                    .onItem().transform(DispatchClaim::claimed)
+                    .onFailure().recoverWithItem(DispatchClaim::lost))
+                .toList())
+            .andFailFast()
+            .onItem().transformToUni(claims -> {
+                List<AwaitInteractionRecord> claimed = claims.stream()
+                    .filter(claim -> claim.failure() == null)
+                    .map(DispatchClaim::interaction)
+                    .toList();
+                List<Throwable> lost = claims.stream()
+                    .map(DispatchClaim::failure)
+                    .filter(Objects::nonNull)
+                    .toList();
+                Uni<List<AwaitInteractionRecord>> dispatched = claimed.isEmpty()
+                    ? Uni.createFrom().item(List.of())
+                    : dispatchClaimed(registered, adapter, claimed);
+                if (lost.isEmpty()) {
+                    return dispatched;
+                }
+                return dispatched
+                    .onFailure().invoke(failure -> lost.forEach(failure::addSuppressed))
+                    .onItem().failWith(ignored -> firstWithSuppressed(lost));
+            });
+    }
+
+    private Uni<List<AwaitInteractionRecord>> dispatchClaimed(
+        AwaitStepDescriptor registered,
+        AwaitTransportAdapter<Object> adapter,
+        List<AwaitInteractionRecord> claimed
+    ) {
+        Uni<List<AwaitTransportAdapter.AwaitDispatchOutcome>> sent = Uni.createFrom().deferred(() -> adapter.dispatchAll(
+                claimed.stream()
+                    .map(claimedInteraction -> new AwaitTransportAdapter.AwaitDispatchRequest<>(
+                        registered,
+                        claimedInteraction,
+                        transportRequestPayload(registered, claimedInteraction)))
+                    .toList()))
+            .onItem().transform(outcomes -> {
+                if (outcomes.size() != claimed.size()) {
+                    throw new IllegalStateException("Await transport " + registered.transportType()
+                        + " returned " + outcomes.size() + " dispatch outcomes for " + claimed.size() + " requests");
+                }
+                return outcomes;
+            })
+            .memoize().indefinitely();
+        List<Uni<AwaitInteractionRecord>> settled = new ArrayList<>(claimed.size());
+        for (int index = 0; index < claimed.size(); index++) {
+            int position = index;
+            AwaitInteractionRecord claimedInteraction = claimed.get(position);
+            settled.add(settleDispatch(claimedInteraction, awaitTelemetry.inProviderDispatchSpan(
+                claimedInteraction,
+                () -> sent.onItem().transformToUni(outcomes -> {
+                    AwaitTransportAdapter.AwaitDispatchOutcome outcome = outcomes.get(position);
+                    return outcome.failure() == null
+                        ? Uni.createFrom().item(outcome.result())
+                        : Uni.createFrom().failure(outcome.failure());
+                }))));
+        }
+        // Every item reaches its durable dispatched or failed state before the first failure is reported.
+        return Uni.join().all(settled).andCollectFailures()
+            .onFailure(CompositeException.class).transform(failure ->
+                firstWithSuppressed(((CompositeException) failure).getCauses()));
+    }
+
+    private static Throwable firstWithSuppressed(List<Throwable> failures) {
+        Throwable first = failures.getFirst();
+        failures.stream().skip(1).forEach(first::addSuppressed);
+        return first;
+    }
+
+    private Uni<AwaitInteractionRecord> claimForDispatch(AwaitInteractionRecord interaction) {
         return interactionStore().markDispatching(
                 interaction.tenantId(),
                 interaction.interactionId(),
                 interaction.version(),
-                nowEpochMs)
+                System.currentTimeMillis())
             .onItem().transform(optional -> optional.orElseThrow(() ->
                 new IllegalStateException("Await interaction dispatch transition lost OCC race: "
-                    + interaction.interactionId())))
-            .onItem().transformToUni(claimedInteraction -> awaitTelemetry.inProviderDispatchSpan(
-                claimedInteraction,
-                () -> adapter.dispatch(new AwaitTransportAdapter.AwaitDispatchRequest<>(
-                    registered,
-                    claimedInteraction,
-                    transportRequestPayload(registered, claimedInteraction))))
-                .onFailure().call(failure -> interactionStore().fail(
-                    claimedInteraction.tenantId(),
-                    claimedInteraction.interactionId(),
-                    claimedInteraction.version(),
-                    failure.getMessage(),
-                    System.currentTimeMillis())
-                    .onItem().transformToUni(updated -> updated
-                        .map(this::releaseAdmission)
-                        .orElseGet(() -> Uni.createFrom().voidItem()))
-                    .replaceWithVoid())
-                .onItem().transformToUni(result -> interactionStore().markDispatched(
-                    claimedInteraction.tenantId(),
-                    claimedInteraction.interactionId(),
-                    claimedInteraction.version(),
-                    dispatchMetadata(claimedInteraction, result.metadata()),
-                    System.currentTimeMillis()))
-                .onItem().transformToUni(optional -> optional
-                    .map(Uni.createFrom()::item)
-                    .orElseGet(() -> resolvedAfterDispatchMetadataRace(claimedInteraction)))
-                .onItem().invoke(this::recordInteractionDispatched));
+                    + interaction.interactionId())));
+    }
+
+    private Uni<AwaitInteractionRecord> settleDispatch(
+        AwaitInteractionRecord claimedInteraction,
+        Uni<AwaitTransportAdapter.AwaitDispatchResult> sent
+    ) {
+        return sent
+            .onFailure().call(failure -> interactionStore().fail(
+                claimedInteraction.tenantId(),
+                claimedInteraction.interactionId(),
+                claimedInteraction.version(),
+                failure.getMessage(),
+                System.currentTimeMillis())
+                .onItem().transformToUni(updated -> updated
+                    .map(this::releaseAdmission)
+                    .orElseGet(() -> Uni.createFrom().voidItem()))
+                .replaceWithVoid())
+            .onItem().transformToUni(result -> interactionStore().markDispatched(
+                claimedInteraction.tenantId(),
+                claimedInteraction.interactionId(),
+                claimedInteraction.version(),
+                dispatchMetadata(claimedInteraction, result.metadata()),
+                System.currentTimeMillis()))
+            .onItem().transformToUni(optional -> optional
+                .map(Uni.createFrom()::item)
+                .orElseGet(() -> resolvedAfterDispatchMetadataRace(claimedInteraction)))
+            .onItem().invoke(this::recordInteractionDispatched);
     }
 
     /**
@@ -722,6 +886,126 @@ public class AwaitCoordinator {
         String assignee,
         String group,
         Map<String, Object> traceMetadata
+    ) {
+        AwaitCreateCommand command = createCommand(descriptor, unitId, tenantId, executionId, stepIndex, causationId,
+            requestPayload, itemIndex, assignee, group, traceMetadata);
+        return acquireAdmission(descriptor, command)
+            .onItem().transformToUni(lease -> interactionStore().createOrGet(command)
+                .onItem().transformToUni(created -> bindOrReleaseAdmission(created, lease))
+                .onItem().invoke(created -> {
+                    if (!created.duplicate()) {
+                    awaitTelemetry.recordInteractionCreated(created.record());
+                    }
+                })
+                .onFailure().call(ignored -> releaseAdmissionAfterDefiniteCreateFailure(
+                    lease, tenantId, command.correlationId())));
+    }
+
+    private Uni<List<AwaitInteractionRecord>> admitAndDispatchItems(
+        AwaitStepDescriptor descriptor,
+        String unitId,
+        String tenantId,
+        String executionId,
+        int stepIndex,
+        List<ItemRequest> items,
+        String assignee,
+        String group,
+        Map<String, Object> traceMetadata
+    ) {
+        List<AwaitCreateCommand> commands = items.stream()
+            .map(item -> createCommand(descriptor, unitId, tenantId, executionId, stepIndex, item.causationId(),
+                item.requestPayload(), item.itemIndex(), assignee, group, traceMetadata))
+            .toList();
+        return Multi.createFrom().iterable(commands)
+            .onItem().transformToUni(command -> acquireAdmission(descriptor, command)
+                .onItem().transform(lease -> ItemAdmission.granted(command, lease))
+                .onFailure().recoverWithItem(ItemAdmission::refused))
+            .merge(commands.size())
+            .group().intoLists().of(commands.size(), ADMISSION_GATHER_WINDOW)
+            .onItem().transformToUni(admissions -> createAndDispatchAdmitted(descriptor, tenantId, admissions))
+            .merge(commands.size())
+            .collect().asList()
+            .onItem().transformToUni(batches -> {
+                List<Throwable> failures = batches.stream()
+                    .flatMap(batch -> batch.failures().stream())
+                    .toList();
+                if (!failures.isEmpty()) {
+                    return Uni.createFrom().failure(firstWithSuppressed(failures));
+                }
+                return Uni.createFrom().item(batches.stream()
+                    .flatMap(batch -> batch.dispatched().stream())
+                    .sorted(java.util.Comparator.comparing(AwaitInteractionRecord::itemIndex))
+                    .toList());
+            });
+    }
+
+    /**
+     * Creates and dispatches the items of one admission window. Failures are collected rather than raised,
+     * so a failing window cannot cancel another window that is still settling its dispatch.
+     */
+    private Uni<AdmittedBatch> createAndDispatchAdmitted(
+        AwaitStepDescriptor descriptor,
+        String tenantId,
+        List<ItemAdmission> admissions
+    ) {
+        List<Throwable> refused = admissions.stream()
+            .map(ItemAdmission::failure)
+            .filter(Objects::nonNull)
+            .toList();
+        List<ItemAdmission> granted = admissions.stream()
+            .filter(admission -> admission.failure() == null)
+            .toList();
+        if (granted.isEmpty()) {
+            return Uni.createFrom().item(new AdmittedBatch(List.of(), refused));
+        }
+        return createItemInteractions(tenantId, granted)
+            .onItem().transformToUni(created -> dispatchAll(descriptor, created.stream()
+                .map(AwaitCreateResult::record)
+                .filter(record -> record.status() == AwaitInteractionStatus.WAITING)
+                .toList()))
+            .onItem().transform(dispatched -> new AdmittedBatch(dispatched, refused))
+            .onFailure().recoverWithItem(failure -> {
+                List<Throwable> failures = new ArrayList<>(refused.size() + 1);
+                failures.add(failure);
+                failures.addAll(refused);
+                return new AdmittedBatch(List.of(), failures);
+            });
+    }
+
+    private Uni<List<AwaitCreateResult>> createItemInteractions(String tenantId, List<ItemAdmission> admissions) {
+        List<AwaitCreateCommand> commands = admissions.stream().map(ItemAdmission::command).toList();
+        return interactionStore().createOrGetAll(commands)
+            .onFailure().call(ignored -> Multi.createFrom().iterable(admissions)
+                .onItem().transformToUniAndConcatenate(admission -> releaseAdmissionAfterDefiniteCreateFailure(
+                    admission.lease(), tenantId, admission.command().correlationId()))
+                .collect().last())
+            .onItem().transformToUni(results -> {
+                if (results.size() != commands.size()) {
+                    return Uni.createFrom().failure(new IllegalStateException("Await interaction store returned "
+                        + results.size() + " create results for " + commands.size() + " commands"));
+                }
+                return Multi.createFrom().range(0, results.size())
+                    .onItem().transformToUniAndConcatenate(index ->
+                        bindOrReleaseAdmission(results.get(index), admissions.get(index).lease()))
+                    .collect().asList();
+            })
+            .onItem().invoke(results -> results.stream()
+                .filter(created -> !created.duplicate())
+                .forEach(created -> awaitTelemetry.recordInteractionCreated(created.record())));
+    }
+
+    private AwaitCreateCommand createCommand(
+        AwaitStepDescriptor descriptor,
+        String unitId,
+        String tenantId,
+        String executionId,
+        int stepIndex,
+        String causationId,
+        Object requestPayload,
+        Integer itemIndex,
+        String assignee,
+        String group,
+        Map<String, Object> traceMetadata
     ) {
         Object canonicalRequestPayload = restoreCanonicalRequestPayload(descriptor, requestPayload);
         long now = System.currentTimeMillis();
@@ -730,34 +1014,26 @@ public class AwaitCoordinator {
         String idempotencyKey = deriveIdempotencyKey(descriptor, executionId, canonicalRequestPayload)
             + (itemIndex == null ? "" : ":item=" + itemIndex);
         String correlationId = deriveCorrelationId(descriptor, tenantId, executionId, idempotencyKey);
-        return acquireAdmission(descriptor, tenantId, unitId, itemIndex, executionId, deadline)
-            .onItem().transformToUni(lease -> interactionStore().createOrGet(new AwaitCreateCommand(
-                tenantId,
-                executionId,
-                descriptor.stepId(),
-                stepIndex,
-                descriptor.outputType(),
-                descriptor.transportOutputType(),
-                causationId,
-                idempotencyKey,
-                correlationId,
-                canonicalRequestPayload,
-                assignee,
-                group,
-                descriptor.transportType(),
-                unitId,
-                itemIndex,
-                completionContractMetadata(descriptor, traceMetadata),
-                now,
-                deadline,
-                ttl))
-                .onItem().transformToUni(created -> bindOrReleaseAdmission(created, lease))
-                .onItem().invoke(created -> {
-                    if (!created.duplicate()) {
-                    awaitTelemetry.recordInteractionCreated(created.record());
-                    }
-                })
-                .onFailure().call(ignored -> releaseAdmissionAfterDefiniteCreateFailure(lease, tenantId, correlationId)));
+        return new AwaitCreateCommand(
+            tenantId,
+            executionId,
+            descriptor.stepId(),
+            stepIndex,
+            descriptor.outputType(),
+            descriptor.transportOutputType(),
+            causationId,
+            idempotencyKey,
+            correlationId,
+            canonicalRequestPayload,
+            assignee,
+            group,
+            descriptor.transportType(),
+            unitId,
+            itemIndex,
+            completionContractMetadata(descriptor, traceMetadata),
+            now,
+            deadline,
+            ttl);
     }
 
     private Uni<AwaitCreateResult> createItemInPreparedUnit(
@@ -849,15 +1125,12 @@ public class AwaitCoordinator {
 
     private Uni<Optional<AwaitAdmissionCoordinator.AdmissionLease>> acquireAdmission(
         AwaitStepDescriptor descriptor,
-        String tenantId,
-        String unitId,
-        Integer itemIndex,
-        String executionId,
-        long deadlineEpochMs
+        AwaitCreateCommand command
     ) {
         return awaitAdmissionCoordinator == null
             ? Uni.createFrom().item(Optional.empty())
-            : awaitAdmissionCoordinator.acquire(descriptor, tenantId, unitId, itemIndex, executionId, deadlineEpochMs);
+            : awaitAdmissionCoordinator.acquire(descriptor, command.tenantId(), command.unitId(), command.itemIndex(),
+                command.executionId(), command.deadlineEpochMs());
     }
 
     private void bindAdmission(AwaitInteractionRecord interaction, Optional<AwaitAdmissionCoordinator.AdmissionLease> lease) {
@@ -1299,6 +1572,51 @@ public class AwaitCoordinator {
             command.nowEpochMs());
     }
 
+    /**
+     * One item of an itemized await batch.
+     *
+     * @param itemIndex zero-based item index within the await unit
+     * @param causationId stable causation identifier for the item
+     * @param requestPayload item request payload
+     */
+    public record ItemRequest(int itemIndex, String causationId, Object requestPayload) {
+        public ItemRequest {
+            if (itemIndex < 0) {
+                throw new IllegalArgumentException("itemIndex must be non-negative");
+            }
+        }
+    }
+
+    private record DispatchClaim(AwaitInteractionRecord interaction, Throwable failure) {
+        static DispatchClaim claimed(AwaitInteractionRecord interaction) {
+            return new DispatchClaim(interaction, null);
+        }
+
+        static DispatchClaim lost(Throwable failure) {
+            return new DispatchClaim(null, failure);
+        }
+    }
+
+    private record ItemAdmission(
+        AwaitCreateCommand command,
+        Optional<AwaitAdmissionCoordinator.AdmissionLease> lease,
+        Throwable failure
+    ) {
+        static ItemAdmission granted(
+            AwaitCreateCommand command,
+            Optional<AwaitAdmissionCoordinator.AdmissionLease> lease
+        ) {
+            return new ItemAdmission(command, lease, null);
+        }
+
+        static ItemAdmission refused(Throwable failure) {
+            return new ItemAdmission(null, Optional.empty(), failure);
+        }
+    }
+
+    private record AdmittedBatch(List<AwaitInteractionRecord> dispatched, List<Throwable> failures) {
+    }
+
     private record ValidatedCompletion(
         AwaitInteractionRecord record,
         AwaitCompletionCommand command,
@@ -1,5 +1,6 @@
 package org.pipelineframework.awaitable;
 
+import org.pipelineframework.runtime.core.ExecutionContextKey;
 import org.pipelineframework.runtime.core.RuntimeAdapters;
 
 /**
@@ -25,17 +26,15 @@ import org.pipelineframework.runtime.core.RuntimeAdapters;
  * </ul>
  */
 public final class AwaitExecutionContextHolder {
-    private static final String CONTEXT_KEY = AwaitExecutionContextHolder.class.getName() + ".context";
+    /** Slot-registered carrier key, for capturing this holder's value together with others. */
+    public static final ExecutionContextKey<AwaitExecutionContext> CONTEXT_KEY =
+        ExecutionContextKey.of(AwaitExecutionContextHolder.class.getName() + ".context", AwaitExecutionContext.class);
 
     private AwaitExecutionContextHolder() {
     }
 
     public static AwaitExecutionContext get() {
-        Object value = RuntimeAdapters.executionContext(CONTEXT_KEY, Object.class);
-        if (value instanceof AwaitExecutionContext awaitExecutionContext) {
-            return awaitExecutionContext;
-        }
-        return null;
+        return RuntimeAdapters.executionContext(CONTEXT_KEY);
     }
 
     public static void set(AwaitExecutionContext context) {
@@ -6,6 +6,7 @@ import com.google.protobuf.Message;
 import com.google.protobuf.MessageOrBuilder;
 import com.google.protobuf.util.JsonFormat;
 import org.pipelineframework.config.pipeline.PipelineJson;
+import org.pipelineframework.util.ProtobufMessageRegistry;
 
 /**
  * Normalizes await payloads into JSON-safe snapshots for persistence and transport envelopes.
@@ -54,7 +55,7 @@ public final class AwaitPayloadSupport {
                 String json = payload instanceof String text
                     ? text
                     : PipelineJson.mapper().writeValueAsString(payload);
-                Message.Builder builder = (Message.Builder) outputType.getMethod("newBuilder").invoke(null);
+                Message.Builder builder = ProtobufMessageRegistry.newBuilder(outputType);
                 JsonFormat.parser().ignoringUnknownFields().merge(json, builder);
                 return builder.build();
             }
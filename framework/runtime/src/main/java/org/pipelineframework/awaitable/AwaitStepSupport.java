@@ -398,30 +398,27 @@ public class AwaitStepSupport {
         int stepIndex = context.currentStepIndex();
         String unitId = streamUnitId(descriptor, context, stepIndex);
         AtomicInteger itemIndex = new AtomicInteger();
-        java.util.function.Function<I, Uni<? extends AwaitInteractionRecord>> itemDispatch = item -> {
-            int index = itemIndex.getAndIncrement();
-            return withAwaitExecutionContext(context, () -> awaitCoordinator.createOrGetItem(
-                descriptor,
-                context.tenantId(),
-                context.executionId(),
-                stepIndex,
-                context.executionId() + ":" + stepIndex + ":" + index,
-                item,
-                unitId,
-                index,
-                null,
-                null)
-                .onItem().transformToUni(created -> {
-                    AwaitInteractionRecord record = created.record();
-                    return record.status() == AwaitInteractionStatus.WAITING
-                        ? awaitCoordinator.dispatch(descriptor, record)
-                        : Uni.createFrom().item(record);
-                }));
-        };
-        Multi<AwaitInteractionRecord> dispatched = pipelineConfig != null
-                && pipelineConfig.parallelism() == ParallelismPolicy.SEQUENTIAL
-            ? input.onItem().transformToUni(itemDispatch).concatenate()
-            : input.onItem().transformToUni(itemDispatch).merge(awaitMaxConcurrency());
+        // Batches run one at a time and never exceed the await window; each admitted item is dispatched as its lease arrives.
+        int batchSize = pipelineConfig != null && pipelineConfig.parallelism() == ParallelismPolicy.SEQUENTIAL
+            ? 1
+            : awaitMaxConcurrency();
+        Multi<AwaitInteractionRecord> dispatched = input
+            .onItem().transform(item -> {
+                int index = itemIndex.getAndIncrement();
+                return new AwaitCoordinator.ItemRequest(index, context.executionId() + ":" + stepIndex + ":" + index, item);
+            })
+            .group().intoLists().of(batchSize)
+            .onItem().transformToUniAndConcatenate(items -> withAwaitExecutionContext(context, () ->
+                awaitCoordinator.createAndDispatchItems(
+                    descriptor,
+                    context.tenantId(),
+                    context.executionId(),
+                    stepIndex,
+                    unitId,
+                    items,
+                    null,
+                    null)))
+            .onItem().transformToIterable(records -> records);
         return dispatched
             .collect().in(() -> Boolean.TRUE, (ignored, record) -> {
             })
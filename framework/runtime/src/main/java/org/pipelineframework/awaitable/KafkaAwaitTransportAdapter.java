@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Objects;
+import java.util.function.Function;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Instance;
@@ -19,7 +20,7 @@ import org.pipelineframework.awaitable.spi.AwaitTransportAdapter;
 import org.pipelineframework.config.pipeline.PipelineJson;
 
 /**
- * Await transport adapter that publishes one interaction request to Kafka.
+ * Await transport adapter that publishes interaction requests to Kafka.
  */
 @ApplicationScoped
 public class KafkaAwaitTransportAdapter implements AwaitTransportAdapter<Object> {
@@ -60,6 +61,48 @@ public class KafkaAwaitTransportAdapter implements AwaitTransportAdapter<Object>
     @Override
     public Uni<AwaitDispatchResult> dispatch(AwaitDispatchRequest<Object> request) {
         Objects.requireNonNull(request, "request must not be null");
+        PreparedPublish prepared = prepare(request);
+        return Uni.createFrom().item(prepared::publishRequest)
+            .runSubscriptionOn(Infrastructure.getDefaultExecutor())
+            .onItem().transformToUni(publishRequest -> publisher().publish(publishRequest)
+                .replaceWith(new AwaitDispatchResult(prepared.metadata())));
+    }
+
+    /**
+     * Serializes every envelope first and then hands all records to the publisher at once, so the
+     * producer can batch them instead of waiting for one broker acknowledgement per item.
+     */
+    @Override
+    public Uni<List<AwaitDispatchOutcome>> dispatchAll(List<AwaitDispatchRequest<Object>> requests) {
+        List<AwaitDispatchRequest<Object>> requested = List.copyOf(requests);
+        if (requested.isEmpty()) {
+            return Uni.createFrom().item(List.of());
+        }
+        return Uni.createFrom().item(() -> requested.stream().map(this::serializedSend).toList())
+            .runSubscriptionOn(Infrastructure.getDefaultExecutor())
+            .onItem().transformToUni(sends -> {
+                KafkaAwaitPublisher publisher = publisher();
+                return Uni.join().all(sends.stream()
+                        .map(send -> Uni.createFrom().deferred(() -> send.apply(publisher))
+                            .onItem().transform(AwaitDispatchOutcome::succeeded)
+                            .onFailure().recoverWithItem(AwaitDispatchOutcome::failed))
+                        .toList())
+                    .andFailFast();
+            });
+    }
+
+    private Function<KafkaAwaitPublisher, Uni<AwaitDispatchResult>> serializedSend(AwaitDispatchRequest<Object> request) {
+        try {
+            PreparedPublish prepared = prepare(request);
+            KafkaAwaitPublishRequest publishRequest = prepared.publishRequest();
+            return publisher -> publisher.publish(publishRequest)
+                .replaceWith(new AwaitDispatchResult(prepared.metadata()));
+        } catch (RuntimeException failure) {
+            return ignored -> Uni.createFrom().failure(failure);
+        }
+    }
+
+    private PreparedPublish prepare(AwaitDispatchRequest<Object> request) {
         AwaitStepDescriptor descriptor = request.descriptor();
         AwaitInteractionRecord interaction = request.interaction();
         KafkaConfig config = KafkaConfig.from(descriptor.transportConfig());
@@ -78,17 +121,7 @@ public class KafkaAwaitTransportAdapter implements AwaitTransportAdapter<Object>
             resumeToken,
             normalizedPayload,
             metadata);
-        return Uni.createFrom().item(() -> serializeEnvelope(envelope))
-            .runSubscriptionOn(Infrastructure.getDefaultExecutor())
-            .onItem().transformToUni(body -> {
-                KafkaAwaitPublishRequest publishRequest = new KafkaAwaitPublishRequest(
-                    config.requestTopic(),
-                    key(config.keyStrategy(), interaction),
-                    headers(config, interaction),
-                    body);
-                return publisher().publish(publishRequest)
-                    .replaceWith(new AwaitDispatchResult(metadata));
-            });
+        return new PreparedPublish(config, interaction, envelope, metadata);
     }
 
     private KafkaAwaitPublisher publisher() {
@@ -159,6 +192,21 @@ public class KafkaAwaitTransportAdapter implements AwaitTransportAdapter<Object>
         }
     }
 
+    private record PreparedPublish(
+        KafkaConfig config,
+        AwaitInteractionRecord interaction,
+        KafkaAwaitDispatchEnvelope envelope,
+        Map<String, Object> metadata
+    ) {
+        KafkaAwaitPublishRequest publishRequest() {
+            return new KafkaAwaitPublishRequest(
+                config.requestTopic(),
+                key(config.keyStrategy(), interaction),
+                headers(config, interaction),
+                serializeEnvelope(envelope));
+        }
+    }
+
     record KafkaConfig(
         String requestTopic,
         String responseTopic,
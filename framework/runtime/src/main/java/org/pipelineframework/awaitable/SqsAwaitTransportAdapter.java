@@ -1,10 +1,16 @@
 package org.pipelineframework.awaitable;
 
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Supplier;
 
 import jakarta.annotation.PreDestroy;
@@ -21,14 +27,21 @@ import org.pipelineframework.orchestrator.PipelineOrchestratorConfig;
 import software.amazon.awssdk.http.urlconnection.UrlConnectionHttpClient;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
 import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
 
 /**
- * Await transport adapter that publishes one interaction request to SQS.
+ * Await transport adapter that publishes interaction requests to SQS.
  */
 @ApplicationScoped
 public class SqsAwaitTransportAdapter implements AwaitTransportAdapter<Object> {
 
+    private static final int SEND_BATCH_MAX_ENTRIES = 10;
+    private static final long SEND_BATCH_MAX_BYTES = 256L * 1024;
+
     @Inject
     AwaitResumeTokenService resumeTokenService;
 
@@ -79,28 +92,123 @@ public class SqsAwaitTransportAdapter implements AwaitTransportAdapter<Object> {
     @Override
     public Uni<AwaitDispatchResult> dispatch(AwaitDispatchRequest<Object> request) {
         Objects.requireNonNull(request, "request must not be null");
-        AwaitStepDescriptor descriptor = request.descriptor();
-        AwaitInteractionRecord interaction = request.interaction();
-        SqsConfig config = SqsConfig.from(descriptor.transportConfig());
-        String resumeToken = resumeTokenService.sign(interaction, System.currentTimeMillis());
-        Map<String, Object> metadata = dispatchMetadata(config);
-        Object normalizedPayload = AwaitPayloadSupport.normalize(request.payload());
-        SqsAwaitDispatchEnvelope envelope = SqsAwaitDispatchEnvelope.from(
-            descriptor,
-            interaction,
-            normalizedPayload,
-            resumeToken,
-            metadata);
+        SqsConfig config = SqsConfig.from(request.descriptor().transportConfig());
+        SqsAwaitDispatchEnvelope envelope = envelope(request, config);
         return blocking(() -> serializeEnvelope(envelope))
             .onItem().transformToUni(body -> blocking(() -> {
                 sqsClient().sendMessage(SendMessageRequest.builder()
                     .queueUrl(config.requestQueueUrl())
                     .messageBody(body)
                     .build());
-                return new AwaitDispatchResult(metadata);
+                return new AwaitDispatchResult(envelope.transportMetadata());
             }));
     }
 
+    /**
+     * Sends requests with {@code SendMessageBatch}, grouped per request queue into batches of at most
+     * {@value #SEND_BATCH_MAX_ENTRIES} messages and {@value #SEND_BATCH_MAX_BYTES} body bytes. Entries the
+     * queue rejects fail individually; the rest of their batch stays dispatched.
+     */
+    @Override
+    public Uni<List<AwaitDispatchOutcome>> dispatchAll(List<AwaitDispatchRequest<Object>> requests) {
+        List<AwaitDispatchRequest<Object>> requested = List.copyOf(requests);
+        if (requested.isEmpty()) {
+            return Uni.createFrom().item(List.of());
+        }
+        return blocking(() -> dispatchAllBlocking(requested));
+    }
+
+    private List<AwaitDispatchOutcome> dispatchAllBlocking(List<AwaitDispatchRequest<Object>> requests) {
+        AwaitDispatchOutcome[] outcomes = new AwaitDispatchOutcome[requests.size()];
+        Map<String, List<PreparedSend>> sendsByQueue = new LinkedHashMap<>();
+        for (int index = 0; index < requests.size(); index++) {
+            try {
+                AwaitDispatchRequest<Object> request = requests.get(index);
+                SqsConfig config = SqsConfig.from(request.descriptor().transportConfig());
+                SqsAwaitDispatchEnvelope envelope = envelope(request, config);
+                sendsByQueue.computeIfAbsent(config.requestQueueUrl(), ignored -> new ArrayList<>())
+                    .add(new PreparedSend(index, serializeEnvelope(envelope), envelope.transportMetadata()));
+            } catch (RuntimeException failure) {
+                outcomes[index] = AwaitDispatchOutcome.failed(failure);
+            }
+        }
+        sendsByQueue.forEach((queueUrl, sends) -> {
+            for (List<PreparedSend> batch : sendBatches(sends)) {
+                sendBatch(queueUrl, batch, outcomes);
+            }
+        });
+        return List.of(outcomes);
+    }
+
+    private void sendBatch(String queueUrl, List<PreparedSend> batch, AwaitDispatchOutcome[] outcomes) {
+        SendMessageBatchResponse response;
+        try {
+            response = sqsClient().sendMessageBatch(SendMessageBatchRequest.builder()
+                .queueUrl(queueUrl)
+                .entries(batch.stream()
+                    .map(send -> SendMessageBatchRequestEntry.builder()
+                        .id(send.entryId())
+                        .messageBody(send.body())
+                        .build())
+                    .toList())
+                .build());
+        } catch (RuntimeException failure) {
+            batch.forEach(send -> outcomes[send.index()] = AwaitDispatchOutcome.failed(failure));
+            return;
+        }
+        Set<String> sent = new HashSet<>();
+        response.successful().forEach(entry -> sent.add(entry.id()));
+        Map<String, BatchResultErrorEntry> rejected = new HashMap<>();
+        response.failed().forEach(entry -> rejected.put(entry.id(), entry));
+        for (PreparedSend send : batch) {
+            if (sent.contains(send.entryId())) {
+                outcomes[send.index()] = AwaitDispatchOutcome.succeeded(new AwaitDispatchResult(send.metadata()));
+                continue;
+            }
+            BatchResultErrorEntry error = rejected.get(send.entryId());
+            outcomes[send.index()] = AwaitDispatchOutcome.failed(new IllegalStateException(error == null
+                ? "SQS batch response did not acknowledge await dispatch entry " + send.entryId()
+                : "SQS rejected await dispatch entry " + send.entryId() + ": " + error.code() + " " + error.message()));
+        }
+    }
+
+    private static List<List<PreparedSend>> sendBatches(List<PreparedSend> sends) {
+        List<List<PreparedSend>> batches = new ArrayList<>();
+        List<PreparedSend> batch = new ArrayList<>();
+        long batchBytes = 0;
+        for (PreparedSend send : sends) {
+            long bytes = send.body().getBytes(StandardCharsets.UTF_8).length;
+            if (!batch.isEmpty() && (batch.size() == SEND_BATCH_MAX_ENTRIES || batchBytes + bytes > SEND_BATCH_MAX_BYTES)) {
+                batches.add(List.copyOf(batch));
+                batch.clear();
+                batchBytes = 0;
+            }
+            batch.add(send);
+            batchBytes += bytes;
+        }
+        if (!batch.isEmpty()) {
+            batches.add(List.copyOf(batch));
+        }
+        return batches;
+    }
+
+    private SqsAwaitDispatchEnvelope envelope(AwaitDispatchRequest<Object> request, SqsConfig config) {
+        AwaitInteractionRecord interaction = request.interaction();
+        String resumeToken = resumeTokenService.sign(interaction, System.currentTimeMillis());
+        return SqsAwaitDispatchEnvelope.from(
+            request.descriptor(),
+            interaction,
+            AwaitPayloadSupport.normalize(request.payload()),
+            resumeToken,
+            dispatchMetadata(config));
+    }
+
+    private record PreparedSend(int index, String body, Map<String, Object> metadata) {
+        String entryId() {
+            return Integer.toString(index);
+        }
+    }
+
     @PreDestroy
     void closeClient() {
         if (explicitClient != null) {
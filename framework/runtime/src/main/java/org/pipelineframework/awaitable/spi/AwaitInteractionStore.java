@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import org.pipelineframework.awaitable.AwaitCompletionCommand;
 import org.pipelineframework.awaitable.AwaitCompletionResult;
@@ -42,6 +43,28 @@ public interface AwaitInteractionStore {
      */
     Uni<AwaitCreateResult> createOrGet(AwaitCreateCommand command);
 
+    /**
+     * Creates or gets several interactions, typically the items of one itemized await unit.
+     *
+     * <p>Each command is settled independently: results are returned in command order and
+     * {@link AwaitCreateResult#duplicate()} is set per command. A command repeating the step and
+     * idempotency key of an earlier command in the same batch resolves to that earlier interaction as a
+     * duplicate. Stores with transactional or batch writes should override this method; the default
+     * creates interactions sequentially.</p>
+     *
+     * @param commands create commands
+     * @return one create result per command, in the same order
+     */
+    default Uni<List<AwaitCreateResult>> createOrGetAll(List<AwaitCreateCommand> commands) {
+        List<AwaitCreateCommand> requested = List.copyOf(commands);
+        if (requested.isEmpty()) {
+            return Uni.createFrom().item(List.of());
+        }
+        return Multi.createFrom().iterable(requested)
+            .onItem().transformToUniAndConcatenate(this::createOrGet)
+            .collect().asList();
+    }
+
     /**
      * Fetches one interaction by tenant and interaction id.
      *
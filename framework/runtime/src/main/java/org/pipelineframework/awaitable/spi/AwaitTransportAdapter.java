@@ -1,5 +1,6 @@
 package org.pipelineframework.awaitable.spi;
 
+import java.util.List;
 import java.util.Optional;
 
 import io.smallrye.mutiny.Uni;
@@ -13,6 +14,11 @@ import org.pipelineframework.awaitable.AwaitStepDescriptor;
  */
 public interface AwaitTransportAdapter<I> {
 
+    /**
+     * Most single dispatches the default {@link #dispatchAll(List)} runs at once.
+     */
+    int DEFAULT_DISPATCH_CONCURRENCY = 1024;
+
     /**
      * Adapter type used in YAML.
      *
@@ -51,6 +57,33 @@ public interface AwaitTransportAdapter<I> {
      */
     Uni<AwaitDispatchResult> dispatch(AwaitDispatchRequest<I> request);
 
+    /**
+     * Dispatches several await requests, typically the items of one itemized await unit.
+     *
+     * <p>Each request succeeds or fails on its own: outcomes are returned in request order and a failed
+     * outcome means that request was not handed to the external system. The returned {@code Uni} itself
+     * fails only when no outcome can be reported. Adapters with native batch sends should override this
+     * method; the default runs up to {@value #DEFAULT_DISPATCH_CONCURRENCY} single dispatches at a time.
+     * Callers size each batch to the await concurrency window, so the window still bounds in-flight
+     * dispatches as it does for unbatched steps.</p>
+     *
+     * @param requests dispatch requests
+     * @return one dispatch outcome per request, in the same order
+     */
+    default Uni<List<AwaitDispatchOutcome>> dispatchAll(List<AwaitDispatchRequest<I>> requests) {
+        List<AwaitDispatchRequest<I>> requested = List.copyOf(requests);
+        if (requested.isEmpty()) {
+            return Uni.createFrom().item(List.of());
+        }
+        return Uni.join().all(requested.stream()
+                .map(request -> Uni.createFrom().deferred(() -> dispatch(request))
+                    .onItem().transform(AwaitDispatchOutcome::succeeded)
+                    .onFailure().recoverWithItem(AwaitDispatchOutcome::failed))
+                .toList())
+            .usingConcurrencyOf(Math.min(requested.size(), DEFAULT_DISPATCH_CONCURRENCY))
+            .andFailFast();
+    }
+
     /**
      * Cancels an already dispatched interaction when supported by the adapter.
      *
@@ -80,6 +113,28 @@ public interface AwaitTransportAdapter<I> {
         }
     }
 
+    /**
+     * Per-request result of a batched dispatch: either dispatch metadata or the failure that prevented it.
+     *
+     * @param result dispatch metadata when the request was dispatched
+     * @param failure dispatch failure when it was not
+     */
+    record AwaitDispatchOutcome(AwaitDispatchResult result, Throwable failure) {
+        public AwaitDispatchOutcome {
+            if ((result == null) == (failure == null)) {
+                throw new IllegalArgumentException("exactly one of result or failure must be set");
+            }
+        }
+
+        public static AwaitDispatchOutcome succeeded(AwaitDispatchResult result) {
+            return new AwaitDispatchOutcome(result, null);
+        }
+
+        public static AwaitDispatchOutcome failed(Throwable failure) {
+            return new AwaitDispatchOutcome(null, failure);
+        }
+    }
+
     /**
      * Cancel request passed to adapters.
      *
@@ -4,10 +4,13 @@ import java.net.URI;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.Supplier;
 import jakarta.annotation.PreDestroy;
@@ -65,6 +68,9 @@ public class DynamoAwaitInteractionStore implements AwaitInteractionStore {
     private static final String PENDING_STEP_INDEX = "await-interaction-pending-by-step";
     private static final String PENDING_DEADLINE_INDEX = "await-interaction-pending-by-deadline";
     private static final String ACTIVE_DEADLINE_PARTITION = "active";
+    // Three puts per interaction stay within the 100-action TransactWriteItems limit.
+    private static final int TRANSACT_CREATE_MAX_INTERACTIONS = 33;
+    private static final long TRANSACT_CREATE_MAX_BYTES = 3L * 1024 * 1024;
 
     private static final String TENANT_ID = "tenant_id";
     private static final String INTERACTION_ID = "interaction_id";
@@ -148,6 +154,13 @@ public class DynamoAwaitInteractionStore implements AwaitInteractionStore {
         return blocking(() -> createOrGetBlocking(command));
     }
 
+    @Override
+    public Uni<List<AwaitCreateResult>> createOrGetAll(List<AwaitCreateCommand> commands) {
+        Objects.requireNonNull(commands, "commands must not be null");
+        List<AwaitCreateCommand> requested = List.copyOf(commands);
+        return blocking(() -> createOrGetAllBlocking(requested));
+    }
+
     @Override
     public Uni<Optional<AwaitInteractionRecord>> get(String tenantId, String interactionId) {
         return blocking(() -> getBlocking(tenantId, interactionId, System.currentTimeMillis()));
@@ -518,14 +531,78 @@ public class DynamoAwaitInteractionStore implements AwaitInteractionStore {
     }
 
     private AwaitCreateResult createOrGetBlocking(AwaitCreateCommand command) {
-        String interactionId = UUID.randomUUID().toString();
-        AwaitInteractionRecord created = new AwaitInteractionRecord(
+        AwaitInteractionRecord created = newRecord(command);
+        try {
+            dynamoClient().transactWriteItems(TransactWriteItemsRequest.builder()
+                .transactItems(createItems(command, created))
+                .build());
+            return new AwaitCreateResult(created, false);
+        } catch (TransactionCanceledException | ConditionalCheckFailedException ignored) {
+            return findByLookup(
+                lookupKey("idempotency", command.tenantId(), command.stepId() + ":" + command.idempotencyKey()),
+                command.tenantId(),
+                command.nowEpochMs())
+                .map(record -> new AwaitCreateResult(record, true))
+                .orElseThrow(() -> ignored);
+        }
+    }
+
+    private List<AwaitCreateResult> createOrGetAllBlocking(List<AwaitCreateCommand> commands) {
+        if (commands.isEmpty()) {
+            return List.of();
+        }
+        AwaitCreateResult[] results = new AwaitCreateResult[commands.size()];
+        Map<String, Integer> creatorByIdempotencyKey = new HashMap<>();
+        Set<String> claimedCorrelationKeys = new HashSet<>();
+        Map<Integer, Integer> repeatedIndexes = new LinkedHashMap<>();
+        List<Integer> individualIndexes = new ArrayList<>();
+        List<PendingCreate> pending = new ArrayList<>();
+        for (int index = 0; index < commands.size(); index++) {
+            AwaitCreateCommand command = commands.get(index);
+            Integer creator = creatorByIdempotencyKey.putIfAbsent(
+                lookupKey("idempotency", command.tenantId(), command.stepId() + ":" + command.idempotencyKey()), index);
+            if (creator != null) {
+                repeatedIndexes.put(index, creator);
+                continue;
+            }
+            if (!claimedCorrelationKeys.add(lookupKey("correlation", command.tenantId(), command.correlationId()))) {
+                // Two puts on one lookup item are rejected by DynamoDB, so the later command settles on its own.
+                individualIndexes.add(index);
+                continue;
+            }
+            AwaitInteractionRecord record = newRecord(command);
+            pending.add(new PendingCreate(index, command, record, createItems(command, record)));
+        }
+
+        for (List<PendingCreate> chunk : transactionChunks(pending)) {
+            try {
+                dynamoClient().transactWriteItems(TransactWriteItemsRequest.builder()
+                    .transactItems(chunk.stream().flatMap(create -> create.items().stream()).toList())
+                    .build());
+                chunk.forEach(create -> results[create.index()] = new AwaitCreateResult(create.record(), false));
+            } catch (TransactionCanceledException cancelled) {
+                // One existing idempotency key cancels the whole transaction; settle each command on its own.
+                for (PendingCreate create : chunk) {
+                    results[create.index()] = createOrGetBlocking(create.command());
+                }
+            }
+        }
+        for (int index : individualIndexes) {
+            results[index] = createOrGetBlocking(commands.get(index));
+        }
+        repeatedIndexes.forEach((index, creator) ->
+            results[index] = new AwaitCreateResult(results[creator].record(), true));
+        return List.of(results);
+    }
+
+    private AwaitInteractionRecord newRecord(AwaitCreateCommand command) {
+        return new AwaitInteractionRecord(
             command.tenantId(),
             command.executionId(),
             command.stepId(),
             command.stepIndex(),
             command.outputType(),
-            interactionId,
+            UUID.randomUUID().toString(),
             command.correlationId(),
             command.causationId(),
             command.idempotencyKey(),
@@ -545,37 +622,67 @@ public class DynamoAwaitInteractionStore implements AwaitInteractionStore {
             command.nowEpochMs(),
             command.ttlEpochS(),
             command.transportOutputType());
+    }
 
-        try {
-            dynamoClient().transactWriteItems(TransactWriteItemsRequest.builder()
-                .transactItems(
-                    TransactWriteItem.builder().put(Put.builder()
-                        .tableName(interactionTable())
-                        .item(toItem(created))
-                        .conditionExpression("attribute_not_exists(#tenant) AND attribute_not_exists(#interaction)")
-                        .expressionAttributeNames(Map.of("#tenant", TENANT_ID, "#interaction", INTERACTION_ID))
-                        .build()).build(),
-                    TransactWriteItem.builder().put(lookupPut(
-                        "idempotency",
-                        command.tenantId(),
-                        command.stepId() + ":" + command.idempotencyKey(),
-                        interactionId,
-                        command.ttlEpochS())).build(),
-                    TransactWriteItem.builder().put(lookupPut(
-                        "correlation",
-                        command.tenantId(),
-                        command.correlationId(),
-                        interactionId,
-                        command.ttlEpochS())).build())
-                .build());
-            return new AwaitCreateResult(created, false);
-        } catch (TransactionCanceledException | ConditionalCheckFailedException ignored) {
-            return findByLookup(
-                lookupKey("idempotency", command.tenantId(), command.stepId() + ":" + command.idempotencyKey()),
+    private List<TransactWriteItem> createItems(AwaitCreateCommand command, AwaitInteractionRecord created) {
+        return List.of(
+            TransactWriteItem.builder().put(Put.builder()
+                .tableName(interactionTable())
+                .item(toItem(created))
+                .conditionExpression("attribute_not_exists(#tenant) AND attribute_not_exists(#interaction)")
+                .expressionAttributeNames(Map.of("#tenant", TENANT_ID, "#interaction", INTERACTION_ID))
+                .build()).build(),
+            TransactWriteItem.builder().put(lookupPut(
+                "idempotency",
                 command.tenantId(),
-                command.nowEpochMs())
-                .map(record -> new AwaitCreateResult(record, true))
-                .orElseThrow(() -> ignored);
+                command.stepId() + ":" + command.idempotencyKey(),
+                created.interactionId(),
+                command.ttlEpochS())).build(),
+            TransactWriteItem.builder().put(lookupPut(
+                "correlation",
+                command.tenantId(),
+                command.correlationId(),
+                created.interactionId(),
+                command.ttlEpochS())).build());
+    }
+
+    private static List<List<PendingCreate>> transactionChunks(List<PendingCreate> pending) {
+        List<List<PendingCreate>> chunks = new ArrayList<>();
+        List<PendingCreate> chunk = new ArrayList<>();
+        long chunkBytes = 0;
+        for (PendingCreate create : pending) {
+            long bytes = create.estimatedBytes();
+            if (!chunk.isEmpty() && (chunk.size() == TRANSACT_CREATE_MAX_INTERACTIONS
+                || chunkBytes + bytes > TRANSACT_CREATE_MAX_BYTES)) {
+                chunks.add(List.copyOf(chunk));
+                chunk.clear();
+                chunkBytes = 0;
+            }
+            chunk.add(create);
+            chunkBytes += bytes;
+        }
+        if (!chunk.isEmpty()) {
+            chunks.add(List.copyOf(chunk));
+        }
+        return chunks;
+    }
+
+    private record PendingCreate(
+        int index,
+        AwaitCreateCommand command,
+        AwaitInteractionRecord record,
+        List<TransactWriteItem> items
+    ) {
+        private long estimatedBytes() {
+            long bytes = 0;
+            for (TransactWriteItem item : items) {
+                for (Map.Entry<String, AttributeValue> attribute : item.put().item().entrySet()) {
+                    bytes += attribute.getKey().length();
+                    AttributeValue value = attribute.getValue();
+                    bytes += value.s() != null ? value.s().length() : value.n() != null ? value.n().length() : 8;
+                }
+            }
+            return bytes;
         }
     }
 
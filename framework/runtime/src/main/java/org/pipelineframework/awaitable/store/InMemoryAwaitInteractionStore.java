@@ -6,8 +6,10 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableSet;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.TreeSet;
 import java.util.UUID;
 import jakarta.enterprise.context.ApplicationScoped;
 
@@ -23,7 +25,12 @@ import org.pipelineframework.awaitable.AwaitInteractionTerminalException;
 import org.pipelineframework.awaitable.spi.AwaitInteractionStore;
 
 /**
- * In-memory await store intended for local development and tests.
+ * In-memory await store intended for local development and single-node deployments.
+ *
+ * <p>Besides the primary map, the store keeps secondary indexes by unit, by pending filter combination and by
+ * deadline and TTL. Every write goes through {@link #storeLocked(AwaitInteractionRecord)} so the indexes always
+ * reflect the latest record, and unit, pending and timeout queries cost in proportion to their result size rather
+ * than to the number of stored interactions.</p>
  */
 @ApplicationScoped
 public class InMemoryAwaitInteractionStore implements AwaitInteractionStore {
@@ -32,11 +39,29 @@ public class InMemoryAwaitInteractionStore implements AwaitInteractionStore {
         Comparator.comparingLong(AwaitInteractionRecord::deadlineEpochMs)
             .thenComparingLong(AwaitInteractionRecord::createdAtEpochMs)
             .thenComparing(AwaitInteractionRecord::interactionId);
+    private static final Comparator<AwaitInteractionRecord> DEADLINE_INDEX_ORDER =
+        PENDING_ORDER.thenComparing(AwaitInteractionRecord::tenantId);
+    private static final Comparator<AwaitInteractionRecord> UNIT_ORDER = Comparator
+        .comparingInt((AwaitInteractionRecord record) -> record.itemIndex() == null
+            ? Integer.MAX_VALUE
+            : record.itemIndex())
+        .thenComparing(record -> nullToEmpty(record.causationId()))
+        .thenComparing(AwaitInteractionRecord::interactionId);
+    private static final Comparator<AwaitInteractionRecord> TTL_ORDER =
+        Comparator.comparingLong(AwaitInteractionRecord::ttlEpochS)
+            .thenComparing(AwaitInteractionRecord::tenantId)
+            .thenComparing(AwaitInteractionRecord::interactionId);
 
     private final Object lock = new Object();
     private final Map<String, AwaitInteractionRecord> interactionsByScopedId = new HashMap<>();
     private final Map<String, String> interactionIdByScopedIdempotencyKey = new HashMap<>();
     private final Map<String, String> interactionIdByScopedCorrelation = new HashMap<>();
+    // Index comparators only read fields that never change across transitions, so the previous version of a record
+    // still locates the slot it occupies when it is replaced.
+    private final Map<String, NavigableSet<AwaitInteractionRecord>> interactionsByScopedUnit = new HashMap<>();
+    private final Map<String, NavigableSet<AwaitInteractionRecord>> pendingByScopedFilter = new HashMap<>();
+    private final NavigableSet<AwaitInteractionRecord> pendingByDeadline = new TreeSet<>(DEADLINE_INDEX_ORDER);
+    private final NavigableSet<AwaitInteractionRecord> expiringByTtl = new TreeSet<>(TTL_ORDER);
 
     @Override
     public String providerName() {
@@ -88,7 +113,7 @@ public class InMemoryAwaitInteractionStore implements AwaitInteractionStore {
                     command.nowEpochMs(),
                     command.ttlEpochS(),
                     command.transportOutputType());
-                interactionsByScopedId.put(scopedInteractionId(created.tenantId(), created.interactionId()), created);
+                storeLocked(created);
                 interactionIdByScopedIdempotencyKey.put(scopedKey, interactionId);
                 interactionIdByScopedCorrelation.put(scopedCorrelation(command.tenantId(), command.correlationId()), interactionId);
                 return new AwaitCreateResult(created, false);
@@ -118,7 +143,7 @@ public class InMemoryAwaitInteractionStore implements AwaitInteractionStore {
                 if (existing != null) {
                     return existing;
                 }
-                interactionsByScopedId.put(scopedId, record);
+                storeLocked(record);
                 interactionIdByScopedIdempotencyKey.put(
                     scopedIdempotencyKey(record.tenantId(), record.stepId(), record.idempotencyKey()),
                     record.interactionId());
@@ -152,16 +177,8 @@ public class InMemoryAwaitInteractionStore implements AwaitInteractionStore {
             synchronized (lock) {
                 long now = System.currentTimeMillis();
                 purgeExpired(now);
-                return interactionsByScopedId.values().stream()
-                    .filter(record -> Objects.equals(record.tenantId(), tenantId))
-                    .filter(record -> Objects.equals(record.unitId(), unitId))
-                    .sorted(Comparator
-                        .comparingInt((AwaitInteractionRecord record) -> record.itemIndex() == null
-                            ? Integer.MAX_VALUE
-                            : record.itemIndex())
-                        .thenComparing(record -> nullToEmpty(record.causationId()))
-                        .thenComparing(AwaitInteractionRecord::interactionId))
-                    .toList();
+                NavigableSet<AwaitInteractionRecord> records = interactionsByScopedUnit.get(scopedUnit(tenantId, unitId));
+                return records == null ? List.of() : List.copyOf(records);
             }
         });
     }
@@ -253,7 +270,7 @@ public class InMemoryAwaitInteractionStore implements AwaitInteractionStore {
         }
         if (current.deadlineEpochMs() <= command.nowEpochMs()) {
             AwaitInteractionRecord timedOut = updateStatus(current, AwaitInteractionStatus.TIMED_OUT, command.nowEpochMs(), null, null);
-            interactionsByScopedId.put(scopedInteractionId(timedOut.tenantId(), timedOut.interactionId()), timedOut);
+            storeLocked(timedOut);
             throw new AwaitInteractionTerminalException("Await interaction timed out before completion");
         }
         AwaitInteractionRecord completed = new AwaitInteractionRecord(
@@ -282,7 +299,7 @@ public class InMemoryAwaitInteractionStore implements AwaitInteractionStore {
             command.nowEpochMs(),
             current.ttlEpochS(),
             current.transportOutputType());
-        interactionsByScopedId.put(scopedInteractionId(completed.tenantId(), completed.interactionId()), completed);
+        storeLocked(completed);
         return new AwaitCompletionResult(completed, false);
     }
 
@@ -323,12 +340,13 @@ public class InMemoryAwaitInteractionStore implements AwaitInteractionStore {
         return Uni.createFrom().item(() -> {
             synchronized (lock) {
                 purgeExpired(nowEpochMs);
-                List<AwaitInteractionRecord> records = interactionsByScopedId.values().stream()
-                    .filter(record -> !record.status().terminal())
-                    .filter(record -> record.deadlineEpochMs() <= nowEpochMs)
-                    .sorted(PENDING_ORDER)
-                    .limit(Math.max(0, limit))
-                    .toList();
+                List<AwaitInteractionRecord> records = new ArrayList<>();
+                for (AwaitInteractionRecord record : pendingByDeadline) {
+                    if (records.size() >= limit || record.deadlineEpochMs() > nowEpochMs) {
+                        break;
+                    }
+                    records.add(record);
+                }
                 return List.copyOf(records);
             }
         });
@@ -345,27 +363,19 @@ public class InMemoryAwaitInteractionStore implements AwaitInteractionStore {
             synchronized (lock) {
                 long now = System.currentTimeMillis();
                 purgeExpired(now);
-                String normalizedAssignee = normalizeFilter(assignee);
-                String normalizedGroup = normalizeFilter(group);
-                String normalizedStepId = normalizeFilter(stepId);
+                NavigableSet<AwaitInteractionRecord> pending = pendingByScopedFilter.get(scopedPendingFilter(
+                    tenantId, normalizeFilter(assignee), normalizeFilter(group), normalizeFilter(stepId)));
+                if (pending == null) {
+                    return List.of();
+                }
                 List<AwaitInteractionRecord> records = new ArrayList<>();
-                for (AwaitInteractionRecord record : interactionsByScopedId.values()) {
-                    if (record.status().terminal() || !Objects.equals(record.tenantId(), tenantId)) {
-                        continue;
-                    }
-                    if (normalizedAssignee != null && !Objects.equals(normalizedAssignee, record.assignee())) {
-                        continue;
-                    }
-                    if (normalizedGroup != null && !Objects.equals(normalizedGroup, record.group())) {
-                        continue;
-                    }
-                    if (normalizedStepId != null && !Objects.equals(normalizedStepId, record.stepId())) {
-                        continue;
+                for (AwaitInteractionRecord record : pending) {
+                    if (records.size() >= limit) {
+                        break;
                     }
                     records.add(record);
                 }
-                records.sort(PENDING_ORDER);
-                return List.copyOf(records.subList(0, Math.min(records.size(), Math.max(0, limit))));
+                return List.copyOf(records);
             }
         });
     }
@@ -389,7 +399,7 @@ public class InMemoryAwaitInteractionStore implements AwaitInteractionStore {
                     return Optional.empty();
                 }
                 AwaitInteractionRecord updated = transition.apply(current);
-                interactionsByScopedId.put(scopedId, updated);
+                storeLocked(updated);
                 return Optional.of(updated);
             }
         });
@@ -451,18 +461,76 @@ public class InMemoryAwaitInteractionStore implements AwaitInteractionStore {
 
     private void purgeExpired(long nowEpochMs) {
         long nowEpochS = Instant.ofEpochMilli(nowEpochMs).getEpochSecond();
-        var iterator = interactionsByScopedId.entrySet().iterator();
-        while (iterator.hasNext()) {
-            AwaitInteractionRecord record = iterator.next().getValue();
-            if (record.ttlEpochS() > 0 && record.ttlEpochS() <= nowEpochS) {
-                iterator.remove();
-                interactionIdByScopedIdempotencyKey.remove(scopedIdempotencyKey(
-                    record.tenantId(), record.stepId(), record.idempotencyKey()));
-                interactionIdByScopedCorrelation.remove(scopedCorrelation(record.tenantId(), record.correlationId()));
-            }
+        while (!expiringByTtl.isEmpty() && expiringByTtl.first().ttlEpochS() <= nowEpochS) {
+            AwaitInteractionRecord expired = expiringByTtl.first();
+            AwaitInteractionRecord record = interactionsByScopedId.remove(
+                scopedInteractionId(expired.tenantId(), expired.interactionId()));
+            unindexLocked(record == null ? expired : record);
+            interactionIdByScopedIdempotencyKey.remove(scopedIdempotencyKey(
+                expired.tenantId(), expired.stepId(), expired.idempotencyKey()));
+            interactionIdByScopedCorrelation.remove(scopedCorrelation(expired.tenantId(), expired.correlationId()));
+        }
+    }
+
+    private void storeLocked(AwaitInteractionRecord record) {
+        AwaitInteractionRecord previous = interactionsByScopedId.put(
+            scopedInteractionId(record.tenantId(), record.interactionId()), record);
+        if (previous != null) {
+            unindexLocked(previous);
+        }
+        interactionsByScopedUnit
+            .computeIfAbsent(scopedUnit(record.tenantId(), record.unitId()), ignored -> new TreeSet<>(UNIT_ORDER))
+            .add(record);
+        if (record.ttlEpochS() > 0) {
+            expiringByTtl.add(record);
+        }
+        if (record.status().terminal()) {
+            return;
+        }
+        pendingByDeadline.add(record);
+        for (String filter : pendingFilters(record)) {
+            pendingByScopedFilter.computeIfAbsent(filter, ignored -> new TreeSet<>(PENDING_ORDER)).add(record);
         }
     }
 
+    private void unindexLocked(AwaitInteractionRecord record) {
+        removeIndexed(interactionsByScopedUnit, scopedUnit(record.tenantId(), record.unitId()), record);
+        expiringByTtl.remove(record);
+        if (record.status().terminal()) {
+            return;
+        }
+        pendingByDeadline.remove(record);
+        for (String filter : pendingFilters(record)) {
+            removeIndexed(pendingByScopedFilter, filter, record);
+        }
+    }
+
+    private static void removeIndexed(
+        Map<String, NavigableSet<AwaitInteractionRecord>> index,
+        String key,
+        AwaitInteractionRecord record) {
+        NavigableSet<AwaitInteractionRecord> records = index.get(key);
+        if (records != null && records.remove(record) && records.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    /**
+     * Returns every pending-filter key a record answers to: one per combination of set and unset assignee, group and
+     * step filters, matching how {@link #queryPending} treats unset filters as wildcards.
+     */
+    private static List<String> pendingFilters(AwaitInteractionRecord record) {
+        List<String> filters = new ArrayList<>(8);
+        for (int mask = 0; mask < 8; mask++) {
+            filters.add(scopedPendingFilter(
+                record.tenantId(),
+                (mask & 1) == 0 ? null : nullToEmpty(record.assignee()),
+                (mask & 2) == 0 ? null : nullToEmpty(record.group()),
+                (mask & 4) == 0 ? null : nullToEmpty(record.stepId())));
+        }
+        return filters;
+    }
+
     private static String scopedInteractionId(String tenantId, String interactionId) {
         return compositeScopedKey("tenantId", tenantId, "interactionId", interactionId);
     }
@@ -471,6 +539,22 @@ public class InMemoryAwaitInteractionStore implements AwaitInteractionStore {
         return compositeScopedKey("tenantStep", tenantId + ":" + stepId, "idempotencyKey", idempotencyKey);
     }
 
+    private static String scopedUnit(String tenantId, String unitId) {
+        return Objects.requireNonNull(tenantId, "tenantId must not be null").length() + ":" + tenantId
+            + ":" + optionalKeyPart(unitId);
+    }
+
+    private static String scopedPendingFilter(String tenantId, String assignee, String group, String stepId) {
+        return Objects.requireNonNull(tenantId, "tenantId must not be null").length() + ":" + tenantId
+            + ":" + optionalKeyPart(assignee)
+            + ":" + optionalKeyPart(group)
+            + ":" + optionalKeyPart(stepId);
+    }
+
+    private static String optionalKeyPart(String value) {
+        return value == null ? "*" : value.length() + ":" + value;
+    }
+
     private static String scopedCorrelation(String tenantId, String correlationId) {
         return compositeScopedKey("tenantId", tenantId, "correlationId", correlationId);
     }
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2023-2026 Mariano Barcia
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.pipelineframework.blocking;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.microprofile.config.Config;
+
+/**
+ * Offload settings for blocking steps, read from {@code pipeline.blocking.*}.
+ *
+ * <ul>
+ *   <li>{@code pipeline.blocking.virtual-threads}: run blocking step defaults on virtual threads
+ *       instead of the worker pool (default {@code false})</li>
+ *   <li>{@code pipeline.blocking.max-in-flight}: per-step cap on concurrent virtual-thread
+ *       invocations, {@code 0} for unbounded (default {@code 0})</li>
+ *   <li>{@code pipeline.blocking.step."fully.qualified.StepClass".max-in-flight}: per-step override</li>
+ *   <li>{@code pipeline.blocking.pinning-diagnostics}: record carrier pinning through JFR while the
+ *       virtual-thread path is used (default {@code true})</li>
+ *   <li>{@code pipeline.blocking.pinning-threshold-ms}: minimum pinned duration reported (default 20)</li>
+ *   <li>{@code pipeline.blocking.iterator-prefetch}: items read ahead of demand from blocking
+ *       iterators, {@code 0} to read on demand (default {@code 0})</li>
+ *   <li>{@code pipeline.blocking.step."fully.qualified.StepClass".iterator-prefetch}: per-step override</li>
+ *   <li>{@code pipeline.blocking.iterator-prefetch-chunk}: items read before each hand-off to the
+ *       consumer, capped at the prefetch size (default 16)</li>
+ * </ul>
+ *
+ * @param virtualThreads whether blocking step defaults run on virtual threads
+ * @param maxInFlight default per-step in-flight cap; {@code 0} means unbounded
+ * @param stepMaxInFlight per-step cap overrides keyed by step class name
+ * @param pinningDiagnostics whether carrier pinning is recorded through JFR
+ * @param pinningThreshold minimum pinned duration reported
+ * @param iteratorPrefetch default items read ahead from blocking iterators; {@code 0} disables read-ahead
+ * @param stepIteratorPrefetch per-step read-ahead overrides keyed by step class name
+ * @param iteratorPrefetchChunk items read before each hand-off to the consumer
+ */
+record BlockingExecutionSettings(
+    boolean virtualThreads,
+    int maxInFlight,
+    Map<String, Integer> stepMaxInFlight,
+    boolean pinningDiagnostics,
+    Duration pinningThreshold,
+    int iteratorPrefetch,
+    Map<String, Integer> stepIteratorPrefetch,
+    int iteratorPrefetchChunk
+) {
+    static final String PREFIX = "pipeline.blocking.";
+    private static final String STEP_PREFIX = PREFIX + "step.";
+    private static final String MAX_IN_FLIGHT = "max-in-flight";
+    private static final String ITERATOR_PREFETCH = "iterator-prefetch";
+
+    BlockingExecutionSettings {
+        if (maxInFlight < 0) {
+            throw new IllegalArgumentException(PREFIX + MAX_IN_FLIGHT + " must be >= 0");
+        }
+        stepMaxInFlight = Map.copyOf(stepMaxInFlight);
+        if (pinningThreshold == null || pinningThreshold.isNegative()) {
+            throw new IllegalArgumentException(PREFIX + "pinning-threshold-ms must be >= 0");
+        }
+        if (iteratorPrefetch < 0) {
+            throw new IllegalArgumentException(PREFIX + ITERATOR_PREFETCH + " must be >= 0");
+        }
+        stepIteratorPrefetch = Map.copyOf(stepIteratorPrefetch);
+        if (stepIteratorPrefetch.values().stream().anyMatch(prefetch -> prefetch < 0)) {
+            throw new IllegalArgumentException(STEP_PREFIX + "<step>." + ITERATOR_PREFETCH + " must be >= 0");
+        }
+        if (iteratorPrefetchChunk <= 0) {
+            throw new IllegalArgumentException(PREFIX + "iterator-prefetch-chunk must be > 0");
+        }
+    }
+
+    static BlockingExecutionSettings defaults() {
+        return new BlockingExecutionSettings(false, 0, Map.of(), true, Duration.ofMillis(20), 0, Map.of(), 16);
+    }
+
+    static BlockingExecutionSettings fromConfig(Config config) {
+        Map<String, Integer> overrides = new HashMap<>();
+        Map<String, Integer> prefetchOverrides = new HashMap<>();
+        for (String name : config.getPropertyNames()) {
+            readStepOverride(config, name, MAX_IN_FLIGHT, overrides);
+            readStepOverride(config, name, ITERATOR_PREFETCH, prefetchOverrides);
+        }
+        return new BlockingExecutionSettings(
+            config.getOptionalValue(PREFIX + "virtual-threads", Boolean.class).orElse(false),
+            config.getOptionalValue(PREFIX + MAX_IN_FLIGHT, Integer.class).orElse(0),
+            overrides,
+            config.getOptionalValue(PREFIX + "pinning-diagnostics", Boolean.class).orElse(true),
+            Duration.ofMillis(config.getOptionalValue(PREFIX + "pinning-threshold-ms", Long.class).orElse(20L)),
+            config.getOptionalValue(PREFIX + ITERATOR_PREFETCH, Integer.class).orElse(0),
+            prefetchOverrides,
+            config.getOptionalValue(PREFIX + "iterator-prefetch-chunk", Integer.class).orElse(16));
+    }
+
+    private static void readStepOverride(Config config, String name, String setting, Map<String, Integer> overrides) {
+        if (name.startsWith(STEP_PREFIX) && name.endsWith("." + setting)) {
+            String step = unquote(name.substring(STEP_PREFIX.length(), name.length() - setting.length() - 1));
+            config.getOptionalValue(name, Integer.class).ifPresent(value -> overrides.put(step, value));
+        }
+    }
+
+    private static String unquote(String key) {
+        if (key.length() > 1 && key.startsWith("\"") && key.endsWith("\"")) {
+            return key.substring(1, key.length() - 1);
+        }
+        return key;
+    }
+
+    /**
+     * Returns the in-flight cap for a step, or {@code 0} when the step is unbounded.
+     */
+    int maxInFlight(String step) {
+        if (step == null) {
+            return 0;
+        }
+        return Math.max(0, stepMaxInFlight.getOrDefault(step, maxInFlight));
+    }
+
+    /**
+     * Returns the read-ahead size for a step's blocking iterators, or {@code 0} when they are read on demand.
+     */
+    int iteratorPrefetch(String step) {
+        return step == null ? iteratorPrefetch : stepIteratorPrefetch.getOrDefault(step, iteratorPrefetch);
+    }
+}
@@ -17,10 +17,16 @@
 package org.pipelineframework.blocking;
 
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Flow;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
@@ -31,30 +37,99 @@ import io.quarkus.arc.Unremovable;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
+import org.eclipse.microprofile.config.ConfigProvider;
 import org.pipelineframework.context.PipelineContext;
 import org.pipelineframework.context.PipelineContextHolder;
 import org.pipelineframework.context.TransportDispatchMetadata;
 import org.pipelineframework.context.TransportDispatchMetadataHolder;
+import org.pipelineframework.runtime.core.ExecutionContextKey;
+import org.pipelineframework.runtime.core.RuntimeAdapters;
+import org.pipelineframework.telemetry.BlockingExecutionMetrics;
 
 /**
  * Offloads blocking callbacks to a worker executor by default, with an opt-in virtual-thread path.
+ *
+ * <p>On the virtual-thread path each step may be capped by {@code pipeline.blocking.max-in-flight};
+ * excess invocations park their own virtual thread on a per-step semaphore, so the cap bounds
+ * pressure on the dependency without holding worker or carrier threads. Virtual-thread
+ * invocations also feed in-flight, permit-wait, and JFR pinning metrics, see
+ * {@link BlockingExecutionSettings}.</p>
  */
 @ApplicationScoped
 @Unremovable
 public class BlockingExecutionSupport {
+    private static final ExecutionContextKey<?>[] CAPTURED_KEYS = {
+        PipelineContextHolder.CONTEXT_KEY,
+        TransportDispatchMetadataHolder.CONTEXT_KEY
+    };
 
     private final ExecutorService virtualThreadExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final BlockingExecutionSettings settings;
+    private final ConcurrentMap<String, Executor> stepExecutors = new ConcurrentHashMap<>();
+    private final Set<String> knownSteps = ConcurrentHashMap.newKeySet();
+    private final VirtualThreadPinningMonitor pinningMonitor;
+
+    public BlockingExecutionSupport() {
+        this(loadSettings());
+    }
+
+    BlockingExecutionSupport(BlockingExecutionSettings settings) {
+        this.settings = Objects.requireNonNull(settings, "settings must not be null");
+        this.pinningMonitor = new VirtualThreadPinningMonitor(knownSteps, settings.pinningThreshold());
+    }
+
+    private static BlockingExecutionSettings loadSettings() {
+        try {
+            return BlockingExecutionSettings.fromConfig(ConfigProvider.getConfig());
+        } catch (IllegalStateException | IllegalArgumentException ignored) {
+            // Non-CDI callers without a config source keep the worker-pool defaults.
+            return BlockingExecutionSettings.defaults();
+        }
+    }
+
+    /**
+     * Whether blocking step defaults should offload to virtual threads.
+     *
+     * @return {@code true} when {@code pipeline.blocking.virtual-threads} is enabled
+     */
+    public boolean virtualThreadsByDefault() {
+        return settings.virtualThreads();
+    }
 
     public <T> Uni<T> supply(boolean useVirtualThreads, Supplier<T> supplier) {
+        return supply(useVirtualThreads, null, supplier);
+    }
+
+    /**
+     * Offloads a blocking supplier on behalf of a step.
+     *
+     * @param useVirtualThreads whether to run on a virtual thread instead of the worker pool
+     * @param step step class name used for the in-flight cap and metrics; may be {@code null}
+     * @param supplier blocking supplier to execute
+     * @return a Uni backed by the offloaded supplier
+     */
+    public <T> Uni<T> supply(boolean useVirtualThreads, String step, Supplier<T> supplier) {
         PipelineContext context = PipelineContextHolder.get();
         TransportDispatchMetadata transport = TransportDispatchMetadataHolder.get();
         return Uni.createFrom()
             .item(() -> withCapturedContext(context, transport, supplier))
-            .runSubscriptionOn(selectExecutor(useVirtualThreads));
+            .runSubscriptionOn(selectExecutor(useVirtualThreads, step));
     }
 
     public <T> Multi<T> emitList(boolean useVirtualThreads, Supplier<List<T>> supplier) {
-        return supply(useVirtualThreads, supplier)
+        return emitList(useVirtualThreads, null, supplier);
+    }
+
+    /**
+     * Offloads a blocking list supplier on behalf of a step.
+     *
+     * @param useVirtualThreads whether to run on a virtual thread instead of the worker pool
+     * @param step step class name used for the in-flight cap and metrics; may be {@code null}
+     * @param supplier blocking supplier to execute
+     * @return a Multi over the supplied list
+     */
+    public <T> Multi<T> emitList(boolean useVirtualThreads, String step, Supplier<List<T>> supplier) {
+        return supply(useVirtualThreads, step, supplier)
             .onItem()
             .transformToMulti(items -> items == null
                 ? Multi.createFrom().empty()
@@ -62,50 +137,105 @@ public class BlockingExecutionSupport {
     }
 
     public <T> Multi<T> emitIterator(boolean useVirtualThreads, Supplier<? extends CloseableIterator<T>> supplier) {
+        return emitIterator(useVirtualThreads, null, supplier);
+    }
+
+    /**
+     * Offloads blocking iterator acquisition and iteration on behalf of a step. On the
+     * virtual-thread path the in-flight cap applies to each drain of the iterator. When
+     * {@code pipeline.blocking.iterator-prefetch} is set for the step, the iterator is read ahead
+     * through a {@link BlockingIteratorPrefetcher}. On the virtual-thread path its producer then
+     * runs under the step's in-flight cap instead of the drains, which only hand over items that
+     * were already read.
+     *
+     * @param useVirtualThreads whether to run on a virtual thread instead of the worker pool
+     * @param step step class name used for the in-flight cap and metrics; may be {@code null}
+     * @param supplier blocking iterator supplier to execute
+     * @return a Multi over the iterator items
+     */
+    public <T> Multi<T> emitIterator(
+        boolean useVirtualThreads,
+        String step,
+        Supplier<? extends CloseableIterator<T>> supplier
+    ) {
         PipelineContext context = PipelineContextHolder.get();
         TransportDispatchMetadata transport = TransportDispatchMetadataHolder.get();
-        Executor executor = selectExecutor(useVirtualThreads);
+        Executor executor = selectExecutor(useVirtualThreads, step);
+        int prefetch = settings.iteratorPrefetch(step);
+        if (prefetch <= 0) {
+            return Multi.createFrom().publisher(subscriber ->
+                subscriber.onSubscribe(new IteratorSubscription<>(subscriber, supplier, executor, context, transport)));
+        }
+        // A drain parks while the producer reads, so only the producer may hold a step permit. It also
+        // opens the iterator, so every blocking call of the step stays under the cap.
+        Executor producerExecutor = useVirtualThreads ? executor : virtualThreadExecutor;
+        Executor drainExecutor = useVirtualThreads ? virtualThreadExecutor : executor;
+        Supplier<? extends CloseableIterator<T>> source =
+            () -> prefetching(new OpeningIterator<>(supplier), prefetch, producerExecutor, context, transport);
         return Multi.createFrom().publisher(subscriber ->
-            subscriber.onSubscribe(new IteratorSubscription<>(subscriber, supplier, executor, context, transport)));
-    }
-
-    private Executor selectExecutor(boolean useVirtualThreads) {
-        return useVirtualThreads ? virtualThreadExecutor : Infrastructure.getDefaultWorkerPool();
+            subscriber.onSubscribe(new IteratorSubscription<>(subscriber, source, drainExecutor, context, transport)));
     }
 
-    private static <T> T withCapturedContext(
+    private <T> CloseableIterator<T> prefetching(
+        CloseableIterator<T> iterator,
+        int capacity,
+        Executor producerExecutor,
         PipelineContext context,
-        TransportDispatchMetadata transport,
-        Supplier<T> supplier
+        TransportDispatchMetadata transport
     ) {
-        PipelineContext previousContext = PipelineContextHolder.get();
-        TransportDispatchMetadata previousTransport = TransportDispatchMetadataHolder.get();
-        if (context != null) {
-            PipelineContextHolder.set(context);
-        } else {
-            PipelineContextHolder.clear();
+        return new BlockingIteratorPrefetcher<>(
+            iterator,
+            capacity,
+            Math.min(settings.iteratorPrefetchChunk(), capacity),
+            command -> producerExecutor.execute(() -> withCapturedContext(context, transport, command)));
+    }
+
+    private Executor selectExecutor(boolean useVirtualThreads, String step) {
+        if (!useVirtualThreads) {
+            return Infrastructure.getDefaultWorkerPool();
+        }
+        if (settings.pinningDiagnostics()) {
+            pinningMonitor.startOnce();
+        }
+        if (step == null) {
+            return virtualThreadExecutor;
         }
-        if (transport != null) {
-            TransportDispatchMetadataHolder.set(transport);
-        } else {
-            TransportDispatchMetadataHolder.clear();
+        return stepExecutors.computeIfAbsent(step, this::stepExecutor);
+    }
+
+    private Executor stepExecutor(String step) {
+        knownSteps.add(step);
+        int maxInFlight = settings.maxInFlight(step);
+        Semaphore permits = maxInFlight > 0 ? new Semaphore(maxInFlight) : null;
+        return command -> virtualThreadExecutor.execute(() -> runOnStep(step, permits, command));
+    }
+
+    private static void runOnStep(String step, Semaphore permits, Runnable command) {
+        if (permits != null) {
+            long waitStart = System.nanoTime();
+            // The command carries the subscription; it must run even if this thread is interrupted.
+            permits.acquireUninterruptibly();
+            BlockingExecutionMetrics.recordPermitWait(step, System.nanoTime() - waitStart);
         }
+        BlockingExecutionMetrics.adjustInFlight(step, 1);
         try {
-            return supplier.get();
+            command.run();
         } finally {
-            if (previousContext != null) {
-                PipelineContextHolder.set(previousContext);
-            } else {
-                PipelineContextHolder.clear();
-            }
-            if (previousTransport != null) {
-                TransportDispatchMetadataHolder.set(previousTransport);
-            } else {
-                TransportDispatchMetadataHolder.clear();
+            BlockingExecutionMetrics.adjustInFlight(step, -1);
+            if (permits != null) {
+                permits.release();
             }
         }
     }
 
+    private static <T> T withCapturedContext(
+        PipelineContext context,
+        TransportDispatchMetadata transport,
+        Supplier<T> supplier
+    ) {
+        return RuntimeAdapters.callWithExecutionContext(CAPTURED_KEYS, new Object[] {context, transport}, supplier);
+    }
+
     private static void withCapturedContext(
         PipelineContext context,
         TransportDispatchMetadata transport,
@@ -119,9 +249,54 @@ public class BlockingExecutionSupport {
 
     @PreDestroy
     void close() {
+        pinningMonitor.close();
         virtualThreadExecutor.shutdown();
     }
 
+    /**
+     * Defers iterator acquisition to the first read, so that it runs on the prefetch producer. A {@code null}
+     * iterator reads as empty.
+     */
+    private static final class OpeningIterator<T> implements CloseableIterator<T> {
+        private final Supplier<? extends CloseableIterator<T>> supplier;
+        private CloseableIterator<T> iterator;
+        private boolean opened;
+
+        private OpeningIterator(Supplier<? extends CloseableIterator<T>> supplier) {
+            this.supplier = supplier;
+        }
+
+        @Override
+        public boolean hasNext() {
+            CloseableIterator<T> current = open();
+            return current != null && current.hasNext();
+        }
+
+        @Override
+        public T next() {
+            CloseableIterator<T> current = open();
+            if (current == null) {
+                throw new NoSuchElementException();
+            }
+            return current.next();
+        }
+
+        @Override
+        public void close() throws Exception {
+            if (iterator != null) {
+                iterator.close();
+            }
+        }
+
+        private CloseableIterator<T> open() {
+            if (!opened) {
+                opened = true;
+                iterator = supplier.get();
+            }
+            return iterator;
+        }
+    }
+
     private static final class IteratorSubscription<T> implements Flow.Subscription {
         private final Flow.Subscriber<? super T> subscriber;
         private final Supplier<? extends CloseableIterator<T>> supplier;
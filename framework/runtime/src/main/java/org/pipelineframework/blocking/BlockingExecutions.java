@@ -34,36 +34,53 @@ public final class BlockingExecutions {
     }
 
     /**
-     * Offloads a blocking supplier on the default worker pool.
+     * Offloads a blocking supplier on the default worker pool, or on a virtual thread when
+     * {@code pipeline.blocking.virtual-threads} is enabled.
      *
-     * @param owner retained for source compatibility with existing blocking service defaults; ignored
+     * @param owner step or service instance; its class keys the virtual-thread in-flight cap
      * @param supplier blocking supplier to execute
      * @return a Uni backed by the offloaded supplier
      */
     public static <T> Uni<T> supply(Object owner, Supplier<T> supplier) {
-        return support().supply(false, supplier);
+        BlockingExecutionSupport support = support();
+        return support.supply(support.virtualThreadsByDefault(), stepKey(owner), supplier);
     }
 
     /**
-     * Offloads a blocking list supplier on the default worker pool.
+     * Offloads a blocking list supplier on the default worker pool, or on a virtual thread when
+     * {@code pipeline.blocking.virtual-threads} is enabled.
      *
-     * @param owner retained for source compatibility with existing blocking service defaults; ignored
+     * @param owner step or service instance; its class keys the virtual-thread in-flight cap
      * @param supplier blocking supplier to execute
      * @return a Multi over the supplied list
      */
     public static <T> Multi<T> emitList(Object owner, Supplier<List<T>> supplier) {
-        return support().emitList(false, supplier);
+        BlockingExecutionSupport support = support();
+        return support.emitList(support.virtualThreadsByDefault(), stepKey(owner), supplier);
     }
 
     /**
-     * Offloads blocking iterator acquisition and iteration on the default worker pool.
+     * Offloads blocking iterator acquisition and iteration on the default worker pool, or on a
+     * virtual thread when {@code pipeline.blocking.virtual-threads} is enabled.
      *
-     * @param owner retained for source compatibility with existing blocking service defaults; ignored
+     * @param owner step or service instance; its class keys the virtual-thread in-flight cap
      * @param supplier blocking iterator supplier to execute
      * @return a Multi over the iterator items
      */
     public static <T> Multi<T> emitIterator(Object owner, Supplier<? extends CloseableIterator<T>> supplier) {
-        return support().emitIterator(false, supplier);
+        BlockingExecutionSupport support = support();
+        return support.emitIterator(support.virtualThreadsByDefault(), stepKey(owner), supplier);
+    }
+
+    private static String stepKey(Object owner) {
+        if (owner == null) {
+            return null;
+        }
+        Class<?> type = owner.getClass();
+        if (type.getName().contains("_Subclass") && type.getSuperclass() != null) {
+            type = type.getSuperclass();
+        }
+        return type.getName();
     }
 
     private static BlockingExecutionSupport support() {
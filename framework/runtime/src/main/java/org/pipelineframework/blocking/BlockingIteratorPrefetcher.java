@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2023-2026 Mariano Barcia
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.pipelineframework.blocking;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Read-ahead decorator for blocking iterators.
+ *
+ * <p>A producer task reads the delegate into a bounded single-producer/single-consumer ring while
+ * the consumer drains it, so parsing overlaps with downstream processing. The producer reads in
+ * chunks and publishes each chunk with one index update; a chunk is published early when the
+ * consumer is already waiting. At most {@code capacity} items plus one chunk are read ahead of
+ * demand, so this trades a bounded amount of eager reading for throughput. Failures raised by the
+ * delegate are rethrown after the items read before them.</p>
+ *
+ * @param <T> item type
+ */
+public final class BlockingIteratorPrefetcher<T> implements CloseableIterator<T> {
+
+    private final CloseableIterator<T> delegate;
+    private final Executor producerExecutor;
+    private final Object[] ring;
+    private final int mask;
+    private final int chunkSize;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final CountDownLatch producerExited = new CountDownLatch(1);
+    private volatile boolean exhausted;
+    private volatile boolean closed;
+    private volatile Throwable failure;
+    private volatile Thread waitingConsumer;
+    private volatile Thread waitingProducer;
+
+    /**
+     * Creates a prefetcher whose producer runs on its own virtual thread.
+     *
+     * @param delegate iterator being read ahead
+     * @param capacity ring capacity, rounded up to a power of two
+     * @param chunkSize items read before each publication; at most the capacity
+     */
+    public BlockingIteratorPrefetcher(CloseableIterator<T> delegate, int capacity, int chunkSize) {
+        this(delegate, capacity, chunkSize, command -> Thread.ofVirtual().name("tpf-iterator-prefetch").start(command));
+    }
+
+    /**
+     * Creates a prefetcher whose producer runs on the given executor.
+     *
+     * @param delegate iterator being read ahead
+     * @param capacity ring capacity, rounded up to a power of two
+     * @param chunkSize items read before each publication; at most the capacity
+     * @param producerExecutor executor that runs the producer task; it must not run it inline
+     */
+    public BlockingIteratorPrefetcher(
+        CloseableIterator<T> delegate,
+        int capacity,
+        int chunkSize,
+        Executor producerExecutor) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        if (chunkSize <= 0 || chunkSize > capacity) {
+            throw new IllegalArgumentException("chunkSize must be between 1 and capacity");
+        }
+        this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
+        this.producerExecutor = Objects.requireNonNull(producerExecutor, "producerExecutor must not be null");
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.ring = new Object[size];
+        this.mask = size - 1;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public boolean hasNext() {
+        startProducer();
+        while (true) {
+            if (head.get() < tail.get()) {
+                return true;
+            }
+            if (exhausted) {
+                if (head.get() < tail.get()) {
+                    return true;
+                }
+                Throwable error = failure;
+                if (error != null) {
+                    failure = null;
+                    throw propagate(error);
+                }
+                return false;
+            }
+            if (closed) {
+                return false;
+            }
+            awaitProducer();
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        long index = head.get();
+        int slot = (int) (index & mask);
+        T item = (T) ring[slot];
+        ring[slot] = null;
+        head.set(index + 1);
+        LockSupport.unpark(waitingProducer);
+        return item;
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (started.get()) {
+            LockSupport.unpark(waitingProducer);
+            producerExited.await();
+        }
+        delegate.close();
+    }
+
+    private void startProducer() {
+        if (!closed && started.compareAndSet(false, true)) {
+            try {
+                producerExecutor.execute(this::produce);
+            } catch (RuntimeException e) {
+                producerExited.countDown();
+                throw e;
+            }
+        }
+    }
+
+    private void produce() {
+        Object[] chunk = new Object[chunkSize];
+        try {
+            boolean more = true;
+            while (more && !closed) {
+                int count = 0;
+                try {
+                    while (count < chunkSize && !closed && (more = delegate.hasNext())) {
+                        T item = delegate.next();
+                        chunk[count++] = item;
+                        if (waitingConsumer != null) {
+                            break;
+                        }
+                    }
+                } catch (Throwable error) {
+                    failure = error;
+                    more = false;
+                }
+                publish(chunk, count);
+            }
+        } finally {
+            exhausted = true;
+            LockSupport.unpark(waitingConsumer);
+            producerExited.countDown();
+        }
+    }
+
+    private void publish(Object[] chunk, int count) {
+        if (count == 0) {
+            return;
+        }
+        long start = tail.get();
+        while (!closed && start + count - head.get() > ring.length) {
+            waitingProducer = Thread.currentThread();
+            if (!closed && start + count - head.get() > ring.length) {
+                LockSupport.park(this);
+            }
+            waitingProducer = null;
+        }
+        if (closed) {
+            return;
+        }
+        for (int i = 0; i < count; i++) {
+            ring[(int) ((start + i) & mask)] = chunk[i];
+            chunk[i] = null;
+        }
+        tail.set(start + count);
+        LockSupport.unpark(waitingConsumer);
+    }
+
+    private void awaitProducer() {
+        waitingConsumer = Thread.currentThread();
+        try {
+            if (head.get() >= tail.get() && !exhausted && !closed) {
+                LockSupport.park(this);
+            }
+            if (Thread.interrupted()) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while waiting for prefetched items");
+            }
+        } finally {
+            waitingConsumer = null;
+        }
+    }
+
+    private static RuntimeException propagate(Throwable error) {
+        if (error instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        if (error instanceof Error fatal) {
+            throw fatal;
+        }
+        return new RuntimeException("Prefetching blocking iterator failed", error);
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2023-2026 Mariano Barcia
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.pipelineframework.blocking;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.jboss.logging.Logger;
+import org.pipelineframework.telemetry.BlockingExecutionMetrics;
+
+/**
+ * Streams {@code jdk.VirtualThreadPinned} JFR events into blocking metrics. A pinned event is
+ * attributed to the innermost known step class on its stack, so a {@code synchronized} driver
+ * call shows up under the step that made it.
+ */
+final class VirtualThreadPinningMonitor implements AutoCloseable {
+
+    private static final Logger LOG = Logger.getLogger(VirtualThreadPinningMonitor.class);
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private final Set<String> knownSteps;
+    private final Duration threshold;
+    private final AtomicBoolean started = new AtomicBoolean();
+    private volatile RecordingStream stream;
+
+    VirtualThreadPinningMonitor(Set<String> knownSteps, Duration threshold) {
+        this.knownSteps = knownSteps;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Starts the JFR stream once. Runtimes without JFR streaming (for example some native images)
+     * keep running without pinning diagnostics.
+     */
+    void startOnce() {
+        if (!started.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            RecordingStream recording = new RecordingStream();
+            recording.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+            recording.onEvent(PINNED_EVENT, this::onPinned);
+            recording.startAsync();
+            stream = recording;
+        } catch (RuntimeException | LinkageError e) {
+            LOG.debugf(e, "Virtual-thread pinning diagnostics are unavailable");
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        BlockingExecutionMetrics.recordPinned(stepOf(event.getStackTrace()), event.getDuration().toNanos());
+    }
+
+    private String stepOf(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return null;
+        }
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            if (frame.getMethod() == null || frame.getMethod().getType() == null) {
+                continue;
+            }
+            String type = frame.getMethod().getType().getName();
+            if (knownSteps.contains(type)) {
+                return type;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void close() {
+        RecordingStream recording = stream;
+        if (recording != null) {
+            recording.close();
+        }
+    }
+}
@@ -39,4 +39,23 @@ public interface ProtobufMessageParser {
      * @throws RuntimeException if the payload is malformed or cannot be parsed into this message type
      */
     Message parseFrom(byte[] bytes);
+
+    /**
+     * The generated Java class for the message type, used to index this parser by class.
+     *
+     * @return the message class, or {@code null} when only the schema name is known
+     */
+    default Class<? extends Message> messageClass() {
+        return null;
+    }
+
+    /**
+     * Creates an empty builder for the message type without reflection.
+     *
+     * @return a new builder
+     * @throws UnsupportedOperationException if this parser does not supply builders
+     */
+    default Message.Builder newBuilder() {
+        throw new UnsupportedOperationException("Parser for " + type() + " does not supply builders");
+    }
 }
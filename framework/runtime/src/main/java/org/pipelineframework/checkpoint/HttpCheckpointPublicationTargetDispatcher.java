@@ -13,6 +13,7 @@ import io.quarkus.arc.Unremovable;
 import io.smallrye.mutiny.Uni;
 import org.pipelineframework.config.pipeline.PipelineJson;
 import org.pipelineframework.transport.http.ProtobufHttpContentTypes;
+import org.pipelineframework.transport.http.RemoteHttpClients;
 
 /**
  * HTTP dispatcher for runtime checkpoint publication targets.
@@ -23,13 +24,10 @@ public class HttpCheckpointPublicationTargetDispatcher implements CheckpointPubl
 
     private static final ObjectMapper JSON = PipelineJson.mapper();
     private static final String DEFAULT_IDEMPOTENCY_HEADER = "Idempotency-Key";
-    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(5);
     private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
     private static final int LOG_BODY_PREVIEW_LIMIT = 160;
 
-    private final HttpClient httpClient = HttpClient.newBuilder()
-        .connectTimeout(CONNECT_TIMEOUT)
-        .build();
+    private final HttpClient httpClient = RemoteHttpClients.shared(HttpClient.Redirect.NEVER);
 
     @Override
     public PublicationTargetKind kind() {
@@ -105,8 +103,8 @@ public class HttpCheckpointPublicationTargetDispatcher implements CheckpointPubl
                 idempotencyKey.trim());
         }
 
-        return Uni.createFrom().completionStage(
-            httpClient.sendAsync(builder.build(), HttpResponse.BodyHandlers.ofString()))
+        return Uni.createFrom().completionStage(() ->
+            RemoteHttpClients.sendAsync(httpClient, builder.build(), HttpResponse.BodyHandlers.ofString()))
             .onItem().transformToUni(response -> {
                 int status = response.statusCode();
                 if (status >= 200 && status < 300) {
@@ -8,11 +8,15 @@ import java.time.Duration;
  * @param enabled whether the runtime poller should start
  * @param interval interval between listing attempts
  * @param batchSize maximum objects listed in one attempt
+ * @param admissionConcurrency maximum listed objects admitted concurrently within one attempt
+ * @param maxAdmissionAttempts polls in which one object may fail admission before it is acknowledged and skipped
  */
 public record PipelineObjectPollConfig(
     boolean enabled,
     Duration interval,
-    int batchSize
+    int batchSize,
+    int admissionConcurrency,
+    int maxAdmissionAttempts
 ) {
     public PipelineObjectPollConfig {
         interval = interval == null ? Duration.ofSeconds(30) : interval;
@@ -22,9 +26,23 @@ public record PipelineObjectPollConfig(
         if (batchSize <= 0) {
             throw new IllegalArgumentException("object source poll.batchSize must be positive");
         }
+        if (admissionConcurrency <= 0) {
+            throw new IllegalArgumentException("object source poll.admissionConcurrency must be positive");
+        }
+        if (maxAdmissionAttempts <= 0) {
+            throw new IllegalArgumentException("object source poll.maxAdmissionAttempts must be positive");
+        }
+    }
+
+    public PipelineObjectPollConfig(boolean enabled, Duration interval, int batchSize, int admissionConcurrency) {
+        this(enabled, interval, batchSize, admissionConcurrency, 3);
+    }
+
+    public PipelineObjectPollConfig(boolean enabled, Duration interval, int batchSize) {
+        this(enabled, interval, batchSize, 1, 3);
     }
 
     public static PipelineObjectPollConfig defaults() {
-        return new PipelineObjectPollConfig(false, Duration.ofSeconds(30), 100);
+        return new PipelineObjectPollConfig(false, Duration.ofSeconds(30), 100, 1, 3);
     }
 }
@@ -1945,7 +1945,9 @@ public class PipelineTemplateConfigLoader {
         return new PipelineObjectPollConfig(
             readBoolean(pollMap, "enabled", false),
             readDuration(pollMap, "interval", Duration.ofSeconds(30)),
-            readInt(pollMap, "batchSize", 100));
+            readInt(pollMap, "batchSize", 100),
+            readInt(pollMap, "admissionConcurrency", 1),
+            readInt(pollMap, "maxAdmissionAttempts", 3));
     }
 
     private PipelineObjectIdentityConfig readObjectIdentity(Map<?, ?> sourceMap) {
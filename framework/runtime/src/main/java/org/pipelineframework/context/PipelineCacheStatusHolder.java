@@ -17,6 +17,7 @@
 package org.pipelineframework.context;
 
 import org.pipelineframework.cache.CacheStatus;
+import org.pipelineframework.runtime.core.ExecutionContextKey;
 import org.pipelineframework.runtime.core.RuntimeAdapters;
 
 /**
@@ -24,7 +25,8 @@ import org.pipelineframework.runtime.core.RuntimeAdapters;
  */
 public final class PipelineCacheStatusHolder {
 
-    private static final String CONTEXT_KEY = PipelineCacheStatusHolder.class.getName() + ".status";
+    private static final ExecutionContextKey<CacheStatus> CONTEXT_KEY =
+        ExecutionContextKey.of(PipelineCacheStatusHolder.class.getName() + ".status", CacheStatus.class);
 
     private PipelineCacheStatusHolder() {
     }
@@ -35,11 +37,7 @@ public final class PipelineCacheStatusHolder {
      * @return the cache status, or null if none is set
      */
     public static CacheStatus get() {
-        Object value = RuntimeAdapters.executionContext(CONTEXT_KEY, Object.class);
-        if (value instanceof CacheStatus status) {
-            return status;
-        }
-        return null;
+        return RuntimeAdapters.executionContext(CONTEXT_KEY);
     }
 
     /**
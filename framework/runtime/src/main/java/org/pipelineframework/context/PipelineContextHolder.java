@@ -16,6 +16,7 @@
 
 package org.pipelineframework.context;
 
+import org.pipelineframework.runtime.core.ExecutionContextKey;
 import org.pipelineframework.runtime.core.RuntimeAdapters;
 
 /**
@@ -23,7 +24,9 @@ import org.pipelineframework.runtime.core.RuntimeAdapters;
  */
 public final class PipelineContextHolder {
 
-    private static final String CONTEXT_KEY = PipelineContextHolder.class.getName() + ".context";
+    /** Slot-registered carrier key, for capturing this holder's value together with others. */
+    public static final ExecutionContextKey<PipelineContext> CONTEXT_KEY =
+        ExecutionContextKey.of(PipelineContextHolder.class.getName() + ".context", PipelineContext.class);
 
     private PipelineContextHolder() {
     }
@@ -34,7 +37,7 @@ public final class PipelineContextHolder {
      * @return the pipeline context, or null if none is set
      */
     public static PipelineContext get() {
-        return RuntimeAdapters.executionContext(CONTEXT_KEY, PipelineContext.class);
+        return RuntimeAdapters.executionContext(CONTEXT_KEY);
     }
 
     /**
@@ -16,6 +16,7 @@
 
 package org.pipelineframework.context;
 
+import org.pipelineframework.runtime.core.ExecutionContextKey;
 import org.pipelineframework.runtime.core.RuntimeAdapters;
 
 /**
@@ -23,7 +24,8 @@ import org.pipelineframework.runtime.core.RuntimeAdapters;
  */
 public final class TransportDispatchMetadataHolder {
 
-    private static final String CONTEXT_KEY = TransportDispatchMetadataHolder.class.getName() + ".context";
+    public static final ExecutionContextKey<TransportDispatchMetadata> CONTEXT_KEY =
+        ExecutionContextKey.of(TransportDispatchMetadataHolder.class.getName() + ".context", TransportDispatchMetadata.class);
 
     private TransportDispatchMetadataHolder() {
     }
@@ -34,11 +36,7 @@ public final class TransportDispatchMetadataHolder {
      * @return metadata, or null when absent
      */
     public static TransportDispatchMetadata get() {
-        Object value = RuntimeAdapters.executionContext(CONTEXT_KEY, Object.class);
-        if (value instanceof TransportDispatchMetadata metadata) {
-            return metadata;
-        }
-        return null;
+        return RuntimeAdapters.executionContext(CONTEXT_KEY);
     }
 
     /**
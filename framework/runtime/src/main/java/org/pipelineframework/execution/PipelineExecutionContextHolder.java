@@ -2,23 +2,22 @@ package org.pipelineframework.execution;
 
 import java.util.Optional;
 
+import org.pipelineframework.runtime.core.ExecutionContextKey;
 import org.pipelineframework.runtime.core.RuntimeAdapters;
 
 /**
  * Holder for framework-managed execution context using the runtime adapter-backed context carrier.
  */
 public final class PipelineExecutionContextHolder {
-    private static final String CONTEXT_KEY = PipelineExecutionContextHolder.class.getName() + ".context";
+    /** Slot-registered carrier key, for capturing this holder's value together with others. */
+    public static final ExecutionContextKey<PipelineExecutionContext> CONTEXT_KEY =
+        ExecutionContextKey.of(PipelineExecutionContextHolder.class.getName() + ".context", PipelineExecutionContext.class);
 
     private PipelineExecutionContextHolder() {
     }
 
     public static Optional<PipelineExecutionContext> get() {
-        Object value = RuntimeAdapters.executionContext(CONTEXT_KEY, Object.class);
-        if (value instanceof PipelineExecutionContext executionContext) {
-            return Optional.of(executionContext);
-        }
-        return Optional.empty();
+        return Optional.ofNullable(RuntimeAdapters.executionContext(CONTEXT_KEY));
     }
 
     public static void set(PipelineExecutionContext context) {
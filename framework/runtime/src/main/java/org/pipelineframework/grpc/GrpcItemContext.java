@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2023-2026 Mariano Barcia
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.pipelineframework.grpc;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.pipelineframework.cache.CacheStatus;
+import org.pipelineframework.context.PipelineCacheStatusHolder;
+import org.pipelineframework.context.PipelineContext;
+import org.pipelineframework.context.PipelineContextHeaders;
+import org.pipelineframework.context.PipelineContextHolder;
+import org.pipelineframework.context.TransportDispatchMetadata;
+import org.pipelineframework.context.TransportDispatchMetadataHolder;
+
+/**
+ * Per-item pipeline context carried inside stream envelopes.
+ *
+ * <p>A multiplexed stream sends its gRPC headers once, so the headers the context interceptors attach to unary calls
+ * travel as an envelope {@code context} map instead, keyed by the same header names. The client captures the
+ * context of each item when it is sent, and the server installs it around the handling of that item alone. The
+ * response map carries the item's cache status back.</p>
+ */
+final class GrpcItemContext {
+
+  private GrpcItemContext() {
+  }
+
+  /**
+   * Captures the pipeline context and dispatch metadata of the calling item.
+   *
+   * @return header-named context values, empty when nothing is set
+   */
+  static Map<String, String> capture() {
+    Map<String, String> values = new HashMap<>();
+    PipelineContext context = PipelineContextHolder.get();
+    if (context != null) {
+      put(values, PipelineContextHeaders.VERSION, context.versionTag());
+      put(values, PipelineContextHeaders.REPLAY, context.replayMode());
+      put(values, PipelineContextHeaders.CACHE_POLICY, context.cachePolicy());
+    }
+    TransportDispatchMetadata metadata = TransportDispatchMetadataHolder.get();
+    if (metadata != null) {
+      put(values, PipelineContextHeaders.TPF_CORRELATION_ID, metadata.correlationId());
+      put(values, PipelineContextHeaders.TPF_EXECUTION_ID, metadata.executionId());
+      put(values, PipelineContextHeaders.TPF_IDEMPOTENCY_KEY, metadata.idempotencyKey());
+      put(values, PipelineContextHeaders.TPF_RETRY_ATTEMPT, metadata.retryAttempt());
+      put(values, PipelineContextHeaders.TPF_DEADLINE_EPOCH_MS, metadata.deadlineEpochMs());
+      put(values, PipelineContextHeaders.TPF_DISPATCH_TS_EPOCH_MS, metadata.dispatchTsEpochMs());
+      put(values, PipelineContextHeaders.TPF_PARENT_ITEM_ID, metadata.parentItemId());
+    }
+    return values;
+  }
+
+  /**
+   * Reads the dispatch metadata of a received item.
+   *
+   * @param values the envelope context map
+   * @return the dispatch metadata, with every field null when none was sent
+   */
+  static TransportDispatchMetadata metadata(Map<String, String> values) {
+    return TransportDispatchMetadata.fromHeaders(
+        values.get(PipelineContextHeaders.TPF_CORRELATION_ID),
+        values.get(PipelineContextHeaders.TPF_EXECUTION_ID),
+        values.get(PipelineContextHeaders.TPF_IDEMPOTENCY_KEY),
+        values.get(PipelineContextHeaders.TPF_RETRY_ATTEMPT),
+        values.get(PipelineContextHeaders.TPF_DEADLINE_EPOCH_MS),
+        values.get(PipelineContextHeaders.TPF_DISPATCH_TS_EPOCH_MS),
+        values.get(PipelineContextHeaders.TPF_PARENT_ITEM_ID));
+  }
+
+  /**
+   * Installs the context of one received item on the current thread, the way the server interceptor does for a
+   * unary call.
+   *
+   * @param values the envelope context map
+   * @param metadata the item's dispatch metadata, from {@link #metadata(Map)}
+   * @return scope that restores the previous context when closed
+   */
+  static Scope install(Map<String, String> values, TransportDispatchMetadata metadata) {
+    Scope scope = new Scope(PipelineContextHolder.get(), TransportDispatchMetadataHolder.get());
+    PipelineContextHolder.set(PipelineContext.fromHeaders(
+        values.get(PipelineContextHeaders.VERSION),
+        values.get(PipelineContextHeaders.REPLAY),
+        values.get(PipelineContextHeaders.CACHE_POLICY)));
+    TransportDispatchMetadataHolder.set(metadata);
+    PipelineCacheStatusHolder.clear();
+    return scope;
+  }
+
+  /**
+   * Clears the item context on the current thread, so that opening a stream attaches no item's headers to it.
+   *
+   * @return scope that restores the previous context when closed
+   */
+  static Scope clear() {
+    Scope scope = new Scope(PipelineContextHolder.get(), TransportDispatchMetadataHolder.get());
+    PipelineContextHolder.clear();
+    TransportDispatchMetadataHolder.clear();
+    return scope;
+  }
+
+  /**
+   * Takes the cache status the server recorded for the current item.
+   *
+   * @return response context map, empty when no status was recorded
+   */
+  static Map<String, String> takeCacheStatus() {
+    CacheStatus status = PipelineCacheStatusHolder.getAndClear();
+    return status == null ? Map.of() : Map.of(PipelineContextHeaders.CACHE_STATUS, status.name());
+  }
+
+  /**
+   * Publishes the cache status of a response to the client, as the client interceptor does from response headers.
+   *
+   * @param values the response context map
+   */
+  static void applyCacheStatus(Map<String, String> values) {
+    PipelineCacheStatusHolder.set(CacheStatus.fromHeader(values.get(PipelineContextHeaders.CACHE_STATUS)));
+  }
+
+  private static void put(Map<String, String> values, String key, Object value) {
+    if (value != null && !value.toString().isBlank()) {
+      values.put(key, value.toString());
+    }
+  }
+
+  /**
+   * Restores the context that was current before {@link #install} or {@link #clear()}.
+   */
+  static final class Scope implements AutoCloseable {
+    private final PipelineContext context;
+    private final TransportDispatchMetadata metadata;
+
+    private Scope(PipelineContext context, TransportDispatchMetadata metadata) {
+      this.context = context;
+      this.metadata = metadata;
+    }
+
+    @Override
+    public void close() {
+      PipelineContextHolder.set(context);
+      TransportDispatchMetadataHolder.set(metadata);
+    }
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2023-2026 Mariano Barcia
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.pipelineframework.grpc;
+
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.ConfigProvider;
+
+/**
+ * Multiplexed one-to-one stream settings, read from {@code pipeline.grpc.multiplex.*}.
+ *
+ * <ul>
+ *   <li>{@code pipeline.grpc.multiplex.streams}: long-lived streams per client step, {@code 0} to keep
+ *       one unary call per item (default 2)</li>
+ *   <li>{@code pipeline.grpc.multiplex.window}: items in flight per stream; further items wait on the
+ *       client and the server reads no further ahead (default 64)</li>
+ * </ul>
+ *
+ * @param streams long-lived streams per client step; {@code 0} disables multiplexing
+ * @param window items in flight per stream
+ */
+record GrpcMultiplexSettings(int streams, int window) {
+  static final String PREFIX = "pipeline.grpc.multiplex.";
+
+  GrpcMultiplexSettings {
+    if (streams < 0) {
+      throw new IllegalArgumentException(PREFIX + "streams must be >= 0");
+    }
+    if (window <= 0) {
+      throw new IllegalArgumentException(PREFIX + "window must be > 0");
+    }
+  }
+
+  static GrpcMultiplexSettings defaults() {
+    return new GrpcMultiplexSettings(2, 64);
+  }
+
+  static GrpcMultiplexSettings fromConfig(Config config) {
+    return new GrpcMultiplexSettings(
+        config.getOptionalValue(PREFIX + "streams", Integer.class).orElse(2),
+        config.getOptionalValue(PREFIX + "window", Integer.class).orElse(64));
+  }
+
+  static GrpcMultiplexSettings load() {
+    try {
+      return fromConfig(ConfigProvider.getConfig());
+    } catch (IllegalStateException | IllegalArgumentException ignored) {
+      // Callers without a config source keep the defaults.
+      return defaults();
+    }
+  }
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2023-2026 Mariano Barcia
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.pipelineframework.grpc;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Function;
+
+import io.grpc.Metadata;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.Cancellable;
+import org.pipelineframework.context.DispatchDeadlineValidator;
+import org.pipelineframework.context.TransportDispatchMetadata;
+
+/**
+ * Sequence-id envelopes of the correlated {@code remoteProcessStream} endpoint generated for one-to-one steps.
+ *
+ * <p>Each request envelope carries one unary request and a sequence id chosen by the client. Each response envelope
+ * echoes the sequence id and carries either the unary response or the gRPC status the unary call would have failed
+ * with, so one failing item never ends the stream. Generated client steps and service adapters implement this class
+ * inline over the envelope messages of the step proto.</p>
+ *
+ * <p>Both envelopes also carry a {@code context} map. Request envelopes hold the pipeline context and dispatch
+ * metadata that a unary call would send as headers (idempotency key, execution id, deadline and so on), because the
+ * stream's own headers are sent once for many items. Response envelopes hold the item's cache status.</p>
+ *
+ * @param <GrpcIn> the unary request message type
+ * @param <GrpcOut> the unary response message type
+ * @param <RequestEnvelope> the request envelope message type
+ * @param <ResponseEnvelope> the response envelope message type
+ */
+public abstract class GrpcStreamEnvelope<GrpcIn, GrpcOut, RequestEnvelope, ResponseEnvelope> {
+
+  private static final Metadata.Key<String> ERROR_DETAILS =
+      Metadata.Key.of("error-details", Metadata.ASCII_STRING_MARSHALLER);
+
+  /**
+   * Default constructor for GrpcStreamEnvelope.
+   */
+  public GrpcStreamEnvelope() {
+  }
+
+  /**
+   * Wraps a unary request for the stream.
+   *
+   * @param sequence client-assigned sequence id
+   * @param request the unary request
+   * @param context the item's context headers
+   * @return the request envelope
+   */
+  protected abstract RequestEnvelope wrapRequest(long sequence, GrpcIn request, Map<String, String> context);
+
+  /**
+   * Reads the sequence id of a request envelope.
+   *
+   * @param envelope the request envelope
+   * @return the sequence id
+   */
+  protected abstract long requestSequence(RequestEnvelope envelope);
+
+  /**
+   * Reads the context headers of a request envelope.
+   *
+   * @param envelope the request envelope
+   * @return the item's context headers, possibly empty
+   */
+  protected abstract Map<String, String> requestContext(RequestEnvelope envelope);
+
+  /**
+   * Reads the unary request of a request envelope.
+   *
+   * @param envelope the request envelope
+   * @return the unary request
+   */
+  protected abstract GrpcIn unwrapRequest(RequestEnvelope envelope);
+
+  /**
+   * Wraps a successful unary response.
+   *
+   * @param sequence sequence id of the matching request
+   * @param response the unary response
+   * @param context the item's response context, such as its cache status
+   * @return the response envelope
+   */
+  protected abstract ResponseEnvelope wrapResponse(long sequence, GrpcOut response, Map<String, String> context);
+
+  /**
+   * Wraps the failure of one item.
+   *
+   * @param sequence sequence id of the matching request
+   * @param code gRPC status code value, never {@code 0}
+   * @param message status description, empty when there is none
+   * @return the response envelope
+   */
+  protected abstract ResponseEnvelope wrapFailure(long sequence, int code, String message);
+
+  /**
+   * Reads the sequence id of a response envelope.
+   *
+   * @param envelope the response envelope
+   * @return the sequence id
+   */
+  protected abstract long responseSequence(ResponseEnvelope envelope);
+
+  /**
+   * Reads the response context of a response envelope.
+   *
+   * @param envelope the response envelope
+   * @return the item's response context, possibly empty
+   */
+  protected abstract Map<String, String> responseContext(ResponseEnvelope envelope);
+
+  /**
+   * Reads the unary response of a successful response envelope.
+   *
+   * @param envelope the response envelope
+   * @return the unary response
+   */
+  protected abstract GrpcOut unwrapResponse(ResponseEnvelope envelope);
+
+  /**
+   * Reads the status code of a response envelope.
+   *
+   * @param envelope the response envelope
+   * @return the gRPC status code value, {@code 0} for success
+   */
+  protected abstract int responseErrorCode(ResponseEnvelope envelope);
+
+  /**
+   * Reads the status description of a failed response envelope.
+   *
+   * @param envelope the response envelope
+   * @return the status description, possibly empty
+   */
+  protected abstract String responseErrorMessage(ResponseEnvelope envelope);
+
+  /**
+   * Serves a correlated stream by running each request through the unary handler.
+   *
+   * <p>At most {@code pipeline.grpc.multiplex.window} items are processed at once; the stream is not read further
+   * until one completes, so gRPC flow control pushes back on the client. Responses are emitted in completion order
+   * and item failures are sent as failure envelopes.</p>
+   *
+   * <p>Each item runs with its own context installed, as the server interceptor does for a unary call. An item whose
+   * deadline has passed fails with {@code DEADLINE_EXCEEDED} without being handled, and an item still running at its
+   * deadline is cancelled and fails the same way; the stream itself carries on.</p>
+   *
+   * @param requests the request envelopes
+   * @param handler the unary handler, usually the adapter's {@code remoteProcess}
+   * @return the response envelopes
+   */
+  public Multi<ResponseEnvelope> serve(Multi<RequestEnvelope> requests, Function<GrpcIn, Uni<GrpcOut>> handler) {
+    return serve(requests, handler, GrpcMultiplexSettings.load().window());
+  }
+
+  Multi<ResponseEnvelope> serve(
+      Multi<RequestEnvelope> requests, Function<GrpcIn, Uni<GrpcOut>> handler, int window) {
+    return requests
+        .onItem()
+        .transformToUni(envelope -> serveItem(envelope, handler))
+        .merge(window);
+  }
+
+  private Uni<ResponseEnvelope> serveItem(RequestEnvelope envelope, Function<GrpcIn, Uni<GrpcOut>> handler) {
+    long sequence = requestSequence(envelope);
+    Map<String, String> context = requestContext(envelope) == null ? Map.of() : requestContext(envelope);
+    TransportDispatchMetadata metadata = GrpcItemContext.metadata(context);
+    Uni<GrpcOut> handled = Uni.createFrom().emitter(emitter -> {
+      DispatchDeadlineValidator.ensureNotExpired(metadata.deadlineEpochMs(), "grpc-stream");
+      // Installed only while the handler is assembled and subscribed, which is where step code reads it.
+      try (GrpcItemContext.Scope ignored = GrpcItemContext.install(context, metadata)) {
+        Cancellable subscription = handler.apply(unwrapRequest(envelope))
+            .subscribe().with(emitter::complete, emitter::fail);
+        emitter.onTermination(subscription::cancel);
+      }
+    });
+    if (metadata.deadlineEpochMs() != null) {
+      handled = handled.ifNoItem()
+          .after(Duration.ofMillis(Math.max(1L, metadata.deadlineEpochMs() - System.currentTimeMillis())))
+          .failWith(() -> Status.DEADLINE_EXCEEDED
+              .withDescription("Dispatch deadline exceeded while processing stream item " + sequence)
+              .asRuntimeException());
+    }
+    return handled
+        .onItem()
+        .transform(response -> wrapResponse(sequence, response, GrpcItemContext.takeCacheStatus()))
+        .onFailure()
+        .recoverWithItem(failure -> failure(sequence, failure));
+  }
+
+  ResponseEnvelope failure(long sequence, Throwable failure) {
+    Status status = Status.fromThrowable(failure);
+    if (status.isOk()) {
+      status = Status.UNKNOWN;
+    }
+    String description = status.getDescription();
+    return wrapFailure(sequence, status.getCode().value(), description == null ? "" : description);
+  }
+
+  /**
+   * Rebuilds the failure of a failed response envelope the way the unary call would have reported it.
+   */
+  StatusRuntimeException toException(ResponseEnvelope envelope) {
+    String message = responseErrorMessage(envelope);
+    Status status = Status.fromCodeValue(responseErrorCode(envelope));
+    Metadata trailers = new Metadata();
+    if (message != null && !message.isEmpty()) {
+      status = status.withDescription(message);
+      trailers.put(ERROR_DETAILS, message);
+    }
+    return status.asRuntimeException(trailers);
+  }
+}
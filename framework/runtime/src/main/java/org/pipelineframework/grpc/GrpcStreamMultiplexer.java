@@ -0,0 +1,450 @@
+/*
+ * Copyright (c) 2023-2026 Mariano Barcia
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.pipelineframework.grpc;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import io.grpc.Status;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.operators.multi.processors.UnicastProcessor;
+import io.smallrye.mutiny.subscription.Cancellable;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import org.jboss.logging.Logger;
+import org.pipelineframework.context.TransportDispatchMetadata;
+
+/**
+ * Carries the one-to-one calls of a client step over a small pool of long-lived {@code remoteProcessStream} streams.
+ *
+ * <p>Every call still returns its own {@code Uni}, so per-item retries, rejection and telemetry in the step are
+ * unchanged; only the transport differs. Each call is tagged with a sequence id, sent on the least-loaded stream and
+ * completed when the response envelope with that id arrives. A stream holds at most {@code window} calls in flight;
+ * further calls wait in a client-side queue until a response frees a slot.</p>
+ *
+ * <p>The pipeline context and dispatch metadata that the context interceptors send as headers on a unary call are
+ * captured per call and carried in the request envelope, and the item's cache status comes back in the response
+ * envelope; the stream's own headers carry no item context. A call whose dispatch metadata has a deadline fails with
+ * {@code DEADLINE_EXCEEDED} when no response arrives in time, which frees its slot on the stream; the server applies
+ * the same deadline to the item.</p>
+ *
+ * <p>Streams are long-lived and should not carry a per-call deadline of their own. If one does, or the server ends
+ * the stream with trailers, the stream ends: its in-flight calls fail with the stream's status, trailers included,
+ * and the stream is reopened for the next call. When the server does not implement the stream endpoint
+ * ({@code UNIMPLEMENTED}), the multiplexer switches to one unary call per item for the rest of its life and replays
+ * the affected calls that way.</p>
+ *
+ * @param <GrpcIn> the unary request message type
+ * @param <GrpcOut> the unary response message type
+ * @param <RequestEnvelope> the request envelope message type
+ * @param <ResponseEnvelope> the response envelope message type
+ */
+public final class GrpcStreamMultiplexer<GrpcIn, GrpcOut, RequestEnvelope, ResponseEnvelope>
+    implements AutoCloseable {
+
+  private static final Logger LOG = Logger.getLogger(GrpcStreamMultiplexer.class);
+
+  private final GrpcStreamEnvelope<GrpcIn, GrpcOut, RequestEnvelope, ResponseEnvelope> envelope;
+  private final Function<Multi<RequestEnvelope>, Multi<ResponseEnvelope>> streamCall;
+  private final Function<GrpcIn, Uni<GrpcOut>> unaryCall;
+  private final int window;
+  private final List<Lane> lanes = new ArrayList<>();
+  private final ArrayDeque<Pending> waiting = new ArrayDeque<>();
+  private long nextSequence;
+  private boolean unsupported;
+  private boolean closed;
+
+  GrpcStreamMultiplexer(
+      GrpcStreamEnvelope<GrpcIn, GrpcOut, RequestEnvelope, ResponseEnvelope> envelope,
+      Function<Multi<RequestEnvelope>, Multi<ResponseEnvelope>> streamCall,
+      Function<GrpcIn, Uni<GrpcOut>> unaryCall,
+      int streams,
+      int window) {
+    this.envelope = Objects.requireNonNull(envelope, "envelope");
+    this.streamCall = Objects.requireNonNull(streamCall, "streamCall");
+    this.unaryCall = Objects.requireNonNull(unaryCall, "unaryCall");
+    if (streams < 0) {
+      throw new IllegalArgumentException("streams must be >= 0");
+    }
+    if (window <= 0) {
+      throw new IllegalArgumentException("window must be > 0");
+    }
+    this.window = window;
+    for (int i = 0; i < streams; i++) {
+      lanes.add(new Lane());
+    }
+  }
+
+  /**
+   * Creates a multiplexer sized by {@code pipeline.grpc.multiplex.streams} and {@code pipeline.grpc.multiplex.window}.
+   *
+   * @param envelope envelope codec of the step
+   * @param streamCall opens one correlated stream, usually the stub's {@code remoteProcessStream}
+   * @param unaryCall the stub's unary {@code remoteProcess}, used when multiplexing is off or unsupported
+   * @param <GrpcIn> the unary request message type
+   * @param <GrpcOut> the unary response message type
+   * @param <RequestEnvelope> the request envelope message type
+   * @param <ResponseEnvelope> the response envelope message type
+   * @return the multiplexer; with {@code streams=0} every call is unary
+   */
+  public static <GrpcIn, GrpcOut, RequestEnvelope, ResponseEnvelope>
+      GrpcStreamMultiplexer<GrpcIn, GrpcOut, RequestEnvelope, ResponseEnvelope> fromConfig(
+          GrpcStreamEnvelope<GrpcIn, GrpcOut, RequestEnvelope, ResponseEnvelope> envelope,
+          Function<Multi<RequestEnvelope>, Multi<ResponseEnvelope>> streamCall,
+          Function<GrpcIn, Uni<GrpcOut>> unaryCall) {
+    GrpcMultiplexSettings settings = GrpcMultiplexSettings.load();
+    return new GrpcStreamMultiplexer<>(envelope, streamCall, unaryCall, settings.streams(), settings.window());
+  }
+
+  /**
+   * Processes one request, over a multiplexed stream when possible.
+   *
+   * @param request the unary request
+   * @return the unary response, or the failure the server reported for this item
+   */
+  public Uni<GrpcOut> call(GrpcIn request) {
+    if (lanes.isEmpty()) {
+      return unaryCall.apply(request);
+    }
+    return Uni.createFrom().deferred(() -> {
+      Map<String, String> context = GrpcItemContext.capture();
+      Uni<GrpcOut> call = Uni.createFrom().emitter(emitter -> {
+        Pending pending = new Pending(request, context, emitter);
+        emitter.onTermination(() -> release(pending));
+        List<Runnable> actions = new ArrayList<>();
+        synchronized (this) {
+          admit(pending, actions);
+        }
+        run(actions);
+      });
+      Long deadline = GrpcItemContext.metadata(context).deadlineEpochMs();
+      if (deadline == null) {
+        return call;
+      }
+      return call.ifNoItem()
+          .after(Duration.ofMillis(Math.max(1L, deadline - System.currentTimeMillis())))
+          .failWith(() -> Status.DEADLINE_EXCEEDED
+              .withDescription("Dispatch deadline exceeded waiting for a multiplexed gRPC response")
+              .asRuntimeException());
+    });
+  }
+
+  /**
+   * Cancels the open streams and fails the calls still waiting for a response.
+   */
+  @Override
+  public void close() {
+    List<Runnable> actions = new ArrayList<>();
+    synchronized (this) {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      for (Lane lane : lanes) {
+        Cancellable subscription = lane.subscription;
+        if (subscription != null) {
+          actions.add(subscription::cancel);
+        }
+        failAll(reset(lane), Status.CANCELLED.withDescription("gRPC stream multiplexer closed").asRuntimeException(),
+            actions);
+      }
+      List<Pending> queued = new ArrayList<>(waiting);
+      waiting.clear();
+      failAll(queued, Status.CANCELLED.withDescription("gRPC stream multiplexer closed").asRuntimeException(), actions);
+    }
+    run(actions);
+  }
+
+  synchronized boolean unsupported() {
+    return unsupported;
+  }
+
+  synchronized int inFlight() {
+    int total = 0;
+    for (Lane lane : lanes) {
+      total += lane.inFlight.size();
+    }
+    return total;
+  }
+
+  synchronized int queued() {
+    return waiting.size();
+  }
+
+  private void admit(Pending pending, List<Runnable> actions) {
+    if (closed) {
+      actions.add(() -> pending.emitter.fail(
+          Status.CANCELLED.withDescription("gRPC stream multiplexer closed").asRuntimeException()));
+      return;
+    }
+    if (unsupported) {
+      actions.add(() -> unary(pending));
+      return;
+    }
+    Lane lane = leastLoaded();
+    if (lane == null) {
+      pending.queued = true;
+      waiting.addLast(pending);
+      return;
+    }
+    send(lane, pending, actions);
+  }
+
+  private void send(Lane lane, Pending pending, List<Runnable> actions) {
+    long sequence = ++nextSequence;
+    RequestEnvelope message;
+    try {
+      message = envelope.wrapRequest(sequence, pending.request, pending.context);
+    } catch (RuntimeException e) {
+      actions.add(() -> pending.emitter.fail(e));
+      return;
+    }
+    if (lane.requests == null) {
+      open(lane, actions);
+    }
+    pending.lane = lane;
+    pending.sequence = sequence;
+    lane.inFlight.put(sequence, pending);
+    // Emitted outside the lock, in sequence order per lane: onNext can run gRPC flow control and user callbacks.
+    UnicastProcessor<RequestEnvelope> requests = lane.requests;
+    lane.outbound.add(() -> requests.onNext(message));
+    actions.add(() -> flush(lane));
+  }
+
+  private void flush(Lane lane) {
+    if (lane.wip.getAndIncrement() != 0) {
+      return;
+    }
+    int missed = 1;
+    do {
+      Runnable next;
+      while ((next = lane.outbound.poll()) != null) {
+        next.run();
+      }
+      missed = lane.wip.addAndGet(-missed);
+    } while (missed != 0);
+  }
+
+  private void open(Lane lane, List<Runnable> actions) {
+    UnicastProcessor<RequestEnvelope> requests = UnicastProcessor.create();
+    int generation = ++lane.generation;
+    lane.requests = requests;
+    // Subscribe outside the lock: a stub may fail synchronously and re-enter onStreamEnd.
+    actions.add(() -> {
+      Cancellable subscription;
+      // The stream's headers are shared by every item it carries, so no item's context goes on them.
+      try (GrpcItemContext.Scope ignored = GrpcItemContext.clear()) {
+        subscription = streamCall.apply(requests).subscribe().with(
+            response -> onResponse(lane, generation, response),
+            failure -> onStreamEnd(lane, generation, failure),
+            () -> onStreamEnd(lane, generation, Status.UNAVAILABLE
+                .withDescription("gRPC stream completed before all responses arrived")
+                .asRuntimeException()));
+      } catch (RuntimeException e) {
+        onStreamEnd(lane, generation, e);
+        return;
+      }
+      boolean current;
+      synchronized (this) {
+        current = lane.generation == generation;
+        if (current) {
+          lane.subscription = subscription;
+        }
+      }
+      if (!current) {
+        subscription.cancel();
+      }
+    });
+  }
+
+  private void onResponse(Lane lane, int generation, ResponseEnvelope response) {
+    Pending pending;
+    List<Runnable> actions = new ArrayList<>();
+    synchronized (this) {
+      if (lane.generation != generation) {
+        return;
+      }
+      pending = lane.inFlight.remove(envelope.responseSequence(response));
+      if (pending == null) {
+        return;
+      }
+      pending.lane = null;
+      drainWaiting(actions);
+    }
+    complete(pending, response);
+    run(actions);
+  }
+
+  private void onStreamEnd(Lane lane, int generation, Throwable failure) {
+    List<Runnable> actions = new ArrayList<>();
+    synchronized (this) {
+      if (lane.generation != generation) {
+        return;
+      }
+      List<Pending> orphaned = reset(lane);
+      if (Status.fromThrowable(failure).getCode() == Status.Code.UNIMPLEMENTED) {
+        if (!unsupported) {
+          LOG.infof("Server does not implement remoteProcessStream; using unary calls: %s", failure.toString());
+        }
+        unsupported = true;
+        orphaned.addAll(waiting);
+        waiting.clear();
+        for (Pending pending : orphaned) {
+          pending.queued = false;
+          actions.add(() -> unary(pending));
+        }
+      } else {
+        if (!orphaned.isEmpty()) {
+          LOG.debugf(failure, "gRPC stream ended with %d calls in flight", orphaned.size());
+        }
+        failAll(orphaned, failure, actions);
+        drainWaiting(actions);
+      }
+    }
+    run(actions);
+  }
+
+  private void release(Pending pending) {
+    List<Runnable> actions = new ArrayList<>();
+    synchronized (this) {
+      if (pending.lane != null) {
+        pending.lane.inFlight.remove(pending.sequence);
+        pending.lane = null;
+        drainWaiting(actions);
+      } else if (pending.queued) {
+        pending.queued = false;
+        waiting.remove(pending);
+      }
+    }
+    run(actions);
+  }
+
+  private void drainWaiting(List<Runnable> actions) {
+    while (!waiting.isEmpty() && !closed && !unsupported) {
+      Lane lane = leastLoaded();
+      if (lane == null) {
+        return;
+      }
+      Pending pending = waiting.pollFirst();
+      pending.queued = false;
+      send(lane, pending, actions);
+    }
+  }
+
+  private Lane leastLoaded() {
+    Lane selected = null;
+    for (Lane lane : lanes) {
+      int load = lane.inFlight.size();
+      if (load < window && (selected == null || load < selected.inFlight.size())) {
+        selected = lane;
+      }
+    }
+    return selected;
+  }
+
+  private List<Pending> reset(Lane lane) {
+    lane.generation++;
+    lane.requests = null;
+    lane.subscription = null;
+    List<Pending> orphaned = new ArrayList<>(lane.inFlight.values());
+    lane.inFlight.clear();
+    for (Pending pending : orphaned) {
+      pending.lane = null;
+    }
+    return orphaned;
+  }
+
+  private void failAll(List<Pending> pendings, Throwable failure, List<Runnable> actions) {
+    for (Pending pending : pendings) {
+      pending.queued = false;
+      actions.add(() -> pending.emitter.fail(failure));
+    }
+  }
+
+  private void complete(Pending pending, ResponseEnvelope response) {
+    if (envelope.responseErrorCode(response) != 0) {
+      pending.emitter.fail(envelope.toException(response));
+      return;
+    }
+    GrpcOut item;
+    try {
+      item = envelope.unwrapResponse(response);
+      Map<String, String> context = envelope.responseContext(response);
+      GrpcItemContext.applyCacheStatus(context == null ? Map.of() : context);
+    } catch (RuntimeException e) {
+      pending.emitter.fail(e);
+      return;
+    }
+    pending.emitter.complete(item);
+  }
+
+  private void unary(Pending pending) {
+    Uni<GrpcOut> call;
+    TransportDispatchMetadata metadata = GrpcItemContext.metadata(pending.context);
+    // Replays may run on a stream callback thread, so the interceptor must see the call's own context.
+    try (GrpcItemContext.Scope ignored = GrpcItemContext.install(pending.context, metadata)) {
+      call = unaryCall.apply(pending.request);
+    } catch (RuntimeException e) {
+      pending.emitter.fail(e);
+      return;
+    }
+    Cancellable subscription;
+    try (GrpcItemContext.Scope ignored = GrpcItemContext.install(pending.context, metadata)) {
+      subscription = call.subscribe().with(pending.emitter::complete, pending.emitter::fail);
+    }
+    pending.emitter.onTermination(subscription::cancel);
+  }
+
+  private static void run(List<Runnable> actions) {
+    for (Runnable action : actions) {
+      action.run();
+    }
+  }
+
+  private final class Pending {
+    private final GrpcIn request;
+    private final Map<String, String> context;
+    private final UniEmitter<? super GrpcOut> emitter;
+    private Lane lane;
+    private long sequence;
+    private boolean queued;
+
+    private Pending(GrpcIn request, Map<String, String> context, UniEmitter<? super GrpcOut> emitter) {
+      this.request = request;
+      this.context = context;
+      this.emitter = emitter;
+    }
+  }
+
+  private final class Lane {
+    private final Map<Long, Pending> inFlight = new HashMap<>();
+    private final Queue<Runnable> outbound = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger wip = new AtomicInteger();
+    private UnicastProcessor<RequestEnvelope> requests;
+    private Cancellable subscription;
+    private int generation;
+  }
+}
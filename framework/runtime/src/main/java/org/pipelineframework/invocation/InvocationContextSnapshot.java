@@ -10,10 +10,25 @@ import org.pipelineframework.context.PipelineContext;
 import org.pipelineframework.context.PipelineContextHolder;
 import org.pipelineframework.execution.PipelineExecutionContext;
 import org.pipelineframework.execution.PipelineExecutionContextHolder;
+import org.pipelineframework.runtime.core.ExecutionContextKey;
+import org.pipelineframework.runtime.core.RuntimeAdapters;
 import org.pipelineframework.telemetry.PipelineRunContext;
 import org.pipelineframework.telemetry.PipelineRunContextHolder;
 
 final class InvocationContextSnapshot {
+    private static final int PIPELINE = 0;
+    private static final int AWAIT = 1;
+    private static final int EXECUTION = 2;
+    private static final int RUN = 3;
+    private static final int INVOCATION = 4;
+    private static final ExecutionContextKey<?>[] SCOPED_KEYS = {
+        PipelineContextHolder.CONTEXT_KEY,
+        AwaitExecutionContextHolder.CONTEXT_KEY,
+        PipelineExecutionContextHolder.CONTEXT_KEY,
+        PipelineRunContextHolder.CONTEXT_KEY,
+        PipelineInvocationContextHolder.CONTEXT_KEY
+    };
+
     private final PipelineContext pipelineContext;
     private final AwaitExecutionContext awaitContext;
     private final Optional<PipelineRunContext> runContext;
@@ -48,90 +63,31 @@ final class InvocationContextSnapshot {
 
     <T> T call(Supplier<T> supplier) {
         Objects.requireNonNull(supplier, "supplier must not be null");
-        InvocationContextScope scope = install();
-        try {
-            return supplier.get();
-        } finally {
-            scope.close();
-        }
+        return RuntimeAdapters.callWithExecutionContext(SCOPED_KEYS, installed(), supplier);
     }
 
     void run(Runnable runnable) {
         Objects.requireNonNull(runnable, "runnable must not be null");
-        InvocationContextScope scope = install();
-        try {
+        RuntimeAdapters.callWithExecutionContext(SCOPED_KEYS, installed(), () -> {
             runnable.run();
-        } finally {
-            scope.close();
-        }
+            return null;
+        });
     }
 
-    private InvocationContextScope install() {
-        PipelineContext previousPipeline = PipelineContextHolder.get();
-        AwaitExecutionContext previousAwait = AwaitExecutionContextHolder.get();
-        Optional<PipelineExecutionContext> previousExecution = PipelineExecutionContextHolder.get();
-        Optional<PipelineRunContext> previousRun = PipelineRunContextHolder.get();
-        Optional<PipelineInvocationContext> previousInvocation = PipelineInvocationContextHolder.get();
-        if (pipelineContext != null) {
-            PipelineContextHolder.set(pipelineContext);
-        } else {
-            PipelineContextHolder.clear();
-        }
+    private Object[] installed() {
+        Object[] installed = new Object[SCOPED_KEYS.length];
+        installed[PIPELINE] = pipelineContext;
         if (awaitContext != null) {
-            AwaitExecutionContextHolder.set(awaitContext);
-            PipelineExecutionContextHolder.set(new PipelineExecutionContext(
+            installed[AWAIT] = awaitContext;
+            installed[EXECUTION] = new PipelineExecutionContext(
                 awaitContext.tenantId(),
                 awaitContext.executionId(),
-                awaitContext.currentStepIndex()));
-        } else {
-            AwaitExecutionContextHolder.clear();
-            PipelineExecutionContextHolder.clear();
-        }
-        if (!inheritRunContext) {
-            runContext.ifPresentOrElse(PipelineRunContextHolder::set, PipelineRunContextHolder::clear);
-        }
-        invocationContext.ifPresentOrElse(PipelineInvocationContextHolder::set, PipelineInvocationContextHolder::clear);
-        return new InvocationContextScope(
-            previousPipeline, previousAwait, previousExecution, previousRun, previousInvocation);
-    }
-
-    private final class InvocationContextScope implements AutoCloseable {
-        private final PipelineContext previousPipeline;
-        private final AwaitExecutionContext previousAwait;
-        private final Optional<PipelineExecutionContext> previousExecution;
-        private final Optional<PipelineRunContext> previousRun;
-        private final Optional<PipelineInvocationContext> previousInvocation;
-
-        private InvocationContextScope(
-            PipelineContext previousPipeline,
-            AwaitExecutionContext previousAwait,
-            Optional<PipelineExecutionContext> previousExecution,
-            Optional<PipelineRunContext> previousRun,
-            Optional<PipelineInvocationContext> previousInvocation
-        ) {
-            this.previousPipeline = previousPipeline;
-            this.previousAwait = previousAwait;
-            this.previousExecution = Objects.requireNonNull(previousExecution, "previousExecution must not be null");
-            this.previousRun = Objects.requireNonNull(previousRun, "previousRun must not be null");
-            this.previousInvocation = Objects.requireNonNull(previousInvocation, "previousInvocation must not be null");
-        }
-
-        @Override
-        public void close() {
-            previousRun.ifPresentOrElse(PipelineRunContextHolder::set, PipelineRunContextHolder::clear);
-            previousInvocation.ifPresentOrElse(
-                PipelineInvocationContextHolder::set, PipelineInvocationContextHolder::clear);
-            if (previousAwait != null) {
-                AwaitExecutionContextHolder.set(previousAwait);
-            } else {
-                AwaitExecutionContextHolder.clear();
-            }
-            previousExecution.ifPresentOrElse(PipelineExecutionContextHolder::set, PipelineExecutionContextHolder::clear);
-            if (previousPipeline != null) {
-                PipelineContextHolder.set(previousPipeline);
-            } else {
-                PipelineContextHolder.clear();
-            }
+                awaitContext.currentStepIndex());
         }
+        installed[RUN] = inheritRunContext
+            ? RuntimeAdapters.executionContext(PipelineRunContextHolder.CONTEXT_KEY)
+            : runContext.orElse(null);
+        installed[INVOCATION] = invocationContext.orElse(null);
+        return installed;
     }
 }
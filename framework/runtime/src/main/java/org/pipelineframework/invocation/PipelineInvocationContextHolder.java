@@ -12,17 +12,20 @@ package org.pipelineframework.invocation;
 import java.util.Optional;
 import java.util.Objects;
 import java.util.function.Supplier;
+import org.pipelineframework.runtime.core.ExecutionContextKey;
 import org.pipelineframework.runtime.core.RuntimeAdapters;
 
 /** Runtime adapter-backed carrier for the active structured invocation instance. */
 public final class PipelineInvocationContextHolder {
-    private static final String CONTEXT_KEY = PipelineInvocationContextHolder.class.getName() + ".context";
+    /** Slot-registered carrier key, for capturing this holder's value together with others. */
+    public static final ExecutionContextKey<PipelineInvocationContext> CONTEXT_KEY =
+        ExecutionContextKey.of(PipelineInvocationContextHolder.class.getName() + ".context", PipelineInvocationContext.class);
 
     private PipelineInvocationContextHolder() {
     }
 
     public static Optional<PipelineInvocationContext> get() {
-        return Optional.ofNullable(RuntimeAdapters.executionContext(CONTEXT_KEY, PipelineInvocationContext.class));
+        return Optional.ofNullable(RuntimeAdapters.executionContext(CONTEXT_KEY));
     }
 
     public static void set(PipelineInvocationContext context) {
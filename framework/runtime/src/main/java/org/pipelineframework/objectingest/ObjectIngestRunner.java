@@ -5,7 +5,11 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -42,7 +46,11 @@ public final class ObjectIngestRunner implements AutoCloseable {
     private final ScheduledExecutorService executor;
     private final boolean ownsExecutor;
     private final AtomicBoolean pollInProgress = new AtomicBoolean();
+    private final AtomicBoolean wakeQueued = new AtomicBoolean();
+    private final AtomicBoolean wakeMissed = new AtomicBoolean();
+    private final ConcurrentMap<String, Integer> admissionFailures = new ConcurrentHashMap<>();
     private volatile ScheduledFuture<?> future;
+    private volatile AutoCloseable watch;
     private volatile ObjectSnapshotMapper<Object> resolvedMapper;
     private volatile List<ObjectIngestInputAdapter<?, ?>> resolvedInputAdapters;
     private volatile List<ObjectSelectionMapper<?>> resolvedSelectionMappers;
@@ -161,6 +169,12 @@ public final class ObjectIngestRunner implements AutoCloseable {
         Duration interval = source().poll().interval();
         long intervalMs = Math.max(1000L, interval.toMillis());
         future = executor.scheduleWithFixedDelay(this::pollSafely, 0L, intervalMs, TimeUnit.MILLISECONDS);
+        try {
+            watch = registry.require(source().provider()).watch(source(), this::wake);
+        } catch (RuntimeException e) {
+            LOG.warnf(e, "Object ingest watch unavailable for source=%s; polling every %s only",
+                source().name(), interval);
+        }
         LOG.infof("Object ingest enabled for source=%s provider=%s interval=%s",
             source().name(), source().provider(), interval);
     }
@@ -182,9 +196,17 @@ public final class ObjectIngestRunner implements AutoCloseable {
 
     private Uni<PollResult> pollItems(PipelineObjectSourceConfig source, ObjectSourceProvider provider,
                                       List<ObjectSourceItem> items) {
-        return Multi.createFrom().iterable(items)
-            .onItem().transformToUniAndConcatenate(item -> admitItem(source, provider, item))
+        int concurrency = Math.max(1, Math.min(source.poll().admissionConcurrency(), items.size()));
+        return Multi.createFrom().range(0, items.size())
+            .onItem().transformToUni(index -> admitItem(source, provider, items.get(index))
+                .map(result -> new IndexedAdmission(index, result)))
+            .merge(concurrency)
             .collect().asList()
+            .map(indexed -> indexed.stream()
+                .sorted(java.util.Comparator.comparingInt(IndexedAdmission::index))
+                .map(IndexedAdmission::result)
+                .toList())
+            .invoke(results -> acknowledgeAdmitted(source, provider, items, results))
             .map(results -> new PollResult(
                 items.size(),
                 Math.toIntExact(results.stream().filter(AdmissionResult::submitted).count()),
@@ -192,6 +214,58 @@ public final class ObjectIngestRunner implements AutoCloseable {
                 results.stream().flatMap(result -> result.executionId().stream()).toList()));
     }
 
+    private void acknowledgeAdmitted(PipelineObjectSourceConfig source, ObjectSourceProvider provider,
+                                     List<ObjectSourceItem> items, List<AdmissionResult> results) {
+        admissionFailures.keySet().retainAll(items.stream().map(ObjectIngestRunner::attemptKey).collect(
+            java.util.stream.Collectors.toSet()));
+        int admitted = 0;
+        while (admitted < results.size() && settled(source, attemptKey(items.get(admitted)),
+            results.get(admitted).submitted())) {
+            admitted++;
+        }
+        for (int index = admitted + 1; index < results.size(); index++) {
+            settled(source, attemptKey(items.get(index)), results.get(index).submitted());
+        }
+        acknowledge(source, provider, items.subList(0, admitted));
+    }
+
+    /**
+     * Records one admission outcome and reports whether the object can be acknowledged.
+     *
+     * <p>A failed object is retried on later polls until it has failed {@code poll.maxAdmissionAttempts} times;
+     * it is then acknowledged with its failure logged, so one poison object cannot stall the listing.</p>
+     */
+    private boolean settled(PipelineObjectSourceConfig source, String attemptKey, boolean submitted) {
+        if (submitted) {
+            admissionFailures.remove(attemptKey);
+            return true;
+        }
+        int attempts = admissionFailures.merge(attemptKey, 1, Integer::sum);
+        if (attempts < source.poll().maxAdmissionAttempts()) {
+            return false;
+        }
+        admissionFailures.remove(attemptKey);
+        LOG.errorf("Object ingest skipping source=%s object=%s after %d failed admission attempts",
+            source.name(), attemptKey, attempts);
+        return true;
+    }
+
+    private void acknowledge(PipelineObjectSourceConfig source, ObjectSourceProvider provider,
+                             List<ObjectSourceItem> items) {
+        if (items.isEmpty()) {
+            return;
+        }
+        try {
+            provider.acknowledge(source, items);
+        } catch (RuntimeException e) {
+            LOG.warnf(e, "Object ingest acknowledgement failed for source=%s", source.name());
+        }
+    }
+
+    private static String attemptKey(ObjectSourceItem item) {
+        return item.key() + "@" + item.lastModifiedEpochMs() + "/" + item.etag();
+    }
+
     private Uni<AdmissionResult> admitItem(PipelineObjectSourceConfig source, ObjectSourceProvider provider,
                                             ObjectSourceItem item) {
         return Uni.createFrom().item(() -> {
@@ -238,6 +312,9 @@ public final class ObjectIngestRunner implements AutoCloseable {
         if (selected.isEmpty()) {
             return Uni.createFrom().item(new PollResult(listed.size(), 0, 0, List.of()));
         }
+        String selectionAttemptKey = selected.stream().map(ObjectIngestRunner::attemptKey)
+            .collect(java.util.stream.Collectors.joining(","));
+        admissionFailures.keySet().retainAll(Set.of(selectionAttemptKey));
         return Uni.createFrom().item(() -> {
             List<ObjectSnapshot> snapshots = selected.stream()
                 .map(item -> snapshot(source, provider, item))
@@ -265,6 +342,11 @@ public final class ObjectIngestRunner implements AutoCloseable {
                 telemetry.failed(source.name(), source.provider(), "selection", failure);
                 LOG.warnf(failure, "Grouped Object Ingest failed for source=%s", source.name());
                 return new PollResult(listed.size(), 0, 1, List.of());
+            })
+            .invoke(result -> {
+                if (settled(source, selectionAttemptKey, result.submitted() > 0)) {
+                    acknowledge(source, provider, listed);
+                }
             });
     }
 
@@ -276,6 +358,15 @@ public final class ObjectIngestRunner implements AutoCloseable {
 
     @Override
     public synchronized void close() {
+        AutoCloseable activeWatch = watch;
+        if (activeWatch != null) {
+            watch = null;
+            try {
+                activeWatch.close();
+            } catch (Exception e) {
+                LOG.debugf(e, "Object ingest watch close failed");
+            }
+        }
         ScheduledFuture<?> active = future;
         if (active != null) {
             active.cancel(false);
@@ -295,21 +386,52 @@ public final class ObjectIngestRunner implements AutoCloseable {
         }
     }
 
-    private void pollSafely() {
+    private boolean pollSafely() {
         String sourceName = source().name();
         if (!pollInProgress.compareAndSet(false, true)) {
             LOG.debugf("Object ingest poll still active for source=%s", sourceName);
-            return;
+            return false;
         }
         pollOnce()
             .ifNoItem().after(POLL_TIMEOUT).failWith(() ->
                 new IllegalStateException("Object ingest poll timed out for source=" + sourceName))
             .subscribe().with(
-            ignored -> pollInProgress.set(false),
+            ignored -> finishPoll(),
             failure -> {
-                pollInProgress.set(false);
+                finishPoll();
                 LOG.warnf(failure, "Object ingest poll failed for source=%s", sourceName);
             });
+        return true;
+    }
+
+    private void finishPoll() {
+        pollInProgress.set(false);
+        if (wakeMissed.getAndSet(false)) {
+            wake();
+        }
+    }
+
+    /**
+     * Brings the next poll forward after the provider reports a change. Bursts of changes share one poll, and a
+     * change reported while a poll is running triggers one more poll when it finishes.
+     */
+    private void wake() {
+        if (future == null || !wakeQueued.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                wakeQueued.set(false);
+                if (!pollSafely()) {
+                    wakeMissed.set(true);
+                    if (!pollInProgress.get() && wakeMissed.getAndSet(false)) {
+                        wake();
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            wakeQueued.set(false);
+        }
     }
 
     private ObjectSnapshot snapshot(
@@ -483,6 +605,9 @@ public final class ObjectIngestRunner implements AutoCloseable {
     private record AdmissionResult(boolean submitted, Optional<String> executionId) {
     }
 
+    private record IndexedAdmission(int index, AdmissionResult result) {
+    }
+
     private static Optional<java.nio.file.Path> locateConfig() {
         Optional<String> explicit = firstNonBlank(System.getProperty("pipeline.config"), System.getenv("PIPELINE_CONFIG"));
         if (explicit.isPresent()) {
@@ -28,4 +28,30 @@ public interface ObjectSourceProvider extends ObjectSourceOperation {
     default Optional<String> readText(PipelineObjectSourceConfig source, ObjectSourceItem item, long maxBytes) {
         return Optional.empty();
     }
+
+    /**
+     * Acknowledges listed items whose admission completed, in listing order.
+     *
+     * <p>Incremental providers may advance a listing watermark past acknowledged items. The runner only
+     * acknowledges the leading run of admitted items, so an item whose admission failed is listed again. An item
+     * that keeps failing is acknowledged once it reaches {@code poll.maxAdmissionAttempts}, so it cannot hold the
+     * watermark back.</p>
+     */
+    default void acknowledge(PipelineObjectSourceConfig source, List<ObjectSourceItem> items) {
+    }
+
+    /**
+     * Watches the source for new objects between polls.
+     *
+     * <p>Providers that can observe changes call {@code changed} when they see one, and the runner polls without
+     * waiting for the next interval. Listing stays the source of truth: a wake-up only brings a poll forward.</p>
+     *
+     * @param source source configuration
+     * @param changed callback to run when the source may have new objects
+     * @return handle that stops watching when closed
+     */
+    default AutoCloseable watch(PipelineObjectSourceConfig source, Runnable changed) {
+        return () -> {
+        };
+    }
 }
@@ -1,5 +1,6 @@
 package org.pipelineframework.orchestrator;
 
+import java.time.Duration;
 import java.util.Objects;
 
 /**
@@ -8,25 +9,37 @@ import java.util.Objects;
  * @param allowed whether the operation is admitted
  * @param errorCode stable denial code
  * @param reason human-readable denial reason
+ * @param retryAfter when the denial sheds load, how long the caller should wait before retrying; null otherwise
  */
 public record ControlPlaneAdmissionDecision(
     boolean allowed,
     String errorCode,
-    String reason
+    String reason,
+    Duration retryAfter
 ) {
     public static final String TENANT_REQUIRED = "TENANT_REQUIRED";
     public static final String TENANT_NOT_ALLOWED = "TENANT_NOT_ALLOWED";
     public static final String TENANT_TRANSITION_QUOTA_SATURATED = "TENANT_TRANSITION_QUOTA_SATURATED";
+    public static final String TENANT_SUBMIT_RATE_EXCEEDED = "TENANT_SUBMIT_RATE_EXCEEDED";
+    public static final String SUBMIT_RATE_EXCEEDED = "SUBMIT_RATE_EXCEEDED";
+    public static final String EXECUTION_BACKLOG_SATURATED = "EXECUTION_BACKLOG_SATURATED";
 
     public ControlPlaneAdmissionDecision {
         if (!allowed) {
             Objects.requireNonNull(errorCode, "errorCode is required when admission is denied");
             Objects.requireNonNull(reason, "reason is required when admission is denied");
-        } else if (errorCode != null || reason != null) {
-            throw new IllegalArgumentException("errorCode and reason must be null when admission is allowed");
+            if (retryAfter != null && (retryAfter.isNegative() || retryAfter.isZero())) {
+                throw new IllegalArgumentException("retryAfter must be positive when present");
+            }
+        } else if (errorCode != null || reason != null || retryAfter != null) {
+            throw new IllegalArgumentException("errorCode, reason and retryAfter must be null when admission is allowed");
         }
     }
 
+    public ControlPlaneAdmissionDecision(boolean allowed, String errorCode, String reason) {
+        this(allowed, errorCode, reason, null);
+    }
+
     /**
      * Creates an allow decision.
      *
@@ -46,4 +59,39 @@ public record ControlPlaneAdmissionDecision(
     public static ControlPlaneAdmissionDecision deny(String errorCode, String reason) {
         return new ControlPlaneAdmissionDecision(false, errorCode, reason);
     }
+
+    /**
+     * Creates a deny decision for an operation shed under load, which the caller may retry later.
+     *
+     * @param errorCode stable denial code
+     * @param reason denial reason
+     * @param retryAfter positive delay before the caller should retry
+     * @return shed decision
+     */
+    public static ControlPlaneAdmissionDecision shed(String errorCode, String reason, Duration retryAfter) {
+        return new ControlPlaneAdmissionDecision(
+            false, errorCode, reason, Objects.requireNonNull(retryAfter, "retryAfter"));
+    }
+
+    /**
+     * Whether this decision sheds load rather than rejecting the operation outright.
+     *
+     * @return true when a retry-after hint is present
+     */
+    public boolean retryable() {
+        return retryAfter != null;
+    }
+
+    /**
+     * Retry-after hint in whole seconds, rounded up, as carried by an HTTP {@code Retry-After} header.
+     *
+     * @return retry-after seconds, or zero when this decision does not shed load
+     */
+    public long retryAfterSeconds() {
+        if (retryAfter == null) {
+            return 0L;
+        }
+        long seconds = retryAfter.toSeconds();
+        return retryAfter.toNanosPart() == 0 ? Math.max(1L, seconds) : seconds + 1;
+    }
 }
@@ -13,6 +13,15 @@ public interface ControlPlaneAdmissionPolicy {
      */
     ControlPlaneAdmissionDecision admit(ControlPlaneAdmissionRequest request);
 
+    /**
+     * Return what {@link #admit(ControlPlaneAdmissionRequest)} consumed for an operation it allowed that was
+     * then turned away further on, such as a submission shed for a saturated backlog.
+     *
+     * @param request admission request that was allowed
+     */
+    default void refund(ControlPlaneAdmissionRequest request) {
+    }
+
     /**
      * Admit or deny one transition and optionally acquire a tenant-scoped permit.
      *
@@ -0,0 +1,154 @@
+package org.pipelineframework.orchestrator;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Weighted fair queue with one FIFO sub-queue per flow, served by deficit round-robin.
+ *
+ * <p>Every item costs one turn. A flow that reaches the head of the round receives its weight in turns and keeps the
+ * head until it has spent them or emptied, then moves to the back. Flows enter the round in the order their first
+ * pending item was offered, so offering candidates oldest first keeps the oldest work at the front of each round.</p>
+ *
+ * <p>Instances are not thread-safe; callers guard them with their own lock.</p>
+ *
+ * @param <T> queued item type
+ */
+public final class DeficitRoundRobinQueue<T> {
+
+    private final Map<Object, Flow<T>> flowsByKey = new HashMap<>();
+    private final ArrayDeque<Flow<T>> round = new ArrayDeque<>();
+    private int size;
+
+    /**
+     * Selects up to {@code limit} executions sharing turns per tenant and priority.
+     *
+     * @param candidates due executions, oldest first
+     * @param limit max executions to return
+     * @return selected executions in service order
+     */
+    public static List<ExecutionRecord<Object, Object>> fairShare(
+        List<ExecutionRecord<Object, Object>> candidates,
+        int limit
+    ) {
+        return select(candidates, limit, DeficitRoundRobinQueue::flowKey, record -> record.priority().weight());
+    }
+
+    /**
+     * Selects up to {@code limit} items in deficit round-robin order.
+     *
+     * @param candidates candidate items, oldest first
+     * @param limit max items to return
+     * @param flowKey flow an item belongs to
+     * @param weight turns per round of an item's flow
+     * @param <T> item type
+     * @return selected items in service order
+     */
+    public static <T> List<T> select(
+        List<T> candidates,
+        int limit,
+        Function<T, Object> flowKey,
+        Function<T, Integer> weight
+    ) {
+        if (limit <= 0 || candidates.isEmpty()) {
+            return List.of();
+        }
+        DeficitRoundRobinQueue<T> queue = new DeficitRoundRobinQueue<>();
+        for (T candidate : candidates) {
+            queue.offer(flowKey.apply(candidate), weight.apply(candidate), candidate);
+        }
+        List<T> selected = new ArrayList<>(Math.min(limit, candidates.size()));
+        while (selected.size() < limit && !queue.isEmpty()) {
+            selected.add(queue.poll());
+        }
+        return List.copyOf(selected);
+    }
+
+    /**
+     * Flow key used for executions: one flow per tenant and priority class.
+     *
+     * @param record execution record
+     * @return flow key
+     */
+    public static Object flowKey(ExecutionRecord<?, ?> record) {
+        return List.of(record.tenantId(), record.priority());
+    }
+
+    /**
+     * Appends an item to its flow.
+     *
+     * @param key flow key
+     * @param weight turns per round for the flow; values below one count as one
+     * @param item item to queue
+     */
+    public void offer(Object key, int weight, T item) {
+        Objects.requireNonNull(key, "key must not be null");
+        Objects.requireNonNull(item, "item must not be null");
+        Flow<T> flow = flowsByKey.computeIfAbsent(key, Flow::new);
+        flow.weight = Math.max(1, weight);
+        if (flow.items.isEmpty()) {
+            round.addLast(flow);
+        }
+        flow.items.addLast(item);
+        size++;
+    }
+
+    /**
+     * Removes the next item in service order.
+     *
+     * @return next item, or null when the queue is empty
+     */
+    public T poll() {
+        Flow<T> flow = round.peekFirst();
+        if (flow == null) {
+            return null;
+        }
+        if (flow.deficit == 0) {
+            flow.deficit = flow.weight;
+        }
+        T item = flow.items.pollFirst();
+        flow.deficit--;
+        size--;
+        if (flow.items.isEmpty()) {
+            round.pollFirst();
+            flowsByKey.remove(flow.key);
+        } else if (flow.deficit == 0) {
+            round.addLast(round.pollFirst());
+        }
+        return item;
+    }
+
+    /**
+     * Whether no item is queued.
+     *
+     * @return true when empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Number of queued items across all flows.
+     *
+     * @return queued items
+     */
+    public int size() {
+        return size;
+    }
+
+    private static final class Flow<T> {
+        private final Object key;
+        private final ArrayDeque<T> items = new ArrayDeque<>();
+        private int weight = 1;
+        private int deficit;
+
+        private Flow(Object key) {
+            this.key = key;
+        }
+    }
+}
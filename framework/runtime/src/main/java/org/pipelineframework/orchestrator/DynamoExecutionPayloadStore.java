@@ -1,21 +1,45 @@
 package org.pipelineframework.orchestrator;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
+import io.smallrye.mutiny.TimeoutException;
+import io.smallrye.mutiny.Uni;
+import org.pipelineframework.repository.PayloadReference;
+import org.pipelineframework.repository.RepositoryProvider;
+import org.pipelineframework.repository.RepositoryReadResult;
+import org.pipelineframework.repository.RepositoryWriteRequest;
 import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
 import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
 import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
 
@@ -25,6 +49,15 @@ import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
  * <p>The chunk size is a storage invariant, rather than a record-count heuristic. It leaves
  * substantial room below DynamoDB's 400 KiB item limit for keys and immutable metadata, so an
  * encoded payload is split before any execution-state write is attempted.</p>
+ *
+ * <p>Chunks are written concurrently, each with its own immutability condition, and the manifest is written only
+ * after every chunk is durable. Payloads may be gzip-compressed before chunking, and payloads above the configured
+ * threshold may be offloaded to a {@link RepositoryProvider}, leaving only a claim-check manifest in DynamoDB. The
+ * manifest records the codec and location, so readers never depend on the writer's current settings.</p>
+ *
+ * <p>DynamoDB TTL expires manifests and chunks, but not offloaded objects. Those are keyed under the UTC day on which
+ * their execution TTL passes, and {@link #purgeExpiredOffloads(long)} deletes the days that have ended. Repository
+ * calls wait at most {@link Options#repositoryTimeout()}.</p>
  */
 final class DynamoExecutionPayloadStore {
     static final int MAX_CHUNK_BYTES = 256 * 1024;
@@ -38,13 +71,70 @@ final class DynamoExecutionPayloadStore {
     private static final String CHUNK_COUNT = "chunk_count";
     private static final String SHA256 = "sha256";
     private static final String TTL_EPOCH_S = "ttl_epoch_s";
+    private static final String CODEC = "codec";
+    private static final String OFFLOAD_PROVIDER = "offload_provider";
+    private static final String OFFLOAD_CONTAINER = "offload_container";
+    private static final String OFFLOAD_KEY = "offload_key";
+    private static final String OFFLOAD_VERSION = "offload_version";
+    private static final String GZIP_CODEC = "gzip";
+    private static final String OFFLOAD_KEY_PREFIX = "tpf/execution-payloads/";
+    private static final String OFFLOAD_CONTENT_TYPE = "application/json";
+    private static final long SECONDS_PER_DAY = 86_400L;
+    static final int PURGE_LOOKBACK_DAYS = 30;
 
     private final Supplier<DynamoDbClient> client;
     private final Supplier<String> tableName;
+    private final Options options;
+    private long purgedThroughDay = Long.MIN_VALUE;
 
     DynamoExecutionPayloadStore(Supplier<DynamoDbClient> client, Supplier<String> tableName) {
+        this(client, tableName, Options.DEFAULTS);
+    }
+
+    DynamoExecutionPayloadStore(Supplier<DynamoDbClient> client, Supplier<String> tableName, Options options) {
         this.client = Objects.requireNonNull(client, "client must not be null");
         this.tableName = Objects.requireNonNull(tableName, "tableName must not be null");
+        this.options = Objects.requireNonNull(options, "options must not be null");
+    }
+
+    /**
+     * Write-side settings and the repository lookup used for claim-check payloads.
+     *
+     * @param writeConcurrency maximum chunk writes in flight for one payload
+     * @param compression compression applied before chunking or offloading
+     * @param offloadProvider repository provider name for large payloads, or {@code null} to always chunk
+     * @param offloadContainer repository container for offloaded payloads, or {@code null} for the provider default
+     * @param offloadThresholdBytes stored size above which payloads are offloaded
+     * @param repositoryTimeout longest wait for one repository call; non-positive values use 30 seconds
+     * @param repositoryProviders resolves a repository provider by name, for writes and for claim-check reads
+     */
+    record Options(
+        int writeConcurrency,
+        ExecutionPayloadCompression compression,
+        String offloadProvider,
+        String offloadContainer,
+        long offloadThresholdBytes,
+        Duration repositoryTimeout,
+        Function<String, RepositoryProvider> repositoryProviders
+    ) {
+        static final Duration DEFAULT_REPOSITORY_TIMEOUT = Duration.ofSeconds(30);
+        static final Options DEFAULTS = new Options(8, ExecutionPayloadCompression.NONE, null, null, Long.MAX_VALUE,
+            DEFAULT_REPOSITORY_TIMEOUT,
+            name -> {
+                throw new IllegalStateException("No repository provider is available for execution payloads: " + name);
+            });
+
+        Options {
+            writeConcurrency = Math.max(1, writeConcurrency);
+            compression = compression == null ? ExecutionPayloadCompression.NONE : compression;
+            offloadProvider = offloadProvider == null || offloadProvider.isBlank() ? null : offloadProvider.trim();
+            offloadContainer = offloadContainer == null || offloadContainer.isBlank() ? null : offloadContainer.trim();
+            offloadThresholdBytes = Math.max(0L, offloadThresholdBytes);
+            repositoryTimeout = repositoryTimeout == null || repositoryTimeout.isNegative() || repositoryTimeout.isZero()
+                ? DEFAULT_REPOSITORY_TIMEOUT
+                : repositoryTimeout;
+            Objects.requireNonNull(repositoryProviders, "repositoryProviders must not be null");
+        }
     }
 
     String write(String tenantId, String executionId, String slot, String payload, long ttlEpochS) {
@@ -54,44 +144,193 @@ final class DynamoExecutionPayloadStore {
         Objects.requireNonNull(payload, "payload must not be null");
         byte[] bytes = payload.getBytes(StandardCharsets.UTF_8);
         String contentHash = sha256(bytes);
-        String payloadId = "p-" + sha256((tenantId + "\u0000" + executionId + "\u0000" + slot + "\u0000" + contentHash)
+        byte[] stored = bytes;
+        String codec = null;
+        if (options.compression() == ExecutionPayloadCompression.GZIP) {
+            byte[] compressed = gzip(bytes);
+            if (compressed.length < bytes.length) {
+                stored = compressed;
+                codec = GZIP_CODEC;
+            }
+        }
+        boolean offload = options.offloadProvider() != null && stored.length > options.offloadThresholdBytes();
+        String payloadId = "p-" + sha256((tenantId + "\u0000" + executionId + "\u0000" + slot + "\u0000" + contentHash
+            + (codec == null ? "" : "\u0000" + codec) + (offload ? "\u0000offload" : ""))
             .getBytes(StandardCharsets.UTF_8));
-        int chunkCount = Math.max(1, (bytes.length + MAX_CHUNK_BYTES - 1) / MAX_CHUNK_BYTES);
 
-        for (int index = 0; index < chunkCount; index++) {
-            int offset = index * MAX_CHUNK_BYTES;
-            int length = Math.min(MAX_CHUNK_BYTES, bytes.length - offset);
-            byte[] chunk = new byte[length];
-            System.arraycopy(bytes, offset, chunk, 0, length);
-            putImmutable(payloadId, chunkPart(index), Map.of(
-                PAYLOAD_ID, stringValue(payloadId),
-                PAYLOAD_PART, stringValue(chunkPart(index)),
-                PAYLOAD_BYTES, AttributeValue.builder().b(SdkBytes.fromByteArray(chunk)).build(),
-                TTL_EPOCH_S, numberValue(ttlEpochS)));
+        Map<String, AttributeValue> manifest = new HashMap<>();
+        manifest.put(PAYLOAD_ID, stringValue(payloadId));
+        manifest.put(PAYLOAD_PART, stringValue(MANIFEST_PART));
+        manifest.put(PAYLOAD_LENGTH_BYTES, numberValue(stored.length));
+        manifest.put(SHA256, stringValue(contentHash));
+        manifest.put(TTL_EPOCH_S, numberValue(ttlEpochS));
+        if (codec != null) {
+            manifest.put(CODEC, stringValue(codec));
         }
-
-        putImmutable(payloadId, MANIFEST_PART, Map.of(
-            PAYLOAD_ID, stringValue(payloadId),
-            PAYLOAD_PART, stringValue(MANIFEST_PART),
-            PAYLOAD_LENGTH_BYTES, numberValue(bytes.length),
-            CHUNK_COUNT, numberValue(chunkCount),
-            SHA256, stringValue(contentHash),
-            TTL_EPOCH_S, numberValue(ttlEpochS)));
+        if (offload) {
+            if (manifest(payloadId) != null) {
+                // Same content for the same slot: the object is already stored under its first expiry day.
+                return payloadId;
+            }
+            PayloadReference reference = offload(payloadId, stored, codec, contentHash, ttlEpochS);
+            manifest.put(CHUNK_COUNT, numberValue(0));
+            manifest.put(OFFLOAD_PROVIDER, stringValue(reference.provider()));
+            manifest.put(OFFLOAD_KEY, stringValue(reference.key()));
+            if (reference.container() != null) {
+                manifest.put(OFFLOAD_CONTAINER, stringValue(reference.container()));
+            }
+            if (reference.version() != null) {
+                manifest.put(OFFLOAD_VERSION, stringValue(reference.version()));
+            }
+        } else {
+            int chunkCount = Math.max(1, (stored.length + MAX_CHUNK_BYTES - 1) / MAX_CHUNK_BYTES);
+            writeChunks(payloadId, stored, chunkCount, ttlEpochS);
+            manifest.put(CHUNK_COUNT, numberValue(chunkCount));
+        }
+        putImmutable(payloadId, MANIFEST_PART, manifest);
         return payloadId;
     }
 
     String read(String payloadId) {
-        Map<String, AttributeValue> manifest = client.get().getItem(GetItemRequest.builder()
-            .tableName(tableName.get())
-            .key(payloadKey(payloadId, MANIFEST_PART))
-            .consistentRead(true)
-            .build()).item();
-        if (manifest == null || manifest.isEmpty()) {
+        Map<String, AttributeValue> manifest = manifest(payloadId);
+        if (manifest == null) {
             throw new IllegalStateException("Execution payload manifest is missing: " + payloadId);
         }
         int expectedChunks = intValue(manifest, CHUNK_COUNT);
         int expectedLength = intValue(manifest, PAYLOAD_LENGTH_BYTES);
         String expectedHash = string(manifest, SHA256);
+        byte[] stored = manifest.containsKey(OFFLOAD_KEY)
+            ? readOffloaded(payloadId, manifest, expectedLength)
+            : readChunks(payloadId, expectedChunks, expectedLength);
+        byte[] bytes = decode(payloadId, optionalString(manifest, CODEC), stored);
+        if (!expectedHash.equals(sha256(bytes))) {
+            throw new IllegalStateException("Execution payload checksum is invalid for " + payloadId);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Deletes offloaded payloads whose execution TTL has passed.
+     *
+     * <p>Every object under a day that has ended belongs to an expired execution. Each call covers the days since the
+     * previous one, starting {@value #PURGE_LOOKBACK_DAYS} days back, so objects from a longer outage need a lifecycle
+     * rule on the offload container.</p>
+     *
+     * @param nowEpochS current time in epoch seconds
+     * @return number of objects deleted
+     */
+    synchronized int purgeExpiredOffloads(long nowEpochS) {
+        if (options.offloadProvider() == null) {
+            return 0;
+        }
+        RepositoryProvider provider = options.repositoryProviders().apply(options.offloadProvider());
+        long today = Math.floorDiv(nowEpochS, SECONDS_PER_DAY);
+        int deleted = 0;
+        for (long day = Math.max(today - PURGE_LOOKBACK_DAYS, purgedThroughDay + 1); day < today; day++) {
+            List<PayloadReference> expired = await(
+                provider.list(options.offloadContainer(), offloadDayPrefix(day)), "listing expired execution payloads");
+            for (PayloadReference reference : expired == null ? List.<PayloadReference>of() : expired) {
+                if (Boolean.TRUE.equals(await(provider.delete(reference), "deleting expired execution payloads"))) {
+                    deleted++;
+                }
+            }
+            purgedThroughDay = day;
+        }
+        return deleted;
+    }
+
+    private Map<String, AttributeValue> manifest(String payloadId) {
+        GetItemResponse response = client.get().getItem(GetItemRequest.builder()
+            .tableName(tableName.get())
+            .key(payloadKey(payloadId, MANIFEST_PART))
+            .consistentRead(true)
+            .build());
+        Map<String, AttributeValue> manifest = response == null ? null : response.item();
+        return manifest == null || manifest.isEmpty() ? null : manifest;
+    }
+
+    private void writeChunks(String payloadId, byte[] bytes, int chunkCount, long ttlEpochS) {
+        int lanes = Math.min(options.writeConcurrency(), chunkCount);
+        if (lanes <= 1) {
+            for (int index = 0; index < chunkCount; index++) {
+                writeChunk(payloadId, bytes, index, ttlEpochS);
+            }
+            return;
+        }
+        AtomicInteger nextIndex = new AtomicInteger();
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int lane = 0; lane < lanes; lane++) {
+                executor.execute(() -> {
+                    int index;
+                    while (failure.get() == null && (index = nextIndex.getAndIncrement()) < chunkCount) {
+                        try {
+                            writeChunk(payloadId, bytes, index, ttlEpochS);
+                        } catch (RuntimeException chunkFailure) {
+                            if (!failure.compareAndSet(null, chunkFailure)) {
+                                failure.get().addSuppressed(chunkFailure);
+                            }
+                        }
+                    }
+                });
+            }
+        }
+        RuntimeException failed = failure.get();
+        if (failed != null) {
+            throw failed;
+        }
+    }
+
+    private void writeChunk(String payloadId, byte[] bytes, int index, long ttlEpochS) {
+        int offset = index * MAX_CHUNK_BYTES;
+        byte[] chunk = Arrays.copyOfRange(bytes, offset, Math.min(bytes.length, offset + MAX_CHUNK_BYTES));
+        putImmutable(payloadId, chunkPart(index), Map.of(
+            PAYLOAD_ID, stringValue(payloadId),
+            PAYLOAD_PART, stringValue(chunkPart(index)),
+            PAYLOAD_BYTES, AttributeValue.builder().b(SdkBytes.fromByteArrayUnsafe(chunk)).build(),
+            TTL_EPOCH_S, numberValue(ttlEpochS)));
+    }
+
+    private PayloadReference offload(String payloadId, byte[] stored, String codec, String contentHash, long ttlEpochS) {
+        RepositoryProvider provider = options.repositoryProviders().apply(options.offloadProvider());
+        PayloadReference reference = await(provider.store(new RepositoryWriteRequest(
+            options.offloadContainer(),
+            offloadDayPrefix(Math.floorDiv(ttlEpochS, SECONDS_PER_DAY)) + payloadId,
+            stored,
+            OFFLOAD_CONTENT_TYPE,
+            codec,
+            null,
+            null,
+            Map.of(SHA256, contentHash, TTL_EPOCH_S, Long.toString(ttlEpochS)))), "offloading " + payloadId);
+        if (reference == null) {
+            throw new IllegalStateException("Execution payload offload returned no reference for " + payloadId);
+        }
+        return reference;
+    }
+
+    private byte[] readOffloaded(String payloadId, Map<String, AttributeValue> manifest, int expectedLength) {
+        String providerName = string(manifest, OFFLOAD_PROVIDER);
+        PayloadReference reference = new PayloadReference(
+            providerName,
+            optionalString(manifest, OFFLOAD_CONTAINER),
+            string(manifest, OFFLOAD_KEY),
+            OFFLOAD_CONTENT_TYPE,
+            optionalString(manifest, CODEC),
+            null,
+            expectedLength,
+            optionalString(manifest, OFFLOAD_VERSION),
+            Map.of(),
+            Optional.empty());
+        RepositoryReadResult result = await(options.repositoryProviders().apply(providerName).load(reference),
+            "loading " + payloadId);
+        byte[] stored = result == null ? new byte[0] : result.payload();
+        if (stored.length != expectedLength) {
+            throw new IllegalStateException("Execution payload length is invalid for " + payloadId);
+        }
+        return stored;
+    }
+
+    private byte[] readChunks(String payloadId, int expectedChunks, int expectedLength) {
         List<Map<String, AttributeValue>> chunks = new ArrayList<>();
         Map<String, AttributeValue> lastEvaluatedKey = Map.of();
         do {
@@ -121,17 +360,18 @@ final class DynamoExecutionPayloadStore {
             if (!chunkPart(index).equals(string(chunk, PAYLOAD_PART))) {
                 throw new IllegalStateException("Execution payload chunk order is invalid for " + payloadId);
             }
-            byte[] value = chunk.get(PAYLOAD_BYTES).b().asByteArray();
-            if (offset + value.length > bytes.length) {
+            ByteBuffer value = chunk.get(PAYLOAD_BYTES).b().asByteBuffer();
+            int length = value.remaining();
+            if (offset + length > bytes.length) {
                 throw new IllegalStateException("Execution payload length is invalid for " + payloadId);
             }
-            System.arraycopy(value, 0, bytes, offset, value.length);
-            offset += value.length;
+            value.get(bytes, offset, length);
+            offset += length;
         }
-        if (offset != expectedLength || !expectedHash.equals(sha256(bytes))) {
-            throw new IllegalStateException("Execution payload checksum is invalid for " + payloadId);
+        if (offset != expectedLength) {
+            throw new IllegalStateException("Execution payload length is invalid for " + payloadId);
         }
-        return new String(bytes, StandardCharsets.UTF_8);
+        return bytes;
     }
 
     private void putImmutable(String payloadId, String part, Map<String, AttributeValue> item) {
@@ -161,13 +401,26 @@ final class DynamoExecutionPayloadStore {
         if (existing == null) {
             return false;
         }
-        Map<String, AttributeValue> expectedWithoutTtl = new java.util.HashMap<>(expected);
+        Map<String, AttributeValue> expectedWithoutTtl = new HashMap<>(expected);
         expectedWithoutTtl.remove(TTL_EPOCH_S);
-        Map<String, AttributeValue> existingWithoutTtl = new java.util.HashMap<>(existing);
+        Map<String, AttributeValue> existingWithoutTtl = new HashMap<>(existing);
         existingWithoutTtl.remove(TTL_EPOCH_S);
         return expectedWithoutTtl.equals(existingWithoutTtl);
     }
 
+    private <T> T await(Uni<T> call, String action) {
+        try {
+            return call.await().atMost(options.repositoryTimeout());
+        } catch (TimeoutException timeout) {
+            throw new IllegalStateException("Execution payload repository timed out after "
+                + options.repositoryTimeout().toMillis() + " ms " + action, timeout);
+        }
+    }
+
+    private static String offloadDayPrefix(long epochDay) {
+        return OFFLOAD_KEY_PREFIX + LocalDate.ofEpochDay(epochDay) + "/";
+    }
+
     private static Map<String, AttributeValue> payloadKey(String payloadId, String part) {
         return Map.of(PAYLOAD_ID, stringValue(payloadId), PAYLOAD_PART, stringValue(part));
     }
@@ -204,6 +457,35 @@ final class DynamoExecutionPayloadStore {
         return value.s();
     }
 
+    private static String optionalString(Map<String, AttributeValue> item, String name) {
+        AttributeValue value = item.get(name);
+        return value == null ? null : value.s();
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(32, bytes.length / 4));
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(bytes);
+        } catch (IOException failure) {
+            throw new UncheckedIOException("Execution payload compression failed", failure);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static byte[] decode(String payloadId, String codec, byte[] stored) {
+        if (codec == null) {
+            return stored;
+        }
+        if (!GZIP_CODEC.equals(codec)) {
+            throw new IllegalStateException("Execution payload codec '" + codec + "' is not supported for " + payloadId);
+        }
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(stored))) {
+            return in.readAllBytes();
+        } catch (IOException failure) {
+            throw new IllegalStateException("Execution payload is not valid gzip for " + payloadId, failure);
+        }
+    }
+
     private static String sha256(byte[] bytes) {
         try {
             return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
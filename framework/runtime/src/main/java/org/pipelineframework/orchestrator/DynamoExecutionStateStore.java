@@ -2,19 +2,21 @@ package org.pipelineframework.orchestrator;
 
 import org.pipelineframework.orchestrator.release.PipelineContractDescriptor;
 import java.net.URI;
-import java.lang.reflect.Method;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.PriorityQueue;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 import java.util.stream.StreamSupport;
 import jakarta.annotation.PreDestroy;
@@ -28,6 +30,8 @@ import io.smallrye.mutiny.infrastructure.Infrastructure;
 import org.jboss.logging.Logger;
 import org.pipelineframework.cache.ProtobufMessageParser;
 import org.pipelineframework.config.pipeline.PipelineJson;
+import org.pipelineframework.repository.RepositoryProvider;
+import org.pipelineframework.util.ProtobufMessageRegistry;
 import software.amazon.awssdk.http.urlconnection.UrlConnectionHttpClient;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
@@ -43,6 +47,7 @@ import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.ReturnValue;
 import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
 import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
+import software.amazon.awssdk.services.dynamodb.model.Select;
 import software.amazon.awssdk.services.dynamodb.model.TransactWriteItem;
 import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
 import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
@@ -54,6 +59,10 @@ import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
 @ApplicationScoped
 public class DynamoExecutionStateStore implements ExecutionStateStore {
     private static final Logger LOG = Logger.getLogger(DynamoExecutionStateStore.class);
+    /** Items a due sweep may scan per candidate it wants before settling for the flows it has found. */
+    private static final int DUE_SCAN_BUDGET_FACTOR = 20;
+    /** Shortest time between purges of offloaded payloads whose execution TTL has passed. */
+    private static final long OFFLOAD_PURGE_INTERVAL_MS = 60L * 60 * 1000;
 
     private static final String TENANT_ID = "tenant_id";
     private static final String EXECUTION_ID = "execution_id";
@@ -80,6 +89,8 @@ public class DynamoExecutionStateStore implements ExecutionStateStore {
     private static final int BATCH_GET_MAX_ATTEMPTS = 4;
     private static final long BATCH_GET_RETRY_BUDGET_MS = 750L;
     private static final long BATCH_GET_RETRY_INITIAL_DELAY_MS = 50L;
+    private static final int TRANSACT_CREATE_MAX_EXECUTIONS = 50;
+    private static final long TRANSACT_CREATE_MAX_BYTES = 3L * 1024 * 1024;
     private static final String AWAIT_UNIT_ID = "await_unit_id";
     private static final String RESULT_PAYLOAD_JSON = "result_payload_json";
     private static final String RESULT_PAYLOAD_REFERENCE = "result_payload_reference";
@@ -92,6 +103,7 @@ public class DynamoExecutionStateStore implements ExecutionStateStore {
     private static final String FIRST_CIRCUIT_DEFERRED_AT_EPOCH_MS = "first_circuit_deferred_at_epoch_ms";
     private static final String CIRCUIT_DEFERRAL_COUNT = "circuit_deferral_count";
     private static final String CIRCUIT_IDENTITY = "circuit_identity";
+    private static final String PRIORITY = "priority";
     private static final String ENCODED_TYPE = "_tpf_type";
     private static final String ENCODED_MESSAGE_CLASS = "protobuf";
     private static final String ENCODED_MESSAGE_NAME = "_tpf_message";
@@ -112,9 +124,13 @@ public class DynamoExecutionStateStore implements ExecutionStateStore {
     @Inject
     ExecutionDurablePayloadResolver durablePayloadResolver;
 
+    @Inject
+    Instance<RepositoryProvider> repositoryProviders;
+
     private volatile Map<String, ProtobufMessageParser> protobufParserLookup;
     private volatile DynamoDbClient client;
     private volatile DynamoExecutionPayloadStore payloadStore;
+    private final AtomicLong nextOffloadPurgeEpochMs = new AtomicLong();
 
     /**
      * Default constructor for CDI.
@@ -164,6 +180,12 @@ public class DynamoExecutionStateStore implements ExecutionStateStore {
         if (payloadTable == null || payloadTable.isBlank()) {
             return Optional.of("pipeline.orchestrator.dynamo.execution-payload-table must not be blank.");
         }
+        Optional<String> offloadProvider = config.dynamo().payloadOffloadProvider();
+        if (offloadProvider != null && offloadProvider.filter(name -> !name.isBlank()).isPresent()
+            && findRepositoryProvider(offloadProvider.get().trim()).isEmpty()) {
+            return Optional.of("pipeline.orchestrator.dynamo.payload-offload-provider="
+                + offloadProvider.get().trim() + " does not match an available repository provider.");
+        }
         return Optional.empty();
     }
 
@@ -172,6 +194,12 @@ public class DynamoExecutionStateStore implements ExecutionStateStore {
         return blocking(() -> createOrGetExecutionBlocking(command));
     }
 
+    @Override
+    public Uni<List<CreateExecutionResult>> createOrGetExecutions(List<ExecutionCreateCommand> commands) {
+        List<ExecutionCreateCommand> requested = List.copyOf(commands);
+        return blocking(() -> createOrGetExecutionsBlocking(requested));
+    }
+
     @Override
     public Uni<Optional<ExecutionRecord<Object, Object>>> getExecution(String tenantId, String executionId) {
         return blocking(() -> getExecutionBlocking(tenantId, executionId, System.currentTimeMillis()));
@@ -314,7 +342,66 @@ public class DynamoExecutionStateStore implements ExecutionStateStore {
         if (limit <= 0) {
             return Uni.createFrom().item(List.of());
         }
-        return blocking(() -> findDueExecutionsBlocking(nowEpochMs, limit));
+        purgeExpiredOffloadsIfDue(nowEpochMs, 0);
+        return blocking(() -> findDueExecutionsBlocking(nowEpochMs, limit, 1, 0));
+    }
+
+    /**
+     * Counts with a {@code COUNT} scan that uses the sweep's due filter but not its scan budget, so a table full of
+     * rows that are not due cannot make the backlog look empty. The scan stops once {@code atMost} are counted.
+     */
+    @Override
+    public Uni<Integer> countDueExecutions(long nowEpochMs, int atMost) {
+        if (atMost <= 0) {
+            return Uni.createFrom().item(0);
+        }
+        return blocking(() -> countDueExecutionsBlocking(nowEpochMs, atMost));
+    }
+
+    /**
+     * Sweep shards map onto DynamoDB parallel-scan segments, so each shard reads only its own
+     * segment of the execution table.
+     */
+    @Override
+    public Uni<List<ExecutionRecord<Object, Object>>> findDueExecutions(
+        long nowEpochMs,
+        int limit,
+        int shardCount,
+        int shard
+    ) {
+        ExecutionSweepShards.requireShard(shardCount, shard);
+        if (limit <= 0) {
+            return Uni.createFrom().item(List.of());
+        }
+        purgeExpiredOffloadsIfDue(nowEpochMs, shard);
+        return blocking(() -> findDueExecutionsBlocking(nowEpochMs, limit, shardCount, shard));
+    }
+
+    /**
+     * Starts a purge of expired offloaded payloads in the background, at most once an hour per replica, so the sweep
+     * does not wait on the repository. Only reads of shard 0 trigger it. With sharded sweeps that is the replica owning
+     * shard 0, plus any replica stealing from it. Unsharded sweeps read shard 0 on every replica, so each replica purges.
+     * The deletes are idempotent, so overlapping purges only repeat work.
+     */
+    private void purgeExpiredOffloadsIfDue(long nowEpochMs, int shard) {
+        PipelineOrchestratorConfig.DynamoConfig dynamo = orchestratorConfig == null ? null : orchestratorConfig.dynamo();
+        if (shard != 0 || dynamo == null || optionalConfig(dynamo.payloadOffloadProvider()) == null) {
+            return;
+        }
+        long due = nextOffloadPurgeEpochMs.get();
+        if (nowEpochMs < due || !nextOffloadPurgeEpochMs.compareAndSet(due, nowEpochMs + OFFLOAD_PURGE_INTERVAL_MS)) {
+            return;
+        }
+        Thread.ofVirtual().name("tpf-execution-payload-purge").start(() -> {
+            try {
+                int deleted = payloadStore().purgeExpiredOffloads(Instant.ofEpochMilli(nowEpochMs).getEpochSecond());
+                if (deleted > 0) {
+                    LOG.debugf("Deleted %d offloaded execution payloads past their execution TTL", deleted);
+                }
+            } catch (RuntimeException e) {
+                LOG.warn("Failed purging offloaded execution payloads past their execution TTL; retrying next hour", e);
+            }
+        });
     }
 
     @PreDestroy
@@ -350,10 +437,27 @@ public class DynamoExecutionStateStore implements ExecutionStateStore {
             return new CreateExecutionResult(existing.get(), true);
         }
 
-        String executionId = UUID.randomUUID().toString();
-        ExecutionRecord<Object, Object> created = new ExecutionRecord<>(
+        ExecutionRecord<Object, Object> created = newExecutionRecord(command);
+
+        try {
+            writeNewExecution(scopedExecutionKey, created, command.inputCanonicalTypeId(), command.nowEpochMs(), command.ttlEpochS());
+            return new CreateExecutionResult(created, false);
+        } catch (TransactionCanceledException | ConditionalCheckFailedException ignored) {
+            Optional<ExecutionRecord<Object, Object>> raced = findExistingByScopedExecutionKey(
+                command.tenantId(),
+                scopedExecutionKey,
+                nowEpochMs);
+            if (raced.isPresent()) {
+                return new CreateExecutionResult(raced.get(), true);
+            }
+            throw ignored;
+        }
+    }
+
+    private static ExecutionRecord<Object, Object> newExecutionRecord(ExecutionCreateCommand command) {
+        return new ExecutionRecord<>(
             command.tenantId(),
-            executionId,
+            UUID.randomUUID().toString(),
             command.executionKey(),
             command.pipelineId(),
             command.contractVersion(),
@@ -374,20 +478,108 @@ public class DynamoExecutionStateStore implements ExecutionStateStore {
             null,
             command.nowEpochMs(),
             command.nowEpochMs(),
-            command.ttlEpochS());
+            command.ttlEpochS(),
+            0L,
+            0,
+            "",
+            command.priority());
+    }
 
-        try {
-            writeNewExecution(scopedExecutionKey, created, command.inputCanonicalTypeId(), command.nowEpochMs(), command.ttlEpochS());
-            return new CreateExecutionResult(created, false);
-        } catch (TransactionCanceledException | ConditionalCheckFailedException ignored) {
-            Optional<ExecutionRecord<Object, Object>> raced = findExistingByScopedExecutionKey(
-                command.tenantId(),
-                scopedExecutionKey,
-                nowEpochMs);
-            if (raced.isPresent()) {
-                return new CreateExecutionResult(raced.get(), true);
+    private List<CreateExecutionResult> createOrGetExecutionsBlocking(List<ExecutionCreateCommand> commands) {
+        if (commands.isEmpty()) {
+            return List.of();
+        }
+        CreateExecutionResult[] results = new CreateExecutionResult[commands.size()];
+        Map<String, List<Integer>> indexesByTenant = new LinkedHashMap<>();
+        for (int index = 0; index < commands.size(); index++) {
+            ExecutionCreateCommand command = Objects.requireNonNull(commands.get(index), "command must not be null");
+            indexesByTenant.computeIfAbsent(command.tenantId(), ignored -> new ArrayList<>()).add(index);
+        }
+        indexesByTenant.forEach((tenantId, indexes) -> {
+            List<String> executionKeys = indexes.stream().map(index -> commands.get(index).executionKey()).toList();
+            long nowEpochMs = indexes.stream().mapToLong(index -> commands.get(index).nowEpochMs()).max().orElseThrow();
+            List<Optional<ExecutionRecord<Object, Object>>> existing =
+                getExecutionsByKeyBlocking(tenantId, executionKeys, nowEpochMs);
+            for (int position = 0; position < indexes.size(); position++) {
+                int index = indexes.get(position);
+                existing.get(position).ifPresent(record -> results[index] = new CreateExecutionResult(record, true));
             }
-            throw ignored;
+        });
+
+        Map<String, Integer> creatorByScopedKey = new HashMap<>();
+        Map<Integer, Integer> repeatedIndexes = new LinkedHashMap<>();
+        List<PendingCreate> pending = new ArrayList<>();
+        for (int index = 0; index < commands.size(); index++) {
+            if (results[index] != null) {
+                continue;
+            }
+            ExecutionCreateCommand command = commands.get(index);
+            String scopedKey = scopedExecutionKey(command.tenantId(), command.executionKey());
+            Integer creator = creatorByScopedKey.putIfAbsent(scopedKey, index);
+            if (creator != null) {
+                repeatedIndexes.put(index, creator);
+                continue;
+            }
+            ExecutionRecord<Object, Object> record = newExecutionRecord(command);
+            pending.add(new PendingCreate(index, command, record, newExecutionItems(scopedKey, record,
+                command.inputCanonicalTypeId(), command.nowEpochMs(), command.ttlEpochS())));
+        }
+
+        for (List<PendingCreate> chunk : transactionChunks(pending)) {
+            try {
+                dynamoClient().transactWriteItems(TransactWriteItemsRequest.builder()
+                    .transactItems(chunk.stream().flatMap(create -> create.items().stream()).toList())
+                    .build());
+                chunk.forEach(create -> results[create.index()] = new CreateExecutionResult(create.record(), false));
+            } catch (TransactionCanceledException cancelled) {
+                // One raced key cancels the whole transaction; settle each admission on its own.
+                for (PendingCreate create : chunk) {
+                    results[create.index()] = createOrGetExecutionBlocking(create.command());
+                }
+            }
+        }
+        repeatedIndexes.forEach((index, creator) ->
+            results[index] = new CreateExecutionResult(results[creator].record(), true));
+        return List.of(results);
+    }
+
+    private static List<List<PendingCreate>> transactionChunks(List<PendingCreate> pending) {
+        List<List<PendingCreate>> chunks = new ArrayList<>();
+        List<PendingCreate> chunk = new ArrayList<>();
+        long chunkBytes = 0;
+        for (PendingCreate create : pending) {
+            long bytes = create.estimatedBytes();
+            if (!chunk.isEmpty() && (chunk.size() == TRANSACT_CREATE_MAX_EXECUTIONS
+                || chunkBytes + bytes > TRANSACT_CREATE_MAX_BYTES)) {
+                chunks.add(List.copyOf(chunk));
+                chunk.clear();
+                chunkBytes = 0;
+            }
+            chunk.add(create);
+            chunkBytes += bytes;
+        }
+        if (!chunk.isEmpty()) {
+            chunks.add(List.copyOf(chunk));
+        }
+        return chunks;
+    }
+
+    private record PendingCreate(
+        int index,
+        ExecutionCreateCommand command,
+        ExecutionRecord<Object, Object> record,
+        List<TransactWriteItem> items
+    ) {
+        private long estimatedBytes() {
+            long bytes = 0;
+            for (TransactWriteItem item : items) {
+                for (Map.Entry<String, AttributeValue> attribute : item.put().item().entrySet()) {
+                    bytes += attribute.getKey().length();
+                    AttributeValue value = attribute.getValue();
+                    bytes += value.s() != null ? value.s().length() : value.n() != null ? value.n().length() : 8;
+                }
+            }
+            return bytes;
         }
     }
 
@@ -1148,36 +1340,66 @@ public class DynamoExecutionStateStore implements ExecutionStateStore {
         }
     }
 
-    private List<ExecutionRecord<Object, Object>> findDueExecutionsBlocking(long nowEpochMs, int limit) {
-        Map<String, String> names = Map.of(
-            "#status", STATUS,
-            "#nextDue", NEXT_DUE_EPOCH_MS,
-            "#leaseOwner", LEASE_OWNER,
-            "#leaseExpires", LEASE_EXPIRES_EPOCH_MS,
-            "#ttl", TTL_EPOCH_S);
-        Map<String, AttributeValue> values = Map.of(
-            ":now", avN(nowEpochMs),
-            ":succeeded", avS(ExecutionStatus.SUCCEEDED.name()),
-            ":waitingExternal", avS(ExecutionStatus.WAITING_EXTERNAL.name()),
-            ":failed", avS(ExecutionStatus.FAILED.name()),
-            ":dlq", avS(ExecutionStatus.DLQ.name()),
-            ":nowSec", avN(Instant.ofEpochMilli(nowEpochMs).getEpochSecond()));
+    private int countDueExecutionsBlocking(long nowEpochMs, int atMost) {
+        int counted = 0;
+        Map<String, AttributeValue> exclusiveStartKey = null;
+        do {
+            ScanRequest.Builder requestBuilder = dueScan(nowEpochMs).select(Select.COUNT);
+            if (exclusiveStartKey != null) {
+                requestBuilder.exclusiveStartKey(exclusiveStartKey);
+            }
+            ScanResponse response = dynamoClient().scan(requestBuilder.build());
+            counted += response.count() == null ? 0 : response.count();
+            exclusiveStartKey = response.lastEvaluatedKey();
+        } while (counted < atMost && exclusiveStartKey != null && !exclusiveStartKey.isEmpty());
+        return Math.min(counted, atMost);
+    }
 
+    private ScanRequest.Builder dueScan(long nowEpochMs) {
+        return ScanRequest.builder()
+            .tableName(executionTable())
+            .filterExpression(
+                "#nextDue <= :now " +
+                    "AND (attribute_not_exists(#leaseOwner) OR #leaseExpires <= :now) " +
+                    "AND #status <> :succeeded AND #status <> :waitingExternal AND #status <> :failed AND #status <> :dlq " +
+                    "AND (attribute_not_exists(#ttl) OR #ttl > :nowSec)")
+            .expressionAttributeNames(Map.of(
+                "#status", STATUS,
+                "#nextDue", NEXT_DUE_EPOCH_MS,
+                "#leaseOwner", LEASE_OWNER,
+                "#leaseExpires", LEASE_EXPIRES_EPOCH_MS,
+                "#ttl", TTL_EPOCH_S))
+            .expressionAttributeValues(Map.of(
+                ":now", avN(nowEpochMs),
+                ":succeeded", avS(ExecutionStatus.SUCCEEDED.name()),
+                ":waitingExternal", avS(ExecutionStatus.WAITING_EXTERNAL.name()),
+                ":failed", avS(ExecutionStatus.FAILED.name()),
+                ":dlq", avS(ExecutionStatus.DLQ.name()),
+                ":nowSec", avN(Instant.ofEpochMilli(nowEpochMs).getEpochSecond())));
+    }
+
+    private List<ExecutionRecord<Object, Object>> findDueExecutionsBlocking(
+        long nowEpochMs,
+        int limit,
+        int shardCount,
+        int shard
+    ) {
+
+        // A flow (tenant and priority) can never be served more than limit items, so each keeps at most its limit
+        // oldest candidates and the scan goes on until several flows fill the candidate set, the segment ends,
+        // or the scan budget is spent. One tenant early in hash order can no longer crowd out the rest.
         int candidateLimit = Math.max(limit * 3, limit);
-        List<ExecutionRecord<Object, Object>> due = new ArrayList<>();
+        long scanBudget = (long) candidateLimit * DUE_SCAN_BUDGET_FACTOR;
+        Map<Object, PriorityQueue<ExecutionRecord<Object, Object>>> candidatesByFlow = new LinkedHashMap<>();
+        int candidates = 0;
+        long scanned = 0;
 
         Map<String, AttributeValue> exclusiveStartKey = null;
         while (true) {
-            ScanRequest.Builder requestBuilder = ScanRequest.builder()
-                .tableName(executionTable())
-                .filterExpression(
-                    "#nextDue <= :now " +
-                        "AND (attribute_not_exists(#leaseOwner) OR #leaseExpires <= :now) " +
-                        "AND #status <> :succeeded AND #status <> :waitingExternal AND #status <> :failed AND #status <> :dlq " +
-                        "AND (attribute_not_exists(#ttl) OR #ttl > :nowSec)")
-                .expressionAttributeNames(names)
-                .expressionAttributeValues(values)
-                .limit(candidateLimit);
+            ScanRequest.Builder requestBuilder = dueScan(nowEpochMs).limit(candidateLimit);
+            if (shardCount > 1) {
+                requestBuilder.segment(shard).totalSegments(shardCount);
+            }
             if (exclusiveStartKey != null && !exclusiveStartKey.isEmpty()) {
                 requestBuilder.exclusiveStartKey(exclusiveStartKey);
             }
@@ -1186,26 +1408,41 @@ public class DynamoExecutionStateStore implements ExecutionStateStore {
             if (response.items() != null) {
                 for (Map<String, AttributeValue> item : response.items()) {
                     ExecutionRecord<Object, Object> record = toRecord(item);
-                    if (!isExpired(record, nowEpochMs)) {
-                        due.add(record);
+                    if (isExpired(record, nowEpochMs)) {
+                        continue;
+                    }
+                    PriorityQueue<ExecutionRecord<Object, Object>> flow = candidatesByFlow.computeIfAbsent(
+                        DeficitRoundRobinQueue.flowKey(record),
+                        ignored -> new PriorityQueue<>(
+                            Comparator.comparingLong(ExecutionRecord<Object, Object>::nextDueEpochMs).reversed()));
+                    flow.add(record);
+                    if (flow.size() > limit) {
+                        flow.poll();
+                    } else {
+                        candidates++;
                     }
                 }
             }
-
-            if (due.size() >= candidateLimit || response.lastEvaluatedKey() == null || response.lastEvaluatedKey().isEmpty()) {
+            scanned += response.scannedCount() == null
+                ? (response.items() == null ? 0 : response.items().size())
+                : response.scannedCount();
+
+            if (candidates >= candidateLimit
+                || scanned >= scanBudget
+                || response.lastEvaluatedKey() == null
+                || response.lastEvaluatedKey().isEmpty()) {
                 break;
             }
             exclusiveStartKey = response.lastEvaluatedKey();
         }
 
-        if (due.isEmpty()) {
+        if (candidates == 0) {
             return List.of();
         }
+        List<ExecutionRecord<Object, Object>> due = new ArrayList<>(candidates);
+        candidatesByFlow.values().forEach(due::addAll);
         due.sort(Comparator.comparingLong(ExecutionRecord::nextDueEpochMs));
-        if (due.size() > limit) {
-            return List.copyOf(due.subList(0, limit));
-        }
-        return List.copyOf(due);
+        return DeficitRoundRobinQueue.fairShare(due, limit);
     }
 
     private Optional<ExecutionRecord<Object, Object>> findExistingByScopedExecutionKey(
@@ -1240,6 +1477,18 @@ public class DynamoExecutionStateStore implements ExecutionStateStore {
         Optional<String> inputCanonicalTypeId,
         long nowEpochMs,
         long ttlEpochS
+    ) {
+        dynamoClient().transactWriteItems(TransactWriteItemsRequest.builder()
+            .transactItems(newExecutionItems(scopedExecutionKey, record, inputCanonicalTypeId, nowEpochMs, ttlEpochS))
+            .build());
+    }
+
+    private List<TransactWriteItem> newExecutionItems(
+        String scopedExecutionKey,
+        ExecutionRecord<Object, Object> record,
+        Optional<String> inputCanonicalTypeId,
+        long nowEpochMs,
+        long ttlEpochS
     ) {
         Map<String, AttributeValue> executionItem = toItem(record, inputCanonicalTypeId);
         Map<String, AttributeValue> keyItem = new HashMap<>();
@@ -1264,12 +1513,9 @@ public class DynamoExecutionStateStore implements ExecutionStateStore {
             .expressionAttributeNames(Map.of("#scopedExecutionKey", TENANT_EXECUTION_KEY))
             .build();
 
-        TransactWriteItemsRequest request = TransactWriteItemsRequest.builder()
-            .transactItems(
-                TransactWriteItem.builder().put(putExecution).build(),
-                TransactWriteItem.builder().put(putKey).build())
-            .build();
-        dynamoClient().transactWriteItems(request);
+        return List.of(
+            TransactWriteItem.builder().put(putExecution).build(),
+            TransactWriteItem.builder().put(putKey).build());
     }
 
     private void deleteExpiredRecord(ExecutionRecord<Object, Object> record) {
@@ -1333,6 +1579,9 @@ public class DynamoExecutionStateStore implements ExecutionStateStore {
         putIfPresent(item, ERROR_CODE, record.errorCode());
         putIfPresent(item, ERROR_MESSAGE, record.errorMessage());
         putIfPresent(item, CIRCUIT_IDENTITY, record.circuitIdentity());
+        if (record.priority() != ExecutionPriority.NORMAL) {
+            item.put(PRIORITY, avS(record.priority().name()));
+        }
         return item;
     }
 
@@ -1553,12 +1802,44 @@ public class DynamoExecutionStateStore implements ExecutionStateStore {
         }
         synchronized (this) {
             if (payloadStore == null) {
-                payloadStore = new DynamoExecutionPayloadStore(this::dynamoClient, this::executionPayloadTable);
+                PipelineOrchestratorConfig.DynamoConfig dynamo = orchestratorConfig.dynamo();
+                payloadStore = new DynamoExecutionPayloadStore(
+                    this::dynamoClient,
+                    this::executionPayloadTable,
+                    new DynamoExecutionPayloadStore.Options(
+                        dynamo.payloadWriteConcurrency(),
+                        dynamo.payloadCompression(),
+                        optionalConfig(dynamo.payloadOffloadProvider()),
+                        optionalConfig(dynamo.payloadOffloadContainer()),
+                        dynamo.payloadOffloadThresholdBytes(),
+                        dynamo.payloadOffloadTimeout(),
+                        this::repositoryProvider));
             }
             return payloadStore;
         }
     }
 
+    private RepositoryProvider repositoryProvider(String providerName) {
+        return findRepositoryProvider(providerName).orElseThrow(() -> new IllegalStateException(
+            "No repository provider matches execution payload provider=" + providerName));
+    }
+
+    private Optional<RepositoryProvider> findRepositoryProvider(String providerName) {
+        if (repositoryProviders == null || providerName == null) {
+            return Optional.empty();
+        }
+        for (RepositoryProvider provider : repositoryProviders) {
+            if (providerName.equalsIgnoreCase(provider.providerName())) {
+                return Optional.of(provider);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static String optionalConfig(Optional<String> value) {
+        return value == null ? null : value.orElse(null);
+    }
+
     private record StoredPayload(Optional<String> inlinePayload, Optional<String> reference, Optional<String> digest) {
         private static StoredPayload inline(String payload, String digest) {
             return new StoredPayload(Optional.of(payload), Optional.empty(), Optional.of(digest));
@@ -1618,6 +1899,7 @@ public class DynamoExecutionStateStore implements ExecutionStateStore {
         long firstCircuitDeferredAt = readLong(item, FIRST_CIRCUIT_DEFERRED_AT_EPOCH_MS);
         int circuitDeferralCount = (int) readLong(item, CIRCUIT_DEFERRAL_COUNT);
         String circuitIdentity = readString(item, CIRCUIT_IDENTITY);
+        ExecutionPriority priority = readPriority(item);
         ExecutionRecord<Object, Object> stored = new ExecutionRecord<>(
             tenantId,
             executionId,
@@ -1650,7 +1932,8 @@ public class DynamoExecutionStateStore implements ExecutionStateStore {
             ttlEpochS,
             firstCircuitDeferredAt,
             circuitDeferralCount,
-            circuitIdentity == null ? "" : circuitIdentity);
+            circuitIdentity == null ? "" : circuitIdentity,
+            priority);
         return withPayloads(stored, readInputPayload(stored, item), readResultPayload(stored, item));
     }
 
@@ -1660,7 +1943,7 @@ public class DynamoExecutionStateStore implements ExecutionStateStore {
             stored.currentStepIndex(), stored.attempt(), stored.leaseOwner(), stored.leaseExpiresEpochMs(), stored.nextDueEpochMs(),
             stored.lastTransitionKey(), inputPayload, stored.awaitUnitId(), resultPayload, stored.errorCode(), stored.errorMessage(),
             stored.createdAtEpochMs(), stored.updatedAtEpochMs(), stored.ttlEpochS(), stored.firstCircuitDeferredAtEpochMs(),
-            stored.circuitDeferralCount(), stored.circuitIdentity());
+            stored.circuitDeferralCount(), stored.circuitIdentity(), stored.priority());
     }
 
     private ExecutionRecord<Object, Object> withCurrentStepIndex(ExecutionRecord<Object, Object> stored, int currentStepIndex) {
@@ -1669,7 +1952,7 @@ public class DynamoExecutionStateStore implements ExecutionStateStore {
             currentStepIndex, stored.attempt(), stored.leaseOwner(), stored.leaseExpiresEpochMs(), stored.nextDueEpochMs(),
             stored.lastTransitionKey(), stored.inputPayload(), stored.awaitUnitId(), stored.resultPayload(), stored.errorCode(),
             stored.errorMessage(), stored.createdAtEpochMs(), stored.updatedAtEpochMs(), stored.ttlEpochS(),
-            stored.firstCircuitDeferredAtEpochMs(), stored.circuitDeferralCount(), stored.circuitIdentity());
+            stored.firstCircuitDeferredAtEpochMs(), stored.circuitDeferralCount(), stored.circuitIdentity(), stored.priority());
     }
 
     private Object readInputPayload(ExecutionRecord<Object, Object> execution, Map<String, AttributeValue> item) {
@@ -1859,6 +2142,18 @@ public class DynamoExecutionStateStore implements ExecutionStateStore {
         return value.s();
     }
 
+    private static ExecutionPriority readPriority(Map<String, AttributeValue> item) {
+        String value = readString(item, PRIORITY);
+        if (value == null || value.isBlank()) {
+            return ExecutionPriority.NORMAL;
+        }
+        try {
+            return ExecutionPriority.valueOf(value);
+        } catch (IllegalArgumentException ignored) {
+            return ExecutionPriority.NORMAL;
+        }
+    }
+
     private static long readLong(Map<String, AttributeValue> item, String key) {
         AttributeValue value = item.get(key);
         if (value == null || value.n() == null || value.n().isBlank()) {
@@ -1973,7 +2268,7 @@ public class DynamoExecutionStateStore implements ExecutionStateStore {
             throw new IllegalStateException("Stored protobuf payload metadata is incomplete.");
         }
         ProtobufMessageParser parser = findProtobufParser(messageType)
-            .orElseGet(() -> reflectiveParser(messageType, messageJavaClass));
+            .orElseGet(() -> fallbackParser(messageType, messageJavaClass));
         try {
             return parser.parseFrom(Base64.getDecoder().decode(payload));
         } catch (IllegalArgumentException e) {
@@ -1990,23 +2285,18 @@ public class DynamoExecutionStateStore implements ExecutionStateStore {
     }
 
     private Optional<ProtobufMessageParser> findProtobufParser(String messageType) {
-        if (protobufMessageParsers == null) {
-            return Optional.empty();
+        if (protobufMessageParsers != null) {
+            ProtobufMessageParser injected = protobufParserLookup().get(normalizeMessageType(messageType));
+            if (injected != null) {
+                return Optional.of(injected);
+            }
         }
-        return Optional.ofNullable(protobufParserLookup().get(normalizeMessageType(messageType)));
+        return ProtobufMessageRegistry.parser(messageType);
     }
 
-    private ProtobufMessageParser reflectiveParser(String messageType, String messageJavaClass) {
+    private ProtobufMessageParser fallbackParser(String messageType, String messageJavaClass) {
         Class<? extends Message> messageClass = loadProtobufMessageClass(messageType, messageJavaClass)
             .orElseThrow(() -> new IllegalStateException("No protobuf parser registered for " + messageType));
-        final Method parseFromMethod;
-        try {
-            parseFromMethod = messageClass.getMethod("parseFrom", byte[].class);
-        } catch (ReflectiveOperationException e) {
-            throw new IllegalStateException(
-                "Failed to initialise protobuf parser reflectively for messageType=" + messageType + ".",
-                e);
-        }
         return new ProtobufMessageParser() {
             @Override
             public String type() {
@@ -2016,15 +2306,10 @@ public class DynamoExecutionStateStore implements ExecutionStateStore {
             @Override
             public Message parseFrom(byte[] bytes) {
                 try {
-                    Object parsed = parseFromMethod.invoke(null, bytes);
-                    if (parsed instanceof Message message) {
-                        return message;
-                    }
-                    throw new IllegalStateException(
-                        "Static parseFrom(byte[]) on " + messageClass.getName() + " did not return a protobuf Message.");
-                } catch (ReflectiveOperationException e) {
+                    return ProtobufMessageRegistry.parseFrom(messageClass, bytes);
+                } catch (IllegalArgumentException e) {
                     throw new IllegalStateException(
-                        "Failed to parse protobuf payload reflectively for messageType=" + messageType + ".",
+                        "Failed to parse protobuf payload for messageType=" + messageType + ".",
                         e);
                 }
             }
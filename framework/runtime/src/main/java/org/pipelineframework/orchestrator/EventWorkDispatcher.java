@@ -2,9 +2,6 @@ package org.pipelineframework.orchestrator;
 
 import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.event.Event;
@@ -16,6 +13,9 @@ import io.smallrye.mutiny.infrastructure.Infrastructure;
 
 /**
  * Dispatcher that routes work through CDI async events.
+ *
+ * <p>Delayed work waits on a hierarchical timer wheel with a 10 ms tick, so retries and deferrals are dispatched
+ * when they fall due rather than on the next sweep.</p>
  */
 @ApplicationScoped
 public class EventWorkDispatcher implements WorkDispatcher {
@@ -27,11 +27,11 @@ public class EventWorkDispatcher implements WorkDispatcher {
         this.executionWorkEvent = executionWorkEvent;
     }
 
-    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
-        Thread thread = new Thread(runnable, "tpf-work-dispatcher");
-        thread.setDaemon(true);
-        return thread;
-    });
+    private static final long WHEEL_TICK_MS = 10L;
+    private static final int WHEEL_SIZE = 64;
+
+    private final HierarchicalTimerWheel wheel =
+        new HierarchicalTimerWheel("tpf-work-dispatcher", WHEEL_TICK_MS, WHEEL_SIZE);
 
     @Override
     public String providerName() {
@@ -69,7 +69,7 @@ public class EventWorkDispatcher implements WorkDispatcher {
         long delayMs = Math.max(0L, delay == null ? 0L : delay.toMillis());
         CompletableFuture<Void> completion = new CompletableFuture<>();
         try {
-            scheduler.schedule(() -> {
+            wheel.schedule(System.currentTimeMillis() + delayMs, () -> {
                 try {
                     executionWorkEvent.fireAsync(item,
                         NotificationOptions.ofExecutor(Infrastructure.getDefaultExecutor()));
@@ -77,7 +77,7 @@ public class EventWorkDispatcher implements WorkDispatcher {
                 } catch (Throwable failure) {
                     completion.completeExceptionally(failure);
                 }
-            }, delayMs, TimeUnit.MILLISECONDS);
+            });
         } catch (RuntimeException failure) {
             completion.completeExceptionally(failure);
         }
@@ -86,6 +86,6 @@ public class EventWorkDispatcher implements WorkDispatcher {
 
     @PreDestroy
     void shutdown() {
-        scheduler.shutdownNow();
+        wheel.shutdown();
     }
 }
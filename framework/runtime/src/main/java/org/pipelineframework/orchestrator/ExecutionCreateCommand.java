@@ -12,6 +12,7 @@ import java.util.Optional;
  * @param inputPayload original orchestrator input payload
  * @param nowEpochMs current timestamp in epoch milliseconds
  * @param ttlEpochS expiration timestamp in epoch seconds
+ * @param priority scheduling class of the execution
  */
 public record ExecutionCreateCommand(
     String tenantId,
@@ -24,8 +25,37 @@ public record ExecutionCreateCommand(
     Optional<String> inputCanonicalTypeId,
     int initialStepIndex,
     long nowEpochMs,
-    long ttlEpochS
+    long ttlEpochS,
+    ExecutionPriority priority
 ) {
+    public ExecutionCreateCommand(
+        String tenantId,
+        String executionKey,
+        String pipelineId,
+        String contractVersion,
+        String releaseVersion,
+        Object inputPayload,
+        ExecutionResultShape resultShape,
+        Optional<String> inputCanonicalTypeId,
+        int initialStepIndex,
+        long nowEpochMs,
+        long ttlEpochS
+    ) {
+        this(
+            tenantId,
+            executionKey,
+            pipelineId,
+            contractVersion,
+            releaseVersion,
+            inputPayload,
+            resultShape,
+            inputCanonicalTypeId,
+            initialStepIndex,
+            nowEpochMs,
+            ttlEpochS,
+            ExecutionPriority.NORMAL);
+    }
+
     public ExecutionCreateCommand(
         String tenantId,
         String executionKey,
@@ -136,5 +166,6 @@ public record ExecutionCreateCommand(
         if (initialStepIndex < 0) {
             throw new IllegalArgumentException("ExecutionCreateCommand.initialStepIndex must be >= 0");
         }
+        priority = priority == null ? ExecutionPriority.NORMAL : priority;
     }
 }
@@ -0,0 +1,15 @@
+package org.pipelineframework.orchestrator;
+
+/**
+ * Compression applied to externally stored execution payloads before they are chunked or offloaded.
+ */
+public enum ExecutionPayloadCompression {
+    /**
+     * Store the serialized payload bytes as they are.
+     */
+    NONE,
+    /**
+     * Gzip the serialized payload and record {@code gzip} as its codec in the payload manifest.
+     */
+    GZIP
+}
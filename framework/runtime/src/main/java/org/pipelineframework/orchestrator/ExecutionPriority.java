@@ -0,0 +1,39 @@
+package org.pipelineframework.orchestrator;
+
+/**
+ * Scheduling class of an async execution.
+ *
+ * <p>Due executions and dispatched work are shared across tenants by deficit round-robin. Each tenant and priority
+ * pair is one flow, and a flow is served up to its class weight per round. A {@code HIGH} execution therefore gets
+ * four turns for every turn of a {@code LOW} one from the same tenant, and no tenant can take another tenant's turns
+ * by queueing more work.</p>
+ */
+public enum ExecutionPriority {
+    /**
+     * Latency-sensitive work, served with weight 4.
+     */
+    HIGH(4),
+    /**
+     * Default class, served with weight 2.
+     */
+    NORMAL(2),
+    /**
+     * Background work, served with weight 1.
+     */
+    LOW(1);
+
+    private final int weight;
+
+    ExecutionPriority(int weight) {
+        this.weight = weight;
+    }
+
+    /**
+     * Round-robin quantum of this class.
+     *
+     * @return turns per round
+     */
+    public int weight() {
+        return weight;
+    }
+}
@@ -30,8 +30,49 @@ public record ExecutionRecord<I, R>(
     long ttlEpochS,
     long firstCircuitDeferredAtEpochMs,
     int circuitDeferralCount,
-    String circuitIdentity
+    String circuitIdentity,
+    ExecutionPriority priority
 ) {
+    public ExecutionRecord {
+        priority = priority == null ? ExecutionPriority.NORMAL : priority;
+    }
+
+    /** Compatibility constructor for records persisted before execution priority existed. */
+    public ExecutionRecord(
+        String tenantId,
+        String executionId,
+        String executionKey,
+        String pipelineId,
+        String contractVersion,
+        String releaseVersion,
+        ExecutionResultShape resultShape,
+        ExecutionStatus status,
+        long version,
+        int currentStepIndex,
+        int attempt,
+        String leaseOwner,
+        long leaseExpiresEpochMs,
+        long nextDueEpochMs,
+        String lastTransitionKey,
+        I inputPayload,
+        String awaitUnitId,
+        R resultPayload,
+        String errorCode,
+        String errorMessage,
+        long createdAtEpochMs,
+        long updatedAtEpochMs,
+        long ttlEpochS,
+        long firstCircuitDeferredAtEpochMs,
+        int circuitDeferralCount,
+        String circuitIdentity
+    ) {
+        this(tenantId, executionId, executionKey, pipelineId, contractVersion, releaseVersion, resultShape,
+            status, version, currentStepIndex, attempt, leaseOwner, leaseExpiresEpochMs, nextDueEpochMs,
+            lastTransitionKey, inputPayload, awaitUnitId, resultPayload, errorCode, errorMessage,
+            createdAtEpochMs, updatedAtEpochMs, ttlEpochS, firstCircuitDeferredAtEpochMs, circuitDeferralCount,
+            circuitIdentity, ExecutionPriority.NORMAL);
+    }
+
     /** Compatibility constructor for records persisted before circuit deferral metadata existed. */
     public ExecutionRecord(
         String tenantId,
@@ -61,7 +102,7 @@ public record ExecutionRecord<I, R>(
         this(tenantId, executionId, executionKey, pipelineId, contractVersion, releaseVersion, resultShape,
             status, version, currentStepIndex, attempt, leaseOwner, leaseExpiresEpochMs, nextDueEpochMs,
             lastTransitionKey, inputPayload, awaitUnitId, resultPayload, errorCode, errorMessage,
-            createdAtEpochMs, updatedAtEpochMs, ttlEpochS, 0L, 0, "");
+            createdAtEpochMs, updatedAtEpochMs, ttlEpochS, 0L, 0, "", ExecutionPriority.NORMAL);
     }
     public ExecutionRecord(
         String tenantId,
@@ -195,6 +236,7 @@ public record ExecutionRecord<I, R>(
             ttlEpochS,
             firstCircuitDeferredAtEpochMs,
             circuitDeferralCount,
-            circuitIdentity);
+            circuitIdentity,
+            priority);
     }
 }
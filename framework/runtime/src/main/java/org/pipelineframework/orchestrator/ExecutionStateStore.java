@@ -53,6 +53,28 @@ public interface ExecutionStateStore {
      */
     Uni<CreateExecutionResult> createOrGetExecution(ExecutionCreateCommand command);
 
+    /**
+     * Creates or gets several executions in one admission.
+     *
+     * <p>Each command is settled independently: results are returned in command order and
+     * {@link CreateExecutionResult#duplicate()} is set per command, so a batch may mix new and
+     * existing executions. A command repeating the execution key of an earlier command in the same
+     * batch resolves to that earlier execution as a duplicate. Stores with native batch reads or
+     * transactional writes should override this method; the default admits commands sequentially.</p>
+     *
+     * @param commands create commands
+     * @return one create-or-get result per command, in the same order
+     */
+    default Uni<List<CreateExecutionResult>> createOrGetExecutions(List<ExecutionCreateCommand> commands) {
+        List<ExecutionCreateCommand> requested = List.copyOf(commands);
+        if (requested.isEmpty()) {
+            return Uni.createFrom().item(List.of());
+        }
+        return Multi.createFrom().iterable(requested)
+            .onItem().transformToUniAndConcatenate(this::createOrGetExecution)
+            .collect().asList();
+    }
+
     /**
      * Fetches one execution by tenant and execution id.
      *
@@ -299,4 +321,54 @@ public interface ExecutionStateStore {
      * @return due executions
      */
     Uni<List<ExecutionRecord<Object, Object>>> findDueExecutions(long nowEpochMs, int limit);
+
+    /**
+     * Counts executions due for dispatch, stopping once {@code atMost} are found.
+     *
+     * <p>Used to gauge the due backlog, so it reads no records and does not share the sweep's read limits.
+     * The default counts a {@link #findDueExecutions(long, int)} read; stores whose due read is bounded by more
+     * than its limit should override this method.</p>
+     *
+     * @param nowEpochMs current timestamp
+     * @param atMost count at which to stop
+     * @return due executions counted, at most {@code atMost}
+     */
+    default Uni<Integer> countDueExecutions(long nowEpochMs, int atMost) {
+        if (atMost <= 0) {
+            return Uni.createFrom().item(0);
+        }
+        return findDueExecutions(nowEpochMs, atMost).onItem().transform(List::size);
+    }
+
+    /**
+     * Finds executions due for dispatch in one sweep shard.
+     *
+     * <p>Shards of one {@code shardCount} must be disjoint and together cover every execution.
+     * The default partitions by {@link ExecutionSweepShards#shardOf(String, String, int)} and filters
+     * a widened {@link #findDueExecutions(long, int)} read. Stores that can read one partition
+     * natively should override this method and may partition by their own storage layout.</p>
+     *
+     * @param nowEpochMs current timestamp
+     * @param limit max records to return
+     * @param shardCount total shard count
+     * @param shard shard index in {@code [0, shardCount)}
+     * @return due executions of the shard
+     */
+    default Uni<List<ExecutionRecord<Object, Object>>> findDueExecutions(
+        long nowEpochMs,
+        int limit,
+        int shardCount,
+        int shard
+    ) {
+        ExecutionSweepShards.requireShard(shardCount, shard);
+        if (shardCount == 1) {
+            return findDueExecutions(nowEpochMs, limit);
+        }
+        int candidates = (int) Math.min(Integer.MAX_VALUE, (long) Math.max(0, limit) * shardCount);
+        return findDueExecutions(nowEpochMs, candidates)
+            .onItem().transform(due -> due.stream()
+                .filter(record -> ExecutionSweepShards.shardOf(record.tenantId(), record.executionKey(), shardCount) == shard)
+                .limit(Math.max(0, limit))
+                .toList());
+    }
 }
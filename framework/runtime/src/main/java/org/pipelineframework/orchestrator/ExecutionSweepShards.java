@@ -0,0 +1,63 @@
+package org.pipelineframework.orchestrator;
+
+import java.util.Objects;
+
+/**
+ * Stable hash partitioning of executions into sweep shards.
+ *
+ * <p>Replicas that agree on a shard count sweep disjoint shards, so a due execution is found by
+ * one replica instead of being raced by all of them. The hash only depends on the tenant and
+ * execution key, so an execution stays in the same shard for its whole lifetime.</p>
+ */
+public final class ExecutionSweepShards {
+
+    private ExecutionSweepShards() {
+    }
+
+    /**
+     * Returns the shard of one execution.
+     *
+     * @param tenantId tenant identifier
+     * @param executionKey execution idempotency key
+     * @param shardCount total shard count
+     * @return shard index in {@code [0, shardCount)}
+     */
+    public static int shardOf(String tenantId, String executionKey, int shardCount) {
+        requireShard(shardCount, 0);
+        if (shardCount == 1) {
+            return 0;
+        }
+        String scopedKey = Objects.requireNonNull(tenantId, "tenantId must not be null")
+            + ':' + Objects.requireNonNull(executionKey, "executionKey must not be null");
+        return (int) Long.remainderUnsigned(mix(scopedKey.hashCode()), shardCount);
+    }
+
+    /**
+     * Validates a shard index against a shard count.
+     *
+     * @param shardCount total shard count
+     * @param shard shard index
+     */
+    public static void requireShard(int shardCount, int shard) {
+        if (shardCount <= 0) {
+            throw new IllegalArgumentException("shardCount must be positive");
+        }
+        if (shard < 0 || shard >= shardCount) {
+            throw new IllegalArgumentException("shard must be in [0, " + shardCount + ")");
+        }
+    }
+
+    /**
+     * SplitMix64 finalizer; spreads {@link String#hashCode()} values, whose low bits cluster for
+     * keys sharing a prefix, across the full 64-bit range.
+     *
+     * @param value value to mix
+     * @return mixed value
+     */
+    public static long mix(long value) {
+        long mixed = value + 0x9E3779B97F4A7C15L;
+        mixed = (mixed ^ (mixed >>> 30)) * 0xBF58476D1CE4E5B9L;
+        mixed = (mixed ^ (mixed >>> 27)) * 0x94D049BB133111EBL;
+        return mixed ^ (mixed >>> 31);
+    }
+}
@@ -2,15 +2,42 @@ package org.pipelineframework.orchestrator;
 
 import java.util.Objects;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 /**
  * Queue-dispatched work item for progressing one execution.
  *
  * @param tenantId tenant identifier
  * @param executionId execution identifier
+ * @param priority scheduling class of the execution; null for {@link ExecutionPriority#NORMAL} so work items from
+ *     earlier releases and to them keep the same shape
  */
-public record ExecutionWorkItem(String tenantId, String executionId) {
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ExecutionWorkItem(String tenantId, String executionId, ExecutionPriority priority) {
     public ExecutionWorkItem {
         Objects.requireNonNull(tenantId, "ExecutionWorkItem.tenantId must not be null");
         Objects.requireNonNull(executionId, "ExecutionWorkItem.executionId must not be null");
+        if (priority == ExecutionPriority.NORMAL) {
+            priority = null;
+        }
+    }
+
+    /**
+     * Creates a work item in the default scheduling class.
+     *
+     * @param tenantId tenant identifier
+     * @param executionId execution identifier
+     */
+    public ExecutionWorkItem(String tenantId, String executionId) {
+        this(tenantId, executionId, null);
+    }
+
+    /**
+     * Scheduling class used when the work item is queued for a worker.
+     *
+     * @return effective priority, never null
+     */
+    public ExecutionPriority effectivePriority() {
+        return priority == null ? ExecutionPriority.NORMAL : priority;
     }
 }
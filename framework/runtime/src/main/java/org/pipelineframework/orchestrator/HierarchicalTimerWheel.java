@@ -0,0 +1,292 @@
+package org.pipelineframework.orchestrator;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.LongSupplier;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Hierarchical timing wheel that runs tasks at epoch-millisecond deadlines.
+ *
+ * <p>Level {@code k} has {@code wheelSize} buckets of {@code tickMs * wheelSize^k} each. A task goes into the lowest
+ * level whose span covers its deadline, and moves down a level each time its bucket comes round, so scheduling and
+ * firing are constant time however many tasks are pending. Tasks never run before their deadline and run at most one
+ * tick after it, plus thread wake-up jitter.</p>
+ *
+ * <p>One daemon thread drives the wheel. It starts with the first scheduled task, waits for one tick at a time only
+ * while the lowest level holds tasks, otherwise until the next bucket of the level above comes round, and parks while
+ * nothing is pending. Tasks run on that thread and must hand real work off.</p>
+ */
+final class HierarchicalTimerWheel {
+
+    private static final Logger LOG = Logger.getLogger(HierarchicalTimerWheel.class);
+    private static final int MAX_LEVELS = 6;
+
+    private final String threadName;
+    private final long tickMs;
+    private final int wheelSize;
+    private final LongSupplier clock;
+    private final boolean driven;
+    private final Object lock = new Object();
+    private final List<Level> levels = new ArrayList<>();
+    private final ArrayDeque<Runnable> expired = new ArrayDeque<>();
+    private long currentTick;
+    private int pending;
+    private boolean shutdown;
+    private Thread driver;
+
+    /**
+     * Creates a wheel driven by its own thread on the system clock.
+     *
+     * @param threadName driver thread name
+     * @param tickMs tick resolution in milliseconds
+     * @param wheelSize buckets per level
+     */
+    HierarchicalTimerWheel(String threadName, long tickMs, int wheelSize) {
+        this(threadName, tickMs, wheelSize, System::currentTimeMillis, true);
+    }
+
+    /**
+     * Creates a wheel without a driver thread, advanced only through {@link #advanceTo(long)}.
+     *
+     * @param tickMs tick resolution in milliseconds
+     * @param wheelSize buckets per level
+     * @param clock clock used to position newly scheduled tasks when the wheel is empty
+     */
+    HierarchicalTimerWheel(long tickMs, int wheelSize, LongSupplier clock) {
+        this("timer-wheel", tickMs, wheelSize, clock, false);
+    }
+
+    private HierarchicalTimerWheel(String threadName, long tickMs, int wheelSize, LongSupplier clock, boolean driven) {
+        if (tickMs <= 0) {
+            throw new IllegalArgumentException("tickMs must be positive");
+        }
+        if (wheelSize < 2) {
+            throw new IllegalArgumentException("wheelSize must be at least 2");
+        }
+        this.threadName = threadName;
+        this.tickMs = tickMs;
+        this.wheelSize = wheelSize;
+        this.clock = Objects.requireNonNull(clock, "clock must not be null");
+        this.currentTick = clock.getAsLong() / tickMs;
+        this.driven = driven;
+    }
+
+    /**
+     * Schedules a task at a deadline. Deadlines already passed run on the next pass of the driver.
+     *
+     * @param deadlineEpochMs deadline in epoch milliseconds
+     * @param task task to run
+     * @throws RejectedExecutionException when the wheel has been shut down
+     */
+    void schedule(long deadlineEpochMs, Runnable task) {
+        Objects.requireNonNull(task, "task must not be null");
+        synchronized (lock) {
+            if (shutdown) {
+                throw new RejectedExecutionException("Timer wheel " + threadName + " has been shut down");
+            }
+            if (pending == 0) {
+                currentTick = Math.max(currentTick, clock.getAsLong() / tickMs);
+            }
+            Timer timer = new Timer(Math.ceilDiv(deadlineEpochMs, tickMs), task);
+            if (!placeLocked(timer)) {
+                expired.addLast(task);
+            }
+            pending++;
+            startDriverLocked();
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Number of scheduled tasks that have not run yet.
+     *
+     * @return pending tasks
+     */
+    int pending() {
+        synchronized (lock) {
+            return pending;
+        }
+    }
+
+    /**
+     * Stops the driver and drops every pending task.
+     */
+    void shutdown() {
+        synchronized (lock) {
+            shutdown = true;
+            levels.clear();
+            expired.clear();
+            pending = 0;
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Advances the wheel to a clock reading and removes the tasks that became due, in tick order.
+     *
+     * @param nowEpochMs clock reading
+     * @return due tasks, to run outside the wheel lock
+     */
+    List<Runnable> advanceTo(long nowEpochMs) {
+        synchronized (lock) {
+            return advanceLocked(nowEpochMs / tickMs);
+        }
+    }
+
+    private List<Runnable> advanceLocked(long targetTick) {
+        List<Runnable> due = new ArrayList<>(expired);
+        expired.clear();
+        while (currentTick < targetTick) {
+            if (pending == due.size()) {
+                currentTick = targetTick;
+                break;
+            }
+            currentTick++;
+            for (int level = levels.size() - 1; level >= 1; level--) {
+                long levelTicks = levels.get(level).ticks;
+                if (currentTick % levelTicks == 0) {
+                    ArrayDeque<Timer> bucket = levels.get(level).take((currentTick / levelTicks) % wheelSize);
+                    for (Timer timer : bucket) {
+                        if (!placeLocked(timer)) {
+                            due.add(timer.task());
+                        }
+                    }
+                }
+            }
+            if (!levels.isEmpty()) {
+                for (Timer timer : levels.get(0).take(currentTick % wheelSize)) {
+                    due.add(timer.task());
+                }
+            }
+        }
+        pending -= due.size();
+        return due;
+    }
+
+    /**
+     * Files a timer in the lowest level whose span covers its deadline.
+     *
+     * @return false when the timer is already due
+     */
+    private boolean placeLocked(Timer timer) {
+        long ticksAway = timer.deadlineTick() - currentTick;
+        if (ticksAway <= 0) {
+            return false;
+        }
+        int level = 0;
+        long levelTicks = 1L;
+        while (ticksAway >= levelTicks * wheelSize && level < MAX_LEVELS - 1) {
+            level++;
+            levelTicks *= wheelSize;
+        }
+        long position = ticksAway >= levelTicks * wheelSize
+            ? currentTick / levelTicks + wheelSize
+            : timer.deadlineTick() / levelTicks;
+        level(level).add(position % wheelSize, timer);
+        return true;
+    }
+
+    private Level level(int index) {
+        while (levels.size() <= index) {
+            levels.add(new Level(levels.isEmpty() ? 1L : levels.get(levels.size() - 1).ticks * wheelSize, wheelSize));
+        }
+        return levels.get(index);
+    }
+
+    private void startDriverLocked() {
+        if (!driven || driver != null) {
+            return;
+        }
+        driver = new Thread(this::drive, threadName);
+        driver.setDaemon(true);
+        driver.start();
+    }
+
+    private void drive() {
+        while (true) {
+            List<Runnable> due;
+            synchronized (lock) {
+                try {
+                    while (!shutdown && pending == 0) {
+                        lock.wait();
+                    }
+                    if (shutdown) {
+                        return;
+                    }
+                    long now = clock.getAsLong();
+                    due = advanceLocked(now / tickMs);
+                    if (due.isEmpty()) {
+                        long waitMs = nextWakeupLocked() * tickMs - now;
+                        if (waitMs > 0) {
+                            lock.wait(waitMs);
+                        }
+                        continue;
+                    }
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+            for (Runnable task : due) {
+                try {
+                    task.run();
+                } catch (RuntimeException failure) {
+                    LOG.errorf(failure, "Timer task failed on %s", threadName);
+                }
+            }
+        }
+    }
+
+    /**
+     * Earliest tick at which the wheel can have anything to fire: the next tick when the lowest level holds timers,
+     * otherwise the next bucket boundary of the lowest level that does.
+     */
+    private long nextWakeupLocked() {
+        for (Level level : levels) {
+            if (level.size > 0) {
+                return (currentTick / level.ticks + 1) * level.ticks;
+            }
+        }
+        return currentTick + 1;
+    }
+
+    private record Timer(long deadlineTick, Runnable task) {
+    }
+
+    private static final class Level {
+        private final long ticks;
+        private final ArrayDeque<Timer>[] buckets;
+        private int size;
+
+        @SuppressWarnings("unchecked")
+        private Level(long ticks, int wheelSize) {
+            this.ticks = ticks;
+            this.buckets = new ArrayDeque[wheelSize];
+        }
+
+        private void add(long index, Timer timer) {
+            ArrayDeque<Timer> bucket = buckets[(int) index];
+            if (bucket == null) {
+                bucket = new ArrayDeque<>();
+                buckets[(int) index] = bucket;
+            }
+            bucket.addLast(timer);
+            size++;
+        }
+
+        private ArrayDeque<Timer> take(long index) {
+            ArrayDeque<Timer> bucket = buckets[(int) index];
+            if (bucket == null || bucket.isEmpty()) {
+                return new ArrayDeque<>();
+            }
+            buckets[(int) index] = null;
+            size -= bucket.size();
+            return bucket;
+        }
+    }
+}
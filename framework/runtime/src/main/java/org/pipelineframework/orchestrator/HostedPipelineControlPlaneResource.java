@@ -9,6 +9,7 @@ import org.pipelineframework.orchestrator.worker.PipelineWorkerAvailability;
 import org.pipelineframework.orchestrator.worker.PipelineWorkerAvailabilityRequest;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -48,6 +49,8 @@ public class HostedPipelineControlPlaneResource {
 
     private static final Logger LOG = Logger.getLogger(HostedPipelineControlPlaneResource.class);
     private static final String AUTHORIZATION_HEADER = "Authorization";
+    private static final String RETRY_AFTER_HEADER = "Retry-After";
+    private static final int TOO_MANY_REQUESTS = 429;
     private static final String BEARER_PREFIX = "Bearer ";
     private static final String INVALID_REQUEST_PAYLOAD = "Invalid request payload";
     private static final String INGRESS_TYPE_UNAVAILABLE = "Hosted control-plane ingress payload type is unavailable";
@@ -166,6 +169,7 @@ public class HostedPipelineControlPlaneResource {
                                 release.releaseVersion(),
                                 availability.message());
                             return Uni.createFrom().item(Response.status(Response.Status.SERVICE_UNAVAILABLE)
+                                .header(RETRY_AFTER_HEADER, shedRetryAfterSeconds())
                                 .entity("No worker available for active release: " + availability.message()).build());
                         }
                         return controlPlane.executePipelineAsync(
@@ -176,7 +180,8 @@ public class HostedPipelineControlPlaneResource {
                                 release.pipelineId(),
                                 release.contractVersion(),
                                 release.releaseVersion())
-                            .onItem().transform(accepted -> Response.ok(accepted).build());
+                            .onItem().transform(accepted -> Response.ok(accepted).build())
+                            .onFailure(this::shedSubmission).recoverWithItem(this::tooManyRequests);
                     });
             });
     }
@@ -444,6 +449,27 @@ public class HostedPipelineControlPlaneResource {
         return fallback;
     }
 
+    private boolean shedSubmission(Throwable failure) {
+        return failure instanceof ControlPlaneAdmissionException admission && admission.decision().retryable();
+    }
+
+    private Response tooManyRequests(Throwable failure) {
+        ControlPlaneAdmissionDecision decision = ((ControlPlaneAdmissionException) failure).decision();
+        return Response.status(TOO_MANY_REQUESTS)
+            .header(RETRY_AFTER_HEADER, decision.retryAfterSeconds())
+            .entity(decision.errorCode() + ": " + decision.reason())
+            .build();
+    }
+
+    private long shedRetryAfterSeconds() {
+        PipelineOrchestratorConfig.QuotaConfig quotas = orchestratorConfig == null ? null : orchestratorConfig.quotas();
+        Duration retryAfter = quotas == null ? null : quotas.shedRetryAfter();
+        if (retryAfter == null || retryAfter.isNegative() || retryAfter.isZero()) {
+            return 5L;
+        }
+        return Math.max(1L, (retryAfter.toMillis() + 999L) / 1000L);
+    }
+
     private int clampPendingLimit(Integer limit) {
         int requested = limit == null ? DEFAULT_PENDING_LIMIT : limit;
         return Math.max(MIN_PENDING_LIMIT, Math.min(MAX_PENDING_LIMIT, requested));
@@ -37,53 +37,75 @@ public class InMemoryExecutionStateStore implements ExecutionStateStore {
     public Uni<CreateExecutionResult> createOrGetExecution(ExecutionCreateCommand command) {
         return Uni.createFrom().item(() -> {
             synchronized (lock) {
-                String scopedKey = scopedExecutionKey(command.tenantId(), command.executionKey());
-                String existingExecutionId = executionIdByScopedKey.get(scopedKey);
-                if (existingExecutionId != null) {
-                    ExecutionRecord<Object, Object> existing =
-                        executionsByScopedId.get(scopedExecutionId(command.tenantId(), existingExecutionId));
-                    if (existing != null) {
-                        if (!isExpired(existing, command.nowEpochMs())) {
-                            return new CreateExecutionResult(existing, true);
-                        }
-                        executionsByScopedId.remove(scopedExecutionId(command.tenantId(), existing.executionId()));
-                    }
-                    executionIdByScopedKey.remove(scopedKey);
-                }
-
-                String executionId = UUID.randomUUID().toString();
-                ExecutionRecord<Object, Object> created = new ExecutionRecord<>(
-                    command.tenantId(),
-                    executionId,
-                    command.executionKey(),
-                    command.pipelineId(),
-                    command.contractVersion(),
-                    command.releaseVersion(),
-                    command.resultShape(),
-                    ExecutionStatus.QUEUED,
-                    0L,
-                    command.initialStepIndex(),
-                    0,
-                    null,
-                    0L,
-                    command.nowEpochMs(),
-                    null,
-                    command.inputPayload(),
-                    null,
-                    null,
-                    null,
-                    null,
-                    command.nowEpochMs(),
-                    command.nowEpochMs(),
-                    command.ttlEpochS());
+                return createOrGetLocked(command);
+            }
+        });
+    }
 
-                executionIdByScopedKey.put(scopedKey, executionId);
-                executionsByScopedId.put(scopedExecutionId(command.tenantId(), executionId), created);
-                return new CreateExecutionResult(created, false);
+    @Override
+    public Uni<List<CreateExecutionResult>> createOrGetExecutions(List<ExecutionCreateCommand> commands) {
+        List<ExecutionCreateCommand> requested = List.copyOf(commands);
+        return Uni.createFrom().item(() -> {
+            synchronized (lock) {
+                List<CreateExecutionResult> results = new ArrayList<>(requested.size());
+                for (ExecutionCreateCommand command : requested) {
+                    results.add(createOrGetLocked(command));
+                }
+                return List.copyOf(results);
             }
         });
     }
 
+    private CreateExecutionResult createOrGetLocked(ExecutionCreateCommand command) {
+        String scopedKey = scopedExecutionKey(command.tenantId(), command.executionKey());
+        String existingExecutionId = executionIdByScopedKey.get(scopedKey);
+        if (existingExecutionId != null) {
+            ExecutionRecord<Object, Object> existing =
+                executionsByScopedId.get(scopedExecutionId(command.tenantId(), existingExecutionId));
+            if (existing != null) {
+                if (!isExpired(existing, command.nowEpochMs())) {
+                    return new CreateExecutionResult(existing, true);
+                }
+                executionsByScopedId.remove(scopedExecutionId(command.tenantId(), existing.executionId()));
+            }
+            executionIdByScopedKey.remove(scopedKey);
+        }
+
+        String executionId = UUID.randomUUID().toString();
+        ExecutionRecord<Object, Object> created = new ExecutionRecord<>(
+            command.tenantId(),
+            executionId,
+            command.executionKey(),
+            command.pipelineId(),
+            command.contractVersion(),
+            command.releaseVersion(),
+            command.resultShape(),
+            ExecutionStatus.QUEUED,
+            0L,
+            command.initialStepIndex(),
+            0,
+            null,
+            0L,
+            command.nowEpochMs(),
+            null,
+            command.inputPayload(),
+            null,
+            null,
+            null,
+            null,
+            command.nowEpochMs(),
+            command.nowEpochMs(),
+            command.ttlEpochS(),
+            0L,
+            0,
+            "",
+            command.priority());
+
+        executionIdByScopedKey.put(scopedKey, executionId);
+        executionsByScopedId.put(scopedExecutionId(command.tenantId(), executionId), created);
+        return new CreateExecutionResult(created, false);
+    }
+
     @Override
     public Uni<Optional<ExecutionRecord<Object, Object>>> getExecution(String tenantId, String executionId) {
         return Uni.createFrom().item(() -> {
@@ -175,7 +197,8 @@ public class InMemoryExecutionStateStore implements ExecutionStateStore {
                     current.ttlEpochS(),
                     current.firstCircuitDeferredAtEpochMs(),
                     current.circuitDeferralCount(),
-                    current.circuitIdentity());
+                    current.circuitIdentity(),
+                    current.priority());
                 executionsByScopedId.put(scopedId, claimed);
                 return Optional.of(claimed);
             }
@@ -223,7 +246,8 @@ public class InMemoryExecutionStateStore implements ExecutionStateStore {
                     current.ttlEpochS(),
                     current.firstCircuitDeferredAtEpochMs(),
                     current.circuitDeferralCount(),
-                    current.circuitIdentity());
+                    current.circuitIdentity(),
+                    current.priority());
                 executionsByScopedId.put(scopedId, updated);
                 return Optional.of(updated);
             }
@@ -272,7 +296,8 @@ public class InMemoryExecutionStateStore implements ExecutionStateStore {
                     current.ttlEpochS(),
                     current.firstCircuitDeferredAtEpochMs(),
                     current.circuitDeferralCount(),
-                    current.circuitIdentity());
+                    current.circuitIdentity(),
+                    current.priority());
                 executionsByScopedId.put(scopedId, updated);
                 return Optional.of(updated);
             }
@@ -322,7 +347,8 @@ public class InMemoryExecutionStateStore implements ExecutionStateStore {
                     current.ttlEpochS(),
                     current.firstCircuitDeferredAtEpochMs(),
                     current.circuitDeferralCount(),
-                    current.circuitIdentity());
+                    current.circuitIdentity(),
+                    current.priority());
                 executionsByScopedId.put(scopedId, updated);
                 return Optional.of(updated);
             }
@@ -378,7 +404,8 @@ public class InMemoryExecutionStateStore implements ExecutionStateStore {
                     current.ttlEpochS(),
                     current.firstCircuitDeferredAtEpochMs(),
                     current.circuitDeferralCount(),
-                    current.circuitIdentity());
+                    current.circuitIdentity(),
+                    current.priority());
                 executionsByScopedId.put(scopedId, updated);
                 return Optional.of(updated);
             }
@@ -443,7 +470,8 @@ public class InMemoryExecutionStateStore implements ExecutionStateStore {
                     current.ttlEpochS(),
                     current.firstCircuitDeferredAtEpochMs(),
                     current.circuitDeferralCount(),
-                    current.circuitIdentity());
+                    current.circuitIdentity(),
+                    current.priority());
                 executionsByScopedId.put(scopedId, updated);
                 return Optional.of(updated);
             }
@@ -477,7 +505,7 @@ public class InMemoryExecutionStateStore implements ExecutionStateStore {
                     current.version() + 1, current.currentStepIndex(), current.attempt(), null, 0L, nextDueEpochMs,
                     transitionKey, current.inputPayload(), current.awaitUnitId(), null, reason, truncate(errorMessage),
                     current.createdAtEpochMs(), nowEpochMs, current.ttlEpochS(), firstCircuitDeferredAtEpochMs,
-                    circuitDeferralCount, circuitIdentity == null ? "" : circuitIdentity);
+                    circuitDeferralCount, circuitIdentity == null ? "" : circuitIdentity, current.priority());
                 executionsByScopedId.put(scopedId, updated);
                 return Optional.of(updated);
             }
@@ -530,7 +558,8 @@ public class InMemoryExecutionStateStore implements ExecutionStateStore {
                     current.ttlEpochS(),
                     current.firstCircuitDeferredAtEpochMs(),
                     current.circuitDeferralCount(),
-                    current.circuitIdentity());
+                    current.circuitIdentity(),
+                    current.priority());
                 executionsByScopedId.put(scopedId, updated);
                 return Optional.of(updated);
             }
@@ -580,7 +609,8 @@ public class InMemoryExecutionStateStore implements ExecutionStateStore {
                     current.ttlEpochS(),
                     current.firstCircuitDeferredAtEpochMs(),
                     current.circuitDeferralCount(),
-                    current.circuitIdentity());
+                    current.circuitIdentity(),
+                    current.priority());
                 executionsByScopedId.put(scopedId, updated);
                 return Optional.of(updated);
             }
@@ -589,6 +619,17 @@ public class InMemoryExecutionStateStore implements ExecutionStateStore {
 
     @Override
     public Uni<List<ExecutionRecord<Object, Object>>> findDueExecutions(long nowEpochMs, int limit) {
+        return findDueExecutions(nowEpochMs, limit, 1, 0);
+    }
+
+    @Override
+    public Uni<List<ExecutionRecord<Object, Object>>> findDueExecutions(
+        long nowEpochMs,
+        int limit,
+        int shardCount,
+        int shard
+    ) {
+        ExecutionSweepShards.requireShard(shardCount, shard);
         return Uni.createFrom().item(() -> {
             synchronized (lock) {
                 List<ExecutionRecord<Object, Object>> due = new ArrayList<>();
@@ -606,18 +647,13 @@ public class InMemoryExecutionStateStore implements ExecutionStateStore {
                     }
                     boolean dueNow = record.nextDueEpochMs() <= nowEpochMs;
                     boolean leaseFree = record.leaseOwner() == null || record.leaseExpiresEpochMs() <= nowEpochMs;
-                    if (dueNow && leaseFree) {
+                    if (dueNow && leaseFree
+                        && ExecutionSweepShards.shardOf(record.tenantId(), record.executionKey(), shardCount) == shard) {
                         due.add(record);
                     }
                 }
                 due.sort(Comparator.comparingLong(ExecutionRecord::nextDueEpochMs));
-                if (limit <= 0) {
-                    return List.of();
-                }
-                if (due.size() > limit) {
-                    return List.copyOf(due.subList(0, limit));
-                }
-                return List.copyOf(due);
+                return DeficitRoundRobinQueue.fairShare(due, limit);
             }
         });
     }
@@ -14,6 +14,7 @@ import com.google.protobuf.Message;
 import com.google.protobuf.MessageOrBuilder;
 import com.google.protobuf.util.JsonFormat;
 import org.pipelineframework.config.pipeline.PipelineJson;
+import org.pipelineframework.util.ProtobufMessageRegistry;
 
 /**
  * Internal JSON codec for local transition envelopes.
@@ -261,11 +262,7 @@ public class JsonTransitionPayloadCodec implements TransitionPayloadCodec {
 
     private Object decodeProtobufMessage(SerializedTransitionPayload payload, Class<?> payloadClass) {
         try {
-            Object builder = payloadClass.getMethod("newBuilder").invoke(null);
-            if (!(builder instanceof Message.Builder messageBuilder)) {
-                throw new IllegalArgumentException(
-                    "Protobuf payload type does not expose a Message.Builder: " + payload.payloadTypeId());
-            }
+            Message.Builder messageBuilder = ProtobufMessageRegistry.newBuilder(payloadClass);
             JsonFormat.parser().ignoringUnknownFields().merge(payload.payload(), messageBuilder);
             return messageBuilder.build();
         } catch (Exception e) {
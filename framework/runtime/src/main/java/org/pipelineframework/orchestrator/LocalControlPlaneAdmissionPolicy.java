@@ -1,14 +1,22 @@
 package org.pipelineframework.orchestrator;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
 /**
- * Local in-process tenant admission and per-tenant transition quota policy.
+ * Local in-process tenant admission, per-tenant transition quota and submission rate policy.
+ *
+ * <p>Async submissions draw one token from the tenant's bucket and then from the global bucket. A submission refused
+ * by either bucket is shed with the time until the refusing bucket refills one token as its retry-after hint, and a
+ * submission shed further on gets its tokens back through {@link #refund(ControlPlaneAdmissionRequest)}. Tenant
+ * buckets that have refilled completely are dropped about once a minute, since a new bucket starts full.</p>
  */
 @ApplicationScoped
 public class LocalControlPlaneAdmissionPolicy implements ControlPlaneAdmissionPolicy {
@@ -17,12 +25,26 @@ public class LocalControlPlaneAdmissionPolicy implements ControlPlaneAdmissionPo
     PipelineOrchestratorConfig orchestratorConfig;
 
     private final ConcurrentHashMap<String, AtomicInteger> activeTransitionsByTenant = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, SubmissionTokenBucket> submitBucketsByTenant = new ConcurrentHashMap<>();
+    private static final long IDLE_BUCKET_SWEEP_NANOS = Duration.ofMinutes(1).toNanos();
+
+    private final LongSupplier nanoClock;
+    private final AtomicLong lastIdleBucketSweepNanos = new AtomicLong();
+    private volatile SubmissionTokenBucket globalSubmitBucket;
 
     public LocalControlPlaneAdmissionPolicy() {
+        this.nanoClock = System::nanoTime;
+        this.lastIdleBucketSweepNanos.set(nanoClock.getAsLong());
     }
 
     public LocalControlPlaneAdmissionPolicy(PipelineOrchestratorConfig orchestratorConfig) {
+        this(orchestratorConfig, System::nanoTime);
+    }
+
+    LocalControlPlaneAdmissionPolicy(PipelineOrchestratorConfig orchestratorConfig, LongSupplier nanoClock) {
         this.orchestratorConfig = orchestratorConfig;
+        this.nanoClock = nanoClock;
+        this.lastIdleBucketSweepNanos.set(nanoClock.getAsLong());
     }
 
     @Override
@@ -44,9 +66,99 @@ public class LocalControlPlaneAdmissionPolicy implements ControlPlaneAdmissionPo
                 ControlPlaneAdmissionDecision.TENANT_NOT_ALLOWED,
                 "Tenant '" + tenantId + "' is not allowed for local control-plane operations");
         }
+        if (request.operation() == ControlPlaneAdmissionOperation.SUBMIT_EXECUTION) {
+            return admitSubmission(tenantId);
+        }
         return ControlPlaneAdmissionDecision.allow();
     }
 
+    private ControlPlaneAdmissionDecision admitSubmission(String tenantId) {
+        PipelineOrchestratorConfig.QuotaConfig quotas = orchestratorConfig == null ? null : orchestratorConfig.quotas();
+        if (quotas == null) {
+            return ControlPlaneAdmissionDecision.allow();
+        }
+        long now = nanoClock.getAsLong();
+        SubmissionTokenBucket tenantBucket = null;
+        if (quotas.submitRatePerTenant() > 0d) {
+            sweepIdleBuckets(now);
+            long[] waitNanos = new long[1];
+            // Acquire inside compute so that an idle sweep cannot drop the bucket between lookup and acquisition.
+            tenantBucket = submitBucketsByTenant.compute(tenantId, (ignored, current) -> {
+                SubmissionTokenBucket bucket = current != null ? current : new SubmissionTokenBucket(
+                    quotas.submitRatePerTenant(), quotas.submitBurstPerTenant(), now);
+                waitNanos[0] = bucket.tryAcquire(now);
+                return bucket;
+            });
+            if (waitNanos[0] > 0) {
+                return ControlPlaneAdmissionDecision.shed(
+                    ControlPlaneAdmissionDecision.TENANT_SUBMIT_RATE_EXCEEDED,
+                    "Tenant '" + tenantId + "' has exceeded its submission rate",
+                    Duration.ofNanos(waitNanos[0]));
+            }
+        }
+        SubmissionTokenBucket globalBucket = globalSubmitBucket(quotas, now);
+        if (globalBucket != null) {
+            long waitNanos = globalBucket.tryAcquire(now);
+            if (waitNanos > 0) {
+                if (tenantBucket != null) {
+                    tenantBucket.refund();
+                }
+                return ControlPlaneAdmissionDecision.shed(
+                    ControlPlaneAdmissionDecision.SUBMIT_RATE_EXCEEDED,
+                    "Control-plane submission rate is exceeded",
+                    Duration.ofNanos(waitNanos));
+            }
+        }
+        return ControlPlaneAdmissionDecision.allow();
+    }
+
+    @Override
+    public void refund(ControlPlaneAdmissionRequest request) {
+        if (request == null || request.operation() != ControlPlaneAdmissionOperation.SUBMIT_EXECUTION) {
+            return;
+        }
+        SubmissionTokenBucket tenantBucket = submitBucketsByTenant.get(effectiveTenantId(request));
+        if (tenantBucket != null) {
+            tenantBucket.refund();
+        }
+        SubmissionTokenBucket globalBucket = globalSubmitBucket;
+        if (globalBucket != null) {
+            globalBucket.refund();
+        }
+    }
+
+    private void sweepIdleBuckets(long nowNanos) {
+        long lastSweep = lastIdleBucketSweepNanos.get();
+        if (nowNanos - lastSweep < IDLE_BUCKET_SWEEP_NANOS
+            || !lastIdleBucketSweepNanos.compareAndSet(lastSweep, nowNanos)) {
+            return;
+        }
+        for (String tenantId : submitBucketsByTenant.keySet()) {
+            submitBucketsByTenant.computeIfPresent(tenantId, (ignored, bucket) -> bucket.full(nowNanos) ? null : bucket);
+        }
+    }
+
+    int trackedSubmitBuckets() {
+        return submitBucketsByTenant.size();
+    }
+
+    private SubmissionTokenBucket globalSubmitBucket(PipelineOrchestratorConfig.QuotaConfig quotas, long nowNanos) {
+        if (!(quotas.submitRate() > 0d)) {
+            return null;
+        }
+        SubmissionTokenBucket bucket = globalSubmitBucket;
+        if (bucket == null) {
+            synchronized (submitBucketsByTenant) {
+                bucket = globalSubmitBucket;
+                if (bucket == null) {
+                    bucket = new SubmissionTokenBucket(quotas.submitRate(), quotas.submitBurst(), nowNanos);
+                    globalSubmitBucket = bucket;
+                }
+            }
+        }
+        return bucket;
+    }
+
     @Override
     public ControlPlaneTransitionAdmission admitTransition(ControlPlaneAdmissionRequest request) {
         ControlPlaneAdmissionDecision decision = admit(request);
@@ -2,6 +2,7 @@ package org.pipelineframework.orchestrator;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import io.quarkus.arc.Unremovable;
@@ -114,6 +115,28 @@ public interface PipelineOrchestratorConfig {
     @WithDefault("PT30S")
     Duration sweepInterval();
 
+    /**
+     * Longest gap between sweeps while sweeps find nothing due. Each empty pass doubles the gap from
+     * {@link #sweepInterval()} up to this value; a pass that times out awaits, dispatches work or fails resets it.
+     * Await timeouts and recovery of executions leased by a crashed worker only happen in a sweep, so they can be
+     * late by up to this gap. Unset keeps a fixed {@link #sweepInterval()}. Sharded sweeps renew shard ownership on
+     * their own schedule, so the backoff applies to them too.
+     *
+     * @return idle sweep interval, empty for no backoff
+     */
+    @WithName("sweep-idle-interval")
+    Optional<Duration> sweepIdleInterval();
+
+    /**
+     * Longest time one sweep pass may run. A pass still running after this is abandoned and counted as failed, so the
+     * next pass is scheduled even when a store or dispatcher call never returns.
+     *
+     * @return sweep pass timeout
+     */
+    @WithName("sweep-pass-timeout")
+    @WithDefault("PT2M")
+    Duration sweepPassTimeout();
+
     /**
      * Max due executions to sweep in one pass.
      *
@@ -123,6 +146,45 @@ public interface PipelineOrchestratorConfig {
     @WithDefault("100")
     int sweepLimit();
 
+    /**
+     * Sweep shards shared by all coordinator replicas. With more than one shard, replicas lease
+     * shards through the worker lifecycle registry and each sweeps only the shards it owns.
+     *
+     * @return sweep shard count
+     */
+    @WithName("sweep-shards")
+    @WithDefault("1")
+    int sweepShards();
+
+    /**
+     * Overdue age after which a replica with spare sweep capacity steals due executions from a
+     * shard owned by another replica.
+     *
+     * @return sweep steal threshold
+     */
+    @WithName("sweep-steal-after")
+    @WithDefault("PT1M")
+    Duration sweepStealAfter();
+
+    /**
+     * Max concurrent queue-async submissions coalesced into one execution store admission.
+     * Values of {@code 1} or less admit each submission on its own.
+     *
+     * @return admission batch size
+     */
+    @WithName("admission-batch-size")
+    @WithDefault("1")
+    int admissionBatchSize();
+
+    /**
+     * Max coalesced admission batches in flight at once.
+     *
+     * @return admission batch concurrency
+     */
+    @WithName("admission-batch-concurrency")
+    @WithDefault("4")
+    int admissionBatchConcurrency();
+
     /**
      * Idempotency key policy for run-async submissions.
      *
@@ -237,6 +299,14 @@ public interface PipelineOrchestratorConfig {
     @WithName("quotas")
     QuotaConfig quotas();
 
+    /**
+     * Execution priority and fair scheduling settings.
+     *
+     * @return scheduling config
+     */
+    @WithName("scheduling")
+    SchedulingConfig scheduling();
+
     /**
      * Hosted control-plane API settings.
      *
@@ -337,6 +407,61 @@ public interface PipelineOrchestratorConfig {
         @WithDefault("tpf_execution_payload")
         String executionPayloadTable();
 
+        /**
+         * Maximum number of payload chunks written concurrently for one external payload.
+         *
+         * @return chunk write concurrency
+         */
+        @WithName("payload-write-concurrency")
+        @WithDefault("8")
+        int payloadWriteConcurrency();
+
+        /**
+         * Compression applied to external payloads before chunking. Compressed payloads record their codec in the
+         * manifest, so the setting can change without rewriting stored payloads.
+         *
+         * @return payload compression
+         */
+        @WithName("payload-compression")
+        @WithDefault("NONE")
+        ExecutionPayloadCompression payloadCompression();
+
+        /**
+         * Repository provider name ({@code s3}, {@code filesystem}, ...) that receives payloads above
+         * {@link #payloadOffloadThresholdBytes()}. DynamoDB then keeps only the manifest with the claim-check reference.
+         *
+         * @return offload repository provider when configured
+         */
+        @WithName("payload-offload-provider")
+        Optional<String> payloadOffloadProvider();
+
+        /**
+         * Repository container (bucket) for offloaded payloads; the provider default applies when absent.
+         *
+         * @return offload container when configured
+         */
+        @WithName("payload-offload-container")
+        Optional<String> payloadOffloadContainer();
+
+        /**
+         * Stored payload size, after compression, above which payloads are offloaded instead of chunked.
+         *
+         * @return offload threshold in bytes
+         */
+        @WithName("payload-offload-threshold-bytes")
+        @WithDefault("4194304")
+        long payloadOffloadThresholdBytes();
+
+        /**
+         * Longest wait for one offload repository call (store, load, list or delete) before the payload operation
+         * fails.
+         *
+         * @return offload repository call timeout
+         */
+        @WithName("payload-offload-timeout")
+        @WithDefault("PT30S")
+        Duration payloadOffloadTimeout();
+
         /**
          * Await interaction table name.
          *
@@ -422,6 +547,33 @@ public interface PipelineOrchestratorConfig {
         @WithDefault("PT0S")
         Duration pollStartDelay();
 
+        /**
+         * Number of concurrent receive loops consuming the work queue.
+         *
+         * @return receive loops
+         */
+        @WithName("poll-concurrency")
+        @WithDefault("2")
+        int pollConcurrency();
+
+        /**
+         * Maximum number of received work messages processed at the same time by this instance.
+         *
+         * @return in-flight message limit
+         */
+        @WithName("max-in-flight")
+        @WithDefault("16")
+        int maxInFlight();
+
+        /**
+         * Long-poll wait for each receive, at most 20 seconds.
+         *
+         * @return receive wait time
+         */
+        @WithName("wait-time")
+        @WithDefault("PT10S")
+        Duration waitTime();
+
         /**
          * Optional region override.
          *
@@ -493,6 +645,121 @@ public interface PipelineOrchestratorConfig {
         @WithName("max-in-flight-transitions-per-tenant")
         @WithDefault("0")
         int maxInFlightTransitionsPerTenant();
+
+        /**
+         * Sustained async submissions per second admitted for one tenant in this runtime instance. Zero disables the
+         * per-tenant token bucket.
+         *
+         * @return per-tenant submission rate
+         */
+        @WithName("submit-rate-per-tenant")
+        @WithDefault("0")
+        double submitRatePerTenant();
+
+        /**
+         * Token-bucket capacity for one tenant's submissions. Zero sizes the bucket to one second of
+         * {@link #submitRatePerTenant()}.
+         *
+         * @return per-tenant submission burst
+         */
+        @WithName("submit-burst-per-tenant")
+        @WithDefault("0")
+        int submitBurstPerTenant();
+
+        /**
+         * Sustained async submissions per second admitted across all tenants in this runtime instance. Zero disables
+         * the global token bucket.
+         *
+         * @return global submission rate
+         */
+        @WithName("submit-rate")
+        @WithDefault("0")
+        double submitRate();
+
+        /**
+         * Token-bucket capacity for submissions across all tenants. Zero sizes the bucket to one second of
+         * {@link #submitRate()}.
+         *
+         * @return global submission burst
+         */
+        @WithName("submit-burst")
+        @WithDefault("0")
+        int submitBurst();
+
+        /**
+         * Due execution backlog at which new async submissions are shed. Zero disables backlog shedding.
+         *
+         * @return max queued executions
+         */
+        @WithName("max-queued-executions")
+        @WithDefault("0")
+        int maxQueuedExecutions();
+
+        /**
+         * How long one backlog reading from the execution store is reused before submissions read it again.
+         *
+         * @return backlog refresh interval
+         */
+        @WithName("backlog-refresh")
+        @WithDefault("PT1S")
+        Duration backlogRefresh();
+
+        /**
+         * Retry-after hint returned when submissions are shed for backlog or because no worker is available.
+         *
+         * @return shed retry-after hint
+         */
+        @WithName("shed-retry-after")
+        @WithDefault("PT5S")
+        Duration shedRetryAfter();
+    }
+
+    /**
+     * Execution priority settings. Due executions and locally dispatched work are shared across tenant and priority
+     * flows by deficit round-robin, weighted by {@link ExecutionPriority#weight()}.
+     */
+    interface SchedulingConfig {
+
+        /**
+         * Priority class assigned to new executions of tenants without an explicit class.
+         *
+         * @return default priority
+         */
+        @WithName("default-priority")
+        @WithDefault("NORMAL")
+        ExecutionPriority defaultPriority();
+
+        /**
+         * Priority class assigned to new executions, keyed by tenant id.
+         *
+         * @return per-tenant priority overrides
+         */
+        @WithName("tenant-priority")
+        Map<String, ExecutionPriority> tenantPriority();
+
+        /**
+         * Maximum work items from the local event dispatcher's fair queue that run at once per runtime instance.
+         *
+         * @return max concurrently running queued work items
+         */
+        @WithName("max-in-flight")
+        @WithDefault("64")
+        int maxInFlight();
+
+        /**
+         * Resolves the priority class of a new execution.
+         *
+         * @param tenantId tenant identifier
+         * @return configured priority for the tenant, otherwise the default
+         */
+        default ExecutionPriority priorityFor(String tenantId) {
+            Map<String, ExecutionPriority> overrides = tenantPriority();
+            ExecutionPriority configured = overrides == null || tenantId == null ? null : overrides.get(tenantId);
+            if (configured != null) {
+                return configured;
+            }
+            return defaultPriority() == null ? ExecutionPriority.NORMAL : defaultPriority();
+        }
     }
 
     /**
@@ -1062,6 +1329,33 @@ public interface PipelineOrchestratorConfig {
         @WithDefault("PT0S")
         Duration pollStartDelay();
 
+        /**
+         * Number of concurrent receive loops consuming the request queue.
+         *
+         * @return receive loops
+         */
+        @WithName("poll-concurrency")
+        @WithDefault("1")
+        int pollConcurrency();
+
+        /**
+         * Maximum number of transition requests executed at the same time by this worker.
+         *
+         * @return in-flight request limit
+         */
+        @WithName("max-in-flight")
+        @WithDefault("8")
+        int maxInFlight();
+
+        /**
+         * Long-poll wait for each receive, at most 20 seconds.
+         *
+         * @return receive wait time
+         */
+        @WithName("wait-time")
+        @WithDefault("PT10S")
+        Duration waitTime();
+
         /**
          * Visibility timeout for claimed worker request and response messages.
          *
@@ -0,0 +1,142 @@
+package org.pipelineframework.orchestrator;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import org.jboss.logging.Logger;
+import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchResponse;
+
+/**
+ * Acknowledges SQS messages with {@code DeleteMessageBatch}, up to ten receipts per call.
+ *
+ * <p>Receipts are collected per queue. A queue is flushed on the flush executor as soon as it holds a full batch,
+ * and otherwise whenever {@link #flush()} is called, which pollers do after each receive and on a short timer.
+ * Entries that fail, individually or because the whole call failed, are retried on later flushes and dropped with an
+ * error after {@value #MAX_ATTEMPTS} attempts; the message then becomes visible again and is redelivered.</p>
+ */
+final class SqsBatchDeleter {
+
+    private static final Logger LOG = Logger.getLogger(SqsBatchDeleter.class);
+    static final int MAX_BATCH = 10;
+    static final int MAX_ATTEMPTS = 3;
+
+    private final Supplier<SqsClient> client;
+    private final Executor flushExecutor;
+    private final Map<String, List<PendingDelete>> pendingByQueue = new LinkedHashMap<>();
+
+    SqsBatchDeleter(Supplier<SqsClient> client, Executor flushExecutor) {
+        this.client = Objects.requireNonNull(client, "client must not be null");
+        this.flushExecutor = Objects.requireNonNull(flushExecutor, "flushExecutor must not be null");
+    }
+
+    /**
+     * Queues one receipt for deletion.
+     *
+     * @param queueUrl queue the message was received from
+     * @param receiptHandle receipt handle of the message
+     */
+    void delete(String queueUrl, String receiptHandle) {
+        boolean full;
+        synchronized (pendingByQueue) {
+            List<PendingDelete> pending = pendingByQueue.computeIfAbsent(queueUrl, ignored -> new ArrayList<>());
+            pending.add(new PendingDelete(receiptHandle, 1));
+            full = pending.size() % MAX_BATCH == 0;
+        }
+        if (full) {
+            flushExecutor.execute(this::flush);
+        }
+    }
+
+    /**
+     * Sends every queued receipt.
+     */
+    void flush() {
+        Map<String, List<PendingDelete>> batches;
+        synchronized (pendingByQueue) {
+            if (pendingByQueue.isEmpty()) {
+                return;
+            }
+            batches = new LinkedHashMap<>(pendingByQueue);
+            pendingByQueue.clear();
+        }
+        batches.forEach((queueUrl, pending) -> {
+            for (int start = 0; start < pending.size(); start += MAX_BATCH) {
+                send(queueUrl, pending.subList(start, Math.min(pending.size(), start + MAX_BATCH)));
+            }
+        });
+    }
+
+    /**
+     * Number of receipts waiting for the next flush.
+     *
+     * @return queued receipts
+     */
+    int pending() {
+        synchronized (pendingByQueue) {
+            return pendingByQueue.values().stream().mapToInt(List::size).sum();
+        }
+    }
+
+    private void send(String queueUrl, List<PendingDelete> batch) {
+        List<DeleteMessageBatchRequestEntry> entries = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            entries.add(DeleteMessageBatchRequestEntry.builder()
+                .id(Integer.toString(i))
+                .receiptHandle(batch.get(i).receiptHandle())
+                .build());
+        }
+        DeleteMessageBatchResponse response;
+        try {
+            response = client.get().deleteMessageBatch(DeleteMessageBatchRequest.builder()
+                .queueUrl(queueUrl)
+                .entries(entries)
+                .build());
+        } catch (RuntimeException e) {
+            LOG.warnf(e, "Failed deleting %d SQS messages queueUrl=%s", batch.size(), queueUrl);
+            batch.forEach(delete -> retry(queueUrl, delete, e.getMessage()));
+            return;
+        }
+        if (response == null || !response.hasFailed()) {
+            return;
+        }
+        for (BatchResultErrorEntry failure : response.failed()) {
+            PendingDelete delete = batch.get(Integer.parseInt(failure.id()));
+            if (Boolean.TRUE.equals(failure.senderFault())) {
+                LOG.errorf("SQS rejected message delete queueUrl=%s receiptHandle=%s code=%s message=%s",
+                    queueUrl,
+                    delete.receiptHandle(),
+                    failure.code(),
+                    failure.message());
+                continue;
+            }
+            retry(queueUrl, delete, failure.code());
+        }
+    }
+
+    private void retry(String queueUrl, PendingDelete delete, String reason) {
+        if (delete.attempt() >= MAX_ATTEMPTS) {
+            LOG.errorf("Failed deleting SQS message after %d attempts queueUrl=%s receiptHandle=%s reason=%s",
+                delete.attempt(),
+                queueUrl,
+                delete.receiptHandle(),
+                reason);
+            return;
+        }
+        synchronized (pendingByQueue) {
+            pendingByQueue.computeIfAbsent(queueUrl, ignored -> new ArrayList<>())
+                .add(new PendingDelete(delete.receiptHandle(), delete.attempt() + 1));
+        }
+    }
+
+    private record PendingDelete(String receiptHandle, int attempt) {
+    }
+}
@@ -3,11 +3,16 @@ package org.pipelineframework.orchestrator;
 import java.net.URI;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
@@ -22,22 +27,28 @@ import org.pipelineframework.config.pipeline.PipelineJson;
 import software.amazon.awssdk.http.urlconnection.UrlConnectionHttpClient;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.sqs.SqsClient;
-import software.amazon.awssdk.services.sqs.model.DeleteMessageRequest;
 import software.amazon.awssdk.services.sqs.model.Message;
 import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest;
 import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
 
 /**
  * SQS request/reply poller for transition worker commands.
+ *
+ * <p>Receive loops hand each request to its own virtual thread, bounded by the in-flight limit, and acknowledge
+ * answered requests in {@code DeleteMessageBatch} calls. A request is never extended: the visibility timeout is
+ * validated to cover the request timeout.</p>
  */
 @ApplicationScoped
 public class SqsTransitionWorkerPoller {
 
     private static final Logger LOG = Logger.getLogger(SqsTransitionWorkerPoller.class);
     private static final ObjectMapper JSON = PipelineJson.mapper();
-    private static final int MAX_MESSAGES_PER_POLL = 1;
-    private static final int WAIT_TIME_SECONDS = 1;
+    private static final int DEFAULT_POLL_CONCURRENCY = 1;
+    private static final int DEFAULT_MAX_IN_FLIGHT = 8;
+    private static final Duration DEFAULT_WAIT_TIME = Duration.ofSeconds(10);
+    private static final int MAX_WAIT_TIME_SECONDS = 20;
     private static final Duration ERROR_POLL_DELAY = Duration.ofMillis(500);
+    private static final long DELETE_FLUSH_PERIOD_MILLIS = 200L;
 
     @Inject
     PipelineOrchestratorConfig orchestratorConfig;
@@ -50,9 +61,13 @@ public class SqsTransitionWorkerPoller {
 
     private volatile SqsClient client;
     private volatile ExecutorService pollExecutor;
-    private volatile Future<?> pollFuture;
+    private volatile ExecutorService handlerExecutor;
+    private volatile ScheduledExecutorService maintenanceExecutor;
+    private volatile Semaphore inFlightPermits;
+    private final List<Future<?>> pollFutures = new ArrayList<>();
     private volatile boolean running;
     private final TransitionWorkerNonceReplayGuard nonceReplayGuard = new TransitionWorkerNonceReplayGuard();
+    private final SqsBatchDeleter deleter = new SqsBatchDeleter(this::sqsClient, this::runMaintenance);
 
     @PostConstruct
     void validateServerConfig() {
@@ -103,44 +118,120 @@ public class SqsTransitionWorkerPoller {
             return;
         }
         running = true;
-        pollExecutor = Executors.newSingleThreadExecutor(Thread.ofVirtual()
+        int concurrency = pollConcurrency();
+        pollExecutor = Executors.newFixedThreadPool(concurrency, Thread.ofVirtual()
             .name("tpf-sqs-transition-worker-poller-", 0)
             .factory());
-        pollFuture = pollExecutor.submit(() -> {
-            sleep(orchestratorConfig.workerSqs().pollStartDelay());
-            while (running && !Thread.currentThread().isInterrupted()) {
-                try {
-                    pollOnce();
-                } catch (Exception e) {
-                    if (Thread.currentThread().isInterrupted()) {
-                        LOG.debug("SQS transition worker poller interrupted; stopping.");
-                        break;
-                    }
-                    LOG.error("SQS transition worker poll failed.", e);
-                    sleep(ERROR_POLL_DELAY);
+        handlerExecutor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual()
+            .name("tpf-sqs-transition-worker-", 0)
+            .factory());
+        maintenanceExecutor = Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual()
+            .name("tpf-sqs-transition-worker-maintenance")
+            .factory());
+        maintenanceExecutor.scheduleWithFixedDelay(this::flushDeletes,
+            DELETE_FLUSH_PERIOD_MILLIS,
+            DELETE_FLUSH_PERIOD_MILLIS,
+            TimeUnit.MILLISECONDS);
+        synchronized (pollFutures) {
+            for (int i = 0; i < concurrency; i++) {
+                pollFutures.add(pollExecutor.submit(this::pollLoop));
+            }
+        }
+        LOG.infof("SQS transition worker poller enabled requestQueueUrl=%s pollConcurrency=%d maxInFlight=%d",
+            requestQueueUrl(),
+            concurrency,
+            maxInFlight());
+    }
+
+    private void pollLoop() {
+        sleep(orchestratorConfig.workerSqs().pollStartDelay());
+        while (running && !Thread.currentThread().isInterrupted()) {
+            try {
+                pollOnce();
+            } catch (Exception e) {
+                if (Thread.currentThread().isInterrupted()) {
+                    LOG.debug("SQS transition worker poller interrupted; stopping.");
+                    break;
                 }
+                LOG.error("SQS transition worker poll failed.", e);
+                sleep(ERROR_POLL_DELAY);
             }
-        });
-        LOG.infof("SQS transition worker poller enabled requestQueueUrl=%s", requestQueueUrl());
+        }
     }
 
     int pollOnce() {
         if (!enabled()) {
             return 0;
         }
+        Semaphore permits = inFlightPermits();
+        int acquired = acquirePermits(permits);
+        if (acquired == 0) {
+            return 0;
+        }
         ReceiveMessageRequest request = ReceiveMessageRequest.builder()
             .queueUrl(requestQueueUrl())
-            .maxNumberOfMessages(MAX_MESSAGES_PER_POLL)
-            .waitTimeSeconds(WAIT_TIME_SECONDS)
+            .maxNumberOfMessages(acquired)
+            .waitTimeSeconds(waitTimeSeconds())
             .visibilityTimeout(visibilityTimeoutSeconds())
             .build();
-        List<Message> messages = sqsClient().receiveMessage(request).messages();
-        for (Message message : messages) {
-            handleMessage(message);
+        List<Message> messages;
+        try {
+            messages = sqsClient().receiveMessage(request).messages();
+        } catch (RuntimeException e) {
+            permits.release(acquired);
+            throw e;
+        }
+        if (messages.size() < acquired) {
+            permits.release(acquired - messages.size());
+        }
+        for (int i = 0; i < messages.size(); i++) {
+            Message message = messages.get(i);
+            boolean holdsPermit = i < acquired;
+            dispatch(() -> {
+                try {
+                    handleMessage(message);
+                } finally {
+                    if (holdsPermit) {
+                        permits.release();
+                    }
+                }
+            });
         }
+        deleter.flush();
         return messages.size();
     }
 
+    /**
+     * Takes one in-flight slot, waiting for it when all are busy, plus as many free slots as a single receive can
+     * fill.
+     */
+    private static int acquirePermits(Semaphore permits) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 0;
+        }
+        int extra = Math.min(SqsBatchDeleter.MAX_BATCH - 1, permits.availablePermits());
+        if (extra > 0 && permits.tryAcquire(extra)) {
+            return 1 + extra;
+        }
+        return 1;
+    }
+
+    private void dispatch(Runnable handler) {
+        ExecutorService activeHandlerExecutor = handlerExecutor;
+        if (activeHandlerExecutor != null) {
+            try {
+                activeHandlerExecutor.execute(handler);
+                return;
+            } catch (RejectedExecutionException e) {
+                // Shutting down; handle on the poll thread instead.
+            }
+        }
+        handler.run();
+    }
+
     private void handleMessage(Message message) {
         if (message == null || message.receiptHandle() == null) {
             return;
@@ -265,10 +356,28 @@ public class SqsTransitionWorkerPoller {
     }
 
     private void deleteRequest(String receiptHandle) {
-        sqsClient().deleteMessage(DeleteMessageRequest.builder()
-            .queueUrl(requestQueueUrl())
-            .receiptHandle(receiptHandle)
-            .build());
+        deleter.delete(requestQueueUrl(), receiptHandle);
+    }
+
+    private void flushDeletes() {
+        try {
+            deleter.flush();
+        } catch (RuntimeException e) {
+            LOG.warn("SQS transition worker delete flush failed.", e);
+        }
+    }
+
+    private void runMaintenance(Runnable task) {
+        ScheduledExecutorService active = maintenanceExecutor;
+        if (active != null) {
+            try {
+                active.execute(task);
+                return;
+            } catch (RejectedExecutionException ignored) {
+                // Shutting down; run on the caller instead.
+            }
+        }
+        task.run();
     }
 
     private boolean enabled() {
@@ -316,6 +425,35 @@ public class SqsTransitionWorkerPoller {
         return Math.max(1L, orchestratorConfig.workerSqs().requestTimeout().toSeconds());
     }
 
+    private int pollConcurrency() {
+        int configured = orchestratorConfig.workerSqs().pollConcurrency();
+        return configured > 0 ? configured : DEFAULT_POLL_CONCURRENCY;
+    }
+
+    private int maxInFlight() {
+        int configured = orchestratorConfig.workerSqs().maxInFlight();
+        return configured > 0 ? configured : DEFAULT_MAX_IN_FLIGHT;
+    }
+
+    private int waitTimeSeconds() {
+        Duration configured = orchestratorConfig.workerSqs().waitTime();
+        Duration waitTime = configured == null || configured.isNegative() ? DEFAULT_WAIT_TIME : configured;
+        return (int) Math.min(MAX_WAIT_TIME_SECONDS, waitTime.toSeconds());
+    }
+
+    private Semaphore inFlightPermits() {
+        Semaphore active = inFlightPermits;
+        if (active != null) {
+            return active;
+        }
+        synchronized (this) {
+            if (inFlightPermits == null) {
+                inFlightPermits = new Semaphore(maxInFlight());
+            }
+            return inFlightPermits;
+        }
+    }
+
     private SqsClient sqsClient() {
         SqsClient active = client;
         if (active != null) {
@@ -340,29 +478,37 @@ public class SqsTransitionWorkerPoller {
     @PreDestroy
     void shutdown() {
         running = false;
-        Future<?> activePollFuture = pollFuture;
-        if (activePollFuture != null) {
-            activePollFuture.cancel(true);
-        }
-        ExecutorService activePollExecutor = pollExecutor;
-        if (activePollExecutor != null) {
-            activePollExecutor.shutdownNow();
-            try {
-                if (!activePollExecutor.awaitTermination(30, java.util.concurrent.TimeUnit.SECONDS)) {
-                    LOG.warn("SQS transition worker poller did not terminate within 30 seconds.");
-                }
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                LOG.warn("Interrupted while waiting for SQS transition worker poller shutdown.");
-            }
+        synchronized (pollFutures) {
+            pollFutures.forEach(future -> future.cancel(true));
+            pollFutures.clear();
         }
+        awaitShutdown(pollExecutor, "poller");
+        awaitShutdown(handlerExecutor, "request handlers");
+        awaitShutdown(maintenanceExecutor, "maintenance");
         SqsClient activeClient = client;
         if (activeClient != null) {
+            flushDeletes();
             activeClient.close();
         }
         client = null;
         pollExecutor = null;
-        pollFuture = null;
+        handlerExecutor = null;
+        maintenanceExecutor = null;
+    }
+
+    private static void awaitShutdown(ExecutorService executor, String executorName) {
+        if (executor == null) {
+            return;
+        }
+        executor.shutdownNow();
+        try {
+            if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                LOG.warnf("SQS transition worker %s did not terminate within 30 seconds.", executorName);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOG.warnf("Interrupted while waiting for SQS transition worker %s shutdown.", executorName);
+        }
     }
 
     private static void sleep(Duration delay) {
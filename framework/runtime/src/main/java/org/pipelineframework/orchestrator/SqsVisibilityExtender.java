@@ -0,0 +1,168 @@
+package org.pipelineframework.orchestrator;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.jboss.logging.Logger;
+import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchRequest;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchResponse;
+
+/**
+ * Keeps in-flight SQS messages invisible while they are processed, with {@code ChangeMessageVisibilityBatch}.
+ *
+ * <p>A tracked message starts with the visibility timeout it was received with. Each {@link #extendDue()} pass
+ * extends the messages that are within half of their current timeout of becoming visible, doubling the timeout each
+ * time up to a cap. Short work is never extended, and long work is extended less and less often.</p>
+ */
+final class SqsVisibilityExtender {
+
+    private static final Logger LOG = Logger.getLogger(SqsVisibilityExtender.class);
+
+    private final Supplier<SqsClient> client;
+    private final int initialTimeoutSeconds;
+    private final int maxTimeoutSeconds;
+    private final LongSupplier clock;
+    private final AtomicLong nextId = new AtomicLong();
+    private final Map<Long, Lease> leases = new LinkedHashMap<>();
+
+    SqsVisibilityExtender(
+        Supplier<SqsClient> client,
+        int initialTimeoutSeconds,
+        int maxTimeoutSeconds,
+        LongSupplier clock
+    ) {
+        this.client = Objects.requireNonNull(client, "client must not be null");
+        this.initialTimeoutSeconds = Math.max(1, initialTimeoutSeconds);
+        this.maxTimeoutSeconds = Math.max(this.initialTimeoutSeconds, maxTimeoutSeconds);
+        this.clock = Objects.requireNonNull(clock, "clock must not be null");
+    }
+
+    /**
+     * Starts tracking a message that was just received.
+     *
+     * @param queueUrl queue the message was received from
+     * @param receiptHandle receipt handle of the message
+     * @return lease to release once the message has been handled
+     */
+    Lease track(String queueUrl, String receiptHandle) {
+        Lease lease = new Lease(nextId.incrementAndGet(), queueUrl, receiptHandle,
+            clock.getAsLong() + initialTimeoutSeconds * 1000L, initialTimeoutSeconds);
+        synchronized (leases) {
+            leases.put(lease.id, lease);
+        }
+        return lease;
+    }
+
+    /**
+     * Number of tracked messages.
+     *
+     * @return tracked messages
+     */
+    int tracked() {
+        synchronized (leases) {
+            return leases.size();
+        }
+    }
+
+    /**
+     * Extends every tracked message that is close to becoming visible again.
+     */
+    void extendDue() {
+        long now = clock.getAsLong();
+        Map<String, List<Lease>> dueByQueue = new LinkedHashMap<>();
+        synchronized (leases) {
+            for (Lease lease : leases.values()) {
+                if (lease.visibleAtEpochMs - now <= lease.timeoutSeconds * 500L) {
+                    dueByQueue.computeIfAbsent(lease.queueUrl, ignored -> new ArrayList<>()).add(lease);
+                }
+            }
+        }
+        dueByQueue.forEach((queueUrl, due) -> {
+            for (int start = 0; start < due.size(); start += SqsBatchDeleter.MAX_BATCH) {
+                extend(queueUrl, due.subList(start, Math.min(due.size(), start + SqsBatchDeleter.MAX_BATCH)), now);
+            }
+        });
+    }
+
+    private void extend(String queueUrl, List<Lease> batch, long now) {
+        List<ChangeMessageVisibilityBatchRequestEntry> entries = new ArrayList<>(batch.size());
+        int[] timeouts = new int[batch.size()];
+        for (int i = 0; i < batch.size(); i++) {
+            timeouts[i] = (int) Math.min(maxTimeoutSeconds, batch.get(i).timeoutSeconds * 2L);
+            entries.add(ChangeMessageVisibilityBatchRequestEntry.builder()
+                .id(Integer.toString(i))
+                .receiptHandle(batch.get(i).receiptHandle)
+                .visibilityTimeout(timeouts[i])
+                .build());
+        }
+        ChangeMessageVisibilityBatchResponse response;
+        try {
+            response = client.get().changeMessageVisibilityBatch(ChangeMessageVisibilityBatchRequest.builder()
+                .queueUrl(queueUrl)
+                .entries(entries)
+                .build());
+        } catch (RuntimeException e) {
+            LOG.warnf(e, "Failed extending visibility of %d SQS messages queueUrl=%s", batch.size(), queueUrl);
+            return;
+        }
+        List<String> failedIds = new ArrayList<>();
+        if (response != null && response.hasFailed()) {
+            for (BatchResultErrorEntry failure : response.failed()) {
+                failedIds.add(failure.id());
+                LOG.warnf("Failed extending SQS message visibility queueUrl=%s receiptHandle=%s code=%s",
+                    queueUrl,
+                    batch.get(Integer.parseInt(failure.id())).receiptHandle,
+                    failure.code());
+            }
+        }
+        synchronized (leases) {
+            for (int i = 0; i < batch.size(); i++) {
+                if (!failedIds.contains(Integer.toString(i))) {
+                    batch.get(i).extended(now, timeouts[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * One tracked message.
+     */
+    final class Lease {
+        private final long id;
+        private final String queueUrl;
+        private final String receiptHandle;
+        private long visibleAtEpochMs;
+        private int timeoutSeconds;
+
+        private Lease(long id, String queueUrl, String receiptHandle, long visibleAtEpochMs, int timeoutSeconds) {
+            this.id = id;
+            this.queueUrl = queueUrl;
+            this.receiptHandle = receiptHandle;
+            this.visibleAtEpochMs = visibleAtEpochMs;
+            this.timeoutSeconds = timeoutSeconds;
+        }
+
+        /**
+         * Stops extending the message.
+         */
+        void release() {
+            synchronized (leases) {
+                leases.remove(id);
+            }
+        }
+
+        private void extended(long now, int timeoutSeconds) {
+            this.timeoutSeconds = timeoutSeconds;
+            this.visibleAtEpochMs = now + timeoutSeconds * 1000L;
+        }
+    }
+}
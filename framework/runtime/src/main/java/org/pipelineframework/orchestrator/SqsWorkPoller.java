@@ -2,12 +2,15 @@ package org.pipelineframework.orchestrator;
 
 import java.net.URI;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import jakarta.annotation.PreDestroy;
@@ -16,35 +19,40 @@ import jakarta.enterprise.event.Observes;
 import jakarta.inject.Inject;
 
 import io.quarkus.runtime.StartupEvent;
+import io.smallrye.mutiny.Uni;
 import org.jboss.logging.Logger;
 import org.pipelineframework.PipelineExecutionService;
 import org.pipelineframework.config.pipeline.PipelineJson;
 import software.amazon.awssdk.http.urlconnection.UrlConnectionHttpClient;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.sqs.SqsClient;
-import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityRequest;
-import software.amazon.awssdk.services.sqs.model.DeleteMessageRequest;
 import software.amazon.awssdk.services.sqs.model.Message;
 import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest;
 
 /**
  * Polls SQS-backed work queues when queue async mode is configured without local loopback dispatch.
+ *
+ * <p>Several receive loops long-poll the queue, each asking for as many messages as there are free in-flight slots.
+ * Messages are processed asynchronously, so one slow execution holds only its own slot. Completed messages are
+ * acknowledged in {@code DeleteMessageBatch} calls, and messages still running are kept invisible by an adaptive
+ * visibility extender.</p>
  */
 @ApplicationScoped
 public class SqsWorkPoller {
 
     private static final Logger LOG = Logger.getLogger(SqsWorkPoller.class);
-    private static final int MAX_MESSAGES_PER_POLL = 1;
-    private static final int WAIT_TIME_SECONDS = 1;
+    private static final int DEFAULT_POLL_CONCURRENCY = 2;
+    private static final int DEFAULT_MAX_IN_FLIGHT = 16;
+    private static final Duration DEFAULT_WAIT_TIME = Duration.ofSeconds(10);
+    private static final int MAX_WAIT_TIME_SECONDS = 20;
     private static final Duration PROCESS_TIMEOUT = Duration.ofMinutes(5);
     private static final Duration INITIAL_FAILURE_BACKOFF = Duration.ofSeconds(1);
     private static final Duration MAX_FAILURE_BACKOFF = Duration.ofSeconds(30);
     private static final Duration EXECUTOR_SHUTDOWN_TIMEOUT = Duration.ofSeconds(10);
-    private static final Duration DELETE_RETRY_BASE_DELAY = Duration.ofMillis(250);
-    private static final Duration DELETE_RETRY_MAX_DELAY = Duration.ofSeconds(2);
-    private static final int DELETE_MAX_ATTEMPTS = 3;
-    private static final int VISIBILITY_EXTENSION_SECONDS = 30;
-    private static final long VISIBILITY_EXTENSION_PERIOD_SECONDS = 20L;
+    private static final int VISIBILITY_TIMEOUT_SECONDS = 30;
+    private static final int MAX_VISIBILITY_TIMEOUT_SECONDS = (int) PROCESS_TIMEOUT.plusMinutes(1).toSeconds();
+    private static final long VISIBILITY_CHECK_PERIOD_MILLIS = 5_000L;
+    private static final long DELETE_FLUSH_PERIOD_MILLIS = 200L;
 
     @Inject
     PipelineOrchestratorConfig orchestratorConfig;
@@ -54,10 +62,18 @@ public class SqsWorkPoller {
 
     private volatile SqsClient client;
     private volatile ExecutorService pollExecutor;
-    private volatile ScheduledExecutorService visibilityExecutor;
-    private volatile Future<?> pollFuture;
+    private volatile ExecutorService processingExecutor;
+    private volatile ScheduledExecutorService maintenanceExecutor;
+    private volatile Semaphore inFlightPermits;
+    private final List<Future<?>> pollFutures = new ArrayList<>();
     private volatile boolean running;
     private final AtomicInteger consecutivePollFailures = new AtomicInteger();
+    private final SqsBatchDeleter deleter = new SqsBatchDeleter(this::sqsClient, this::runMaintenance);
+    private final SqsVisibilityExtender visibilityExtender = new SqsVisibilityExtender(
+        this::sqsClient,
+        VISIBILITY_TIMEOUT_SECONDS,
+        MAX_VISIBILITY_TIMEOUT_SECONDS,
+        System::currentTimeMillis);
 
     /**
      * Default constructor for CDI.
@@ -79,27 +95,40 @@ public class SqsWorkPoller {
         if (!enabled()) {
             return;
         }
-        ensureExecutors();
+        int concurrency = pollConcurrency();
+        ensureExecutors(concurrency);
         running = true;
-        pollFuture = pollExecutor.submit(() -> {
-            sleep(orchestratorConfig.sqs().pollStartDelay());
-            pollLoop();
-        });
-        LOG.infof("SQS work poller enabled for queueUrl=%s", orchestratorConfig.queueUrl().orElse("<missing>"));
+        synchronized (pollFutures) {
+            for (int i = 0; i < concurrency; i++) {
+                pollFutures.add(pollExecutor.submit(() -> {
+                    sleep(orchestratorConfig.sqs().pollStartDelay());
+                    pollLoop();
+                }));
+            }
+        }
+        LOG.infof("SQS work poller enabled for queueUrl=%s pollConcurrency=%d maxInFlight=%d",
+            orchestratorConfig.queueUrl().orElse("<missing>"),
+            concurrency,
+            maxInFlight());
     }
 
     @PreDestroy
     void shutdown() {
         running = false;
-        Future<?> activePollFuture = pollFuture;
-        if (activePollFuture != null) {
-            activePollFuture.cancel(true);
+        synchronized (pollFutures) {
+            pollFutures.forEach(future -> future.cancel(true));
+            pollFutures.clear();
         }
         shutdownExecutor(pollExecutor, "poll");
         pollExecutor = null;
-        shutdownExecutor(visibilityExecutor, "visibility-extension");
-        visibilityExecutor = null;
+        shutdownExecutor(processingExecutor, "processing");
+        processingExecutor = null;
+        shutdownExecutor(maintenanceExecutor, "maintenance");
+        maintenanceExecutor = null;
         SqsClient activeClient = client;
+        if (activeClient != null) {
+            deleter.flush();
+        }
         if (activeClient == null) {
             return;
         }
@@ -121,26 +150,55 @@ public class SqsWorkPoller {
             .orElseThrow(() -> new IllegalStateException(
                 "pipeline.orchestrator.queue-url must be configured when dispatcher-provider=sqs."));
 
+        Semaphore permits = inFlightPermits();
+        int acquired = acquirePermits(permits);
+        if (acquired == 0) {
+            return true;
+        }
         ReceiveMessageRequest request = ReceiveMessageRequest.builder()
             .queueUrl(queueUrl)
-            .maxNumberOfMessages(MAX_MESSAGES_PER_POLL)
-            .waitTimeSeconds(WAIT_TIME_SECONDS)
-            .visibilityTimeout(VISIBILITY_EXTENSION_SECONDS)
+            .maxNumberOfMessages(acquired)
+            .waitTimeSeconds(waitTimeSeconds())
+            .visibilityTimeout(VISIBILITY_TIMEOUT_SECONDS)
             .build();
         List<Message> messages;
         try {
             messages = sqsClient().receiveMessage(request).messages();
         } catch (RuntimeException e) {
+            permits.release(acquired);
             LOG.errorf(e, "Failed receiving SQS work items from queueUrl=%s", queueUrl);
             sleepFailureBackoff();
             return false;
         }
-        for (Message message : messages) {
-            handleMessage(queueUrl, message);
+        if (messages.size() < acquired) {
+            permits.release(acquired - messages.size());
+        }
+        for (int i = 0; i < messages.size(); i++) {
+            handleMessage(queueUrl, messages.get(i), i < acquired ? permits::release : () -> {
+            });
         }
+        deleter.flush();
         return true;
     }
 
+    /**
+     * Takes one in-flight slot, waiting for it when all are busy, plus as many free slots as a single receive can
+     * fill.
+     */
+    private static int acquirePermits(Semaphore permits) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 0;
+        }
+        int extra = Math.min(SqsBatchDeleter.MAX_BATCH - 1, permits.availablePermits());
+        if (extra > 0 && permits.tryAcquire(extra)) {
+            return 1 + extra;
+        }
+        return 1;
+    }
+
     private void pollLoop() {
         while (running && !Thread.currentThread().isInterrupted()) {
             try {
@@ -154,13 +212,15 @@ public class SqsWorkPoller {
         }
     }
 
-    private void handleMessage(String queueUrl, Message message) {
+    private void handleMessage(String queueUrl, Message message, Runnable releasePermit) {
         if (message == null || message.receiptHandle() == null) {
+            releasePermit.run();
             return;
         }
         if (message.body() == null) {
             LOG.warnf("Dropping SQS work message with null body id=%s", message.messageId());
-            deleteMessage(queueUrl, message.receiptHandle());
+            deleter.delete(queueUrl, message.receiptHandle());
+            releasePermit.run();
             return;
         }
         ExecutionWorkItem workItem;
@@ -168,49 +228,25 @@ public class SqsWorkPoller {
             workItem = PipelineJson.mapper().readValue(message.body(), ExecutionWorkItem.class);
         } catch (Exception e) {
             LOG.warnf(e, "Dropping malformed SQS work message id=%s", message.messageId());
-            deleteMessage(queueUrl, message.receiptHandle());
+            deleter.delete(queueUrl, message.receiptHandle());
+            releasePermit.run();
             return;
         }
 
-        ScheduledFuture<?> visibilityExtension = startVisibilityExtension(queueUrl, message.receiptHandle());
-        try {
-            pipelineExecutionService.processExecutionWorkItem(workItem)
-                .await().atMost(PROCESS_TIMEOUT);
-            deleteMessage(queueUrl, message.receiptHandle());
-        } catch (RuntimeException e) {
-            LOG.errorf(e, "Failed processing SQS work item executionId=%s", workItem.executionId());
-        } finally {
-            cancelVisibilityExtension(visibilityExtension);
-        }
-    }
-
-    private void deleteMessage(String queueUrl, String receiptHandle) {
-        DeleteMessageRequest request = DeleteMessageRequest.builder()
-            .queueUrl(queueUrl)
-            .receiptHandle(receiptHandle)
-            .build();
-        for (int attempt = 1; attempt <= DELETE_MAX_ATTEMPTS; attempt++) {
-            try {
-                sqsClient().deleteMessage(request);
-                return;
-            } catch (RuntimeException e) {
-                if (attempt == DELETE_MAX_ATTEMPTS) {
-                    LOG.errorf(e,
-                        "Failed deleting SQS work message after %d attempts queueUrl=%s receiptHandle=%s",
-                        attempt,
-                        queueUrl,
-                        receiptHandle);
-                    return;
-                }
-                LOG.warnf(e,
-                    "Delete SQS work message attempt %d/%d failed queueUrl=%s receiptHandle=%s",
-                    attempt,
-                    DELETE_MAX_ATTEMPTS,
-                    queueUrl,
-                    receiptHandle);
-                sleep(deleteRetryDelay(attempt));
-            }
-        }
+        SqsVisibilityExtender.Lease lease = visibilityExtender.track(queueUrl, message.receiptHandle());
+        Uni.createFrom().deferred(() -> pipelineExecutionService.processExecutionWorkItem(workItem))
+            .runSubscriptionOn(processingExecutor())
+            .ifNoItem().after(PROCESS_TIMEOUT).fail()
+            .onItem().invoke(() -> deleter.delete(queueUrl, message.receiptHandle()))
+            .onTermination().invoke(() -> {
+                lease.release();
+                releasePermit.run();
+            })
+            .subscribe().with(
+                ignored -> {
+                },
+                failure -> LOG.errorf(failure, "Failed processing SQS work item executionId=%s",
+                    workItem.executionId()));
     }
 
     private boolean enabled() {
@@ -250,47 +286,90 @@ public class SqsWorkPoller {
         sleep(Duration.ofMillis(delayMillis));
     }
 
-    private ScheduledFuture<?> startVisibilityExtension(String queueUrl, String receiptHandle) {
-        ScheduledExecutorService activeVisibilityExecutor = visibilityExecutor;
-        if (activeVisibilityExecutor == null) {
-            return null;
+    private int pollConcurrency() {
+        int configured = orchestratorConfig.sqs().pollConcurrency();
+        return configured > 0 ? configured : DEFAULT_POLL_CONCURRENCY;
+    }
+
+    private int maxInFlight() {
+        int configured = orchestratorConfig.sqs().maxInFlight();
+        return configured > 0 ? configured : DEFAULT_MAX_IN_FLIGHT;
+    }
+
+    private int waitTimeSeconds() {
+        Duration configured = orchestratorConfig.sqs().waitTime();
+        Duration waitTime = configured == null || configured.isNegative() ? DEFAULT_WAIT_TIME : configured;
+        return (int) Math.min(MAX_WAIT_TIME_SECONDS, waitTime.toSeconds());
+    }
+
+    private Semaphore inFlightPermits() {
+        Semaphore active = inFlightPermits;
+        if (active != null) {
+            return active;
         }
-        return activeVisibilityExecutor.scheduleAtFixedRate(() -> {
-            try {
-                sqsClient().changeMessageVisibility(ChangeMessageVisibilityRequest.builder()
-                    .queueUrl(queueUrl)
-                    .receiptHandle(receiptHandle)
-                    .visibilityTimeout(VISIBILITY_EXTENSION_SECONDS)
-                    .build());
-            } catch (RuntimeException e) {
-                LOG.warnf(e,
-                    "Failed extending SQS work message visibility queueUrl=%s receiptHandle=%s",
-                    queueUrl,
-                    receiptHandle);
+        synchronized (this) {
+            if (inFlightPermits == null) {
+                inFlightPermits = new Semaphore(maxInFlight());
             }
-        }, VISIBILITY_EXTENSION_PERIOD_SECONDS, VISIBILITY_EXTENSION_PERIOD_SECONDS, TimeUnit.SECONDS);
+            return inFlightPermits;
+        }
+    }
+
+    private Executor processingExecutor() {
+        ExecutorService active = processingExecutor;
+        return active != null ? active : Runnable::run;
     }
 
-    private static void cancelVisibilityExtension(ScheduledFuture<?> visibilityExtension) {
-        if (visibilityExtension != null) {
-            visibilityExtension.cancel(true);
+    private void runMaintenance(Runnable task) {
+        ScheduledExecutorService active = maintenanceExecutor;
+        if (active != null) {
+            try {
+                active.execute(task);
+                return;
+            } catch (RejectedExecutionException ignored) {
+                // Shutting down; run on the caller instead.
+            }
         }
+        task.run();
     }
 
-    private void ensureExecutors() {
+    private void ensureExecutors(int concurrency) {
         if (pollExecutor == null) {
-            pollExecutor = Executors.newSingleThreadExecutor(runnable -> {
-                Thread thread = new Thread(runnable, "tpf-sqs-work-poller");
+            AtomicInteger threadIndex = new AtomicInteger();
+            pollExecutor = Executors.newFixedThreadPool(concurrency, runnable -> {
+                Thread thread = new Thread(runnable, "tpf-sqs-work-poller-" + threadIndex.incrementAndGet());
                 thread.setDaemon(true);
                 return thread;
             });
         }
-        if (visibilityExecutor == null) {
-            visibilityExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
-                Thread thread = new Thread(runnable, "tpf-sqs-visibility-extender");
+        if (processingExecutor == null) {
+            processingExecutor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("tpf-sqs-work-", 0).factory());
+        }
+        if (maintenanceExecutor == null) {
+            maintenanceExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "tpf-sqs-work-maintenance");
                 thread.setDaemon(true);
                 return thread;
             });
+            maintenanceExecutor.scheduleWithFixedDelay(
+                () -> runSafely(deleter::flush, "delete flush"),
+                DELETE_FLUSH_PERIOD_MILLIS,
+                DELETE_FLUSH_PERIOD_MILLIS,
+                TimeUnit.MILLISECONDS);
+            maintenanceExecutor.scheduleWithFixedDelay(
+                () -> runSafely(visibilityExtender::extendDue, "visibility extension"),
+                VISIBILITY_CHECK_PERIOD_MILLIS,
+                VISIBILITY_CHECK_PERIOD_MILLIS,
+                TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static void runSafely(Runnable task, String taskName) {
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            LOG.warnf(e, "SQS work poller %s failed", taskName);
         }
     }
 
@@ -309,13 +388,6 @@ public class SqsWorkPoller {
         }
     }
 
-    private static Duration deleteRetryDelay(int attempt) {
-        long delayMillis = Math.min(
-            DELETE_RETRY_BASE_DELAY.toMillis() * (1L << Math.max(0, attempt - 1)),
-            DELETE_RETRY_MAX_DELAY.toMillis());
-        return Duration.ofMillis(delayMillis);
-    }
-
     private static void sleep(Duration duration) {
         if (duration == null || duration.isZero() || duration.isNegative()) {
             return;
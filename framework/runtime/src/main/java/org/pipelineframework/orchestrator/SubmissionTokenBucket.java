@@ -0,0 +1,67 @@
+package org.pipelineframework.orchestrator;
+
+/**
+ * Token bucket that refills continuously at a fixed rate up to its capacity.
+ *
+ * <p>Time is supplied by the caller in nanoseconds so one clock drives every bucket of a policy.</p>
+ */
+final class SubmissionTokenBucket {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+    private final double tokensPerNano;
+    private final double capacity;
+    private double tokens;
+    private long refilledAtNanos;
+
+    SubmissionTokenBucket(double tokensPerSecond, int burst, long nowNanos) {
+        if (!(tokensPerSecond > 0d)) {
+            throw new IllegalArgumentException("tokensPerSecond must be positive");
+        }
+        this.tokensPerNano = tokensPerSecond / NANOS_PER_SECOND;
+        this.capacity = burst > 0 ? burst : Math.max(1d, Math.ceil(tokensPerSecond));
+        this.tokens = capacity;
+        this.refilledAtNanos = nowNanos;
+    }
+
+    /**
+     * Takes one token when available.
+     *
+     * @param nowNanos current clock reading
+     * @return zero when a token was taken, otherwise the nanoseconds until the next token is available
+     */
+    synchronized long tryAcquire(long nowNanos) {
+        refill(nowNanos);
+        if (tokens >= 1d) {
+            tokens -= 1d;
+            return 0L;
+        }
+        return Math.max(1L, (long) Math.ceil((1d - tokens) / tokensPerNano));
+    }
+
+    /**
+     * Returns a token taken by {@link #tryAcquire(long)} when the operation it admitted was denied further on.
+     */
+    synchronized void refund() {
+        tokens = Math.min(capacity, tokens + 1d);
+    }
+
+    /**
+     * Whether the bucket has refilled to capacity, at which point it behaves exactly like a new bucket.
+     *
+     * @param nowNanos current clock reading
+     * @return {@code true} when no token is outstanding
+     */
+    synchronized boolean full(long nowNanos) {
+        refill(nowNanos);
+        return tokens >= capacity;
+    }
+
+    private void refill(long nowNanos) {
+        long elapsed = nowNanos - refilledAtNanos;
+        if (elapsed > 0) {
+            tokens = Math.min(capacity, tokens + elapsed * tokensPerNano);
+            refilledAtNanos = nowNanos;
+        }
+    }
+}
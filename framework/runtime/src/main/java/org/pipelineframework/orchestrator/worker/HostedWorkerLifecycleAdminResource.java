@@ -200,6 +200,10 @@ public class HostedWorkerLifecycleAdminResource {
         if (tenantId == null || tenantId.isBlank()) {
             return Optional.of(Response.status(Response.Status.BAD_REQUEST).entity("tenantId is required").build());
         }
+        if (PipelineWorkerRegistry.isReservedTenant(tenantId)) {
+            return Optional.of(Response.status(Response.Status.BAD_REQUEST)
+                .entity("tenantId must not start with " + PipelineWorkerRegistry.RESERVED_TENANT_PREFIX).build());
+        }
         if (pipelineId == null || pipelineId.isBlank()) {
             return Optional.of(Response.status(Response.Status.BAD_REQUEST).entity("pipelineId is required").build());
         }
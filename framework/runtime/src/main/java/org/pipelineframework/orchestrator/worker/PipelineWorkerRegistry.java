@@ -11,6 +11,22 @@ import io.smallrye.mutiny.Uni;
  */
 public interface PipelineWorkerRegistry {
 
+    /**
+     * Tenant prefix reserved for the framework's own registrations, such as sweep shard membership. Caller-supplied
+     * tenant IDs with this prefix are rejected, so framework and tenant registrations never share registry keys.
+     */
+    String RESERVED_TENANT_PREFIX = "tpf-internal:";
+
+    /**
+     * Reports whether a tenant ID falls in the namespace reserved by {@link #RESERVED_TENANT_PREFIX}.
+     *
+     * @param tenantId tenant ID, possibly untrimmed
+     * @return true when the tenant ID is reserved
+     */
+    static boolean isReservedTenant(String tenantId) {
+        return tenantId != null && tenantId.trim().startsWith(RESERVED_TENANT_PREFIX);
+    }
+
     Uni<PipelineWorkerRecord> register(PipelineWorkerRegistration registration, long nowEpochMs);
 
     Uni<Optional<PipelineWorkerRecord>> heartbeat(
@@ -900,6 +900,10 @@ public class PipelineProtoGenerator {
      * MANY_TO_ONE => streaming input, unary output;
      * otherwise => unary input, unary output.
      *
+     * <p>One-to-one services also get {@code remoteProcessStream}, a bidirectional stream of sequence-id envelopes
+     * that generated client steps use to multiplex many unary calls over a few long-lived streams. Each response
+     * envelope echoes the request sequence and carries either the output or the item's gRPC status.</p>
+     *
      * @param step the resolved step to render the service for
      * @param previous the resolved previous step, or {@code null} if none; used to determine the input type when this is not the first step
      * @param firstStep whether {@code step} is the pipeline's first step (affects input type selection)
@@ -911,12 +915,18 @@ public class PipelineProtoGenerator {
         boolean firstStep,
         boolean v2
     ) {
-        builder.append("service Process")
-            .append(step.serviceNameFormatted())
-            .append("Service {\n");
         String inputType = (v2 || firstStep || previous == null) ? step.inputTypeName() : previous.outputTypeName();
         String outputType = step.outputTypeName();
         CardinalitySemantics canonicalCardinality = CardinalitySemantics.fromString(step.cardinality());
+        boolean multiplexed = canonicalCardinality != CardinalitySemantics.ONE_TO_MANY
+            && canonicalCardinality != CardinalitySemantics.MANY_TO_MANY
+            && canonicalCardinality != CardinalitySemantics.MANY_TO_ONE;
+        if (multiplexed) {
+            renderStreamEnvelopes(builder, step, inputType, outputType);
+        }
+        builder.append("service Process")
+            .append(step.serviceNameFormatted())
+            .append("Service {\n");
         if (canonicalCardinality == CardinalitySemantics.ONE_TO_MANY) {
             builder.append("  rpc remoteProcess(")
                 .append(inputType)
@@ -942,9 +952,33 @@ public class PipelineProtoGenerator {
                 .append(outputType)
                 .append(");\n");
         }
+        if (multiplexed) {
+            String envelopePrefix = "Process" + step.serviceNameFormatted();
+            builder.append("  rpc remoteProcessStream(stream ")
+                .append(envelopePrefix)
+                .append("StreamRequest) returns (stream ")
+                .append(envelopePrefix)
+                .append("StreamResponse);\n");
+        }
         builder.append("}\n");
     }
 
+    private void renderStreamEnvelopes(StringBuilder builder, ResolvedStep step, String inputType, String outputType) {
+        String envelopePrefix = "Process" + step.serviceNameFormatted();
+        builder.append("message ").append(envelopePrefix).append("StreamRequest {\n");
+        builder.append("  int64 sequence = 1;\n");
+        builder.append("  ").append(inputType).append(" item = 2;\n");
+        builder.append("  map<string, string> context = 3;\n");
+        builder.append("}\n\n");
+        builder.append("message ").append(envelopePrefix).append("StreamResponse {\n");
+        builder.append("  int64 sequence = 1;\n");
+        builder.append("  ").append(outputType).append(" item = 2;\n");
+        builder.append("  int32 error_code = 3;\n");
+        builder.append("  string error_message = 4;\n");
+        builder.append("  map<string, string> context = 5;\n");
+        builder.append("}\n\n");
+    }
+
     private void renderAspectServices(
         StringBuilder builder,
         ResolvedStep step,
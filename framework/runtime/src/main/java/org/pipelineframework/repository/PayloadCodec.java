@@ -16,6 +16,8 @@
 
 package org.pipelineframework.repository;
 
+import java.nio.ByteBuffer;
+
 /**
  * Encodes and decodes materialized field values.
  *
@@ -32,4 +34,25 @@ public interface PayloadCodec<T> {
     byte[] encode(T value);
 
     T decode(byte[] payload, Class<T> type);
+
+    /**
+     * Decodes the remaining bytes of a payload slice.
+     *
+     * <p>Codecs that can read directly from a buffer should override this to avoid copying repository
+     * payloads onto the heap first. The default copies the slice and delegates to
+     * {@link #decode(byte[], Class)}.</p>
+     *
+     * @param payload payload slice; its position is not modified
+     * @param type decoded payload type
+     * @return decoded value
+     */
+    default T decode(ByteBuffer payload, Class<T> type) {
+        if (payload == null) {
+            return decode((byte[]) null, type);
+        }
+        ByteBuffer slice = payload.duplicate();
+        byte[] bytes = new byte[slice.remaining()];
+        slice.get(bytes);
+        return decode(bytes, type);
+    }
 }
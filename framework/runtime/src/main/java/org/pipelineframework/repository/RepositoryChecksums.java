@@ -16,6 +16,7 @@
 
 package org.pipelineframework.repository;
 
+import java.nio.ByteBuffer;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 
@@ -28,16 +29,37 @@ public final class RepositoryChecksums {
     }
 
     public static String sha256Hex(byte[] payload) {
+        MessageDigest digest = sha256();
+        return hex(digest.digest(payload == null ? new byte[0] : payload));
+    }
+
+    /**
+     * Digests the remaining bytes of {@code payload} without copying them or moving its position.
+     *
+     * @param payload payload buffer, possibly direct or memory-mapped
+     * @return lowercase hexadecimal SHA-256 digest
+     */
+    public static String sha256Hex(ByteBuffer payload) {
+        MessageDigest digest = sha256();
+        if (payload != null) {
+            digest.update(payload.duplicate());
+        }
+        return hex(digest.digest());
+    }
+
+    private static MessageDigest sha256() {
         try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hashed = digest.digest(payload == null ? new byte[0] : payload);
-            StringBuilder builder = new StringBuilder(hashed.length * 2);
-            for (byte value : hashed) {
-                builder.append(String.format("%02x", value));
-            }
-            return builder.toString();
+            return MessageDigest.getInstance("SHA-256");
         } catch (NoSuchAlgorithmException e) {
             throw new IllegalStateException("SHA-256 digest is not available", e);
         }
     }
+
+    private static String hex(byte[] hashed) {
+        StringBuilder builder = new StringBuilder(hashed.length * 2);
+        for (byte value : hashed) {
+            builder.append(String.format("%02x", value));
+        }
+        return builder.toString();
+    }
 }
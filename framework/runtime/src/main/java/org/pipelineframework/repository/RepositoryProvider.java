@@ -16,6 +16,16 @@
 
 package org.pipelineframework.repository;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.List;
+import java.util.Optional;
+
 import io.smallrye.mutiny.Uni;
 import org.pipelineframework.parallelism.ThreadSafety;
 
@@ -30,6 +40,106 @@ public interface RepositoryProvider {
 
     Uni<RepositoryReadResult> load(PayloadReference reference);
 
+    /**
+     * Streams a stored payload into {@code target}.
+     *
+     * <p>Providers backed by files or direct buffers should override this so large payloads move from
+     * storage to the target channel without an intermediate heap copy. The default loads the payload
+     * and writes it. The caller owns {@code target} and closes it.</p>
+     *
+     * @param reference stored payload reference
+     * @param target channel receiving the encoded payload bytes
+     * @return number of bytes written
+     */
+    default Uni<Long> transferTo(PayloadReference reference, WritableByteChannel target) {
+        return load(reference).map(result -> {
+            ByteBuffer payload = result.payloadBuffer();
+            long written = 0L;
+            try {
+                while (payload.hasRemaining()) {
+                    written += target.write(payload);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed streaming repository payload " + reference.key(), e);
+            }
+            return written;
+        });
+    }
+
+    /**
+     * Stores a payload read from {@code source} under the location described by {@code target}.
+     *
+     * <p>The reference supplies container, key, content type, codec, checksum, version, and metadata; its
+     * size is ignored and replaced by the number of bytes read. Providers should override this to
+     * stream into storage. The default reads the channel fully and delegates to
+     * {@link #store(RepositoryWriteRequest)}. The caller owns {@code source} and closes it.</p>
+     *
+     * @param target location and metadata for the stored payload
+     * @param source channel supplying the encoded payload bytes
+     * @return reference to the stored payload
+     */
+    default Uni<PayloadReference> storeFrom(PayloadReference target, ReadableByteChannel source) {
+        return Uni.createFrom().item(() -> {
+            try {
+                InputStream input = Channels.newInputStream(source);
+                return input.readAllBytes();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed reading repository payload source for " + target.key(), e);
+            }
+        }).onItem().transformToUni(payload -> store(new RepositoryWriteRequest(
+            target.container(),
+            target.key(),
+            payload,
+            target.contentType(),
+            target.codec(),
+            target.checksum(),
+            target.version(),
+            target.metadata())));
+    }
+
+    /**
+     * Returns the reference {@link #store(RepositoryWriteRequest)} would produce when an object already
+     * exists at the request location, without writing it.
+     *
+     * <p>Content-addressed repositories use this to short-circuit writes of known digests. Providers
+     * that map request keys onto a different storage key, or that refresh retention on reuse, should
+     * override it.</p>
+     *
+     * @param request write request whose location is checked; its payload is not written
+     * @return the existing reference, or empty when the location is free
+     */
+    default Uni<Optional<PayloadReference>> existing(RepositoryWriteRequest request) {
+        PayloadReference candidate = new PayloadReference(
+            providerName(),
+            request.container(),
+            request.key(),
+            request.contentType(),
+            request.codec(),
+            request.checksum(),
+            request.payloadSize(),
+            request.version(),
+            request.metadata(),
+            Optional.empty());
+        return exists(candidate).map(found -> found ? Optional.of(candidate) : Optional.empty());
+    }
+
+    /**
+     * Lists the stored objects of {@code container} whose request key starts with {@code keyPrefix}.
+     *
+     * <p>Content-addressed repositories count the references to a shared payload this way before
+     * deleting it. The returned references carry location and size only, and can be passed to
+     * {@link #delete(PayloadReference)}. Providers that cannot list keep the default, which fails
+     * with {@link UnsupportedOperationException}; shared payloads are then never deleted.</p>
+     *
+     * @param container repository container or bucket name, or {@code null} for the default
+     * @param keyPrefix request key prefix, usually ending in {@code /}
+     * @return references to the matching objects
+     */
+    default Uni<List<PayloadReference>> list(String container, String keyPrefix) {
+        return Uni.createFrom().failure(new UnsupportedOperationException(
+            providerName() + " repository provider cannot list payloads"));
+    }
+
     default Uni<Boolean> exists(PayloadReference reference) {
         return load(reference)
             .onItem().transform(ignored -> true)
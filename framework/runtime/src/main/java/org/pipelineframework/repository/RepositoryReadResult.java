@@ -16,6 +16,8 @@
 
 package org.pipelineframework.repository;
 
+import java.nio.ByteBuffer;
+
 /**
  * Encoded payload read result from a repository provider.
  *
@@ -43,4 +45,22 @@ public record RepositoryReadResult(
     public byte[] payload() {
         return payload.clone();
     }
+
+    /**
+     * Returns a read-only view of the encoded payload without copying it.
+     *
+     * @return read-only payload buffer positioned at the first byte
+     */
+    public ByteBuffer payloadBuffer() {
+        return ByteBuffer.wrap(payload).asReadOnlyBuffer();
+    }
+
+    /**
+     * Returns the encoded payload length without copying it.
+     *
+     * @return payload length in bytes
+     */
+    public int payloadSize() {
+        return payload.length;
+    }
 }
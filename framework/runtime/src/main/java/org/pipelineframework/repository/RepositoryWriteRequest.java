@@ -16,6 +16,7 @@
 
 package org.pipelineframework.repository;
 
+import java.nio.ByteBuffer;
 import java.util.Map;
 
 /**
@@ -58,6 +59,24 @@ public record RepositoryWriteRequest(
         return payload.clone();
     }
 
+    /**
+     * Returns a read-only view of the encoded payload without copying it.
+     *
+     * @return read-only payload buffer positioned at the first byte
+     */
+    public ByteBuffer payloadBuffer() {
+        return ByteBuffer.wrap(payload).asReadOnlyBuffer();
+    }
+
+    /**
+     * Returns the encoded payload length without copying it.
+     *
+     * @return payload length in bytes
+     */
+    public int payloadSize() {
+        return payload.length;
+    }
+
     private static String normalize(String value) {
         return value == null || value.isBlank() ? null : value.trim();
     }
@@ -29,6 +29,7 @@ import org.pipelineframework.cache.CacheMissException;
 import org.pipelineframework.cache.CachePolicyViolation;
 import org.pipelineframework.context.TransportDispatchMetadata;
 import org.pipelineframework.context.TransportDispatchMetadataHolder;
+import org.pipelineframework.orchestrator.ControlPlaneAdmissionException;
 import org.pipelineframework.transport.http.ProtobufHttpContentTypes;
 import org.pipelineframework.transport.http.ProtobufHttpStatusMapper;
 
@@ -51,6 +52,7 @@ public class RestExceptionMapper {
      *
      * Maps recognised pipeline and framework exceptions to specific HTTP status codes:
      * cache-related exceptions yield 412 Precondition Failed, NotFoundException yields 404 Not Found,
+     * submissions shed by control-plane admission yield 429 Too Many Requests with a Retry-After header,
      * IllegalArgumentException yields 400 Bad Request, and all other exceptions yield 500 Internal Server Error.
      *
      * @param ex the exception thrown by a resource or during request processing
@@ -88,6 +90,13 @@ public class RestExceptionMapper {
                     .build();
             }
             Throwable rootCause = rootCause(ex);
+            if (rootCause instanceof ControlPlaneAdmissionException admission && admission.decision().retryable()) {
+                LOG.debug("Submission shed by control-plane admission", ex);
+                return Response.status(429)
+                    .header("Retry-After", admission.decision().retryAfterSeconds())
+                    .entity(admission.getMessage())
+                    .build();
+            }
             if (rootCause instanceof StatusRuntimeException statusRuntimeException
                 && statusRuntimeException.getStatus().getCode() == io.grpc.Status.Code.DEADLINE_EXCEEDED) {
                 LOG.warn("Request exceeded absolute dispatch deadline", ex);
@@ -16,11 +16,16 @@
 
 package org.pipelineframework.rest;
 
+import java.io.InputStream;
 import java.util.concurrent.CancellationException;
+import java.util.function.Function;
 
+import com.google.protobuf.MessageLite;
+import com.google.protobuf.Parser;
 import io.smallrye.mutiny.Multi;
 import org.pipelineframework.service.ReactiveBidirectionalStreamingService;
 import org.pipelineframework.telemetry.HttpMetrics;
+import org.pipelineframework.transport.http.ProtobufHttpStreams;
 
 /**
  * Base adapter for REST resources that accept and return streaming DTOs.
@@ -106,4 +111,26 @@ public abstract class RestReactiveBidirectionalStreamingServiceAdapter<DtoIn, Dt
                     serviceName, "process", resolved, startNanos);
             });
     }
+
+    /**
+     * Process a length-delimited protobuf request stream through {@link #remoteProcess}.
+     *
+     * Request frames are decoded as the service consumes them, and each output is sent as one frame.
+     *
+     * @param body the {@code application/x-protobuf-stream} request body
+     * @param parser the parser of the request message type
+     * @param fromMessage converts a request message into the REST input DTO
+     * @param toMessage converts a REST output DTO into its message
+     * @param <MessageIn> the request message type
+     * @param <MessageOut> the response message type
+     * @return the encoded response frames
+     */
+    public <MessageIn, MessageOut extends MessageLite> Multi<byte[]> remoteProcessFrames(
+            InputStream body,
+            Parser<MessageIn> parser,
+            Function<MessageIn, DtoIn> fromMessage,
+            Function<DtoOut, MessageOut> toMessage) {
+        Multi<DtoIn> requests = ProtobufHttpStreams.decode(body, parser).onItem().transform(fromMessage);
+        return ProtobufHttpStreams.encode(remoteProcess(requests).onItem().transform(toMessage));
+    }
 }
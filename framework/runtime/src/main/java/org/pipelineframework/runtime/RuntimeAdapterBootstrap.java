@@ -37,17 +37,23 @@ import jakarta.enterprise.context.ContextNotActiveException;
 import jakarta.enterprise.inject.Instance;
 import jakarta.enterprise.inject.spi.CDI;
 import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.jboss.logging.Logger;
+import org.pipelineframework.cache.ProtobufMessageParser;
 import org.pipelineframework.config.PipelineConfig;
 import org.pipelineframework.config.PipelineStepConfig;
 import org.pipelineframework.context.PipelineContext;
 import org.pipelineframework.runtime.core.EventBusBridge;
 import org.pipelineframework.runtime.core.ExecutionContextCarrier;
+import org.pipelineframework.runtime.core.ExecutionContextKey;
+import org.pipelineframework.runtime.core.ExecutionContextSlots;
 import org.pipelineframework.runtime.core.ReactiveRuntime;
 import org.pipelineframework.runtime.core.RuntimeAdapters;
 import org.pipelineframework.runtime.core.SchedulerBoundary;
+import org.pipelineframework.runtime.core.ScopedExecutionContextCarrier;
 import org.pipelineframework.runtime.core.TransactionBoundary;
 import org.pipelineframework.runtime.core.WorkDispatcher;
+import org.pipelineframework.util.ProtobufMessageRegistry;
 
 /**
  * Bootstrapper that wires Quarkus runtime implementations into framework-core adapters.
@@ -61,6 +67,10 @@ public class RuntimeAdapterBootstrap {
     PipelineConfig pipelineConfig;
     @Inject
     PipelineStepConfig pipelineStepConfig;
+    @Inject
+    Instance<ProtobufMessageParser> protobufMessageParsers;
+    @ConfigProperty(name = "pipeline.blocking.scoped-context", defaultValue = "false")
+    boolean scopedContext;
 
     private final Executor virtualThreadExecutor = Executors.newThreadPerTaskExecutor(
         Thread.ofVirtual().name(EXECUTOR_THREAD_NAME, 0).factory()
@@ -73,12 +83,17 @@ public class RuntimeAdapterBootstrap {
     void onStart(@Observes StartupEvent event) {
         RuntimeAdapters.registerBeanLookup(new QuarkusBeanLookup());
         RuntimeAdapters.registerConfigProvider(new QuarkusConfigProvider());
-        RuntimeAdapters.registerExecutionContextCarrier(new QuarkusExecutionContextCarrier());
+        ExecutionContextCarrier carrier = new QuarkusExecutionContextCarrier();
+        RuntimeAdapters.registerExecutionContextCarrier(
+            scopedContext ? new ScopedExecutionContextCarrier(carrier) : carrier);
         RuntimeAdapters.registerReactiveRuntime(new QuarkusReactiveRuntime());
         RuntimeAdapters.registerSchedulerBoundary(new QuarkusSchedulerBoundary());
         RuntimeAdapters.registerTransactionBoundary(new QuarkusTransactionBoundary());
         RuntimeAdapters.registerEventBusBridge(new QuarkusEventBusBridge());
         RuntimeAdapters.registerWorkDispatcher(new QuarkusWorkDispatcher());
+        if (protobufMessageParsers != null) {
+            ProtobufMessageRegistry.registerAll(protobufMessageParsers);
+        }
 
         // Ensure baseline values are available during startup.
         if (pipelineConfig == null) {
@@ -129,8 +144,8 @@ public class RuntimeAdapterBootstrap {
     }
 
     private final class QuarkusExecutionContextCarrier implements ExecutionContextCarrier {
-        private static final ThreadLocal<java.util.Map<String, Object>> FALLBACK =
-            ThreadLocal.withInitial(java.util.HashMap::new);
+        private static final ThreadLocal<ExecutionContextSlots> FALLBACK =
+            ThreadLocal.withInitial(ExecutionContextSlots::new);
         private final Set<String> trackedKeys = ConcurrentHashMap.newKeySet();
 
         @Override
@@ -173,11 +188,10 @@ public class RuntimeAdapterBootstrap {
                     // Fall back to thread-local cache below.
                 }
             }
+            FALLBACK.get().put(key, value);
             if (value == null) {
-                FALLBACK.get().remove(key);
                 trackedKeys.remove(key);
             } else {
-                FALLBACK.get().put(key, value);
                 trackedKeys.add(key);
             }
         }
@@ -197,7 +211,7 @@ public class RuntimeAdapterBootstrap {
                     // Fall back to thread-local cache.
                 }
             }
-            FALLBACK.get().remove(key);
+            FALLBACK.get().put(key, null);
             trackedKeys.remove(key);
         }
 
@@ -216,6 +230,23 @@ public class RuntimeAdapterBootstrap {
             FALLBACK.remove();
             trackedKeys.clear();
         }
+
+        @Override
+        public Object[] capture(ExecutionContextKey<?>[] keys) {
+            if (Vertx.currentContext() == null) {
+                return FALLBACK.get().capture(keys);
+            }
+            return ExecutionContextCarrier.super.capture(keys);
+        }
+
+        @Override
+        public void restore(ExecutionContextKey<?>[] keys, Object[] values) {
+            if (Vertx.currentContext() == null) {
+                FALLBACK.get().restore(keys, values);
+                return;
+            }
+            ExecutionContextCarrier.super.restore(keys, values);
+        }
     }
 
     private final class QuarkusReactiveRuntime implements ReactiveRuntime {
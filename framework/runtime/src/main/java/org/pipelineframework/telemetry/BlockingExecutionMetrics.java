@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2023-2025 Mariano Barcia
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND.
+ */
+package org.pipelineframework.telemetry;
+
+/** Compatibility delegates for the focused blocking-offload metrics adapter. */
+public final class BlockingExecutionMetrics {
+    private BlockingExecutionMetrics() { }
+
+    private static BlockingExecutionMetricsRecorder delegate() {
+        return TelemetryCompatibilityAccess.adapter(
+            BlockingExecutionMetricsRecorder.class, BlockingExecutionMetricsRecorder::new);
+    }
+
+    public static void adjustInFlight(String stepClass, long delta) {
+        delegate().adjustInFlight(stepClass, delta);
+    }
+
+    public static void recordPermitWait(String stepClass, long waitNanos) {
+        delegate().recordPermitWait(stepClass, waitNanos);
+    }
+
+    public static void recordPinned(String stepClass, long durationNanos) {
+        delegate().recordPinned(stepClass, durationNanos);
+    }
+}
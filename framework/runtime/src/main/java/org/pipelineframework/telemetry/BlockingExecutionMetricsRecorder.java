@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2023-2025 Mariano Barcia
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.pipelineframework.telemetry;
+
+import jakarta.inject.Singleton;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.Meter;
+
+/**
+ * Records virtual-thread offload metrics for blocking steps: in-flight invocations, time spent
+ * waiting for a per-step permit, and carrier pinning observed through JFR.
+ */
+@Singleton
+final class BlockingExecutionMetricsRecorder {
+
+    private final AttributeKey<String> STEP_CLASS = AttributeKey.stringKey("tpf.step.class");
+
+    BlockingExecutionMetricsRecorder() {
+    }
+
+    /**
+     * Track a blocking invocation entering or leaving a virtual thread.
+     *
+     * @param stepClass step class name
+     * @param delta {@code 1} when the invocation starts, {@code -1} when it ends
+     */
+    public void adjustInFlight(String stepClass, long delta) {
+        meter().upDownCounterBuilder("tpf.blocking.in_flight")
+            .setDescription("Blocking step invocations running on virtual threads")
+            .build()
+            .add(delta, attributes(stepClass));
+    }
+
+    /**
+     * Record how long an invocation waited for its step's in-flight permit.
+     *
+     * @param stepClass step class name
+     * @param waitNanos wait time in nanoseconds
+     */
+    public void recordPermitWait(String stepClass, long waitNanos) {
+        meter().histogramBuilder("tpf.blocking.permit.wait")
+            .setDescription("Time blocking step invocations waited for an in-flight permit")
+            .setUnit("ms")
+            .build()
+            .record(waitNanos / 1_000_000.0, attributes(stepClass));
+    }
+
+    /**
+     * Record a virtual thread pinned to its carrier.
+     *
+     * @param stepClass step class found on the pinned stack, or {@code null} when unknown
+     * @param durationNanos pinned duration in nanoseconds
+     */
+    public void recordPinned(String stepClass, long durationNanos) {
+        Attributes attributes = attributes(stepClass);
+        Meter meter = meter();
+        meter.counterBuilder("tpf.blocking.virtual_thread.pinned")
+            .setDescription("Virtual threads pinned to their carrier while blocked")
+            .build()
+            .add(1, attributes);
+        meter.histogramBuilder("tpf.blocking.virtual_thread.pinned.duration")
+            .setDescription("Time virtual threads stayed pinned to their carrier")
+            .setUnit("ms")
+            .build()
+            .record(durationNanos / 1_000_000.0, attributes);
+    }
+
+    private Attributes attributes(String stepClass) {
+        return Attributes.of(STEP_CLASS, stepClass == null ? "unknown" : stepClass);
+    }
+
+    private Meter meter() {
+        return TelemetryCompatibilityAccess.metricsRuntime().meter("org.pipelineframework.blocking");
+    }
+}
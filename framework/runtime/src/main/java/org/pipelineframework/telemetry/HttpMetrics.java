@@ -34,4 +34,12 @@ public final class HttpMetrics {
     public static void recordHttpClient(String service, String method, Throwable failure, long startNanos) {
         delegate().recordHttpClient(service, method, failure, startNanos);
     }
+
+    public static void adjustRemoteInFlight(String target, long delta) {
+        delegate().adjustRemoteInFlight(target, delta);
+    }
+
+    public static void recordRemoteRequest(String target, int statusCode, long durationNanos) {
+        delegate().recordRemoteRequest(target, statusCode, durationNanos);
+    }
 }
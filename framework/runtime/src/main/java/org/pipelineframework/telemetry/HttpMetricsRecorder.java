@@ -25,12 +25,16 @@ import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.metrics.DoubleHistogram;
 import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.LongUpDownCounter;
 import io.opentelemetry.api.metrics.Meter;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 
 /**
  * Records OpenTelemetry HTTP metrics for REST calls using SLO-friendly counters.
+ *
+ * <p>Instruments are built once per meter and reused, so recording on the request path does not go through the
+ * instrument builders. They are rebuilt when the telemetry runtime hands out a different meter.</p>
  */
 @Singleton
 final class HttpMetricsRecorder {
@@ -39,6 +43,9 @@ final class HttpMetricsRecorder {
     private final AttributeKey<String> RPC_SERVICE = AttributeKey.stringKey("rpc.service");
     private final AttributeKey<String> RPC_METHOD = AttributeKey.stringKey("rpc.method");
     private final AttributeKey<Long> HTTP_STATUS = AttributeKey.longKey("http.status_code");
+    private final AttributeKey<String> SERVER_ADDRESS = AttributeKey.stringKey("server.address");
+    private volatile Instruments instruments;
+    private volatile RemoteInstruments remoteInstruments;
 
     HttpMetricsRecorder() {
     }
@@ -113,6 +120,50 @@ final class HttpMetricsRecorder {
         recordHttpClient(service, method, status, System.nanoTime() - startNanos);
     }
 
+    /**
+     * Track a remote HTTP request entering or leaving flight on the shared client.
+     *
+     * @param target target authority ({@code host:port})
+     * @param delta {@code 1} when a request is sent, {@code -1} when it completes
+     */
+    public void adjustRemoteInFlight(String target, long delta) {
+        if (target == null) {
+            return;
+        }
+        remoteInstruments().activeRequests().add(delta, Attributes.of(SERVER_ADDRESS, target));
+    }
+
+    /**
+     * Record latency of a completed remote HTTP request on the shared client.
+     *
+     * @param target target authority ({@code host:port})
+     * @param statusCode response status, or {@code 0} when no response was received
+     * @param durationNanos request duration in nanoseconds
+     */
+    public void recordRemoteRequest(String target, int statusCode, long durationNanos) {
+        if (target == null) {
+            return;
+        }
+        remoteInstruments().duration()
+            .record(durationNanos / 1_000_000.0, Attributes.of(SERVER_ADDRESS, target, HTTP_STATUS, (long) statusCode));
+    }
+
+    private RemoteInstruments remoteInstruments() {
+        Meter meter = meter();
+        RemoteInstruments current = remoteInstruments;
+        if (current == null || current.meter() != meter) {
+            current = new RemoteInstruments(meter,
+                meter.upDownCounterBuilder("tpf.http.client.active_requests").build(),
+                meter.histogramBuilder("tpf.http.client.duration").setUnit("ms").build());
+            remoteInstruments = current;
+        }
+        return current;
+    }
+
+    private Meter meter() {
+        return TelemetryCompatibilityAccess.metricsRuntime().meter("org.pipelineframework.http");
+    }
+
     private void recordHttpServer(String service, String method, int statusCode, long durationNanos) {
         if (service == null || method == null) {
             return;
@@ -175,17 +226,25 @@ final class HttpMetricsRecorder {
     }
 
     private Instruments instruments() {
-        Meter meter = TelemetryCompatibilityAccess.metricsRuntime().meter("org.pipelineframework.http");
-        return new Instruments(
+        Meter meter = meter();
+        Instruments current = instruments;
+        if (current != null && current.meter() == meter) {
+            return current;
+        }
+        current = new Instruments(meter,
             meter.counterBuilder("rpc.server.requests").build(), meter.counterBuilder("rpc.server.responses").build(),
             meter.histogramBuilder("rpc.server.duration").setUnit("ms").build(),
             meter.counterBuilder("tpf.slo.rpc.server.total").build(), meter.counterBuilder("tpf.slo.rpc.server.good").build(),
             meter.counterBuilder("tpf.slo.rpc.server.latency.total").build(), meter.counterBuilder("tpf.slo.rpc.server.latency.good").build(),
             meter.counterBuilder("tpf.slo.rpc.client.total").build(), meter.counterBuilder("tpf.slo.rpc.client.good").build(),
             meter.counterBuilder("tpf.slo.rpc.client.latency.total").build(), meter.counterBuilder("tpf.slo.rpc.client.latency.good").build());
+        instruments = current;
+        return current;
     }
 
-    private record Instruments(LongCounter serverRequests, LongCounter serverResponses, DoubleHistogram serverDuration,
+    private record RemoteInstruments(Meter meter, LongUpDownCounter activeRequests, DoubleHistogram duration) { }
+
+    private record Instruments(Meter meter, LongCounter serverRequests, LongCounter serverResponses, DoubleHistogram serverDuration,
         LongCounter sloServerTotal, LongCounter sloServerGood, LongCounter sloServerLatencyTotal,
         LongCounter sloServerLatencyGood, LongCounter sloClientTotal, LongCounter sloClientGood,
         LongCounter sloClientLatencyTotal, LongCounter sloClientLatencyGood) { }
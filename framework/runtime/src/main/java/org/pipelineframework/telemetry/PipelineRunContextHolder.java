@@ -20,18 +20,21 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Supplier;
 
+import org.pipelineframework.runtime.core.ExecutionContextKey;
 import org.pipelineframework.runtime.core.RuntimeAdapters;
 
 /** Carries the owning root run context across reactive invocation boundaries. */
 public final class PipelineRunContextHolder {
 
-    private static final String CONTEXT_KEY = PipelineRunContextHolder.class.getName() + ".context";
+    /** Slot-registered carrier key, for capturing this holder's value together with others. */
+    public static final ExecutionContextKey<PipelineRunContext> CONTEXT_KEY =
+        ExecutionContextKey.of(PipelineRunContextHolder.class.getName() + ".context", PipelineRunContext.class);
 
     private PipelineRunContextHolder() {
     }
 
     public static Optional<PipelineRunContext> get() {
-        return Optional.ofNullable(RuntimeAdapters.executionContext(CONTEXT_KEY, PipelineRunContext.class));
+        return Optional.ofNullable(RuntimeAdapters.executionContext(CONTEXT_KEY));
     }
 
     public static void set(PipelineRunContext context) {
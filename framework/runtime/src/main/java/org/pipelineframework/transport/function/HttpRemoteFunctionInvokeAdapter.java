@@ -31,16 +31,17 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.protobuf.BytesValue;
 import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.UnsafeByteOperations;
 import com.google.rpc.Code;
 import com.google.rpc.Status;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
-import io.smallrye.mutiny.infrastructure.Infrastructure;
 import org.eclipse.microprofile.config.Config;
 import org.eclipse.microprofile.config.ConfigProvider;
 import org.pipelineframework.context.PipelineContextHeaders;
 import org.pipelineframework.transport.http.ProtobufHttpContentTypes;
 import org.pipelineframework.transport.http.ProtobufHttpStatusMapper;
+import org.pipelineframework.transport.http.RemoteHttpClients;
 
 /**
  * Remote invoke adapter that dispatches envelopes to an HTTP endpoint.
@@ -66,12 +67,7 @@ public final class HttpRemoteFunctionInvokeAdapter<I, O> implements FunctionInvo
     private final ObjectMapper objectMapper;
 
     public HttpRemoteFunctionInvokeAdapter() {
-        this(
-            HttpClient.newBuilder()
-                .connectTimeout(DEFAULT_TIMEOUT)
-                .followRedirects(HttpClient.Redirect.NORMAL)
-                .build(),
-            new ObjectMapper().findAndRegisterModules());
+        this(RemoteHttpClients.shared(HttpClient.Redirect.NORMAL), new ObjectMapper().findAndRegisterModules());
     }
 
     HttpRemoteFunctionInvokeAdapter(HttpClient httpClient, ObjectMapper objectMapper) {
@@ -112,67 +108,63 @@ public final class HttpRemoteFunctionInvokeAdapter<I, O> implements FunctionInvo
     }
 
     private Uni<TraceEnvelope<O>> postForSingle(Object payload, FunctionTransportContext context) {
-        return Uni.createFrom().item(() -> {
-            try {
-                HttpResponse<byte[]> response = send(payload, context);
-                JsonNode node = decodeResponseAsJsonTree(response, context);
-                if (node == null || node.isNull()) {
-                    throw new IllegalStateException("Remote function response body was empty");
-                }
-                return castEnvelope(objectMapper.convertValue(node, TraceEnvelope.class));
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                throw new IllegalStateException("Remote function invocation was interrupted", e);
-            } catch (IllegalArgumentException e) {
-                throw new IllegalStateException("Malformed target URL for remote function invocation", e);
-            } catch (IOException e) {
-                throw new IllegalStateException("Failed to parse remote function response", e);
+        return send(payload, context).onItem().transform(response -> {
+            JsonNode node = decodeResponseAsJsonTree(response, context);
+            if (node == null || node.isNull()) {
+                throw new IllegalStateException("Remote function response body was empty");
             }
-        }).runSubscriptionOn(Infrastructure.getDefaultExecutor());
+            return castEnvelope(objectMapper.convertValue(node, TraceEnvelope.class));
+        });
     }
 
     private Uni<List<TraceEnvelope<O>>> postForMany(Object payload, FunctionTransportContext context) {
-        return Uni.createFrom().item(() -> {
+        return send(payload, context).onItem().transform(response -> {
+            JsonNode node = decodeResponseAsJsonTree(response, context);
+            if (node == null || node.isNull()) {
+                throw new IllegalStateException("Remote function response body was empty");
+            }
+            if (!node.isArray()) {
+                throw new IllegalStateException("Remote function response must be a JSON array for streaming output");
+            }
+            List<TraceEnvelope<O>> envelopes = new ArrayList<>(node.size());
+            for (JsonNode item : node) {
+                envelopes.add(castEnvelope(objectMapper.convertValue(item, TraceEnvelope.class)));
+            }
+            return List.copyOf(envelopes);
+        });
+    }
+
+    private Uni<HttpResponse<byte[]>> send(Object payload, FunctionTransportContext context) {
+        return Uni.createFrom().deferred(() -> {
+            String targetUrl = resolveTargetUrl(context);
+            HttpRequest request;
             try {
-                HttpResponse<byte[]> response = send(payload, context);
-                JsonNode node = decodeResponseAsJsonTree(response, context);
-                if (node == null || node.isNull()) {
-                    throw new IllegalStateException("Remote function response body was empty");
-                }
-                if (!node.isArray()) {
-                    throw new IllegalStateException("Remote function response must be a JSON array for streaming output");
-                }
-                List<TraceEnvelope<O>> envelopes = new ArrayList<>(node.size());
-                for (JsonNode item : node) {
-                    envelopes.add(castEnvelope(objectMapper.convertValue(item, TraceEnvelope.class)));
-                }
-                return List.copyOf(envelopes);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                throw new IllegalStateException("Remote function invocation was interrupted", e);
+                WirePayload wirePayload = encodeRequestPayload(payload, context);
+                HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(URI.create(targetUrl))
+                    .timeout(DEFAULT_TIMEOUT)
+                    .header("Content-Type", wirePayload.contentType())
+                    .header("Accept", wirePayload.accept())
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(wirePayload.body()));
+                applyCanonicalHeaders(requestBuilder, payload, context);
+                request = requestBuilder.build();
             } catch (IllegalArgumentException e) {
-                throw new IllegalStateException("Malformed target URL for remote function invocation", e);
+                return Uni.createFrom().failure(
+                    new IllegalStateException("Malformed target URL for remote function invocation", e));
             } catch (IOException e) {
-                throw new IllegalStateException("Failed to parse remote function response", e);
+                return Uni.createFrom().failure(
+                    new IllegalStateException("Failed to encode remote function request", e));
             }
-        }).runSubscriptionOn(Infrastructure.getDefaultExecutor());
-    }
-
-    private HttpResponse<byte[]> send(Object payload, FunctionTransportContext context) throws IOException, InterruptedException {
-        String targetUrl = resolveTargetUrl(context);
-        WirePayload wirePayload = encodeRequestPayload(payload, context);
-        HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(URI.create(targetUrl))
-            .timeout(DEFAULT_TIMEOUT)
-            .header("Content-Type", wirePayload.contentType())
-            .header("Accept", wirePayload.accept())
-            .POST(HttpRequest.BodyPublishers.ofByteArray(wirePayload.body()));
-        applyCanonicalHeaders(requestBuilder, payload, context);
-        HttpRequest request = requestBuilder.build();
-        HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
-        if (response.statusCode() < 200 || response.statusCode() >= 300) {
-            throw toRemoteFailure(response, targetUrl, context);
-        }
-        return response;
+            return Uni.createFrom().completionStage(() ->
+                    RemoteHttpClients.sendAsync(httpClient, request, HttpResponse.BodyHandlers.ofByteArray()))
+                .onFailure(IOException.class).transform(e ->
+                    new IllegalStateException("Remote function invocation failed at " + targetUrl, e))
+                .onItem().transform(response -> {
+                    if (response.statusCode() < 200 || response.statusCode() >= 300) {
+                        throw toRemoteFailure(response, targetUrl, context);
+                    }
+                    return response;
+                });
+        });
     }
 
     private void applyCanonicalHeaders(
@@ -213,9 +205,8 @@ public final class HttpRemoteFunctionInvokeAdapter<I, O> implements FunctionInvo
 
     private WirePayload encodeRequestPayload(Object payload, FunctionTransportContext context) throws IOException {
         if (useProtobufHttpV1(context)) {
-            String jsonPayload = objectMapper.writeValueAsString(payload);
             BytesValue bytesValue = BytesValue.newBuilder()
-                .setValue(com.google.protobuf.ByteString.copyFromUtf8(jsonPayload))
+                .setValue(UnsafeByteOperations.unsafeWrap(objectMapper.writeValueAsBytes(payload)))
                 .build();
             return new WirePayload(
                 bytesValue.toByteArray(),
@@ -228,7 +219,7 @@ public final class HttpRemoteFunctionInvokeAdapter<I, O> implements FunctionInvo
             ProtobufHttpContentTypes.APPLICATION_JSON);
     }
 
-    private JsonNode decodeResponseAsJsonTree(HttpResponse<byte[]> response, FunctionTransportContext context) throws IOException {
+    private JsonNode decodeResponseAsJsonTree(HttpResponse<byte[]> response, FunctionTransportContext context) {
         String contentType = response.headers().firstValue("Content-Type").orElse("");
         byte[] body = response.body() == null ? new byte[0] : response.body();
         String normalizedContentType = contentType.toLowerCase(java.util.Locale.ROOT);
@@ -241,9 +232,15 @@ public final class HttpRemoteFunctionInvokeAdapter<I, O> implements FunctionInvo
                 return objectMapper.readTree(json);
             } catch (InvalidProtocolBufferException e) {
                 throw new IllegalStateException("Failed to decode protobuf response payload", e);
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to parse remote function response", e);
             }
         }
-        return objectMapper.readTree(body);
+        try {
+            return objectMapper.readTree(body);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to parse remote function response", e);
+        }
     }
 
     private RuntimeException toRemoteFailure(HttpResponse<byte[]> response, String targetUrl, FunctionTransportContext context) {
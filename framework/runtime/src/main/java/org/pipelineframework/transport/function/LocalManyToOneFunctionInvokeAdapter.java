@@ -18,6 +18,7 @@ package org.pipelineframework.transport.function;
 
 import java.math.BigDecimal;
 import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
 import java.lang.reflect.Method;
 import java.lang.reflect.RecordComponent;
 import java.nio.charset.StandardCharsets;
@@ -30,15 +31,21 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import com.google.protobuf.MessageLite;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 
 /**
  * Local invoke adapter for N->1 function transport flows.
  *
+ * <p>By default the bounded batch is collected and sorted before the delegate sees it, see
+ * {@link ManyToOneAggregationMode}.</p>
+ *
  * @param <I> input payload type
  * @param <O> output payload type
  */
@@ -47,10 +54,15 @@ public final class LocalManyToOneFunctionInvokeAdapter<I, O> implements Function
         .comparing((TraceEnvelope<?> envelope) -> AdapterUtils.normalizeOrDefault(envelope.itemId(), ""))
         .thenComparing(envelope -> AdapterUtils.normalizeOrDefault(envelope.idempotencyKey(), ""));
 
+    private static final int MAX_STREAMED_ITEM_IDS = 1024;
+    private static final int MAX_STREAMED_META_KEYS = 64;
+    private static final int MAX_STREAMED_META_VALUES = 64;
+
     private final Function<Multi<I>, Uni<O>> delegate;
     private final String outputPayloadModel;
     private final String outputPayloadModelVersion;
     private final BatchingPolicy batchingPolicy;
+    private final ManyToOneAggregationMode aggregationMode;
 
     /**
      * Creates a local invoke adapter.
@@ -71,10 +83,47 @@ public final class LocalManyToOneFunctionInvokeAdapter<I, O> implements Function
             String outputPayloadModel,
             String outputPayloadModelVersion,
             BatchingPolicy batchingPolicy) {
+        this(delegate, outputPayloadModel, outputPayloadModelVersion, batchingPolicy,
+            ManyToOneAggregationMode.COLLECT_ORDERED);
+    }
+
+    /**
+     * Creates a local invoke adapter with the default batching policy and the given aggregation mode.
+     * Generated function handlers use this with {@link ManyToOneAggregationMode#configured(String)}.
+     *
+     * @param delegate delegate function
+     * @param outputPayloadModel output model name
+     * @param outputPayloadModelVersion output model version
+     * @param aggregationMode whether inputs are collected and ordered or streamed through
+     */
+    public LocalManyToOneFunctionInvokeAdapter(
+            Function<Multi<I>, Uni<O>> delegate,
+            String outputPayloadModel,
+            String outputPayloadModelVersion,
+            ManyToOneAggregationMode aggregationMode) {
+        this(delegate, outputPayloadModel, outputPayloadModelVersion, BatchingPolicy.defaultPolicy(), aggregationMode);
+    }
+
+    /**
+     * Creates a local invoke adapter with an explicit aggregation mode.
+     *
+     * @param delegate delegate function
+     * @param outputPayloadModel output model name
+     * @param outputPayloadModelVersion output model version
+     * @param batchingPolicy batch bounds applied to the input stream
+     * @param aggregationMode whether inputs are collected and ordered or streamed through
+     */
+    public LocalManyToOneFunctionInvokeAdapter(
+            Function<Multi<I>, Uni<O>> delegate,
+            String outputPayloadModel,
+            String outputPayloadModelVersion,
+            BatchingPolicy batchingPolicy,
+            ManyToOneAggregationMode aggregationMode) {
         this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
         this.outputPayloadModel = AdapterUtils.normalizeOrDefault(outputPayloadModel, "unknown.output");
         this.outputPayloadModelVersion = AdapterUtils.normalizeOrDefault(outputPayloadModelVersion, "v1");
         this.batchingPolicy = Objects.requireNonNull(batchingPolicy, "batchingPolicy must not be null");
+        this.aggregationMode = Objects.requireNonNull(aggregationMode, "aggregationMode must not be null");
     }
 
     @Override
@@ -82,6 +131,9 @@ public final class LocalManyToOneFunctionInvokeAdapter<I, O> implements Function
         Objects.requireNonNull(input, "input stream must not be null");
         // Context is validated for interface contract consistency; local aggregation currently has no context-specific behavior.
         Objects.requireNonNull(context, "context must not be null");
+        if (aggregationMode == ManyToOneAggregationMode.STREAMING) {
+            return invokeStreaming(input, context);
+        }
         return boundedCollect(input).onItem().transformToUni(envelopes -> {
             Multi<I> payloadStream = Multi.createFrom().iterable(envelopes).onItem().transform(TraceEnvelope::payload);
             return delegate.apply(payloadStream)
@@ -91,6 +143,215 @@ public final class LocalManyToOneFunctionInvokeAdapter<I, O> implements Function
         });
     }
 
+    private Uni<TraceEnvelope<O>> invokeStreaming(Multi<TraceEnvelope<I>> input, FunctionTransportContext context) {
+        return Uni.createFrom().deferred(() -> {
+            StreamingLineage lineage = new StreamingLineage();
+            Multi<I> payloadStream = boundedStream(input)
+                .onItem().transform(envelope -> {
+                    lineage.accept(envelope);
+                    return envelope.payload();
+                });
+            return delegate.apply(payloadStream)
+                .onItem().ifNull().failWith(() -> new NullPointerException(
+                    "LocalManyToOneFunctionInvokeAdapter delegate emitted null output"))
+                .onItem().transform(output -> lineage.toEnvelope(output, context));
+        });
+    }
+
+    private Multi<TraceEnvelope<I>> boundedStream(Multi<TraceEnvelope<I>> input) {
+        return Multi.createFrom().deferred(() -> {
+            BatchBudget budget = new BatchBudget();
+            Multi<TraceEnvelope<I>> envelopes = input.select().where(Objects::nonNull);
+            return switch (batchingPolicy.overflowPolicy()) {
+                case FAIL -> envelopes.onItem().transform(envelope -> {
+                    if (!budget.admit(envelope)) {
+                        throw new IllegalStateException(
+                            "Function invoke overflow detected with overflowPolicy="
+                                + batchingPolicy.overflowPolicy() + ": batch exceeded maxItems="
+                                + batchingPolicy.maxItems() + " or maxBytes=" + batchingPolicy.maxBytes());
+                    }
+                    return envelope;
+                });
+                case DROP, BUFFER -> envelopes.select().first(budget::admit);
+            };
+        });
+    }
+
+    /**
+     * Per-subscription item and byte counters. The first envelope is always admitted so a single
+     * oversized input still makes progress instead of producing an empty batch.
+     */
+    private final class BatchBudget {
+        private int items;
+        private long bytes;
+
+        private boolean admit(TraceEnvelope<I> envelope) {
+            long size = estimatedSize(envelope);
+            if (items > 0 && (items >= batchingPolicy.maxItems() || bytes + size > batchingPolicy.maxBytes())) {
+                return false;
+            }
+            items++;
+            bytes += size;
+            return true;
+        }
+    }
+
+    /**
+     * Estimates the serialized size of an envelope from its identifiers, metadata, and payload.
+     * Payloads whose size is not known without serializing them (plain DTOs) count as zero bytes.
+     */
+    private static long estimatedSize(TraceEnvelope<?> envelope) {
+        long size = length(envelope.traceId()) + length(envelope.itemId()) + length(envelope.idempotencyKey());
+        if (envelope.meta() != null) {
+            for (Map.Entry<String, String> entry : envelope.meta().entrySet()) {
+                size += length(entry.getKey()) + length(entry.getValue());
+            }
+        }
+        Object payload = envelope.payload();
+        if (payload instanceof byte[] bytes) {
+            size += bytes.length;
+        } else if (payload instanceof ByteBuffer buffer) {
+            size += buffer.remaining();
+        } else if (payload instanceof CharSequence text) {
+            size += text.length();
+        } else if (payload instanceof MessageLite message) {
+            size += message.getSerializedSize();
+        }
+        return size;
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    /**
+     * Merge lineage accumulated while envelopes stream through, independent of arrival order.
+     *
+     * <p>Item ids and idempotency components are hashed one by one and the hashes summed modulo
+     * 2<sup>256</sup>, so the merged item id and idempotency key depend only on the set of inputs. The
+     * lineage head is the input that sorts first, as in collected mode. {@code previousItemIds} keeps the
+     * {@value #MAX_STREAMED_ITEM_IDS} smallest item ids and records how many were omitted; merged metadata
+     * keeps up to {@value #MAX_STREAMED_META_KEYS} keys with up to {@value #MAX_STREAMED_META_VALUES} sorted,
+     * distinct values each. The state therefore stays bounded however long the stream runs.</p>
+     */
+    private final class StreamingLineage {
+        private final byte[] itemIdSum = new byte[32];
+        private final byte[] idempotencySum = new byte[32];
+        private final TreeMap<String, TreeSet<String>> meta = new TreeMap<>();
+        private final TreeMap<String, Integer> previousItemIds = new TreeMap<>();
+        private String firstTraceId;
+        private String firstItemId;
+        private String firstIdempotencyKey;
+        private long count;
+        private long omittedItemIds;
+
+        private void accept(TraceEnvelope<I> envelope) {
+            String normalizedItemId = AdapterUtils.normalizeOrDefault(envelope.itemId(), "item");
+            String idempotencyComponent = AdapterUtils.normalizeOrDefault(envelope.idempotencyKey(), normalizedItemId);
+            if (count++ == 0 || sortsFirst(envelope)) {
+                firstTraceId = envelope.traceId();
+                firstItemId = envelope.itemId();
+                firstIdempotencyKey = envelope.idempotencyKey();
+            }
+            addHash(itemIdSum, normalizedItemId);
+            addHash(idempotencySum, idempotencyComponent);
+            if (envelope.meta() != null) {
+                for (Map.Entry<String, String> entry : envelope.meta().entrySet()) {
+                    if (entry.getKey() != null) {
+                        mergeMeta(entry.getKey(), AdapterUtils.normalizeOrDefault(entry.getValue(), ""));
+                    }
+                }
+            }
+            if (envelope.itemId() != null) {
+                previousItemIds.merge(envelope.itemId(), 1, Integer::sum);
+                if (previousItemIds.size() > MAX_STREAMED_ITEM_IDS) {
+                    omittedItemIds += previousItemIds.pollLastEntry().getValue();
+                }
+            }
+        }
+
+        private boolean sortsFirst(TraceEnvelope<I> envelope) {
+            int byItemId = AdapterUtils.normalizeOrDefault(envelope.itemId(), "")
+                .compareTo(AdapterUtils.normalizeOrDefault(firstItemId, ""));
+            if (byItemId != 0) {
+                return byItemId < 0;
+            }
+            return AdapterUtils.normalizeOrDefault(envelope.idempotencyKey(), "")
+                .compareTo(AdapterUtils.normalizeOrDefault(firstIdempotencyKey, "")) < 0;
+        }
+
+        private void mergeMeta(String key, String value) {
+            TreeSet<String> values = meta.computeIfAbsent(key, ignored -> new TreeSet<>());
+            if (!value.isEmpty()) {
+                values.add(value);
+                if (values.size() > MAX_STREAMED_META_VALUES) {
+                    values.pollLast();
+                }
+            }
+            if (meta.size() > MAX_STREAMED_META_KEYS) {
+                meta.pollLastEntry();
+            }
+        }
+
+        private TraceEnvelope<O> toEnvelope(O output, FunctionTransportContext context) {
+            String traceId = firstTraceId == null || firstTraceId.isBlank()
+                ? AdapterUtils.deriveTraceId(context.requestId())
+                : firstTraceId.strip();
+            TraceLink previous = firstItemId == null ? null : TraceLink.reference(firstItemId);
+            String itemId = count == 0
+                ? AdapterUtils.deterministicId(
+                    "invoke-many-to-one-empty",
+                    traceId,
+                    outputPayloadModel,
+                    outputPayloadModelVersion)
+                : AdapterUtils.deterministicId(
+                    "invoke-many-to-one-stream",
+                    traceId,
+                    outputPayloadModel,
+                    outputPayloadModelVersion,
+                    Long.toString(count),
+                    hex(itemIdSum));
+            String deterministicSuffix = count == 0
+                ? "empty"
+                : "sha256-sum:" + count + ":" + hex(idempotencySum);
+            LinkedHashMap<String, String> merged = new LinkedHashMap<>();
+            meta.forEach((key, values) -> merged.put(key, String.join(",", values)));
+            if (!previousItemIds.isEmpty()) {
+                merged.put("previousItemIds", previousItemIds.entrySet().stream()
+                    .flatMap(entry -> java.util.Collections.nCopies(entry.getValue(), entry.getKey()).stream())
+                    .map(LocalManyToOneFunctionInvokeAdapter.this::escapeCommaDelimitedComponent)
+                    .collect(Collectors.joining(",")));
+            }
+            if (omittedItemIds > 0) {
+                merged.put("previousItemIdsOmitted", Long.toString(omittedItemIds));
+            }
+            if (previous != null && previous.previousItemId() != null) {
+                merged.putIfAbsent("previousItemId", previous.previousItemId());
+            }
+            return new TraceEnvelope<>(
+                traceId,
+                null, // spanId
+                itemId,
+                previous,
+                outputPayloadModel,
+                outputPayloadModelVersion,
+                IdempotencyKeyResolver.resolve(context, traceId, outputPayloadModel, deterministicSuffix),
+                output,
+                null, // occurredAt (generated by TraceEnvelope)
+                Map.copyOf(merged));
+        }
+
+        private void addHash(byte[] sum, String component) {
+            byte[] hash = sha256().digest(component.getBytes(StandardCharsets.UTF_8));
+            int carry = 0;
+            for (int i = sum.length - 1; i >= 0; i--) {
+                int total = (sum[i] & 0xFF) + (hash[i] & 0xFF) + carry;
+                sum[i] = (byte) total;
+                carry = total >>> 8;
+            }
+        }
+    }
+
     private Uni<List<TraceEnvelope<I>>> boundedCollect(Multi<TraceEnvelope<I>> input) {
         int maxItems = batchingPolicy.maxItems();
         return switch (batchingPolicy.overflowPolicy()) {
@@ -418,20 +679,26 @@ public final class LocalManyToOneFunctionInvokeAdapter<I, O> implements Function
      * @throws IllegalStateException if the SHA-256 algorithm is not available on the platform
      */
     private String sha256Hex(String value) {
+        return hex(sha256().digest(value.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static MessageDigest sha256() {
         try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hash = digest.digest(value.getBytes(StandardCharsets.UTF_8));
-            StringBuilder hex = new StringBuilder(hash.length * 2);
-            for (byte b : hash) {
-                hex.append(Character.forDigit((b >>> 4) & 0xF, 16));
-                hex.append(Character.forDigit(b & 0xF, 16));
-            }
-            return hex.toString();
+            return MessageDigest.getInstance("SHA-256");
         } catch (NoSuchAlgorithmException e) {
             throw new IllegalStateException("SHA-256 algorithm is not available", e);
         }
     }
 
+    private static String hex(byte[] hash) {
+        StringBuilder hex = new StringBuilder(hash.length * 2);
+        for (byte b : hash) {
+            hex.append(Character.forDigit((b >>> 4) & 0xF, 16));
+            hex.append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
     /**
      * Casts a comparator with wildcard bounds to a comparator typed to `T`.
      *
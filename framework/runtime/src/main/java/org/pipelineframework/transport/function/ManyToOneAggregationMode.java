@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2023-2026 Mariano Barcia
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.pipelineframework.transport.function;
+
+import java.util.Locale;
+import java.util.Optional;
+
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.ConfigProvider;
+
+/**
+ * How a local N->1 invoke adapter gathers its inputs before producing the merged envelope.
+ */
+public enum ManyToOneAggregationMode {
+    /**
+     * Collect the bounded batch, sort it by stable envelope attributes, then replay it to the
+     * delegate. Merge lineage is independent of arrival order.
+     */
+    COLLECT_ORDERED,
+    /**
+     * Stream envelopes straight into the delegate and accumulate merge lineage as they pass.
+     * Envelopes are not retained and both {@code maxItems} and {@code maxBytes} bound the batch.
+     * The merged item id and idempotency key are still independent of arrival order; lineage
+     * metadata is bounded, de-duplicated and sorted rather than kept in full.
+     */
+    STREAMING;
+
+    static final String CONFIG_PREFIX = "pipeline.function.";
+    static final String CONFIG_SUFFIX = "many-to-one-aggregation";
+
+    /**
+     * Resolves the aggregation mode of a generated function handler from configuration.
+     *
+     * <p>{@code pipeline.function.<handler>.many-to-one-aggregation} wins over
+     * {@code pipeline.function.many-to-one-aggregation}; without either the mode is
+     * {@link #COLLECT_ORDERED}.</p>
+     *
+     * @param handlerName simple name of the generated handler class
+     * @return configured aggregation mode
+     * @throws IllegalArgumentException when the configured value is not a mode name
+     */
+    public static ManyToOneAggregationMode configured(String handlerName) {
+        Config config = ConfigProvider.getConfig();
+        Optional<String> value = Optional.empty();
+        if (handlerName != null && !handlerName.isBlank()) {
+            value = read(config, CONFIG_PREFIX + handlerName.strip() + "." + CONFIG_SUFFIX);
+        }
+        return value.or(() -> read(config, CONFIG_PREFIX + CONFIG_SUFFIX))
+            .map(ManyToOneAggregationMode::parse)
+            .orElse(COLLECT_ORDERED);
+    }
+
+    private static Optional<String> read(Config config, String key) {
+        return config.getOptionalValue(key, String.class)
+            .map(String::strip)
+            .filter(value -> !value.isBlank());
+    }
+
+    private static ManyToOneAggregationMode parse(String value) {
+        try {
+            return valueOf(value.toUpperCase(Locale.ROOT).replace('-', '_'));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported " + CONFIG_SUFFIX + " '" + value
+                + "'; expected COLLECT_ORDERED or STREAMING", e);
+        }
+    }
+}
@@ -48,17 +48,13 @@ import org.pipelineframework.step.NonRetryableException;
  * Dispatches unary JSON envelope requests to remote operators.
  */
 public class EnvelopeHttpRemoteOperatorClient {
-    private static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(5);
     private static final Duration DEFAULT_REQUEST_TIMEOUT = Duration.ofSeconds(10);
 
     private final HttpClient httpClient;
     private final TpfEnvelopeCodec codec;
 
     public EnvelopeHttpRemoteOperatorClient() {
-        this(HttpClient.newBuilder()
-            .connectTimeout(DEFAULT_CONNECT_TIMEOUT)
-            .followRedirects(HttpClient.Redirect.NORMAL)
-            .build(), new TpfEnvelopeCodec());
+        this(RemoteHttpClients.shared(HttpClient.Redirect.NORMAL), new TpfEnvelopeCodec());
     }
 
     EnvelopeHttpRemoteOperatorClient(HttpClient httpClient, TpfEnvelopeCodec codec) {
@@ -107,7 +103,7 @@ public class EnvelopeHttpRemoteOperatorClient {
                 .POST(HttpRequest.BodyPublishers.ofByteArray(requestBody));
             applyContextHeaders(requestBuilder, pipelineContext, metadata);
 
-            return httpClient.sendAsync(requestBuilder.build(), HttpResponse.BodyHandlers.ofByteArray())
+            return RemoteHttpClients.sendAsync(httpClient, requestBuilder.build(), HttpResponse.BodyHandlers.ofByteArray())
                 .thenApply(response -> decodeResponse(response, targetUrl, operatorId, outputType));
         } catch (RuntimeException e) {
             return CompletableFuture.failedFuture(e);
@@ -31,7 +31,6 @@ import java.util.UUID;
 import com.google.rpc.Code;
 import com.google.rpc.Status;
 import io.smallrye.mutiny.Uni;
-import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.grpc.StatusRuntimeException;
 import jakarta.enterprise.context.ApplicationScoped;
 import org.jboss.logging.Logger;
@@ -49,16 +48,12 @@ import org.pipelineframework.step.NonRetryableException;
 @ApplicationScoped
 public class ProtobufHttpRemoteOperatorClient {
     private static final Logger LOG = Logger.getLogger(ProtobufHttpRemoteOperatorClient.class);
-    private static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(5);
     private static final Duration DEFAULT_REQUEST_TIMEOUT = Duration.ofSeconds(10);
 
     private final HttpClient httpClient;
 
     public ProtobufHttpRemoteOperatorClient() {
-        this(HttpClient.newBuilder()
-            .connectTimeout(DEFAULT_CONNECT_TIMEOUT)
-            .followRedirects(HttpClient.Redirect.NORMAL)
-            .build());
+        this(RemoteHttpClients.shared(HttpClient.Redirect.NORMAL));
     }
 
     ProtobufHttpRemoteOperatorClient(HttpClient httpClient) {
@@ -71,11 +66,11 @@ public class ProtobufHttpRemoteOperatorClient {
         Objects.requireNonNull(requestBody, "requestBody must not be null");
         PipelineContext pipelineContext = PipelineContextHolder.get();
         TransportDispatchMetadata transportMetadata = TransportDispatchMetadataHolder.get();
-        return Uni.createFrom().item(() -> send(targetUrl, operatorId, requestBody, timeoutMs, pipelineContext, transportMetadata))
-            .runSubscriptionOn(Infrastructure.getDefaultExecutor());
+        return Uni.createFrom().deferred(() ->
+            send(targetUrl, operatorId, requestBody, timeoutMs, pipelineContext, transportMetadata));
     }
 
-    private byte[] send(
+    private Uni<byte[]> send(
         String targetUrl,
         String operatorId,
         byte[] requestBody,
@@ -83,30 +78,28 @@ public class ProtobufHttpRemoteOperatorClient {
         PipelineContext pipelineContext,
         TransportDispatchMetadata transportMetadata
     ) {
-        try {
-            TransportDispatchMetadata metadata = currentTransportMetadata(requestBody, operatorId, transportMetadata);
-            Duration effectiveTimeout = computeEffectiveTimeout(metadata, timeoutMs, operatorId);
-
-            HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(URI.create(targetUrl))
-                .timeout(effectiveTimeout)
-                .header("Content-Type", ProtobufHttpContentTypes.APPLICATION_X_PROTOBUF)
-                .header("Accept", ProtobufHttpContentTypes.APPLICATION_X_PROTOBUF)
-                .POST(HttpRequest.BodyPublishers.ofByteArray(requestBody));
-            applyContextHeaders(requestBuilder, pipelineContext, metadata);
-
-            HttpResponse<byte[]> response = httpClient.send(requestBuilder.build(), HttpResponse.BodyHandlers.ofByteArray());
-            if (response.statusCode() >= 200 && response.statusCode() < 300) {
-                return response.body() == null ? new byte[0] : response.body();
-            }
-            throw toRemoteFailure(response, targetUrl, operatorId);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new IllegalStateException("Remote operator invocation was interrupted", e);
-        } catch (HttpTimeoutException e) {
-            throw new IllegalStateException("Remote operator invocation timed out", e);
-        } catch (IOException e) {
-            throw new IllegalStateException("Remote operator invocation failed", e);
-        }
+        TransportDispatchMetadata metadata = currentTransportMetadata(requestBody, operatorId, transportMetadata);
+        Duration effectiveTimeout = computeEffectiveTimeout(metadata, timeoutMs, operatorId);
+
+        HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(URI.create(targetUrl))
+            .timeout(effectiveTimeout)
+            .header("Content-Type", ProtobufHttpContentTypes.APPLICATION_X_PROTOBUF)
+            .header("Accept", ProtobufHttpContentTypes.APPLICATION_X_PROTOBUF)
+            .POST(HttpRequest.BodyPublishers.ofByteArray(requestBody));
+        applyContextHeaders(requestBuilder, pipelineContext, metadata);
+
+        return Uni.createFrom().completionStage(() -> RemoteHttpClients.sendAsync(
+                httpClient, requestBuilder.build(), HttpResponse.BodyHandlers.ofByteArray()))
+            .onFailure(HttpTimeoutException.class).transform(e ->
+                new IllegalStateException("Remote operator invocation timed out", e))
+            .onFailure(IOException.class).transform(e ->
+                new IllegalStateException("Remote operator invocation failed", e))
+            .onItem().transform(response -> {
+                if (response.statusCode() >= 200 && response.statusCode() < 300) {
+                    return response.body() == null ? new byte[0] : response.body();
+                }
+                throw toRemoteFailure(response, targetUrl, operatorId);
+            });
     }
 
     private void applyContextHeaders(
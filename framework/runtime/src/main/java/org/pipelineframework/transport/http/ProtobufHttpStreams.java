@@ -0,0 +1,357 @@
+/*
+ * Copyright (c) 2023-2026 Mariano Barcia
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.pipelineframework.transport.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.MessageLite;
+import com.google.protobuf.Parser;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.pipelineframework.step.NonRetryableException;
+
+/**
+ * Encodes and decodes {@code application/x-protobuf-stream} bodies.
+ *
+ * <p>A body is a sequence of protobuf messages, each prefixed with its size as a base-128 varint, the same framing as
+ * {@link MessageLite#writeDelimitedTo}. Decoding reads only as many frames as downstream requests, so the body is never
+ * buffered whole.</p>
+ *
+ * <p>Decoding is strict about the size prefix: it must fit in five varint bytes and in a non-negative {@code int}, and
+ * it must not exceed the maximum frame size, {@value #MAX_FRAME_BYTES_KEY} (default 4 MiB, the gRPC default inbound
+ * message size). A frame is rejected as soon as its prefix is read, before any of it is buffered.</p>
+ */
+public final class ProtobufHttpStreams {
+
+    /**
+     * Configuration key of the maximum decoded frame size in bytes.
+     */
+    public static final String MAX_FRAME_BYTES_KEY = "pipeline.rest.stream.max-frame-bytes";
+    static final int DEFAULT_MAX_FRAME_BYTES = 4 * 1024 * 1024;
+    private static final int MAX_VARINT_BYTES = 5;
+
+    private ProtobufHttpStreams() {
+        throw new AssertionError("No instances");
+    }
+
+    /**
+     * Encodes each message as one length-delimited frame.
+     *
+     * @param messages the messages to send
+     * @param <T> the message type
+     * @return one frame per message
+     */
+    public static <T extends MessageLite> Multi<byte[]> encode(Multi<T> messages) {
+        Objects.requireNonNull(messages, "messages must not be null");
+        return messages.onItem().transform(ProtobufHttpStreams::frame);
+    }
+
+    /**
+     * Decodes frames from body chunks that may split or join frames at any byte.
+     *
+     * @param chunks the body chunks as received
+     * @param parser the parser of the message type
+     * @param <T> the message type
+     * @return the decoded messages
+     */
+    public static <T> Multi<T> decode(Multi<byte[]> chunks, Parser<T> parser) {
+        return decode(chunks, parser, maxFrameBytes());
+    }
+
+    /**
+     * Decodes frames from body chunks, rejecting frames larger than the given size.
+     *
+     * @param chunks the body chunks as received
+     * @param parser the parser of the message type
+     * @param maxFrameBytes the largest accepted frame, excluding its size prefix
+     * @param <T> the message type
+     * @return the decoded messages
+     */
+    public static <T> Multi<T> decode(Multi<byte[]> chunks, Parser<T> parser, int maxFrameBytes) {
+        Objects.requireNonNull(chunks, "chunks must not be null");
+        Objects.requireNonNull(parser, "parser must not be null");
+        requirePositive(maxFrameBytes);
+        return Multi.createFrom().deferred(() -> {
+            FrameReader<T> reader = new FrameReader<>(parser, maxFrameBytes);
+            return chunks
+                .onItem().transformToIterable(reader::read)
+                .onCompletion().invoke(reader::finish);
+        });
+    }
+
+    /**
+     * Decodes frames from a blocking body stream, reading on a worker thread as items are requested.
+     *
+     * @param body the body stream; closed when the returned stream terminates
+     * @param parser the parser of the message type
+     * @param <T> the message type
+     * @return the decoded messages
+     */
+    public static <T> Multi<T> decode(InputStream body, Parser<T> parser) {
+        return decode(body, parser, maxFrameBytes());
+    }
+
+    /**
+     * Decodes frames from a blocking body stream, rejecting frames larger than the given size.
+     *
+     * @param body the body stream; closed when the returned stream terminates
+     * @param parser the parser of the message type
+     * @param maxFrameBytes the largest accepted frame, excluding its size prefix
+     * @param <T> the message type
+     * @return the decoded messages
+     */
+    public static <T> Multi<T> decode(InputStream body, Parser<T> parser, int maxFrameBytes) {
+        Objects.requireNonNull(body, "body must not be null");
+        Objects.requireNonNull(parser, "parser must not be null");
+        requirePositive(maxFrameBytes);
+        return Multi.createFrom().<T>iterable(() -> new DelimitedIterator<>(body, parser, maxFrameBytes))
+            .runSubscriptionOn(Infrastructure.getDefaultWorkerPool())
+            .onTermination().invoke(() -> closeQuietly(body));
+    }
+
+    static byte[] frame(MessageLite message) {
+        int size = message.getSerializedSize();
+        byte[] frame = new byte[CodedOutputStream.computeUInt32SizeNoTag(size) + size];
+        CodedOutputStream output = CodedOutputStream.newInstance(frame);
+        try {
+            output.writeUInt32NoTag(size);
+            message.writeTo(output);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encode protobuf stream frame", e);
+        }
+        output.checkNoSpaceLeft();
+        return frame;
+    }
+
+    /**
+     * Reads the configured maximum frame size.
+     *
+     * @return {@value #MAX_FRAME_BYTES_KEY}, or the default when unset or when no config is available
+     */
+    static int maxFrameBytes() {
+        int maxFrameBytes;
+        try {
+            maxFrameBytes = ConfigProvider.getConfig()
+                .getOptionalValue(MAX_FRAME_BYTES_KEY, Integer.class)
+                .orElse(DEFAULT_MAX_FRAME_BYTES);
+        } catch (IllegalStateException | IllegalArgumentException ignored) {
+            // Callers without a config source keep the default.
+            return DEFAULT_MAX_FRAME_BYTES;
+        }
+        requirePositive(maxFrameBytes);
+        return maxFrameBytes;
+    }
+
+    private static void requirePositive(int maxFrameBytes) {
+        if (maxFrameBytes <= 0) {
+            throw new IllegalArgumentException(MAX_FRAME_BYTES_KEY + " must be > 0");
+        }
+    }
+
+    /**
+     * Adds one byte of a size prefix to the value read so far.
+     *
+     * @param value the bits read from the earlier bytes
+     * @param index the position of the byte in the prefix
+     * @param b the byte
+     * @return the updated value
+     * @throws NonRetryableException when the prefix would need more than five bytes or exceed {@code int}
+     */
+    private static int varintByte(int value, int index, byte b) {
+        if (index == MAX_VARINT_BYTES - 1 && (b & 0xf8) != 0) {
+            throw malformed(new InvalidProtocolBufferException(
+                "Frame size varint is longer than " + MAX_VARINT_BYTES + " bytes or negative"));
+        }
+        return value | (b & 0x7f) << (7 * index);
+    }
+
+    private static int checkFrameSize(int size, int maxFrameBytes) {
+        if (size > maxFrameBytes) {
+            throw new NonRetryableException("Protobuf stream frame of " + size + " bytes exceeds the maximum of "
+                + maxFrameBytes + " bytes (" + MAX_FRAME_BYTES_KEY + ")");
+        }
+        return size;
+    }
+
+    private static IllegalStateException truncated(int trailingBytes) {
+        return new IllegalStateException(
+            "Protobuf stream ended inside a frame (" + trailingBytes + " trailing bytes)");
+    }
+
+    private static NonRetryableException malformed(InvalidProtocolBufferException e) {
+        return new NonRetryableException("Malformed protobuf stream frame: " + e.getMessage(), e);
+    }
+
+    private static void closeQuietly(InputStream body) {
+        try {
+            body.close();
+        } catch (IOException ignored) {
+            // The body is fully read or abandoned; nothing else can be done with it.
+        }
+    }
+
+    /**
+     * Reassembles frames across chunk boundaries. Only the unread tail of the previous chunks is kept.
+     */
+    private static final class FrameReader<T> {
+        private final Parser<T> parser;
+        private final int maxFrameBytes;
+        private byte[] pending = new byte[0];
+        private int length;
+
+        private FrameReader(Parser<T> parser, int maxFrameBytes) {
+            this.parser = parser;
+            this.maxFrameBytes = maxFrameBytes;
+        }
+
+        List<T> read(byte[] chunk) {
+            append(chunk);
+            List<T> messages = new ArrayList<>();
+            int position = 0;
+            while (position < length) {
+                long header = readVarint(position);
+                if (header < 0) {
+                    break;
+                }
+                int headerSize = (int) (header >>> 32);
+                int size = (int) header;
+                int start = position + headerSize;
+                if (length - start < size) {
+                    break;
+                }
+                try {
+                    messages.add(parser.parseFrom(pending, start, size));
+                } catch (InvalidProtocolBufferException e) {
+                    throw malformed(e);
+                }
+                position = start + size;
+            }
+            length -= position;
+            System.arraycopy(pending, position, pending, 0, length);
+            return messages;
+        }
+
+        void finish() {
+            if (length > 0) {
+                throw truncated(length);
+            }
+        }
+
+        private void append(byte[] chunk) {
+            if (pending.length - length < chunk.length) {
+                pending = Arrays.copyOf(pending, Math.max(pending.length * 2, length + chunk.length));
+            }
+            System.arraycopy(chunk, 0, pending, length, chunk.length);
+            length += chunk.length;
+        }
+
+        /**
+         * Returns the header size in the high word and the frame size in the low word, or -1 when the varint is not
+         * complete yet.
+         */
+        private long readVarint(int position) {
+            int value = 0;
+            for (int i = 0; ; i++) {
+                if (position + i >= length) {
+                    return -1;
+                }
+                byte b = pending[position + i];
+                value = varintByte(value, i, b);
+                if (b >= 0) {
+                    return ((long) (i + 1) << 32) | checkFrameSize(value, maxFrameBytes);
+                }
+            }
+        }
+    }
+
+    private static final class DelimitedIterator<T> implements Iterator<T> {
+        private final InputStream body;
+        private final Parser<T> parser;
+        private final int maxFrameBytes;
+        private T next;
+        private boolean done;
+
+        private DelimitedIterator(InputStream body, Parser<T> parser, int maxFrameBytes) {
+            this.body = body;
+            this.parser = parser;
+            this.maxFrameBytes = maxFrameBytes;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && !done) {
+                try {
+                    next = readFrame();
+                } catch (InvalidProtocolBufferException e) {
+                    throw malformed(e);
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Failed to read protobuf stream", e);
+                }
+                done = next == null;
+            }
+            return next != null;
+        }
+
+        /**
+         * Reads one frame, or returns null at the end of the body.
+         */
+        private T readFrame() throws IOException {
+            int value = 0;
+            for (int i = 0; ; i++) {
+                int read = body.read();
+                if (read < 0) {
+                    if (i == 0) {
+                        return null;
+                    }
+                    throw truncated(i);
+                }
+                byte b = (byte) read;
+                value = varintByte(value, i, b);
+                if (b >= 0) {
+                    break;
+                }
+            }
+            int size = checkFrameSize(value, maxFrameBytes);
+            byte[] frame = body.readNBytes(size);
+            if (frame.length < size) {
+                throw truncated(frame.length);
+            }
+            return parser.parseFrom(frame);
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            T item = next;
+            next = null;
+            return item;
+        }
+    }
+}
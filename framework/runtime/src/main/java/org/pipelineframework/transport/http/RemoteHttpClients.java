@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2023-2026 Mariano Barcia
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.pipelineframework.transport.http;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.pipelineframework.telemetry.HttpMetrics;
+
+/**
+ * Shared {@link HttpClient}s for remote operator, remote function, and checkpoint publication dispatch.
+ *
+ * <p>Remote HTTP paths with the same redirect policy send through one client, so they share a single
+ * connection pool and, by default, negotiate HTTP/2 so concurrent requests to the same target multiplex
+ * over one connection. The JDK sizes the pool itself; use the {@code jdk.httpclient.connectionPoolSize}
+ * and {@code jdk.httpclient.keepalive.timeout} system properties to bound it.</p>
+ *
+ * <p>Requests sent through {@link #sendAsync(HttpClient, HttpRequest, HttpResponse.BodyHandler)} report
+ * per-target in-flight requests ({@code tpf.http.client.active_requests}) and latency
+ * ({@code tpf.http.client.duration}).</p>
+ */
+public final class RemoteHttpClients {
+    static final String VERSION_KEY = "pipeline.transport.http.version";
+    static final String CONNECT_TIMEOUT_KEY = "pipeline.transport.http.connect-timeout-ms";
+    private static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(5);
+
+    private static final Map<HttpClient.Redirect, HttpClient> SHARED = new EnumMap<>(HttpClient.Redirect.class);
+
+    private RemoteHttpClients() {
+    }
+
+    /**
+     * Returns the process-wide client for a redirect policy, building it from configuration on first use.
+     *
+     * @param redirects redirect policy the caller needs
+     * @return shared HTTP client
+     */
+    public static HttpClient shared(HttpClient.Redirect redirects) {
+        synchronized (SHARED) {
+            return SHARED.computeIfAbsent(redirects, policy -> build(ConfigProvider.getConfig(), policy));
+        }
+    }
+
+    static HttpClient build(Config config, HttpClient.Redirect redirects) {
+        HttpClient.Version version = config.getOptionalValue(VERSION_KEY, String.class)
+            .filter(value -> !value.isBlank())
+            .map(RemoteHttpClients::version)
+            .orElse(HttpClient.Version.HTTP_2);
+        Duration connectTimeout = config.getOptionalValue(CONNECT_TIMEOUT_KEY, Long.class)
+            .filter(value -> value > 0)
+            .map(Duration::ofMillis)
+            .orElse(DEFAULT_CONNECT_TIMEOUT);
+        return HttpClient.newBuilder()
+            .version(version)
+            .connectTimeout(connectTimeout)
+            .followRedirects(redirects)
+            .build();
+    }
+
+    static HttpClient.Version version(String value) {
+        return switch (value.strip().toUpperCase(Locale.ROOT)) {
+            case "1.1", "HTTP/1.1", "HTTP_1_1" -> HttpClient.Version.HTTP_1_1;
+            case "2", "HTTP/2", "HTTP_2" -> HttpClient.Version.HTTP_2;
+            default -> throw new IllegalArgumentException(
+                VERSION_KEY + " must be 1.1 or 2, was '" + value + "'");
+        };
+    }
+
+    /**
+     * Sends a request asynchronously and records per-target in-flight and latency metrics.
+     *
+     * @param client client to send with
+     * @param request request to send
+     * @param bodyHandler response body handler
+     * @param <T> response body type
+     * @return future completed with the response
+     */
+    public static <T> CompletableFuture<HttpResponse<T>> sendAsync(
+        HttpClient client,
+        HttpRequest request,
+        HttpResponse.BodyHandler<T> bodyHandler
+    ) {
+        String target = target(request.uri());
+        long startNanos = System.nanoTime();
+        HttpMetrics.adjustRemoteInFlight(target, 1);
+        CompletableFuture<HttpResponse<T>> response;
+        try {
+            response = client.sendAsync(request, bodyHandler);
+        } catch (RuntimeException e) {
+            HttpMetrics.adjustRemoteInFlight(target, -1);
+            HttpMetrics.recordRemoteRequest(target, 0, System.nanoTime() - startNanos);
+            return CompletableFuture.failedFuture(e);
+        }
+        return response.whenComplete((result, failure) -> {
+            HttpMetrics.adjustRemoteInFlight(target, -1);
+            HttpMetrics.recordRemoteRequest(target, result == null ? 0 : result.statusCode(),
+                System.nanoTime() - startNanos);
+        });
+    }
+
+    private static String target(URI uri) {
+        if (uri.getHost() == null) {
+            return uri.getAuthority();
+        }
+        return uri.getPort() < 0 ? uri.getHost() : uri.getHost() + ":" + uri.getPort();
+    }
+}
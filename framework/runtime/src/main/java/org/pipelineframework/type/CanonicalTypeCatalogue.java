@@ -1,34 +1,22 @@
 package org.pipelineframework.type;
 
 import java.io.IOException;
-import java.math.BigDecimal;
-import java.net.URI;
-import java.time.Duration;
-import java.time.Instant;
-import java.time.LocalDate;
-import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.TreeMap;
 import java.util.TreeSet;
-import java.util.UUID;
-import java.util.regex.Pattern;
-import java.util.regex.PatternSyntaxException;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.pipelineframework.config.pipeline.PipelineJson;
-import org.pipelineframework.config.template.PipelineTemplateWrapperConstraintValidator;
 import org.pipelineframework.orchestrator.release.PipelineContractDescriptor;
 import org.pipelineframework.orchestrator.release.PipelineContractDescriptorLoader;
 
@@ -36,16 +24,20 @@ import org.pipelineframework.orchestrator.release.PipelineContractDescriptorLoad
  * Runtime view of compiler-emitted canonical v3 type metadata.
  *
  * <p>JSON Schema is only a model-facing projection. Validation is performed against the same
- * canonical metadata, so the projection does not become a second type system.</p>
+ * canonical metadata, so the projection does not become a second type system. That metadata is
+ * compiled into validators once per catalogue, which validate and canonicalize a payload in one walk.</p>
  */
 public final class CanonicalTypeCatalogue {
     private static final String DEFINITIONS_REFERENCE_PREFIX = "#/$defs/";
     private static final ObjectMapper JSON = PipelineJson.mapper();
-    private static final Pattern EMAIL = Pattern.compile("^[^\\s@]+@[^\\s@]+\\.[^\\s@]+$");
     private final Map<String, TypeBinding> types;
+    private final CanonicalValueValidators validators;
 
     private CanonicalTypeCatalogue(Map<String, TypeBinding> types) {
         this.types = Map.copyOf(types);
+        Map<String, JsonNode> definitions = new LinkedHashMap<>();
+        types.forEach((name, binding) -> definitions.put(name, binding.definition()));
+        this.validators = CanonicalValueValidators.compile(definitions);
     }
 
     public static CanonicalTypeCatalogue load(ClassLoader classLoader) {
@@ -143,9 +135,9 @@ public final class CanonicalTypeCatalogue {
         } catch (IOException failure) {
             throw new IllegalArgumentException("payload is not valid JSON", failure);
         }
-        validateNamed(typeName, value, "$", new ArrayList<>());
+        JsonNode canonical = validators.canonicalize(typeName, value);
         try {
-            return JSON.writeValueAsString(sorted(value));
+            return JSON.writeValueAsString(canonical);
         } catch (IOException failure) {
             throw new IllegalStateException("Failed to canonicalize model arguments", failure);
         }
@@ -275,189 +267,6 @@ public final class CanonicalTypeCatalogue {
         return schema;
     }
 
-    private void validateNamed(String typeName, JsonNode value, String path, List<String> stack) {
-        if (stack.contains(typeName)) {
-            throw invalid(path, "recursive canonical values are not supported by the v1 LLM catalogue");
-        }
-        List<String> nested = new ArrayList<>(stack);
-        nested.add(typeName);
-        JsonNode definition = requireType(typeName).definition();
-        switch (text(definition, "kind")) {
-            case "record" -> validateRecord(definition, value, path, nested);
-            case "wrapper" -> validateReference(definition.path("wraps"), value, path, nested);
-            case "alias" -> validateReference(definition.path("target"), value, path, nested);
-            case "union" -> validateUnion(definition, value, path, nested);
-            default -> throw new IllegalStateException("Unsupported canonical type kind: " + definition);
-        }
-        validateConstraints(definition, value, path);
-    }
-
-    private void validateRecord(JsonNode definition, JsonNode value, String path, List<String> stack) {
-        if (!value.isObject()) {
-            throw invalid(path, "expected object");
-        }
-        Map<String, JsonNode> fields = new TreeMap<>();
-        definition.path("fields").forEach(field -> fields.put(text(field, "name"), field));
-        Iterator<String> names = value.fieldNames();
-        while (names.hasNext()) {
-            String name = names.next();
-            if (!fields.containsKey(name)) {
-                throw invalid(path + "." + name, "unknown field");
-            }
-        }
-        fields.forEach((name, definitionField) -> {
-            JsonNode field = value.get(name);
-            if (field == null || field.isNull()) {
-                if (definitionField.path("repeated").asBoolean(false)) {
-                    ((ObjectNode) value).putArray(name);
-                    return;
-                }
-                throw invalid(path + "." + name, "missing required field");
-            }
-            validateField(definitionField, field, path + "." + name, stack);
-        });
-    }
-
-    private void validateField(JsonNode definition, JsonNode value, String path, List<String> stack) {
-        if (!definition.path("repeated").asBoolean(false)) {
-            validateReference(definition.path("type"), value, path, stack);
-            return;
-        }
-        if (!value.isArray()) {
-            throw invalid(path, "expected array");
-        }
-        for (int index = 0; index < value.size(); index++) {
-            validateReference(definition.path("type"), value.get(index), path + "[" + index + "]", stack);
-        }
-    }
-
-    private void validateUnion(JsonNode definition, JsonNode value, String path, List<String> stack) {
-        if (!value.isObject() || !value.path("discriminator").isTextual() || !value.hasNonNull("value")) {
-            throw invalid(path, "expected discriminator/value union object");
-        }
-        String discriminator = value.path("discriminator").textValue();
-        for (JsonNode variant : definition.path("variants")) {
-            if (discriminator.equals(text(variant, "discriminator"))) {
-                validateReference(variant.path("payload"), value.get("value"), path + ".value", stack);
-                return;
-            }
-        }
-        throw invalid(path + ".discriminator", "unknown union discriminator '" + discriminator + "'");
-    }
-
-    private void validateReference(JsonNode expression, JsonNode value, String path, List<String> stack) {
-        switch (text(expression, "kind")) {
-            case "named" -> validateNamed(text(expression, "id"), value, path, stack);
-            case "scalar" -> validateScalar(text(expression, "id"), value, path);
-            case "map" -> {
-                if (!value.isObject()) {
-                    throw invalid(path, "expected map object");
-                }
-                value.fields().forEachRemaining(entry ->
-                    validateReference(expression.path("value"), entry.getValue(), path + "." + entry.getKey(), stack));
-            }
-            default -> throw new IllegalStateException("Unsupported canonical type expression: " + expression);
-        }
-    }
-
-    private void validateScalar(String scalar, JsonNode value, String path) {
-        boolean valid = switch (scalar) {
-            case "bool" -> value.isBoolean();
-            case "int32" -> value.isIntegralNumber() && value.canConvertToInt();
-            case "int64" -> value.isIntegralNumber() && value.canConvertToLong();
-            case "float32", "float64", "decimal" -> value.isNumber();
-            case "payload_ref" -> value.isObject();
-            default -> value.isTextual();
-        };
-        if (!valid) {
-            throw invalid(path, "invalid " + scalar + " value");
-        }
-        if (!value.isTextual()) {
-            return;
-        }
-        String text = value.textValue();
-        try {
-            switch (scalar) {
-                case "uuid" -> UUID.fromString(text);
-                case "timestamp" -> Instant.parse(text);
-                case "datetime" -> OffsetDateTime.parse(text);
-                case "date" -> LocalDate.parse(text);
-                case "duration" -> Duration.parse(text);
-                case "uri" -> URI.create(text);
-                default -> { }
-            }
-        } catch (RuntimeException failure) {
-            throw invalid(path, "invalid " + scalar + " value");
-        }
-    }
-
-    private void validateConstraints(JsonNode definition, JsonNode value, String path) {
-        if (value.isTextual()) {
-            String text = value.textValue();
-            if (definition.has("minLength") && text.length() < definition.path("minLength").intValue()) {
-                throw invalid(path, "value is shorter than minLength");
-            }
-            if (definition.has("maxLength") && text.length() > definition.path("maxLength").intValue()) {
-                throw invalid(path, "value is longer than maxLength");
-            }
-            if (definition.has("pattern")) {
-                if (text.length() > PipelineTemplateWrapperConstraintValidator.MAX_PATTERN_INPUT_LENGTH) {
-                    throw invalid(path, "value exceeds the runtime pattern matching limit");
-                }
-                try {
-                    if (!Pattern.compile(definition.path("pattern").textValue()).matcher(text).matches()) {
-                        throw invalid(path, "value does not match pattern");
-                    }
-                } catch (PatternSyntaxException failure) {
-                    throw new IllegalStateException("Canonical pattern constraint is invalid", failure);
-                }
-            }
-            if (definition.has("format")) {
-                String format = text(definition, "format");
-                if (!"email".equals(format)) {
-                    throw new IllegalStateException("Unsupported canonical wrapper format '" + format + "'");
-                }
-                if (!EMAIL.matcher(text).matches()) {
-                    throw invalid(path, "invalid email value");
-                }
-            }
-        }
-        if (value.isNumber()) {
-            BigDecimal number = value.decimalValue();
-            compareBound(definition, "minimum", number, path, false, true);
-            compareBound(definition, "minimumExclusive", number, path, true, true);
-            compareBound(definition, "maximum", number, path, false, false);
-            compareBound(definition, "maximumExclusive", number, path, true, false);
-        }
-    }
-
-    private void compareBound(JsonNode definition, String field, BigDecimal value, String path, boolean exclusive, boolean lower) {
-        if (!definition.has(field)) {
-            return;
-        }
-        int comparison = value.compareTo(definition.path(field).decimalValue());
-        boolean invalid = lower ? comparison < 0 || exclusive && comparison == 0 : comparison > 0 || exclusive && comparison == 0;
-        if (invalid) {
-            throw invalid(path, "value violates " + field);
-        }
-    }
-
-    private static JsonNode sorted(JsonNode value) {
-        if (value.isObject()) {
-            ObjectNode sorted = JSON.createObjectNode();
-            List<String> names = new ArrayList<>();
-            value.fieldNames().forEachRemaining(names::add);
-            names.stream().sorted().forEach(name -> sorted.set(name, sorted(value.get(name))));
-            return sorted;
-        }
-        if (value.isArray()) {
-            ArrayNode sorted = JSON.createArrayNode();
-            value.forEach(item -> sorted.add(sorted(item)));
-            return sorted;
-        }
-        return value;
-    }
-
     private TypeBinding requireType(String name) {
         TypeBinding binding = types.get(name);
         if (binding == null) {
@@ -492,10 +301,6 @@ public final class CanonicalTypeCatalogue {
         return value.textValue();
     }
 
-    private static IllegalArgumentException invalid(String path, String reason) {
-        return new IllegalArgumentException("invalid canonical payload at " + path + ": " + reason);
-    }
-
     private record TypeBinding(String name, JsonNode definition, Optional<String> contributedIdentity) {
         private TypeBinding {
             Objects.requireNonNull(name, "canonical type name must not be null");
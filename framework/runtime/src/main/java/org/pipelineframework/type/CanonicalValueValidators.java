@@ -0,0 +1,456 @@
+package org.pipelineframework.type;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.pipelineframework.config.pipeline.PipelineJson;
+import org.pipelineframework.config.template.PipelineTemplateWrapperConstraintValidator;
+
+/**
+ * Canonical type definitions compiled once into validator trees.
+ *
+ * <p>A validator checks a parsed value and returns its canonical form, with object keys sorted and missing
+ * repeated fields defaulted to empty arrays, in the same walk. Named references, regular expressions, numeric
+ * bounds, record field tables and union discriminator tables are resolved when the catalogue is built. Broken
+ * metadata compiles to a failing validator, so it is reported with the same error, and only for the values that
+ * reach it, as before compilation.</p>
+ */
+final class CanonicalValueValidators {
+    private static final ObjectMapper JSON = PipelineJson.mapper();
+    private static final Pattern EMAIL = Pattern.compile("^[^\\s@]+@[^\\s@]+\\.[^\\s@]+$");
+
+    private final Map<String, Named> named;
+
+    private CanonicalValueValidators(Map<String, Named> named) {
+        this.named = named;
+    }
+
+    static CanonicalValueValidators compile(Map<String, JsonNode> definitions) {
+        Map<String, Named> named = new HashMap<>();
+        definitions.keySet().forEach(name -> named.put(name, new Named(name)));
+        Compiler compiler = new Compiler(named);
+        definitions.forEach((name, definition) -> compiler.define(named.get(name), definition));
+        return new CanonicalValueValidators(Map.copyOf(named));
+    }
+
+    JsonNode canonicalize(String typeName, JsonNode value) {
+        Named root = named.get(typeName);
+        if (root == null) {
+            throw new IllegalStateException("Unknown canonical type '" + typeName + "'");
+        }
+        return root.canonicalize(value, Path.ROOT, new ArrayList<>());
+    }
+
+    static JsonNode sorted(JsonNode value) {
+        if (value.isObject()) {
+            ObjectNode sorted = JSON.createObjectNode();
+            List<String> names = new ArrayList<>();
+            value.fieldNames().forEachRemaining(names::add);
+            names.stream().sorted().forEach(name -> sorted.set(name, sorted(value.get(name))));
+            return sorted;
+        }
+        if (value.isArray()) {
+            ArrayNode sorted = JSON.createArrayNode();
+            value.forEach(item -> sorted.add(sorted(item)));
+            return sorted;
+        }
+        return value;
+    }
+
+    private static IllegalArgumentException invalid(Path path, String reason) {
+        return new IllegalArgumentException("invalid canonical payload at " + path + ": " + reason);
+    }
+
+    private interface Validator {
+        JsonNode canonicalize(JsonNode value, Path path, List<Named> stack);
+    }
+
+    private interface Constraint {
+        void check(JsonNode value, Path path);
+    }
+
+    /**
+     * Lazily rendered JSON path, so successful validations never build path strings.
+     */
+    private record Path(Path parent, String field, int index) {
+        private static final Path ROOT = new Path(null, null, -1);
+
+        Path field(String name) {
+            return new Path(this, name, -1);
+        }
+
+        Path element(int position) {
+            return new Path(this, null, position);
+        }
+
+        @Override
+        public String toString() {
+            if (parent == null) {
+                return "$";
+            }
+            return parent + (field != null ? "." + field : "[" + index + "]");
+        }
+    }
+
+    private static final class Named implements Validator {
+        private Validator body;
+        private List<Constraint> constraints = List.of();
+
+        private Named(String name) {
+            this.body = failing(new IllegalStateException("Unknown canonical type '" + name + "'"));
+        }
+
+        @Override
+        public JsonNode canonicalize(JsonNode value, Path path, List<Named> stack) {
+            if (stack.contains(this)) {
+                throw invalid(path, "recursive canonical values are not supported by the v1 LLM catalogue");
+            }
+            stack.add(this);
+            try {
+                JsonNode canonical = body.canonicalize(value, path, stack);
+                for (Constraint constraint : constraints) {
+                    constraint.check(value, path);
+                }
+                return canonical;
+            } finally {
+                stack.remove(stack.size() - 1);
+            }
+        }
+    }
+
+    private record Field(String name, boolean repeated, Validator element) {
+        JsonNode canonicalize(JsonNode value, Path path, List<Named> stack) {
+            if (!repeated) {
+                return element.canonicalize(value, path, stack);
+            }
+            if (!value.isArray()) {
+                throw invalid(path, "expected array");
+            }
+            ArrayNode canonical = JSON.createArrayNode();
+            for (int index = 0; index < value.size(); index++) {
+                canonical.add(element.canonicalize(value.get(index), path.element(index), stack));
+            }
+            return canonical;
+        }
+    }
+
+    private record RecordValidator(Map<String, Field> byName, List<Field> sortedFields) implements Validator {
+        @Override
+        public JsonNode canonicalize(JsonNode value, Path path, List<Named> stack) {
+            if (!value.isObject()) {
+                throw invalid(path, "expected object");
+            }
+            Iterator<String> names = value.fieldNames();
+            while (names.hasNext()) {
+                String name = names.next();
+                if (!byName.containsKey(name)) {
+                    throw invalid(path.field(name), "unknown field");
+                }
+            }
+            ObjectNode canonical = JSON.createObjectNode();
+            for (Field field : sortedFields) {
+                JsonNode fieldValue = value.get(field.name());
+                if (fieldValue == null || fieldValue.isNull()) {
+                    if (field.repeated()) {
+                        canonical.putArray(field.name());
+                        continue;
+                    }
+                    throw invalid(path.field(field.name()), "missing required field");
+                }
+                canonical.set(field.name(), field.canonicalize(fieldValue, path.field(field.name()), stack));
+            }
+            return canonical;
+        }
+    }
+
+    private record UnionValidator(Map<String, Validator> variants) implements Validator {
+        @Override
+        public JsonNode canonicalize(JsonNode value, Path path, List<Named> stack) {
+            if (!value.isObject() || !value.path("discriminator").isTextual() || !value.hasNonNull("value")) {
+                throw invalid(path, "expected discriminator/value union object");
+            }
+            String discriminator = value.path("discriminator").textValue();
+            Validator payload = variants.get(discriminator);
+            if (payload == null) {
+                throw invalid(path.field("discriminator"), "unknown union discriminator '" + discriminator + "'");
+            }
+            JsonNode canonicalPayload = payload.canonicalize(value.get("value"), path.field("value"), stack);
+            TreeMap<String, JsonNode> members = new TreeMap<>();
+            value.fields().forEachRemaining(entry -> members.put(entry.getKey(),
+                "value".equals(entry.getKey()) ? canonicalPayload : sorted(entry.getValue())));
+            ObjectNode canonical = JSON.createObjectNode();
+            members.forEach(canonical::set);
+            return canonical;
+        }
+    }
+
+    private record MapValidator(Validator values) implements Validator {
+        @Override
+        public JsonNode canonicalize(JsonNode value, Path path, List<Named> stack) {
+            if (!value.isObject()) {
+                throw invalid(path, "expected map object");
+            }
+            TreeMap<String, JsonNode> entries = new TreeMap<>();
+            value.fields().forEachRemaining(entry -> entries.put(entry.getKey(),
+                values.canonicalize(entry.getValue(), path.field(entry.getKey()), stack)));
+            ObjectNode canonical = JSON.createObjectNode();
+            entries.forEach(canonical::set);
+            return canonical;
+        }
+    }
+
+    private enum ScalarKind {
+        BOOL, INT32, INT64, NUMBER, PAYLOAD_REF, UUID, TIMESTAMP, DATETIME, DATE, DURATION, URI, TEXT;
+
+        static ScalarKind of(String scalar) {
+            return switch (scalar) {
+                case "bool" -> BOOL;
+                case "int32" -> INT32;
+                case "int64" -> INT64;
+                case "float32", "float64", "decimal" -> NUMBER;
+                case "payload_ref" -> PAYLOAD_REF;
+                case "uuid" -> UUID;
+                case "timestamp" -> TIMESTAMP;
+                case "datetime" -> DATETIME;
+                case "date" -> DATE;
+                case "duration" -> DURATION;
+                case "uri" -> URI;
+                default -> TEXT;
+            };
+        }
+    }
+
+    private record ScalarValidator(String scalar, ScalarKind kind) implements Validator {
+        @Override
+        public JsonNode canonicalize(JsonNode value, Path path, List<Named> stack) {
+            boolean valid = switch (kind) {
+                case BOOL -> value.isBoolean();
+                case INT32 -> value.isIntegralNumber() && value.canConvertToInt();
+                case INT64 -> value.isIntegralNumber() && value.canConvertToLong();
+                case NUMBER -> value.isNumber();
+                case PAYLOAD_REF -> value.isObject();
+                default -> value.isTextual();
+            };
+            if (!valid) {
+                throw invalid(path, "invalid " + scalar + " value");
+            }
+            if (!value.isTextual()) {
+                return sorted(value);
+            }
+            String text = value.textValue();
+            try {
+                switch (kind) {
+                    case UUID -> java.util.UUID.fromString(text);
+                    case TIMESTAMP -> Instant.parse(text);
+                    case DATETIME -> OffsetDateTime.parse(text);
+                    case DATE -> LocalDate.parse(text);
+                    case DURATION -> Duration.parse(text);
+                    case URI -> java.net.URI.create(text);
+                    default -> { }
+                }
+            } catch (RuntimeException failure) {
+                throw invalid(path, "invalid " + scalar + " value");
+            }
+            return value;
+        }
+    }
+
+    private static Validator failing(IllegalStateException failure) {
+        String message = failure.getMessage();
+        return (value, path, stack) -> {
+            throw new IllegalStateException(message, failure);
+        };
+    }
+
+    private static final class Compiler {
+        private final Map<String, Named> named;
+
+        private Compiler(Map<String, Named> named) {
+            this.named = named;
+        }
+
+        void define(Named target, JsonNode definition) {
+            target.body = guarded(() -> switch (text(definition, "kind")) {
+                case "record" -> record(definition);
+                case "wrapper" -> expression(definition.path("wraps"));
+                case "alias" -> expression(definition.path("target"));
+                case "union" -> union(definition);
+                default -> throw new IllegalStateException("Unsupported canonical type kind: " + definition);
+            });
+            target.constraints = constraints(definition);
+        }
+
+        private Validator record(JsonNode definition) {
+            Map<String, Field> fields = new TreeMap<>();
+            definition.path("fields").forEach(field -> fields.put(text(field, "name"), new Field(
+                text(field, "name"),
+                field.path("repeated").asBoolean(false),
+                expression(field.path("type")))));
+            return new RecordValidator(Map.copyOf(fields), List.copyOf(fields.values()));
+        }
+
+        private Validator union(JsonNode definition) {
+            Map<String, Validator> variants = new LinkedHashMap<>();
+            for (JsonNode variant : definition.path("variants")) {
+                variants.putIfAbsent(text(variant, "discriminator"), expression(variant.path("payload")));
+            }
+            return new UnionValidator(Map.copyOf(variants));
+        }
+
+        private Validator expression(JsonNode expression) {
+            return guarded(() -> switch (text(expression, "kind")) {
+                case "named" -> reference(text(expression, "id"));
+                case "scalar" -> {
+                    String scalar = text(expression, "id");
+                    yield new ScalarValidator(scalar, ScalarKind.of(scalar));
+                }
+                case "map" -> new MapValidator(expression(expression.path("value")));
+                default -> throw new IllegalStateException("Unsupported canonical type expression: " + expression);
+            });
+        }
+
+        private Named reference(String name) {
+            return named.computeIfAbsent(name, Named::new);
+        }
+
+        private List<Constraint> constraints(JsonNode definition) {
+            List<Constraint> constraints = new ArrayList<>();
+            if (definition.has("minLength")) {
+                int minLength = definition.path("minLength").intValue();
+                constraints.add((value, path) -> {
+                    if (value.isTextual() && value.textValue().length() < minLength) {
+                        throw invalid(path, "value is shorter than minLength");
+                    }
+                });
+            }
+            if (definition.has("maxLength")) {
+                int maxLength = definition.path("maxLength").intValue();
+                constraints.add((value, path) -> {
+                    if (value.isTextual() && value.textValue().length() > maxLength) {
+                        throw invalid(path, "value is longer than maxLength");
+                    }
+                });
+            }
+            if (definition.has("pattern")) {
+                constraints.add(pattern(definition.path("pattern").textValue()));
+            }
+            if (definition.has("format")) {
+                constraints.add(format(definition));
+            }
+            bound(definition, "minimum", false, true, constraints);
+            bound(definition, "minimumExclusive", true, true, constraints);
+            bound(definition, "maximum", false, false, constraints);
+            bound(definition, "maximumExclusive", true, false, constraints);
+            return List.copyOf(constraints);
+        }
+
+        private static Constraint pattern(String regex) {
+            Pattern compiled;
+            IllegalStateException invalidPattern;
+            try {
+                compiled = Pattern.compile(regex);
+                invalidPattern = null;
+            } catch (PatternSyntaxException | NullPointerException failure) {
+                compiled = null;
+                invalidPattern = new IllegalStateException("Canonical pattern constraint is invalid", failure);
+            }
+            Pattern pattern = compiled;
+            IllegalStateException patternFailure = invalidPattern;
+            return (value, path) -> {
+                if (!value.isTextual()) {
+                    return;
+                }
+                String text = value.textValue();
+                if (text.length() > PipelineTemplateWrapperConstraintValidator.MAX_PATTERN_INPUT_LENGTH) {
+                    throw invalid(path, "value exceeds the runtime pattern matching limit");
+                }
+                if (pattern == null) {
+                    throw new IllegalStateException(patternFailure.getMessage(), patternFailure.getCause());
+                }
+                if (!pattern.matcher(text).matches()) {
+                    throw invalid(path, "value does not match pattern");
+                }
+            };
+        }
+
+        private static Constraint format(JsonNode definition) {
+            String failure;
+            try {
+                String format = text(definition, "format");
+                failure = "email".equals(format) ? null : "Unsupported canonical wrapper format '" + format + "'";
+            } catch (IllegalStateException invalidFormat) {
+                failure = invalidFormat.getMessage();
+            }
+            String unsupported = failure;
+            return (value, path) -> {
+                if (!value.isTextual()) {
+                    return;
+                }
+                if (unsupported != null) {
+                    throw new IllegalStateException(unsupported);
+                }
+                if (!EMAIL.matcher(value.textValue()).matches()) {
+                    throw invalid(path, "invalid email value");
+                }
+            };
+        }
+
+        private static void bound(
+            JsonNode definition,
+            String field,
+            boolean exclusive,
+            boolean lower,
+            List<Constraint> constraints
+        ) {
+            if (!definition.has(field)) {
+                return;
+            }
+            BigDecimal bound = definition.path(field).decimalValue();
+            constraints.add((value, path) -> {
+                if (!value.isNumber()) {
+                    return;
+                }
+                int comparison = value.decimalValue().compareTo(bound);
+                boolean invalid = lower
+                    ? comparison < 0 || exclusive && comparison == 0
+                    : comparison > 0 || exclusive && comparison == 0;
+                if (invalid) {
+                    throw invalid(path, "value violates " + field);
+                }
+            });
+        }
+
+        private static Validator guarded(Supplier<Validator> compile) {
+            try {
+                return compile.get();
+            } catch (IllegalStateException failure) {
+                return failing(failure);
+            }
+        }
+
+        private static String text(JsonNode node, String field) {
+            JsonNode value = node.get(field);
+            if (value == null || !value.isTextual() || value.textValue().isBlank()) {
+                throw new IllegalStateException("Canonical metadata field '" + field + "' must be non-blank text");
+            }
+            return value.textValue();
+        }
+    }
+}
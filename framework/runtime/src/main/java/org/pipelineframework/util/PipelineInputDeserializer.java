@@ -92,16 +92,8 @@ public class PipelineInputDeserializer {
         if (json == null || json.trim().isEmpty()) {
             throw new IllegalArgumentException("JSON input is required.");
         }
-        Message.Builder builder = newBuilder(Objects.requireNonNull(type, "type"));
+        Message.Builder builder = ProtobufMessageRegistry.newBuilder(Objects.requireNonNull(type, "type"));
         JsonFormat.parser().merge(json, builder);
         return type.cast(builder.build());
     }
-
-    private static Message.Builder newBuilder(Class<? extends Message> type) {
-        try {
-            return (Message.Builder) type.getMethod("newBuilder").invoke(null);
-        } catch (ReflectiveOperationException e) {
-            throw new IllegalArgumentException("Protobuf message type must expose newBuilder(): " + type.getName(), e);
-        }
-    }
 }
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2023-2025 Mariano Barcia
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.pipelineframework.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Message;
+import org.pipelineframework.cache.ProtobufMessageParser;
+
+/**
+ * Process-wide lookup of protobuf parsers and builders for codecs and state stores.
+ *
+ * <p>Parsers generated for the pipeline IDL are registered at startup and used directly. Message
+ * classes without a generated parser fall back to their default instance, resolved once per class
+ * through a cached {@link MethodHandle}, whose {@code getParserForType()} and
+ * {@code newBuilderForType()} are then used without further reflection.</p>
+ */
+public final class ProtobufMessageRegistry {
+    private static final ConcurrentMap<String, ProtobufMessageParser> PARSERS_BY_TYPE = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<Class<?>, ProtobufMessageParser> PARSERS_BY_CLASS = new ConcurrentHashMap<>();
+    private static final ClassValue<Message> DEFAULT_INSTANCES = new ClassValue<>() {
+        @Override
+        protected Message computeValue(Class<?> type) {
+            return loadDefaultInstance(type);
+        }
+    };
+
+    private ProtobufMessageRegistry() {
+    }
+
+    /**
+     * Registers a parser under its schema full name and, when known, its message class.
+     *
+     * @param parser parser to register
+     */
+    public static void register(ProtobufMessageParser parser) {
+        Objects.requireNonNull(parser, "parser must not be null");
+        PARSERS_BY_TYPE.put(normalizeType(parser.type()), parser);
+        Class<? extends Message> messageClass = parser.messageClass();
+        if (messageClass != null) {
+            PARSERS_BY_CLASS.put(messageClass, parser);
+        }
+    }
+
+    /**
+     * Registers every parser in the given collection.
+     *
+     * @param parsers parsers to register
+     */
+    public static void registerAll(Iterable<? extends ProtobufMessageParser> parsers) {
+        if (parsers != null) {
+            parsers.forEach(ProtobufMessageRegistry::register);
+        }
+    }
+
+    /**
+     * Returns the parser registered for a protobuf schema full name.
+     *
+     * @param messageType schema full name, optionally prefixed with a type URL
+     * @return registered parser, if any
+     */
+    public static Optional<ProtobufMessageParser> parser(String messageType) {
+        if (messageType == null || messageType.isBlank()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(PARSERS_BY_TYPE.get(normalizeType(messageType)));
+    }
+
+    /**
+     * Creates an empty builder for a protobuf message class.
+     *
+     * @param messageClass generated message class
+     * @return a new builder
+     * @throws IllegalArgumentException if the class is not a generated protobuf message
+     */
+    public static Message.Builder newBuilder(Class<?> messageClass) {
+        Objects.requireNonNull(messageClass, "messageClass must not be null");
+        ProtobufMessageParser parser = PARSERS_BY_CLASS.get(messageClass);
+        if (parser != null) {
+            try {
+                return parser.newBuilder();
+            } catch (UnsupportedOperationException ignored) {
+                // Older generated parsers only parse; use the default instance below.
+            }
+        }
+        return DEFAULT_INSTANCES.get(messageClass).newBuilderForType();
+    }
+
+    /**
+     * Parses serialized bytes into a protobuf message of the given class.
+     *
+     * @param messageClass generated message class
+     * @param bytes serialized message bytes
+     * @return parsed message
+     * @throws IllegalArgumentException if the class is not a generated protobuf message or the bytes are invalid
+     */
+    public static Message parseFrom(Class<?> messageClass, byte[] bytes) {
+        Objects.requireNonNull(messageClass, "messageClass must not be null");
+        Objects.requireNonNull(bytes, "bytes must not be null");
+        ProtobufMessageParser parser = PARSERS_BY_CLASS.get(messageClass);
+        if (parser != null) {
+            return parser.parseFrom(bytes);
+        }
+        try {
+            return DEFAULT_INSTANCES.get(messageClass).getParserForType().parseFrom(bytes);
+        } catch (InvalidProtocolBufferException e) {
+            throw new IllegalArgumentException("Failed to parse " + messageClass.getName(), e);
+        }
+    }
+
+    static void clear() {
+        PARSERS_BY_TYPE.clear();
+        PARSERS_BY_CLASS.clear();
+    }
+
+    private static Message loadDefaultInstance(Class<?> type) {
+        if (!Message.class.isAssignableFrom(type)) {
+            throw new IllegalArgumentException("Not a protobuf message type: " + type.getName());
+        }
+        try {
+            MethodHandle getDefaultInstance = MethodHandles.publicLookup()
+                .findStatic(type, "getDefaultInstance", MethodType.methodType(type));
+            return (Message) getDefaultInstance.invoke();
+        } catch (Throwable e) {
+            throw new IllegalArgumentException(
+                "Protobuf message type must expose getDefaultInstance(): " + type.getName(), e);
+        }
+    }
+
+    private static String normalizeType(String messageType) {
+        String normalized = messageType.strip();
+        int slash = normalized.lastIndexOf('/');
+        return (slash >= 0 ? normalized.substring(slash + 1) : normalized).replace('$', '.');
+    }
+}
@@ -0,0 +1,91 @@
+package org.pipelineframework;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import io.smallrye.mutiny.Uni;
+import org.junit.jupiter.api.Test;
+import org.pipelineframework.orchestrator.CreateExecutionResult;
+import org.pipelineframework.orchestrator.ExecutionCreateCommand;
+import org.pipelineframework.orchestrator.ExecutionResultShape;
+import org.pipelineframework.orchestrator.InMemoryExecutionStateStore;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExecutionAdmissionBatcherTest {
+
+  @Test
+  void coalescesSubmissionsThatArriveWhileABatchIsInFlight() {
+    GatedStore store = new GatedStore();
+    ExecutionAdmissionBatcher batcher = new ExecutionAdmissionBatcher(store, 3, 1);
+
+    List<CompletableFuture<CreateExecutionResult>> admissions = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      admissions.add(batcher.admit(command("key-" + (i % 4))).subscribeAsCompletionStage());
+    }
+    assertEquals(List.of(1), store.batchSizes);
+    assertFalse(admissions.getFirst().isDone());
+
+    store.gate.complete(null);
+
+    assertEquals(List.of(1, 3, 1), store.batchSizes);
+    List<CreateExecutionResult> results = admissions.stream().map(CompletableFuture::join).toList();
+    assertEquals(List.of(false, false, false, false, true),
+        results.stream().map(CreateExecutionResult::duplicate).toList());
+    assertEquals(results.getFirst().record().executionId(), results.getLast().record().executionId());
+  }
+
+  @Test
+  void storeFailureFailsOnlyTheAdmissionsOfThatBatch() {
+    GatedStore store = new GatedStore();
+    store.failNextBatch = true;
+    ExecutionAdmissionBatcher batcher = new ExecutionAdmissionBatcher(store, 8, 1);
+
+    CompletableFuture<CreateExecutionResult> first = batcher.admit(command("key-1")).subscribeAsCompletionStage();
+    CompletableFuture<CreateExecutionResult> second = batcher.admit(command("key-2")).subscribeAsCompletionStage();
+    store.gate.complete(null);
+
+    assertTrue(first.isCompletedExceptionally());
+    assertFalse(second.join().duplicate());
+    assertEquals(List.of(1, 1), store.batchSizes);
+  }
+
+  @Test
+  void batchSizeOfOneAdmitsEachSubmissionDirectly() {
+    GatedStore store = new GatedStore();
+    ExecutionAdmissionBatcher batcher = new ExecutionAdmissionBatcher(store, 1, 4);
+
+    CreateExecutionResult created = batcher.admit(command("key-1")).await().indefinitely();
+
+    assertFalse(created.duplicate());
+    assertTrue(store.batchSizes.isEmpty());
+    assertSame(created.record(), store.createOrGetExecution(command("key-1")).await().indefinitely().record());
+  }
+
+  private static ExecutionCreateCommand command(String executionKey) {
+    long now = System.currentTimeMillis();
+    return new ExecutionCreateCommand("tenant-a", executionKey, "payload", ExecutionResultShape.SINGLE, now, now / 1000 + 60);
+  }
+
+  private static final class GatedStore extends InMemoryExecutionStateStore {
+    private final CompletableFuture<Void> gate = new CompletableFuture<>();
+    private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+    private boolean failNextBatch;
+
+    @Override
+    public Uni<List<CreateExecutionResult>> createOrGetExecutions(List<ExecutionCreateCommand> commands) {
+      batchSizes.add(commands.size());
+      boolean fail = failNextBatch;
+      failNextBatch = false;
+      return Uni.createFrom().completionStage(gate)
+          .chain(() -> fail
+              ? Uni.createFrom().failure(new IllegalStateException("throttled"))
+              : super.createOrGetExecutions(commands));
+    }
+  }
+}
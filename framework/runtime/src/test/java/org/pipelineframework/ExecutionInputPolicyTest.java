@@ -42,6 +42,15 @@ class ExecutionInputPolicyTest {
         assertTrue(ex.getMessage().contains("Idempotency-Key header is required"));
     }
 
+    @Test
+    void rejectsTenantsInTheReservedRegistryNamespace() {
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+            () -> policy.normalizeTenant(" tpf-internal:sweep"));
+
+        assertTrue(ex.getMessage().contains("tpf-internal:"));
+        assertEquals("tpf-sweep", policy.normalizeTenant(" tpf-sweep "));
+    }
+
     @Test
     void prefersProvidedClientKeyWhenOptionalPolicy() {
         when(orchestratorConfig.idempotencyPolicy()).thenReturn(OrchestratorIdempotencyPolicy.OPTIONAL_CLIENT_KEY);
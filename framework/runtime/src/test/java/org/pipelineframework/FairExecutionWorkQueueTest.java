@@ -0,0 +1,156 @@
+package org.pipelineframework;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.smallrye.mutiny.Uni;
+import org.junit.jupiter.api.Test;
+import org.pipelineframework.orchestrator.ExecutionPriority;
+import org.pipelineframework.orchestrator.ExecutionWorkItem;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FairExecutionWorkQueueTest {
+
+  private static final int SLOTS = 4;
+  private static final int NOISY_BURST = 40;
+  private static final int SMALL_ARRIVALS = 10;
+
+  @Test
+  void holdsEachSlotUntilTheWorkTerminates() {
+    List<CompletableFuture<Void>> running = new ArrayList<>();
+    FairExecutionWorkQueue queue = new FairExecutionWorkQueue(item -> {
+      CompletableFuture<Void> future = new CompletableFuture<>();
+      running.add(future);
+      return Uni.createFrom().completionStage(future);
+    }, 2);
+
+    for (int i = 0; i < 5; i++) {
+      queue.submit(new ExecutionWorkItem("tenant-a", "exec-" + i));
+    }
+
+    assertEquals(2, queue.inFlight());
+    assertEquals(3, queue.queued());
+
+    running.get(0).completeExceptionally(new IllegalStateException("boom"));
+    running.get(1).complete(null);
+
+    assertEquals(2, queue.inFlight());
+    assertEquals(1, queue.queued());
+  }
+
+  @Test
+  void synchronousWorkDrainsWithoutRecursion() {
+    AtomicInteger processed = new AtomicInteger();
+    FairExecutionWorkQueue queue = new FairExecutionWorkQueue(item -> {
+      processed.incrementAndGet();
+      return Uni.createFrom().voidItem();
+    }, 1);
+
+    for (int i = 0; i < 10_000; i++) {
+      queue.submit(new ExecutionWorkItem("tenant-a", "exec-" + i));
+    }
+
+    assertEquals(10_000, processed.get());
+    assertEquals(0, queue.inFlight());
+  }
+
+  @Test
+  void higherPriorityWorkFromTheSameTenantGetsMoreTurns() {
+    List<String> started = new ArrayList<>();
+    List<CompletableFuture<Void>> running = new ArrayList<>();
+    FairExecutionWorkQueue queue = new FairExecutionWorkQueue(item -> {
+      started.add(item.executionId());
+      CompletableFuture<Void> future = new CompletableFuture<>();
+      running.add(future);
+      return Uni.createFrom().completionStage(future);
+    }, 1);
+
+    queue.submit(new ExecutionWorkItem("tenant-a", "blocker"));
+    for (int i = 0; i < 4; i++) {
+      queue.submit(new ExecutionWorkItem("tenant-a", "low-" + i, ExecutionPriority.LOW));
+      queue.submit(new ExecutionWorkItem("tenant-a", "high-" + i, ExecutionPriority.HIGH));
+    }
+    for (int i = 0; i < 6; i++) {
+      running.get(i).complete(null);
+    }
+
+    assertEquals(List.of("blocker", "low-0", "high-0", "high-1", "high-2", "high-3", "low-1"), started);
+  }
+
+  /**
+   * Discrete-time simulation of a noisy neighbour: one tenant dispatches a burst of work while a small tenant
+   * dispatches one item per tick. Every item takes one tick on a slot. Under FIFO the small tenant waits behind the
+   * whole burst; with per-tenant sub-queues its latency stays within a couple of ticks.
+   */
+  @Test
+  void smallTenantTailLatencyStaysFlatUnderANoisyNeighbour() {
+    int fairWorst = worstSmallTenantLatency(true);
+    int fifoWorst = worstSmallTenantLatency(false);
+
+    assertTrue(fairWorst <= 2, "fair queue small-tenant worst latency was " + fairWorst + " ticks");
+    assertTrue(fifoWorst >= NOISY_BURST / SLOTS, "FIFO small-tenant worst latency was " + fifoWorst + " ticks");
+  }
+
+  private static int worstSmallTenantLatency(boolean fair) {
+    Map<String, Integer> submittedAt = new HashMap<>();
+    Map<String, Integer> latencies = new HashMap<>();
+    List<Runnable> running = new ArrayList<>();
+    int[] tick = {0};
+    ArrayDeque<ExecutionWorkItem> fifo = new ArrayDeque<>();
+    FairExecutionWorkQueue queue = new FairExecutionWorkQueue(item -> {
+      CompletableFuture<Void> future = new CompletableFuture<>();
+      running.add(() -> {
+        latencies.put(item.executionId(), tick[0] - submittedAt.get(item.executionId()));
+        future.complete(null);
+      });
+      return Uni.createFrom().completionStage(future);
+    }, SLOTS);
+
+    for (int i = 0; i < NOISY_BURST; i++) {
+      submit(fair, queue, fifo, submittedAt, new ExecutionWorkItem("noisy", "noisy-" + i), 0);
+    }
+    while (latencies.size() < NOISY_BURST + SMALL_ARRIVALS) {
+      if (tick[0] > 0) {
+        List<Runnable> finishing = new ArrayList<>(running);
+        running.clear();
+        finishing.forEach(Runnable::run);
+      }
+      if (tick[0] < SMALL_ARRIVALS) {
+        submit(fair, queue, fifo, submittedAt, new ExecutionWorkItem("small", "small-" + tick[0]), tick[0]);
+      }
+      if (!fair) {
+        while (running.size() < SLOTS && !fifo.isEmpty()) {
+          queue.submit(fifo.poll());
+        }
+      }
+      tick[0]++;
+    }
+    return latencies.entrySet().stream()
+        .filter(entry -> entry.getKey().startsWith("small-"))
+        .mapToInt(Map.Entry::getValue)
+        .max()
+        .orElseThrow();
+  }
+
+  private static void submit(
+      boolean fair,
+      FairExecutionWorkQueue queue,
+      ArrayDeque<ExecutionWorkItem> fifo,
+      Map<String, Integer> submittedAt,
+      ExecutionWorkItem item,
+      int tick) {
+    submittedAt.put(item.executionId(), tick);
+    if (fair) {
+      queue.submit(item);
+    } else {
+      fifo.add(item);
+    }
+  }
+}
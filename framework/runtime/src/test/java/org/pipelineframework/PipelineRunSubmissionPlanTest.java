@@ -4,6 +4,7 @@ import org.junit.jupiter.api.Test;
 import org.pipelineframework.orchestrator.ExecutionCreateCommand;
 import org.pipelineframework.orchestrator.ExecutionInputShape;
 import org.pipelineframework.orchestrator.ExecutionInputSnapshot;
+import org.pipelineframework.orchestrator.ExecutionPriority;
 import org.pipelineframework.orchestrator.ExecutionResultShape;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -51,7 +52,8 @@ class PipelineRunSubmissionPlanTest {
         "resolved-key",
         ExecutionResultShape.MATERIALIZED_MULTI,
         100L,
-        200L);
+        200L,
+        ExecutionPriority.HIGH);
 
     ExecutionCreateCommand command = plan.createCommand();
 
@@ -64,6 +66,7 @@ class PipelineRunSubmissionPlanTest {
     assertEquals(ExecutionResultShape.MATERIALIZED_MULTI, command.resultShape());
     assertEquals(100L, command.nowEpochMs());
     assertEquals(200L, command.ttlEpochS());
+    assertEquals(ExecutionPriority.HIGH, command.priority());
   }
 
   private PipelineRunSubmissionPlan plan(String pipelineId, String releaseVersion, String executionKey) {
@@ -80,6 +83,7 @@ class PipelineRunSubmissionPlanTest {
         executionKey,
         ExecutionResultShape.SINGLE,
         10L,
-        20L);
+        20L,
+        ExecutionPriority.NORMAL);
   }
 }
@@ -1,5 +1,6 @@
 package org.pipelineframework;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.function.Supplier;
 
@@ -39,10 +40,14 @@ import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -142,6 +147,46 @@ class QueueAsyncSubmissionFlowTest {
     verify(executionStateStore, never()).createOrGetExecution(any());
   }
 
+  @Test
+  void saturatedBacklogShedsSubmissionsFromOneSharedReading() {
+    PipelineOrchestratorConfig.QuotaConfig quotas = mock(PipelineOrchestratorConfig.QuotaConfig.class);
+    when(orchestratorConfig.quotas()).thenReturn(quotas);
+    when(quotas.maxQueuedExecutions()).thenReturn(2);
+    when(quotas.backlogRefresh()).thenReturn(Duration.ofMinutes(1));
+    when(quotas.shedRetryAfter()).thenReturn(Duration.ofSeconds(3));
+    when(executionStateStore.countDueExecutions(anyLong(), eq(2))).thenReturn(Uni.createFrom().item(2));
+    QueueAsyncSubmissionFlow sheddingFlow = newFlow(inputPolicy, () -> segmentBoundaryLedger);
+
+    ControlPlaneAdmissionException first = assertThrows(ControlPlaneAdmissionException.class,
+        () -> sheddingFlow.submit("input", "tenant-1", "idem-1", false).await().indefinitely());
+    ControlPlaneAdmissionException second = assertThrows(ControlPlaneAdmissionException.class,
+        () -> sheddingFlow.submit("input", "tenant-1", "idem-2", false).await().indefinitely());
+
+    assertEquals(ControlPlaneAdmissionDecision.EXECUTION_BACKLOG_SATURATED, first.decision().errorCode());
+    assertEquals(Duration.ofSeconds(3), first.decision().retryAfter());
+    assertTrue(second.decision().retryable());
+    verify(executionStateStore).countDueExecutions(anyLong(), eq(2));
+    verify(executionStateStore, never()).findDueExecutions(anyLong(), anyInt());
+    verify(executionStateStore, never()).createOrGetExecution(any());
+    verify(admissionPolicy, times(2)).refund(any());
+  }
+
+  @Test
+  void backlogBelowTheSheddingDepthAdmitsSubmission() {
+    PipelineOrchestratorConfig.QuotaConfig quotas = mock(PipelineOrchestratorConfig.QuotaConfig.class);
+    when(orchestratorConfig.quotas()).thenReturn(quotas);
+    when(quotas.maxQueuedExecutions()).thenReturn(2);
+    when(executionStateStore.countDueExecutions(anyLong(), eq(2))).thenReturn(Uni.createFrom().item(1));
+    when(executionStateStore.createOrGetExecution(any()))
+        .thenReturn(Uni.createFrom().item(new CreateExecutionResult(record("exec-1", "key-1"), true)));
+    QueueAsyncSubmissionFlow sheddingFlow = newFlow(inputPolicy, () -> segmentBoundaryLedger);
+
+    RunAsyncAcceptedDto dto = sheddingFlow.submit("input", "tenant-1", "idem-1", false).await().indefinitely();
+
+    assertEquals("exec-1", dto.executionId());
+    verify(admissionPolicy, never()).refund(any());
+  }
+
   @Test
   void uniListPayloadIsPreservedAsSingleInputItem() {
     when(executionStateStore.createOrGetExecution(any()))
@@ -1,11 +1,14 @@
 package org.pipelineframework;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 
 import io.smallrye.mutiny.Uni;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -16,8 +19,11 @@ import org.pipelineframework.orchestrator.ExecutionStatus;
 import org.pipelineframework.orchestrator.ExecutionWorkItem;
 import org.pipelineframework.orchestrator.PipelineOrchestratorConfig;
 import org.pipelineframework.orchestrator.WorkDispatcher;
+import org.pipelineframework.orchestrator.worker.InMemoryPipelineWorkerRegistry;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -26,6 +32,7 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -58,7 +65,7 @@ class QueueAsyncSweepFlowTest {
 
   @Test
   void sweepRunsTimeoutsThenEnqueuesEveryDueExecution() {
-    when(awaitTimeoutFlow.sweepTimedOut(1000L, 100)).thenReturn(Uni.createFrom().voidItem());
+    when(awaitTimeoutFlow.sweepTimedOut(1000L, 100)).thenReturn(Uni.createFrom().item(0));
     when(executionStateStore.findDueExecutions(1000L, 100)).thenReturn(Uni.createFrom().item(List.of(
         record("tenant-b", "exec-b", 20L),
         record("tenant-b", "exec-a", 10L),
@@ -77,7 +84,7 @@ class QueueAsyncSweepFlowTest {
 
   @Test
   void emptyDueBatchDoesNotDispatch() {
-    when(awaitTimeoutFlow.sweepTimedOut(1000L, 100)).thenReturn(Uni.createFrom().voidItem());
+    when(awaitTimeoutFlow.sweepTimedOut(1000L, 100)).thenReturn(Uni.createFrom().item(0));
     when(executionStateStore.findDueExecutions(1000L, 100)).thenReturn(Uni.createFrom().item(List.of()));
 
     flow.sweepOnce(1000L).await().indefinitely();
@@ -87,7 +94,7 @@ class QueueAsyncSweepFlowTest {
 
   @Test
   void enqueueFailureNamesExecutionId() {
-    when(awaitTimeoutFlow.sweepTimedOut(1000L, 100)).thenReturn(Uni.createFrom().voidItem());
+    when(awaitTimeoutFlow.sweepTimedOut(1000L, 100)).thenReturn(Uni.createFrom().item(0));
     when(executionStateStore.findDueExecutions(1000L, 100)).thenReturn(Uni.createFrom().item(List.of(
         record("tenant-a", "exec-a"),
         record("tenant-b", "exec-b"))));
@@ -106,6 +113,49 @@ class QueueAsyncSweepFlowTest {
     order.verify(workDispatcher).enqueueNow(new ExecutionWorkItem("tenant-b", "exec-b"));
   }
 
+  @Test
+  void scheduledSweepReportsWhetherThePassFoundWork() {
+    when(awaitTimeoutFlow.sweepTimedOut(anyLong(), anyInt())).thenReturn(Uni.createFrom().item(0));
+    when(executionStateStore.findDueExecutions(anyLong(), eq(100)))
+        .thenReturn(Uni.createFrom().item(List.of()))
+        .thenReturn(Uni.createFrom().item(List.of(record("tenant-a", "exec-a"))))
+        .thenReturn(Uni.createFrom().failure(new IllegalStateException("store down")));
+    when(workDispatcher.enqueueNow(any())).thenReturn(Uni.createFrom().voidItem());
+    List<Boolean> passes = new ArrayList<>();
+
+    flow.sweepDueExecutions(passes::add);
+    flow.sweepDueExecutions(passes::add);
+    flow.sweepDueExecutions(passes::add);
+
+    assertEquals(List.of(false, true, true), passes);
+  }
+
+  @Test
+  void scheduledSweepCountsTimedOutAwaitsAsWork() {
+    when(awaitTimeoutFlow.sweepTimedOut(anyLong(), anyInt()))
+        .thenReturn(Uni.createFrom().item(2))
+        .thenReturn(Uni.createFrom().item(0));
+    when(executionStateStore.findDueExecutions(anyLong(), eq(100))).thenReturn(Uni.createFrom().item(List.of()));
+    List<Boolean> passes = new ArrayList<>();
+
+    flow.sweepDueExecutions(passes::add);
+    flow.sweepDueExecutions(passes::add);
+
+    assertEquals(List.of(true, false), passes);
+  }
+
+  @Test
+  void scheduledSweepReportsAHungPassAsFailedAfterThePassTimeout() throws Exception {
+    when(orchestratorConfig.sweepPassTimeout()).thenReturn(Duration.ofMillis(50));
+    when(awaitTimeoutFlow.sweepTimedOut(anyLong(), anyInt())).thenReturn(Uni.createFrom().item(0));
+    when(executionStateStore.findDueExecutions(anyLong(), eq(100))).thenReturn(Uni.createFrom().nothing());
+    java.util.concurrent.CompletableFuture<Boolean> pass = new java.util.concurrent.CompletableFuture<>();
+
+    flow.sweepDueExecutions(pass::complete);
+
+    assertTrue(pass.get(5, java.util.concurrent.TimeUnit.SECONDS));
+  }
+
   @Test
   void scheduledSweepDoesNotThrowFromCallerWhenSubscriptionFails() {
     when(awaitTimeoutFlow.sweepTimedOut(anyLong(), anyInt()))
@@ -116,6 +166,43 @@ class QueueAsyncSweepFlowTest {
     verify(awaitTimeoutFlow).sweepTimedOut(anyLong(), anyInt());
   }
 
+  @Test
+  void shardedSweepReadsOwnedShardsAndStealsOnlyOverdueExecutions() {
+    long now = 1_000_000L;
+    InMemoryPipelineWorkerRegistry registry = new InMemoryPipelineWorkerRegistry();
+    new SweepShardOwnership(() -> registry, "pipeline", "worker-b", 16, Duration.ofMinutes(2))
+        .refresh(now).await().indefinitely();
+    List<Integer> owned = SweepShardOwnership.ownedShards("worker-a", List.of("worker-a", "worker-b"), 16);
+    assertFalse(owned.isEmpty());
+    assertTrue(owned.size() < 16);
+    flow = new QueueAsyncSweepFlow(
+        orchestratorConfig,
+        executionStateStore,
+        workDispatcher,
+        awaitTimeoutFlow,
+        new SweepShardOwnership(() -> registry, "pipeline", "worker-a", 16, Duration.ofMinutes(2)));
+    when(orchestratorConfig.sweepStealAfter()).thenReturn(Duration.ofMinutes(1));
+    when(awaitTimeoutFlow.sweepTimedOut(now, 100)).thenReturn(Uni.createFrom().item(0));
+    when(executionStateStore.findDueExecutions(eq(now), anyInt(), eq(16), anyInt())).thenAnswer(invocation -> {
+      int shard = invocation.getArgument(3);
+      return Uni.createFrom().item(owned.contains(shard)
+          ? List.of(record("tenant-a", "owned-" + shard, now - 10L))
+          : List.of(record("tenant-a", "overdue-" + shard, 0L), record("tenant-a", "fresh-" + shard, now - 10L)));
+    });
+    when(workDispatcher.enqueueNow(any())).thenReturn(Uni.createFrom().voidItem());
+
+    flow.sweepOnce(now).await().indefinitely();
+
+    ArgumentCaptor<Integer> shards = ArgumentCaptor.forClass(Integer.class);
+    verify(executionStateStore, times(owned.size() + 1)).findDueExecutions(eq(now), anyInt(), eq(16), shards.capture());
+    List<Integer> stolen = shards.getAllValues().stream().filter(shard -> !owned.contains(shard)).toList();
+    assertEquals(1, stolen.size());
+    owned.forEach(shard -> verify(workDispatcher).enqueueNow(new ExecutionWorkItem("tenant-a", "owned-" + shard)));
+    verify(workDispatcher).enqueueNow(new ExecutionWorkItem("tenant-a", "overdue-" + stolen.getFirst()));
+    verify(workDispatcher, never()).enqueueNow(new ExecutionWorkItem("tenant-a", "fresh-" + stolen.getFirst()));
+    verify(executionStateStore, never()).findDueExecutions(anyLong(), anyInt());
+  }
+
   private static ExecutionRecord<Object, Object> record(String tenantId, String executionId) {
     return record(tenantId, executionId, 1L);
   }
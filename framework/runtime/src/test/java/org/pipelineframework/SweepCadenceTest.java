@@ -0,0 +1,31 @@
+package org.pipelineframework;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SweepCadenceTest {
+
+  @Test
+  void backsOffWhileIdleAndResetsOnWork() {
+    SweepCadence cadence = new SweepCadence(Duration.ofSeconds(30), Duration.ofMinutes(2));
+
+    assertEquals(30_000L, cadence.initialDelayMs());
+    assertEquals(60_000L, cadence.next(false));
+    assertEquals(120_000L, cadence.next(false));
+    assertEquals(120_000L, cadence.next(false));
+    assertEquals(30_000L, cadence.next(true));
+    assertEquals(60_000L, cadence.next(false));
+  }
+
+  @Test
+  void missingIdleIntervalKeepsAFixedCadence() {
+    SweepCadence cadence = new SweepCadence(Duration.ofSeconds(10), null);
+
+    assertEquals(10_000L, cadence.next(false));
+    assertEquals(10_000L, cadence.next(false));
+    assertEquals(1_000L, new SweepCadence(Duration.ofMillis(5), Duration.ZERO).next(false));
+  }
+}
@@ -0,0 +1,155 @@
+package org.pipelineframework;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import io.smallrye.mutiny.Uni;
+import org.junit.jupiter.api.Test;
+import org.pipelineframework.orchestrator.worker.InMemoryPipelineWorkerRegistry;
+import org.pipelineframework.orchestrator.worker.PipelineWorkerRecord;
+import org.pipelineframework.orchestrator.worker.PipelineWorkerRegistry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SweepShardOwnershipTest {
+
+  private static final Duration STALE_AFTER = Duration.ofMinutes(2);
+
+  @Test
+  void liveMembersOwnDisjointShardsCoveringEveryShard() {
+    InMemoryPipelineWorkerRegistry registry = new InMemoryPipelineWorkerRegistry();
+    List<SweepShardOwnership> members = List.of(
+        new SweepShardOwnership(() -> registry, "pipeline", "worker-a", 32, STALE_AFTER),
+        new SweepShardOwnership(() -> registry, "pipeline", "worker-b", 32, STALE_AFTER),
+        new SweepShardOwnership(() -> registry, "pipeline", "worker-c", 32, STALE_AFTER));
+    members.forEach(member -> member.refresh(1_000L).await().indefinitely());
+
+    List<SweepAssignment> assignments = members.stream()
+        .map(member -> member.refresh(2_000L).await().indefinitely())
+        .toList();
+
+    assertPartitions(assignments, 32);
+    assertTrue(assignments.stream().allMatch(assignment -> !assignment.ownedShards().isEmpty()));
+  }
+
+  @Test
+  void leavingMemberOnlyMovesItsOwnShards() {
+    InMemoryPipelineWorkerRegistry registry = new InMemoryPipelineWorkerRegistry();
+    SweepShardOwnership a = new SweepShardOwnership(() -> registry, "pipeline", "worker-a", 32, STALE_AFTER);
+    SweepShardOwnership b = new SweepShardOwnership(() -> registry, "pipeline", "worker-b", 32, STALE_AFTER);
+    SweepShardOwnership c = new SweepShardOwnership(() -> registry, "pipeline", "worker-c", 32, STALE_AFTER);
+    List.of(a, b, c).forEach(member -> member.refresh(1_000L).await().indefinitely());
+    SweepAssignment before = a.refresh(2_000L).await().indefinitely();
+
+    c.leave(3_000L).await().indefinitely();
+    SweepAssignment afterA = a.refresh(4_000L).await().indefinitely();
+    SweepAssignment afterB = b.refresh(4_000L).await().indefinitely();
+
+    assertPartitions(List.of(afterA, afterB), 32);
+    assertTrue(afterA.ownedShards().containsAll(before.ownedShards()));
+  }
+
+  @Test
+  void staleMembersLoseTheirShards() {
+    InMemoryPipelineWorkerRegistry registry = new InMemoryPipelineWorkerRegistry();
+    SweepShardOwnership a = new SweepShardOwnership(() -> registry, "pipeline", "worker-a", 8, STALE_AFTER);
+    SweepShardOwnership b = new SweepShardOwnership(() -> registry, "pipeline", "worker-b", 8, STALE_AFTER);
+    b.refresh(1_000L).await().indefinitely();
+
+    SweepAssignment assignment = a.refresh(1_000L + STALE_AFTER.toMillis() + 1L).await().indefinitely();
+
+    assertEquals(IntStream.range(0, 8).boxed().toList(), assignment.ownedShards());
+  }
+
+  @Test
+  void unreadableMembershipKeepsLastAssignmentOrOwnsEveryShard() {
+    FailingRegistry registry = new FailingRegistry();
+    SweepShardOwnership ownership = new SweepShardOwnership(() -> registry, "pipeline", "worker-a", 8, STALE_AFTER);
+
+    registry.failing = true;
+    assertEquals(8, ownership.refresh(1_000L).await().indefinitely().ownedShards().size());
+
+    registry.failing = false;
+    new SweepShardOwnership(() -> registry, "pipeline", "worker-b", 8, STALE_AFTER).refresh(1_000L).await().indefinitely();
+    SweepAssignment shared = ownership.refresh(2_000L).await().indefinitely();
+    registry.failing = true;
+
+    assertEquals(shared, ownership.refresh(3_000L).await().indefinitely());
+  }
+
+  @Test
+  void sweepPassesReuseTheLastRefreshWithoutCallingTheRegistry() {
+    CountingRegistry registry = new CountingRegistry();
+    SweepShardOwnership ownership = new SweepShardOwnership(() -> registry, "pipeline", "worker-a", 8, STALE_AFTER);
+
+    SweepAssignment first = ownership.assignment(1_000L).await().indefinitely();
+    SweepAssignment later = ownership.assignment(2_000L).await().indefinitely();
+
+    assertEquals(first, later);
+    assertEquals(1, registry.lists);
+    assertEquals(Duration.ofSeconds(30), ownership.refreshInterval());
+  }
+
+  @Test
+  void membershipStaysOutOfRealTenantsWithTheOldName() {
+    InMemoryPipelineWorkerRegistry registry = new InMemoryPipelineWorkerRegistry();
+    new SweepShardOwnership(() -> registry, "pipeline", "worker-a", 8, STALE_AFTER).refresh(1_000L).await().indefinitely();
+
+    assertTrue(PipelineWorkerRegistry.isReservedTenant(SweepShardOwnership.MEMBERSHIP_TENANT));
+    assertTrue(registry.list("tpf-sweep", "pipeline", 1_000L, STALE_AFTER).await().indefinitely().isEmpty());
+  }
+
+  @Test
+  void singleShardOrMissingRegistryIsUnsharded() {
+    assertEquals(SweepAssignment.unsharded(),
+        new SweepShardOwnership(InMemoryPipelineWorkerRegistry::new, "pipeline", "worker-a", 1, STALE_AFTER)
+            .refresh(1_000L).await().indefinitely());
+    assertEquals(SweepAssignment.unsharded(),
+        new SweepShardOwnership(() -> null, "pipeline", "worker-a", 8, STALE_AFTER)
+            .refresh(1_000L).await().indefinitely());
+  }
+
+  private static void assertPartitions(List<SweepAssignment> assignments, int shardCount) {
+    Set<Integer> seen = new HashSet<>();
+    int total = 0;
+    for (SweepAssignment assignment : assignments) {
+      seen.addAll(assignment.ownedShards());
+      total += assignment.ownedShards().size();
+    }
+    assertEquals(shardCount, total);
+    assertEquals(shardCount, seen.size());
+  }
+
+  private static final class CountingRegistry extends InMemoryPipelineWorkerRegistry {
+    private int lists;
+
+    @Override
+    public Uni<List<PipelineWorkerRecord>> list(
+        String tenantId,
+        String pipelineId,
+        long nowEpochMs,
+        Duration staleAfter) {
+      lists++;
+      return super.list(tenantId, pipelineId, nowEpochMs, staleAfter);
+    }
+  }
+
+  private static final class FailingRegistry extends InMemoryPipelineWorkerRegistry {
+    private boolean failing;
+
+    @Override
+    public Uni<List<PipelineWorkerRecord>> list(
+        String tenantId,
+        String pipelineId,
+        long nowEpochMs,
+        Duration staleAfter) {
+      return failing
+          ? Uni.createFrom().failure(new IllegalStateException("registry down"))
+          : super.list(tenantId, pipelineId, nowEpochMs, staleAfter);
+    }
+  }
+}
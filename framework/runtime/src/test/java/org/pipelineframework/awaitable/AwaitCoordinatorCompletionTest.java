@@ -1124,6 +1124,217 @@ class AwaitCoordinatorCompletionTest {
             store.get("tenant-1", created.record().interactionId()).await().indefinitely().orElseThrow().status());
     }
 
+    @Test
+    void batchedItemsAreCreatedTogetherAndSettledPerDispatchOutcome() {
+        InMemoryAwaitInteractionStore store = new InMemoryAwaitInteractionStore();
+        AwaitCoordinator coordinator = coordinator(store);
+        List<Integer> batchSizes = new java.util.ArrayList<>();
+        coordinator.adapters = new SimpleInstance<>(List.of(new AwaitTransportAdapter<>() {
+            @Override
+            public String type() {
+                return "interaction-api";
+            }
+
+            @Override
+            public Uni<AwaitDispatchResult> dispatch(AwaitDispatchRequest<Object> request) {
+                return Uni.createFrom().failure(new AssertionError("items must be dispatched as one batch"));
+            }
+
+            @Override
+            public Uni<List<AwaitDispatchOutcome>> dispatchAll(List<AwaitDispatchRequest<Object>> requests) {
+                batchSizes.add(requests.size());
+                return Uni.createFrom().item(requests.stream()
+                    .map(request -> request.interaction().itemIndex() == 1
+                        ? AwaitDispatchOutcome.failed(new IllegalStateException("provider rejected item"))
+                        : AwaitDispatchOutcome.succeeded(new AwaitDispatchResult(Map.of("batch", true))))
+                    .toList());
+            }
+        }));
+        AwaitStepDescriptor descriptor = descriptor("AwaitPaymentProvider");
+
+        IllegalStateException failure = assertThrows(IllegalStateException.class, () -> coordinator.createAndDispatchItems(
+            descriptor,
+            "tenant-1",
+            "exec-1",
+            1,
+            "unit-1",
+            List.of(
+                new AwaitCoordinator.ItemRequest(0, "exec-1:1:0", Map.of("paymentRecordId", "p-0")),
+                new AwaitCoordinator.ItemRequest(1, "exec-1:1:1", Map.of("paymentRecordId", "p-1")),
+                new AwaitCoordinator.ItemRequest(2, "exec-1:1:2", Map.of("paymentRecordId", "p-2"))),
+            null,
+            null).await().indefinitely());
+        List<AwaitInteractionRecord> created = unitItems(store, "unit-1");
+
+        assertEquals("provider rejected item", failure.getMessage());
+        assertEquals(List.of(3), batchSizes);
+        assertEquals(List.of(0, 1, 2), created.stream().map(AwaitInteractionRecord::itemIndex).toList());
+        assertEquals(AwaitInteractionStatus.DISPATCHED, created.get(0).status());
+        assertEquals(AwaitInteractionStatus.FAILED, created.get(1).status());
+        assertEquals(AwaitInteractionStatus.DISPATCHED, created.get(2).status());
+        assertEquals(true, created.get(2).transportMetadata().get("batch"));
+    }
+
+    @Test
+    void lostBatchClaimLeavesTheOtherItemsDispatched() {
+        InMemoryAwaitInteractionStore store = new InMemoryAwaitInteractionStore();
+        AwaitCoordinator coordinator = coordinator(store);
+        List<Integer> dispatchedItems = new java.util.concurrent.CopyOnWriteArrayList<>();
+        coordinator.adapters = new SimpleInstance<>(List.of(new AwaitTransportAdapter<>() {
+            @Override
+            public String type() {
+                return "interaction-api";
+            }
+
+            @Override
+            public Uni<AwaitDispatchResult> dispatch(AwaitDispatchRequest<Object> request) {
+                dispatchedItems.add(request.interaction().itemIndex());
+                return Uni.createFrom().item(new AwaitDispatchResult(Map.of()));
+            }
+        }));
+        AwaitStepDescriptor descriptor = descriptor("AwaitPaymentProvider");
+        List<AwaitCreateResult> created = createItems(coordinator, descriptor, 3);
+        AwaitInteractionRecord raced = created.get(1).record();
+        store.markDispatching("tenant-1", raced.interactionId(), raced.version(), System.currentTimeMillis())
+            .await().indefinitely();
+
+        IllegalStateException failure = assertThrows(IllegalStateException.class, () -> coordinator.dispatchAll(
+                descriptor, created.stream().map(AwaitCreateResult::record).toList())
+            .await().indefinitely());
+
+        assertTrue(failure.getMessage().contains("lost OCC race"));
+        assertEquals(List.of(0, 2), dispatchedItems.stream().sorted().toList());
+        assertEquals(AwaitInteractionStatus.DISPATCHED, stored(store, created.get(0)).status());
+        assertEquals(AwaitInteractionStatus.DISPATCHING, stored(store, created.get(1)).status());
+        assertEquals(AwaitInteractionStatus.DISPATCHED, stored(store, created.get(2)).status());
+    }
+
+    @Test
+    void batchedItemsAreDispatchedAsTheirAdmissionLeasesArrive() {
+        InMemoryAwaitInteractionStore store = new InMemoryAwaitInteractionStore();
+        AwaitCoordinator coordinator = coordinator(store);
+        List<Integer> dispatchedItems = new java.util.concurrent.CopyOnWriteArrayList<>();
+        java.util.concurrent.CompletableFuture<Void> capacityFreed = new java.util.concurrent.CompletableFuture<>();
+        coordinator.adapters = new SimpleInstance<>(List.of(new AwaitTransportAdapter<>() {
+            @Override
+            public String type() {
+                return "interaction-api";
+            }
+
+            @Override
+            public Uni<AwaitDispatchResult> dispatch(AwaitDispatchRequest<Object> request) {
+                dispatchedItems.add(request.interaction().itemIndex());
+                if (dispatchedItems.size() == 2) {
+                    capacityFreed.complete(null);
+                }
+                return Uni.createFrom().item(new AwaitDispatchResult(Map.of()));
+            }
+        }));
+        // Only two slots are free: the third lease is granted once the first two items have been dispatched.
+        coordinator.awaitAdmissionCoordinator = new AwaitAdmissionCoordinator() {
+            @Override
+            public Uni<Optional<AdmissionLease>> acquire(
+                AwaitStepDescriptor descriptor,
+                String tenantId,
+                String unitId,
+                Integer itemIndex,
+                String executionId,
+                long expiresAtEpochMs
+            ) {
+                AdmissionLease lease = new AdmissionLease(new org.pipelineframework.awaitable.admission.AwaitAdmissionReservation(
+                    new org.pipelineframework.awaitable.admission.AwaitAdmissionScope("pipeline", descriptor.stepId(), "endpoint"),
+                    new org.pipelineframework.awaitable.admission.AwaitAdmissionOwner(unitId + ":" + itemIndex),
+                    itemIndex,
+                    expiresAtEpochMs), false, false, 0L);
+                return itemIndex < 2
+                    ? Uni.createFrom().item(Optional.of(lease))
+                    : Uni.createFrom().completionStage(capacityFreed).replaceWith(Optional.of(lease));
+            }
+        };
+        AwaitStepDescriptor descriptor = descriptor("AwaitPaymentProvider");
+
+        List<AwaitInteractionRecord> dispatched = coordinator.createAndDispatchItems(
+            descriptor,
+            "tenant-1",
+            "exec-1",
+            1,
+            "unit-1",
+            List.of(
+                new AwaitCoordinator.ItemRequest(0, "exec-1:1:0", Map.of("paymentRecordId", "p-0")),
+                new AwaitCoordinator.ItemRequest(1, "exec-1:1:1", Map.of("paymentRecordId", "p-1")),
+                new AwaitCoordinator.ItemRequest(2, "exec-1:1:2", Map.of("paymentRecordId", "p-2"))),
+            null,
+            null).await().atMost(java.time.Duration.ofSeconds(5));
+
+        assertEquals(List.of(0, 1, 2), dispatched.stream().map(AwaitInteractionRecord::itemIndex).toList());
+        assertEquals(2, dispatchedItems.indexOf(2));
+        assertTrue(dispatched.stream().allMatch(record -> record.status() == AwaitInteractionStatus.DISPATCHED));
+    }
+
+    @Test
+    void defaultBatchDispatchSendsItemsConcurrently() {
+        InMemoryAwaitInteractionStore store = new InMemoryAwaitInteractionStore();
+        AwaitCoordinator coordinator = coordinator(store);
+        List<java.util.concurrent.CompletableFuture<AwaitTransportAdapter.AwaitDispatchResult>> pending =
+            new java.util.concurrent.CopyOnWriteArrayList<>();
+        coordinator.adapters = new SimpleInstance<>(List.of(new AwaitTransportAdapter<>() {
+            @Override
+            public String type() {
+                return "interaction-api";
+            }
+
+            @Override
+            public Uni<AwaitDispatchResult> dispatch(AwaitDispatchRequest<Object> request) {
+                java.util.concurrent.CompletableFuture<AwaitDispatchResult> sent =
+                    new java.util.concurrent.CompletableFuture<>();
+                pending.add(sent);
+                if (pending.size() == 3) {
+                    pending.forEach(future -> future.complete(new AwaitDispatchResult(Map.of())));
+                }
+                return Uni.createFrom().completionStage(sent);
+            }
+        }));
+        AwaitStepDescriptor descriptor = descriptor("AwaitPaymentProvider");
+        List<AwaitCreateResult> created = createItems(coordinator, descriptor, 3);
+
+        List<AwaitInteractionRecord> dispatched = coordinator.dispatchAll(
+                descriptor, created.stream().map(AwaitCreateResult::record).toList())
+            .await().atMost(java.time.Duration.ofSeconds(5));
+
+        assertEquals(List.of(0, 1, 2), dispatched.stream().map(AwaitInteractionRecord::itemIndex).toList());
+        assertTrue(dispatched.stream().allMatch(record -> record.status() == AwaitInteractionStatus.DISPATCHED));
+    }
+
+    private static List<AwaitCreateResult> createItems(
+        AwaitCoordinator coordinator,
+        AwaitStepDescriptor descriptor,
+        int count
+    ) {
+        return java.util.stream.IntStream.range(0, count)
+            .mapToObj(index -> coordinator.createOrGetItem(
+                descriptor,
+                "tenant-1",
+                "exec-1",
+                1,
+                "exec-1:1:" + index,
+                Map.of("paymentRecordId", "p-" + index),
+                "unit-1",
+                index,
+                null,
+                null).await().indefinitely())
+            .toList();
+    }
+
+    private static List<AwaitInteractionRecord> unitItems(InMemoryAwaitInteractionStore store, String unitId) {
+        return store.findByUnit("tenant-1", unitId).await().indefinitely().stream()
+            .sorted(java.util.Comparator.comparing(AwaitInteractionRecord::itemIndex))
+            .toList();
+    }
+
+    private static AwaitInteractionRecord stored(InMemoryAwaitInteractionStore store, AwaitCreateResult created) {
+        return store.get("tenant-1", created.record().interactionId()).await().indefinitely().orElseThrow();
+    }
+
     private static AwaitCoordinator coordinator(InMemoryAwaitInteractionStore store) {
         return coordinator(store, null);
     }
@@ -852,6 +852,33 @@ class AwaitStepSupportTest {
                 invocation.getArgument(7),
                 invocation.getArgument(8),
                 invocation.getArgument(9)));
+        lenient().when(awaitCoordinator.createAndDispatchItems(
+            org.mockito.ArgumentMatchers.any(),
+            org.mockito.ArgumentMatchers.anyString(),
+            org.mockito.ArgumentMatchers.anyString(),
+            anyInt(),
+            org.mockito.ArgumentMatchers.anyString(),
+            org.mockito.ArgumentMatchers.anyList(),
+            org.mockito.ArgumentMatchers.isNull(),
+            org.mockito.ArgumentMatchers.isNull())).thenAnswer(invocation -> {
+                List<AwaitCoordinator.ItemRequest> items = invocation.getArgument(5);
+                return Multi.createFrom().iterable(items)
+                    .onItem().transformToUniAndConcatenate(item -> awaitCoordinator.createOrGetItem(
+                        invocation.getArgument(0),
+                        invocation.getArgument(1),
+                        invocation.getArgument(2),
+                        invocation.getArgument(3),
+                        item.causationId(),
+                        item.requestPayload(),
+                        invocation.getArgument(4),
+                        item.itemIndex(),
+                        null,
+                        null))
+                    .select().where(created -> created.record().status() == AwaitInteractionStatus.WAITING)
+                    .onItem().transformToUniAndMerge(created -> awaitCoordinator.dispatch(
+                        invocation.getArgument(0), created.record()))
+                    .collect().asList();
+            });
         lenient().when(awaitCoordinator.reconcileCompletedItemInteractions(
             org.mockito.ArgumentMatchers.anyString(),
             org.mockito.ArgumentMatchers.anyString(),
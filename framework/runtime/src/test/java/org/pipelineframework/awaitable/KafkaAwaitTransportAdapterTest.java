@@ -1,11 +1,17 @@
 package org.pipelineframework.awaitable;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 
 import com.fasterxml.jackson.databind.JsonNode;
@@ -165,6 +171,39 @@ class KafkaAwaitTransportAdapterTest {
         assertEquals("org.pipelineframework.checkout", body.get("requestPayload").get("package").asText());
     }
 
+    @Test
+    void dispatchAllPublishesEveryRecordBeforeAwaitingAcknowledgements() throws Exception {
+        List<KafkaAwaitPublishRequest> published = new CopyOnWriteArrayList<>();
+        CountDownLatch allPublished = new CountDownLatch(3);
+        CompletableFuture<Void> brokerAck = new CompletableFuture<>();
+        KafkaAwaitTransportAdapter adapter = adapter(request -> {
+            published.add(request);
+            allPublished.countDown();
+            if ("interaction-1".equals(request.key())) {
+                return Uni.createFrom().failure(new IllegalStateException("record too large"));
+            }
+            return Uni.createFrom().completionStage(brokerAck);
+        });
+        AwaitStepDescriptor descriptor = descriptor(Map.of(
+            "request", Map.of("topic", "requests"),
+            "response", Map.of("topic", "responses")));
+        List<AwaitTransportAdapter.AwaitDispatchRequest<Object>> requests = List.of(
+            new AwaitTransportAdapter.AwaitDispatchRequest<>(descriptor, interaction("interaction-0"), Map.of()),
+            new AwaitTransportAdapter.AwaitDispatchRequest<>(descriptor, interaction("interaction-1"), Map.of()),
+            new AwaitTransportAdapter.AwaitDispatchRequest<>(descriptor, interaction("interaction-2"), Map.of()));
+
+        CompletableFuture<List<AwaitTransportAdapter.AwaitDispatchOutcome>> outcomes =
+            adapter.dispatchAll(requests).subscribeAsCompletionStage();
+
+        assertTrue(allPublished.await(5, TimeUnit.SECONDS));
+        assertFalse(outcomes.isDone());
+        brokerAck.complete(null);
+        List<AwaitTransportAdapter.AwaitDispatchOutcome> settled = outcomes.join();
+        assertEquals("requests", settled.get(0).result().metadata().get("requestTopic"));
+        assertEquals("record too large", settled.get(1).failure().getMessage());
+        assertEquals("interaction-2", settled.get(2).result().metadata().get("key"));
+    }
+
     private static KafkaAwaitTransportAdapter adapter(org.pipelineframework.awaitable.kafka.KafkaAwaitPublisher publisher) {
         KafkaAwaitTransportAdapter adapter = new KafkaAwaitTransportAdapter(publisher);
         adapter.resumeTokenService = new AwaitResumeTokenService("secret-value-for-tests");
@@ -184,13 +223,17 @@ class KafkaAwaitTransportAdapterTest {
     }
 
     private static AwaitInteractionRecord interaction() {
+        return interaction("interaction-1");
+    }
+
+    private static AwaitInteractionRecord interaction(String interactionId) {
         return new AwaitInteractionRecord(
             "tenant-1",
             "exec-1",
             "FraudCheck",
             1,
             "com.example.Decision",
-            "interaction-1",
+            interactionId,
             "corr-1",
             "cause-1",
             "idem-1",
@@ -4,12 +4,16 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -20,6 +24,11 @@ import org.pipelineframework.awaitable.spi.AwaitTransportAdapter;
 import org.pipelineframework.config.pipeline.PipelineJson;
 import org.pipelineframework.orchestrator.PipelineOrchestratorConfig;
 import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResultEntry;
 import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
 
 class SqsAwaitTransportAdapterTest {
@@ -167,6 +176,53 @@ class SqsAwaitTransportAdapterTest {
         assertTrue(exception.getMessage().contains("standard queues only"));
     }
 
+    @Test
+    void dispatchAllSendsMessageBatchesAndFailsOnlyRejectedEntries() {
+        SqsClient client = mock(SqsClient.class);
+        List<SendMessageBatchRequest> batches = new ArrayList<>();
+        when(client.sendMessageBatch(any(SendMessageBatchRequest.class))).thenAnswer(invocation -> {
+            SendMessageBatchRequest request = invocation.getArgument(0);
+            batches.add(request);
+            List<SendMessageBatchResultEntry> successful = new ArrayList<>();
+            List<BatchResultErrorEntry> failed = new ArrayList<>();
+            for (SendMessageBatchRequestEntry entry : request.entries()) {
+                if ("3".equals(entry.id())) {
+                    failed.add(BatchResultErrorEntry.builder()
+                        .id(entry.id()).code("InvalidMessageContents").message("bad body").senderFault(true).build());
+                } else {
+                    successful.add(SendMessageBatchResultEntry.builder().id(entry.id()).messageId("m-" + entry.id()).build());
+                }
+            }
+            return SendMessageBatchResponse.builder().successful(successful).failed(failed).build();
+        });
+        SqsAwaitTransportAdapter adapter = adapter(client);
+        AwaitStepDescriptor descriptor = descriptor(Map.of(
+            "request", Map.of("queueUrl", "http://sqs.local/requests"),
+            "response", Map.of("queueUrl", "http://sqs.local/responses")));
+        List<AwaitTransportAdapter.AwaitDispatchRequest<Object>> requests = new ArrayList<>();
+        for (int index = 0; index < 12; index++) {
+            requests.add(new AwaitTransportAdapter.AwaitDispatchRequest<>(
+                descriptor, interaction("interaction-" + index), Map.of("paymentId", "p-" + index)));
+        }
+
+        List<AwaitTransportAdapter.AwaitDispatchOutcome> outcomes = adapter.dispatchAll(requests)
+            .await().atMost(Duration.ofSeconds(5));
+
+        assertEquals(2, batches.size());
+        assertEquals(10, batches.get(0).entries().size());
+        assertEquals(2, batches.get(1).entries().size());
+        assertEquals("http://sqs.local/requests", batches.get(0).queueUrl());
+        assertTrue(batches.get(1).entries().get(1).messageBody().contains("\"interactionId\":\"interaction-11\""));
+        assertEquals(12, outcomes.size());
+        assertTrue(outcomes.get(3).failure().getMessage().contains("InvalidMessageContents"));
+        for (int index = 0; index < 12; index++) {
+            if (index != 3) {
+                assertEquals("http://sqs.local/requests", outcomes.get(index).result().metadata().get("requestQueueUrl"));
+            }
+        }
+        verify(client, never()).sendMessage(any(SendMessageRequest.class));
+    }
+
     private static SqsAwaitTransportAdapter adapter(SqsClient client) {
         SqsAwaitTransportAdapter adapter = new SqsAwaitTransportAdapter(client, config());
         adapter.resumeTokenService = new AwaitResumeTokenService("secret-value-for-tests");
@@ -204,13 +260,17 @@ class SqsAwaitTransportAdapterTest {
     }
 
     private static AwaitInteractionRecord interaction() {
+        return interaction("interaction-1");
+    }
+
+    private static AwaitInteractionRecord interaction(String interactionId) {
         return new AwaitInteractionRecord(
             "tenant-1",
             "exec-1",
             "PaymentProvider",
             1,
             "com.example.PaymentStatus",
-            "interaction-1",
+            interactionId,
             "corr-1",
             "cause-1",
             "idem-1",
@@ -20,6 +20,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.pipelineframework.awaitable.AwaitCompletionCommand;
 import org.pipelineframework.awaitable.AwaitCreateCommand;
+import org.pipelineframework.awaitable.AwaitCreateResult;
 import org.pipelineframework.awaitable.AwaitDurablePayloadResolver;
 import org.pipelineframework.awaitable.AwaitInteractionRecord;
 import org.pipelineframework.awaitable.AwaitInteractionStatus;
@@ -34,6 +35,7 @@ import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
 import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
 import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
 import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsResponse;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
 import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.UpdateItemResponse;
 
@@ -53,6 +55,61 @@ class DynamoAwaitInteractionStoreTest {
         verify(client, never()).getItem(any(GetItemRequest.class));
     }
 
+    @Test
+    void createOrGetAllWritesItemsInBoundedTransactionsAndResolvesRepeatedKeysInBatch() {
+        DynamoDbClient client = mock(DynamoDbClient.class);
+        DynamoAwaitInteractionStore store = new DynamoAwaitInteractionStore(client, mockConfig());
+        when(client.transactWriteItems(any(TransactWriteItemsRequest.class)))
+            .thenReturn(TransactWriteItemsResponse.builder().build());
+        List<AwaitCreateCommand> commands = new java.util.ArrayList<>();
+        for (int index = 0; index < 40; index++) {
+            commands.add(command("tenant-a", "execution-1", "review", "idem-" + index, "corr-" + index, "unit-1",
+                index, null, null, 20_000L));
+        }
+        commands.add(command("tenant-a", "execution-1", "review", "idem-0", "corr-0", "unit-1", 0, null, null, 20_000L));
+
+        List<AwaitCreateResult> results = store.createOrGetAll(commands).await().indefinitely();
+
+        ArgumentCaptor<TransactWriteItemsRequest> captor = ArgumentCaptor.forClass(TransactWriteItemsRequest.class);
+        verify(client, times(2)).transactWriteItems(captor.capture());
+        assertEquals(List.of(99, 21), captor.getAllValues().stream().map(request -> request.transactItems().size()).toList());
+        assertEquals(41, results.size());
+        assertTrue(results.subList(0, 40).stream().noneMatch(AwaitCreateResult::duplicate));
+        assertEquals(List.of(0, 39), List.of(results.get(0).record().itemIndex(), results.get(39).record().itemIndex()));
+        assertTrue(results.get(40).duplicate());
+        assertEquals(results.get(0).record().interactionId(), results.get(40).record().interactionId());
+        verify(client, never()).getItem(any(GetItemRequest.class));
+    }
+
+    @Test
+    void createOrGetAllSettlesEachCommandAfterACancelledTransaction() {
+        DynamoDbClient client = mock(DynamoDbClient.class);
+        DynamoAwaitInteractionStore store = new DynamoAwaitInteractionStore(client, mockConfig());
+        TransactionCanceledException cancelled = TransactionCanceledException.builder().message("cancelled").build();
+        when(client.transactWriteItems(any(TransactWriteItemsRequest.class)))
+            .thenThrow(cancelled)
+            .thenThrow(cancelled)
+            .thenReturn(TransactWriteItemsResponse.builder().build());
+        when(client.getItem(any(GetItemRequest.class))).thenAnswer(invocation -> {
+            GetItemRequest request = invocation.getArgument(0);
+            return "tpf_await_interaction_key".equals(request.tableName())
+                ? GetItemResponse.builder().item(Map.of("interaction_id", avS("interaction-existing"))).build()
+                : GetItemResponse.builder().item(item("tenant-a", "interaction-existing", "unit-1", 0,
+                    AwaitInteractionStatus.DISPATCHED, 20_000L, "alice", "finance")).build();
+        });
+
+        List<AwaitCreateResult> results = store.createOrGetAll(List.of(
+                command("tenant-a", "execution-1", "review", "idem-0", "corr-0", "unit-1", 0, null, null, 20_000L),
+                command("tenant-a", "execution-1", "review", "idem-1", "corr-1", "unit-1", 1, null, null, 20_000L)))
+            .await().indefinitely();
+
+        verify(client, times(3)).transactWriteItems(any(TransactWriteItemsRequest.class));
+        assertTrue(results.get(0).duplicate());
+        assertEquals("interaction-existing", results.get(0).record().interactionId());
+        assertFalse(results.get(1).duplicate());
+        assertEquals(1, results.get(1).record().itemIndex());
+    }
+
     @Test
     void writesAndRestoresTypedDurableAwaitPayloads() {
         DynamoDbClient client = mock(DynamoDbClient.class);
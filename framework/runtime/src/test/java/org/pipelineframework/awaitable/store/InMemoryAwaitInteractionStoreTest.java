@@ -475,6 +475,53 @@ class InMemoryAwaitInteractionStoreTest {
         assertEquals(2L, dispatched.get().version());
     }
 
+    @Test
+    void secondaryIndexesFollowEveryTransition() {
+        InMemoryAwaitInteractionStore store = new InMemoryAwaitInteractionStore();
+        var created = store.createOrGet(createCommand("idem-1", 10_000L, 20_000L)).await().indefinitely().record();
+        var claimed = store.markDispatching("tenant", created.interactionId(), created.version(), 11_000L)
+            .await().indefinitely().orElseThrow();
+        var dispatched = store.markDispatched(
+            "tenant", created.interactionId(), claimed.version(), Map.of("messageId", "m-1"), 12_000L)
+            .await().indefinitely().orElseThrow();
+
+        var pending = store.queryPending("tenant", "alice", "finance", "review", 10).await().indefinitely();
+        var timedOut = store.findTimedOut(21_000L, 10).await().indefinitely();
+
+        assertEquals(List.of(dispatched), pending);
+        assertEquals(List.of(dispatched), timedOut);
+
+        var cancelled = store.cancel("tenant", created.interactionId(), dispatched.version(), "operator", 13_000L)
+            .await().indefinitely().orElseThrow();
+
+        assertTrue(store.queryPending("tenant", "alice", null, null, 10).await().indefinitely().isEmpty());
+        assertTrue(store.findTimedOut(21_000L, 10).await().indefinitely().isEmpty());
+        assertEquals(List.of(cancelled), store.findByUnit("tenant", "unit-1").await().indefinitely());
+    }
+
+    @Test
+    void expiredInteractionsLeaveEverySecondaryIndex() {
+        InMemoryAwaitInteractionStore store = new InMemoryAwaitInteractionStore();
+        store.createOrGet(new AwaitCreateCommand(
+            "tenant", "execution-1", "review", 0, String.class.getName(),
+            "cause-1", "idem-1", "corr-1", Map.of(), "alice", "finance", "interaction-api",
+            "unit-1", null, 10_000L, 20_000L, 30L)).await().indefinitely();
+        store.createOrGet(new AwaitCreateCommand(
+            "tenant", "execution-2", "review", 0, String.class.getName(),
+            "cause-2", "idem-2", "corr-2", Map.of(), "alice", "finance", "interaction-api",
+            "unit-1", null, 10_000L, 20_000L, Long.MAX_VALUE)).await().indefinitely();
+
+        var timedOut = store.findTimedOut(31_000L, 10).await().indefinitely();
+        var unit = store.findByUnit("tenant", "unit-1").await().indefinitely();
+
+        assertEquals(List.of("idem-2"), timedOut.stream().map(AwaitInteractionRecord::idempotencyKey).toList());
+        assertEquals(List.of("idem-2"), unit.stream().map(AwaitInteractionRecord::idempotencyKey).toList());
+        assertFalse(store.createOrGet(new AwaitCreateCommand(
+            "tenant", "execution-1", "review", 0, String.class.getName(),
+            "cause-1", "idem-1", "corr-1", Map.of(), "alice", "finance", "interaction-api",
+            "unit-1", null, 31_000L, 90_000L, Long.MAX_VALUE)).await().indefinitely().duplicate());
+    }
+
     private AwaitCreateCommand createCommand(String idempotencyKey, long nowEpochMs, long deadlineEpochMs) {
         return new AwaitCreateCommand(
             "tenant",
@@ -1,19 +1,28 @@
 package org.pipelineframework.blocking;
 
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
+import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.SmallRyeConfigBuilder;
+import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.helpers.test.AssertSubscriber;
 import org.junit.jupiter.api.Test;
 import org.pipelineframework.service.blocking.BlockingService;
 import org.pipelineframework.service.blocking.BlockingIteratorService;
 import org.pipelineframework.service.blocking.BlockingStreamingService;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -51,6 +60,181 @@ class BlockingExecutionSupportTest {
         assertTrue("ok".equals(value));
     }
 
+    @Test
+    void virtualThreadExecutionCapsInFlightInvocationsPerStep() throws Exception {
+        BlockingExecutionSupport capped = new BlockingExecutionSupport(new BlockingExecutionSettings(
+            true, 0, Map.of("jdbc-step", 2), false, Duration.ofMillis(20), 0, Map.of(), 16));
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        List<Uni<String>> calls = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            calls.add(capped.supply(true, "jdbc-step", () -> {
+                peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+                return "ok";
+            }));
+        }
+
+        List<CompletableFuture<String>> pending = calls.stream()
+            .map(call -> call.subscribeAsCompletionStage())
+            .toList();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (running.get() < 2 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        Thread.sleep(50);
+        assertEquals(2, running.get());
+        release.countDown();
+        for (CompletableFuture<String> call : pending) {
+            assertEquals("ok", call.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(2, peak.get());
+        capped.close();
+    }
+
+    @Test
+    void virtualThreadInvocationsBlockWithoutHoldingPlatformThreads() throws Exception {
+        BlockingExecutionSupport unbounded = new BlockingExecutionSupport(new BlockingExecutionSettings(
+            true, 0, Map.of(), false, Duration.ofMillis(20), 0, Map.of(), 16));
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        int invocations = 500;
+        CountDownLatch started = new CountDownLatch(invocations);
+        CountDownLatch release = new CountDownLatch(1);
+        int platformThreadsBefore = threadBean.getThreadCount();
+        List<CompletableFuture<String>> pending = new ArrayList<>();
+        for (int i = 0; i < invocations; i++) {
+            pending.add(unbounded.supply(true, "jdbc-step", () -> {
+                started.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "ok";
+            }).subscribeAsCompletionStage());
+        }
+
+        assertTrue(started.await(10, TimeUnit.SECONDS), "all invocations should block at once");
+        int addedPlatformThreads = threadBean.getThreadCount() - platformThreadsBefore;
+        release.countDown();
+        for (CompletableFuture<String> call : pending) {
+            assertEquals("ok", call.get(10, TimeUnit.SECONDS));
+        }
+        unbounded.close();
+        assertTrue(addedPlatformThreads <= Runtime.getRuntime().availableProcessors() + 2,
+            "blocked virtual threads should only add carrier threads, added " + addedPlatformThreads);
+    }
+
+    @Test
+    void settingsReadDefaultsAndPerStepOverridesFromConfig() {
+        BlockingExecutionSettings settings = BlockingExecutionSettings.fromConfig(new SmallRyeConfigBuilder()
+            .withSources(new PropertiesConfigSource(Map.of(
+                "pipeline.blocking.virtual-threads", "true",
+                "pipeline.blocking.max-in-flight", "16",
+                "pipeline.blocking.step.\"com.example.JdbcStep\".max-in-flight", "4",
+                "pipeline.blocking.iterator-prefetch", "256",
+                "pipeline.blocking.step.\"com.example.CsvStep\".iterator-prefetch", "64"), "test", 100))
+            .build());
+
+        assertTrue(settings.virtualThreads());
+        assertEquals(4, settings.maxInFlight("com.example.JdbcStep"));
+        assertEquals(16, settings.maxInFlight("com.example.OtherStep"));
+        assertEquals(0, settings.maxInFlight(null));
+        assertEquals(0, BlockingExecutionSettings.defaults().maxInFlight("com.example.JdbcStep"));
+        assertEquals(256, settings.iteratorPrefetch());
+        assertEquals(64, settings.iteratorPrefetch("com.example.CsvStep"));
+        assertEquals(256, settings.iteratorPrefetch("com.example.OtherStep"));
+        assertEquals(16, settings.iteratorPrefetchChunk());
+        assertEquals(0, BlockingExecutionSettings.defaults().iteratorPrefetch());
+    }
+
+    @Test
+    void emitIteratorReadsAheadWhenPrefetchIsConfigured() throws Exception {
+        BlockingExecutionSupport prefetching = new BlockingExecutionSupport(new BlockingExecutionSettings(
+            false, 0, Map.of(), false, Duration.ofMillis(20), 8, Map.of(), 4));
+        AtomicInteger reads = new AtomicInteger();
+        CountDownLatch closed = new CountDownLatch(1);
+        AssertSubscriber<Integer> subscriber = prefetching.<Integer>emitIterator(false, () -> new CloseableIterator<>() {
+            @Override
+            public boolean hasNext() {
+                return reads.get() < 100;
+            }
+
+            @Override
+            public Integer next() {
+                return reads.incrementAndGet();
+            }
+
+            @Override
+            public void close() {
+                closed.countDown();
+            }
+        }).subscribe().withSubscriber(AssertSubscriber.create(1));
+
+        subscriber.awaitItems(1, Duration.ofSeconds(5));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (reads.get() < 9 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertTrue(reads.get() > 1, "producer should read ahead of demand");
+        assertTrue(reads.get() <= 1 + 8 + 4, "read-ahead must stay within ring and chunk bounds");
+
+        subscriber.request(Long.MAX_VALUE);
+        subscriber.awaitCompletion(Duration.ofSeconds(5));
+        assertEquals(100, subscriber.getItems().size());
+        assertEquals(List.of(1, 2, 3), subscriber.getItems().subList(0, 3));
+        assertTrue(closed.await(5, TimeUnit.SECONDS));
+        prefetching.close();
+    }
+
+    @Test
+    void prefetchProducersRunUnderTheStepInFlightCap() throws Exception {
+        BlockingExecutionSupport capped = new BlockingExecutionSupport(new BlockingExecutionSettings(
+            true, 0, Map.of("csv-step", 1), false, Duration.ofMillis(20), 0, Map.of("csv-step", 4), 2));
+        AtomicInteger reading = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        List<CompletableFuture<List<Integer>>> streams = new ArrayList<>();
+        for (int stream = 0; stream < 3; stream++) {
+            streams.add(capped.<Integer>emitIterator(true, "csv-step", () -> {
+                peak.accumulateAndGet(reading.incrementAndGet(), Math::max);
+                return new CloseableIterator<>() {
+                    private int index;
+
+                    @Override
+                    public boolean hasNext() {
+                        if (index == 20) {
+                            index++;
+                            reading.decrementAndGet();
+                        }
+                        return index < 20;
+                    }
+
+                    @Override
+                    public Integer next() {
+                        peak.accumulateAndGet(reading.get(), Math::max);
+                        return index++;
+                    }
+
+                    @Override
+                    public void close() {
+                    }
+                };
+            }).collect().asList().subscribeAsCompletionStage());
+        }
+
+        for (CompletableFuture<List<Integer>> stream : streams) {
+            assertEquals(20, stream.get(5, TimeUnit.SECONDS).size());
+        }
+        assertEquals(1, peak.get());
+        capped.close();
+    }
+
     @Test
     void blockingUnaryServiceReactiveAdapterRunsOffCallerThread() {
         AtomicReference<Thread> executingThread = new AtomicReference<>();
@@ -0,0 +1,178 @@
+package org.pipelineframework.blocking;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class BlockingIteratorPrefetcherTest {
+
+    @Test
+    void deliversAllItemsInOrderAndClosesDelegate() throws Exception {
+        CountingIterator source = new CountingIterator(1_000, -1);
+        BlockingIteratorPrefetcher<Integer> prefetcher = new BlockingIteratorPrefetcher<>(source, 16, 4);
+
+        List<Integer> items = new ArrayList<>();
+        while (prefetcher.hasNext()) {
+            items.add(prefetcher.next());
+        }
+        prefetcher.close();
+
+        assertEquals(1_000, items.size());
+        for (int i = 0; i < items.size(); i++) {
+            assertEquals(i + 1, items.get(i));
+        }
+        assertThrows(NoSuchElementException.class, prefetcher::next);
+        assertTrue(source.closed.get());
+    }
+
+    @Test
+    void readsAheadUpToCapacityWithoutDemand() throws Exception {
+        CountingIterator source = new CountingIterator(1_000, -1);
+        BlockingIteratorPrefetcher<Integer> prefetcher = new BlockingIteratorPrefetcher<>(source, 8, 8);
+
+        assertEquals(1, prefetcher.next());
+        awaitReads(source, 1 + 8 + 8);
+        Thread.sleep(50);
+
+        assertTrue(source.reads.get() > 1);
+        assertTrue(source.reads.get() <= 1 + 8 + 8, "read " + source.reads.get() + " items ahead");
+        prefetcher.close();
+        assertTrue(source.closed.get());
+    }
+
+    @Test
+    void readsTheNextItemWhileTheConsumerIsStillProcessing() throws Exception {
+        CountingIterator source = new CountingIterator(200, -1);
+        BlockingIteratorPrefetcher<Integer> prefetcher = new BlockingIteratorPrefetcher<>(source, 8, 4);
+
+        int overlapped = 0;
+        while (prefetcher.hasNext()) {
+            int item = prefetcher.next();
+            // Processing of this item only finishes once the producer has read past it.
+            awaitReads(source, Math.min(item + 1, 200));
+            if (source.reads.get() > item) {
+                overlapped++;
+            }
+        }
+        prefetcher.close();
+
+        assertEquals(199, overlapped, "every item but the last should overlap with reading its successor");
+    }
+
+    @Test
+    void rethrowsDelegateFailureAfterItemsReadBeforeIt() throws Exception {
+        CountingIterator source = new CountingIterator(10, 3);
+        BlockingIteratorPrefetcher<Integer> prefetcher = new BlockingIteratorPrefetcher<>(source, 4, 2);
+
+        assertEquals(1, prefetcher.next());
+        assertEquals(2, prefetcher.next());
+        assertEquals(3, prefetcher.next());
+        IllegalStateException failure = assertThrows(IllegalStateException.class, prefetcher::hasNext);
+        assertEquals("read failed", failure.getMessage());
+        prefetcher.close();
+        assertTrue(source.closed.get());
+    }
+
+    @Test
+    void closeStopsProducerBlockedOnFullRing() throws Exception {
+        CountingIterator source = new CountingIterator(Integer.MAX_VALUE, -1);
+        BlockingIteratorPrefetcher<Integer> prefetcher = new BlockingIteratorPrefetcher<>(source, 4, 2);
+
+        assertTrue(prefetcher.hasNext());
+        awaitReads(source, 4);
+        prefetcher.close();
+        int readsAtClose = source.reads.get();
+        Thread.sleep(20);
+
+        assertTrue(source.closed.get());
+        assertEquals(readsAtClose, source.reads.get());
+    }
+
+    @Test
+    void closeBeforeIterationClosesDelegateWithoutReading() throws Exception {
+        CountingIterator source = new CountingIterator(10, -1);
+        BlockingIteratorPrefetcher<Integer> prefetcher = new BlockingIteratorPrefetcher<>(source, 4, 2);
+
+        prefetcher.close();
+
+        assertTrue(source.closed.get());
+        assertEquals(0, source.reads.get());
+        assertFalse(prefetcher.hasNext());
+    }
+
+    @Test
+    void runsProducerOnSuppliedExecutor() throws Exception {
+        CountingIterator source = new CountingIterator(3, -1);
+        List<Thread> producers = new ArrayList<>();
+        BlockingIteratorPrefetcher<Integer> prefetcher = new BlockingIteratorPrefetcher<>(source, 4, 4, command -> {
+            Thread thread = Thread.ofPlatform().name("prefetch-test").unstarted(command);
+            producers.add(thread);
+            thread.start();
+        });
+
+        assertEquals(1, prefetcher.next());
+        prefetcher.close();
+
+        assertEquals(1, producers.size());
+        assertSame(producers.get(0), source.readingThread);
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        CountingIterator source = new CountingIterator(1, -1);
+        assertThrows(IllegalArgumentException.class, () -> new BlockingIteratorPrefetcher<>(source, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new BlockingIteratorPrefetcher<>(source, 4, 0));
+        assertThrows(IllegalArgumentException.class, () -> new BlockingIteratorPrefetcher<>(source, 4, 5));
+        assertThrows(NullPointerException.class, () -> new BlockingIteratorPrefetcher<Integer>(null, 4, 2));
+    }
+
+    private static void awaitReads(CountingIterator source, int reads) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (source.reads.get() < reads && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    private static final class CountingIterator implements CloseableIterator<Integer> {
+        private final int size;
+        private final int failAfter;
+        private final AtomicInteger reads = new AtomicInteger();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile Thread readingThread;
+
+        private CountingIterator(int size, int failAfter) {
+            this.size = size;
+            this.failAfter = failAfter;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return reads.get() < size;
+        }
+
+        @Override
+        public Integer next() {
+            readingThread = Thread.currentThread();
+            if (reads.get() == failAfter) {
+                throw new IllegalStateException("read failed");
+            }
+            return reads.incrementAndGet();
+        }
+
+        @Override
+        public void close() {
+            closed.set(true);
+        }
+    }
+}
@@ -201,6 +201,8 @@ class PipelineYamlConfigLoaderTest {
                   enabled: true
                   interval: PT5S
                   batchSize: 10
+                  admissionConcurrency: 4
+                  maxAdmissionAttempts: 5
                 identity:
                   fields: [provider, container, key, etag]
                 payload:
@@ -223,6 +225,8 @@ class PipelineYamlConfigLoaderTest {
         assertEquals("/tmp/incoming", config.sources().get("documents").location().get("root"));
         assertEquals(List.of("*.csv"), config.sources().get("documents").filter().include());
         assertEquals(10, config.sources().get("documents").poll().batchSize());
+        assertEquals(4, config.sources().get("documents").poll().admissionConcurrency());
+        assertEquals(5, config.sources().get("documents").poll().maxAdmissionAttempts());
         assertNotNull(config.input());
         assertEquals("documents", config.input().object().source());
         assertEquals("com.example.DocumentInput", config.input().object().type());
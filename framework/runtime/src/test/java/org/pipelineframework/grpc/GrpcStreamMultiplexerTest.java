@@ -0,0 +1,368 @@
+/*
+ * Copyright (c) 2023-2026 Mariano Barcia
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.pipelineframework.grpc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.pipelineframework.cache.CacheStatus;
+import org.pipelineframework.context.PipelineCacheStatusHolder;
+import org.pipelineframework.context.PipelineContext;
+import org.pipelineframework.context.PipelineContextHeaders;
+import org.pipelineframework.context.PipelineContextHolder;
+import org.pipelineframework.context.TransportDispatchMetadata;
+import org.pipelineframework.context.TransportDispatchMetadataHolder;
+
+class GrpcStreamMultiplexerTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final Envelope envelope = new Envelope();
+    private final AtomicInteger opened = new AtomicInteger();
+    private final AtomicInteger unaryCalls = new AtomicInteger();
+
+    @AfterEach
+    void clearContext() {
+        PipelineContextHolder.clear();
+        TransportDispatchMetadataHolder.clear();
+        PipelineCacheStatusHolder.clear();
+    }
+
+    @Test
+    void correlatesOutOfOrderResponsesOverPooledStreams() {
+        GrpcStreamMultiplexer<String, String, Request, Response> multiplexer = new GrpcStreamMultiplexer<>(
+            envelope,
+            loopback(item -> Uni.createFrom().item(item.toUpperCase())
+                .onItem().delayIt().by(Duration.ofMillis(50 - Integer.parseInt(item.substring(1)) * 2L))),
+            this::unary,
+            2,
+            16);
+
+        List<String> results = Multi.createFrom().range(0, 20)
+            .onItem().transformToUniAndMerge(i -> multiplexer.call("i" + i))
+            .collect().asList()
+            .await().atMost(TIMEOUT);
+
+        assertEquals(20, results.size());
+        assertEquals(
+            java.util.stream.IntStream.range(0, 20).mapToObj(i -> "I" + i).sorted().toList(),
+            results.stream().sorted().toList());
+        assertEquals(2, opened.get());
+        assertEquals(0, unaryCalls.get());
+        assertEquals(0, multiplexer.inFlight());
+    }
+
+    @Test
+    void holdsCallsBeyondTheWindowUntilResponsesFreeSlots() {
+        List<UniEmitter<? super String>> replies = new ArrayList<>();
+        GrpcStreamMultiplexer<String, String, Request, Response> multiplexer = new GrpcStreamMultiplexer<>(
+            envelope,
+            loopback(item -> Uni.createFrom().<String>emitter(reply -> {
+                synchronized (replies) {
+                    replies.add(reply);
+                }
+            })),
+            this::unary,
+            1,
+            2);
+
+        List<UniAssertSubscriber<String>> calls = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            calls.add(multiplexer.call("item-" + i).subscribe().withSubscriber(UniAssertSubscriber.create()));
+        }
+
+        assertEquals(2, multiplexer.inFlight());
+        assertEquals(3, multiplexer.queued());
+        synchronized (replies) {
+            replies.get(0).complete("done-0");
+        }
+        calls.get(0).awaitItem(TIMEOUT).assertItem("done-0");
+        assertEquals(2, multiplexer.inFlight());
+        assertEquals(2, multiplexer.queued());
+        assertEquals(1, opened.get());
+    }
+
+    @Test
+    void mapsItemFailuresWithoutEndingTheStream() {
+        GrpcStreamMultiplexer<String, String, Request, Response> multiplexer = new GrpcStreamMultiplexer<>(
+            envelope,
+            loopback(item -> "bad".equals(item)
+                ? Uni.createFrom().failure(Status.INVALID_ARGUMENT.withDescription("rejected bad").asRuntimeException())
+                : Uni.createFrom().item(item + "!")),
+            this::unary,
+            1,
+            8);
+
+        StatusRuntimeException failure = assertThrows(StatusRuntimeException.class,
+            () -> multiplexer.call("bad").await().atMost(TIMEOUT));
+        assertEquals(Status.Code.INVALID_ARGUMENT, failure.getStatus().getCode());
+        assertEquals("rejected bad", failure.getStatus().getDescription());
+        assertEquals("ok!", multiplexer.call("ok").await().atMost(TIMEOUT));
+        assertEquals(1, opened.get());
+    }
+
+    @Test
+    void fallsBackToUnaryWhenServerLacksStreamEndpoint() {
+        GrpcStreamMultiplexer<String, String, Request, Response> multiplexer = new GrpcStreamMultiplexer<>(
+            envelope,
+            requests -> {
+                opened.incrementAndGet();
+                return Multi.createFrom().failure(Status.UNIMPLEMENTED.asRuntimeException());
+            },
+            this::unary,
+            2,
+            8);
+
+        assertEquals("unary:a", multiplexer.call("a").await().atMost(TIMEOUT));
+        assertEquals("unary:b", multiplexer.call("b").await().atMost(TIMEOUT));
+
+        assertTrue(multiplexer.unsupported());
+        assertEquals(1, opened.get());
+        assertEquals(2, unaryCalls.get());
+    }
+
+    @Test
+    void failsInFlightCallsWhenStreamBreaksAndReopensForLaterCalls() {
+        AtomicInteger attempts = new AtomicInteger();
+        Function<Multi<Request>, Multi<Response>> healthy = loopback(item -> Uni.createFrom().item(item));
+        GrpcStreamMultiplexer<String, String, Request, Response> multiplexer = new GrpcStreamMultiplexer<>(
+            envelope,
+            requests -> attempts.incrementAndGet() == 1
+                ? Multi.createFrom().failure(Status.UNAVAILABLE.withDescription("connection reset").asRuntimeException())
+                : healthy.apply(requests),
+            this::unary,
+            1,
+            8);
+
+        StatusRuntimeException failure = assertThrows(StatusRuntimeException.class,
+            () -> multiplexer.call("first").await().atMost(TIMEOUT));
+        assertEquals(Status.Code.UNAVAILABLE, failure.getStatus().getCode());
+        assertEquals("second", multiplexer.call("second").await().atMost(TIMEOUT));
+
+        assertFalse(multiplexer.unsupported());
+        assertEquals(2, attempts.get());
+        assertEquals(0, unaryCalls.get());
+    }
+
+    @Test
+    void zeroStreamsKeepsUnaryCalls() {
+        GrpcStreamMultiplexer<String, String, Request, Response> multiplexer = new GrpcStreamMultiplexer<>(
+            envelope, loopback(Uni.createFrom()::item), this::unary, 0, 8);
+
+        assertEquals("unary:x", multiplexer.call("x").await().atMost(TIMEOUT));
+        assertEquals(0, opened.get());
+    }
+
+    @Test
+    void closeFailsCallsStillAwaitingResponses() {
+        GrpcStreamMultiplexer<String, String, Request, Response> multiplexer = new GrpcStreamMultiplexer<>(
+            envelope, loopback(item -> Uni.createFrom().nothing()), this::unary, 1, 1);
+
+        UniAssertSubscriber<String> inFlight = multiplexer.call("a").subscribe().withSubscriber(UniAssertSubscriber.create());
+        UniAssertSubscriber<String> queued = multiplexer.call("b").subscribe().withSubscriber(UniAssertSubscriber.create());
+        multiplexer.close();
+
+        assertInstanceOf(StatusRuntimeException.class, inFlight.awaitFailure(TIMEOUT).getFailure());
+        assertEquals(Status.Code.CANCELLED,
+            ((StatusRuntimeException) queued.awaitFailure(TIMEOUT).getFailure()).getStatus().getCode());
+        assertEquals(0, multiplexer.inFlight());
+    }
+
+    @Test
+    void carriesEachItemsContextInTheEnvelopeAndReturnsItsCacheStatus() {
+        List<TransportDispatchMetadata> streamContexts = new ArrayList<>();
+        Function<Multi<Request>, Multi<Response>> server = loopback(item -> {
+            PipelineCacheStatusHolder.set("a".equals(item) ? CacheStatus.HIT : CacheStatus.MISS);
+            return Uni.createFrom().item(TransportDispatchMetadataHolder.get().idempotencyKey()
+                + "/" + PipelineContextHolder.get().cachePolicy());
+        });
+        GrpcStreamMultiplexer<String, String, Request, Response> multiplexer = new GrpcStreamMultiplexer<>(
+            envelope,
+            requests -> {
+                streamContexts.add(TransportDispatchMetadataHolder.get());
+                return server.apply(requests);
+            },
+            this::unary,
+            1,
+            8);
+
+        for (String item : List.of("a", "b")) {
+            PipelineContextHolder.set(PipelineContext.fromHeaders(null, null, "prefer-cache"));
+            TransportDispatchMetadataHolder.set(
+                new TransportDispatchMetadata("corr", "exec", "key-" + item, 1, null, null, null));
+
+            assertEquals("key-" + item + "/prefer-cache", multiplexer.call(item).await().atMost(TIMEOUT));
+            assertEquals("a".equals(item) ? CacheStatus.HIT : CacheStatus.MISS, PipelineCacheStatusHolder.get());
+            assertEquals("key-" + item, TransportDispatchMetadataHolder.get().idempotencyKey());
+        }
+        assertEquals(1, opened.get());
+        assertEquals(1, streamContexts.size());
+        assertNull(streamContexts.get(0));
+    }
+
+    @Test
+    void failsCallsThatOutliveTheirDeadlineAndFreesTheSlot() {
+        GrpcStreamMultiplexer<String, String, Request, Response> multiplexer = new GrpcStreamMultiplexer<>(
+            envelope, loopback(item -> Uni.createFrom().nothing()), this::unary, 1, 1);
+        TransportDispatchMetadataHolder.set(new TransportDispatchMetadata(
+            null, null, null, null, System.currentTimeMillis() + 100, null, null));
+
+        StatusRuntimeException failure = assertThrows(StatusRuntimeException.class,
+            () -> multiplexer.call("slow").await().atMost(TIMEOUT));
+
+        assertEquals(Status.Code.DEADLINE_EXCEEDED, failure.getStatus().getCode());
+        assertEquals(0, multiplexer.inFlight());
+        assertEquals(0, multiplexer.queued());
+    }
+
+    @Test
+    void serverRejectsItemsWhoseDeadlineHasPassedWithoutHandlingThem() {
+        AtomicInteger handled = new AtomicInteger();
+        Map<String, String> expired = Map.of(
+            PipelineContextHeaders.TPF_DEADLINE_EPOCH_MS, Long.toString(System.currentTimeMillis() - 1_000));
+
+        List<Response> responses = envelope.serve(
+                Multi.createFrom().items(new Request(1, "late", expired), new Request(2, "on-time", Map.of())),
+                item -> {
+                    handled.incrementAndGet();
+                    return Uni.createFrom().item(item);
+                },
+                4)
+            .collect().asList()
+            .await().atMost(TIMEOUT);
+
+        Response late = responses.stream().filter(response -> response.sequence() == 1).findFirst().orElseThrow();
+        assertEquals(Status.Code.DEADLINE_EXCEEDED.value(), late.code());
+        assertEquals(1, handled.get());
+    }
+
+    @Test
+    void serverSendsFailureEnvelopesAndKeepsServing() {
+        List<Response> responses = envelope.serve(
+                Multi.createFrom().items(
+                    new Request(1, "a", Map.of()), new Request(2, "boom", Map.of()), new Request(3, "c", Map.of())),
+                item -> "boom".equals(item)
+                    ? Uni.createFrom().failure(new IllegalStateException("exploded"))
+                    : Uni.createFrom().item(item),
+                4)
+            .collect().asList()
+            .await().atMost(TIMEOUT);
+
+        assertEquals(3, responses.size());
+        Response failed = responses.stream().filter(response -> response.sequence() == 2).findFirst().orElseThrow();
+        assertEquals(Status.Code.UNKNOWN.value(), failed.code());
+        assertEquals(List.of("a", "c"), responses.stream()
+            .filter(response -> response.code() == 0)
+            .map(Response::item)
+            .sorted()
+            .toList());
+    }
+
+    private Function<Multi<Request>, Multi<Response>> loopback(Function<String, Uni<String>> handler) {
+        return requests -> {
+            opened.incrementAndGet();
+            return envelope.serve(requests, handler, 64);
+        };
+    }
+
+    private Uni<String> unary(String item) {
+        unaryCalls.incrementAndGet();
+        return Uni.createFrom().item("unary:" + item);
+    }
+
+    private record Request(long sequence, String item, Map<String, String> context) {
+    }
+
+    private record Response(long sequence, String item, int code, String message, Map<String, String> context) {
+    }
+
+    private static final class Envelope extends GrpcStreamEnvelope<String, String, Request, Response> {
+        @Override
+        protected Request wrapRequest(long sequence, String request, Map<String, String> context) {
+            return new Request(sequence, request, Map.copyOf(context));
+        }
+
+        @Override
+        protected Map<String, String> requestContext(Request envelope) {
+            return envelope.context();
+        }
+
+        @Override
+        protected long requestSequence(Request envelope) {
+            return envelope.sequence();
+        }
+
+        @Override
+        protected String unwrapRequest(Request envelope) {
+            return envelope.item();
+        }
+
+        @Override
+        protected Response wrapResponse(long sequence, String response, Map<String, String> context) {
+            return new Response(sequence, response, 0, "", Map.copyOf(context));
+        }
+
+        @Override
+        protected Map<String, String> responseContext(Response envelope) {
+            return envelope.context();
+        }
+
+        @Override
+        protected Response wrapFailure(long sequence, int code, String message) {
+            return new Response(sequence, null, code, message, Map.of());
+        }
+
+        @Override
+        protected long responseSequence(Response envelope) {
+            return envelope.sequence();
+        }
+
+        @Override
+        protected String unwrapResponse(Response envelope) {
+            return envelope.item();
+        }
+
+        @Override
+        protected int responseErrorCode(Response envelope) {
+            return envelope.code();
+        }
+
+        @Override
+        protected String responseErrorMessage(Response envelope) {
+            return envelope.message();
+        }
+    }
+}
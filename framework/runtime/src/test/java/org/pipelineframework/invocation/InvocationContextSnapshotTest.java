@@ -17,6 +17,7 @@ import org.pipelineframework.context.PipelineContextHolder;
 import org.pipelineframework.execution.PipelineExecutionContext;
 import org.pipelineframework.execution.PipelineExecutionContextHolder;
 import org.pipelineframework.runtime.core.RuntimeAdapters;
+import org.pipelineframework.runtime.core.ScopedExecutionContextCarrier;
 import org.pipelineframework.telemetry.PipelineRunContext;
 import org.pipelineframework.telemetry.PipelineRunContextHolder;
 import org.pipelineframework.telemetry.PipelineRunTelemetry;
@@ -195,4 +196,26 @@ class InvocationContextSnapshotTest {
 
         assertEquals(previous, PipelineInvocationContextHolder.get().orElseThrow());
     }
+
+    @Test
+    void scopedCarrierInstallsAndRestoresTheSameContexts() {
+        RuntimeAdapters.registerExecutionContextCarrier(
+            new ScopedExecutionContextCarrier(RuntimeAdapters.executionContextCarrier()));
+        PipelineRunContext existing = mock(PipelineRunContext.class);
+        PipelineRunContextHolder.set(existing);
+        AwaitExecutionContextHolder.set(new AwaitExecutionContext("tenant-prev", "exec-prev", 1));
+        InvocationContextSnapshot snapshot = new InvocationContextSnapshot(
+            new PipelineContext("v1", "tenant", "default"),
+            new AwaitExecutionContext("tenant-new", "exec-new", 4));
+
+        snapshot.run(() -> {
+            assertEquals("tenant-new", AwaitExecutionContextHolder.get().tenantId());
+            assertEquals(4, PipelineExecutionContextHolder.get().orElseThrow().currentStepIndex());
+            assertEquals(existing, PipelineRunContextHolder.get().orElseThrow());
+        });
+
+        assertEquals("tenant-prev", AwaitExecutionContextHolder.get().tenantId());
+        assertTrue(PipelineExecutionContextHolder.get().isEmpty());
+        assertNull(PipelineContextHolder.get());
+    }
 }
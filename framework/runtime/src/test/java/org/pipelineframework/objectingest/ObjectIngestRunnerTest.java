@@ -2,17 +2,24 @@ package org.pipelineframework.objectingest;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import io.smallrye.mutiny.Uni;
 import org.junit.jupiter.api.Test;
 import org.pipelineframework.config.boundary.PipelineInputBoundaryConfig;
 import org.pipelineframework.config.boundary.PipelineObjectInputConfig;
+import org.pipelineframework.config.boundary.PipelineObjectPollConfig;
 import org.pipelineframework.config.boundary.PipelineObjectSourceConfig;
 import org.pipelineframework.config.boundary.PipelineObjectSelectionConfig;
 import org.pipelineframework.config.pipeline.PipelineYamlConfig;
@@ -66,6 +73,196 @@ class ObjectIngestRunnerTest {
         assertEquals("object:documents:test:bucket:alpha.txt:v1:etag-1", keys.getFirst());
     }
 
+    @Test
+    void pollOnceAdmitsListedObjectsConcurrentlyAndKeepsListingOrder() {
+        PipelineObjectSourceConfig source = new PipelineObjectSourceConfig(
+            "documents",
+            "object",
+            "selection-test",
+            Map.of(),
+            null,
+            new PipelineObjectPollConfig(false, Duration.ofSeconds(30), 100, 4),
+            null,
+            null);
+        PipelineYamlConfig config = new PipelineYamlConfig(
+            "org.pipelineframework.objectingest",
+            "GRPC",
+            "COMPUTE",
+            List.of(),
+            Map.of("documents", source),
+            List.of(),
+            new PipelineInputBoundaryConfig(null, new PipelineObjectInputConfig(
+                "documents",
+                TestInput.class.getName(),
+                "TestInput",
+                TestMapper.class.getName())),
+            null);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        ObjectIngestRunner runner = new ObjectIngestRunner(
+            config,
+            new ObjectSourceRegistry(List.of(new SelectionProvider(List.of(
+                item("a.txt"), item("b.txt"), item("c.txt"), item("d.txt"), item("e.txt"), item("f.txt"))))),
+            (input, tenantId, idempotencyKey) -> Uni.createFrom().item(() -> {
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    return ((TestInput) input).key();
+                })
+                .onItem().delayIt().by(Duration.ofMillis(50))
+                .map(key -> {
+                    inFlight.decrementAndGet();
+                    return new RunAsyncAcceptedDto("execution-" + key, false, "/executions/execution-" + key, 1L);
+                }),
+            ObjectIngestTelemetry.NOOP);
+
+        ObjectIngestRunner.PollResult result = runner.pollOnce().await().indefinitely();
+
+        assertEquals(6, result.listed());
+        assertEquals(6, result.submitted());
+        assertEquals(List.of("execution-a.txt", "execution-b.txt", "execution-c.txt", "execution-d.txt",
+            "execution-e.txt", "execution-f.txt"), result.executionIds());
+        assertTrue(maxInFlight.get() > 1, "expected overlapping admissions but saw " + maxInFlight.get());
+        assertTrue(maxInFlight.get() <= 4, "admission concurrency exceeded poll.admissionConcurrency");
+        runner.close();
+    }
+
+    @Test
+    void pollOnceAcknowledgesOnlyLeadingAdmittedItems() {
+        PipelineObjectSourceConfig source = new PipelineObjectSourceConfig(
+            "documents", "object", "selection-test", Map.of(), null, null, null, null);
+        PipelineYamlConfig config = new PipelineYamlConfig(
+            "org.pipelineframework.objectingest", "GRPC", "COMPUTE", List.of(),
+            Map.of("documents", source), List.of(),
+            new PipelineInputBoundaryConfig(null, new PipelineObjectInputConfig(
+                "documents", TestInput.class.getName(), "TestInput", TestMapper.class.getName())),
+            null);
+        List<String> acknowledged = new ArrayList<>();
+        SelectionProvider provider = new SelectionProvider(List.of(item("a.txt"), item("b.txt"), item("c.txt"))) {
+            @Override
+            public void acknowledge(PipelineObjectSourceConfig ignored, List<ObjectSourceItem> items) {
+                items.forEach(item -> acknowledged.add(item.key()));
+            }
+        };
+        ObjectIngestRunner runner = new ObjectIngestRunner(
+            config,
+            new ObjectSourceRegistry(List.of(provider)),
+            (input, tenantId, idempotencyKey) -> "b.txt".equals(((TestInput) input).key())
+                ? Uni.createFrom().failure(new IllegalStateException("admission failed"))
+                : Uni.createFrom().item(new RunAsyncAcceptedDto("execution-1", false, "/executions/execution-1", 1L)),
+            ObjectIngestTelemetry.NOOP);
+
+        ObjectIngestRunner.PollResult result = runner.pollOnce().await().indefinitely();
+
+        assertEquals(2, result.submitted());
+        assertEquals(1, result.failed());
+        assertEquals(List.of("a.txt"), acknowledged);
+    }
+
+    @Test
+    void pollOnceAcknowledgesPoisonItemAfterMaxAdmissionAttempts() {
+        PipelineObjectSourceConfig source = new PipelineObjectSourceConfig(
+            "documents", "object", "selection-test", Map.of(), null,
+            new PipelineObjectPollConfig(false, Duration.ofSeconds(30), 100, 1, 2), null, null);
+        PipelineYamlConfig config = new PipelineYamlConfig(
+            "org.pipelineframework.objectingest", "GRPC", "COMPUTE", List.of(),
+            Map.of("documents", source), List.of(),
+            new PipelineInputBoundaryConfig(null, new PipelineObjectInputConfig(
+                "documents", TestInput.class.getName(), "TestInput", TestMapper.class.getName())),
+            null);
+        List<List<String>> acknowledged = new ArrayList<>();
+        SelectionProvider provider = new SelectionProvider(List.of(item("a.txt"), item("b.txt"))) {
+            @Override
+            public void acknowledge(PipelineObjectSourceConfig ignored, List<ObjectSourceItem> items) {
+                acknowledged.add(items.stream().map(ObjectSourceItem::key).toList());
+            }
+        };
+        ObjectIngestRunner runner = new ObjectIngestRunner(
+            config,
+            new ObjectSourceRegistry(List.of(provider)),
+            (input, tenantId, idempotencyKey) -> "a.txt".equals(((TestInput) input).key())
+                ? Uni.createFrom().failure(new IllegalStateException("poison"))
+                : Uni.createFrom().item(new RunAsyncAcceptedDto("execution-b", false, "/executions/execution-b", 1L)),
+            ObjectIngestTelemetry.NOOP);
+
+        runner.pollOnce().await().indefinitely();
+        assertEquals(List.of(), acknowledged);
+
+        ObjectIngestRunner.PollResult result = runner.pollOnce().await().indefinitely();
+
+        assertEquals(1, result.failed());
+        assertEquals(List.of(List.of("a.txt", "b.txt")), acknowledged);
+    }
+
+    @Test
+    void groupedSelectionAcknowledgesListedItemsOnceAdmitted() {
+        List<List<String>> acknowledged = new ArrayList<>();
+        PipelineObjectSourceConfig source = new PipelineObjectSourceConfig(
+            "documents", "object", "selection-test", Map.of(), null, null, null, null);
+        PipelineYamlConfig config = new PipelineYamlConfig(
+            "org.pipelineframework.objectingest", "GRPC", "COMPUTE", List.of(),
+            Map.of("documents", source), List.of(),
+            new PipelineInputBoundaryConfig(null, new PipelineObjectInputConfig(
+                "documents", TestObjectSelectionMapper.SelectedInput.class.getName(), "SelectedInput", Optional.empty(),
+                Optional.of(new PipelineObjectSelectionConfig("together", Map.of(), Optional.of("references"))))),
+            null);
+        SelectionProvider provider = new SelectionProvider(List.of(item("b.txt"), item("a.txt"))) {
+            @Override
+            public void acknowledge(PipelineObjectSourceConfig ignored, List<ObjectSourceItem> items) {
+                acknowledged.add(items.stream().map(ObjectSourceItem::key).toList());
+            }
+        };
+        ObjectIngestRunner runner = new ObjectIngestRunner(
+            config,
+            new ObjectSourceRegistry(List.of(provider)),
+            (input, tenantId, idempotencyKey) -> Uni.createFrom().item(new RunAsyncAcceptedDto(
+                "selection-execution", false, "/executions/selection-execution", 1L)),
+            ObjectIngestTelemetry.NOOP);
+
+        runner.pollOnce().await().indefinitely();
+
+        assertEquals(List.of(List.of("b.txt", "a.txt")), acknowledged);
+    }
+
+    @Test
+    void providerWatchBringsThePollForward() throws Exception {
+        PipelineObjectSourceConfig source = new PipelineObjectSourceConfig(
+            "documents", "object", "selection-test", Map.of(), null,
+            new PipelineObjectPollConfig(true, Duration.ofHours(1), 100), null, null);
+        PipelineYamlConfig config = new PipelineYamlConfig(
+            "org.pipelineframework.objectingest", "GRPC", "COMPUTE", List.of(),
+            Map.of("documents", source), List.of(),
+            new PipelineInputBoundaryConfig(null, new PipelineObjectInputConfig(
+                "documents", TestInput.class.getName(), "TestInput", TestMapper.class.getName())),
+            null);
+        AtomicReference<Runnable> changed = new AtomicReference<>();
+        AtomicInteger closed = new AtomicInteger();
+        CountDownLatch polls = new CountDownLatch(2);
+        SelectionProvider provider = new SelectionProvider(List.of()) {
+            @Override
+            public List<ObjectSourceItem> list(PipelineObjectSourceConfig ignored, int limit) {
+                polls.countDown();
+                return List.of();
+            }
+
+            @Override
+            public AutoCloseable watch(PipelineObjectSourceConfig ignored, Runnable onChange) {
+                changed.set(onChange);
+                return closed::incrementAndGet;
+            }
+        };
+        ObjectIngestRunner runner = new ObjectIngestRunner(
+            config,
+            new ObjectSourceRegistry(List.of(provider)),
+            (input, tenantId, idempotencyKey) -> Uni.createFrom().nullItem(),
+            ObjectIngestTelemetry.NOOP);
+
+        runner.start();
+        changed.get().run();
+
+        assertTrue(polls.await(5, TimeUnit.SECONDS), "expected the watch to trigger a second poll");
+        runner.close();
+        assertEquals(1, closed.get());
+    }
+
     @Test
     void pollOnceRejectsMapperOutsidePipelineBasePackage() {
         PipelineObjectSourceConfig source = new PipelineObjectSourceConfig(
@@ -342,7 +539,13 @@ class ObjectIngestRunnerTest {
         }
     }
 
-    private record SelectionProvider(List<ObjectSourceItem> items) implements ObjectSourceProvider {
+    private static class SelectionProvider implements ObjectSourceProvider {
+        private final List<ObjectSourceItem> items;
+
+        SelectionProvider(List<ObjectSourceItem> items) {
+            this.items = items;
+        }
+
         @Override
         public String providerName() {
             return "selection-test";
@@ -1,6 +1,9 @@
 package org.pipelineframework.orchestrator;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.junit.jupiter.api.Test;
 
@@ -64,6 +67,80 @@ class ControlPlaneAdmissionPolicyTest {
         assertTrue(afterRelease.decision().allowed());
     }
 
+    @Test
+    void tenantSubmitRateShedsBurstAndRefillsOverTime() {
+        PipelineOrchestratorConfig config = config(List.of(), false, 0);
+        when(config.quotas().submitRatePerTenant()).thenReturn(2d);
+        AtomicLong nanos = new AtomicLong();
+        LocalControlPlaneAdmissionPolicy policy = new LocalControlPlaneAdmissionPolicy(config, nanos::get);
+
+        assertTrue(policy.admit(request("tenant-a", true)).allowed());
+        assertTrue(policy.admit(request("tenant-a", true)).allowed());
+        ControlPlaneAdmissionDecision shed = policy.admit(request("tenant-a", true));
+        ControlPlaneAdmissionDecision otherTenant = policy.admit(request("tenant-b", true));
+        nanos.set(TimeUnit.MILLISECONDS.toNanos(500));
+        ControlPlaneAdmissionDecision refilled = policy.admit(request("tenant-a", true));
+
+        assertFalse(shed.allowed());
+        assertEquals(ControlPlaneAdmissionDecision.TENANT_SUBMIT_RATE_EXCEEDED, shed.errorCode());
+        assertEquals(Duration.ofMillis(500), shed.retryAfter());
+        assertEquals(1L, shed.retryAfterSeconds());
+        assertTrue(otherTenant.allowed());
+        assertTrue(refilled.allowed());
+        assertTrue(policy.admit(transitionRequest("tenant-a")).allowed());
+    }
+
+    @Test
+    void globalSubmitRateRefundsTheTenantToken() {
+        PipelineOrchestratorConfig config = config(List.of(), false, 0);
+        when(config.quotas().submitRatePerTenant()).thenReturn(0.5d);
+        when(config.quotas().submitRate()).thenReturn(1d);
+        AtomicLong nanos = new AtomicLong();
+        LocalControlPlaneAdmissionPolicy policy = new LocalControlPlaneAdmissionPolicy(config, nanos::get);
+
+        assertTrue(policy.admit(request("tenant-a", true)).allowed());
+        ControlPlaneAdmissionDecision globallyShed = policy.admit(request("tenant-b", true));
+        nanos.set(TimeUnit.SECONDS.toNanos(1));
+        ControlPlaneAdmissionDecision tenantBAfterRefill = policy.admit(request("tenant-b", true));
+
+        assertEquals(ControlPlaneAdmissionDecision.SUBMIT_RATE_EXCEEDED, globallyShed.errorCode());
+        assertTrue(globallyShed.retryable());
+        assertTrue(tenantBAfterRefill.allowed());
+    }
+
+    @Test
+    void refundReturnsTheTenantAndGlobalTokens() {
+        PipelineOrchestratorConfig config = config(List.of(), false, 0);
+        when(config.quotas().submitRatePerTenant()).thenReturn(1d);
+        when(config.quotas().submitRate()).thenReturn(1d);
+        AtomicLong nanos = new AtomicLong();
+        LocalControlPlaneAdmissionPolicy policy = new LocalControlPlaneAdmissionPolicy(config, nanos::get);
+
+        assertTrue(policy.admit(request("tenant-a", true)).allowed());
+        policy.refund(request("tenant-a", true));
+
+        assertTrue(policy.admit(request("tenant-a", true)).allowed());
+        assertFalse(policy.admit(request("tenant-a", true)).allowed());
+    }
+
+    @Test
+    void refilledTenantBucketsAreEvicted() {
+        PipelineOrchestratorConfig config = config(List.of(), false, 0);
+        when(config.quotas().submitRatePerTenant()).thenReturn(1d);
+        AtomicLong nanos = new AtomicLong();
+        LocalControlPlaneAdmissionPolicy policy = new LocalControlPlaneAdmissionPolicy(config, nanos::get);
+        for (int tenant = 0; tenant < 100; tenant++) {
+            assertTrue(policy.admit(request("tenant-" + tenant, true)).allowed());
+        }
+        assertEquals(100, policy.trackedSubmitBuckets());
+
+        nanos.set(TimeUnit.MINUTES.toNanos(2));
+        assertTrue(policy.admit(request("tenant-new", true)).allowed());
+
+        assertEquals(1, policy.trackedSubmitBuckets());
+        assertFalse(policy.admit(request("tenant-new", true)).allowed());
+    }
+
     @Test
     void admissionDecisionRejectsAllowedErrorDetails() {
         assertThrows(IllegalArgumentException.class,
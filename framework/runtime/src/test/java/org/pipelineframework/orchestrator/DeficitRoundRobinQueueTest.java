@@ -0,0 +1,64 @@
+package org.pipelineframework.orchestrator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DeficitRoundRobinQueueTest {
+
+    @Test
+    void servesFlowsInProportionToTheirWeight() {
+        DeficitRoundRobinQueue<String> queue = new DeficitRoundRobinQueue<>();
+        for (int i = 0; i < 6; i++) {
+            queue.offer("heavy", 3, "h" + i);
+            queue.offer("light", 1, "l" + i);
+        }
+
+        List<String> served = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            served.add(queue.poll());
+        }
+
+        assertEquals(List.of("h0", "h1", "h2", "l0", "h3", "h4", "h5", "l1"), served);
+        assertEquals(4, queue.size());
+    }
+
+    @Test
+    void flowThatEmptiesLeavesTheRoundAndRejoinsAtTheBack() {
+        DeficitRoundRobinQueue<String> queue = new DeficitRoundRobinQueue<>();
+        queue.offer("a", 2, "a0");
+        queue.offer("b", 2, "b0");
+        queue.offer("b", 2, "b1");
+        queue.offer("b", 2, "b2");
+
+        assertEquals("a0", queue.poll());
+        queue.offer("a", 2, "a1");
+
+        assertEquals(List.of("b0", "b1", "a1", "b2"), List.of(queue.poll(), queue.poll(), queue.poll(), queue.poll()));
+        assertTrue(queue.isEmpty());
+        assertNull(queue.poll());
+    }
+
+    @Test
+    void selectKeepsABackloggedFlowFromTakingTheWholeLimit() {
+        List<String> candidates = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            candidates.add("noisy-" + i);
+        }
+        candidates.add("small-0");
+
+        List<String> selected = DeficitRoundRobinQueue.select(
+            candidates,
+            4,
+            item -> item.substring(0, item.indexOf('-')),
+            item -> 1);
+
+        assertEquals(List.of("noisy-0", "small-0", "noisy-1", "noisy-2"), selected);
+        assertTrue(DeficitRoundRobinQueue.select(candidates, 0, item -> item, item -> 1).isEmpty());
+    }
+}
@@ -1,6 +1,8 @@
 package org.pipelineframework.orchestrator;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
@@ -10,12 +12,24 @@ import static org.mockito.Mockito.when;
 
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
+import java.time.Duration;
 import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import io.smallrye.mutiny.Uni;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.pipelineframework.repository.PayloadReference;
+import org.pipelineframework.repository.RepositoryProvider;
+import org.pipelineframework.repository.RepositoryReadResult;
+import org.pipelineframework.repository.RepositoryWriteRequest;
 import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
@@ -95,6 +109,141 @@ class DynamoExecutionPayloadStoreTest {
         verify(client, times(2)).putItem(any(PutItemRequest.class));
     }
 
+    @Test
+    void writesChunksConcurrentlyAndTheManifestLast() {
+        DynamoDbClient client = mock(DynamoDbClient.class);
+        CountDownLatch overlappingChunks = new CountDownLatch(2);
+        when(client.putItem(any(PutItemRequest.class))).thenAnswer(invocation -> {
+            PutItemRequest request = invocation.getArgument(0);
+            if (request.item().containsKey("payload_bytes")) {
+                overlappingChunks.countDown();
+                assertTrue(overlappingChunks.await(5, TimeUnit.SECONDS), "chunk writes should overlap");
+            } else {
+                assertEquals(0, overlappingChunks.getCount());
+            }
+            return PutItemResponse.builder().build();
+        });
+        DynamoExecutionPayloadStore store = new DynamoExecutionPayloadStore(() -> client, () -> "tpf_execution_payload",
+            options(4, ExecutionPayloadCompression.NONE, null, Long.MAX_VALUE, Map.of()));
+
+        store.write("tenant-a", "exec-1", "result:step-1", "x".repeat(DynamoExecutionPayloadStore.MAX_CHUNK_BYTES * 3), 1234L);
+
+        verify(client, times(4)).putItem(any(PutItemRequest.class));
+    }
+
+    @Test
+    void compressesPayloadsAndRecordsTheCodecInTheManifest() {
+        FakePayloadTable table = new FakePayloadTable();
+        DynamoExecutionPayloadStore store = new DynamoExecutionPayloadStore(table::client, () -> "tpf_execution_payload",
+            options(8, ExecutionPayloadCompression.GZIP, null, Long.MAX_VALUE, Map.of()));
+        String payload = "{\"amount\":42,\"currency\":\"EUR\"}".repeat(40_000);
+
+        String reference = store.write("tenant-a", "exec-1", "result:step-1", payload, 1234L);
+
+        Map<String, AttributeValue> manifest = table.items.get(reference + "|MANIFEST");
+        assertEquals("gzip", manifest.get("codec").s());
+        assertEquals("1", manifest.get("chunk_count").n());
+        assertTrue(Integer.parseInt(manifest.get("payload_length_bytes").n()) < payload.length() / 10);
+        assertEquals(payload, store.read(reference));
+    }
+
+    @Test
+    void offloadsPayloadsAboveTheThresholdToTheRepositoryProvider() {
+        FakePayloadTable table = new FakePayloadTable();
+        InMemoryRepository repository = new InMemoryRepository();
+        DynamoExecutionPayloadStore store = new DynamoExecutionPayloadStore(table::client, () -> "tpf_execution_payload",
+            options(8, ExecutionPayloadCompression.NONE, "memory", 1024, Map.of("memory", repository)));
+        String payload = "y".repeat(DynamoExecutionPayloadStore.MAX_CHUNK_BYTES * 2);
+
+        String reference = store.write("tenant-a", "exec-1", "result:step-1", payload, 1234L);
+
+        Map<String, AttributeValue> manifest = table.items.get(reference + "|MANIFEST");
+        assertEquals("memory", manifest.get("offload_provider").s());
+        assertEquals("tpf/execution-payloads/1970-01-01/" + reference, manifest.get("offload_key").s());
+        assertEquals("0", manifest.get("chunk_count").n());
+        assertFalse(table.items.keySet().stream().anyMatch(key -> key.contains("CHUNK#")));
+        assertEquals(payload, store.read(reference));
+    }
+
+    @Test
+    void rewritingAnOffloadedPayloadKeepsTheStoredObject() {
+        FakePayloadTable table = new FakePayloadTable();
+        InMemoryRepository repository = new InMemoryRepository();
+        DynamoExecutionPayloadStore store = new DynamoExecutionPayloadStore(table::client, () -> "tpf_execution_payload",
+            options(8, ExecutionPayloadCompression.NONE, "memory", 1024, Map.of("memory", repository)));
+        String payload = "y".repeat(4096);
+
+        String first = store.write("tenant-a", "exec-1", "result:step-1", payload, 1234L);
+        String second = store.write("tenant-a", "exec-1", "result:step-1", payload, 1234L + 5 * 86_400L);
+
+        assertEquals(first, second);
+        assertEquals(1, repository.stores.get());
+        assertEquals(payload, store.read(second));
+    }
+
+    @Test
+    void purgesOffloadedPayloadsOnceTheirExpiryDayHasEnded() {
+        FakePayloadTable table = new FakePayloadTable();
+        InMemoryRepository repository = new InMemoryRepository();
+        DynamoExecutionPayloadStore store = new DynamoExecutionPayloadStore(table::client, () -> "tpf_execution_payload",
+            options(8, ExecutionPayloadCompression.NONE, "memory", 1024, Map.of("memory", repository)));
+        long day = 86_400L;
+        long now = 20_000 * day + 3_600;
+        store.write("tenant-a", "exec-1", "result:step-1", "a".repeat(4096), now - day);
+        store.write("tenant-a", "exec-2", "result:step-1", "b".repeat(4096), now - 3 * day);
+        String live = store.write("tenant-a", "exec-3", "result:step-1", "c".repeat(4096), now + 60);
+
+        assertEquals(2, store.purgeExpiredOffloads(now));
+
+        assertEquals(1, repository.objects.size());
+        assertEquals("c".repeat(4096), store.read(live));
+        assertEquals(0, store.purgeExpiredOffloads(now + 60));
+    }
+
+    @Test
+    void failsRepositoryCallsThatOutliveTheTimeout() {
+        FakePayloadTable table = new FakePayloadTable();
+        RepositoryProvider stalled = new InMemoryRepository() {
+            @Override
+            public Uni<PayloadReference> store(RepositoryWriteRequest request) {
+                return Uni.createFrom().nothing();
+            }
+        };
+        DynamoExecutionPayloadStore store = new DynamoExecutionPayloadStore(table::client, () -> "tpf_execution_payload",
+            new DynamoExecutionPayloadStore.Options(8, ExecutionPayloadCompression.NONE, "memory", null, 1024,
+                Duration.ofMillis(50), Map.of("memory", stalled)::get));
+
+        IllegalStateException failure = assertThrows(IllegalStateException.class,
+            () -> store.write("tenant-a", "exec-1", "result:step-1", "y".repeat(4096), 1234L));
+
+        assertTrue(failure.getMessage().contains("timed out"), failure.getMessage());
+        assertTrue(table.items.isEmpty());
+    }
+
+    @Test
+    void keepsPayloadsAtOrBelowTheThresholdInDynamo() {
+        FakePayloadTable table = new FakePayloadTable();
+        InMemoryRepository repository = new InMemoryRepository();
+        DynamoExecutionPayloadStore store = new DynamoExecutionPayloadStore(table::client, () -> "tpf_execution_payload",
+            options(8, ExecutionPayloadCompression.NONE, "memory", 1024, Map.of("memory", repository)));
+
+        String reference = store.write("tenant-a", "exec-1", "result:step-1", "z".repeat(1024), 1234L);
+
+        assertTrue(repository.objects.isEmpty());
+        assertEquals("z".repeat(1024), store.read(reference));
+    }
+
+    private static DynamoExecutionPayloadStore.Options options(
+        int concurrency,
+        ExecutionPayloadCompression compression,
+        String offloadProvider,
+        long offloadThresholdBytes,
+        Map<String, RepositoryProvider> providers
+    ) {
+        return new DynamoExecutionPayloadStore.Options(concurrency, compression, offloadProvider, null,
+            offloadThresholdBytes, Duration.ofSeconds(5), providers::get);
+    }
+
     private static Map<String, AttributeValue> chunk(String payloadId, String part, byte[] bytes) {
         return Map.of(
             "payload_id", string(payloadId),
@@ -114,4 +263,76 @@ class DynamoExecutionPayloadStoreTest {
     private static String sha256(byte[] bytes) throws Exception {
         return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
     }
+
+    private static final class FakePayloadTable {
+        private final Map<String, Map<String, AttributeValue>> items = new ConcurrentSkipListMap<>();
+        private final DynamoDbClient client = mock(DynamoDbClient.class);
+
+        private FakePayloadTable() {
+            when(client.putItem(any(PutItemRequest.class))).thenAnswer(invocation -> {
+                Map<String, AttributeValue> item = invocation.<PutItemRequest>getArgument(0).item();
+                items.put(item.get("payload_id").s() + "|" + item.get("payload_part").s(), item);
+                return PutItemResponse.builder().build();
+            });
+            when(client.getItem(any(GetItemRequest.class))).thenAnswer(invocation -> {
+                Map<String, AttributeValue> key = invocation.<GetItemRequest>getArgument(0).key();
+                return GetItemResponse.builder()
+                    .item(items.get(key.get("payload_id").s() + "|" + key.get("payload_part").s()))
+                    .build();
+            });
+            when(client.query(any(QueryRequest.class))).thenAnswer(invocation -> {
+                String payloadId = invocation.<QueryRequest>getArgument(0).expressionAttributeValues()
+                    .get(":payloadId").s();
+                return QueryResponse.builder()
+                    .items(items.entrySet().stream()
+                        .filter(entry -> entry.getKey().startsWith(payloadId + "|CHUNK#"))
+                        .map(Map.Entry::getValue)
+                        .toList())
+                    .build();
+            });
+        }
+
+        private DynamoDbClient client() {
+            return client;
+        }
+    }
+
+    private static class InMemoryRepository implements RepositoryProvider {
+        private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+        private final AtomicInteger stores = new AtomicInteger();
+
+        @Override
+        public String providerName() {
+            return "memory";
+        }
+
+        @Override
+        public Uni<PayloadReference> store(RepositoryWriteRequest request) {
+            stores.incrementAndGet();
+            objects.put(request.key(), request.payload());
+            return Uni.createFrom().item(new PayloadReference(providerName(), request.container(), request.key(),
+                request.contentType(), request.codec(), request.checksum(), request.payloadSize(), null,
+                request.metadata(), Optional.empty()));
+        }
+
+        @Override
+        public Uni<RepositoryReadResult> load(PayloadReference reference) {
+            return Uni.createFrom().item(new RepositoryReadResult(reference, objects.get(reference.key()),
+                reference.contentType(), reference.codec(), reference.checksum()));
+        }
+
+        @Override
+        public Uni<List<PayloadReference>> list(String container, String keyPrefix) {
+            return Uni.createFrom().item(objects.keySet().stream()
+                .filter(key -> key.startsWith(keyPrefix))
+                .map(key -> new PayloadReference(providerName(), container, key, null, null, null, 0L, null, Map.of(),
+                    Optional.empty()))
+                .toList());
+        }
+
+        @Override
+        public Uni<Boolean> delete(PayloadReference reference) {
+            return Uni.createFrom().item(objects.remove(reference.key()) != null);
+        }
+    }
 }
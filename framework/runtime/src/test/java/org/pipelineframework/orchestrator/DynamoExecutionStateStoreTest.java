@@ -11,6 +11,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
 import com.google.protobuf.DescriptorProtos;
 import com.google.protobuf.Message;
@@ -28,7 +29,10 @@ import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedExce
 import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
 import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
 import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
 import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.UpdateItemResponse;
 
@@ -477,6 +481,101 @@ class DynamoExecutionStateStoreTest {
         verify(client, never()).transactWriteItems(any(TransactWriteItemsRequest.class));
     }
 
+    @Test
+    void batchCreateWritesNewExecutionsInOneTransactionAndReportsExistingAsDuplicates() {
+        DynamoDbClient client = mock(DynamoDbClient.class);
+        PipelineOrchestratorConfig config = mockConfig("tpf_execution", "tpf_execution_key");
+        DynamoExecutionStateStore store = new DynamoExecutionStateStore(client, config);
+        long now = System.currentTimeMillis();
+        long ttl = now / 1000 + 3600;
+        when(client.batchGetItem(any(BatchGetItemRequest.class))).thenAnswer(invocation -> {
+            BatchGetItemRequest request = invocation.getArgument(0, BatchGetItemRequest.class);
+            if (request.requestItems().containsKey("tpf_execution_key")) {
+                Map<String, AttributeValue> existingKey = request.requestItems().get("tpf_execution_key").keys().stream()
+                    .filter(key -> key.get("tenant_execution_key").s().endsWith(":key-a"))
+                    .findFirst()
+                    .orElseThrow();
+                return BatchGetItemResponse.builder()
+                    .responses(Map.of("tpf_execution_key", List.of(executionKeyItem(existingKey, "exec-1"))))
+                    .unprocessedKeys(Map.of())
+                    .build();
+            }
+            return BatchGetItemResponse.builder()
+                .responses(Map.of("tpf_execution", List.of(executionItem("tenant-a", "exec-1", "key-a", ttl))))
+                .unprocessedKeys(Map.of())
+                .build();
+        });
+
+        List<CreateExecutionResult> results = store.createOrGetExecutions(List.of(
+                createCommand("key-a", now, ttl),
+                createCommand("key-b", now, ttl),
+                createCommand("key-c", now, ttl),
+                createCommand("key-b", now, ttl)))
+            .await().indefinitely();
+
+        assertEquals(List.of(true, false, false, true), results.stream().map(CreateExecutionResult::duplicate).toList());
+        assertEquals("exec-1", results.get(0).record().executionId());
+        assertEquals(results.get(1).record().executionId(), results.get(3).record().executionId());
+        ArgumentCaptor<TransactWriteItemsRequest> written = ArgumentCaptor.forClass(TransactWriteItemsRequest.class);
+        verify(client).transactWriteItems(written.capture());
+        assertEquals(4, written.getValue().transactItems().size());
+        verify(client, times(2)).batchGetItem(any(BatchGetItemRequest.class));
+        verify(client, never()).getItem(any(GetItemRequest.class));
+    }
+
+    @Test
+    void batchCreateSettlesEachCommandAloneWhenTheTransactionIsCancelled() {
+        DynamoDbClient client = mock(DynamoDbClient.class);
+        PipelineOrchestratorConfig config = mockConfig("tpf_execution", "tpf_execution_key");
+        DynamoExecutionStateStore store = new DynamoExecutionStateStore(client, config);
+        long now = System.currentTimeMillis();
+        long ttl = now / 1000 + 3600;
+        when(client.batchGetItem(any(BatchGetItemRequest.class))).thenReturn(BatchGetItemResponse.builder()
+            .responses(Map.of())
+            .unprocessedKeys(Map.of())
+            .build());
+        when(client.getItem(any(GetItemRequest.class))).thenReturn(GetItemResponse.builder().build());
+        when(client.transactWriteItems(any(TransactWriteItemsRequest.class)))
+            .thenThrow(TransactionCanceledException.builder().message("cancelled").build())
+            .thenReturn(null);
+
+        List<CreateExecutionResult> results = store.createOrGetExecutions(List.of(
+                createCommand("key-b", now, ttl),
+                createCommand("key-c", now, ttl)))
+            .await().indefinitely();
+
+        assertEquals(List.of(false, false), results.stream().map(CreateExecutionResult::duplicate).toList());
+        assertEquals(List.of("key-b", "key-c"), results.stream().map(result -> result.record().executionKey()).toList());
+        verify(client, times(3)).transactWriteItems(any(TransactWriteItemsRequest.class));
+    }
+
+    @Test
+    void batchCreateOfManyNewExecutionsMakesAFewRoundTripsInsteadOfTwoPerCommand() {
+        DynamoDbClient client = mock(DynamoDbClient.class);
+        PipelineOrchestratorConfig config = mockConfig("tpf_execution", "tpf_execution_key");
+        DynamoExecutionStateStore store = new DynamoExecutionStateStore(client, config);
+        long now = System.currentTimeMillis();
+        long ttl = now / 1000 + 3600;
+        when(client.batchGetItem(any(BatchGetItemRequest.class))).thenReturn(BatchGetItemResponse.builder()
+            .responses(Map.of())
+            .unprocessedKeys(Map.of())
+            .build());
+        List<ExecutionCreateCommand> commands = IntStream.range(0, 120)
+            .mapToObj(i -> createCommand("key-" + i, now, ttl))
+            .toList();
+
+        List<CreateExecutionResult> results = store.createOrGetExecutions(commands).await().indefinitely();
+
+        assertEquals(120, results.size());
+        assertTrue(results.stream().noneMatch(CreateExecutionResult::duplicate));
+        ArgumentCaptor<TransactWriteItemsRequest> written = ArgumentCaptor.forClass(TransactWriteItemsRequest.class);
+        verify(client, times(3)).transactWriteItems(written.capture());
+        assertEquals(List.of(100, 100, 40),
+            written.getAllValues().stream().map(request -> request.transactItems().size()).toList());
+        verify(client, times(2)).batchGetItem(any(BatchGetItemRequest.class));
+        verify(client, never()).getItem(any(GetItemRequest.class));
+    }
+
     @Test
     void claimLeaseReturnsEmptyOnConditionalFailure() {
         DynamoDbClient client = mock(DynamoDbClient.class);
@@ -616,6 +715,19 @@ class DynamoExecutionStateStoreTest {
         verifyNoInteractions(client);
     }
 
+    private static ExecutionCreateCommand createCommand(String executionKey, long now, long ttl) {
+        return new ExecutionCreateCommand(
+            "tenant-a",
+            executionKey,
+            "org.example.pipeline",
+            "sha256:contract",
+            "sha256:release",
+            "payload",
+            ExecutionResultShape.SINGLE,
+            now,
+            ttl);
+    }
+
     private static PipelineOrchestratorConfig mockConfig(String executionTable, String keyTable) {
         PipelineOrchestratorConfig config = mock(PipelineOrchestratorConfig.class);
         PipelineOrchestratorConfig.DynamoConfig dynamo = mock(PipelineOrchestratorConfig.DynamoConfig.class);
@@ -840,6 +952,99 @@ class DynamoExecutionStateStoreTest {
         assertTrue(result.isEmpty());
     }
 
+    @Test
+    void shardedDueSweepScansOnlyTheShardSegment() {
+        DynamoDbClient client = mock(DynamoDbClient.class);
+        PipelineOrchestratorConfig config = mockConfig("tpf_execution", "tpf_execution_key");
+        DynamoExecutionStateStore store = new DynamoExecutionStateStore(client, config);
+        long now = System.currentTimeMillis();
+        when(client.scan(any(ScanRequest.class))).thenReturn(ScanResponse.builder()
+            .items(List.of(executionItem("tenant-a", "exec-1", "key-1", now / 1000 + 3600)))
+            .build());
+
+        List<ExecutionRecord<Object, Object>> due = store.findDueExecutions(now, 10, 8, 3).await().indefinitely();
+
+        assertEquals(1, due.size());
+        ArgumentCaptor<ScanRequest> scan = ArgumentCaptor.forClass(ScanRequest.class);
+        verify(client).scan(scan.capture());
+        assertEquals(3, scan.getValue().segment());
+        assertEquals(8, scan.getValue().totalSegments());
+        assertThrows(IllegalArgumentException.class, () -> store.findDueExecutions(now, 10, 8, 8));
+    }
+
+    @Test
+    void dueSweepKeepsScanningPastOneTenantToServeTheOthers() {
+        DynamoDbClient client = mock(DynamoDbClient.class);
+        PipelineOrchestratorConfig config = mockConfig("tpf_execution", "tpf_execution_key");
+        DynamoExecutionStateStore store = new DynamoExecutionStateStore(client, config);
+        long now = System.currentTimeMillis();
+        long ttl = now / 1000 + 3600;
+        List<Map<String, AttributeValue>> noisy = new java.util.ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            noisy.add(executionItem("tenant-noisy", "exec-" + i, "key-" + i, ttl));
+        }
+        when(client.scan(any(ScanRequest.class)))
+            .thenReturn(ScanResponse.builder()
+                .items(noisy)
+                .scannedCount(20)
+                .lastEvaluatedKey(Map.of("tenant_id", AttributeValue.builder().s("tenant-noisy").build()))
+                .build())
+            .thenReturn(ScanResponse.builder()
+                .items(List.of(
+                    executionItem("tenant-b", "exec-b1", "key-b1", ttl),
+                    executionItem("tenant-c", "exec-c1", "key-c1", ttl)))
+                .scannedCount(2)
+                .build());
+
+        List<ExecutionRecord<Object, Object>> due = store.findDueExecutions(now, 4).await().indefinitely();
+
+        verify(client, times(2)).scan(any(ScanRequest.class));
+        assertEquals(4, due.size());
+        assertEquals(
+            java.util.Set.of("tenant-noisy", "tenant-b", "tenant-c"),
+            due.stream().map(ExecutionRecord::tenantId).collect(java.util.stream.Collectors.toSet()));
+    }
+
+    @Test
+    void dueSweepStopsAtTheScanBudgetWhenOneTenantFillsTheTable() {
+        DynamoDbClient client = mock(DynamoDbClient.class);
+        PipelineOrchestratorConfig config = mockConfig("tpf_execution", "tpf_execution_key");
+        DynamoExecutionStateStore store = new DynamoExecutionStateStore(client, config);
+        long now = System.currentTimeMillis();
+        long ttl = now / 1000 + 3600;
+        when(client.scan(any(ScanRequest.class))).thenReturn(ScanResponse.builder()
+            .items(List.of(
+                executionItem("tenant-noisy", "exec-1", "key-1", ttl),
+                executionItem("tenant-noisy", "exec-2", "key-2", ttl)))
+            .scannedCount(1_000)
+            .lastEvaluatedKey(Map.of("tenant_id", AttributeValue.builder().s("tenant-noisy").build()))
+            .build());
+
+        List<ExecutionRecord<Object, Object>> due = store.findDueExecutions(now, 1).await().indefinitely();
+
+        assertEquals(1, due.size());
+        verify(client, times(1)).scan(any(ScanRequest.class));
+    }
+
+    @Test
+    void dueCountScansPastRowsThatAreNotDueUntilItReachesTheLimit() {
+        DynamoDbClient client = mock(DynamoDbClient.class);
+        PipelineOrchestratorConfig config = mockConfig("tpf_execution", "tpf_execution_key");
+        DynamoExecutionStateStore store = new DynamoExecutionStateStore(client, config);
+        Map<String, AttributeValue> more = Map.of("tenant_id", AttributeValue.builder().s("tenant-a").build());
+        when(client.scan(any(ScanRequest.class)))
+            .thenReturn(ScanResponse.builder().count(0).scannedCount(10_000).lastEvaluatedKey(more).build())
+            .thenReturn(ScanResponse.builder().count(3).scannedCount(10_000).lastEvaluatedKey(more).build())
+            .thenReturn(ScanResponse.builder().count(4).scannedCount(10_000).lastEvaluatedKey(more).build());
+
+        int depth = store.countDueExecutions(System.currentTimeMillis(), 5).await().indefinitely();
+
+        assertEquals(5, depth);
+        ArgumentCaptor<ScanRequest> scan = ArgumentCaptor.forClass(ScanRequest.class);
+        verify(client, times(3)).scan(scan.capture());
+        assertEquals(software.amazon.awssdk.services.dynamodb.model.Select.COUNT, scan.getValue().select());
+    }
+
     @Test
     void findDueExecutionsReturnsEmptyListWhenLimitIsZero() {
         DynamoDbClient client = mock(DynamoDbClient.class);
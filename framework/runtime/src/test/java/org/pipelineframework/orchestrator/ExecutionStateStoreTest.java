@@ -47,6 +47,51 @@ class ExecutionStateStoreTest {
         assertEquals(50, store.priority());
     }
 
+    @Test
+    void defaultBatchCreateAdmitsCommandsSequentiallyInOrder() {
+        List<String> admitted = new java.util.ArrayList<>();
+        ExecutionStateStore store = new TestExecutionStateStore() {
+            @Override
+            public Uni<CreateExecutionResult> createOrGetExecution(ExecutionCreateCommand command) {
+                admitted.add(command.executionKey());
+                return super.createOrGetExecution(command);
+            }
+        };
+        long now = System.currentTimeMillis();
+
+        List<CreateExecutionResult> results = store.createOrGetExecutions(List.of(
+                new ExecutionCreateCommand("tenant1", "key1", "input", ExecutionResultShape.SINGLE, now, now / 1000 + 60),
+                new ExecutionCreateCommand("tenant1", "key2", "input", ExecutionResultShape.SINGLE, now, now / 1000 + 60)))
+            .await().indefinitely();
+
+        assertEquals(2, results.size());
+        assertEquals(List.of("key1", "key2"), admitted);
+        assertEquals(List.of(), store.createOrGetExecutions(List.of()).await().indefinitely());
+    }
+
+    @Test
+    void defaultShardedSweepFiltersAWidenedGlobalRead() {
+        List<Integer> requestedLimits = new java.util.ArrayList<>();
+        List<ExecutionRecord<Object, Object>> due = java.util.stream.IntStream.range(0, 40)
+            .mapToObj(i -> new ExecutionRecord<Object, Object>(
+                "tenant1", "exec-" + i, "key-" + i, ExecutionResultShape.SINGLE, ExecutionStatus.QUEUED,
+                0L, 0, 0, null, 0L, 0L, null, "input", null, null, null, null, 1L, 1L, 99999999L))
+            .toList();
+        ExecutionStateStore store = new TestExecutionStateStore() {
+            @Override
+            public Uni<List<ExecutionRecord<Object, Object>>> findDueExecutions(long nowEpochMs, int limit) {
+                requestedLimits.add(limit);
+                return Uni.createFrom().item(due);
+            }
+        };
+
+        List<ExecutionRecord<Object, Object>> shard = store.findDueExecutions(1L, 5, 4, 2).await().indefinitely();
+
+        assertEquals(List.of(20), requestedLimits);
+        assertEquals(5, shard.size());
+        shard.forEach(record -> assertEquals(2, ExecutionSweepShards.shardOf(record.tenantId(), record.executionKey(), 4)));
+    }
+
     @Test
     void allMethodsRequireImplementation() {
         ExecutionStateStore store = new TestExecutionStateStore();
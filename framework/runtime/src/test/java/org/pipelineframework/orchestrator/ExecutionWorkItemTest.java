@@ -1,8 +1,11 @@
 package org.pipelineframework.orchestrator;
 
 import org.junit.jupiter.api.Test;
+import org.pipelineframework.config.pipeline.PipelineJson;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class ExecutionWorkItemTest {
@@ -20,4 +23,27 @@ class ExecutionWorkItemTest {
             assertThrows(NullPointerException.class, () -> new ExecutionWorkItem("tenant-a", null));
         assertEquals("ExecutionWorkItem.executionId must not be null", failure.getMessage());
     }
+
+    @Test
+    void normalPriorityKeepsTheTwoFieldWireShape() throws Exception {
+        ExecutionWorkItem item = new ExecutionWorkItem("tenant-a", "exec-1", ExecutionPriority.NORMAL);
+
+        String json = PipelineJson.mapper().writeValueAsString(item);
+
+        assertNull(item.priority());
+        assertEquals(new ExecutionWorkItem("tenant-a", "exec-1"), item);
+        assertFalse(json.contains("priority"));
+        assertEquals(item, PipelineJson.mapper().readValue(json, ExecutionWorkItem.class));
+    }
+
+    @Test
+    void nonDefaultPriorityRoundTrips() throws Exception {
+        ExecutionWorkItem item = new ExecutionWorkItem("tenant-a", "exec-1", ExecutionPriority.HIGH);
+
+        ExecutionWorkItem read = PipelineJson.mapper().readValue(
+            PipelineJson.mapper().writeValueAsString(item), ExecutionWorkItem.class);
+
+        assertEquals(ExecutionPriority.HIGH, read.effectivePriority());
+        assertEquals(ExecutionPriority.NORMAL, new ExecutionWorkItem("tenant-a", "exec-1").effectivePriority());
+    }
 }
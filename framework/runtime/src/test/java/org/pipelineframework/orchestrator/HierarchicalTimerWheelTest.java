@@ -0,0 +1,115 @@
+package org.pipelineframework.orchestrator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HierarchicalTimerWheelTest {
+
+    private static final long TICK_MS = 10L;
+    private static final int WHEEL_SIZE = 8;
+
+    @Test
+    void firesEachTimerWithinOneTickOfItsDeadlineAcrossLevels() {
+        long start = 1_000_000L;
+        HierarchicalTimerWheel wheel = new HierarchicalTimerWheel(TICK_MS, WHEEL_SIZE, () -> start);
+        Random random = new Random(42);
+        List<Long> deadlines = new ArrayList<>();
+        List<long[]> fired = Collections.synchronizedList(new ArrayList<>());
+        for (int i = 0; i < 2_000; i++) {
+            long deadline = start + 1 + random.nextInt(WHEEL_SIZE * WHEEL_SIZE * WHEEL_SIZE * (int) TICK_MS * 2);
+            deadlines.add(deadline);
+            wheel.schedule(deadline, () -> fired.add(new long[] {deadline}));
+        }
+
+        long lastDeadline = Collections.max(deadlines);
+        for (long now = start; now <= lastDeadline + TICK_MS; now += TICK_MS) {
+            long clock = now;
+            for (Runnable task : wheel.advanceTo(clock)) {
+                int before = fired.size();
+                task.run();
+                long deadline = fired.get(before)[0];
+                assertTrue(deadline <= clock, "fired " + (deadline - clock) + " ms early");
+                assertTrue(clock - deadline < TICK_MS, "fired " + (clock - deadline) + " ms late");
+            }
+        }
+
+        assertEquals(2_000, fired.size());
+        assertEquals(0, wheel.pending());
+    }
+
+    @Test
+    void pastDeadlinesFireOnTheNextAdvanceAndLongJumpsCatchUp() {
+        long start = 5_000L;
+        HierarchicalTimerWheel wheel = new HierarchicalTimerWheel(TICK_MS, WHEEL_SIZE, () -> start);
+        List<String> fired = new ArrayList<>();
+        wheel.schedule(start - 50, () -> fired.add("past"));
+        wheel.schedule(start + 3 * TICK_MS, () -> fired.add("near"));
+        wheel.schedule(start + 10_000 * TICK_MS, () -> fired.add("far"));
+
+        wheel.advanceTo(start).forEach(Runnable::run);
+        assertEquals(List.of("past"), fired);
+
+        wheel.advanceTo(start + 9_999 * TICK_MS).forEach(Runnable::run);
+        assertEquals(List.of("past", "near"), fired);
+        assertEquals(1, wheel.pending());
+
+        wheel.advanceTo(start + 10_000 * TICK_MS).forEach(Runnable::run);
+        assertEquals(List.of("past", "near", "far"), fired);
+    }
+
+    @Test
+    void rejectsSchedulingAfterShutdown() {
+        HierarchicalTimerWheel wheel = new HierarchicalTimerWheel(TICK_MS, WHEEL_SIZE, () -> 0L);
+        wheel.schedule(100L, () -> {
+        });
+
+        wheel.shutdown();
+
+        assertEquals(0, wheel.pending());
+        assertThrows(RejectedExecutionException.class, () -> wheel.schedule(200L, () -> {
+        }));
+    }
+
+    /**
+     * Wake-up latency of the driven wheel on the real clock: every timer fires at or after its deadline and, allowing
+     * for scheduler jitter on a shared build machine, well inside the default 30 s sweep interval it replaces.
+     */
+    @Test
+    void drivenWheelWakesUpCloseToEachDeadline() throws InterruptedException {
+        HierarchicalTimerWheel wheel = new HierarchicalTimerWheel("timer-wheel-test", TICK_MS, 64);
+        int timers = 200;
+        CountDownLatch done = new CountDownLatch(timers);
+        ConcurrentLinkedQueue<Long> lateness = new ConcurrentLinkedQueue<>();
+        long now = System.currentTimeMillis();
+        try {
+            for (int i = 0; i < timers; i++) {
+                long deadline = now + 20 + i;
+                wheel.schedule(deadline, () -> {
+                    lateness.add(System.currentTimeMillis() - deadline);
+                    done.countDown();
+                });
+            }
+
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+        } finally {
+            wheel.shutdown();
+        }
+
+        List<Long> sorted = lateness.stream().sorted().toList();
+        long p99 = sorted.get((int) Math.ceil(sorted.size() * 0.99) - 1);
+        assertTrue(sorted.get(0) >= 0, "timer fired " + -sorted.get(0) + " ms early");
+        assertTrue(p99 < 500, "p99 wake-up lateness was " + p99 + " ms");
+    }
+}
@@ -35,6 +35,52 @@ class InMemoryExecutionStateStoreTest {
         assertEquals("sha256:release", first.record().releaseVersion());
     }
 
+    @Test
+    void createOrGetExecutionsReportsDuplicatesPerCommand() {
+        InMemoryExecutionStateStore store = new InMemoryExecutionStateStore();
+        long now = System.currentTimeMillis();
+        CreateExecutionResult existing = store.createOrGetExecution(
+            new ExecutionCreateCommand("tenant-a", "key-a", "payload", ExecutionResultShape.SINGLE, now, now / 1000 + 60))
+            .await().indefinitely();
+
+        List<CreateExecutionResult> results = store.createOrGetExecutions(List.of(
+                new ExecutionCreateCommand("tenant-a", "key-a", "payload", ExecutionResultShape.SINGLE, now, now / 1000 + 60),
+                new ExecutionCreateCommand("tenant-a", "key-b", "payload", ExecutionResultShape.SINGLE, now, now / 1000 + 60),
+                new ExecutionCreateCommand("tenant-b", "key-a", "payload", ExecutionResultShape.SINGLE, now, now / 1000 + 60),
+                new ExecutionCreateCommand("tenant-a", "key-b", "payload", ExecutionResultShape.SINGLE, now, now / 1000 + 60)))
+            .await().indefinitely();
+
+        assertEquals(List.of(true, false, false, true), results.stream().map(CreateExecutionResult::duplicate).toList());
+        assertEquals(existing.record().executionId(), results.get(0).record().executionId());
+        assertEquals(results.get(1).record().executionId(), results.get(3).record().executionId());
+        assertNotEquals(existing.record().executionId(), results.get(2).record().executionId());
+        assertEquals("tenant-b", results.get(2).record().tenantId());
+        assertTrue(store.createOrGetExecutions(List.of()).await().indefinitely().isEmpty());
+    }
+
+    @Test
+    void shardedDueSweepPartitionsEveryDueExecution() {
+        InMemoryExecutionStateStore store = new InMemoryExecutionStateStore();
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < 50; i++) {
+            store.createOrGetExecution(new ExecutionCreateCommand(
+                "tenant-a", "key-" + i, "payload", ExecutionResultShape.SINGLE, now, now / 1000 + 60))
+                .await().indefinitely();
+        }
+
+        List<String> swept = new java.util.ArrayList<>();
+        for (int shard = 0; shard < 4; shard++) {
+            for (ExecutionRecord<Object, Object> record : store.findDueExecutions(now, 100, 4, shard).await().indefinitely()) {
+                assertEquals(shard, ExecutionSweepShards.shardOf(record.tenantId(), record.executionKey(), 4));
+                swept.add(record.executionKey());
+            }
+        }
+
+        assertEquals(50, swept.size());
+        assertEquals(50, new java.util.HashSet<>(swept).size());
+        assertThrows(IllegalArgumentException.class, () -> store.findDueExecutions(now, 100, 4, 4));
+    }
+
     @Test
     void claimAndMarkSucceededUsesVersionGuard() {
         InMemoryExecutionStateStore store = new InMemoryExecutionStateStore();
@@ -516,4 +562,66 @@ class InMemoryExecutionStateStoreTest {
         assertTrue(firstRead.get().status().terminal());
         assertFalse(secondRead.get().status().terminal());
     }
+
+    @Test
+    void findDueExecutionsSharesTheLimitAcrossTenantsAndPriorities() {
+        InMemoryExecutionStateStore store = new InMemoryExecutionStateStore();
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < 20; i++) {
+            store.createOrGetExecution(priorityCommand("noisy", "noisy-" + i, ExecutionPriority.NORMAL, now - 100 + i))
+                .await().indefinitely();
+        }
+        store.createOrGetExecution(priorityCommand("quiet", "quiet-0", ExecutionPriority.NORMAL, now))
+            .await().indefinitely();
+        store.createOrGetExecution(priorityCommand("urgent", "urgent-0", ExecutionPriority.HIGH, now))
+            .await().indefinitely();
+        store.createOrGetExecution(priorityCommand("urgent", "urgent-1", ExecutionPriority.HIGH, now))
+            .await().indefinitely();
+
+        List<ExecutionRecord<Object, Object>> due = store.findDueExecutions(now + 1, 6).await().indefinitely();
+
+        assertEquals(6, due.size());
+        assertEquals(3, due.stream().filter(record -> record.tenantId().equals("noisy")).count());
+        assertEquals(1, due.stream().filter(record -> record.tenantId().equals("quiet")).count());
+        assertEquals(2, due.stream().filter(record -> record.priority() == ExecutionPriority.HIGH).count());
+        assertEquals("noisy", due.get(0).tenantId());
+    }
+
+    @Test
+    void priorityIsCarriedThroughTransitions() {
+        InMemoryExecutionStateStore store = new InMemoryExecutionStateStore();
+        long now = System.currentTimeMillis();
+        CreateExecutionResult created = store.createOrGetExecution(
+                priorityCommand("tenant-a", "key-priority", ExecutionPriority.LOW, now))
+            .await().indefinitely();
+
+        Optional<ExecutionRecord<Object, Object>> claimed = store.claimLease(
+                "tenant-a", created.record().executionId(), "worker-1", now, 10)
+            .await().indefinitely();
+
+        assertEquals(ExecutionPriority.LOW, created.record().priority());
+        assertTrue(claimed.isPresent());
+        assertEquals(ExecutionPriority.LOW, claimed.get().priority());
+    }
+
+    private static ExecutionCreateCommand priorityCommand(
+        String tenantId,
+        String executionKey,
+        ExecutionPriority priority,
+        long nowEpochMs
+    ) {
+        return new ExecutionCreateCommand(
+            tenantId,
+            executionKey,
+            "org.example.pipeline",
+            "sha256:contract",
+            "sha256:release",
+            "payload",
+            ExecutionResultShape.SINGLE,
+            Optional.empty(),
+            0,
+            nowEpochMs,
+            nowEpochMs / 1000 + 60,
+            priority);
+    }
 }
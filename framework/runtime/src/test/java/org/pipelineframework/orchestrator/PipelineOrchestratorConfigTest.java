@@ -89,6 +89,10 @@ class PipelineOrchestratorConfigTest {
         assertEquals("tpf_execution", dynamoConfig.executionTable());
         assertEquals("tpf_execution_key", dynamoConfig.executionKeyTable());
         assertEquals("tpf_execution_payload", dynamoConfig.executionPayloadTable());
+        assertEquals(8, dynamoConfig.payloadWriteConcurrency());
+        assertEquals(ExecutionPayloadCompression.NONE, dynamoConfig.payloadCompression());
+        assertFalse(dynamoConfig.payloadOffloadProvider().isPresent());
+        assertEquals(4_194_304L, dynamoConfig.payloadOffloadThresholdBytes());
         assertEquals("tpf_release_registry", dynamoConfig.releaseTable());
         assertFalse(dynamoConfig.region().isPresent());
         assertFalse(dynamoConfig.endpointOverride().isPresent());
@@ -0,0 +1,111 @@
+package org.pipelineframework.orchestrator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchResponse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SqsBatchDeleterTest {
+
+    private static final String QUEUE = "https://sqs.local/work";
+
+    @Test
+    void flushSendsQueuedReceiptsInBatchesOfTen() {
+        SqsClient client = mock(SqsClient.class);
+        List<Runnable> deferred = new ArrayList<>();
+        SqsBatchDeleter deleter = new SqsBatchDeleter(() -> client, deferred::add);
+
+        IntStream.range(0, 25).forEach(i -> deleter.delete(QUEUE, "receipt-" + i));
+        deleter.flush();
+
+        ArgumentCaptor<DeleteMessageBatchRequest> requests = ArgumentCaptor.forClass(DeleteMessageBatchRequest.class);
+        verify(client, times(3)).deleteMessageBatch(requests.capture());
+        assertEquals(List.of(10, 10, 5), requests.getAllValues().stream().map(r -> r.entries().size()).toList());
+        assertEquals("receipt-24", requests.getAllValues().get(2).entries().get(4).receiptHandle());
+        assertEquals(2, deferred.size());
+        assertEquals(0, deleter.pending());
+    }
+
+    @Test
+    void fullBatchIsFlushedWithoutWaitingForTheNextFlush() {
+        SqsClient client = mock(SqsClient.class);
+        SqsBatchDeleter deleter = new SqsBatchDeleter(() -> client, Runnable::run);
+
+        IntStream.range(0, 9).forEach(i -> deleter.delete(QUEUE, "receipt-" + i));
+        verify(client, never()).deleteMessageBatch(any(DeleteMessageBatchRequest.class));
+
+        deleter.delete(QUEUE, "receipt-9");
+
+        verify(client).deleteMessageBatch(any(DeleteMessageBatchRequest.class));
+        assertEquals(0, deleter.pending());
+    }
+
+    @Test
+    void failedEntriesAreRetriedAndDroppedAfterMaxAttempts() {
+        SqsClient client = mock(SqsClient.class);
+        when(client.deleteMessageBatch(any(DeleteMessageBatchRequest.class))).thenAnswer(invocation -> {
+            DeleteMessageBatchRequest request = invocation.getArgument(0);
+            List<BatchResultErrorEntry> failed = new ArrayList<>();
+            for (DeleteMessageBatchRequestEntry entry : request.entries()) {
+                if (entry.receiptHandle().equals("throttled")) {
+                    failed.add(BatchResultErrorEntry.builder().id(entry.id()).code("Throttled").senderFault(false).build());
+                } else if (entry.receiptHandle().equals("expired")) {
+                    failed.add(BatchResultErrorEntry.builder()
+                        .id(entry.id())
+                        .code("ReceiptHandleIsInvalid")
+                        .senderFault(true)
+                        .build());
+                }
+            }
+            return DeleteMessageBatchResponse.builder().failed(failed).build();
+        });
+        SqsBatchDeleter deleter = new SqsBatchDeleter(() -> client, Runnable::run);
+
+        deleter.delete(QUEUE, "ok");
+        deleter.delete(QUEUE, "throttled");
+        deleter.delete(QUEUE, "expired");
+        deleter.flush();
+        assertEquals(1, deleter.pending());
+
+        deleter.flush();
+        deleter.flush();
+        assertEquals(0, deleter.pending());
+        deleter.flush();
+
+        verify(client, times(SqsBatchDeleter.MAX_ATTEMPTS)).deleteMessageBatch(any(DeleteMessageBatchRequest.class));
+    }
+
+    @Test
+    void wholeBatchIsRequeuedWhenTheCallFails() {
+        SqsClient client = mock(SqsClient.class);
+        when(client.deleteMessageBatch(any(DeleteMessageBatchRequest.class)))
+            .thenThrow(new IllegalStateException("unavailable"))
+            .thenReturn(DeleteMessageBatchResponse.builder().build());
+        SqsBatchDeleter deleter = new SqsBatchDeleter(() -> client, Runnable::run);
+
+        deleter.delete(QUEUE, "receipt-1");
+        deleter.delete(QUEUE, "receipt-2");
+        deleter.flush();
+        assertEquals(2, deleter.pending());
+
+        deleter.flush();
+
+        assertEquals(0, deleter.pending());
+        verify(client, times(2)).deleteMessageBatch(any(DeleteMessageBatchRequest.class));
+    }
+}
@@ -12,7 +12,7 @@ import org.junit.jupiter.api.Test;
 import org.pipelineframework.PipelineExecutionService;
 import org.pipelineframework.config.pipeline.PipelineJson;
 import software.amazon.awssdk.services.sqs.SqsClient;
-import software.amazon.awssdk.services.sqs.model.DeleteMessageRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequest;
 import software.amazon.awssdk.services.sqs.model.Message;
 import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest;
 import software.amazon.awssdk.services.sqs.model.ReceiveMessageResponse;
@@ -76,9 +76,7 @@ class SqsTransitionWorkerPollerTest {
                 && response.requestId().equals("request-1")
                 && response.resultEnvelope().contains("\"outcome\":\"COMPLETED\"");
         }));
-        verify(client).deleteMessage(argThat((DeleteMessageRequest request) ->
-            request.queueUrl().equals("https://sqs.local/request")
-                && request.receiptHandle().equals("receipt-1")));
+        verify(client).deleteMessageBatch(deletedReceipts("receipt-1"));
     }
 
     @Test
@@ -99,9 +97,7 @@ class SqsTransitionWorkerPollerTest {
                 && response.requestId().equals("request-failed")
                 && response.resultEnvelope().contains("\"outcome\":\"FAILED\"");
         }));
-        verify(client).deleteMessage(argThat((DeleteMessageRequest request) ->
-            request.queueUrl().equals("https://sqs.local/request")
-                && request.receiptHandle().equals("receipt-failed")));
+        verify(client).deleteMessageBatch(deletedReceipts("receipt-failed"));
     }
 
     @Test
@@ -120,8 +116,7 @@ class SqsTransitionWorkerPollerTest {
             poller.pollOnce();
 
             verify(executionService).executePortableTransition(envelope);
-            verify(client).deleteMessage(argThat((DeleteMessageRequest request) ->
-                request.receiptHandle().equals("receipt-1")));
+            verify(client).deleteMessageBatch(deletedReceipts("receipt-1"));
         } finally {
             System.clearProperty("tpf.sqs.worker.secret");
         }
@@ -140,8 +135,7 @@ class SqsTransitionWorkerPollerTest {
 
         poller.pollOnce();
 
-        verify(client, never()).deleteMessage(argThat((DeleteMessageRequest request) ->
-            request.receiptHandle().equals("receipt-2")));
+        verify(client, never()).deleteMessageBatch(any(DeleteMessageBatchRequest.class));
     }
 
     @Test
@@ -163,8 +157,7 @@ class SqsTransitionWorkerPollerTest {
         poller.pollOnce();
 
         verify(executionService, org.mockito.Mockito.times(2)).executePortableTransition(envelope);
-        verify(client).deleteMessage(argThat((DeleteMessageRequest request) ->
-            request.receiptHandle().equals("receipt-5")));
+        verify(client).deleteMessageBatch(deletedReceipts("receipt-5"));
     }
 
     @Test
@@ -178,8 +171,7 @@ class SqsTransitionWorkerPollerTest {
 
         verify(executionService, never()).executePortableTransition(any());
         verify(client, never()).sendMessage(any(SendMessageRequest.class));
-        verify(client).deleteMessage(argThat((DeleteMessageRequest request) ->
-            request.receiptHandle().equals("receipt-3")));
+        verify(client).deleteMessageBatch(deletedReceipts("receipt-3"));
     }
 
     @Test
@@ -192,8 +184,7 @@ class SqsTransitionWorkerPollerTest {
 
         verify(executionService, never()).executePortableTransition(any());
         verify(client, never()).sendMessage(any(SendMessageRequest.class));
-        verify(client).deleteMessage(argThat((DeleteMessageRequest request) ->
-            request.receiptHandle().equals("receipt-4")));
+        verify(client).deleteMessageBatch(deletedReceipts("receipt-4"));
     }
 
     @Test
@@ -280,4 +271,9 @@ class SqsTransitionWorkerPollerTest {
             throw new IllegalStateException(e);
         }
     }
+
+    private static DeleteMessageBatchRequest deletedReceipts(String... receiptHandles) {
+        return argThat(request -> request.queueUrl().equals("https://sqs.local/request")
+            && request.entries().stream().map(entry -> entry.receiptHandle()).toList().equals(List.of(receiptHandles)));
+    }
 }
@@ -0,0 +1,101 @@
+package org.pipelineframework.orchestrator;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchRequest;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchResponse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SqsVisibilityExtenderTest {
+
+    private static final String QUEUE = "https://sqs.local/work";
+
+    @Test
+    void extendsOnlyNearExpiryAndDoublesTheTimeoutUpToTheCap() {
+        SqsClient client = mock(SqsClient.class);
+        AtomicLong now = new AtomicLong(1_000_000L);
+        SqsVisibilityExtender extender = new SqsVisibilityExtender(() -> client, 30, 100, now::get);
+        extender.track(QUEUE, "receipt-1");
+
+        now.addAndGet(14_000L);
+        extender.extendDue();
+        verify(client, never()).changeMessageVisibilityBatch(any(ChangeMessageVisibilityBatchRequest.class));
+
+        now.addAndGet(1_000L);
+        extender.extendDue();
+        now.addAndGet(30_000L);
+        extender.extendDue();
+        now.addAndGet(60_000L);
+        extender.extendDue();
+        now.addAndGet(50_000L);
+        extender.extendDue();
+
+        ArgumentCaptor<ChangeMessageVisibilityBatchRequest> requests =
+            ArgumentCaptor.forClass(ChangeMessageVisibilityBatchRequest.class);
+        verify(client, times(4)).changeMessageVisibilityBatch(requests.capture());
+        assertEquals(List.of(60, 100, 100, 100), requests.getAllValues().stream()
+            .map(request -> request.entries().get(0).visibilityTimeout())
+            .toList());
+    }
+
+    @Test
+    void releasedMessagesAreNotExtended() {
+        SqsClient client = mock(SqsClient.class);
+        AtomicLong now = new AtomicLong(0L);
+        SqsVisibilityExtender extender = new SqsVisibilityExtender(() -> client, 30, 300, now::get);
+        extender.track(QUEUE, "receipt-1").release();
+
+        now.addAndGet(20_000L);
+        extender.extendDue();
+
+        assertEquals(0, extender.tracked());
+        verify(client, never()).changeMessageVisibilityBatch(any(ChangeMessageVisibilityBatchRequest.class));
+    }
+
+    @Test
+    void dueMessagesShareBatchedCallsAndFailedEntriesAreRetriedOnTheNextPass() {
+        SqsClient client = mock(SqsClient.class);
+        when(client.changeMessageVisibilityBatch(any(ChangeMessageVisibilityBatchRequest.class)))
+            .thenAnswer(invocation -> {
+                ChangeMessageVisibilityBatchRequest request = invocation.getArgument(0);
+                ChangeMessageVisibilityBatchRequestEntry first = request.entries().get(0);
+                return ChangeMessageVisibilityBatchResponse.builder()
+                    .failed(BatchResultErrorEntry.builder().id(first.id()).code("Throttled").build())
+                    .build();
+            })
+            .thenReturn(ChangeMessageVisibilityBatchResponse.builder().build());
+        AtomicLong now = new AtomicLong(0L);
+        SqsVisibilityExtender extender = new SqsVisibilityExtender(() -> client, 30, 300, now::get);
+        for (int i = 0; i < 12; i++) {
+            extender.track(QUEUE, "receipt-" + i);
+        }
+
+        now.addAndGet(20_000L);
+        extender.extendDue();
+        now.addAndGet(1_000L);
+        extender.extendDue();
+
+        ArgumentCaptor<ChangeMessageVisibilityBatchRequest> requests =
+            ArgumentCaptor.forClass(ChangeMessageVisibilityBatchRequest.class);
+        verify(client, times(3)).changeMessageVisibilityBatch(requests.capture());
+        assertEquals(List.of(10, 2), requests.getAllValues().subList(0, 2).stream()
+            .map(request -> request.entries().size())
+            .toList());
+        assertEquals(List.of("receipt-0"), requests.getAllValues().get(2).entries().stream()
+            .map(ChangeMessageVisibilityBatchRequestEntry::receiptHandle)
+            .toList());
+    }
+}
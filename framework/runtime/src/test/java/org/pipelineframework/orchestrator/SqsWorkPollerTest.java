@@ -1,20 +1,29 @@
 package org.pipelineframework.orchestrator;
 
 import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import io.smallrye.mutiny.Uni;
 import org.junit.jupiter.api.Test;
 import org.pipelineframework.PipelineExecutionService;
 import org.pipelineframework.config.pipeline.PipelineJson;
 import software.amazon.awssdk.services.sqs.SqsClient;
-import software.amazon.awssdk.services.sqs.model.DeleteMessageRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchResponse;
 import software.amazon.awssdk.services.sqs.model.Message;
 import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest;
 import software.amazon.awssdk.services.sqs.model.ReceiveMessageResponse;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
@@ -37,9 +46,7 @@ class SqsWorkPollerTest {
         verify(pipelineExecutionService).processExecutionWorkItem(new ExecutionWorkItem("tenant-a", "exec-1"));
         verify(client).receiveMessage(argThat((ReceiveMessageRequest request) ->
             request.visibilityTimeout() != null && request.visibilityTimeout().equals(30)));
-        verify(client).deleteMessage(argThat((DeleteMessageRequest request) ->
-            request.queueUrl().equals("http://elasticmq.local/queue/work")
-                && request.receiptHandle().equals("receipt-1")));
+        verify(client).deleteMessageBatch(deletedReceipts("receipt-1"));
     }
 
     @Test
@@ -56,7 +63,7 @@ class SqsWorkPollerTest {
         assertDoesNotThrow(poller::pollOnce);
 
         verify(pipelineExecutionService).processExecutionWorkItem(new ExecutionWorkItem("tenant-a", "exec-2"));
-        verify(client, never()).deleteMessage(any(DeleteMessageRequest.class));
+        verify(client, never()).deleteMessageBatch(any(DeleteMessageBatchRequest.class));
     }
 
     @Test
@@ -75,9 +82,7 @@ class SqsWorkPollerTest {
         assertDoesNotThrow(poller::pollOnce);
 
         verifyNoInteractions(pipelineExecutionService);
-        verify(client).deleteMessage(argThat((DeleteMessageRequest request) ->
-            request.queueUrl().equals("http://elasticmq.local/queue/work")
-                && request.receiptHandle().equals("receipt-3")));
+        verify(client).deleteMessageBatch(deletedReceipts("receipt-3"));
     }
 
     @Test
@@ -95,9 +100,7 @@ class SqsWorkPollerTest {
         assertDoesNotThrow(poller::pollOnce);
 
         verifyNoInteractions(pipelineExecutionService);
-        verify(client).deleteMessage(argThat((DeleteMessageRequest request) ->
-            request.queueUrl().equals("http://elasticmq.local/queue/work")
-                && request.receiptHandle().equals("receipt-null")));
+        verify(client).deleteMessageBatch(deletedReceipts("receipt-null"));
     }
 
     @Test
@@ -122,7 +125,7 @@ class SqsWorkPollerTest {
 
         assertDoesNotThrow(poller::pollOnce);
 
-        verify(client, never()).deleteMessage(any(DeleteMessageRequest.class));
+        verify(client, never()).deleteMessageBatch(any(DeleteMessageBatchRequest.class));
         verifyNoInteractions(pipelineExecutionService);
     }
 
@@ -135,7 +138,7 @@ class SqsWorkPollerTest {
 
         assertDoesNotThrow(poller::pollOnce);
 
-        verify(client, never()).deleteMessage(any(DeleteMessageRequest.class));
+        verify(client, never()).deleteMessageBatch(any(DeleteMessageBatchRequest.class));
         verifyNoInteractions(pipelineExecutionService);
     }
 
@@ -163,15 +166,49 @@ class SqsWorkPollerTest {
 
         verify(pipelineExecutionService).processExecutionWorkItem(new ExecutionWorkItem("tenant-a", "exec-4"));
         verify(pipelineExecutionService).processExecutionWorkItem(new ExecutionWorkItem("tenant-a", "exec-6"));
-        verify(client).deleteMessage(argThat((DeleteMessageRequest request) ->
-            request.queueUrl().equals("http://elasticmq.local/queue/work")
-                && request.receiptHandle().equals("receipt-4")));
-        verify(client).deleteMessage(argThat((DeleteMessageRequest request) ->
-            request.queueUrl().equals("http://elasticmq.local/queue/work")
-                && request.receiptHandle().equals("receipt-5")));
-        verify(client).deleteMessage(argThat((DeleteMessageRequest request) ->
-            request.queueUrl().equals("http://elasticmq.local/queue/work")
-                && request.receiptHandle().equals("receipt-6")));
+        verify(client).deleteMessageBatch(deletedReceipts("receipt-4", "receipt-5", "receipt-6"));
+    }
+
+    @Test
+    void slowExecutionHoldsOnlyItsOwnSlotWhileTheRestOfTheQueueDrains() {
+        InMemorySqsQueue queue = new InMemorySqsQueue();
+        queue.send(validMessage("receipt-slow", "exec-slow"));
+        for (int i = 0; i < 30; i++) {
+            queue.send(validMessage("receipt-" + i, "exec-" + i));
+        }
+        CompletableFuture<Void> slowExecution = new CompletableFuture<>();
+        PipelineExecutionService pipelineExecutionService = mock(PipelineExecutionService.class);
+        when(pipelineExecutionService.processExecutionWorkItem(any(ExecutionWorkItem.class))).thenAnswer(invocation ->
+            invocation.<ExecutionWorkItem>getArgument(0).executionId().equals("exec-slow")
+                ? Uni.createFrom().completionStage(slowExecution)
+                : Uni.createFrom().voidItem());
+        PipelineOrchestratorConfig config = mockConfig(true);
+        when(config.sqs().maxInFlight()).thenReturn(4);
+        SqsWorkPoller poller = new SqsWorkPoller(config, pipelineExecutionService, queue);
+
+        int polls = 0;
+        while (queue.deleted().size() < 30 && polls < 20) {
+            poller.pollOnce();
+            polls++;
+        }
+
+        assertEquals(30, queue.deleted().size());
+        assertEquals(Set.of("receipt-slow"), queue.inFlight());
+        assertEquals(4, queue.requestedBatchSizes().get(0));
+        assertTrue(queue.requestedBatchSizes().stream().skip(1).allMatch(size -> size == 3),
+            "the slow execution keeps exactly one slot: " + queue.requestedBatchSizes());
+        assertEquals(polls, queue.deleteBatchCalls());
+
+        slowExecution.complete(null);
+        poller.pollOnce();
+
+        assertEquals(31, queue.deleted().size());
+        assertTrue(queue.inFlight().isEmpty());
+    }
+
+    private static DeleteMessageBatchRequest deletedReceipts(String... receiptHandles) {
+        return argThat(request -> request.queueUrl().equals("http://elasticmq.local/queue/work")
+            && request.entries().stream().map(entry -> entry.receiptHandle()).toList().equals(List.of(receiptHandles)));
     }
 
     private static Message validMessage(String receiptHandle, String executionId) {
@@ -201,4 +238,67 @@ class SqsWorkPollerTest {
         when(sqs.endpointOverride()).thenReturn(Optional.empty());
         return config;
     }
+
+    /**
+     * Minimal stand-in for an ElasticMQ queue: receives hand out visible messages up to the requested batch size and
+     * batch deletes acknowledge them.
+     */
+    private static final class InMemorySqsQueue implements SqsClient {
+        private final Deque<Message> visible = new ArrayDeque<>();
+        private final Set<String> inFlight = new LinkedHashSet<>();
+        private final List<String> deleted = new ArrayList<>();
+        private final List<Integer> requestedBatchSizes = new ArrayList<>();
+        private int deleteBatchCalls;
+
+        synchronized void send(Message message) {
+            visible.addLast(message);
+        }
+
+        @Override
+        public synchronized ReceiveMessageResponse receiveMessage(ReceiveMessageRequest request) {
+            requestedBatchSizes.add(request.maxNumberOfMessages());
+            List<Message> batch = new ArrayList<>();
+            while (batch.size() < request.maxNumberOfMessages() && !visible.isEmpty()) {
+                Message message = visible.removeFirst();
+                inFlight.add(message.receiptHandle());
+                batch.add(message);
+            }
+            return ReceiveMessageResponse.builder().messages(batch).build();
+        }
+
+        @Override
+        public synchronized DeleteMessageBatchResponse deleteMessageBatch(DeleteMessageBatchRequest request) {
+            deleteBatchCalls++;
+            request.entries().forEach(entry -> {
+                inFlight.remove(entry.receiptHandle());
+                deleted.add(entry.receiptHandle());
+            });
+            return DeleteMessageBatchResponse.builder().build();
+        }
+
+        synchronized Set<String> inFlight() {
+            return Set.copyOf(inFlight);
+        }
+
+        synchronized List<String> deleted() {
+            return List.copyOf(deleted);
+        }
+
+        synchronized List<Integer> requestedBatchSizes() {
+            return List.copyOf(requestedBatchSizes);
+        }
+
+        synchronized int deleteBatchCalls() {
+            return deleteBatchCalls;
+        }
+
+        @Override
+        public String serviceName() {
+            return SERVICE_NAME;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
 }
@@ -74,6 +74,15 @@ class HostedWorkerLifecycleAdminResourceTest {
         assertEquals(404, response.getStatus());
     }
 
+    @Test
+    void rejectsReservedTenant() {
+        Response response = resource.register(
+                PipelineWorkerRegistry.RESERVED_TENANT_PREFIX + "sweep", PIPELINE_ID, AUTH, request())
+            .await().indefinitely();
+
+        assertEquals(400, response.getStatus());
+    }
+
     @Test
     void rejectsInvalidToken() {
         Response response = resource.list(TENANT_ID, PIPELINE_ID, "Bearer wrong", null, null)
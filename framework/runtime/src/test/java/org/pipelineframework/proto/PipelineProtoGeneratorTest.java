@@ -1021,6 +1021,13 @@ class PipelineProtoGeneratorTest {
         assertTrue(fooProto.contains("import \"pipeline-types.proto\";"));
         assertTrue(fooProto.contains("service ProcessFooService"));
         assertTrue(fooProto.contains("rpc remoteProcess(FooInput) returns (FooOutput);"));
+        assertTrue(fooProto.contains(
+            "rpc remoteProcessStream(stream ProcessFooStreamRequest) returns (stream ProcessFooStreamResponse);"));
+        assertTrue(fooProto.contains("message ProcessFooStreamRequest {\n  int64 sequence = 1;\n  FooInput item = 2;\n"
+            + "  map<string, string> context = 3;\n}"));
+        assertTrue(fooProto.contains("message ProcessFooStreamResponse {\n  int64 sequence = 1;\n  FooOutput item = 2;\n"
+            + "  int32 error_code = 3;\n  string error_message = 4;\n"
+            + "  map<string, string> context = 5;\n}"));
         assertTrue(fooProto.contains("service ObservePersistenceFooOutputSideEffectService"));
         assertTrue(typesProto.contains("message FooInput"));
         assertTrue(typesProto.contains("string id = 1;"));
@@ -1031,6 +1038,7 @@ class PipelineProtoGeneratorTest {
         assertTrue(barProto.contains("import \"pipeline-types.proto\";"));
         assertTrue(barProto.contains("service ProcessBarService"));
         assertTrue(barProto.contains("rpc remoteProcess(FooOutput) returns (stream BarOutput);"));
+        assertFalse(barProto.contains("remoteProcessStream"));
         assertTrue(barProto.contains("service ObservePersistenceBarOutputSideEffectService"));
         assertTrue(typesProto.contains("message BarOutput"));
 
@@ -16,6 +16,8 @@
 
 package org.pipelineframework.rest;
 
+import java.time.Duration;
+
 import com.google.rpc.Code;
 import com.google.rpc.Status;
 import io.grpc.StatusRuntimeException;
@@ -29,6 +31,8 @@ import org.pipelineframework.cache.CacheMissException;
 import org.pipelineframework.cache.CachePolicyViolation;
 import org.pipelineframework.context.TransportDispatchMetadata;
 import org.pipelineframework.context.TransportDispatchMetadataHolder;
+import org.pipelineframework.orchestrator.ControlPlaneAdmissionDecision;
+import org.pipelineframework.orchestrator.ControlPlaneAdmissionException;
 import org.pipelineframework.transport.http.ProtobufHttpContentTypes;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -79,6 +83,19 @@ class RestExceptionMapperTest {
         assertEquals("Not Found", response.getEntity());
     }
 
+    @Test
+    void mapsShedSubmissionTo429WithRetryAfter() {
+        RestExceptionMapper mapper = new RestExceptionMapper();
+        HttpHeaders headers = createNonProtobufHeaders();
+        ControlPlaneAdmissionException ex = new ControlPlaneAdmissionException(ControlPlaneAdmissionDecision.shed(
+            ControlPlaneAdmissionDecision.EXECUTION_BACKLOG_SATURATED, "backlog full", Duration.ofMillis(2500)));
+
+        Response response = mapper.handleException(ex, headers);
+
+        assertEquals(429, response.getStatus());
+        assertEquals(3L, response.getHeaders().getFirst("Retry-After"));
+    }
+
     @Test
     void mapsIllegalArgumentExceptionTo400() {
         RestExceptionMapper mapper = new RestExceptionMapper();
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2023-2026 Mariano Barcia
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.pipelineframework.rest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+
+import com.google.protobuf.StringValue;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.smallrye.mutiny.Multi;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.core.buffer.Buffer;
+import io.vertx.mutiny.core.http.HttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.pipelineframework.service.ReactiveBidirectionalStreamingService;
+import org.pipelineframework.service.ReactiveStreamingClientService;
+import org.pipelineframework.service.ReactiveStreamingService;
+import org.pipelineframework.transport.http.ProtobufHttpContentTypes;
+import org.pipelineframework.transport.http.ProtobufHttpStreams;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Sends {@code application/x-protobuf-stream} bodies over real chunked HTTP, the way a generated REST client step
+ * calls a generated resource: the client sends and receives {@code Multi<byte[]>} chunks, and the server reads the
+ * blocking request body through the adapters' {@code remoteProcessFrames}.
+ */
+class RestProtobufStreamEndToEndTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private HttpServer server;
+    private Vertx vertx;
+    private HttpClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/transform", exchange -> serve(exchange, body ->
+            new BidirectionalAdapter().remoteProcessFrames(body, StringValue.parser(), StringValue::getValue,
+                StringValue::of)));
+        server.createContext("/expand", exchange -> serve(exchange, body ->
+            new StreamingAdapter().remoteProcessFrames(body, StringValue.parser(), StringValue::getValue,
+                StringValue::of)));
+        server.createContext("/aggregate", exchange -> serve(exchange, body ->
+            new StreamingClientAdapter().remoteProcessFrames(body, StringValue.parser(), StringValue::getValue,
+                StringValue::of)));
+        server.start();
+        vertx = Vertx.vertx();
+        client = vertx.createHttpClient();
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.closeAndAwait();
+        vertx.closeAndAwait();
+        server.stop(0);
+    }
+
+    @Test
+    void manyToManyStreamsEveryItemBothWays() {
+        List<StringValue> inputs = Multi.createFrom().range(0, 2_000)
+            .map(i -> StringValue.of("payment-" + i))
+            .collect().asList().await().atMost(TIMEOUT);
+
+        List<String> outputs = call("/transform", inputs);
+
+        assertEquals(2_000, outputs.size());
+        assertEquals("payment-0-out", outputs.get(0));
+        assertEquals("payment-1999-out", outputs.get(1_999));
+    }
+
+    @Test
+    void oneToManySendsOneFrameAndReceivesMany() {
+        assertEquals(List.of("batch-1", "batch-1-2"), call("/expand", List.of(StringValue.of("batch-1"))));
+    }
+
+    @Test
+    void manyToOneSendsManyFramesAndReceivesOne() {
+        assertEquals(List.of("a,b,c"),
+            call("/aggregate", List.of(StringValue.of("a"), StringValue.of("b"), StringValue.of("c"))));
+    }
+
+    private List<String> call(String path, List<StringValue> inputs) {
+        Multi<byte[]> response = post(path, ProtobufHttpStreams.encode(Multi.createFrom().iterable(inputs)));
+        return ProtobufHttpStreams.decode(response, StringValue.parser())
+            .map(StringValue::getValue)
+            .collect().asList().await().atMost(TIMEOUT);
+    }
+
+    /**
+     * Mirrors the generated REST client's {@code Multi<byte[]> process(..., Multi<byte[]> frames)}: a chunked request
+     * body and the response body as the chunks arrive.
+     */
+    private Multi<byte[]> post(String path, Multi<byte[]> frames) {
+        return client.request(HttpMethod.POST, server.getAddress().getPort(), "127.0.0.1", path)
+            .onItem().transformToMulti(request -> {
+                request.setChunked(true);
+                request.putHeader("Content-Type", ProtobufHttpContentTypes.APPLICATION_X_PROTOBUF_STREAM);
+                return request.send(frames.map(Buffer::buffer))
+                    .onItem().transformToMulti(response -> response.toMulti())
+                    .map(Buffer::getBytes);
+            });
+    }
+
+    private static void serve(HttpExchange exchange, Function<InputStream, Multi<byte[]>> process) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", ProtobufHttpContentTypes.APPLICATION_X_PROTOBUF_STREAM);
+        exchange.sendResponseHeaders(200, 0);
+        try (OutputStream out = exchange.getResponseBody()) {
+            for (byte[] frame : process.apply(exchange.getRequestBody()).subscribe().asIterable()) {
+                out.write(frame);
+                out.flush();
+            }
+        }
+    }
+
+    private static final class StreamingAdapter
+        extends RestReactiveStreamingServiceAdapter<String, String, String, String> {
+
+        @Override
+        protected ReactiveStreamingService<String, String> getService() {
+            return input -> Multi.createFrom().items(input, input + "-2");
+        }
+
+        @Override
+        protected String fromDto(String dtoIn) {
+            return dtoIn;
+        }
+
+        @Override
+        protected String toDto(String domainOut) {
+            return domainOut;
+        }
+    }
+
+    private static final class StreamingClientAdapter
+        extends RestReactiveStreamingClientServiceAdapter<String, String, String, String> {
+
+        @Override
+        protected ReactiveStreamingClientService<String, String> getService() {
+            return input -> input.collect().asList().map(values -> String.join(",", values));
+        }
+
+        @Override
+        protected String fromDto(String dtoIn) {
+            return dtoIn;
+        }
+
+        @Override
+        protected String toDto(String domainOut) {
+            return domainOut;
+        }
+    }
+
+    private static final class BidirectionalAdapter
+        extends RestReactiveBidirectionalStreamingServiceAdapter<String, String, String, String> {
+
+        @Override
+        protected ReactiveBidirectionalStreamingService<String, String> getService() {
+            return input -> input.map(value -> value + "-out");
+        }
+
+        @Override
+        protected String fromDto(String dtoIn) {
+            return dtoIn;
+        }
+
+        @Override
+        protected String toDto(String domainOut) {
+            return domainOut;
+        }
+    }
+}
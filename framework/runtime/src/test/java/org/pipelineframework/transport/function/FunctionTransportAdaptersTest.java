@@ -326,6 +326,134 @@ class FunctionTransportAdaptersTest {
         assertEquals(3, output.payload());
     }
 
+    @Test
+    void streamingManyToOneAdapterFeedsDelegateBeforeInputCompletes() {
+        LocalManyToOneFunctionInvokeAdapter<Integer, Integer> adapter = new LocalManyToOneFunctionInvokeAdapter<>(
+            payloads -> payloads.select().first().collect().first(),
+            "search.token.first",
+            "v1",
+            BatchingPolicy.defaultPolicy(),
+            ManyToOneAggregationMode.STREAMING);
+        FunctionTransportContext context = FunctionTransportContext.of("req-stream", "search-handler", "invoke-step");
+        Multi<TraceEnvelope<Integer>> neverCompletes = Multi.createBy().concatenating().streams(
+            Multi.createFrom().item(TraceEnvelope.root("trace-s1", "item-s1", "search.token", "v1", "idem-s1", 7)),
+            Multi.createFrom().nothing());
+
+        TraceEnvelope<Integer> output = adapter.invokeManyToOne(neverCompletes, context)
+            .await().atMost(Duration.ofSeconds(2));
+
+        assertEquals(7, output.payload());
+        assertEquals("trace-s1", output.traceId());
+        assertEquals("item-s1", output.previousItemRef().previousItemId());
+        assertEquals("item-s1", output.meta().get("previousItemIds"));
+    }
+
+    @Test
+    void streamingManyToOneAdapterLineageIsIndependentOfArrivalOrder() {
+        LocalManyToOneFunctionInvokeAdapter<Integer, Integer> adapter = new LocalManyToOneFunctionInvokeAdapter<>(
+            payloads -> payloads.collect().asList().onItem().transform(list -> list.stream().mapToInt(Integer::intValue).sum()),
+            "search.token.sum",
+            "v1",
+            ManyToOneAggregationMode.STREAMING);
+        FunctionTransportContext context = FunctionTransportContext.of("req-stream-order", "search-handler", "invoke-step");
+        TraceEnvelope<Integer> first = new TraceEnvelope<>(
+            "trace-s2", null, "b-item", null, "search.token", "v1", "idem-b", 2, null, Map.of("tenant", "x"));
+        TraceEnvelope<Integer> second = new TraceEnvelope<>(
+            "trace-s2", null, "a-item", null, "search.token", "v1", "idem-a", 3, null, Map.of("tenant", "y"));
+        TraceEnvelope<Integer> other = new TraceEnvelope<>(
+            "trace-s2", null, "c-item", null, "search.token", "v1", "idem-c", 3, null, Map.of("tenant", "y"));
+
+        TraceEnvelope<Integer> forward = adapter.invokeManyToOne(Multi.createFrom().items(first, second), context)
+            .await().atMost(Duration.ofSeconds(2));
+        TraceEnvelope<Integer> reversed = adapter.invokeManyToOne(Multi.createFrom().items(second, first), context)
+            .await().atMost(Duration.ofSeconds(2));
+        TraceEnvelope<Integer> different = adapter.invokeManyToOne(Multi.createFrom().items(first, other), context)
+            .await().atMost(Duration.ofSeconds(2));
+
+        assertEquals(5, forward.payload());
+        assertEquals("a-item", forward.previousItemRef().previousItemId());
+        assertEquals("a-item,b-item", forward.meta().get("previousItemIds"));
+        assertEquals("x,y", forward.meta().get("tenant"));
+        assertEquals(forward.itemId(), reversed.itemId());
+        assertEquals(forward.idempotencyKey(), reversed.idempotencyKey());
+        assertEquals(forward.meta(), reversed.meta());
+        assertNotEquals(forward.itemId(), different.itemId());
+        assertNotEquals(forward.idempotencyKey(), different.idempotencyKey());
+    }
+
+    @Test
+    void streamingManyToOneAdapterBoundsMergedLineage() {
+        BatchingPolicy policy = new BatchingPolicy(5_000, Integer.MAX_VALUE, Duration.ofMillis(50), 1, BatchOverflowPolicy.FAIL);
+        LocalManyToOneFunctionInvokeAdapter<Integer, Integer> adapter = new LocalManyToOneFunctionInvokeAdapter<>(
+            payloads -> payloads.collect().with(java.util.stream.Collectors.summingInt(Integer::intValue)),
+            "search.token.sum",
+            "v1",
+            policy,
+            ManyToOneAggregationMode.STREAMING);
+        FunctionTransportContext context = FunctionTransportContext.of("req-stream-bound", "search-handler", "invoke-step");
+        Multi<TraceEnvelope<Integer>> input = Multi.createFrom().range(0, 3_000)
+            .onItem().transform(i -> new TraceEnvelope<>(
+                "trace-s3", null, String.format("item-%04d", i), null, "search.token", "v1", "idem-" + i, 1, null,
+                Map.of("batch", "b-" + (i % 100), "key-" + (i % 200), "v")));
+
+        TraceEnvelope<Integer> output = adapter.invokeManyToOne(input, context).await().atMost(Duration.ofSeconds(5));
+
+        assertEquals(3_000, output.payload());
+        String[] previousIds = output.meta().get("previousItemIds").split(",");
+        assertEquals(1024, previousIds.length);
+        assertEquals("item-0000", previousIds[0]);
+        assertEquals("item-1023", previousIds[1023]);
+        assertEquals("1976", output.meta().get("previousItemIdsOmitted"));
+        assertEquals(64, output.meta().get("batch").split(",").length);
+        assertTrue(output.meta().size() <= 64 + 3);
+    }
+
+    @Test
+    void manyToOneAggregationModeResolvesHandlerThenGlobalConfig() {
+        try {
+            System.setProperty("pipeline.function.many-to-one-aggregation", "streaming");
+            System.setProperty("pipeline.function.OrderedHandler.many-to-one-aggregation", "COLLECT_ORDERED");
+
+            assertEquals(ManyToOneAggregationMode.COLLECT_ORDERED, ManyToOneAggregationMode.configured("OrderedHandler"));
+            assertEquals(ManyToOneAggregationMode.STREAMING, ManyToOneAggregationMode.configured("OtherHandler"));
+
+            System.setProperty("pipeline.function.many-to-one-aggregation", "batched");
+            assertThrows(IllegalArgumentException.class, () -> ManyToOneAggregationMode.configured("OtherHandler"));
+        } finally {
+            System.clearProperty("pipeline.function.many-to-one-aggregation");
+            System.clearProperty("pipeline.function.OrderedHandler.many-to-one-aggregation");
+        }
+        assertEquals(ManyToOneAggregationMode.COLLECT_ORDERED, ManyToOneAggregationMode.configured("OtherHandler"));
+    }
+
+    @Test
+    void streamingManyToOneAdapterBoundsBatchByBytes() {
+        BatchingPolicy dropPolicy = new BatchingPolicy(16, 64, Duration.ofMillis(50), 1, BatchOverflowPolicy.DROP);
+        BatchingPolicy failPolicy = new BatchingPolicy(16, 64, Duration.ofMillis(50), 1, BatchOverflowPolicy.FAIL);
+        FunctionTransportContext context = FunctionTransportContext.of("req-stream-bytes", "search-handler", "invoke-step");
+        java.util.function.Function<Multi<String>, Uni<String>> concat =
+            payloads -> payloads.collect().asList().onItem().transform(list -> String.join("|", list));
+        Multi<TraceEnvelope<String>> input = Multi.createFrom().items(
+            TraceEnvelope.root("t", "i1", "search.text", "v1", "k1", "a".repeat(30)),
+            TraceEnvelope.root("t", "i2", "search.text", "v1", "k2", "b".repeat(30)),
+            TraceEnvelope.root("t", "i3", "search.text", "v1", "k3", "c".repeat(30)));
+
+        TraceEnvelope<String> dropped = new LocalManyToOneFunctionInvokeAdapter<>(
+            concat, "search.text.joined", "v1", dropPolicy, ManyToOneAggregationMode.STREAMING)
+            .invokeManyToOne(input, context)
+            .await().atMost(Duration.ofSeconds(2));
+        IllegalStateException overflow = assertThrows(
+            IllegalStateException.class,
+            () -> new LocalManyToOneFunctionInvokeAdapter<>(
+                concat, "search.text.joined", "v1", failPolicy, ManyToOneAggregationMode.STREAMING)
+                .invokeManyToOne(input, context)
+                .await().atMost(Duration.ofSeconds(2)));
+
+        assertEquals("a".repeat(30), dropped.payload());
+        assertEquals("i1", dropped.meta().get("previousItemIds"));
+        assertTrue(overflow.getMessage().contains("maxBytes=64"));
+    }
+
     @Test
     void defaultFunctionInvokeAdapterMethodsFailByContract() {
         FunctionInvokeAdapter<String, Integer> adapter = new FunctionInvokeAdapter<>() {
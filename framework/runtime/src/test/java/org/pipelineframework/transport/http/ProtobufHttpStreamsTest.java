@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2023-2026 Mariano Barcia
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.pipelineframework.transport.http;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.protobuf.StringValue;
+import com.google.type.Money;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import org.junit.jupiter.api.Test;
+import org.pipelineframework.step.NonRetryableException;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProtobufHttpStreamsTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    @Test
+    void framesMatchWriteDelimitedTo() throws Exception {
+        StringValue message = StringValue.of("payment-42");
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        message.writeDelimitedTo(expected);
+
+        List<byte[]> frames = ProtobufHttpStreams.encode(Multi.createFrom().item(message))
+            .collect().asList().await().atMost(TIMEOUT);
+
+        assertEquals(1, frames.size());
+        assertArrayEquals(expected.toByteArray(), frames.get(0));
+    }
+
+    @Test
+    void decodesFramesSplitAndJoinedAcrossChunks() {
+        List<StringValue> messages = IntStream.range(0, 50)
+            .mapToObj(i -> StringValue.of("item-" + i + "-" + "x".repeat(i * 7)))
+            .toList();
+        byte[] body = concat(ProtobufHttpStreams.encode(Multi.createFrom().iterable(messages))
+            .collect().asList().await().atMost(TIMEOUT));
+
+        for (int chunkSize : new int[] {1, 3, 17, 256, body.length}) {
+            List<StringValue> decoded = ProtobufHttpStreams.decode(
+                    Multi.createFrom().iterable(chunks(body, chunkSize)), StringValue.parser())
+                .collect().asList().await().atMost(TIMEOUT);
+            assertEquals(messages, decoded, "chunk size " + chunkSize);
+        }
+    }
+
+    @Test
+    void streamsFewerBytesThanNdjsonForTheSameItems() throws Exception {
+        List<Money> amounts = IntStream.range(0, 1_000)
+            .mapToObj(i -> Money.newBuilder().setCurrencyCode("EUR").setUnits(1_000L + i).setNanos(i * 1_000_000).build())
+            .toList();
+        ObjectMapper json = new ObjectMapper();
+        ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+        for (Money amount : amounts) {
+            json.writeValue(ndjson, new JsonMoney(amount.getCurrencyCode(), amount.getUnits(), amount.getNanos()));
+            ndjson.write('\n');
+        }
+
+        byte[] body = concat(ProtobufHttpStreams.encode(Multi.createFrom().iterable(amounts))
+            .collect().asList().await().atMost(TIMEOUT));
+
+        assertTrue(body.length * 3 < ndjson.size(),
+            "protobuf stream " + body.length + " bytes, NDJSON " + ndjson.size() + " bytes");
+        assertEquals(amounts, ProtobufHttpStreams.decode(Multi.createFrom().item(body), Money.parser())
+            .collect().asList().await().atMost(TIMEOUT));
+    }
+
+    @Test
+    void decodesEmptyMessagesAndEmptyBodies() {
+        byte[] body = concat(ProtobufHttpStreams.encode(
+                Multi.createFrom().items(StringValue.getDefaultInstance(), StringValue.of("a")))
+            .collect().asList().await().atMost(TIMEOUT));
+
+        assertEquals(List.of(StringValue.getDefaultInstance(), StringValue.of("a")),
+            ProtobufHttpStreams.decode(Multi.createFrom().item(body), StringValue.parser())
+                .collect().asList().await().atMost(TIMEOUT));
+        assertEquals(List.of(),
+            ProtobufHttpStreams.decode(Multi.createFrom().<byte[]>empty(), StringValue.parser())
+                .collect().asList().await().atMost(TIMEOUT));
+    }
+
+    @Test
+    void failsWhenBodyEndsInsideAFrame() {
+        byte[] frame = ProtobufHttpStreams.frame(StringValue.of("truncated"));
+
+        AssertSubscriber<StringValue> subscriber = ProtobufHttpStreams.decode(
+                Multi.createFrom().item(Arrays.copyOf(frame, frame.length - 2)), StringValue.parser())
+            .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        subscriber.awaitFailure(TIMEOUT);
+        assertInstanceOf(IllegalStateException.class, subscriber.getFailure());
+    }
+
+    @Test
+    void rejectsFramesThatAreNotTheExpectedMessage() {
+        byte[] garbage = {3, (byte) 0xff, (byte) 0xff, (byte) 0xff};
+
+        AssertSubscriber<StringValue> subscriber = ProtobufHttpStreams.decode(
+                Multi.createFrom().item(garbage), StringValue.parser())
+            .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        subscriber.awaitFailure(TIMEOUT);
+        assertInstanceOf(NonRetryableException.class, subscriber.getFailure());
+    }
+
+    @Test
+    void rejectsSizePrefixesLongerThanFiveBytes() {
+        byte[] body = {(byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, 0x01};
+
+        assertRejected(ProtobufHttpStreams.decode(Multi.createFrom().item(body), StringValue.parser()),
+            NonRetryableException.class);
+        assertRejected(ProtobufHttpStreams.decode(new ByteArrayInputStream(body), StringValue.parser()),
+            NonRetryableException.class);
+    }
+
+    @Test
+    void rejectsNegativeFrameSizes() {
+        byte[] body = {(byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff, 0x0f, 0x01};
+
+        assertRejected(ProtobufHttpStreams.decode(Multi.createFrom().item(body), StringValue.parser()),
+            NonRetryableException.class);
+        assertRejected(ProtobufHttpStreams.decode(new ByteArrayInputStream(body), StringValue.parser()),
+            NonRetryableException.class);
+    }
+
+    @Test
+    void rejectsFramesAboveTheMaxFrameSizeBeforeBufferingThem() {
+        byte[] frame = ProtobufHttpStreams.frame(StringValue.of("x".repeat(64)));
+        byte[] header = Arrays.copyOf(frame, 1);
+
+        AssertSubscriber<StringValue> subscriber = ProtobufHttpStreams.decode(
+                Multi.createFrom().item(header).onCompletion().call(() -> Uni.createFrom().nothing()),
+                StringValue.parser(), 32)
+            .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+        subscriber.awaitFailure(TIMEOUT);
+        assertInstanceOf(NonRetryableException.class, subscriber.getFailure());
+        assertTrue(subscriber.getFailure().getMessage().contains(ProtobufHttpStreams.MAX_FRAME_BYTES_KEY));
+
+        assertRejected(ProtobufHttpStreams.decode(new ByteArrayInputStream(frame), StringValue.parser(), 32),
+            NonRetryableException.class);
+        assertEquals(List.of(StringValue.of("x".repeat(64))),
+            ProtobufHttpStreams.decode(new ByteArrayInputStream(frame), StringValue.parser(), frame.length - 1)
+                .collect().asList().await().atMost(TIMEOUT));
+        assertEquals(ProtobufHttpStreams.DEFAULT_MAX_FRAME_BYTES, ProtobufHttpStreams.maxFrameBytes());
+    }
+
+    @Test
+    void failsWhenABlockingBodyEndsInsideAFrame() {
+        byte[] frame = ProtobufHttpStreams.frame(StringValue.of("truncated"));
+
+        assertRejected(ProtobufHttpStreams.decode(
+                new ByteArrayInputStream(Arrays.copyOf(frame, frame.length - 2)), StringValue.parser()),
+            IllegalStateException.class);
+    }
+
+    @Test
+    void readsBlockingBodiesOnDemandOffTheCallerAndClosesThem() throws Exception {
+        byte[] body = concat(ProtobufHttpStreams.encode(Multi.createFrom().range(0, 100)
+                .map(i -> StringValue.of("v" + i)))
+            .collect().asList().await().atMost(TIMEOUT));
+        List<String> readers = new ArrayList<>();
+        AtomicBoolean closed = new AtomicBoolean();
+        InputStream stream = new FilterInputStream(new ByteArrayInputStream(body)) {
+            @Override
+            public int read() throws IOException {
+                synchronized (readers) {
+                    readers.add(Thread.currentThread().getName());
+                }
+                return super.read();
+            }
+
+            @Override
+            public void close() throws IOException {
+                closed.set(true);
+                super.close();
+            }
+        };
+
+        AssertSubscriber<StringValue> subscriber = ProtobufHttpStreams.decode(stream, StringValue.parser())
+            .subscribe().withSubscriber(AssertSubscriber.create(2));
+        subscriber.awaitItems(2, TIMEOUT);
+        assertTrue(stream.available() > body.length / 2, "only the requested frames should be read");
+
+        subscriber.request(Long.MAX_VALUE).awaitCompletion(TIMEOUT);
+        assertEquals(100, subscriber.getItems().size());
+        assertEquals("v99", subscriber.getItems().get(99).getValue());
+        assertTrue(closed.get());
+        String caller = Thread.currentThread().getName();
+        synchronized (readers) {
+            assertTrue(readers.stream().noneMatch(caller::equals));
+        }
+    }
+
+    private static void assertRejected(Multi<StringValue> decoded, Class<? extends Throwable> failure) {
+        AssertSubscriber<StringValue> subscriber = decoded
+            .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+        subscriber.awaitFailure(TIMEOUT);
+        assertInstanceOf(failure, subscriber.getFailure());
+    }
+
+    private record JsonMoney(String currencyCode, long units, int nanos) {
+    }
+
+    private static byte[] concat(List<byte[]> frames) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        frames.forEach(out::writeBytes);
+        return out.toByteArray();
+    }
+
+    private static List<byte[]> chunks(byte[] body, int size) {
+        List<byte[]> chunks = new ArrayList<>();
+        for (int offset = 0; offset < body.length; offset += size) {
+            chunks.add(Arrays.copyOfRange(body, offset, Math.min(body.length, offset + size)));
+        }
+        return chunks;
+    }
+}
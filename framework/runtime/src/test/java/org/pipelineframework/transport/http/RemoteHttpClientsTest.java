@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2023-2026 Mariano Barcia
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.pipelineframework.transport.http;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Map;
+
+import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.SmallRyeConfig;
+import io.smallrye.config.SmallRyeConfigBuilder;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RemoteHttpClientsTest {
+
+    @Test
+    void defaultsToHttp2WithFiveSecondConnectTimeout() {
+        HttpClient client = RemoteHttpClients.build(config(Map.of()), HttpClient.Redirect.NORMAL);
+
+        assertEquals(HttpClient.Version.HTTP_2, client.version());
+        assertEquals(Duration.ofSeconds(5), client.connectTimeout().orElseThrow());
+        assertEquals(HttpClient.Redirect.NORMAL, client.followRedirects());
+    }
+
+    @Test
+    void honoursConfiguredVersionAndConnectTimeout() {
+        HttpClient client = RemoteHttpClients.build(config(Map.of(
+            RemoteHttpClients.VERSION_KEY, "http/1.1",
+            RemoteHttpClients.CONNECT_TIMEOUT_KEY, "750")), HttpClient.Redirect.NEVER);
+
+        assertEquals(HttpClient.Version.HTTP_1_1, client.version());
+        assertEquals(Duration.ofMillis(750), client.connectTimeout().orElseThrow());
+        assertEquals(HttpClient.Redirect.NEVER, client.followRedirects());
+    }
+
+    @Test
+    void parsesBareAndPrefixedVersions() {
+        assertEquals(HttpClient.Version.HTTP_1_1, RemoteHttpClients.version("1.1"));
+        assertEquals(HttpClient.Version.HTTP_1_1, RemoteHttpClients.version("HTTP_1_1"));
+        assertEquals(HttpClient.Version.HTTP_2, RemoteHttpClients.version("2"));
+        assertEquals(HttpClient.Version.HTTP_2, RemoteHttpClients.version("http/2"));
+        assertThrows(IllegalArgumentException.class, () -> RemoteHttpClients.version("3"));
+    }
+
+    @Test
+    void sharedClientIsReusedPerRedirectPolicy() {
+        HttpClient following = RemoteHttpClients.shared(HttpClient.Redirect.NORMAL);
+
+        assertSame(following, RemoteHttpClients.shared(HttpClient.Redirect.NORMAL));
+        assertNotSame(following, RemoteHttpClients.shared(HttpClient.Redirect.NEVER));
+        assertEquals(HttpClient.Redirect.NEVER, RemoteHttpClients.shared(HttpClient.Redirect.NEVER).followRedirects());
+    }
+
+    private static SmallRyeConfig config(Map<String, String> properties) {
+        return new SmallRyeConfigBuilder()
+            .withSources(new PropertiesConfigSource(properties, "test", 100))
+            .build();
+    }
+}
@@ -0,0 +1,95 @@
+package org.pipelineframework.type;
+
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CanonicalTypeCatalogueValidationTest {
+
+    private final CanonicalTypeCatalogue catalogue = CanonicalTypeCatalogue.fromCanonicalTypes(Map.of(
+        "Amount", Map.of("definition", Map.of(
+            "id", "Amount", "kind", "wrapper", "wraps", scalar("int64"), "minimum", 1, "maximumExclusive", 100)),
+        "Totals", Map.of("definition", Map.of("id", "Totals", "kind", "record", "fields", List.of(
+            Map.of("name", "byCurrency", "type", Map.of("kind", "map", "value", named("Amount"))),
+            Map.of("name", "note", "type", named("Broken"), "repeated", true)))),
+        "Broken", Map.of("definition", Map.of(
+            "id", "Broken", "kind", "wrapper", "wraps", scalar("string"), "pattern", "[a-")),
+        "Outcome", Map.of("definition", Map.of("id", "Outcome", "kind", "union", "variants", List.of(
+            Map.of("discriminator", "totals", "payload", named("Totals")))))));
+
+    @Test
+    void validatesAndSortsUnionMapAndPassThroughMembersInOnePass() {
+        String payload = """
+            {"value":{"byCurrency":{"USD":5,"EUR":7}},"trace":{"z":1,"a":[{"y":2,"b":3}]},"discriminator":"totals"}
+            """;
+
+        assertEquals(
+            "{\"discriminator\":\"totals\",\"trace\":{\"a\":[{\"b\":3,\"y\":2}],\"z\":1},"
+                + "\"value\":{\"byCurrency\":{\"EUR\":7,\"USD\":5},\"note\":[]}}",
+            catalogue.validateAndCanonicalize("Outcome", payload));
+    }
+
+    @Test
+    void appliesCompiledBoundsToMapValuesWithTheirPath() {
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+            () -> catalogue.validateAndCanonicalize("Totals", "{\"byCurrency\":{\"USD\":5,\"EUR\":100}}"));
+
+        assertTrue(error.getMessage().contains("$.byCurrency.EUR: value violates maximumExclusive"), error.getMessage());
+    }
+
+    @Test
+    void reportsBrokenMetadataOnlyForValuesThatReachIt() {
+        assertEquals("{\"byCurrency\":{},\"note\":[]}",
+            catalogue.validateAndCanonicalize("Totals", "{\"byCurrency\":{}}"));
+
+        IllegalStateException error = assertThrows(IllegalStateException.class,
+            () -> catalogue.validateAndCanonicalize("Totals", "{\"byCurrency\":{},\"note\":[\"a\"]}"));
+        assertEquals("Canonical pattern constraint is invalid", error.getMessage());
+    }
+
+    @Test
+    void canonicalizesALargeRepresentativePayloadLikeASortedJacksonCopy() throws Exception {
+        CanonicalTypeCatalogue orders = CanonicalTypeCatalogue.fromCanonicalTypes(Map.of(
+            "Sku", Map.of("definition", Map.of(
+                "id", "Sku", "kind", "wrapper", "wraps", scalar("string"), "pattern", "[A-Z]{3}-[0-9]{4}")),
+            "Quantity", Map.of("definition", Map.of(
+                "id", "Quantity", "kind", "wrapper", "wraps", scalar("int64"), "minimum", 1, "maximumExclusive", 100)),
+            "Line", Map.of("definition", Map.of("id", "Line", "kind", "record", "fields", List.of(
+                Map.of("name", "sku", "type", named("Sku")),
+                Map.of("name", "quantity", "type", named("Quantity")),
+                Map.of("name", "tags", "type", Map.of("kind", "map", "value", scalar("string")))))),
+            "Order", Map.of("definition", Map.of("id", "Order", "kind", "record", "fields", List.of(
+                Map.of("name", "reference", "type", scalar("string")),
+                Map.of("name", "lines", "type", named("Line"), "repeated", true))))));
+        StringBuilder lines = new StringBuilder();
+        for (int i = 0; i < 1_000; i++) {
+            lines.append(i == 0 ? "" : ",").append(String.format(
+                "{\"tags\":{\"zone\":\"z%d\",\"aisle\":\"a%d\"},\"quantity\":%d,\"sku\":\"ABC-%04d\"}",
+                i, i, 1 + i % 99, i));
+        }
+        String payload = "{\"reference\":\"order-1\",\"lines\":[" + lines + "]}";
+        ObjectMapper sorted = new ObjectMapper().enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+
+        assertEquals(sorted.writeValueAsString(sorted.readValue(payload, Map.class)),
+            orders.validateAndCanonicalize("Order", payload));
+
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+            () -> orders.validateAndCanonicalize("Order", payload.replace("ABC-0999", "abc-0999")));
+        assertTrue(error.getMessage().contains("$.lines[999].sku: value does not match pattern"), error.getMessage());
+    }
+
+    private static Map<String, Object> scalar(String id) {
+        return Map.of("kind", "scalar", "id", id);
+    }
+
+    private static Map<String, Object> named(String id) {
+        return Map.of("kind", "named", "id", id);
+    }
+}
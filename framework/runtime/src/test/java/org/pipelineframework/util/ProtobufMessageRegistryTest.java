@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2023-2026 Mariano Barcia
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.pipelineframework.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.protobuf.Message;
+import com.google.protobuf.StringValue;
+import com.google.protobuf.Timestamp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.pipelineframework.cache.ProtobufMessageParser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProtobufMessageRegistryTest {
+
+    @AfterEach
+    void clearRegistry() {
+        ProtobufMessageRegistry.clear();
+    }
+
+    @Test
+    void usesRegisteredParserForClassAndSchemaName() {
+        CountingStringValueParser parser = new CountingStringValueParser();
+        ProtobufMessageRegistry.register(parser);
+        byte[] bytes = StringValue.of("hello").toByteArray();
+
+        Message parsed = ProtobufMessageRegistry.parseFrom(StringValue.class, bytes);
+        ProtobufMessageRegistry.newBuilder(StringValue.class);
+
+        assertEquals(StringValue.of("hello"), parsed);
+        assertEquals(1, parser.parses.get());
+        assertEquals(1, parser.builders.get());
+        assertSame(parser, ProtobufMessageRegistry.parser("type.googleapis.com/google.protobuf.StringValue").orElseThrow());
+    }
+
+    @Test
+    void fallsBackToDefaultInstanceForUnregisteredTypes() {
+        Timestamp timestamp = Timestamp.newBuilder().setSeconds(42).build();
+
+        assertEquals(timestamp, ProtobufMessageRegistry.parseFrom(Timestamp.class, timestamp.toByteArray()));
+        assertInstanceOf(Timestamp.Builder.class, ProtobufMessageRegistry.newBuilder(Timestamp.class));
+        assertTrue(ProtobufMessageRegistry.parser("google.protobuf.Timestamp").isEmpty());
+    }
+
+    @Test
+    void rejectsNonMessageTypesAndInvalidBytes() {
+        assertThrows(IllegalArgumentException.class, () -> ProtobufMessageRegistry.newBuilder(String.class));
+        assertThrows(IllegalArgumentException.class,
+            () -> ProtobufMessageRegistry.parseFrom(Timestamp.class, new byte[] {(byte) 0xff}));
+    }
+
+    private static final class CountingStringValueParser implements ProtobufMessageParser {
+        private final AtomicInteger parses = new AtomicInteger();
+        private final AtomicInteger builders = new AtomicInteger();
+
+        @Override
+        public String type() {
+            return "google.protobuf.StringValue";
+        }
+
+        @Override
+        public Message parseFrom(byte[] bytes) {
+            parses.incrementAndGet();
+            try {
+                return StringValue.parseFrom(bytes);
+            } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        @Override
+        public Class<? extends Message> messageClass() {
+            return StringValue.class;
+        }
+
+        @Override
+        public Message.Builder newBuilder() {
+            builders.incrementAndGet();
+            return StringValue.newBuilder();
+        }
+    }
+}